@@ -15,7 +15,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * </p>
  */
 @SpringBootApplication
-@EnableAsync
+@EnableAsync(proxyTargetClass = true)
 @EnableScheduling
 @EnableConfigurationProperties(AladinApiProperties.class)
 public class StoblyxApplication {
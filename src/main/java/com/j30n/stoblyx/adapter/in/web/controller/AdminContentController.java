@@ -1,6 +1,8 @@
 package com.j30n.stoblyx.adapter.in.web.controller;
 
+import com.j30n.stoblyx.adapter.in.web.dto.admin.AdminContentGenerationQueueResponse;
 import com.j30n.stoblyx.adapter.in.web.dto.content.ContentResponse;
+import com.j30n.stoblyx.application.service.content.ContentGenerationJobService;
 import com.j30n.stoblyx.application.service.content.ContentService;
 import com.j30n.stoblyx.common.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +28,7 @@ import java.util.List;
 public class AdminContentController {
 
     private final ContentService contentService;
+    private final ContentGenerationJobService contentGenerationJobService;
 
     /**
      * 모든 콘텐츠 목록을 페이징하여 조회합니다.
@@ -176,4 +179,21 @@ public class AdminContentController {
                 .body(ApiResponse.error(e.getMessage()));
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 콘텐츠 생성 작업 큐의 적체량과 처리량을 조회합니다.
+     *
+     * @return 상태별 작업 수, 가장 오래 기다린 시간, 최근 완료/포기 건수
+     */
+    @GetMapping("/generation-jobs/status")
+    public ResponseEntity<ApiResponse<AdminContentGenerationQueueResponse>> getGenerationQueueStatus() {
+        try {
+            AdminContentGenerationQueueResponse status = contentGenerationJobService.getQueueStatus();
+            return ResponseEntity.ok(ApiResponse.success("콘텐츠 생성 작업 큐 현황 조회에 성공했습니다.", status));
+        } catch (Exception e) {
+            log.error("콘텐츠 생성 작업 큐 현황 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+}
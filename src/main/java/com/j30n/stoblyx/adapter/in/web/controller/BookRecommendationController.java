@@ -2,7 +2,8 @@ package com.j30n.stoblyx.adapter.in.web.controller;
 
 import com.j30n.stoblyx.adapter.in.web.dto.book.BookRecommendationResponse;
 import com.j30n.stoblyx.adapter.in.web.dto.book.BookResponse;
-import com.j30n.stoblyx.application.port.in.recommendation.ContentBasedRecommendationUseCase;
+import com.j30n.stoblyx.adapter.in.web.dto.recommendation.RecommendationFeedResponse;
+import com.j30n.stoblyx.application.port.in.recommendation.UserRecommendationFeedUseCase;
 import com.j30n.stoblyx.common.response.ApiResponse;
 import com.j30n.stoblyx.domain.model.Book;
 import com.j30n.stoblyx.domain.repository.BookRepository;
@@ -34,7 +35,7 @@ public class BookRecommendationController {
     private static final String ERROR_USER_NOT_AUTHENTICATED = "인증된 사용자 정보를 찾을 수 없습니다.";
 
     private final BookRepository bookRepository;
-    private final ContentBasedRecommendationUseCase contentBasedRecommendationUseCase;
+    private final UserRecommendationFeedUseCase userRecommendationFeedUseCase;
 
     /**
      * 사용자 유사성 기반 도서 추천 목록 조회 API
@@ -102,7 +103,15 @@ public class BookRecommendationController {
 
             log.info("오늘의 추천 도서 요청: userId={}", userPrincipal.getId());
 
-            // 오늘의 추천 도서 선정 (간단한 구현: 가장 인기 있는 도서 추천)
+            // 사전 계산된 추천 목록의 첫 번째 도서
+            RecommendationFeedResponse<BookResponse> feed =
+                userRecommendationFeedUseCase.getBookFeed(userPrincipal.getId(), null, 1);
+            if (!feed.items().isEmpty()) {
+                return ResponseEntity.ok(new ApiResponse<>(RESULT_SUCCESS, "오늘의 추천 도서입니다.",
+                    BookRecommendationResponse.from(feed.items().get(0), 1.0, "오늘의 추천 도서")));
+            }
+
+            // 추천 목록이 비어 있으면 가장 인기 있는 도서 추천
             Pageable pageable = PageRequest.of(0, 1, Sort.by("popularity").descending());
             Page<Book> popularBooks = bookRepository.findMostPopularBooks(pageable);
 
@@ -199,25 +208,22 @@ public class BookRecommendationController {
 
             log.info("유사 도서 추천 요청: userId={}, size={}", userPrincipal.getId(), size);
 
-            // 개인화된 추천 도서 목록 조회 (새로 구현된 컨텐츠 기반 추천 시스템 사용)
-            Pageable pageable = PageRequest.of(0, size);
-            Page<BookResponse> recommendedBooks = contentBasedRecommendationUseCase.getPersonalizedBookRecommendations(pageable);
+            // 사전 계산된 개인화 추천 목록 조회
+            RecommendationFeedResponse<BookResponse> feed =
+                userRecommendationFeedUseCase.getBookFeed(userPrincipal.getId(), null, size);
 
-            if (recommendedBooks.isEmpty()) {
+            if (feed.items().isEmpty()) {
                 // 추천 도서가 없는 경우 인기 도서 추천
                 return getBookRecommendationsBySimilarity(userPrincipal, size);
             }
 
-            List<BookRecommendationResponse> bookResponses = recommendedBooks.getContent().stream()
-                .map(bookResponse -> {
-                    Book book = bookRepository.findById(bookResponse.id())
-                        .orElseThrow(() -> new IllegalArgumentException("도서 정보를 찾을 수 없습니다: " + bookResponse.id()));
-                    return BookRecommendationResponse.fromEntity(
-                        book,
-                        calculateSimilarityScore(book),
-                        "사용자 관심사 기반 추천 도서"
-                    );
-                })
+            String reason = feed.fallback() ? "인기 도서" : "사용자 관심사 기반 추천 도서";
+            List<BookRecommendationResponse> bookResponses = feed.items().stream()
+                .map(bookResponse -> BookRecommendationResponse.from(
+                    bookResponse,
+                    calculateSimilarityScore(bookResponse.popularity()),
+                    reason
+                ))
                 .collect(Collectors.toList());
 
             return ResponseEntity.ok(
@@ -238,9 +244,12 @@ public class BookRecommendationController {
      * @return 유사도 점수 (0.0 ~ 1.0)
      */
     private Double calculateSimilarityScore(Book book) {
+        return calculateSimilarityScore(book.getPopularity());
+    }
+
+    private Double calculateSimilarityScore(Integer popularity) {
         // 실제 구현에서는 사용자의 취향과 도서 간의 유사도를 계산
         // 여기서는 인기도를 기반으로 간단히 유사도 점수 계산
-        int popularity = book.getPopularity() != null ? book.getPopularity() : 0;
-        return Math.min(1.0, popularity / 100.0);
+        return Math.min(1.0, (popularity != null ? popularity : 0) / 100.0);
     }
 } 
\ No newline at end of file
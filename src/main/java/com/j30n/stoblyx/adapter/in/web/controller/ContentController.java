@@ -195,7 +195,7 @@ public class ContentController {
     }
 
     /**
-     * 문구로부터 새로운 동영상 콘텐츠를 생성합니다.
+     * 문구로부터 새로운 동영상 콘텐츠 생성을 요청합니다. 생성은 작업 큐에서 처리되며, 응답의 콘텐츠는 처리 중 상태입니다.
      */
     @PostMapping("/quotes/{quoteId}")
     @PreAuthorize("isAuthenticated()")
@@ -203,11 +203,11 @@ public class ContentController {
         @PathVariable Long quoteId
     ) {
         try {
-            // contentService를 사용하여 콘텐츠 생성 및 응답 반환
+            // 생성 작업을 대기열에 넣고 처리 중인 콘텐츠를 바로 반환
             ContentResponse contentResponse = contentService.generateContent(quoteId);
 
             return ResponseEntity.ok(
-                ApiResponse.success("콘텐츠가 생성되었습니다.", contentResponse)
+                ApiResponse.success("콘텐츠 생성이 요청되었습니다.", contentResponse)
             );
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(
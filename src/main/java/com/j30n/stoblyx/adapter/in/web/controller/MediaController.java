@@ -0,0 +1,115 @@
+package com.j30n.stoblyx.adapter.in.web.controller;
+
+import com.j30n.stoblyx.adapter.in.web.support.MediaFileSender;
+import com.j30n.stoblyx.adapter.out.persistence.ai.tts.NarrationAudioCache;
+import com.j30n.stoblyx.common.util.ImageVariants;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 업로드 파일, 나레이션 음성, BGM 을 내려보내는 컨트롤러
+ * 구간 요청과 조건부 요청을 지원하므로 모바일 플레이어가 탐색할 때 필요한 부분만 받아 갑니다.
+ */
+@Slf4j
+@RestController
+public class MediaController {
+
+    private static final String BUNDLED_BGM = "classpath*:bgm/*.mp3";
+
+    private final MediaFileSender mediaFileSender;
+    private final Path uploadDir;
+    private final Path audioDir;
+    private final Path bgmDir;
+
+    public MediaController(MediaFileSender mediaFileSender,
+                           @Value("${file.upload-dir:uploads}") String uploadDir,
+                           @Value("${tts.audio-dir:audio}") String audioDir,
+                           @Value("${media.bgm-dir:bgm}") String bgmDir) {
+        this.mediaFileSender = mediaFileSender;
+        this.uploadDir = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.audioDir = Paths.get(audioDir).toAbsolutePath().normalize();
+        this.bgmDir = Paths.get(bgmDir).toAbsolutePath().normalize();
+        installBundledBgm(this.bgmDir);
+    }
+
+    /**
+     * 업로드한 파일을 내려보냅니다.
+     * 크기별 이미지가 아직 만들어지지 않았으면 원본을 대신 보냅니다.
+     */
+    @RequestMapping(path = "/uploads/{filename:.+}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void getUpload(@PathVariable String filename, HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+        String original = ImageVariants.originalFileName(filename);
+        if (original != null && !Files.exists(uploadDir.resolve(filename).normalize())) {
+            filename = original;
+        }
+        send(uploadDir, filename, null, request, response);
+    }
+
+    /**
+     * 나레이션 음성을 내려보냅니다.
+     * 내용 해시로 이름을 정한 파일은 바뀌지 않으므로 오래 캐시하도록 합니다.
+     */
+    @RequestMapping(path = "/media/audio/{filename:.+}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void getAudio(@PathVariable String filename, HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+        send(audioDir, filename, NarrationAudioCache.contentHash(filename), request, response);
+    }
+
+    /**
+     * BGM 음원을 내려보냅니다.
+     * {@code media.bgm-dir}(기본 {@code bgm})에서 찾으며, 시작할 때 함께 배포된 음원을 그 디렉토리에 채워 둡니다.
+     */
+    @RequestMapping(path = "/media/bgm/{filename:.+}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void getBgm(@PathVariable String filename, HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+        send(bgmDir, filename, null, request, response);
+    }
+
+    /**
+     * 클래스패스에 포함된 BGM 음원({@code bgm/*.mp3}) 중 디렉토리에 없는 것을 복사합니다.
+     * 이미 있는 파일은 운영에서 바꿔 넣은 음원일 수 있으므로 덮어쓰지 않습니다.
+     */
+    static void installBundledBgm(Path bgmDir) {
+        try {
+            Files.createDirectories(bgmDir);
+            Resource[] tracks = new PathMatchingResourcePatternResolver().getResources(BUNDLED_BGM);
+            for (Resource track : tracks) {
+                String fileName = track.getFilename();
+                if (fileName == null || Files.exists(bgmDir.resolve(fileName))) {
+                    continue;
+                }
+                try (InputStream in = track.getInputStream()) {
+                    Files.copy(in, bgmDir.resolve(fileName));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("BGM 음원을 {} 에 준비하지 못했습니다.", bgmDir, e);
+        }
+    }
+
+    private void send(Path directory, String filename, String contentHash, HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        Path file = directory.resolve(filename).normalize();
+        // 디렉토리 밖을 가리키는 경로는 거부
+        if (!file.getParent().equals(directory)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        mediaFileSender.send(file, contentHash, request, response);
+    }
+}
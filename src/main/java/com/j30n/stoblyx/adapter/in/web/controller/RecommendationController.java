@@ -1,10 +1,17 @@
 package com.j30n.stoblyx.adapter.in.web.controller;
 
+import com.j30n.stoblyx.adapter.in.web.dto.book.BookResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.content.ContentResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.quote.QuoteResponse;
 import com.j30n.stoblyx.adapter.in.web.dto.recommendation.PopularTermResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.recommendation.RecommendationFeedResponse;
 import com.j30n.stoblyx.adapter.in.web.dto.recommendation.RecommendationRequest;
 import com.j30n.stoblyx.adapter.in.web.dto.recommendation.RecommendationResponse;
 import com.j30n.stoblyx.application.port.in.recommendation.RecommendationUseCase;
+import com.j30n.stoblyx.application.port.in.recommendation.UserRecommendationFeedUseCase;
 import com.j30n.stoblyx.common.response.ApiResponse;
+import com.j30n.stoblyx.infrastructure.annotation.CurrentUser;
+import com.j30n.stoblyx.infrastructure.security.UserPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -22,8 +29,10 @@ import org.springframework.web.bind.annotation.*;
 public class RecommendationController {
     private static final String RESULT_SUCCESS = "SUCCESS";
     private static final String RESULT_ERROR = "ERROR";
+    private static final String ERROR_USER_NOT_AUTHENTICATED = "인증된 사용자 정보를 찾을 수 없습니다.";
     
     private final RecommendationUseCase recommendationUseCase;
+    private final UserRecommendationFeedUseCase userRecommendationFeedUseCase;
 
     /**
      * 사용자 추천 목록 조회 API
@@ -183,4 +192,79 @@ public class RecommendationController {
                 .body(new ApiResponse<>(RESULT_ERROR, "사용자 유사성 기반 추천을 찾을 수 없습니다.", null));
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 사전 계산된 추천 도서 목록 조회 API
+     *
+     * @param userPrincipal 현재 사용자 인증 정보
+     * @param cursor        다음 페이지 커서 (첫 페이지면 생략)
+     * @param size          페이지 크기
+     * @return 추천 도서 목록
+     */
+    @GetMapping("/me/books")
+    public ResponseEntity<ApiResponse<RecommendationFeedResponse<BookResponse>>> getBookFeed(
+        @CurrentUser UserPrincipal userPrincipal,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        if (userPrincipal == null) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(RESULT_ERROR, ERROR_USER_NOT_AUTHENTICATED, null));
+        }
+        try {
+            return ResponseEntity.ok(new ApiResponse<>(RESULT_SUCCESS, "추천 도서 목록입니다.",
+                userRecommendationFeedUseCase.getBookFeed(userPrincipal.getId(), cursor, size)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(RESULT_ERROR, e.getMessage(), null));
+        }
+    }
+
+    /**
+     * 사전 계산된 추천 인용구 목록 조회 API
+     *
+     * @param userPrincipal 현재 사용자 인증 정보
+     * @param cursor        다음 페이지 커서 (첫 페이지면 생략)
+     * @param size          페이지 크기
+     * @return 추천 인용구 목록
+     */
+    @GetMapping("/me/quotes")
+    public ResponseEntity<ApiResponse<RecommendationFeedResponse<QuoteResponse>>> getQuoteFeed(
+        @CurrentUser UserPrincipal userPrincipal,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        if (userPrincipal == null) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(RESULT_ERROR, ERROR_USER_NOT_AUTHENTICATED, null));
+        }
+        try {
+            return ResponseEntity.ok(new ApiResponse<>(RESULT_SUCCESS, "추천 인용구 목록입니다.",
+                userRecommendationFeedUseCase.getQuoteFeed(userPrincipal.getId(), cursor, size)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(RESULT_ERROR, e.getMessage(), null));
+        }
+    }
+
+    /**
+     * 사전 계산된 추천 숏폼 콘텐츠 목록 조회 API
+     *
+     * @param userPrincipal 현재 사용자 인증 정보
+     * @param cursor        다음 페이지 커서 (첫 페이지면 생략)
+     * @param size          페이지 크기
+     * @return 추천 콘텐츠 목록
+     */
+    @GetMapping("/me/contents")
+    public ResponseEntity<ApiResponse<RecommendationFeedResponse<ContentResponse>>> getContentFeed(
+        @CurrentUser UserPrincipal userPrincipal,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        if (userPrincipal == null) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(RESULT_ERROR, ERROR_USER_NOT_AUTHENTICATED, null));
+        }
+        try {
+            return ResponseEntity.ok(new ApiResponse<>(RESULT_SUCCESS, "추천 콘텐츠 목록입니다.",
+                userRecommendationFeedUseCase.getContentFeed(userPrincipal.getId(), cursor, size)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(RESULT_ERROR, e.getMessage(), null));
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.j30n.stoblyx.adapter.in.web.controller;
 
+import com.j30n.stoblyx.adapter.in.web.dto.recommendation.PopularTermResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.search.SearchCursorResponse;
 import com.j30n.stoblyx.adapter.in.web.dto.search.SearchHistoryResponse;
 import com.j30n.stoblyx.adapter.in.web.dto.search.SearchRequest;
 import com.j30n.stoblyx.adapter.in.web.dto.search.SearchResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.search.SuggestionResponse;
+import com.j30n.stoblyx.application.port.in.search.AutocompleteUseCase;
+import com.j30n.stoblyx.application.port.in.search.PopularSearchTermUseCase;
 import com.j30n.stoblyx.application.port.in.search.SearchUseCase;
 import com.j30n.stoblyx.common.response.ApiResponse;
+import com.j30n.stoblyx.domain.enums.PopularTermWindow;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -15,6 +21,9 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * 검색 관련 API를 처리하는 컨트롤러
  */
@@ -26,6 +35,8 @@ public class SearchController {
     private static final String RESULT_ERROR = "ERROR";
     private static final Logger log = LoggerFactory.getLogger(SearchController.class);
     private final SearchUseCase searchUseCase;
+    private final AutocompleteUseCase autocompleteUseCase;
+    private final PopularSearchTermUseCase popularSearchTermUseCase;
 
     /**
      * 통합 검색 API
@@ -60,24 +71,78 @@ public class SearchController {
         }
     }
 
+    /**
+     * 커서 기반 통합 검색 API
+     * 문구와 책을 최신순으로 병합하며, 응답의 nextCursor 로 다음 페이지를 조회합니다.
+     *
+     * @param request 검색 요청 DTO
+     * @param cursor  다음 페이지 커서 (첫 페이지면 생략)
+     * @param size    페이지 크기
+     * @return 검색 결과
+     */
+    @GetMapping("/all")
+    public ResponseEntity<ApiResponse<SearchCursorResponse>> searchAll(
+        @Valid @ModelAttribute SearchRequest request,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        try {
+            if (request.keyword() == null || request.keyword().trim().isEmpty()) {
+                return ResponseEntity.badRequest().body(
+                    new ApiResponse<>(RESULT_ERROR, "검색어를 입력해주세요.", null)
+                );
+            }
+
+            return ResponseEntity.ok(
+                new ApiResponse<>(RESULT_SUCCESS, "검색 결과입니다.",
+                    searchUseCase.searchAll(request, cursor, size))
+            );
+        } catch (Exception e) {
+            log.error("통합 검색 중 오류 발생", e);
+            return ResponseEntity.badRequest().body(
+                new ApiResponse<>(RESULT_ERROR, e.getMessage(), null)
+            );
+        }
+    }
+
+    /**
+     * 검색어 자동완성 API
+     * 입력 중인 음절이나 초성(예: "ㅎㄹㅍㅌ")으로 도서 제목, 저자, 인기 검색어를 추천합니다.
+     * 메모리 사전만 조회하며 검색 기록을 남기지 않습니다.
+     *
+     * @param q     입력 중인 검색어
+     * @param limit 최대 추천어 수
+     * @return 추천어 목록
+     */
+    @GetMapping("/suggestions")
+    public ResponseEntity<ApiResponse<List<SuggestionResponse>>> getSuggestions(
+        @RequestParam String q,
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(
+            new ApiResponse<>(RESULT_SUCCESS, "추천 검색어입니다.", autocompleteUseCase.suggest(q, limit))
+        );
+    }
+
     /**
      * 인기 검색어 조회 API
      *
-     * @param limit 조회할 인기 검색어 수
+     * @param limit  조회할 인기 검색어 수
+     * @param window 집계 구간 (1h, 24h, 7d)
      * @return 인기 검색어 목록
      */
     @GetMapping("/popular-terms")
-    public ResponseEntity<ApiResponse<?>> getPopularSearchTerms(
-        @RequestParam(defaultValue = "10") int limit
+    public ResponseEntity<ApiResponse<List<String>>> getPopularSearchTerms(
+        @RequestParam(defaultValue = "10") int limit,
+        @RequestParam(defaultValue = "24h") String window
     ) {
         try {
-            // 임시 구현: 테스트 모드에서는 더미 데이터 반환
+            List<String> terms = popularSearchTermUseCase.getPopularTerms(PopularTermWindow.fromCode(window), limit)
+                .stream()
+                .map(PopularTermResponse::searchTerm)
+                .collect(Collectors.toList());
             return ResponseEntity.ok(
-                new ApiResponse<>(RESULT_SUCCESS, "인기 검색어 조회 결과입니다.",
-                    java.util.Arrays.asList(
-                        "철학", "소설", "자기계발", "역사", "과학",
-                        "예술", "종교", "경제", "정치", "심리학"
-                    ).subList(0, Math.min(limit, 10)))
+                new ApiResponse<>(RESULT_SUCCESS, "인기 검색어 조회 결과입니다.", terms)
             );
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(
@@ -1,6 +1,7 @@
 package com.j30n.stoblyx.adapter.in.web.controller;
 
 import com.j30n.stoblyx.adapter.in.web.dto.content.ContentResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.content.TrendingContentResponse;
 import com.j30n.stoblyx.application.service.content.ContentService;
 import com.j30n.stoblyx.common.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -44,16 +46,19 @@ public class ShortFormController {
 
     /**
      * 트렌딩 숏폼 콘텐츠 목록을 조회합니다.
+     * 최근 반응일수록 크게 반영한 시간 감쇠 점수 순이며, 응답의 nextCursor 로 다음 페이지를 조회합니다.
      *
-     * @param pageable 페이징 정보
+     * @param cursor 다음 페이지 커서 (첫 페이지면 생략)
+     * @param size   페이지 크기
      * @return 트렌딩 숏폼 콘텐츠 목록
      */
     @GetMapping("/trending")
-    public ResponseEntity<ApiResponse<Page<ContentResponse>>> getTrendingShortForms(
-        @PageableDefault(size = 10) Pageable pageable
+    public ResponseEntity<ApiResponse<TrendingContentResponse>> getTrendingShortForms(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size
     ) {
         try {
-            Page<ContentResponse> response = contentService.getTrendingContents(pageable);
+            TrendingContentResponse response = contentService.getTrendingContents(cursor, size);
             return ResponseEntity.ok(ApiResponse.success("트렌딩 숏폼 목록 조회에 성공했습니다.", response));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -81,4 +86,25 @@ public class ShortFormController {
                 .body(ApiResponse.error(e.getMessage()));
         }
     }
+
+    /**
+     * 특정 숏폼과 함께 반응을 많이 받은 숏폼 콘텐츠 목록을 조회합니다.
+     *
+     * @param contentId 콘텐츠 ID
+     * @param pageable  페이징 정보
+     * @return 유사한 숏폼 콘텐츠 목록
+     */
+    @GetMapping("/{contentId}/similar")
+    public ResponseEntity<ApiResponse<Page<ContentResponse>>> getSimilarShortForms(
+        @PathVariable Long contentId,
+        @PageableDefault(size = 10) Pageable pageable
+    ) {
+        try {
+            Page<ContentResponse> response = contentService.getSimilarContents(contentId, pageable);
+            return ResponseEntity.ok(ApiResponse.success("유사한 숏폼 목록 조회에 성공했습니다.", response));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error(e.getMessage()));
+        }
+    }
 } 
\ No newline at end of file
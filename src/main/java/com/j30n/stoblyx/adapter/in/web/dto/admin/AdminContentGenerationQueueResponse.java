@@ -0,0 +1,25 @@
+package com.j30n.stoblyx.adapter.in.web.dto.admin;
+
+/**
+ * 관리자가 콘텐츠 생성 작업 큐 현황을 조회할 때 사용되는 응답 DTO
+ *
+ * @param pending             대기 중인 작업 수 (재시도 대기 포함)
+ * @param running             처리 중인 작업 수
+ * @param completed           완료된 작업 수
+ * @param dead                재시도 한도를 넘겨 포기한 작업 수
+ * @param oldestWaitSeconds   지금 처리할 수 있는 작업 중 가장 오래 기다린 시간(초), 없으면 0
+ * @param completedLastMinute 최근 1분 동안 완료된 작업 수
+ * @param completedLastHour   최근 1시간 동안 완료된 작업 수
+ * @param deadLastHour        최근 1시간 동안 포기한 작업 수
+ */
+public record AdminContentGenerationQueueResponse(
+    long pending,
+    long running,
+    long completed,
+    long dead,
+    long oldestWaitSeconds,
+    long completedLastMinute,
+    long completedLastHour,
+    long deadLastHour
+) {
+}
@@ -1,6 +1,7 @@
 package com.j30n.stoblyx.adapter.in.web.dto.admin;
 
 import com.j30n.stoblyx.domain.model.User;
+import com.j30n.stoblyx.domain.model.UserAccountSummary;
 import com.j30n.stoblyx.domain.model.UserRole;
 
 import java.time.LocalDateTime;
@@ -41,6 +42,27 @@ public record AdminUserResponse(
         );
     }
     
+    /**
+     * 목록 조회용 사용자 요약으로부터 AdminUserResponse를 생성합니다.
+     *
+     * @param summary 사용자 요약
+     * @return AdminUserResponse 객체
+     */
+    public static AdminUserResponse from(UserAccountSummary summary) {
+        return new AdminUserResponse(
+            summary.id(),
+            summary.username(),
+            summary.nickname(),
+            summary.email(),
+            summary.profileImageUrl(),
+            summary.role(),
+            summary.accountStatus(),
+            summary.createdAt(),
+            summary.modifiedAt(),
+            summary.lastLoginAt()
+        );
+    }
+
     public static AdminUserResponse errorResponse() {
         return new AdminUserResponse(
             null, "Error", "Error", "error@example.com", null, 
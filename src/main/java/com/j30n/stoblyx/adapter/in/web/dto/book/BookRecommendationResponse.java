@@ -59,4 +59,26 @@ public record BookRecommendationResponse(
             book.getPublishDate()
         );
     }
-} 
\ No newline at end of file
+
+    /**
+     * 도서 응답 DTO와 추가 정보로부터 BookRecommendationResponse DTO를 생성합니다.
+     *
+     * @param book 도서 응답 DTO
+     * @param similarityScore 유사도 점수
+     * @param recommendationReason 추천 이유
+     * @return BookRecommendationResponse DTO
+     */
+    public static BookRecommendationResponse from(BookResponse book, Double similarityScore, String recommendationReason) {
+        return new BookRecommendationResponse(
+            book.id(),
+            book.title(),
+            book.author(),
+            book.description(),
+            book.thumbnailUrl(),
+            book.publisher(),
+            similarityScore,
+            recommendationReason,
+            book.publishDate()
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.j30n.stoblyx.adapter.in.web.dto.comment;
 
+import com.j30n.stoblyx.common.util.ImageVariants;
 import com.j30n.stoblyx.domain.model.Comment;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -39,7 +40,7 @@ public class CommentResponse {
                 comment.getUser().getId(),
                 comment.getUser().getUsername(),
                 comment.getUser().getNickname(),
-                comment.getUser().getProfileImageUrl()
+                ImageVariants.url(comment.getUser().getProfileImageUrl(), ImageVariants.AVATAR_SMALL)
             ),
             comment.getQuote().getId(),
             comment.getCreatedAt(),
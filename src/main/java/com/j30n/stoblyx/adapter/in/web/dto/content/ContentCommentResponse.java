@@ -1,5 +1,6 @@
 package com.j30n.stoblyx.adapter.in.web.dto.content;
 
+import com.j30n.stoblyx.common.util.ImageVariants;
 import com.j30n.stoblyx.domain.model.ContentComment;
 
 import java.time.LocalDateTime;
@@ -36,7 +37,7 @@ public record ContentCommentResponse(
                 user.getId(),
                 user.getUsername(),
                 user.getNickname(),
-                user.getProfileImageUrl()
+                ImageVariants.url(user.getProfileImageUrl(), ImageVariants.AVATAR_SMALL)
             );
         }
     }
@@ -2,9 +2,14 @@ package com.j30n.stoblyx.adapter.in.web.dto.content;
 
 import com.j30n.stoblyx.domain.enums.ContentStatus;
 import com.j30n.stoblyx.domain.model.MediaResource;
+import com.j30n.stoblyx.domain.model.MediaResourceSummary;
 import com.j30n.stoblyx.domain.model.ShortFormContent;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public record ContentResponse(
     Long id,
@@ -24,29 +29,47 @@ public record ContentResponse(
     LocalDateTime modifiedAt
 ) {
     public static ContentResponse from(ShortFormContent content, boolean isLiked, boolean isBookmarked) {
-        // 미디어 리소스에서 필요한 URL 추출
-        String videoUrl = content.getMediaResources().stream()
-            .filter(resource -> resource.getType() == MediaResource.MediaType.VIDEO)
-            .findFirst()
-            .map(MediaResource::getUrl)
+        return from(content, isLiked, isBookmarked, 0, 0);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수/공유수 증분을 더해 응답을 만듭니다.
+     */
+    public static ContentResponse from(ShortFormContent content, boolean isLiked, boolean isBookmarked,
+                                       long pendingViews, long pendingShares) {
+        List<MediaResourceSummary> media = content.getMediaResources().stream()
+            .map(MediaResourceSummary::from)
+            .toList();
+        return from(content, media, isLiked, isBookmarked, pendingViews, pendingShares);
+    }
+
+    /**
+     * 목록 조회용으로 미리 일괄 조회한 미디어 요약을 사용해 응답을 만듭니다.
+     * 엔티티의 미디어 컬렉션을 초기화하지 않으므로 항목마다 추가 쿼리가 발생하지 않습니다.
+     */
+    public static ContentResponse from(ShortFormContent content, List<MediaResourceSummary> media,
+                                       boolean isLiked, boolean isBookmarked,
+                                       long pendingViews, long pendingShares) {
+        // 미디어 리소스에서 유형별 첫 번째 항목만 한 번의 순회로 추출
+        Map<MediaResource.MediaType, MediaResourceSummary> firstByType = new EnumMap<>(MediaResource.MediaType.class);
+        for (MediaResourceSummary resource : media) {
+            firstByType.putIfAbsent(resource.type(), resource);
+        }
+
+        String videoUrl = Optional.ofNullable(firstByType.get(MediaResource.MediaType.VIDEO))
+            .map(MediaResourceSummary::url)
             .orElse(null);
 
-        String thumbnailUrl = content.getMediaResources().stream()
-            .filter(resource -> resource.getType() == MediaResource.MediaType.IMAGE)
-            .findFirst()
-            .map(MediaResource::getThumbnailUrl)
+        String thumbnailUrl = Optional.ofNullable(firstByType.get(MediaResource.MediaType.IMAGE))
+            .map(MediaResourceSummary::thumbnailUrl)
             .orElse(null);
 
-        String bgmUrl = content.getMediaResources().stream()
-            .filter(resource -> resource.getType() == MediaResource.MediaType.BGM)
-            .findFirst()
-            .map(MediaResource::getUrl)
+        String bgmUrl = Optional.ofNullable(firstByType.get(MediaResource.MediaType.BGM))
+            .map(MediaResourceSummary::url)
             .orElse(null);
 
-        String subtitles = content.getMediaResources().stream()
-            .filter(resource -> resource.getType() == MediaResource.MediaType.SUBTITLE)
-            .findFirst()
-            .map(MediaResource::getDescription)
+        String subtitles = Optional.ofNullable(firstByType.get(MediaResource.MediaType.SUBTITLE))
+            .map(MediaResourceSummary::description)
             .orElse(null);
 
         return new ContentResponse(
@@ -56,9 +79,9 @@ public record ContentResponse(
             bgmUrl,
             subtitles,
             content.getStatus(),
-            content.getViewCount(),
+            (int) Math.min(Integer.MAX_VALUE, content.getViewCount() + pendingViews),
             content.getLikeCount(),
-            content.getShareCount(),
+            (int) Math.min(Integer.MAX_VALUE, content.getShareCount() + pendingShares),
             isLiked,
             isBookmarked,
             BookInfo.from(content),
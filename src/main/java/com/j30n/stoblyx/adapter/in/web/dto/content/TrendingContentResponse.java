@@ -0,0 +1,17 @@
+package com.j30n.stoblyx.adapter.in.web.dto.content;
+
+import java.util.List;
+
+/**
+ * 트렌딩 콘텐츠 커서 페이지 응답 DTO
+ *
+ * @param items      이번 페이지의 콘텐츠 (트렌딩 점수 내림차순)
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+public record TrendingContentResponse(
+    List<ContentResponse> items,
+    String nextCursor,
+    boolean hasNext
+) {
+}
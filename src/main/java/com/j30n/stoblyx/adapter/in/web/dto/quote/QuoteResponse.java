@@ -1,5 +1,6 @@
 package com.j30n.stoblyx.adapter.in.web.dto.quote;
 
+import com.j30n.stoblyx.common.util.ImageVariants;
 import com.j30n.stoblyx.domain.model.Book;
 import com.j30n.stoblyx.domain.model.Quote;
 import com.j30n.stoblyx.domain.model.User;
@@ -52,7 +53,7 @@ public record QuoteResponse(
                 user.getId(),
                 user.getUsername(),
                 user.getNickname(),
-                user.getProfileImageUrl()
+                ImageVariants.url(user.getProfileImageUrl(), ImageVariants.AVATAR_SMALL)
             );
         }
 
@@ -1,6 +1,7 @@
 package com.j30n.stoblyx.adapter.in.web.dto.recommendation;
 
 import com.j30n.stoblyx.domain.model.PopularSearchTerm;
+import com.j30n.stoblyx.domain.model.TermCount;
 
 import java.time.LocalDateTime;
 
@@ -29,4 +30,16 @@ public record PopularTermResponse(
             popularTerm.getLastUpdatedAt()
         );
     }
-} 
\ No newline at end of file
+
+    /**
+     * 실시간 집계 결과를 PopularTermResponse DTO로 변환합니다. 저장 전이므로 ID는 없습니다.
+     *
+     * @param termCount  검색어별 검색 횟수
+     * @param measuredAt 집계 시각
+     * @return PopularTermResponse DTO
+     */
+    public static PopularTermResponse of(TermCount termCount, LocalDateTime measuredAt) {
+        int count = (int) Math.min(Integer.MAX_VALUE, termCount.count());
+        return new PopularTermResponse(null, termCount.term(), count, (double) count, measuredAt);
+    }
+}
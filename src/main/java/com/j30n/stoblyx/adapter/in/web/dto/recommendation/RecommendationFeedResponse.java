@@ -0,0 +1,22 @@
+package com.j30n.stoblyx.adapter.in.web.dto.recommendation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사전 계산된 추천 목록의 커서 페이지 응답 DTO
+ *
+ * @param items       이번 페이지의 추천 아이템
+ * @param nextCursor  다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext     다음 페이지 존재 여부
+ * @param fallback    개인화 신호가 없어 인기 목록으로 채워졌는지 여부
+ * @param generatedAt 목록 계산 시각
+ */
+public record RecommendationFeedResponse<T>(
+    List<T> items,
+    String nextCursor,
+    boolean hasNext,
+    boolean fallback,
+    LocalDateTime generatedAt
+) {
+}
@@ -1,5 +1,6 @@
 package com.j30n.stoblyx.adapter.in.web.dto.recommendation;
 
+import com.j30n.stoblyx.common.util.ImageVariants;
 import com.j30n.stoblyx.domain.model.UserSimilarity;
 
 /**
@@ -26,7 +27,7 @@ public record RecommendationResponse(
             similarity.getSourceUser().getId(),
             similarity.getTargetUser().getId(),
             similarity.getTargetUser().getUsername(),
-            similarity.getTargetUser().getProfileImageUrl(),
+            ImageVariants.url(similarity.getTargetUser().getProfileImageUrl(), ImageVariants.AVATAR_SMALL),
             similarity.getSimilarityScore(),
             similarity.getIsActive()
         );
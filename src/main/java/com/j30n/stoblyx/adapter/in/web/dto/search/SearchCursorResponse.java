@@ -0,0 +1,17 @@
+package com.j30n.stoblyx.adapter.in.web.dto.search;
+
+import java.util.List;
+
+/**
+ * 통합 검색의 커서 페이지 응답 DTO
+ *
+ * @param items      이번 페이지의 검색 결과 (최신순)
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+public record SearchCursorResponse(
+    List<SearchResponse> items,
+    String nextCursor,
+    boolean hasNext
+) {
+}
@@ -0,0 +1,18 @@
+package com.j30n.stoblyx.adapter.in.web.dto.search;
+
+import com.j30n.stoblyx.domain.model.SuggestionEntry;
+
+/**
+ * 자동완성 추천어 응답 DTO
+ *
+ * @param text 추천어
+ * @param type 추천어 출처 (SEARCH_TERM, BOOK_TITLE, AUTHOR)
+ */
+public record SuggestionResponse(
+    String text,
+    String type
+) {
+    public static SuggestionResponse from(SuggestionEntry entry) {
+        return new SuggestionResponse(entry.text(), entry.type().name());
+    }
+}
@@ -1,5 +1,6 @@
 package com.j30n.stoblyx.adapter.in.web.dto.user;
 
+import com.j30n.stoblyx.common.util.ImageVariants;
 import com.j30n.stoblyx.domain.model.User;
 
 public record UserProfileResponse(
@@ -17,7 +18,7 @@ public record UserProfileResponse(
             user.getNickname(),
             user.getEmail(),
             user.getRole().toString(),
-            user.getProfileImageUrl()
+            ImageVariants.url(user.getProfileImageUrl(), ImageVariants.AVATAR_MEDIUM)
         );
     }
     
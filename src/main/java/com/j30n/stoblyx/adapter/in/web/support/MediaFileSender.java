@@ -0,0 +1,301 @@
+package com.j30n.stoblyx.adapter.in.web.support;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 디스크의 미디어 파일을 HTTP 로 내려보내는 도우미
+ * <p>
+ * 강한 ETag 와 Last-Modified 를 붙이고 {@code If-None-Match}, {@code If-Modified-Since} 에 304 로,
+ * {@code Range} 에 206(여러 구간이면 multipart/byteranges)으로, 만족할 수 없는 구간에 416 으로 답합니다.
+ * {@code If-Range} 가 현재 파일과 맞지 않으면 구간 요청을 무시하고 전체를 보냅니다.
+ * </p>
+ * <p>
+ * 본문은 힙을 거치지 않도록 Tomcat sendfile 을 쓸 수 있으면 그것으로, 아니면 {@link FileChannel#transferTo} 로 보냅니다.
+ * 내용 해시로 이름을 정한 파일은 내용이 바뀌지 않으므로 1년짜리 immutable 캐시를 허용합니다. 이런 파일은 캐시 적중 때마다
+ * 수정 시각이 갱신될 수 있어 Last-Modified 를 보내지 않고 ETag 로만 검증합니다.
+ * </p>
+ */
+@Component
+public class MediaFileSender {
+
+    static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    static final String REVALIDATE_CACHE_CONTROL = "public, no-cache";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    /**
+     * 이보다 작은 본문은 sendfile 준비 비용이 더 커서 직접 씀 (Tomcat DefaultServlet 기본값과 같음)
+     */
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+    /**
+     * 이보다 많은 구간을 요청하면 구간을 무시하고 전체를 보냄
+     */
+    private static final int MAX_RANGES = 16;
+
+    /**
+     * 파일을 응답으로 보냅니다.
+     *
+     * @param file     보낼 파일
+     * @param etagHash 내용 해시 (내용 주소 파일이면 ETag 로 쓰고 immutable 캐시를 허용), 없으면 null
+     * @param request  요청
+     * @param response 응답
+     * @throws IOException 전송 실패
+     */
+    public void send(Path file, String etagHash, HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!attributes.isRegularFile()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = attributes.size();
+        // 내용 주소 파일의 수정 시각은 내용과 무관하므로 날짜 검증자로 쓰지 않음 (-1)
+        long lastModified = etagHash != null ? -1 : attributes.lastModifiedTime().toMillis() / 1000 * 1000;
+        String etag = etagHash != null
+            ? "\"" + etagHash + "\""
+            : "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (lastModified >= 0) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, etagHash != null ? IMMUTABLE_CACHE_CONTROL : REVALIDATE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String contentType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+            .orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+        boolean head = "HEAD".equals(request.getMethod());
+
+        List<Region> regions = null;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && rangeApplies(request.getHeader(HttpHeaders.IF_RANGE), etag, lastModified)) {
+            regions = parseRanges(rangeHeader, length);
+        }
+
+        if (regions == null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType);
+            response.setContentLengthLong(length);
+            if (!head) {
+                sendRegion(file, new Region(0, length - 1), request, response);
+            }
+        } else if (regions.isEmpty()) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        } else if (regions.size() == 1) {
+            Region region = regions.get(0);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, region.contentRange(length));
+            response.setContentLengthLong(region.length());
+            if (!head) {
+                sendRegion(file, region, request, response);
+            }
+        } else {
+            sendMultipart(file, regions, contentType, length, head, response);
+        }
+    }
+
+    /**
+     * {@code Range} 헤더를 해석합니다.
+     *
+     * @return 보낼 구간, 헤더를 무시하고 전체를 보내야 하면 null, 만족할 수 있는 구간이 없으면 빈 목록
+     */
+    static List<Region> parseRanges(String header, long length) {
+        if (!header.startsWith("bytes=")) {
+            return null;
+        }
+        String[] specs = header.substring("bytes=".length()).split(",");
+        if (specs.length > MAX_RANGES) {
+            return null;
+        }
+        List<Region> regions = new ArrayList<>(specs.length);
+        try {
+            for (String spec : specs) {
+                String trimmed = spec.trim();
+                int dash = trimmed.indexOf('-');
+                if (dash < 0) {
+                    return null;
+                }
+                String first = trimmed.substring(0, dash);
+                String last = trimmed.substring(dash + 1);
+                if (first.isEmpty()) {
+                    // 끝에서부터 n 바이트
+                    long suffix = Long.parseLong(last);
+                    if (suffix > 0 && length > 0) {
+                        regions.add(new Region(Math.max(0, length - suffix), length - 1));
+                    }
+                    continue;
+                }
+                long start = Long.parseLong(first);
+                long end = last.isEmpty() ? length - 1 : Long.parseLong(last);
+                if (start < 0 || end < start) {
+                    return null;
+                }
+                if (start < length) {
+                    regions.add(new Region(start, Math.min(end, length - 1)));
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return regions;
+    }
+
+    private static boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-None-Match 는 약한 비교
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = parseDate(request.getHeader(HttpHeaders.IF_MODIFIED_SINCE));
+        return ifModifiedSince >= 0 && lastModified >= 0 && lastModified <= ifModifiedSince;
+    }
+
+    private static boolean rangeApplies(String ifRange, String etag, long lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+        String value = ifRange.trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            // If-Range 는 강한 비교라 약한 ETag 는 맞지 않음
+            return value.equals(etag);
+        }
+        return lastModified >= 0 && parseDate(value) == lastModified;
+    }
+
+    private static long parseDate(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    private static void sendRegion(Path file, Region region, HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+        if (region.length() == 0) {
+            return;
+        }
+        if (region.length() >= SENDFILE_MIN_BYTES && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 컨테이너가 소켓으로 바로 복사 (끝 위치는 배타적)
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, region.start());
+            request.setAttribute(SENDFILE_END, region.end() + 1);
+            return;
+        }
+        OutputStream out = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            transfer(channel, region, Channels.newChannel(out));
+        }
+        out.flush();
+    }
+
+    private static void sendMultipart(Path file, List<Region> regions, String contentType, long length, boolean head,
+                                      HttpServletResponse response) throws IOException {
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+        List<byte[]> partHeaders = new ArrayList<>(regions.size());
+        long contentLength = 0;
+        for (Region region : regions) {
+            byte[] partHeader = ("\r\n--" + boundary + "\r\n"
+                + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                + HttpHeaders.CONTENT_RANGE + ": " + region.contentRange(length) + "\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(partHeader);
+            contentLength += partHeader.length + region.length();
+        }
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if (head) {
+            return;
+        }
+
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (int i = 0; i < regions.size(); i++) {
+                out.write(partHeaders.get(i));
+                transfer(channel, regions.get(i), target);
+            }
+        }
+        out.write(closing);
+        out.flush();
+    }
+
+    private static void transfer(FileChannel channel, Region region, WritableByteChannel target) throws IOException {
+        long position = region.start();
+        long remaining = region.length();
+        while (remaining > 0) {
+            long sent = channel.transferTo(position, remaining, target);
+            if (sent <= 0 && position >= channel.size()) {
+                throw new EOFException("전송 중 파일이 줄어들었습니다.");
+            }
+            position += sent;
+            remaining -= sent;
+        }
+    }
+
+    /**
+     * 바이트 구간 (양 끝 포함)
+     */
+    record Region(long start, long end) {
+
+        long length() {
+            return end - start + 1;
+        }
+
+        String contentRange(long total) {
+            return "bytes " + start + "-" + end + "/" + total;
+        }
+    }
+}
@@ -28,7 +28,7 @@ public class AIAdapter implements AIPort {
     private static final String FALLBACK_IMAGE = "static/images/fallback/book-cover.jpg";
     private static final String FALLBACK_VIDEO = "static/videos/fallback/book-animation.mp4";
     private static final String FALLBACK_AUDIO = "static/audio/fallback/default-narration.mp3";
-    private static final String FALLBACK_BGM = "static/bgm/neutral.mp3";
+    private static final String FALLBACK_BGM = BGMClient.BGM_URL + "neutral.mp3";
     private final PexelsClient pexelsClient;
     private final TTSClient ttsClient;
     private final BGMClient bgmClient;
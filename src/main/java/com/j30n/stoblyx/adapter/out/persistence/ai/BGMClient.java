@@ -1,36 +1,43 @@
 package com.j30n.stoblyx.adapter.out.persistence.ai;
 
+import com.j30n.stoblyx.common.util.text.TermDictionary;
+import com.j30n.stoblyx.common.util.text.TextTokenizer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.regex.Pattern;
 
 /**
  * BGM 서비스 클라이언트
  * 텍스트 감정 분석을 통해 적절한 BGM을 선택합니다.
+ * 음원은 클래스패스 {@code bgm/} 아래에 포함되어 있고, {@code /media/bgm/} 아래 URL 로 내려보냅니다.
  */
 @Slf4j
 @Component
 public class BGMClient {
-    private static final String BGM_PATH = "static/bgm/";
+    public static final String BGM_URL = "/media/bgm/";
+    private static final String BGM_RESOURCE_DIR = "bgm/";
     private static final String DEFAULT_BGM = "neutral.mp3";
     private static final String EMOTION_HAPPY = "happy";
     private static final String EMOTION_SAD = "sad";
     private static final String EMOTION_CALM = "calm";
     private static final String EMOTION_NEUTRAL = DEFAULT_BGM.replace(".mp3", "");
+    private static final TextTokenizer TOKENIZER = TextTokenizer.builder().build();
     private final Map<String, String> emotionBgmMap;
     // 감정별 키워드 매핑
     private final Map<String, List<String>> emotionKeywords;
+    // 감정 키워드 사전과 용어 ID별 감정 (분석 시 토큰 단위로 조회)
+    private final TermDictionary emotionTerms = new TermDictionary();
+    private final List<String> emotionByTermId = new ArrayList<>();
 
     public BGMClient() {
         // BGM 파일 매핑 초기화
         emotionBgmMap = new HashMap<>();
-        emotionBgmMap.put(EMOTION_HAPPY, BGM_PATH + "happy.mp3");
-        emotionBgmMap.put(EMOTION_SAD, BGM_PATH + "sad.mp3");
-        emotionBgmMap.put(EMOTION_CALM, BGM_PATH + "calm.mp3");
-        emotionBgmMap.put(EMOTION_NEUTRAL, BGM_PATH + DEFAULT_BGM);
+        emotionBgmMap.put(EMOTION_HAPPY, BGM_URL + "happy.mp3");
+        emotionBgmMap.put(EMOTION_SAD, BGM_URL + "sad.mp3");
+        emotionBgmMap.put(EMOTION_CALM, BGM_URL + "calm.mp3");
+        emotionBgmMap.put(EMOTION_NEUTRAL, BGM_URL + DEFAULT_BGM);
 
         // 감정 키워드 초기화
         emotionKeywords = new HashMap<>();
@@ -46,6 +53,13 @@ public class BGMClient {
             "평화", "평온", "침착", "고요", "안정", "명상", "자연", "휴식", "고요함", "깊이",
             "calm", "peace", "quiet", "tranquil", "serene", "meditation", "still"
         ));
+        emotionKeywords.forEach((emotion, keywords) -> {
+            for (String keyword : keywords) {
+                if (emotionTerms.intern(keyword.toLowerCase()) == emotionByTermId.size()) {
+                    emotionByTermId.add(emotion);
+                }
+            }
+        });
 
         // 파일 존재 여부 확인
         checkBgmFiles();
@@ -55,7 +69,8 @@ public class BGMClient {
      * BGM 파일이 실제로 존재하는지 확인합니다.
      */
     private void checkBgmFiles() {
-        for (String bgmPath : emotionBgmMap.values()) {
+        for (String bgmUrl : emotionBgmMap.values()) {
+            String bgmPath = BGM_RESOURCE_DIR + bgmUrl.substring(BGM_URL.length());
             try {
                 new ClassPathResource(bgmPath).getInputStream().close();
                 log.info("BGM 파일 확인: {}", bgmPath);
@@ -95,9 +110,9 @@ public class BGMClient {
 
     /**
      * 간단한 키워드 기반 감정 분석을 수행합니다.
+     * 텍스트를 토큰으로 나눈 뒤 감정 키워드와 단어 단위로 일치하는 토큰 수를 셉니다.
      */
     private Map<String, Integer> analyzeEmotionByKeywords(String text) {
-        String lowerText = text.toLowerCase();
         Map<String, Integer> scores = new HashMap<>();
 
         // 각 감정별 점수 초기화
@@ -107,18 +122,11 @@ public class BGMClient {
         scores.put(EMOTION_NEUTRAL, 1); // 기본값 1
 
         // 감정별 키워드 매칭
-        for (Map.Entry<String, List<String>> entry : emotionKeywords.entrySet()) {
-            String emotion = entry.getKey();
-            List<String> keywords = entry.getValue();
-
-            for (String keyword : keywords) {
-                // 단어 경계를 고려한 패턴 매칭
-                Pattern pattern = Pattern.compile("\\b" + Pattern.quote(keyword.toLowerCase()) + "\\b");
-                java.util.regex.Matcher matcher = pattern.matcher(lowerText);
-
-                while (matcher.find()) {
-                    scores.put(emotion, scores.get(emotion) + 1);
-                }
+        int[] counts = new int[emotionTerms.size()];
+        TOKENIZER.tokenize(text, emotionTerms, false, (termId, position, bigram) -> counts[termId]++);
+        for (int termId = 0; termId < counts.length; termId++) {
+            if (counts[termId] > 0) {
+                scores.merge(emotionByTermId.get(termId), counts[termId], Integer::sum);
             }
         }
 
@@ -1,38 +1,57 @@
 package com.j30n.stoblyx.adapter.out.persistence.ai;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Pexels API 클라이언트
  * 키워드 기반 이미지/비디오 검색을 담당합니다.
+ * <p>
+ * 요청은 토큰 버킷({@code pexels.rate-limit.*})으로 속도를 제한하고, 같은 검색어의 동시 요청은 하나로 합칩니다.
+ * 검색 결과는 결과가 없는 경우까지 포함해 메모리에 캐시하며({@code pexels.cache.*}), 오류는 캐시하지 않습니다.
+ * </p>
  */
 @Slf4j
 @Component
 public class PexelsClient {
-    private static final String PEXELS_API_URL_IMAGES = "https://api.pexels.com/v1/search";
-    private static final String PEXELS_API_URL_VIDEOS = "https://api.pexels.com/videos/search";
-    
+    private static final String DEFAULT_BASE_URL = "https://api.pexels.com";
+    private static final String PATH_IMAGES = "/v1/search";
+    private static final String PATH_VIDEOS = "/videos/search";
+    private static final int PER_PAGE = 10;
+    private static final int MAX_CACHE_ENTRIES = 1000;
+
     // 폴백 이미지/비디오 URL 상수 정의
     private static final String FALLBACK_IMAGE = "https://images.pexels.com/photos/2014422/pexels-photo-2014422.jpeg"; // 책상 위의 책과 커피 이미지
     private static final String FALLBACK_VIDEO = "https://www.pexels.com/video/woman-reading-book-in-the-library-5167740/"; // 도서관에서 책 읽는 여성 비디오
     private static final String FALLBACK_VIDEO_THUMBNAIL = "https://images.pexels.com/videos/5167740/pexels-photo-5167740.jpeg"; // 도서관에서 책 읽는 여성 비디오 썸네일
-    
+
     private static final String DUMMY_API_KEY = "dummyKey";
-    
+
     private static final String JSON_FIELD_PHOTOS = "photos";
     private static final String JSON_FIELD_VIDEOS = "videos";
     private static final String JSON_FIELD_SRC = "src";
@@ -43,52 +62,79 @@ public class PexelsClient {
     private static final String JSON_FIELD_LINK = "link";
     private static final String JSON_FIELD_QUALITY = "quality";
     private static final String JSON_FIELD_IMAGE = "image";
-    
+
     private final RestTemplate restTemplate;
     private final String apiKey;
+    private final String baseUrl;
     private final Random random;
     private final ObjectMapper objectMapper;
-    
-    // 최근 요청 시간 추적 (API 사용량 제한 대응)
-    private long lastRequestTime = 0;
-    
+    private final TokenBucket rateLimiter;
+    private final long cacheTtlMillis;
+    private final long negativeCacheTtlMillis;
+
+    // 진행 중이거나 캐시된 검색 (키: 검색 종류 + 정규화한 검색어)
+    private final ConcurrentMap<String, Search> searches = new ConcurrentHashMap<>();
+
+    public PexelsClient(String apiKey, RestTemplate restTemplate, Random random, ObjectMapper objectMapper) {
+        this(apiKey, DEFAULT_BASE_URL, 1, 5, 10_000, TimeUnit.HOURS.toMillis(6), TimeUnit.MINUTES.toMillis(10),
+                restTemplate, random, objectMapper);
+    }
+
     // API 키를 application.properties에서 로드
+    @Autowired
     public PexelsClient(
             @Value("${PEXELS_API_KEY:}") String apiKey,  // 빈 기본값 사용
+            @Value("${pexels.api.base-url:https://api.pexels.com}") String baseUrl,
+            @Value("${pexels.rate-limit.permits-per-second:1}") double permitsPerSecond,
+            @Value("${pexels.rate-limit.burst:5}") int burst,
+            @Value("${pexels.rate-limit.max-wait-ms:10000}") long maxWaitMillis,
+            @Value("${pexels.cache.ttl-ms:21600000}") long cacheTtlMillis,
+            @Value("${pexels.cache.negative-ttl-ms:600000}") long negativeCacheTtlMillis,
             RestTemplate restTemplate,
             Random random,
             ObjectMapper objectMapper) {
         // 빈 값이면 PexelsConfig의 하드코딩된 API 키 사용
         this.apiKey = (apiKey == null || apiKey.isEmpty()) ? com.j30n.stoblyx.config.PexelsConfig.API_KEY : apiKey;
+        this.baseUrl = baseUrl;
         this.restTemplate = restTemplate;
         this.random = random;
         this.objectMapper = objectMapper;
-        
+        this.rateLimiter = new TokenBucket(permitsPerSecond, burst, maxWaitMillis);
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.negativeCacheTtlMillis = negativeCacheTtlMillis;
+
         if (this.apiKey == null || this.apiKey.isEmpty() || DUMMY_API_KEY.equals(this.apiKey)) {
             log.warn("Pexels API 키가 설정되지 않았습니다. 폴백 이미지/비디오가 사용됩니다.");
         }
     }
-    
+
     /**
      * 키워드 기반 이미지 검색
      *
      * @param query 검색 키워드
      * @return 이미지 URL
      */
-    @Cacheable(value = "pexelsImageCache", key = "#query")
     public String searchImage(String query) {
         if (query == null || query.trim().isEmpty()) {
             log.warn("검색어가 비어 있습니다. 폴백 이미지를 반환합니다.");
             return FALLBACK_IMAGE;
         }
-        
+
         if (DUMMY_API_KEY.equals(apiKey)) {
             log.warn("API 키가 설정되지 않았습니다. 폴백 이미지를 반환합니다.");
             return FALLBACK_IMAGE;
         }
-        
+
         try {
-            return callPexelsImageApi(query);
+            // 가로 방향 이미지 (숏폼에 적합)
+            List<Photo> photos = search(PATH_IMAGES, "landscape", query).photos();
+            if (!photos.isEmpty()) {
+                // 랜덤하게 이미지 선택
+                return photos.get(random.nextInt(photos.size())).original();
+            }
+
+            log.warn("이미지 검색 결과가 없거나 응답 형식이 올바르지 않습니다. 폴백 이미지를 반환합니다.");
+            return FALLBACK_IMAGE;
         } catch (RestClientException e) {
             logApiException(e, "이미지 검색");
             return FALLBACK_IMAGE;
@@ -97,46 +143,7 @@ public class PexelsClient {
             return FALLBACK_IMAGE;
         }
     }
-    
-    /**
-     * Pexels 이미지 API 호출 및 결과 처리
-     */
-    private String callPexelsImageApi(String query) throws Exception {
-        // API 요청 속도 제한 (초당 요청 수 제한 대응)
-        throttleRequest();
-        
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", apiKey);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        
-        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(PEXELS_API_URL_IMAGES)
-                .queryParam("query", query)
-                .queryParam("per_page", 10)
-                .queryParam("orientation", "landscape"); // 가로 방향 이미지 (숏폼에 적합)
-        
-        HttpEntity<?> entity = new HttpEntity<>(headers);
-        
-        ResponseEntity<String> response = restTemplate.exchange(
-                builder.toUriString(),
-                HttpMethod.GET,
-                entity,
-                String.class
-        );
-        
-        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-            JsonNode jsonResponse = objectMapper.readTree(response.getBody());
-            List<String> imageUrls = extractImageUrls(jsonResponse);
-            
-            if (!imageUrls.isEmpty()) {
-                // 랜덤하게 이미지 선택
-                return imageUrls.get(random.nextInt(imageUrls.size()));
-            }
-        }
-        
-        log.warn("이미지 검색 결과가 없거나 응답 형식이 올바르지 않습니다. 폴백 이미지를 반환합니다.");
-        return FALLBACK_IMAGE;
-    }
-    
+
     /**
      * API 예외 로깅
      */
@@ -148,7 +155,7 @@ public class PexelsClient {
             log.error("Pexels API 호출 중 오류가 발생했습니다: {}", e.getMessage());
         }
     }
-    
+
     /**
      * 일반 예외 로깅
      */
@@ -160,27 +167,35 @@ public class PexelsClient {
             log.error("{} 중 오류 발생: {}", operation, e.getMessage(), e);
         }
     }
-    
+
     /**
      * 키워드 기반 비디오 검색
      *
      * @param query 검색 키워드
      * @return 비디오 URL
      */
-    @Cacheable(value = "pexelsVideoCache", key = "#query")
     public String searchVideo(String query) {
         if (query == null || query.trim().isEmpty()) {
             log.warn("검색어가 비어 있습니다. 폴백 비디오를 반환합니다.");
             return FALLBACK_VIDEO;
         }
-        
+
         if (DUMMY_API_KEY.equals(apiKey)) {
             log.warn("API 키가 설정되지 않았습니다. 폴백 비디오를 반환합니다.");
             return FALLBACK_VIDEO;
         }
-        
+
         try {
-            return callPexelsVideoApi(query);
+            // 세로 방향 비디오 (숏폼에 적합)
+            List<Video> videos = search(PATH_VIDEOS, "portrait", query).videos();
+            if (!videos.isEmpty()) {
+                // 랜덤하게 비디오 선택
+                Video video = videos.get(random.nextInt(videos.size()));
+                return video.pageUrl() != null ? video.pageUrl() : video.firstLink();
+            }
+
+            log.warn("비디오 검색 결과가 없거나 응답 형식이 올바르지 않습니다. 폴백 비디오를 반환합니다.");
+            return FALLBACK_VIDEO;
         } catch (RestClientException e) {
             logApiException(e, "비디오 검색");
             return FALLBACK_VIDEO;
@@ -189,215 +204,295 @@ public class PexelsClient {
             return FALLBACK_VIDEO;
         }
     }
-    
-    /**
-     * Pexels 비디오 API 호출 및 결과 처리
-     */
-    private String callPexelsVideoApi(String query) throws Exception {
-        // API 요청 속도 제한
-        throttleRequest();
-        
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", apiKey);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        
-        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(PEXELS_API_URL_VIDEOS)
-                .queryParam("query", query)
-                .queryParam("per_page", 10)
-                .queryParam("orientation", "portrait"); // 세로 방향 비디오 (숏폼에 적합)
-        
-        HttpEntity<?> entity = new HttpEntity<>(headers);
-        
-        ResponseEntity<String> response = restTemplate.exchange(
-                builder.toUriString(),
-                HttpMethod.GET,
-                entity,
-                String.class
-        );
-        
-        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-            JsonNode jsonResponse = objectMapper.readTree(response.getBody());
-            List<String> videoUrls = extractVideoUrls(jsonResponse);
-            
-            if (!videoUrls.isEmpty()) {
-                // 랜덤하게 비디오 선택
-                return videoUrls.get(random.nextInt(videoUrls.size()));
-            }
-        }
-        
-        log.warn("비디오 검색 결과가 없거나 응답 형식이 올바르지 않습니다. 폴백 비디오를 반환합니다.");
-        return FALLBACK_VIDEO;
-    }
-    
+
     /**
      * 이미지 URL과 썸네일 URL 함께 반환
      * @param query 검색 키워드
      * @return 이미지URL과 썸네일URL을 담은 배열 [이미지URL, 썸네일URL]
      */
     public String[] searchImageWithThumbnail(String query) {
-        if (query == null || query.trim().isEmpty()) {
+        if (query == null || query.trim().isEmpty() || DUMMY_API_KEY.equals(apiKey)) {
             return new String[]{FALLBACK_IMAGE, FALLBACK_IMAGE};
         }
-        
+
         try {
-            throttleRequest();
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", apiKey);
-            
-            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(PEXELS_API_URL_IMAGES)
-                    .queryParam("query", query)
-                    .queryParam("per_page", 10);
-            
-            HttpEntity<?> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                    builder.toUriString(),
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
-            
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                JsonNode jsonResponse = objectMapper.readTree(response.getBody());
-                if (jsonResponse.has(JSON_FIELD_PHOTOS) && jsonResponse.get(JSON_FIELD_PHOTOS).size() > 0) {
-                    JsonNode photo = jsonResponse.get(JSON_FIELD_PHOTOS).get(random.nextInt(jsonResponse.get(JSON_FIELD_PHOTOS).size()));
-                    if (photo.has(JSON_FIELD_SRC)) {
-                        String originalUrl = photo.get(JSON_FIELD_SRC).get(JSON_FIELD_ORIGINAL).asText();
-                        String mediumUrl = photo.get(JSON_FIELD_SRC).get(JSON_FIELD_MEDIUM).asText();
-                        return new String[]{originalUrl, mediumUrl};
-                    }
-                }
+            List<Photo> photos = search(PATH_IMAGES, null, query).photos();
+            if (!photos.isEmpty()) {
+                Photo photo = photos.get(random.nextInt(photos.size()));
+                return new String[]{photo.original(), photo.medium() != null ? photo.medium() : photo.original()};
             }
-            
+
             return new String[]{FALLBACK_IMAGE, FALLBACK_IMAGE};
-            
+
         } catch (Exception e) {
             log.error("이미지 및 썸네일 검색 실패: {}", e.getMessage(), e);
             return new String[]{FALLBACK_IMAGE, FALLBACK_IMAGE};
         }
     }
-    
+
     /**
      * 비디오 URL과 썸네일 URL 함께 반환
      * @param query 검색 키워드
      * @return 비디오URL과 썸네일URL을 담은 배열 [비디오URL, 썸네일URL]
      */
     public String[] searchVideoWithThumbnail(String query) {
-        if (query == null || query.trim().isEmpty()) {
+        if (query == null || query.trim().isEmpty() || DUMMY_API_KEY.equals(apiKey)) {
             return new String[]{FALLBACK_VIDEO, FALLBACK_VIDEO_THUMBNAIL};
         }
-        
+
         try {
-            throttleRequest();
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", apiKey);
-            
-            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(PEXELS_API_URL_VIDEOS)
-                    .queryParam("query", query)
-                    .queryParam("per_page", 10);
-            
-            HttpEntity<?> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                    builder.toUriString(),
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
-            
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                JsonNode jsonResponse = objectMapper.readTree(response.getBody());
-                if (jsonResponse.has(JSON_FIELD_VIDEOS) && jsonResponse.get(JSON_FIELD_VIDEOS).size() > 0) {
-                    JsonNode video = jsonResponse.get(JSON_FIELD_VIDEOS).get(random.nextInt(jsonResponse.get(JSON_FIELD_VIDEOS).size()));
-                    
-                    String videoUrl = "";
-                    // HD 품질 영상 찾기
-                    if (video.has(JSON_FIELD_VIDEO_FILES) && video.get(JSON_FIELD_VIDEO_FILES).size() > 0) {
-                        for (JsonNode file : video.get(JSON_FIELD_VIDEO_FILES)) {
-                            if (file.has(JSON_FIELD_QUALITY) && "hd".equals(file.get(JSON_FIELD_QUALITY).asText())) {
-                                videoUrl = file.get(JSON_FIELD_LINK).asText();
-                                break;
-                            }
-                        }
-                        
-                        // HD 없으면 첫 번째 파일
-                        if (videoUrl.isEmpty()) {
-                            videoUrl = video.get(JSON_FIELD_VIDEO_FILES).get(0).get(JSON_FIELD_LINK).asText();
-                        }
-                    }
-                    
-                    String thumbnailUrl = video.has(JSON_FIELD_IMAGE) ? 
-                        video.get(JSON_FIELD_IMAGE).asText() : FALLBACK_VIDEO_THUMBNAIL;
-                    
-                    if (!videoUrl.isEmpty()) {
-                        return new String[]{videoUrl, thumbnailUrl};
-                    }
-                }
+            List<Video> videos = search(PATH_VIDEOS, null, query).videos().stream()
+                    .filter(video -> video.firstLink() != null)
+                    .toList();
+            if (!videos.isEmpty()) {
+                Video video = videos.get(random.nextInt(videos.size()));
+                // HD 품질 영상이 없으면 첫 번째 파일
+                String videoUrl = video.hdLink() != null ? video.hdLink() : video.firstLink();
+                String thumbnailUrl = video.image() != null ? video.image() : FALLBACK_VIDEO_THUMBNAIL;
+                return new String[]{videoUrl, thumbnailUrl};
             }
-            
+
             return new String[]{FALLBACK_VIDEO, FALLBACK_VIDEO_THUMBNAIL};
-            
+
         } catch (Exception e) {
             log.error("비디오 및 썸네일 검색 실패: {}", e.getMessage(), e);
             return new String[]{FALLBACK_VIDEO, FALLBACK_VIDEO_THUMBNAIL};
         }
     }
-    
+
     /**
-     * API 요청 속도 제한 (초당 요청 수 제한에 대응)
+     * 캐시된 결과를 돌려주거나, 같은 검색이 진행 중이면 그 결과를 기다리고, 없으면 직접 검색합니다.
+     * 결과가 없는 검색은 짧게, 있는 검색은 길게 캐시하고, 실패한 검색은 캐시하지 않습니다.
      */
-    private synchronized void throttleRequest() {
-        long currentTime = System.currentTimeMillis();
-        long elapsedTime = currentTime - lastRequestTime;
-        
-        // API 호출 간격을 최소 1초로 유지
-        if (elapsedTime < 1000) {
+    private SearchResult search(String path, String orientation, String query) throws Exception {
+        String key = path + "|" + orientation + "|" + query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        while (true) {
+            Search search = new Search();
+            Search existing = searches.putIfAbsent(key, search);
+            if (existing == null) {
+                return fetchInto(key, search, path, orientation, query);
+            }
+            if (existing.expiresAt < System.currentTimeMillis()) {
+                searches.remove(key, existing);
+                continue;
+            }
             try {
-                TimeUnit.MILLISECONDS.sleep(1000 - elapsedTime);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+                return existing.result.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
             }
         }
-        
-        lastRequestTime = System.currentTimeMillis();
     }
-    
+
+    private SearchResult fetchInto(String key, Search search, String path, String orientation, String query)
+            throws Exception {
+        try {
+            SearchResult result = fetch(path, orientation, query);
+            search.expiresAt = System.currentTimeMillis() + (result.isEmpty() ? negativeCacheTtlMillis : cacheTtlMillis);
+            search.result.complete(result);
+            evictIfFull();
+            return result;
+        } catch (Exception e) {
+            searches.remove(key, search);
+            search.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
     /**
-     * 응답에서 이미지 URL 추출
+     * Pexels 검색 API 호출
+     * 응답 본문은 트리로 읽지 않고 필요한 필드만 스트리밍으로 뽑습니다.
      */
-    private List<String> extractImageUrls(JsonNode response) {
-        List<String> imageUrls = new ArrayList<>();
-        
-        if (response.has(JSON_FIELD_PHOTOS) && response.get(JSON_FIELD_PHOTOS).isArray()) {
-            for (JsonNode photo : response.get(JSON_FIELD_PHOTOS)) {
-                if (photo.has(JSON_FIELD_SRC) && photo.get(JSON_FIELD_SRC).has(JSON_FIELD_ORIGINAL)) {
-                    imageUrls.add(photo.get(JSON_FIELD_SRC).get(JSON_FIELD_ORIGINAL).asText());
-                }
+    private SearchResult fetch(String path, String orientation, String query) throws Exception {
+        // API 요청 속도 제한 (초당 요청 수 제한 대응)
+        awaitPermit();
+
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(baseUrl + path)
+                .queryParam("query", query)
+                .queryParam("per_page", PER_PAGE);
+        if (orientation != null) {
+            builder.queryParam("orientation", orientation);
+        }
+
+        SearchResult result = restTemplate.execute(
+                builder.encode().build().toUri(),
+                HttpMethod.GET,
+                request -> {
+                    request.getHeaders().set(HttpHeaders.AUTHORIZATION, apiKey);
+                    request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+                },
+                this::parse
+        );
+        return result != null ? result : SearchResult.EMPTY;
+    }
+
+    private void awaitPermit() throws Exception {
+        try {
+            rateLimiter.acquire().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    private void evictIfFull() {
+        if (searches.size() <= MAX_CACHE_ENTRIES) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        searches.values().removeIf(search -> search.expiresAt < now);
+        Iterator<Search> iterator = searches.values().iterator();
+        while (searches.size() > MAX_CACHE_ENTRIES && iterator.hasNext()) {
+            if (iterator.next().result.isDone()) {
+                iterator.remove();
             }
         }
-        
-        return imageUrls;
     }
-    
+
     /**
-     * 응답에서 비디오 URL 추출
+     * 응답에서 사진과 비디오 정보 추출
      */
-    private List<String> extractVideoUrls(JsonNode response) {
-        List<String> videoUrls = new ArrayList<>();
-        
-        if (response.has(JSON_FIELD_VIDEOS) && response.get(JSON_FIELD_VIDEOS).isArray()) {
-            for (JsonNode video : response.get(JSON_FIELD_VIDEOS)) {
-                if (video.has(JSON_FIELD_URL)) {
-                    videoUrls.add(video.get(JSON_FIELD_URL).asText());
-                } else if (video.has(JSON_FIELD_VIDEO_FILES) && video.get(JSON_FIELD_VIDEO_FILES).isArray() && 
-                           video.get(JSON_FIELD_VIDEO_FILES).size() > 0) {
-                    videoUrls.add(video.get(JSON_FIELD_VIDEO_FILES).get(0).get(JSON_FIELD_LINK).asText());
+    private SearchResult parse(ClientHttpResponse response) throws IOException {
+        List<Photo> photos = new ArrayList<>();
+        List<Video> videos = new ArrayList<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return SearchResult.EMPTY;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (JSON_FIELD_PHOTOS.equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        Photo photo = readPhoto(parser);
+                        if (photo != null) {
+                            photos.add(photo);
+                        }
+                    }
+                } else if (JSON_FIELD_VIDEOS.equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        Video video = readVideo(parser);
+                        if (video != null) {
+                            videos.add(video);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
                 }
             }
         }
-        
-        return videoUrls;
+
+        return new SearchResult(photos, videos);
+    }
+
+    private static Photo readPhoto(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String original = null;
+        String medium = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_OBJECT && JSON_FIELD_SRC.equals(field)) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String size = parser.currentName();
+                    parser.nextToken();
+                    if (JSON_FIELD_ORIGINAL.equals(size)) {
+                        original = text(parser);
+                    } else if (JSON_FIELD_MEDIUM.equals(size)) {
+                        medium = text(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return original != null ? new Photo(original, medium) : null;
+    }
+
+    private static Video readVideo(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String pageUrl = null;
+        String image = null;
+        String hdLink = null;
+        String firstLink = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (JSON_FIELD_URL.equals(field)) {
+                pageUrl = text(parser);
+            } else if (JSON_FIELD_IMAGE.equals(field)) {
+                image = text(parser);
+            } else if (JSON_FIELD_VIDEO_FILES.equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    String link = null;
+                    String quality = null;
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String fileField = parser.currentName();
+                        parser.nextToken();
+                        if (JSON_FIELD_LINK.equals(fileField)) {
+                            link = text(parser);
+                        } else if (JSON_FIELD_QUALITY.equals(fileField)) {
+                            quality = text(parser);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    if (link != null && firstLink == null) {
+                        firstLink = link;
+                    }
+                    if (link != null && hdLink == null && "hd".equals(quality)) {
+                        hdLink = link;
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return pageUrl != null || firstLink != null ? new Video(pageUrl, image, hdLink, firstLink) : null;
+    }
+
+    private static String text(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private record Photo(String original, String medium) {
+    }
+
+    private record Video(String pageUrl, String image, String hdLink, String firstLink) {
+    }
+
+    private record SearchResult(List<Photo> photos, List<Video> videos) {
+        static final SearchResult EMPTY = new SearchResult(List.of(), List.of());
+
+        boolean isEmpty() {
+            return photos.isEmpty() && videos.isEmpty();
+        }
+    }
+
+    /**
+     * 진행 중이거나 캐시된 검색 하나
+     */
+    private static final class Search {
+        final CompletableFuture<SearchResult> result = new CompletableFuture<>();
+        // 진행 중에는 만료되지 않음
+        volatile long expiresAt = Long.MAX_VALUE;
     }
 }
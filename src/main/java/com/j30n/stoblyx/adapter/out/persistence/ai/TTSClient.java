@@ -1,82 +1,62 @@
 package com.j30n.stoblyx.adapter.out.persistence.ai;
 
+import com.j30n.stoblyx.adapter.out.persistence.ai.tts.NarrationAudioCache;
+import com.j30n.stoblyx.adapter.out.persistence.ai.tts.ProcessSpawnTtsEngine;
+import com.j30n.stoblyx.adapter.out.persistence.ai.tts.TtsEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.InputStreamReader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.UUID;
+import java.util.List;
 
 /**
  * TTS API 클라이언트
  * 텍스트를 음성으로 변환하는 기능을 담당합니다.
+ * 실제 합성은 {@code tts.engine} 설정으로 고른 {@link TtsEngine} 이 수행하고, 결과는 {@link NarrationAudioCache} 에 저장합니다.
  */
 @Slf4j
 @Component
 public class TTSClient {
-    private final Path audioPath;
-    private final String pythonScriptPath;
+    private final TtsEngine engine;
+    private final NarrationAudioCache audioCache;
+    private final String baseUrl;
 
+    /**
+     * 요청마다 Python 스크립트를 실행하는 기본 엔진으로 생성합니다.
+     */
     public TTSClient() {
-        this.audioPath = Paths.get("audio");
-        this.audioPath.toFile().mkdirs();
+        this(new ProcessSpawnTtsEngine(List.of("python", "test_stt.py"), 60_000),
+            new NarrationAudioCache(Paths.get("audio"), NarrationAudioCache.DEFAULT_MAX_BYTES, new SimpleMeterRegistry()),
+            "http://localhost:8080");
+    }
 
-        // Python 스크립트 경로 설정 (프로젝트 루트 디렉토리 기준)
-        this.pythonScriptPath = "test_stt.py";
+    @Autowired
+    public TTSClient(TtsEngine engine, NarrationAudioCache audioCache,
+                     @Value("${app.base-url:http://localhost:8080}") String baseUrl) {
+        this.engine = engine;
+        this.audioCache = audioCache;
+        this.baseUrl = baseUrl;
     }
 
     /**
      * 텍스트를 음성으로 변환합니다.
+     * 같은 텍스트와 음성 설정으로 만든 파일이 있으면 합성 없이 그 파일을 돌려줍니다.
      *
      * @param text 음성으로 변환할 텍스트
-     * @return 생성된 음성 파일의 URL
+     * @return 생성된 음성 파일의 URL ({@code /media/audio/} 아래)
      */
     public String generateSpeech(String text) {
         log.info("TTS 생성 요청: text={}", text);
 
         try {
-            // UUID로 고유한 파일명 생성
-            String fileName = UUID.randomUUID() + ".mp3";
-            File outputFile = audioPath.resolve(fileName).toFile();
-
-            // ProcessBuilder를 사용하여 Python 스크립트 실행
-            ProcessBuilder pb = new ProcessBuilder(
-                "python",
-                pythonScriptPath,
-                text,
-                outputFile.getAbsolutePath()
-            );
-
-            // 현재 작업 디렉토리 설정
-            pb.directory(new File(System.getProperty("user.dir")));
-            pb.redirectErrorStream(true);
-
-            log.info("Python TTS 스크립트 실행: {}", pb.command());
-
-            Process process = pb.start();
-
-            // 프로세스 출력 로깅
-            try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(process.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    log.info("Python TTS 출력: {}", line);
-                }
-            }
-
-            // 프로세스 종료 대기
-            int exitCode = process.waitFor();
+            Path outputFile = audioCache.getOrSynthesize(text, engine);
 
-            if (exitCode == 0) {
-                log.info("TTS 생성 성공: {}", outputFile.getAbsolutePath());
-                return outputFile.toURI().toString();
-            } else {
-                log.error("TTS 생성 실패: exitCode={}", exitCode);
-                throw new TTSException("TTS 생성 실패: 종료 코드 " + exitCode);
-            }
+            log.info("TTS 생성 성공: {}", outputFile);
+            return baseUrl + "/media/audio/" + outputFile.getFileName();
         } catch (InterruptedException e) {
             // 인터럽트 상태 복원
             Thread.currentThread().interrupt();
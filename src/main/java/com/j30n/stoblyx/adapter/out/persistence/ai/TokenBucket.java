@@ -0,0 +1,77 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 잠금 없는 토큰 버킷
+ * <p>
+ * 남은 토큰 수 대신 "다음 토큰이 생기는 이론상 시각" 하나를 CAS 로 갱신합니다 (GCRA).
+ * 한동안 요청이 없었으면 {@code burst} 개까지 바로 통과하고, 그 뒤로는 초당 {@code permitsPerSecond} 개씩 허용합니다.
+ * 호출자는 자기 차례를 예약한 뒤 모니터를 잡지 않고 비동기로 기다립니다.
+ * </p>
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final long maxWaitNanos;
+    private final LongSupplier clock;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(double permitsPerSecond, int burst, long maxWaitMillis) {
+        this(permitsPerSecond, burst, maxWaitMillis, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, long maxWaitMillis, LongSupplier clock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("초당 허용 수와 버스트는 0보다 커야 합니다.");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstToleranceNanos = intervalNanos * (burst - 1);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.clock = clock;
+        this.theoreticalArrival = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * 토큰 하나를 예약하고, 그 토큰을 쓸 수 있을 때까지 남은 시간을 돌려줍니다.
+     *
+     * @return 대기 시간 (나노초), 최대 대기 시간을 넘으면 예약하지 않고 -1
+     */
+    long reserve() {
+        while (true) {
+            long now = clock.getAsLong();
+            long tat = theoreticalArrival.get();
+            long start = tat - now < 0 ? now : tat;
+            long delay = Math.max(0, start - burstToleranceNanos - now);
+            if (delay > maxWaitNanos) {
+                return -1;
+            }
+            if (theoreticalArrival.compareAndSet(tat, start + intervalNanos)) {
+                return delay;
+            }
+        }
+    }
+
+    /**
+     * 토큰 하나를 예약합니다.
+     *
+     * @return 토큰을 쓸 수 있게 되면 완료되는 future, 최대 대기 시간을 넘으면 {@link RejectedExecutionException} 으로 완료
+     */
+    CompletableFuture<Void> acquire() {
+        long delay = reserve();
+        if (delay < 0) {
+            return CompletableFuture.failedFuture(
+                new RejectedExecutionException("요청 한도를 넘어 대기 시간이 너무 깁니다."));
+        }
+        if (delay == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> {
+        }, CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,42 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai.tts;
+
+import com.j30n.stoblyx.domain.model.MediaResource;
+import com.j30n.stoblyx.domain.repository.MediaResourceRepository;
+import com.j30n.stoblyx.domain.repository.ShortFormContentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 콘텐츠의 오디오 미디어 리소스와 음성 URL 에서 {@code /media/audio/} 아래 파일 이름을 모읍니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentNarrationAudioReferences implements NarrationAudioReferences {
+
+    static final String AUDIO_PATH = "/media/audio/";
+
+    private final MediaResourceRepository mediaResourceRepository;
+    private final ShortFormContentRepository contentRepository;
+
+    @Override
+    public Set<String> referencedFileNames() {
+        String pattern = "%" + AUDIO_PATH + "%";
+        Set<String> fileNames = new HashSet<>();
+        addFileNames(mediaResourceRepository.findUrlsByTypeAndUrlLike(MediaResource.MediaType.AUDIO, pattern), fileNames);
+        addFileNames(contentRepository.findAudioUrlsLike(pattern), fileNames);
+        return fileNames;
+    }
+
+    static void addFileNames(List<String> urls, Set<String> fileNames) {
+        for (String url : urls) {
+            int start = url.lastIndexOf(AUDIO_PATH);
+            if (start >= 0) {
+                fileNames.add(url.substring(start + AUDIO_PATH.length()));
+            }
+        }
+    }
+}
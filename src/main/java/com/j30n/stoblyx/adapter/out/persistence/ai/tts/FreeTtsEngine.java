@@ -0,0 +1,90 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai.tts;
+
+import com.sun.speech.freetts.Voice;
+import com.sun.speech.freetts.VoiceManager;
+import com.sun.speech.freetts.audio.SingleFileAudioPlayer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sound.sampled.AudioFileFormat;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Python 없이 JVM 안에서 FreeTTS 로 음성을 합성하는 엔진
+ * <p>
+ * 프로세스 간 통신이 없어 가장 가볍지만 FreeTTS 음성은 영어 전용이라 한국어 문장은 제대로 읽지 못합니다.
+ * 음성 객체는 스레드 안전하지 않으므로 한 번에 한 요청만 합성합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tts.engine", havingValue = "freetts")
+public class FreeTtsEngine implements TtsEngine {
+
+    private static final String VOICE_DIRECTORY = "com.sun.speech.freetts.en.us.cmu_us_kal.KevinVoiceDirectory";
+    private static final String EXTENSION = "wav";
+
+    private final String voiceName;
+    private Voice voice;
+
+    public FreeTtsEngine(@Value("${tts.freetts.voice:kevin16}") String voiceName) {
+        this.voiceName = voiceName;
+    }
+
+    @Override
+    public String fileExtension() {
+        return EXTENSION;
+    }
+
+    @Override
+    public String voiceKey() {
+        return "freetts:" + voiceName;
+    }
+
+    @Override
+    public synchronized void synthesize(String text, Path output) throws IOException {
+        Voice loaded = voice();
+        // SingleFileAudioPlayer 가 확장자를 붙이므로 빼고 넘김
+        String baseName = output.toAbsolutePath().toString();
+        if (baseName.endsWith("." + EXTENSION)) {
+            baseName = baseName.substring(0, baseName.length() - EXTENSION.length() - 1);
+        }
+        SingleFileAudioPlayer player = new SingleFileAudioPlayer(baseName, AudioFileFormat.Type.WAVE);
+        loaded.setAudioPlayer(player);
+        try {
+            if (!loaded.speak(text)) {
+                throw new IOException("FreeTTS 음성 합성 실패");
+            }
+        } finally {
+            player.close();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (voice != null) {
+            voice.deallocate();
+            voice = null;
+        }
+    }
+
+    private Voice voice() throws IOException {
+        if (voice == null) {
+            if (System.getProperty("freetts.voices") == null) {
+                System.setProperty("freetts.voices", VOICE_DIRECTORY);
+            }
+            Voice found = VoiceManager.getInstance().getVoice(voiceName);
+            if (found == null) {
+                throw new IOException("FreeTTS 음성을 찾을 수 없습니다: " + voiceName);
+            }
+            found.allocate();
+            log.info("FreeTTS 음성 로드 완료: {}", voiceName);
+            voice = found;
+        }
+        return voice;
+    }
+}
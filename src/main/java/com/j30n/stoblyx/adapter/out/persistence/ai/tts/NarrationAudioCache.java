@@ -0,0 +1,358 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai.tts;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 텍스트 내용으로 주소를 정하는 나레이션 음성 저장소
+ * <p>
+ * 파일 이름은 정규화한 텍스트와 엔진 음성 설정({@link TtsEngine#voiceKey()})의 SHA-256 해시입니다.
+ * 같은 인용구를 다시 생성하면 합성 없이 기존 파일을 돌려주고, 재합성하더라도 같은 경로에 씁니다.
+ * {@code /media/audio} 요청에서는 다시 합성하지 않으므로, 콘텐츠에 URL 이 저장된 파일({@link NarrationAudioReferences})은
+ * 용량 한도로 지우지 않습니다.
+ * </p>
+ * <ul>
+ *     <li>같은 텍스트를 동시에 요청하면 한 번만 합성하고 나머지는 그 결과를 기다립니다.</li>
+ *     <li>임시 파일에 합성한 뒤 이름을 바꿔 게시하므로 덜 쓰인 파일이 보이지 않습니다.</li>
+ *     <li>전체 크기가 {@code tts.cache.max-bytes} 를 넘으면 콘텐츠가 가리키지 않는 파일 중 가장 오래 쓰지 않은 것부터
+ *     한도의 90% 까지 지웁니다. 콘텐츠가 가리키는 파일만으로 한도를 넘으면 그대로 둡니다.
+ *     마지막 사용 시각은 파일 수정 시각에 남겨 재시작 때 디렉토리를 훑어 색인을 다시 만듭니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class NarrationAudioCache {
+
+    public static final long DEFAULT_MAX_BYTES = 1024L * 1024 * 1024;
+
+    private static final Pattern CACHED_FILE = Pattern.compile("[0-9a-f]{64}\\.[A-Za-z0-9]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String TEMP_DIRECTORY = ".tmp";
+
+    private final Path directory;
+    private final Path tempDirectory;
+    private final long maxBytes;
+    private final NarrationAudioReferences references;
+    private final Map<String, Entry> index = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong storedBytes = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter shared;
+    private final Counter writtenBytes;
+    private final Counter evictedBytes;
+
+    @Autowired
+    public NarrationAudioCache(@Value("${tts.audio-dir:audio}") String directory,
+                               @Value("${tts.cache.max-bytes:1073741824}") long maxBytes,
+                               NarrationAudioReferences references,
+                               MeterRegistry meterRegistry) {
+        this(Paths.get(directory), maxBytes, references, meterRegistry);
+    }
+
+    public NarrationAudioCache(Path directory, long maxBytes, MeterRegistry meterRegistry) {
+        this(directory, maxBytes, NarrationAudioReferences.NONE, meterRegistry);
+    }
+
+    public NarrationAudioCache(Path directory, long maxBytes, NarrationAudioReferences references,
+                               MeterRegistry meterRegistry) {
+        this.directory = directory.toAbsolutePath();
+        this.tempDirectory = this.directory.resolve(TEMP_DIRECTORY);
+        this.maxBytes = maxBytes;
+        this.references = references;
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.shared = requests(meterRegistry, "shared");
+        this.writtenBytes = Counter.builder("tts.cache.written.bytes")
+            .description("음성 캐시에 새로 저장한 바이트 수")
+            .register(meterRegistry);
+        this.evictedBytes = Counter.builder("tts.cache.evicted.bytes")
+            .description("용량 한도로 음성 캐시에서 지운 바이트 수")
+            .register(meterRegistry);
+        Gauge.builder("tts.cache.stored.bytes", storedBytes, AtomicLong::get)
+            .description("음성 캐시에 저장된 전체 바이트 수")
+            .register(meterRegistry);
+
+        try {
+            rebuildIndex();
+        } catch (IOException e) {
+            throw new UncheckedIOException("음성 캐시 디렉토리를 읽지 못했습니다: " + this.directory, e);
+        }
+    }
+
+    /**
+     * 텍스트의 음성 파일을 찾고, 없으면 엔진으로 합성해 저장합니다.
+     *
+     * @param text   합성할 텍스트
+     * @param engine 합성 엔진
+     * @return 음성 파일 경로
+     * @throws IOException          합성 또는 저장 실패
+     * @throws InterruptedException 합성을 기다리는 중 인터럽트된 경우
+     */
+    public Path getOrSynthesize(String text, TtsEngine engine) throws IOException, InterruptedException {
+        String normalized = normalize(text);
+        String fileName = key(normalized, engine.voiceKey()) + "." + engine.fileExtension();
+
+        Path cached = lookup(fileName);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        CompletableFuture<Path> flight = new CompletableFuture<>();
+        CompletableFuture<Path> running = inFlight.putIfAbsent(fileName, flight);
+        if (running != null) {
+            shared.increment();
+            return await(running);
+        }
+        try {
+            // 앞선 합성이 방금 끝났을 수 있음
+            Path path = lookup(fileName);
+            if (path != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+                path = synthesize(normalized, fileName, engine);
+            }
+            flight.complete(path);
+            return path;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(fileName, flight);
+        }
+    }
+
+    /**
+     * 캐시에 저장된 전체 바이트 수
+     */
+    public long storedBytes() {
+        return storedBytes.get();
+    }
+
+    /**
+     * 캐시 파일 이름에서 내용 해시를 꺼냅니다.
+     *
+     * @return 해시, 캐시가 만든 이름이 아니면 null
+     */
+    public static String contentHash(String fileName) {
+        if (!CACHED_FILE.matcher(fileName).matches()) {
+            return null;
+        }
+        return fileName.substring(0, fileName.indexOf('.'));
+    }
+
+    /**
+     * 캐시 키로 쓰는 정규화: 유니코드 NFC, 앞뒤 공백 제거, 연속 공백은 하나로
+     */
+    static String normalize(String text) {
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(composed.strip()).replaceAll(" ");
+    }
+
+    static String key(String normalizedText, String voiceKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(voiceKey.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalizedText.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private Path lookup(String fileName) {
+        Entry entry = index.get(fileName);
+        if (entry == null) {
+            return null;
+        }
+        Path path = directory.resolve(fileName);
+        if (!Files.isRegularFile(path)) {
+            // 밖에서 지워진 파일
+            if (index.remove(fileName, entry)) {
+                storedBytes.addAndGet(-entry.size);
+            }
+            return null;
+        }
+        entry.touch(path);
+        return path;
+    }
+
+    private Path synthesize(String text, String fileName, TtsEngine engine) throws IOException, InterruptedException {
+        Files.createDirectories(tempDirectory);
+        Path temp = tempDirectory.resolve(UUID.randomUUID() + "." + fileName);
+        Path target = directory.resolve(fileName);
+        try {
+            engine.synthesize(text, temp);
+            if (!Files.isRegularFile(temp)) {
+                throw new IOException("TTS 엔진이 음성 파일을 만들지 않았습니다.");
+            }
+            long size = Files.size(temp);
+            publish(temp, target);
+
+            Entry previous = index.put(fileName, new Entry(size, System.currentTimeMillis()));
+            storedBytes.addAndGet(previous == null ? size : size - previous.size);
+            writtenBytes.increment(size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        evictIfNeeded();
+        return target;
+    }
+
+    private static void publish(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 한도를 넘으면 가장 오래 쓰지 않은 파일부터 한도의 90% 아래가 될 때까지 지웁니다.
+     * 합성 중인 파일과 콘텐츠가 가리키는 파일은 건너뜁니다.
+     * 참조 목록을 읽지 못하면 이번에는 지우지 않습니다.
+     */
+    private synchronized void evictIfNeeded() {
+        if (storedBytes.get() <= maxBytes) {
+            return;
+        }
+        Set<String> referenced;
+        try {
+            referenced = references.referencedFileNames();
+        } catch (RuntimeException e) {
+            log.warn("음성 파일 참조 목록 조회 실패로 캐시 정리를 건너뜁니다.", e);
+            return;
+        }
+        long target = maxBytes / 10 * 9;
+        List<Map.Entry<String, Entry>> candidates = new ArrayList<>(index.entrySet());
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+        int evicted = 0;
+        for (Map.Entry<String, Entry> candidate : candidates) {
+            if (storedBytes.get() <= target) {
+                break;
+            }
+            String fileName = candidate.getKey();
+            if (referenced.contains(fileName) || inFlight.containsKey(fileName)
+                || !index.remove(fileName, candidate.getValue())) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(directory.resolve(fileName));
+            } catch (IOException e) {
+                log.warn("음성 캐시 파일 삭제 실패: {}", fileName, e);
+            }
+            storedBytes.addAndGet(-candidate.getValue().size);
+            evictedBytes.increment(candidate.getValue().size);
+            evicted++;
+        }
+        log.info("음성 캐시 용량 초과로 {}개 파일 삭제 (현재 {}바이트, 한도 {}바이트)", evicted, storedBytes.get(), maxBytes);
+    }
+
+    private void rebuildIndex() throws IOException {
+        Files.createDirectories(directory);
+        if (Files.isDirectory(tempDirectory)) {
+            // 지난 실행에서 게시하지 못한 임시 파일
+            try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(tempDirectory)) {
+                for (Path leftover : leftovers) {
+                    Files.deleteIfExists(leftover);
+                }
+            }
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (!CACHED_FILE.matcher(fileName).matches()) {
+                    continue;
+                }
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (attributes.isRegularFile()) {
+                    index.put(fileName, new Entry(attributes.size(), attributes.lastModifiedTime().toMillis()));
+                    storedBytes.addAndGet(attributes.size());
+                }
+            }
+        }
+        log.info("음성 캐시 색인 생성: {}개 파일, {}바이트", index.size(), storedBytes.get());
+        evictIfNeeded();
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("음성 합성 실패", cause);
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("tts.cache.requests")
+            .description("음성 캐시 조회 수 (hit: 저장된 파일 사용, miss: 새로 합성, shared: 진행 중인 합성 결과 공유)")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private static final class Entry {
+
+        private final long size;
+        private volatile long lastAccess;
+
+        private Entry(long size, long lastAccess) {
+            this.size = size;
+            this.lastAccess = lastAccess;
+        }
+
+        /**
+         * 사용 시각을 기록하고, 재시작 후에도 순서를 알 수 있게 파일 수정 시각도 갱신합니다.
+         */
+        private void touch(Path path) {
+            long now = System.currentTimeMillis();
+            lastAccess = now;
+            try {
+                Files.setLastModifiedTime(path, FileTime.fromMillis(now));
+            } catch (IOException e) {
+                log.debug("음성 캐시 파일 시각 갱신 실패: {}", path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai.tts;
+
+import java.util.Set;
+
+/**
+ * 콘텐츠가 URL 로 가리키고 있는 나레이션 음성 파일 목록
+ * <p>
+ * {@link NarrationAudioCache} 는 여기에 든 파일을 용량 한도로 지우지 않습니다.
+ * </p>
+ */
+@FunctionalInterface
+public interface NarrationAudioReferences {
+
+    /**
+     * 아무 파일도 가리키지 않음 (콘텐츠 저장소 없이 캐시만 쓸 때)
+     */
+    NarrationAudioReferences NONE = Set::of;
+
+    /**
+     * 저장된 콘텐츠가 가리키는 음성 파일 이름 ({@code <hash>.<ext>})
+     */
+    Set<String> referencedFileNames();
+}
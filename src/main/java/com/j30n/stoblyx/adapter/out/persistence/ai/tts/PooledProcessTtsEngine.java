@@ -0,0 +1,324 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai.tts;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상주 Python 작업자 프로세스 풀로 음성을 합성하는 엔진
+ * <p>
+ * 작업자는 처음 쓸 때 한 번 시작해 TTS 엔진을 메모리에 올려 두고, 표준 입출력으로 길이 접두 프레임({@link TtsFrames})을
+ * 주고받으며 요청을 하나씩 처리합니다. 요청마다 인터프리터를 띄우고 모델을 다시 읽던 비용이 사라집니다.
+ * </p>
+ * <ul>
+ *     <li>동시에 받는 요청은 작업자 수 + 대기열 크기로 제한하고, 넘치면 기다리지 않고 바로 거절합니다.</li>
+ *     <li>요청마다 시간 제한을 두고, 넘기거나 작업자가 죽으면 그 프로세스를 종료한 뒤 새로 띄웁니다.</li>
+ *     <li>주기적으로 쉬고 있는 작업자에 PING 을 보내 응답하지 않는 프로세스를 교체합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tts.engine", havingValue = "pool", matchIfMissing = true)
+public class PooledProcessTtsEngine implements TtsEngine {
+
+    private final List<String> command;
+    private final File workingDirectory;
+    private final Duration requestTimeout;
+    private final List<Worker> workers = new ArrayList<>();
+    private final BlockingQueue<Worker> idleWorkers;
+    private final Semaphore admission;
+    private final ExecutorService responseReaders;
+    private final ScheduledExecutorService healthChecker;
+    private final AtomicInteger processStarts = new AtomicInteger();
+    private volatile boolean closed;
+
+    @Autowired
+    public PooledProcessTtsEngine(@Value("${tts.worker.command:python tts_worker.py}") String command,
+                                  @Value("${tts.worker.pool-size:2}") int poolSize,
+                                  @Value("${tts.worker.queue-capacity:16}") int queueCapacity,
+                                  @Value("${tts.worker.request-timeout-ms:30000}") long requestTimeoutMillis,
+                                  @Value("${tts.worker.health-check-interval-ms:30000}") long healthCheckIntervalMillis) {
+        this(List.of(command.trim().split("\\s+")), new File(System.getProperty("user.dir")), poolSize, queueCapacity,
+            Duration.ofMillis(requestTimeoutMillis), Duration.ofMillis(healthCheckIntervalMillis));
+    }
+
+    public PooledProcessTtsEngine(List<String> command, File workingDirectory, int poolSize, int queueCapacity,
+                                  Duration requestTimeout, Duration healthCheckInterval) {
+        if (poolSize < 1 || queueCapacity < 0) {
+            throw new IllegalArgumentException("작업자 수는 1 이상, 대기열 크기는 0 이상이어야 합니다.");
+        }
+        this.command = List.copyOf(command);
+        this.workingDirectory = workingDirectory;
+        this.requestTimeout = requestTimeout;
+        this.idleWorkers = new ArrayBlockingQueue<>(poolSize);
+        this.admission = new Semaphore(poolSize + queueCapacity);
+        for (int i = 0; i < poolSize; i++) {
+            Worker worker = new Worker(i);
+            workers.add(worker);
+            idleWorkers.add(worker);
+        }
+
+        CustomizableThreadFactory readerThreads = new CustomizableThreadFactory("tts-worker-io-");
+        readerThreads.setDaemon(true);
+        this.responseReaders = Executors.newCachedThreadPool(readerThreads);
+        CustomizableThreadFactory healthThreads = new CustomizableThreadFactory("tts-worker-health-");
+        healthThreads.setDaemon(true);
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(healthThreads);
+        long intervalMillis = healthCheckInterval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public String fileExtension() {
+        return "mp3";
+    }
+
+    @Override
+    public String voiceKey() {
+        return "pool:" + String.join(" ", command);
+    }
+
+    @Override
+    public void synthesize(String text, Path output) throws IOException, InterruptedException {
+        if (closed) {
+            throw new IOException("TTS 작업자 풀이 종료되었습니다.");
+        }
+        if (!admission.tryAcquire()) {
+            throw new IOException("TTS 대기열이 가득 찼습니다.");
+        }
+        try {
+            Worker worker = idleWorkers.poll(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (worker == null) {
+                throw new IOException("TTS 작업자를 " + requestTimeout.toMillis() + "ms 동안 기다렸지만 비지 않았습니다.");
+            }
+            try {
+                String response = worker.call(TtsFrames.synthesizeRequest(output.toAbsolutePath().toString(), text));
+                if (!TtsFrames.OK.equals(response)) {
+                    throw new IOException("TTS 작업자 오류: " + errorMessage(response));
+                }
+            } finally {
+                release(worker);
+            }
+        } finally {
+            admission.release();
+        }
+    }
+
+    /**
+     * 지금까지 띄운 작업자 프로세스 수 (재시작 포함)
+     */
+    int processStarts() {
+        return processStarts.get();
+    }
+
+    /**
+     * 쉬고 있는 작업자에 PING 을 보내 죽었거나 응답하지 않는 프로세스를 교체합니다.
+     * 한 번도 쓰지 않은 작업자는 건드리지 않고, 요청 처리 중 종료된 작업자는 여기서 미리 다시 띄웁니다.
+     */
+    void checkHealth() {
+        for (int i = 0; i < workers.size() && !closed; i++) {
+            Worker worker = idleWorkers.poll();
+            if (worker == null) {
+                return;
+            }
+            try {
+                if (worker.needsCheck()) {
+                    String response = worker.call(TtsFrames.PING);
+                    if (!TtsFrames.PONG.equals(response)) {
+                        log.warn("TTS 작업자 #{} 상태 확인 응답이 올바르지 않아 다시 시작합니다: {}", worker.index, response);
+                        worker.stop();
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("TTS 작업자 #{} 상태 확인 실패: {}", worker.index, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                idleWorkers.offer(worker);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        healthChecker.shutdownNow();
+        workers.forEach(Worker::stop);
+        responseReaders.shutdownNow();
+    }
+
+    private void release(Worker worker) {
+        idleWorkers.offer(worker);
+        if (worker.wasStopped() && !closed) {
+            // 다음 요청이 프로세스 시작을 기다리지 않도록 바로 다시 띄움
+            try {
+                healthChecker.execute(this::checkHealth);
+            } catch (RejectedExecutionException e) {
+                log.debug("TTS 작업자 풀 종료 중이라 재시작을 건너뜁니다.");
+            }
+        }
+    }
+
+    private static String errorMessage(String response) {
+        if (response != null && response.startsWith(TtsFrames.ERROR_PREFIX)) {
+            return response.substring(TtsFrames.ERROR_PREFIX.length());
+        }
+        return "알 수 없는 응답 " + response;
+    }
+
+    /**
+     * 작업자 프로세스 하나
+     * 유휴 대기열에서 꺼낸 스레드 하나만 {@link #call(String)} 을 호출합니다.
+     */
+    private final class Worker {
+
+        private final int index;
+        private Process process;
+        private OutputStream stdin;
+        private InputStream stdout;
+        private boolean stopped;
+
+        private Worker(int index) {
+            this.index = index;
+        }
+
+        String call(String request) throws IOException, InterruptedException {
+            OutputStream out;
+            InputStream in;
+            synchronized (this) {
+                ensureStarted();
+                out = stdin;
+                in = stdout;
+            }
+            Future<String> response;
+            try {
+                TtsFrames.write(out, request);
+                response = responseReaders.submit(() -> TtsFrames.read(in));
+            } catch (IOException e) {
+                stop();
+                throw new IOException("TTS 작업자 #" + index + " 에 요청을 보내지 못했습니다.", e);
+            }
+
+            try {
+                String value = response.get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                if (value == null) {
+                    stop();
+                    throw new IOException("TTS 작업자 #" + index + " 가 응답 없이 종료되었습니다.");
+                }
+                return value;
+            } catch (TimeoutException e) {
+                log.warn("TTS 작업자 #{} 가 {}ms 안에 응답하지 않아 종료합니다.", index, requestTimeout.toMillis());
+                kill();
+                throw new IOException("TTS 요청 시간 초과 (" + requestTimeout.toMillis() + "ms)");
+            } catch (ExecutionException e) {
+                stop();
+                throw new IOException("TTS 작업자 #" + index + " 응답을 읽지 못했습니다.", e.getCause());
+            } catch (InterruptedException e) {
+                // 응답 도중의 프로세스는 다음 요청에 쓸 수 없음
+                kill();
+                throw e;
+            } finally {
+                response.cancel(true);
+            }
+        }
+
+        synchronized boolean needsCheck() {
+            return process != null || stopped;
+        }
+
+        synchronized boolean wasStopped() {
+            return stopped;
+        }
+
+        private void ensureStarted() throws IOException {
+            if (closed) {
+                throw new IOException("TTS 작업자 풀이 종료되었습니다.");
+            }
+            if (process != null && process.isAlive()) {
+                return;
+            }
+            if (process != null) {
+                log.warn("TTS 작업자 #{} 종료 감지 (exit={}), 다시 시작합니다.", index, process.exitValue());
+                stop();
+            }
+            ProcessBuilder pb = new ProcessBuilder(command)
+                .directory(workingDirectory)
+                .redirectError(ProcessBuilder.Redirect.INHERIT);
+            process = pb.start();
+            stdin = new BufferedOutputStream(process.getOutputStream());
+            stdout = new BufferedInputStream(process.getInputStream());
+            stopped = false;
+            processStarts.incrementAndGet();
+            log.info("TTS 작업자 #{} 시작: pid={}", index, process.pid());
+        }
+
+        /**
+         * 표준 입력을 닫아 작업자가 스스로 끝나게 하고, 잠시 기다려도 끝나지 않으면 강제 종료합니다.
+         */
+        synchronized void stop() {
+            if (process == null) {
+                return;
+            }
+            try {
+                stdin.close();
+            } catch (IOException ignored) {
+                // 이미 끊어진 파이프
+            }
+            try {
+                if (!process.waitFor(200, TimeUnit.MILLISECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+            clear();
+        }
+
+        /**
+         * 응답하지 않는 작업자를 기다리지 않고 강제 종료합니다.
+         */
+        synchronized void kill() {
+            if (process == null) {
+                return;
+            }
+            process.destroyForcibly();
+            clear();
+        }
+
+        private void clear() {
+            process = null;
+            stdin = null;
+            stdout = null;
+            stopped = true;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai.tts;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 Python TTS 스크립트를 새 프로세스로 실행하는 엔진
+ * 요청마다 인터프리터 시작과 모델 로딩 비용을 치르므로 작업자 풀을 쓸 수 없는 환경이나 비교용으로만 사용합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tts.engine", havingValue = "spawn")
+public class ProcessSpawnTtsEngine implements TtsEngine {
+
+    private final List<String> command;
+    private final long timeoutMillis;
+
+    public ProcessSpawnTtsEngine(@Value("${tts.spawn.command:python test_stt.py}") String command,
+                                 @Value("${tts.spawn.timeout-ms:60000}") long timeoutMillis) {
+        this(List.of(command.trim().split("\\s+")), timeoutMillis);
+    }
+
+    public ProcessSpawnTtsEngine(List<String> command, long timeoutMillis) {
+        this.command = List.copyOf(command);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public String fileExtension() {
+        return "mp3";
+    }
+
+    @Override
+    public String voiceKey() {
+        return "spawn:" + String.join(" ", command);
+    }
+
+    @Override
+    public void synthesize(String text, Path output) throws IOException, InterruptedException {
+        List<String> arguments = new ArrayList<>(command);
+        arguments.add(text);
+        arguments.add(output.toAbsolutePath().toString());
+
+        ProcessBuilder pb = new ProcessBuilder(arguments);
+        // 현재 작업 디렉토리 설정
+        pb.directory(new File(System.getProperty("user.dir")));
+        pb.redirectErrorStream(true);
+
+        log.info("Python TTS 스크립트 실행: {}", pb.command());
+        Process process = pb.start();
+        // 출력은 별도 스레드에서 읽어야 스크립트가 멈춰도 아래 시간 제한이 걸림
+        Thread outputReader = new Thread(() -> logOutput(process), "tts-spawn-output");
+        outputReader.setDaemon(true);
+        outputReader.start();
+        try {
+            if (!process.waitFor(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IOException("TTS 스크립트가 " + timeoutMillis + "ms 안에 끝나지 않았습니다.");
+            }
+            if (process.exitValue() != 0) {
+                throw new IOException("TTS 생성 실패: 종료 코드 " + process.exitValue());
+            }
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+
+    /**
+     * 프로세스가 끝나거나 강제 종료되어 출력이 닫힐 때까지 한 줄씩 로그로 남깁니다.
+     */
+    private static void logOutput(Process process) {
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                log.info("Python TTS 출력: {}", line);
+            }
+        } catch (IOException e) {
+            log.debug("Python TTS 출력 읽기 종료: {}", e.getMessage());
+        }
+    }
+}
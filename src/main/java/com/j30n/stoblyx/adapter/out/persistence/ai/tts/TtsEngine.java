@@ -0,0 +1,36 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai.tts;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 텍스트를 음성 파일로 합성하는 엔진
+ * <p>
+ * {@code tts.engine} 설정으로 구현을 고릅니다.
+ * {@code pool}(기본): 상주 Python 작업자 풀, {@code spawn}: 요청마다 Python 프로세스 실행,
+ * {@code freetts}: Python 없이 JVM 안에서 FreeTTS 로 합성
+ * </p>
+ */
+public interface TtsEngine {
+
+    /**
+     * 합성한 음성 파일의 확장자 (점 제외)
+     */
+    String fileExtension();
+
+    /**
+     * 합성 결과를 바꾸는 엔진과 음성 설정을 나타내는 문자열
+     * 같은 텍스트라도 이 값이 다르면 음성 캐시에서 다른 파일로 취급합니다.
+     */
+    String voiceKey();
+
+    /**
+     * 텍스트를 음성으로 합성해 파일로 저장합니다.
+     *
+     * @param text   합성할 텍스트
+     * @param output 저장할 파일 경로
+     * @throws IOException          합성 실패, 시간 초과, 대기열 초과
+     * @throws InterruptedException 기다리는 중 인터럽트된 경우
+     */
+    void synthesize(String text, Path output) throws IOException, InterruptedException;
+}
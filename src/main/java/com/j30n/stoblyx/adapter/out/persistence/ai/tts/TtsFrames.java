@@ -0,0 +1,66 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai.tts;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * TTS 작업자 프로세스와 주고받는 길이 접두 프레임
+ * <p>
+ * 프레임은 4바이트 빅엔디언 길이와 UTF-8 본문으로 이루어집니다. 요청 본문은 {@code PING} 또는
+ * {@code SYNTH<탭>출력 경로<탭>텍스트}, 응답 본문은 {@code PONG}, {@code OK}, {@code ERR<탭>사유} 입니다.
+ * 텍스트에 줄바꿈이나 탭이 있어도 길이로 경계를 나누므로 그대로 보낼 수 있습니다.
+ * </p>
+ */
+final class TtsFrames {
+
+    static final String PING = "PING";
+    static final String PONG = "PONG";
+    static final String OK = "OK";
+    static final String ERROR_PREFIX = "ERR\t";
+
+    private static final int MAX_FRAME_BYTES = 1 << 20;
+
+    private TtsFrames() {
+    }
+
+    static String synthesizeRequest(String outputPath, String text) {
+        return "SYNTH\t" + outputPath + "\t" + text;
+    }
+
+    static void write(OutputStream out, String payload) throws IOException {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_FRAME_BYTES) {
+            throw new IOException("TTS 요청이 너무 깁니다: " + bytes.length + "바이트");
+        }
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+        data.flush();
+    }
+
+    /**
+     * 프레임 하나를 읽습니다.
+     *
+     * @return 본문, 프레임을 시작하기 전에 스트림이 끝났으면 null
+     */
+    static String read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        int length;
+        try {
+            length = data.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        if (length < 0 || length > MAX_FRAME_BYTES) {
+            throw new IOException("잘못된 TTS 응답 길이: " + length);
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
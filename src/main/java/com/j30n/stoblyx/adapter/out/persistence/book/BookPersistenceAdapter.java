@@ -5,12 +5,17 @@ import com.j30n.stoblyx.domain.model.Book;
 import com.j30n.stoblyx.domain.repository.BookRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 책 영속성 어댑터
@@ -39,12 +44,9 @@ public class BookPersistenceAdapter implements BookPort {
 
     @Override
     public Page<Book> findAll(Pageable pageable) {
-        List<Book> books = bookRepository.findAllWithGenres();
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), books.size());
-        
-        List<Book> pageContent = start < end ? books.subList(start, end) : new ArrayList<>();
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, books.size());
+        // ID 페이지를 먼저 구하고 해당 도서만 장르와 함께 조회해 전체 도서를 메모리에 올리지 않음
+        Page<Long> bookIds = bookRepository.findIdsByIsDeletedFalse(pageable);
+        return new PageImpl<>(findAllByIds(bookIds.getContent()), pageable, bookIds.getTotalElements());
     }
 
     @Override
@@ -103,6 +105,19 @@ public class BookPersistenceAdapter implements BookPort {
         return bookRepository.findAllWithGenres();
     }
 
+    @Override
+    public List<Book> findAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Book> booksById = bookRepository.findAllWithGenresByIdIn(ids).stream()
+            .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return ids.stream()
+            .map(booksById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
     /**
      * 디버깅 및 테스트 목적으로 BookRepository 객체에 접근할 수 있는 메서드
      * @return BookRepository 객체
@@ -0,0 +1,64 @@
+package com.j30n.stoblyx.adapter.out.persistence.content;
+
+import com.j30n.stoblyx.application.port.out.content.ContentCounterPort;
+import com.j30n.stoblyx.domain.enums.ContentCounterType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 콘텐츠 조회수/공유수 일괄 반영용 JDBC 어댑터
+ * 엔티티를 읽지 않고 콘텐츠당 원자적 증분 UPDATE 한 번으로 반영합니다.
+ */
+@Component
+public class ContentCounterJdbcAdapter implements ContentCounterPort {
+
+    private static final String ADD_VIEW_COUNT_SQL =
+        "UPDATE SHORT_FORM_CONTENTS SET viewCount = viewCount + ? WHERE id = ?";
+
+    private static final String ADD_SHARE_COUNT_SQL =
+        "UPDATE SHORT_FORM_CONTENTS SET shareCount = shareCount + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public ContentCounterJdbcAdapter(JdbcTemplate jdbcTemplate,
+                                     @Value("${content.counter.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public int addCounts(ContentCounterType type, Map<Long, Long> deltasByContent) {
+        if (deltasByContent.isEmpty()) {
+            return 0;
+        }
+        String sql = switch (type) {
+            case VIEW -> ADD_VIEW_COUNT_SQL;
+            case SHARE -> ADD_SHARE_COUNT_SQL;
+        };
+        // 여러 인스턴스가 동시에 반영해도 같은 순서로 행 잠금을 잡도록 ID 순으로 정렬
+        List<Map.Entry<Long, Long>> deltas = new ArrayList<>(new TreeMap<>(deltasByContent).entrySet());
+        int[][] results = jdbcTemplate.batchUpdate(sql, deltas, batchSize, (statement, delta) -> {
+            statement.setLong(1, delta.getValue());
+            statement.setLong(2, delta.getKey());
+        });
+        int updated = 0;
+        for (int[] batch : results) {
+            for (int rows : batch) {
+                // 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO) 갱신된 것으로 간주
+                if (rows != 0) {
+                    updated++;
+                }
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,97 @@
+package com.j30n.stoblyx.adapter.out.persistence.content;
+
+import com.j30n.stoblyx.application.port.out.content.ContentCounterBufferPort;
+import com.j30n.stoblyx.domain.enums.ContentCounterType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로세스 메모리 기반 콘텐츠 카운터 버퍼 (Redis 를 사용하지 않을 때)
+ * <p>
+ * 콘텐츠마다 {@link LongAdder} 하나를 두어 같은 콘텐츠에 몰리는 조회도 셀 단위로 분산해 더합니다.
+ * 꺼낼 때는 셀을 원자적으로 0으로 바꾸며 합산하므로 동시에 들어온 증분은 이번이나 다음 번 중 한 번만 꺼내집니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.enabled", havingValue = "false", matchIfMissing = true)
+public class ContentCounterMemoryBufferAdapter implements ContentCounterBufferPort {
+
+    private final Map<ContentCounterType, ConcurrentHashMap<Long, LongAdder>> counters =
+        new EnumMap<>(ContentCounterType.class);
+
+    public ContentCounterMemoryBufferAdapter() {
+        for (ContentCounterType type : ContentCounterType.values()) {
+            counters.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void increment(ContentCounterType type, Long contentId, long delta) {
+        ConcurrentHashMap<Long, LongAdder> byContent = counters.get(type);
+        LongAdder adder = byContent.computeIfAbsent(contentId, id -> new LongAdder());
+        adder.add(delta);
+        // 더하는 사이에 drain 이 빈 카운터를 치웠다면 방금 더한 값을 새 카운터로 옮김
+        if (byContent.get(contentId) != adder) {
+            long orphaned = adder.sumThenReset();
+            if (orphaned != 0) {
+                increment(type, contentId, orphaned);
+            }
+        }
+    }
+
+    @Override
+    public long pending(ContentCounterType type, Long contentId) {
+        LongAdder adder = counters.get(type).get(contentId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Override
+    public Map<Long, Long> drain(ContentCounterType type) {
+        ConcurrentHashMap<Long, LongAdder> byContent = counters.get(type);
+        Map<Long, Long> drained = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : byContent.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            // 지난 플러시 이후 증분이 없던 카운터는 치워서 맵이 계속 커지지 않게 함
+            if (delta == 0 && byContent.remove(entry.getKey(), entry.getValue())) {
+                delta = entry.getValue().sumThenReset();
+            }
+            if (delta != 0) {
+                drained.merge(entry.getKey(), delta, Long::sum);
+            }
+        }
+        return drained;
+    }
+
+    @Override
+    public void complete(ContentCounterType type) {
+        // 꺼낼 때 이미 비웠으므로 할 일이 없음
+    }
+
+    @Override
+    public void abort(ContentCounterType type, Map<Long, Long> drained) {
+        drained.forEach((contentId, delta) -> increment(type, contentId, delta));
+    }
+
+    @Override
+    public Map<Long, Long> snapshot(ContentCounterType type) {
+        Map<Long, Long> snapshot = new HashMap<>();
+        counters.get(type).forEach((contentId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                snapshot.put(contentId, delta);
+            }
+        });
+        return snapshot;
+    }
+
+    @Override
+    public boolean isDurable() {
+        return false;
+    }
+}
@@ -0,0 +1,112 @@
+package com.j30n.stoblyx.adapter.out.persistence.content;
+
+import com.j30n.stoblyx.application.port.out.content.ContentCounterBufferPort;
+import com.j30n.stoblyx.domain.enums.ContentCounterType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Redis 해시 기반 콘텐츠 카운터 버퍼
+ * <p>
+ * 증분은 HINCRBY 로 카운터 종류별 해시에 더하므로 여러 인스턴스가 같은 버퍼를 공유하고 재시작해도 남습니다.
+ * 꺼낼 때는 잠금 키를 잡고 해시를 처리 중 키로 RENAME 해 새 증분과 분리합니다. 처리 중 키는 DB 반영이 끝난 뒤에
+ * 지우므로, 반영 전에 실패하거나 프로세스가 죽으면 다음 drain 이 같은 증분을 다시 꺼냅니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.enabled", havingValue = "true")
+public class ContentCounterRedisBufferAdapter implements ContentCounterBufferPort {
+
+    private static final String KEY_PREFIX = "content:counter:";
+    private static final String DRAINING_SUFFIX = ":draining";
+    private static final String LOCK_SUFFIX = ":lock";
+    // 잠금을 잡은 인스턴스가 죽어도 이 시간이 지나면 다른 인스턴스가 이어받음
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public ContentCounterRedisBufferAdapter(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void increment(ContentCounterType type, Long contentId, long delta) {
+        hashOperations().increment(key(type), contentId.toString(), delta);
+    }
+
+    @Override
+    public long pending(ContentCounterType type, Long contentId) {
+        String value = hashOperations().get(key(type), contentId.toString());
+        return value != null ? Long.parseLong(value) : 0;
+    }
+
+    @Override
+    public Map<Long, Long> drain(ContentCounterType type) {
+        String key = key(type);
+        String drainingKey = key + DRAINING_SUFFIX;
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key + LOCK_SUFFIX, "1", LOCK_TIMEOUT))) {
+            return Map.of();
+        }
+        // 처리 중 키가 남아 있으면 지난 플러시가 반영하지 못한 증분이므로 그것부터 꺼냄
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(drainingKey))) {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                redisTemplate.delete(key + LOCK_SUFFIX);
+                return Map.of();
+            }
+            redisTemplate.rename(key, drainingKey);
+        }
+        Map<Long, Long> drained = toDeltas(hashOperations().entries(drainingKey));
+        if (drained.isEmpty()) {
+            complete(type);
+        }
+        return drained;
+    }
+
+    @Override
+    public void complete(ContentCounterType type) {
+        redisTemplate.delete(key(type) + DRAINING_SUFFIX);
+        redisTemplate.delete(key(type) + LOCK_SUFFIX);
+    }
+
+    @Override
+    public void abort(ContentCounterType type, Map<Long, Long> drained) {
+        // 처리 중 키를 남겨 두면 다음 drain 이 다시 꺼냄
+        redisTemplate.delete(key(type) + LOCK_SUFFIX);
+    }
+
+    @Override
+    public Map<Long, Long> snapshot(ContentCounterType type) {
+        return toDeltas(hashOperations().entries(key(type)));
+    }
+
+    @Override
+    public boolean isDurable() {
+        return true;
+    }
+
+    private HashOperations<String, String, String> hashOperations() {
+        return redisTemplate.opsForHash();
+    }
+
+    private static String key(ContentCounterType type) {
+        return KEY_PREFIX + type.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<Long, Long> toDeltas(Map<String, String> entries) {
+        Map<Long, Long> deltas = new HashMap<>();
+        entries.forEach((contentId, value) -> {
+            long delta = Long.parseLong(value);
+            if (delta != 0) {
+                deltas.put(Long.parseLong(contentId), delta);
+            }
+        });
+        return deltas;
+    }
+}
@@ -0,0 +1,140 @@
+package com.j30n.stoblyx.adapter.out.persistence.content;
+
+import com.j30n.stoblyx.application.port.out.content.ContentGenerationJobPort;
+import com.j30n.stoblyx.domain.enums.GenerationJobStatus;
+import com.j30n.stoblyx.domain.model.ContentGenerationJob;
+import com.j30n.stoblyx.domain.repository.ContentGenerationJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 콘텐츠 생성 작업 큐 영속성 어댑터
+ * <p>
+ * SKIP LOCKED 를 지원하는 DB(MySQL 8, MariaDB, PostgreSQL)에서는 {@code SELECT ... FOR UPDATE SKIP LOCKED}로
+ * 다른 작업자가 잠근 행을 건너뛰며 작업을 고르고, 그 밖의 DB(H2 등)에서는 잠금 없이 고른 뒤
+ * {@code status = 'PENDING'} 조건의 UPDATE 로 선점합니다. 어느 쪽이든 이번 선점에서 만든 임대 토큰으로
+ * 작업을 다시 읽으므로 실제로 선점한 작업만 돌려줍니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ContentGenerationJobPersistenceAdapter implements ContentGenerationJobPort {
+
+    private static final String LEASE_EXPIRED_MSG = "작업 임대가 만료되어 다시 대기열에 넣었습니다.";
+
+    private final ContentGenerationJobRepository jobRepository;
+    private final DataSource dataSource;
+    private volatile Boolean skipLocked;
+
+    public ContentGenerationJobPersistenceAdapter(ContentGenerationJobRepository jobRepository, DataSource dataSource) {
+        this.jobRepository = jobRepository;
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Optional<ContentGenerationJob> findByIdempotencyKey(String idempotencyKey) {
+        return jobRepository.findByIdempotencyKey(idempotencyKey);
+    }
+
+    @Override
+    public ContentGenerationJob save(ContentGenerationJob job) {
+        return jobRepository.save(job);
+    }
+
+    @Override
+    @Transactional
+    public List<ContentGenerationJob> claim(int limit, LocalDateTime now, LocalDateTime leaseExpiresAt) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<Long> ids = supportsSkipLocked()
+            ? jobRepository.lockClaimableIds(now, limit)
+            : jobRepository.findClaimableIds(now, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String leaseToken = UUID.randomUUID().toString();
+        int claimed = jobRepository.markClaimed(ids, leaseToken, leaseExpiresAt, now,
+            GenerationJobStatus.PENDING, GenerationJobStatus.RUNNING);
+        return claimed == 0 ? List.of() : jobRepository.findByLeaseToken(leaseToken);
+    }
+
+    @Override
+    @Transactional
+    public boolean complete(Long jobId, String leaseToken, LocalDateTime now) {
+        return jobRepository.finish(jobId, leaseToken, GenerationJobStatus.COMPLETED, null, now,
+            GenerationJobStatus.RUNNING) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean reschedule(Long jobId, String leaseToken, LocalDateTime availableAt, String error,
+                              LocalDateTime now) {
+        return jobRepository.reschedule(jobId, leaseToken, availableAt, error, now,
+            GenerationJobStatus.PENDING, GenerationJobStatus.RUNNING) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean giveUp(Long jobId, String leaseToken, String error, LocalDateTime now) {
+        return jobRepository.finish(jobId, leaseToken, GenerationJobStatus.DEAD, error, now,
+            GenerationJobStatus.RUNNING) == 1;
+    }
+
+    @Override
+    @Transactional
+    public int releaseExpiredLeases(LocalDateTime now) {
+        return jobRepository.releaseExpiredLeases(now, LEASE_EXPIRED_MSG,
+            GenerationJobStatus.PENDING, GenerationJobStatus.RUNNING);
+    }
+
+    @Override
+    public Map<GenerationJobStatus, Long> countByStatus() {
+        Map<GenerationJobStatus, Long> counts = new EnumMap<>(GenerationJobStatus.class);
+        for (GenerationJobStatus status : GenerationJobStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (Object[] row : jobRepository.countGroupByStatus()) {
+            counts.put((GenerationJobStatus) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public long countFinishedSince(GenerationJobStatus status, LocalDateTime since) {
+        return jobRepository.countByStatusAndFinishedAtGreaterThanEqual(status, since);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestAvailableAt(LocalDateTime now) {
+        return jobRepository.findOldestAvailableAt(now, GenerationJobStatus.PENDING);
+    }
+
+    private boolean supportsSkipLocked() {
+        Boolean supported = skipLocked;
+        if (supported == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                String product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+                supported = product.contains("mysql") || product.contains("mariadb") || product.contains("postgresql");
+                log.info("콘텐츠 생성 작업 선점 방식: {} ({})", supported ? "SKIP LOCKED" : "조건부 UPDATE", product);
+            } catch (SQLException e) {
+                log.warn("DB 종류를 확인하지 못해 조건부 UPDATE 로 작업을 선점합니다: {}", e.getMessage());
+                supported = false;
+            }
+            skipLocked = supported;
+        }
+        return supported;
+    }
+}
@@ -3,10 +3,12 @@ package com.j30n.stoblyx.adapter.out.persistence.content;
 import com.j30n.stoblyx.application.port.out.content.ContentPort;
 import com.j30n.stoblyx.domain.enums.ContentStatus;
 import com.j30n.stoblyx.domain.model.ContentInteraction;
+import com.j30n.stoblyx.domain.model.MediaResourceSummary;
 import com.j30n.stoblyx.domain.model.ShortFormContent;
 import com.j30n.stoblyx.domain.model.User;
 import com.j30n.stoblyx.domain.repository.ContentInteractionRepository;
 import com.j30n.stoblyx.domain.repository.ContentLikeRepository;
+import com.j30n.stoblyx.domain.repository.MediaResourceRepository;
 import com.j30n.stoblyx.domain.repository.ShortFormContentRepository;
 import com.j30n.stoblyx.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +16,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -24,6 +28,7 @@ public class ContentPersistenceAdapter implements ContentPort {
     private final ContentLikeRepository contentLikeRepository;
     private final ContentInteractionRepository contentInteractionRepository;
     private final UserRepository userRepository;
+    private final MediaResourceRepository mediaResourceRepository;
 
     @Override
     public ShortFormContent save(ShortFormContent content) {
@@ -56,6 +61,36 @@ public class ContentPersistenceAdapter implements ContentPort {
         return contentRepository.findByBook_IdAndIsDeletedFalse(bookId, pageable);
     }
 
+    @Override
+    public Page<ShortFormContent> findByBookIds(Collection<Long> bookIds, Pageable pageable) {
+        if (bookIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return contentRepository.findByBook_IdInAndIsDeletedFalse(bookIds, pageable);
+    }
+
+    @Override
+    public List<ShortFormContent> findAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, ShortFormContent> contentsById = contentRepository.findByIdInAndIsDeletedFalse(ids).stream()
+            .collect(Collectors.toMap(ShortFormContent::getId, Function.identity()));
+        return ids.stream()
+            .map(contentsById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<Long, List<MediaResourceSummary>> findMediaByContentIds(Collection<Long> contentIds) {
+        if (contentIds.isEmpty()) {
+            return Map.of();
+        }
+        return mediaResourceRepository.findSummariesByContentIdIn(contentIds).stream()
+            .collect(Collectors.groupingBy(MediaResourceSummary::contentId));
+    }
+
     @Override
     public Page<ShortFormContent> search(String keyword, Pageable pageable) {
         return contentRepository.findBySubtitlesContainingAndIsDeletedFalse(keyword, pageable);
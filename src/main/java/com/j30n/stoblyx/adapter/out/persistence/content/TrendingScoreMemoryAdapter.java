@@ -0,0 +1,152 @@
+package com.j30n.stoblyx.adapter.out.persistence.content;
+
+import com.j30n.stoblyx.application.port.out.content.TrendingScorePort;
+import com.j30n.stoblyx.domain.model.TrendingDecay;
+import com.j30n.stoblyx.domain.model.TrendingEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로세스 메모리 기반 트렌딩 점수 저장소 (Redis 를 사용하지 않을 때)
+ * <p>
+ * 콘텐츠별 점수 맵과 (점수 내림차순, ID 내림차순) 스킵 리스트를 함께 둡니다. 점수를 더할 때는 맵의 compute 안에서
+ * 스킵 리스트의 이전 항목을 새 항목으로 바꾸므로 같은 콘텐츠의 갱신은 순서대로 반영되고, 다른 콘텐츠는 동시에
+ * 갱신됩니다. 반감기를 바꿀 때만 쓰기 잠금으로 갱신을 잠시 막고 전체 점수를 옮깁니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.enabled", havingValue = "false", matchIfMissing = true)
+public class TrendingScoreMemoryAdapter implements TrendingScorePort {
+
+    private static final Comparator<TrendingEntry> RANKING = Comparator
+        .comparingDouble(TrendingEntry::score).reversed()
+        .thenComparing(TrendingEntry::contentId, Comparator.reverseOrder());
+
+    private final ConcurrentHashMap<Long, Double> scores = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<TrendingEntry> ranking = new ConcurrentSkipListSet<>(RANKING);
+    private final ReadWriteLock rescaleLock = new ReentrantReadWriteLock();
+    private final int maxItems;
+    private volatile Duration halfLife;
+
+    public TrendingScoreMemoryAdapter(@Value("${trending.max-items:10000}") int maxItems) {
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public void record(Long contentId, double weight, Instant at, Duration initialHalfLife) {
+        rescaleLock.readLock().lock();
+        try {
+            if (halfLife == null) {
+                synchronized (this) {
+                    if (halfLife == null) {
+                        halfLife = initialHalfLife;
+                    }
+                }
+            }
+            double added = TrendingDecay.score(weight, at, halfLife);
+            scores.compute(contentId, (id, previous) -> {
+                double updated = added;
+                if (previous != null) {
+                    ranking.remove(new TrendingEntry(id, previous));
+                    updated = TrendingDecay.combine(previous, added);
+                }
+                ranking.add(new TrendingEntry(id, updated));
+                return updated;
+            });
+        } finally {
+            rescaleLock.readLock().unlock();
+        }
+        trim();
+    }
+
+    @Override
+    public boolean applyHalfLife(Duration newHalfLife, Instant at) {
+        rescaleLock.writeLock().lock();
+        try {
+            if (halfLife == null) {
+                halfLife = newHalfLife;
+                return false;
+            }
+            if (halfLife.equals(newHalfLife)) {
+                return false;
+            }
+            double shift = TrendingDecay.rescaleShift(halfLife, newHalfLife, at);
+            List<TrendingEntry> shifted = new ArrayList<>(ranking.size());
+            for (TrendingEntry entry : ranking) {
+                shifted.add(new TrendingEntry(entry.contentId(), entry.score() + shift));
+            }
+            ranking.clear();
+            scores.clear();
+            for (TrendingEntry entry : shifted) {
+                ranking.add(entry);
+                scores.put(entry.contentId(), entry.score());
+            }
+            halfLife = newHalfLife;
+            return true;
+        } finally {
+            rescaleLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<TrendingEntry> findAfter(TrendingEntry after, int limit) {
+        NavigableSet<TrendingEntry> view = after == null ? ranking : ranking.tailSet(after, false);
+        return take(view.iterator(), limit);
+    }
+
+    @Override
+    public List<TrendingEntry> findRange(long offset, int limit) {
+        Iterator<TrendingEntry> iterator = ranking.iterator();
+        for (long skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        return take(iterator, limit);
+    }
+
+    @Override
+    public long count() {
+        return scores.size();
+    }
+
+    @Override
+    public void remove(Long contentId) {
+        scores.computeIfPresent(contentId, (id, score) -> {
+            ranking.remove(new TrendingEntry(id, score));
+            return null;
+        });
+    }
+
+    /**
+     * 보관 한도를 넘은 만큼 가장 낮은 점수부터 버립니다. 버리는 사이 점수가 바뀐 항목은 새 점수로 남습니다.
+     */
+    private void trim() {
+        while (scores.size() > maxItems) {
+            TrendingEntry lowest = ranking.pollLast();
+            if (lowest == null) {
+                return;
+            }
+            scores.remove(lowest.contentId(), lowest.score());
+        }
+    }
+
+    private static List<TrendingEntry> take(Iterator<TrendingEntry> iterator, int limit) {
+        List<TrendingEntry> entries = new ArrayList<>(Math.max(0, limit));
+        while (entries.size() < limit && iterator.hasNext()) {
+            entries.add(iterator.next());
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,179 @@
+package com.j30n.stoblyx.adapter.out.persistence.content;
+
+import com.j30n.stoblyx.application.port.out.content.TrendingScorePort;
+import com.j30n.stoblyx.domain.model.TrendingDecay;
+import com.j30n.stoblyx.domain.model.TrendingEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 정렬 집합 기반 트렌딩 점수 저장소
+ * <p>
+ * 점수는 {@code trending:content} 정렬 집합에, 점수의 척도가 되는 반감기(밀리초)는 {@code trending:content:half-life}에
+ * 둡니다. 점수 더하기와 반감기 변경은 Lua 스크립트로 원자적으로 처리하므로 여러 인스턴스가 같은 순위를 공유합니다.
+ * 점수가 같은 항목은 Redis 정렬 규칙대로 멤버 문자열 역순으로 이어지며, 커서 조회도 같은 규칙으로 다음 항목을 찾습니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.enabled", havingValue = "true")
+public class TrendingScoreRedisAdapter implements TrendingScorePort {
+
+    private static final String KEY = "trending:content";
+    private static final String HALF_LIFE_KEY = KEY + ":half-life";
+
+    // 로그 영역에서 점수를 더하고 보관 한도를 넘은 하위 항목을 버림 (점수는 정밀도를 잃지 않도록 문자열로 씀)
+    private static final RedisScript<Long> RECORD = new DefaultRedisScript<>("""
+        local halfLife = redis.call('GET', KEYS[2])
+        if not halfLife then
+          halfLife = ARGV[4]
+          redis.call('SET', KEYS[2], halfLife)
+        end
+        local score = tonumber(ARGV[2]) + tonumber(ARGV[3]) / tonumber(halfLife)
+        local current = redis.call('ZSCORE', KEYS[1], ARGV[1])
+        if current then
+          current = tonumber(current)
+          local high = math.max(current, score)
+          local low = math.min(current, score)
+          score = high + math.log(1 + 2 ^ (low - high)) / math.log(2)
+        end
+        redis.call('ZADD', KEYS[1], string.format('%.17g', score), ARGV[1])
+        local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[5])
+        if overflow > 0 then
+          redis.call('ZREMRANGEBYRANK', KEYS[1], 0, overflow - 1)
+        end
+        return 1
+        """, Long.class);
+
+    // 반감기가 바뀌었으면 모든 점수를 같은 만큼 옮겨 새 척도로 맞춤
+    private static final RedisScript<Long> APPLY_HALF_LIFE = new DefaultRedisScript<>("""
+        local halfLife = redis.call('GET', KEYS[2])
+        if halfLife == ARGV[1] then
+          return 0
+        end
+        redis.call('SET', KEYS[2], ARGV[1])
+        if not halfLife then
+          return 0
+        end
+        local at = tonumber(ARGV[2])
+        local shift = at / tonumber(ARGV[1]) - at / tonumber(halfLife)
+        local entries = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES')
+        for i = 1, #entries, 2 do
+          redis.call('ZADD', KEYS[1], string.format('%.17g', tonumber(entries[i + 1]) + shift), entries[i])
+        end
+        return 1
+        """, Long.class);
+
+    // (점수, 멤버) 커서 다음 항목을 읽음. 커서와 점수가 같은 항목은 멤버 문자열이 더 작은 것만 이어서 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FIND_AFTER = new DefaultRedisScript<>("""
+        local maxScore = tonumber(ARGV[1])
+        local limit = tonumber(ARGV[3])
+        local result = {}
+        local offset = 0
+        while true do
+          local batch = redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[1], '-inf', 'WITHSCORES', 'LIMIT', offset, limit)
+          if #batch == 0 then
+            return result
+          end
+          for i = 1, #batch, 2 do
+            if tonumber(batch[i + 1]) < maxScore or batch[i] < ARGV[2] then
+              result[#result + 1] = batch[i]
+              result[#result + 1] = batch[i + 1]
+              if #result >= limit * 2 then
+                return result
+              end
+            end
+          end
+          offset = offset + limit
+        end
+        """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int maxItems;
+
+    public TrendingScoreRedisAdapter(RedisTemplate<String, String> redisTemplate,
+                                     @Value("${trending.max-items:10000}") int maxItems) {
+        this.redisTemplate = redisTemplate;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public void record(Long contentId, double weight, Instant at, Duration initialHalfLife) {
+        redisTemplate.execute(RECORD, List.of(KEY, HALF_LIFE_KEY),
+            contentId.toString(),
+            Double.toString(Math.log(weight) / Math.log(2)),
+            Long.toString(sinceEpochMillis(at)),
+            Long.toString(initialHalfLife.toMillis()),
+            Integer.toString(maxItems));
+    }
+
+    @Override
+    public boolean applyHalfLife(Duration halfLife, Instant at) {
+        Long rescaled = redisTemplate.execute(APPLY_HALF_LIFE, List.of(KEY, HALF_LIFE_KEY),
+            Long.toString(halfLife.toMillis()), Long.toString(sinceEpochMillis(at)));
+        return rescaled != null && rescaled == 1L;
+    }
+
+    @Override
+    public List<TrendingEntry> findAfter(TrendingEntry after, int limit) {
+        if (after == null) {
+            return findRange(0, limit);
+        }
+        List<?> reply = redisTemplate.execute(FIND_AFTER, List.of(KEY),
+            Double.toString(after.score()), after.contentId().toString(), Integer.toString(limit));
+        List<TrendingEntry> entries = new ArrayList<>();
+        if (reply == null) {
+            return entries;
+        }
+        for (int i = 0; i + 1 < reply.size(); i += 2) {
+            entries.add(new TrendingEntry(Long.parseLong(reply.get(i).toString()),
+                Double.parseDouble(reply.get(i + 1).toString())));
+        }
+        return entries;
+    }
+
+    @Override
+    public List<TrendingEntry> findRange(long offset, int limit) {
+        List<TrendingEntry> entries = new ArrayList<>();
+        if (limit <= 0) {
+            return entries;
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+            redisTemplate.opsForZSet().reverseRangeWithScores(KEY, offset, offset + limit - 1);
+        if (tuples == null) {
+            return entries;
+        }
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                entries.add(new TrendingEntry(Long.parseLong(tuple.getValue()), tuple.getScore()));
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public long count() {
+        Long size = redisTemplate.opsForZSet().zCard(KEY);
+        return size != null ? size : 0;
+    }
+
+    @Override
+    public void remove(Long contentId) {
+        redisTemplate.opsForZSet().remove(KEY, contentId.toString());
+    }
+
+    private static long sinceEpochMillis(Instant at) {
+        return Duration.between(TrendingDecay.EPOCH, at).toMillis();
+    }
+}
@@ -0,0 +1,147 @@
+package com.j30n.stoblyx.adapter.out.persistence.membership;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.j30n.stoblyx.application.port.out.membership.MembershipStorePort;
+import com.j30n.stoblyx.domain.enums.MembershipType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 인메모리 사용자별 반응 항목 저장소
+ * <p>
+ * Redis 를 사용하지 않는 환경에서 사용합니다. 집합은 정렬된 long 배열로 보관해 항목당 8바이트만 쓰고
+ * 이진 탐색으로 포함 여부를 확인합니다. 배열은 바꾸지 않고 변경 시 새 배열로 교체하므로 조회는 잠금 없이 동작합니다.
+ * 전체 항목 수 상한을 넘으면 오래 쓰지 않은 집합부터 내보냅니다.
+ * </p>
+ * <p>
+ * 집합은 적재한 시점부터 TTL 이 지나면 만료되며, 조회나 반응 변경으로는 연장되지 않습니다. 적재와 경합해 어긋난 집합도
+ * 적어도 TTL 마다 DB 에서 다시 적재됩니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.enabled", havingValue = "false", matchIfMissing = true)
+public class MembershipMemoryStoreAdapter implements MembershipStorePort {
+
+    private final Cache<MembershipKey, MemberSet> sets;
+    private final Ticker ticker;
+    private final long ttlNanos;
+
+    @Autowired
+    public MembershipMemoryStoreAdapter(@Value("${membership.ttl-seconds:1800}") long ttlSeconds,
+                                        @Value("${membership.memory.max-items:2000000}") long maxItems) {
+        this(ttlSeconds, maxItems, Ticker.systemTicker());
+    }
+
+    MembershipMemoryStoreAdapter(long ttlSeconds, long maxItems, Ticker ticker) {
+        this.ticker = ticker;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.sets = Caffeine.newBuilder()
+            .expireAfter(new WarmedAtExpiry())
+            .ticker(ticker)
+            .maximumWeight(maxItems)
+            .weigher((MembershipKey key, MemberSet set) -> set.members().length + 1)
+            .build();
+    }
+
+    @Override
+    public Map<MembershipType, Set<Long>> findMembers(Long userId, Collection<MembershipType> types,
+                                                      Collection<Long> itemIds) {
+        Map<MembershipType, Set<Long>> result = new EnumMap<>(MembershipType.class);
+        for (MembershipType type : types) {
+            MemberSet set = sets.getIfPresent(new MembershipKey(type, userId));
+            if (set == null) {
+                continue;
+            }
+            long[] members = set.members();
+            Set<Long> hits = new HashSet<>();
+            for (Long itemId : itemIds) {
+                if (itemId != null && Arrays.binarySearch(members, itemId) >= 0) {
+                    hits.add(itemId);
+                }
+            }
+            result.put(type, hits);
+        }
+        return result;
+    }
+
+    @Override
+    public void warm(MembershipType type, Long userId, Collection<Long> itemIds) {
+        long[] members = itemIds.stream()
+            .filter(Objects::nonNull)
+            .mapToLong(Long::longValue)
+            .sorted()
+            .distinct()
+            .toArray();
+        sets.put(new MembershipKey(type, userId), new MemberSet(members, ticker.read() + ttlNanos));
+    }
+
+    @Override
+    public void add(MembershipType type, Long userId, Long itemId) {
+        sets.asMap().computeIfPresent(new MembershipKey(type, userId), (key, set) -> {
+            long[] members = set.members();
+            int index = Arrays.binarySearch(members, itemId);
+            if (index >= 0) {
+                return set;
+            }
+            int insertAt = -index - 1;
+            long[] added = new long[members.length + 1];
+            System.arraycopy(members, 0, added, 0, insertAt);
+            added[insertAt] = itemId;
+            System.arraycopy(members, insertAt, added, insertAt + 1, members.length - insertAt);
+            return new MemberSet(added, set.expiresAt());
+        });
+    }
+
+    @Override
+    public void remove(MembershipType type, Long userId, Long itemId) {
+        sets.asMap().computeIfPresent(new MembershipKey(type, userId), (key, set) -> {
+            long[] members = set.members();
+            int index = Arrays.binarySearch(members, itemId);
+            if (index < 0) {
+                return set;
+            }
+            long[] removed = new long[members.length - 1];
+            System.arraycopy(members, 0, removed, 0, index);
+            System.arraycopy(members, index + 1, removed, index, members.length - index - 1);
+            return new MemberSet(removed, set.expiresAt());
+        });
+    }
+
+    private record MembershipKey(MembershipType type, Long userId) {
+    }
+
+    /**
+     * 정렬된 항목 배열과 적재 시 정한 만료 시각 (ticker 기준 나노초)
+     */
+    private record MemberSet(long[] members, long expiresAt) {
+    }
+
+    /**
+     * 적재 때 정한 만료 시각을 그대로 따르고, 조회나 변경으로는 연장하지 않는 만료 정책
+     */
+    private static final class WarmedAtExpiry implements Expiry<MembershipKey, MemberSet> {
+
+        @Override
+        public long expireAfterCreate(MembershipKey key, MemberSet set, long currentTime) {
+            return Math.max(0, set.expiresAt() - currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(MembershipKey key, MemberSet set, long currentTime, long currentDuration) {
+            return Math.max(0, set.expiresAt() - currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(MembershipKey key, MemberSet set, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
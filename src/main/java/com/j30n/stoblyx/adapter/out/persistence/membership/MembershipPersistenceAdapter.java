@@ -0,0 +1,51 @@
+package com.j30n.stoblyx.adapter.out.persistence.membership;
+
+import com.j30n.stoblyx.application.port.out.membership.MembershipPort;
+import com.j30n.stoblyx.domain.enums.MembershipType;
+import com.j30n.stoblyx.domain.repository.ContentBookmarkRepository;
+import com.j30n.stoblyx.domain.repository.ContentLikeRepository;
+import com.j30n.stoblyx.domain.repository.LikeRepository;
+import com.j30n.stoblyx.domain.repository.SavedQuoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 반응 항목 영속성 어댑터
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MembershipPersistenceAdapter implements MembershipPort {
+
+    private final ContentLikeRepository contentLikeRepository;
+    private final ContentBookmarkRepository contentBookmarkRepository;
+    private final LikeRepository likeRepository;
+    private final SavedQuoteRepository savedQuoteRepository;
+
+    @Override
+    public List<Long> findItemIds(MembershipType type, Long userId) {
+        return switch (type) {
+            case LIKED_CONTENT -> contentLikeRepository.findContentIdsByUserId(userId);
+            case BOOKMARKED_CONTENT -> contentBookmarkRepository.findContentIdsByUserId(userId);
+            case LIKED_QUOTE -> likeRepository.findQuoteIdsByUserId(userId);
+            case SAVED_QUOTE -> savedQuoteRepository.findQuoteIdsByUserId(userId);
+        };
+    }
+
+    @Override
+    public List<Long> findItemIds(MembershipType type, Long userId, Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return List.of();
+        }
+        return switch (type) {
+            case LIKED_CONTENT -> contentLikeRepository.findContentIdsByUserIdAndContentIdIn(userId, itemIds);
+            case BOOKMARKED_CONTENT -> contentBookmarkRepository.findContentIdsByUserIdAndContentIdIn(userId, itemIds);
+            case LIKED_QUOTE -> likeRepository.findQuoteIdsByUserIdAndQuoteIdIn(userId, itemIds);
+            case SAVED_QUOTE -> savedQuoteRepository.findQuoteIdsByUserIdAndQuoteIdIn(userId, itemIds);
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package com.j30n.stoblyx.adapter.out.persistence.membership;
+
+import com.j30n.stoblyx.application.port.out.membership.MembershipStorePort;
+import com.j30n.stoblyx.domain.enums.MembershipType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Redis 집합 기반 사용자별 반응 항목 저장소
+ * <p>
+ * 사용자와 반응 종류마다 {@code membership:<종류>:<사용자 ID>} 집합을 두고, 적재된 집합에는 실제 ID 로 쓰이지 않는
+ * 표식 값 0 을 함께 넣어 "적재되었지만 비어 있음"과 "적재되지 않음"을 구분합니다. 한 페이지의 반응 여부는 종류별
+ * SMISMEMBER 한 번씩을 하나의 파이프라인으로 보내 확인합니다. 만료 시간은 적재할 때만 정하고 조회나 변경으로 늘리지
+ * 않으므로, 적재와 경합해 어긋난 집합도 자주 쓰는 사용자일수록 오래 남지 않고 적어도 TTL 마다 DB 에서 다시 적재됩니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.enabled", havingValue = "true")
+public class MembershipRedisStoreAdapter implements MembershipStorePort {
+
+    private static final String KEY_PREFIX = "membership:";
+    private static final byte[] WARM_MARKER = "0".getBytes(StandardCharsets.UTF_8);
+    private static final int WARM_CHUNK_SIZE = 1000;
+    // 적재된 집합에만 더하거나 빼서, 만료된 집합이 일부 항목만 가진 채 되살아나지 않게 함
+    private static final RedisScript<Long> UPDATE_IF_WARM = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call(ARGV[1], KEYS[1], ARGV[2]) end return 0",
+        Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long ttlSeconds;
+
+    public MembershipRedisStoreAdapter(RedisTemplate<String, String> redisTemplate,
+                                       @Value("${membership.ttl-seconds:1800}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    @Override
+    public Map<MembershipType, Set<Long>> findMembers(Long userId, Collection<MembershipType> types,
+                                                      Collection<Long> itemIds) {
+        List<MembershipType> typeList = List.copyOf(types);
+        List<Long> ids = itemIds.stream().filter(Objects::nonNull).distinct().toList();
+        byte[][] values = new byte[ids.size() + 1][];
+        values[0] = WARM_MARKER;
+        for (int i = 0; i < ids.size(); i++) {
+            values[i + 1] = bytes(ids.get(i).toString());
+        }
+
+        List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (MembershipType type : typeList) {
+                byte[] key = bytes(key(type, userId));
+                connection.setCommands().sMIsMember(key, values);
+            }
+            return null;
+        });
+
+        Map<MembershipType, Set<Long>> result = new EnumMap<>(MembershipType.class);
+        for (int t = 0; t < typeList.size(); t++) {
+            List<?> flags = (List<?>) replies.get(t);
+            if (flags == null || flags.isEmpty() || !Boolean.TRUE.equals(flags.get(0))) {
+                continue;
+            }
+            Set<Long> hits = new HashSet<>();
+            for (int i = 0; i < ids.size(); i++) {
+                if (Boolean.TRUE.equals(flags.get(i + 1))) {
+                    hits.add(ids.get(i));
+                }
+            }
+            result.put(typeList.get(t), hits);
+        }
+        return result;
+    }
+
+    @Override
+    public void warm(MembershipType type, Long userId, Collection<Long> itemIds) {
+        String key = key(type, userId);
+        // 임시 키에 모두 넣은 뒤 RENAME 해 조회 중인 요청이 반쯤 채워진 집합을 보지 않게 함
+        byte[] warmingKey = bytes(key + ":warming:" + UUID.randomUUID());
+        List<Long> ids = itemIds.stream().filter(Objects::nonNull).distinct().toList();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.setCommands().sAdd(warmingKey, WARM_MARKER);
+            for (int from = 0; from < ids.size(); from += WARM_CHUNK_SIZE) {
+                addChunk(connection, warmingKey, ids.subList(from, Math.min(from + WARM_CHUNK_SIZE, ids.size())));
+            }
+            connection.keyCommands().expire(warmingKey, ttlSeconds);
+            connection.keyCommands().rename(warmingKey, bytes(key));
+            return null;
+        });
+    }
+
+    @Override
+    public void add(MembershipType type, Long userId, Long itemId) {
+        redisTemplate.execute(UPDATE_IF_WARM, List.of(key(type, userId)), "SADD", itemId.toString());
+    }
+
+    @Override
+    public void remove(MembershipType type, Long userId, Long itemId) {
+        redisTemplate.execute(UPDATE_IF_WARM, List.of(key(type, userId)), "SREM", itemId.toString());
+    }
+
+    private static void addChunk(RedisConnection connection, byte[] key, List<Long> chunk) {
+        byte[][] values = new byte[chunk.size()][];
+        for (int i = 0; i < chunk.size(); i++) {
+            values[i] = bytes(chunk.get(i).toString());
+        }
+        connection.setCommands().sAdd(key, values);
+    }
+
+    private static String key(MembershipType type, Long userId) {
+        return KEY_PREFIX + type.name().toLowerCase(Locale.ROOT) + ":" + userId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
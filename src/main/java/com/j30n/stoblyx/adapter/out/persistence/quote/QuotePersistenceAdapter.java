@@ -17,7 +17,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Repository
@@ -137,4 +139,30 @@ public class QuotePersistenceAdapter implements QuotePort {
         likeRepository.findByUserIdAndQuoteId(userId, quoteId)
             .ifPresent(likeRepository::delete);
     }
+
+    @Override
+    public Page<Quote> findByBookIds(Collection<Long> bookIds, Pageable pageable) {
+        if (bookIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return quoteRepository.findByBook_IdInAndIsDeletedFalse(bookIds, pageable);
+    }
+
+    @Override
+    public Page<Quote> findPopularQuotes(Pageable pageable) {
+        return quoteRepository.findByIsDeletedFalseOrderByLikeCountDesc(pageable);
+    }
+
+    @Override
+    public List<Quote> findAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Quote> quotesById = quoteRepository.findByIdInAndIsDeletedFalse(ids).stream()
+            .collect(Collectors.toMap(Quote::getId, Function.identity()));
+        return ids.stream()
+            .map(quotesById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
 }
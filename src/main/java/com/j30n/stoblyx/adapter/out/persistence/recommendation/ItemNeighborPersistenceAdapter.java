@@ -0,0 +1,119 @@
+package com.j30n.stoblyx.adapter.out.persistence.recommendation;
+
+import com.j30n.stoblyx.application.port.out.recommendation.ItemNeighborPort;
+import com.j30n.stoblyx.domain.enums.NeighborItemType;
+import com.j30n.stoblyx.domain.model.ItemEngagement;
+import com.j30n.stoblyx.domain.model.ItemNeighbor;
+import com.j30n.stoblyx.domain.repository.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 아이템 이웃 영속성 어댑터
+ * 도서는 인용구 좋아요/저장, 숏폼 콘텐츠는 콘텐츠 좋아요/북마크를 반응으로 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ItemNeighborPersistenceAdapter implements ItemNeighborPort {
+
+    private final ItemNeighborRepository itemNeighborRepository;
+    private final UserRepository userRepository;
+    private final LikeRepository likeRepository;
+    private final SavedQuoteRepository savedQuoteRepository;
+    private final ContentLikeRepository contentLikeRepository;
+    private final ContentBookmarkRepository contentBookmarkRepository;
+
+    @Override
+    public long findMaxUserId() {
+        Long maxId = userRepository.findMaxId();
+        return maxId != null ? maxId : 0L;
+    }
+
+    @Override
+    public List<ItemEngagement> findEngagementsByUserIdRange(NeighborItemType itemType, Long fromUserId, Long toUserId) {
+        List<ItemEngagement> engagements = new ArrayList<>();
+        if (itemType == NeighborItemType.BOOK) {
+            engagements.addAll(likeRepository.findBookEngagementsByUserIdRange(fromUserId, toUserId));
+            engagements.addAll(savedQuoteRepository.findBookEngagementsByUserIdRange(fromUserId, toUserId));
+        } else {
+            engagements.addAll(contentLikeRepository.findContentEngagementsByUserIdRange(fromUserId, toUserId));
+            engagements.addAll(contentBookmarkRepository.findContentEngagementsByUserIdRange(fromUserId, toUserId));
+        }
+        return engagements;
+    }
+
+    @Override
+    public List<ItemEngagement> findEngagementsByUserIds(NeighborItemType itemType, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ItemEngagement> engagements = new ArrayList<>();
+        if (itemType == NeighborItemType.BOOK) {
+            engagements.addAll(likeRepository.findBookEngagementsByUserIdIn(userIds));
+            engagements.addAll(savedQuoteRepository.findBookEngagementsByUserIdIn(userIds));
+        } else {
+            engagements.addAll(contentLikeRepository.findContentEngagementsByUserIdIn(userIds));
+            engagements.addAll(contentBookmarkRepository.findContentEngagementsByUserIdIn(userIds));
+        }
+        return engagements;
+    }
+
+    @Override
+    public Set<Long> findUserIdsEngagedWith(NeighborItemType itemType, Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<Long> userIds = new HashSet<>();
+        if (itemType == NeighborItemType.BOOK) {
+            userIds.addAll(likeRepository.findUserIdsByBookIdIn(itemIds));
+            userIds.addAll(savedQuoteRepository.findUserIdsByBookIdIn(itemIds));
+        } else {
+            userIds.addAll(contentLikeRepository.findUserIdsByContentIdIn(itemIds));
+            userIds.addAll(contentBookmarkRepository.findUserIdsByContentIdIn(itemIds));
+        }
+        return userIds;
+    }
+
+    @Override
+    public Set<Long> findItemIdsChangedSince(NeighborItemType itemType, LocalDateTime since) {
+        Set<Long> itemIds = new HashSet<>();
+        if (itemType == NeighborItemType.BOOK) {
+            itemIds.addAll(likeRepository.findBookIdsChangedSince(since));
+            itemIds.addAll(savedQuoteRepository.findBookIdsChangedSince(since));
+        } else {
+            itemIds.addAll(contentLikeRepository.findContentIdsChangedSince(since));
+            itemIds.addAll(contentBookmarkRepository.findContentIdsChangedSince(since));
+        }
+        itemIds.remove(null);
+        return itemIds;
+    }
+
+    @Override
+    @Transactional
+    public void replaceNeighbors(NeighborItemType itemType, Collection<Long> itemIds, List<ItemNeighbor> neighbors) {
+        if (!itemIds.isEmpty()) {
+            itemNeighborRepository.deleteByItemTypeAndItemIdIn(itemType, itemIds);
+        }
+        itemNeighborRepository.saveAll(neighbors);
+    }
+
+    @Override
+    @Transactional
+    public int deleteNeighborsCreatedBefore(NeighborItemType itemType, LocalDateTime before) {
+        return itemNeighborRepository.deleteByItemTypeAndCreatedAtBefore(itemType, before);
+    }
+
+    @Override
+    public List<Long> findNeighborIds(NeighborItemType itemType, Long itemId, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        return itemNeighborRepository.findNeighborIds(itemType, itemId, PageRequest.of(0, limit));
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -22,6 +23,7 @@ public class RecommendationPersistenceAdapter implements RecommendationPort {
     private final SearchTermProfileRepository searchTermProfileRepository;
     private final UserSimilarityRepository userSimilarityRepository;
     private final PopularSearchTermRepository popularSearchTermRepository;
+    private final PopularSearchTermBucketRepository popularSearchTermBucketRepository;
     private final UserRepository userRepository;
     private final SearchRepository searchRepository;
 
@@ -124,20 +126,51 @@ public class RecommendationPersistenceAdapter implements RecommendationPort {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public Map<String, Integer> getRecentSearchCounts(LocalDateTime since) {
-        // 최근 검색 기록 조회
-        List<Search> recentSearches = searchRepository.findByLastSearchedAtBetween(since, LocalDateTime.now());
-
-        // 검색어별 검색 횟수 집계
-        Map<String, Integer> searchCounts = new HashMap<>();
+    public int savePopularTermSnapshot(List<TermCount> snapshot, List<HourlyTermCount> hourly,
+                                       LocalDateTime snapshotAt) {
+        Map<String, PopularSearchTerm> existing = new HashMap<>();
+        List<String> terms = snapshot.stream().map(TermCount::term).collect(Collectors.toList());
+        if (!terms.isEmpty()) {
+            for (PopularSearchTerm term : popularSearchTermRepository.findBySearchTermIn(terms)) {
+                existing.put(term.getSearchTerm(), term);
+            }
+        }
 
-        for (Search search : recentSearches) {
-            String searchTerm = search.getSearchTerm();
-            searchCounts.put(searchTerm, searchCounts.getOrDefault(searchTerm, 0) + 1);
+        List<PopularSearchTerm> changed = new ArrayList<>(snapshot.size());
+        for (TermCount termCount : snapshot) {
+            int count = (int) Math.min(Integer.MAX_VALUE, termCount.count());
+            PopularSearchTerm popularTerm = existing.get(termCount.term());
+            if (popularTerm == null) {
+                popularTerm = PopularSearchTerm.builder()
+                    .searchTerm(termCount.term())
+                    .searchCount(count)
+                    .popularityScore((double) count)
+                    .build();
+            }
+            popularTerm.applySnapshot(count, (double) count, snapshotAt);
+            changed.add(popularTerm);
         }
+        popularSearchTermRepository.saveAll(changed);
+        popularSearchTermRepository.flush();
+        popularSearchTermRepository.resetPopularityUpdatedBefore(snapshotAt);
+
+        popularSearchTermBucketRepository.deleteAllInBatch();
+        popularSearchTermBucketRepository.saveAll(hourly.stream()
+            .map(count -> PopularSearchTermBucket.builder()
+                .searchTerm(count.term())
+                .hourStart(count.hourStart())
+                .searchCount((int) Math.min(Integer.MAX_VALUE, count.count()))
+                .build())
+            .collect(Collectors.toList()));
+        return changed.size();
+    }
 
-        return searchCounts;
+    @Override
+    @Transactional(readOnly = true)
+    public List<HourlyTermCount> getPopularTermBucketsSince(LocalDateTime since) {
+        return popularSearchTermBucketRepository.findByHourStartGreaterThanEqual(since).stream()
+            .map(bucket -> new HourlyTermCount(bucket.getSearchTerm(), bucket.getHourStart(), bucket.getSearchCount()))
+            .collect(Collectors.toList());
     }
 
     @Override
@@ -0,0 +1,81 @@
+package com.j30n.stoblyx.adapter.out.persistence.recommendation;
+
+import com.j30n.stoblyx.application.port.out.recommendation.UserRecommendationStorePort;
+import com.j30n.stoblyx.domain.enums.RecommendationItemType;
+import com.j30n.stoblyx.domain.model.UserRecommendationList;
+import com.j30n.stoblyx.domain.repository.SearchRepository;
+import com.j30n.stoblyx.domain.repository.UserRecommendationListRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 추천 목록 영속성 어댑터
+ * 활동 사용자는 검색 기록의 최근 검색 시각으로 판단합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserRecommendationStoreAdapter implements UserRecommendationStorePort {
+
+    private final UserRecommendationListRepository userRecommendationListRepository;
+    private final SearchRepository searchRepository;
+
+    @Override
+    public Optional<UserRecommendationList> findList(Long userId, RecommendationItemType itemType) {
+        return userRecommendationListRepository.findByUserIdAndItemType(userId, itemType);
+    }
+
+    /**
+     * 조회 트랜잭션(읽기 전용) 안에서 목록을 처음 계산하는 경우에도 저장되도록 별도 트랜잭션으로 실행합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveLists(Long userId, Map<RecommendationItemType, List<Long>> itemIds,
+                          Set<RecommendationItemType> fallbacks, LocalDateTime generatedAt) {
+        Map<RecommendationItemType, UserRecommendationList> existing =
+            userRecommendationListRepository.findByUserIdIn(List.of(userId)).stream()
+                .collect(Collectors.toMap(UserRecommendationList::getItemType, Function.identity()));
+
+        List<UserRecommendationList> lists = new ArrayList<>();
+        itemIds.forEach((itemType, ids) -> {
+            boolean fallback = fallbacks.contains(itemType);
+            UserRecommendationList list = existing.get(itemType);
+            if (list == null) {
+                list = UserRecommendationList.builder()
+                    .userId(userId)
+                    .itemType(itemType)
+                    .itemIds(ids)
+                    .isFallback(fallback)
+                    .generatedAt(generatedAt)
+                    .build();
+            } else {
+                list.replace(ids, fallback, generatedAt);
+            }
+            lists.add(list);
+        });
+        userRecommendationListRepository.saveAll(lists);
+    }
+
+    @Override
+    public List<Long> findRecentlyActiveUserIds(LocalDateTime since, int limit) {
+        return searchRepository.findRecentlyActiveUserIds(since, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public Set<Long> findUserIdsGeneratedSince(Collection<Long> userIds, LocalDateTime since) {
+        if (userIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        // 세 유형은 항상 함께 저장되므로 도서 목록의 계산 시각을 기준으로 삼습니다.
+        return new HashSet<>(userRecommendationListRepository.findUserIdsGeneratedSince(
+            RecommendationItemType.BOOK, userIds, since));
+    }
+}
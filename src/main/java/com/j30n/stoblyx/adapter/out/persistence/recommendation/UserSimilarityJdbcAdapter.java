@@ -0,0 +1,161 @@
+package com.j30n.stoblyx.adapter.out.persistence.recommendation;
+
+import com.j30n.stoblyx.application.port.out.recommendation.UserSimilarityMatrixPort;
+import com.j30n.stoblyx.domain.model.UserSimilarityScore;
+import com.j30n.stoblyx.domain.model.UserTermWeight;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 협업 필터링 일괄 계산용 JDBC 어댑터
+ * 엔티티를 거치지 않고 검색 기록을 스트리밍으로 읽고, 유사도는 배치 upsert로 저장합니다.
+ */
+@Component
+public class UserSimilarityJdbcAdapter implements UserSimilarityMatrixPort {
+
+    private static final String USER_TERM_WEIGHTS_SQL =
+        "SELECT s.user_id, s.search_term, p.search_count, MAX(s.last_searched_at) AS last_at " +
+            "FROM search s JOIN search_term_profiles p ON p.search_term = s.search_term " +
+            "WHERE s.user_id IS NOT NULL " +
+            "GROUP BY s.user_id, s.search_term, p.search_count " +
+            "ORDER BY s.user_id, last_at DESC";
+
+    private static final String USER_TERM_WEIGHTS_BY_USERS_SQL =
+        "SELECT s.user_id, s.search_term, p.search_count, MAX(s.last_searched_at) AS last_at " +
+            "FROM search s JOIN search_term_profiles p ON p.search_term = s.search_term " +
+            "WHERE s.user_id IN (:userIds) " +
+            "GROUP BY s.user_id, s.search_term, p.search_count " +
+            "ORDER BY s.user_id, last_at DESC";
+
+    private static final String UPSERT_SIMILARITY_SQL =
+        "INSERT INTO user_similarities " +
+            "(source_user_id, target_user_id, similarity_score, is_active, created_at, modified_at, is_deleted) " +
+            "VALUES (?, ?, ?, TRUE, ?, ?, FALSE) " +
+            "ON DUPLICATE KEY UPDATE similarity_score = VALUES(similarity_score), is_active = TRUE, " +
+            "modified_at = VALUES(modified_at)";
+
+    private static final String DEACTIVATE_STALE_SQL =
+        "UPDATE user_similarities SET is_active = FALSE, modified_at = ? " +
+            "WHERE is_active = TRUE AND (modified_at IS NULL OR modified_at < ?)";
+
+    private static final String DEACTIVATE_STALE_BY_SOURCES_SQL =
+        "UPDATE user_similarities SET is_active = FALSE, modified_at = :refreshedAt " +
+            "WHERE source_user_id IN (:sourceUserIds) AND is_active = TRUE " +
+            "AND (modified_at IS NULL OR modified_at < :refreshedAt)";
+
+    private static final String ACTIVE_SOURCES_BY_TARGETS_SQL =
+        "SELECT DISTINCT source_user_id FROM user_similarities " +
+            "WHERE target_user_id IN (:targetUserIds) AND is_active = TRUE";
+
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final int batchSize;
+    private final int fetchSize;
+
+    public UserSimilarityJdbcAdapter(JdbcTemplate jdbcTemplate,
+                                     @Value("${recommendation.cf.batch-size:500}") int batchSize,
+                                     @Value("${recommendation.cf.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.batchSize = batchSize;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamUserTermWeights(Consumer<UserTermWeight> consumer) {
+        RowCallbackHandler handler = rs ->
+            consumer.accept(new UserTermWeight(rs.getLong(1), rs.getString(2), rs.getInt(3)));
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(USER_TERM_WEIGHTS_SQL,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // MySQL 드라이버는 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍합니다.
+            boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+            statement.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+            return statement;
+        }, handler);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamUserTermWeights(Collection<Long> userIds, Consumer<UserTermWeight> consumer) {
+        RowCallbackHandler handler = rs ->
+            consumer.accept(new UserTermWeight(rs.getLong(1), rs.getString(2), rs.getInt(3)));
+        for (List<Long> chunk : chunks(userIds)) {
+            namedParameterJdbcTemplate.query(USER_TERM_WEIGHTS_BY_USERS_SQL, Map.of("userIds", chunk), handler);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int upsertUserSimilarities(List<UserSimilarityScore> scores, LocalDateTime refreshedAt) {
+        Timestamp timestamp = Timestamp.valueOf(refreshedAt);
+        int[][] results = jdbcTemplate.batchUpdate(UPSERT_SIMILARITY_SQL, scores, batchSize, (statement, score) -> {
+            statement.setLong(1, score.sourceUserId());
+            statement.setLong(2, score.targetUserId());
+            statement.setDouble(3, score.score());
+            statement.setTimestamp(4, timestamp);
+            statement.setTimestamp(5, timestamp);
+        });
+        int count = 0;
+        for (int[] batch : results) {
+            count += batch.length;
+        }
+        return count;
+    }
+
+    @Override
+    @Transactional
+    public int deactivateSimilaritiesNotRefreshedSince(LocalDateTime refreshedAt) {
+        Timestamp timestamp = Timestamp.valueOf(refreshedAt);
+        return jdbcTemplate.update(DEACTIVATE_STALE_SQL, timestamp, timestamp);
+    }
+
+    @Override
+    @Transactional
+    public int deactivateSimilaritiesNotRefreshedSince(Collection<Long> sourceUserIds, LocalDateTime refreshedAt) {
+        Timestamp timestamp = Timestamp.valueOf(refreshedAt);
+        int count = 0;
+        for (List<Long> chunk : chunks(sourceUserIds)) {
+            count += namedParameterJdbcTemplate.update(DEACTIVATE_STALE_BY_SOURCES_SQL,
+                Map.of("sourceUserIds", chunk, "refreshedAt", timestamp));
+        }
+        return count;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findActiveSourceUserIds(Collection<Long> targetUserIds) {
+        List<Long> sourceUserIds = new ArrayList<>();
+        for (List<Long> chunk : chunks(targetUserIds)) {
+            sourceUserIds.addAll(namedParameterJdbcTemplate.queryForList(ACTIVE_SOURCES_BY_TARGETS_SQL,
+                Map.of("targetUserIds", chunk), Long.class));
+        }
+        return sourceUserIds.stream().distinct().toList();
+    }
+
+    private List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> list = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            chunks.add(list.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, list.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,186 @@
+package com.j30n.stoblyx.adapter.out.persistence.search;
+
+import com.j30n.stoblyx.application.port.out.search.SearchDocumentPort;
+import com.j30n.stoblyx.domain.enums.SearchDocumentType;
+import com.j30n.stoblyx.domain.model.SearchDocument;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 전문 검색 색인 구축용 JDBC 어댑터
+ * 엔티티와 연관관계를 로딩하지 않고 색인에 필요한 텍스트 컬럼과 장르만 조회합니다.
+ */
+@Component
+public class SearchDocumentJdbcAdapter implements SearchDocumentPort {
+
+    private static final String BOOK_COLUMNS = "SELECT b.id, b.title, b.author, b.description FROM books b ";
+    private static final String QUOTE_COLUMNS = "SELECT q.id, q.content, q.book_id FROM quotes q ";
+    private static final String CONTENT_COLUMNS =
+        "SELECT c.id, c.title, c.subtitles, b.title, q.content, c.book_id FROM short_form_contents c " +
+            "LEFT JOIN books b ON b.id = c.book_id " +
+            "LEFT JOIN quotes q ON q.id = c.quote_id ";
+
+    private static final String BOOK_GENRES_SQL = "SELECT book_id, genre FROM book_genres WHERE book_id IN (:bookIds)";
+
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public SearchDocumentJdbcAdapter(JdbcTemplate jdbcTemplate) {
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SearchDocument> findDocuments(SearchDocumentType type, long afterId, int limit) {
+        String sql = columns(type) + "WHERE " + alias(type) + ".is_deleted = FALSE AND " + alias(type) + ".id > :afterId " +
+            "ORDER BY " + alias(type) + ".id LIMIT :limit";
+        return withCategories(type, namedParameterJdbcTemplate.query(sql,
+            Map.of("afterId", afterId, "limit", limit), rowMapper(type)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SearchDocument> findDocumentsByIds(SearchDocumentType type, Collection<Long> ids) {
+        String sql = columns(type) + "WHERE " + alias(type) + ".is_deleted = FALSE AND " + alias(type) + ".id IN (:ids)";
+        List<DocumentRow> rows = new ArrayList<>();
+        for (List<Long> chunk : chunks(ids)) {
+            rows.addAll(namedParameterJdbcTemplate.query(sql, Map.of("ids", chunk), rowMapper(type)));
+        }
+        return withCategories(type, rows);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findIdsByBookIds(SearchDocumentType type, Collection<Long> bookIds) {
+        if (type == SearchDocumentType.BOOK) {
+            return new ArrayList<>(bookIds);
+        }
+        String sql = "SELECT id FROM " + table(type) + " WHERE book_id IN (:bookIds)";
+        List<Long> ids = new ArrayList<>();
+        for (List<Long> chunk : chunks(bookIds)) {
+            ids.addAll(namedParameterJdbcTemplate.queryForList(sql, Map.of("bookIds", chunk), Long.class));
+        }
+        return ids;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findIdsModifiedSince(SearchDocumentType type, LocalDateTime since) {
+        String sql = "SELECT id FROM " + table(type) + " WHERE modified_at >= :since";
+        return namedParameterJdbcTemplate.queryForList(sql, Map.of("since", Timestamp.valueOf(since)), Long.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findLiveIds(SearchDocumentType type) {
+        String sql = "SELECT id FROM " + table(type) + " WHERE is_deleted = FALSE";
+        return namedParameterJdbcTemplate.getJdbcTemplate().queryForList(sql, Long.class);
+    }
+
+    /**
+     * 도서 ID별 장르를 한 번에 조회해 문서의 카테고리로 채웁니다.
+     */
+    private List<SearchDocument> withCategories(SearchDocumentType type, List<DocumentRow> rows) {
+        Set<Long> bookIds = new HashSet<>();
+        for (DocumentRow row : rows) {
+            if (row.bookId() != null) {
+                bookIds.add(row.bookId());
+            }
+        }
+        Map<Long, List<String>> genresByBookId = new HashMap<>();
+        if (type != SearchDocumentType.CONTENT) {
+            for (List<Long> chunk : chunks(bookIds)) {
+                namedParameterJdbcTemplate.query(BOOK_GENRES_SQL, Map.of("bookIds", chunk), rs -> {
+                    genresByBookId.computeIfAbsent(rs.getLong(1), key -> new ArrayList<>()).add(rs.getString(2));
+                });
+            }
+        }
+
+        List<SearchDocument> documents = new ArrayList<>(rows.size());
+        for (DocumentRow row : rows) {
+            List<String> categories = row.bookId() != null
+                ? genresByBookId.getOrDefault(row.bookId(), Collections.emptyList())
+                : Collections.emptyList();
+            documents.add(new SearchDocument(row.id(), row.fields(), categories));
+        }
+        return documents;
+    }
+
+    private RowMapper<DocumentRow> rowMapper(SearchDocumentType type) {
+        return switch (type) {
+            case BOOK -> (rs, rowNum) -> {
+                Map<String, String> fields = new HashMap<>();
+                putIfPresent(fields, SearchDocument.TITLE, rs.getString(2));
+                putIfPresent(fields, SearchDocument.AUTHOR, rs.getString(3));
+                putIfPresent(fields, SearchDocument.DESCRIPTION, rs.getString(4));
+                long id = rs.getLong(1);
+                return new DocumentRow(id, fields, id);
+            };
+            case QUOTE -> (rs, rowNum) -> {
+                Map<String, String> fields = new HashMap<>();
+                putIfPresent(fields, SearchDocument.CONTENT, rs.getString(2));
+                long bookId = rs.getLong(3);
+                return new DocumentRow(rs.getLong(1), fields, rs.wasNull() ? null : bookId);
+            };
+            case CONTENT -> (rs, rowNum) -> {
+                Map<String, String> fields = new HashMap<>();
+                putIfPresent(fields, SearchDocument.TITLE, rs.getString(2));
+                putIfPresent(fields, SearchDocument.SUBTITLES, rs.getString(3));
+                putIfPresent(fields, SearchDocument.BOOK_TITLE, rs.getString(4));
+                putIfPresent(fields, SearchDocument.CONTENT, rs.getString(5));
+                long bookId = rs.getLong(6);
+                return new DocumentRow(rs.getLong(1), fields, rs.wasNull() ? null : bookId);
+            };
+        };
+    }
+
+    private static void putIfPresent(Map<String, String> fields, String name, String value) {
+        if (value != null && !value.isBlank()) {
+            fields.put(name, value);
+        }
+    }
+
+    private static String columns(SearchDocumentType type) {
+        return switch (type) {
+            case BOOK -> BOOK_COLUMNS;
+            case QUOTE -> QUOTE_COLUMNS;
+            case CONTENT -> CONTENT_COLUMNS;
+        };
+    }
+
+    private static String alias(SearchDocumentType type) {
+        return switch (type) {
+            case BOOK -> "b";
+            case QUOTE -> "q";
+            case CONTENT -> "c";
+        };
+    }
+
+    private static String table(SearchDocumentType type) {
+        return switch (type) {
+            case BOOK -> "books";
+            case QUOTE -> "quotes";
+            case CONTENT -> "short_form_contents";
+        };
+    }
+
+    private List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> list = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            chunks.add(list.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, list.size())));
+        }
+        return chunks;
+    }
+
+    private record DocumentRow(Long id, Map<String, String> fields, Long bookId) {
+    }
+}
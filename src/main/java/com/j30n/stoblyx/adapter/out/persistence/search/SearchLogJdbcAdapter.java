@@ -0,0 +1,109 @@
+package com.j30n.stoblyx.adapter.out.persistence.search;
+
+import com.j30n.stoblyx.application.port.out.search.SearchLogPort;
+import com.j30n.stoblyx.domain.model.SearchLogEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 검색 기록 일괄 저장용 JDBC 어댑터
+ * 엔티티를 거치지 않고 배치 INSERT 와 원자적 증분 UPDATE 로 기록합니다.
+ */
+@Component
+public class SearchLogJdbcAdapter implements SearchLogPort {
+
+    // 탈퇴 등으로 사용자가 없으면 기존 JPA 저장과 같이 user_id 를 비워 둠
+    private static final String INSERT_SEARCH_SQL =
+        "INSERT INTO search (user_id, search_term, search_type, search_count, last_searched_at, " +
+            "created_at, modified_at, is_deleted) " +
+            "VALUES ((SELECT u.id FROM users u WHERE u.id = ?), ?, ?, ?, ?, ?, ?, FALSE)";
+
+    private static final String INCREMENT_TERM_SQL =
+        "UPDATE search_term_profiles SET search_count = search_count + ?, modified_at = ? WHERE search_term = ?";
+
+    // UPDATE 와 INSERT 사이에 다른 인스턴스가 같은 검색어를 만들었을 수 있으므로 중복 시 증분으로 처리
+    private static final String UPSERT_TERM_SQL =
+        "INSERT INTO search_term_profiles (search_term, search_count, created_at, modified_at, is_deleted) " +
+            "VALUES (?, ?, ?, ?, FALSE) " +
+            "ON DUPLICATE KEY UPDATE search_count = search_count + VALUES(search_count), " +
+            "modified_at = VALUES(modified_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public SearchLogJdbcAdapter(JdbcTemplate jdbcTemplate,
+                                @Value("${search.log.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public int insertSearches(List<SearchLogEntry> entries) {
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SEARCH_SQL, entries, batchSize, (statement, entry) -> {
+            Timestamp searchedAt = Timestamp.valueOf(entry.searchedAt());
+            if (entry.userId() != null) {
+                statement.setLong(1, entry.userId());
+            } else {
+                statement.setNull(1, Types.BIGINT);
+            }
+            statement.setString(2, entry.searchTerm());
+            statement.setString(3, entry.searchType());
+            statement.setInt(4, entry.resultCount());
+            statement.setTimestamp(5, searchedAt);
+            statement.setTimestamp(6, searchedAt);
+            statement.setTimestamp(7, searchedAt);
+        });
+        int count = 0;
+        for (int[] batch : results) {
+            count += batch.length;
+        }
+        return count;
+    }
+
+    @Override
+    @Transactional
+    public void incrementSearchTermCounts(Map<String, Integer> incrementsByTerm, LocalDateTime updatedAt) {
+        if (incrementsByTerm.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        // 여러 인스턴스가 동시에 갱신해도 같은 순서로 행 잠금을 잡도록 검색어 순으로 정렬
+        List<Map.Entry<String, Integer>> increments = new ArrayList<>(new TreeMap<>(incrementsByTerm).entrySet());
+        int[][] results = jdbcTemplate.batchUpdate(INCREMENT_TERM_SQL, increments, batchSize, (statement, increment) -> {
+            statement.setInt(1, increment.getValue());
+            statement.setTimestamp(2, timestamp);
+            statement.setString(3, increment.getKey());
+        });
+
+        List<Map.Entry<String, Integer>> missing = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : results) {
+            for (int updated : batch) {
+                // 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO) 갱신된 것으로 간주
+                if (updated == 0) {
+                    missing.add(increments.get(index));
+                }
+                index++;
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_TERM_SQL, missing, batchSize, (statement, increment) -> {
+                statement.setString(1, increment.getKey());
+                statement.setInt(2, increment.getValue());
+                statement.setTimestamp(3, timestamp);
+                statement.setTimestamp(4, timestamp);
+            });
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.j30n.stoblyx.application.port.out.search.SearchPort;
 import com.j30n.stoblyx.domain.model.Book;
 import com.j30n.stoblyx.domain.model.Quote;
 import com.j30n.stoblyx.domain.model.Search;
+import com.j30n.stoblyx.domain.model.SearchKey;
 import com.j30n.stoblyx.domain.model.User;
 import com.j30n.stoblyx.domain.repository.BookRepository;
 import com.j30n.stoblyx.domain.repository.QuoteRepository;
@@ -11,10 +12,13 @@ import com.j30n.stoblyx.domain.repository.SearchRepository;
 import com.j30n.stoblyx.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 @Transactional
@@ -35,6 +39,20 @@ public class SearchPersistenceAdapter implements SearchPort {
     public Page<Book> findBooksByKeywordAndCategory(String searchTerm, String searchType, Pageable pageable) {
         return bookRepository.findByKeywordAndCategory(searchTerm, searchType, pageable);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SearchKey> findQuoteKeysByKeywordAndCategory(String keyword, String category, SearchKey after, int limit) {
+        return quoteRepository.findSearchKeysWithKeyset(keyword, category,
+            after != null ? after.createdAt() : null, after != null ? after.id() : null, PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SearchKey> findBookKeysByKeywordAndCategory(String keyword, String category, SearchKey after, int limit) {
+        return bookRepository.findSearchKeysWithKeyset(keyword, category,
+            after != null ? after.createdAt() : null, after != null ? after.id() : null, PageRequest.of(0, limit));
+    }
     
     @Override
     public Search saveSearch(String searchTerm, String searchType, Long userId, Integer searchCount) {
@@ -0,0 +1,44 @@
+package com.j30n.stoblyx.adapter.out.persistence.search;
+
+import com.j30n.stoblyx.application.port.out.search.SuggestionSourcePort;
+import com.j30n.stoblyx.domain.enums.SuggestionType;
+import com.j30n.stoblyx.domain.model.SuggestionEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 자동완성 사전 구축용 JDBC 어댑터
+ * 엔티티를 로딩하지 않고 텍스트와 인기도만 집계해서 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SuggestionSourceJdbcAdapter implements SuggestionSourcePort {
+
+    private static final String SEARCH_TERMS_SQL =
+        "SELECT search_term, MAX(popularity_score) AS weight FROM popular_search_terms " +
+            "WHERE is_deleted = FALSE GROUP BY search_term ORDER BY weight DESC LIMIT ?";
+    private static final String BOOK_TITLES_SQL =
+        "SELECT title, MAX(COALESCE(popularity, 0)) AS weight FROM books " +
+            "WHERE is_deleted = FALSE AND title IS NOT NULL GROUP BY title ORDER BY weight DESC LIMIT ?";
+    private static final String AUTHORS_SQL =
+        "SELECT author, SUM(COALESCE(popularity, 0)) + COUNT(*) AS weight FROM books " +
+            "WHERE is_deleted = FALSE AND author IS NOT NULL GROUP BY author ORDER BY weight DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SuggestionEntry> findSuggestionEntries(SuggestionType type, int limit) {
+        String sql = switch (type) {
+            case SEARCH_TERM -> SEARCH_TERMS_SQL;
+            case BOOK_TITLE -> BOOK_TITLES_SQL;
+            case AUTHOR -> AUTHORS_SQL;
+        };
+        return jdbcTemplate.query(sql,
+            (rs, rowNum) -> new SuggestionEntry(rs.getString(1), type, rs.getDouble(2)), limit);
+    }
+}
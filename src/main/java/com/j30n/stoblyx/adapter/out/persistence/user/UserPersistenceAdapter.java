@@ -2,6 +2,7 @@ package com.j30n.stoblyx.adapter.out.persistence.user;
 
 import com.j30n.stoblyx.application.port.out.user.UserPort;
 import com.j30n.stoblyx.domain.model.User;
+import com.j30n.stoblyx.domain.model.UserAccountSummary;
 import com.j30n.stoblyx.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -35,6 +36,11 @@ public class UserPersistenceAdapter implements UserPort {
     public Page<User> findAll(Pageable pageable) {
         return userRepository.findAll(pageable);
     }
+
+    @Override
+    public Page<UserAccountSummary> findAccountSummaries(Pageable pageable) {
+        return userRepository.findAccountSummaries(pageable);
+    }
     
     @Override
     public User saveUser(User user) {
@@ -61,4 +61,20 @@ public interface BookContentSearchUseCase {
      * @return 검색어와 관련된 전체 내용의 인용구 형태 요약
      */
     String findAndSummarizeAsQuote(Long bookId, String keyword, int maxSectionLength, int maxSections);
-} 
\ No newline at end of file
+
+    /**
+     * 이미 찾은 섹션들을 각각 요약합니다. 섹션을 다시 검색하지 않습니다.
+     *
+     * @param sections 요약할 섹션 목록
+     * @return 각 섹션의 요약 목록 (요약 실패 시 원본)
+     */
+    List<String> summarizeSections(List<String> sections);
+
+    /**
+     * 이미 찾은 섹션들을 하나의 인용구로 요약합니다. 섹션을 다시 검색하지 않습니다.
+     *
+     * @param sections 요약할 섹션 목록
+     * @return 인용구 형태 요약 (요약 실패 시 첫 번째 섹션)
+     */
+    String summarizeAsQuote(List<String> sections);
+}
@@ -1,6 +1,7 @@
 package com.j30n.stoblyx.application.port.in.content;
 
 import com.j30n.stoblyx.adapter.in.web.dto.content.ContentResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.content.TrendingContentResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,6 +13,15 @@ public interface ContentUseCase {
     Page<ContentResponse> getContentsByBook(Long bookId, Pageable pageable);
     Page<ContentResponse> searchContents(String keyword, Pageable pageable);
     Page<ContentResponse> getTrendingContents(Pageable pageable);
+
+    /**
+     * 시간 감쇠 점수 순으로 트렌딩 콘텐츠를 커서 페이지로 조회합니다.
+     *
+     * @param cursor 이전 응답의 커서 (첫 페이지면 null)
+     * @param size   페이지 크기
+     * @return 트렌딩 콘텐츠 목록과 다음 페이지 커서
+     */
+    TrendingContentResponse getTrendingContents(String cursor, int size);
     Page<ContentResponse> getPopularContents(Pageable pageable);
     Page<ContentResponse> getRecommendedContents(Long userId, Pageable pageable);
     /**
@@ -54,6 +54,14 @@ public interface RecommendationUseCase {
      * @return 주간 추천 정보
      */
     RecommendationResponse getWeeklyRecommendations();
+
+    /**
+     * 특정 사용자의 주간 추천 정보를 제공합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 주간 추천 정보
+     */
+    RecommendationResponse getWeeklyRecommendations(Long userId);
     
     /**
      * 사용자 유사성 기반 추천 목록을 제공합니다.
@@ -0,0 +1,49 @@
+package com.j30n.stoblyx.application.port.in.recommendation;
+
+import com.j30n.stoblyx.adapter.in.web.dto.book.BookResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.content.ContentResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.quote.QuoteResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.recommendation.RecommendationFeedResponse;
+
+/**
+ * 사용자별 사전 계산 추천 목록 조회를 위한 인터페이스
+ */
+public interface UserRecommendationFeedUseCase {
+
+    /**
+     * 사용자의 추천 도서 목록을 커서 페이징으로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 다음 페이지 커서 (첫 페이지면 null)
+     * @param size   페이지 크기
+     * @return 추천 도서 페이지
+     */
+    RecommendationFeedResponse<BookResponse> getBookFeed(Long userId, String cursor, int size);
+
+    /**
+     * 사용자의 추천 인용구 목록을 커서 페이징으로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 다음 페이지 커서 (첫 페이지면 null)
+     * @param size   페이지 크기
+     * @return 추천 인용구 페이지
+     */
+    RecommendationFeedResponse<QuoteResponse> getQuoteFeed(Long userId, String cursor, int size);
+
+    /**
+     * 사용자의 추천 숏폼 콘텐츠 목록을 커서 페이징으로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 다음 페이지 커서 (첫 페이지면 null)
+     * @param size   페이지 크기
+     * @return 추천 콘텐츠 페이지
+     */
+    RecommendationFeedResponse<ContentResponse> getContentFeed(Long userId, String cursor, int size);
+
+    /**
+     * 사용자의 추천 목록을 즉시 다시 계산하여 저장합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    void refreshUserRecommendations(Long userId);
+}
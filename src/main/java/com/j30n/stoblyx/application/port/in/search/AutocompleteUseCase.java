@@ -0,0 +1,21 @@
+package com.j30n.stoblyx.application.port.in.search;
+
+import com.j30n.stoblyx.adapter.in.web.dto.search.SuggestionResponse;
+
+import java.util.List;
+
+/**
+ * 검색어 자동완성을 위한 인터페이스
+ */
+public interface AutocompleteUseCase {
+
+    /**
+     * 입력 중인 검색어로 시작하는 추천어를 조회합니다.
+     * 메모리에 구축된 사전만 사용하므로 DB에 접근하지 않습니다.
+     *
+     * @param query 입력 중인 검색어 (초성이나 조합 중인 음절 포함)
+     * @param limit 최대 추천어 수
+     * @return 인기도 순 추천어 목록
+     */
+    List<SuggestionResponse> suggest(String query, int limit);
+}
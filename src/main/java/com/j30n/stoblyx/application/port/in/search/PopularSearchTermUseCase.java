@@ -0,0 +1,23 @@
+package com.j30n.stoblyx.application.port.in.search;
+
+import com.j30n.stoblyx.adapter.in.web.dto.recommendation.PopularTermResponse;
+import com.j30n.stoblyx.domain.enums.PopularTermWindow;
+
+import java.util.List;
+
+/**
+ * 실시간 인기 검색어 조회를 위한 인터페이스
+ */
+public interface PopularSearchTermUseCase {
+
+    /**
+     * 집계 구간 안에서 가장 많이 검색된 검색어를 조회합니다.
+     * 메모리 집계기에서 바로 응답합니다. 집계기가 한 번도 채워지지 않았을 때(검색도, 복원할 스냅샷도 없을 때)만
+     * DB 에 저장된 인기 검색어를 대신 사용하며, 그 외에는 구간 안에 검색이 없으면 빈 목록을 반환합니다.
+     *
+     * @param window 집계 구간
+     * @param limit  최대 조회 수
+     * @return 검색 횟수 순 인기 검색어 목록
+     */
+    List<PopularTermResponse> getPopularTerms(PopularTermWindow window, int limit);
+}
@@ -1,5 +1,6 @@
 package com.j30n.stoblyx.application.port.in.search;
 
+import com.j30n.stoblyx.adapter.in.web.dto.search.SearchCursorResponse;
 import com.j30n.stoblyx.adapter.in.web.dto.search.SearchRequest;
 import com.j30n.stoblyx.adapter.in.web.dto.search.SearchResponse;
 import com.j30n.stoblyx.domain.model.Search;
@@ -15,6 +16,16 @@ public interface SearchUseCase {
      * @return 검색 결과
      */
     Page<SearchResponse> search(SearchRequest request, Pageable pageable);
+
+    /**
+     * 문구와 책을 최신순으로 병합한 통합 검색을 커서 페이징으로 수행합니다.
+     *
+     * @param request 검색 요청 정보 (검색 타입은 무시됨)
+     * @param cursor 이전 응답의 다음 페이지 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 검색 결과 페이지
+     */
+    SearchCursorResponse searchAll(SearchRequest request, String cursor, int size);
     
     /**
      * 검색 기록을 저장합니다.
@@ -63,4 +63,13 @@ public interface BookPort {
      * @return 모든 책 목록
      */
     List<Book> findAllBooks();
+
+    /**
+     * ID 목록에 해당하는 책 목록을 장르 정보와 함께 조회합니다.
+     * 결과는 전달된 ID 순서를 따르며, 삭제되었거나 존재하지 않는 ID는 제외됩니다.
+     *
+     * @param ids 책 ID 목록
+     * @return 책 목록
+     */
+    List<Book> findAllByIds(List<Long> ids);
 }
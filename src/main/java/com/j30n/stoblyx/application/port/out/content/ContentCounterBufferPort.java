@@ -0,0 +1,67 @@
+package com.j30n.stoblyx.application.port.out.content;
+
+import com.j30n.stoblyx.domain.enums.ContentCounterType;
+
+import java.util.Map;
+
+/**
+ * DB 반영 전 콘텐츠 카운터 증분을 모아 두는 버퍼 포트
+ */
+public interface ContentCounterBufferPort {
+
+    /**
+     * 증분을 더합니다.
+     *
+     * @param type      카운터 종류
+     * @param contentId 콘텐츠 ID
+     * @param delta     증분
+     */
+    void increment(ContentCounterType type, Long contentId, long delta);
+
+    /**
+     * 아직 꺼내 가지 않은 증분을 조회합니다.
+     *
+     * @param type      카운터 종류
+     * @param contentId 콘텐츠 ID
+     * @return 대기 중인 증분 (없으면 0)
+     */
+    long pending(ContentCounterType type, Long contentId);
+
+    /**
+     * 대기 중인 증분을 모두 꺼내고 버퍼에서 비웁니다. 꺼내는 도중 들어온 증분은 유실되지 않고 다음에 꺼내집니다.
+     * 꺼낸 증분은 DB 에 반영한 뒤 {@link #complete}, 반영하지 못했으면 {@link #abort}로 마무리해야 합니다.
+     *
+     * @param type 카운터 종류
+     * @return 콘텐츠 ID별 증분 (다른 인스턴스가 꺼내는 중이면 비어 있음)
+     */
+    Map<Long, Long> drain(ContentCounterType type);
+
+    /**
+     * 꺼낸 증분이 DB 에 반영되었음을 알립니다.
+     *
+     * @param type 카운터 종류
+     */
+    void complete(ContentCounterType type);
+
+    /**
+     * 꺼낸 증분을 반영하지 못했음을 알립니다. 증분은 다음 drain 때 다시 꺼내집니다.
+     *
+     * @param type    카운터 종류
+     * @param drained 꺼냈던 증분
+     */
+    void abort(ContentCounterType type, Map<Long, Long> drained);
+
+    /**
+     * 대기 중인 증분을 비우지 않고 복사합니다.
+     *
+     * @param type 카운터 종류
+     * @return 콘텐츠 ID별 증분
+     */
+    Map<Long, Long> snapshot(ContentCounterType type);
+
+    /**
+     * 버퍼가 프로세스 재시작 후에도 남는지 여부
+     * 남지 않는 버퍼만 로컬 체크포인트 파일로 보호합니다.
+     */
+    boolean isDurable();
+}
@@ -0,0 +1,20 @@
+package com.j30n.stoblyx.application.port.out.content;
+
+import com.j30n.stoblyx.domain.enums.ContentCounterType;
+
+import java.util.Map;
+
+/**
+ * 콘텐츠 카운터 일괄 반영 포트
+ */
+public interface ContentCounterPort {
+
+    /**
+     * 콘텐츠별 증분을 저장된 카운터에 더합니다. 엔티티를 읽지 않고 원자적 증분 UPDATE 로 반영합니다.
+     *
+     * @param type           카운터 종류
+     * @param deltasByContent 콘텐츠 ID별 증분
+     * @return 갱신된 콘텐츠 수 (삭제된 콘텐츠는 제외)
+     */
+    int addCounts(ContentCounterType type, Map<Long, Long> deltasByContent);
+}
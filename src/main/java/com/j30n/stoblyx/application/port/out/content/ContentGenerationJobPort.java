@@ -0,0 +1,59 @@
+package com.j30n.stoblyx.application.port.out.content;
+
+import com.j30n.stoblyx.domain.enums.GenerationJobStatus;
+import com.j30n.stoblyx.domain.model.ContentGenerationJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 콘텐츠 생성 작업 큐 포트
+ * 임대한 작업의 상태 변경은 임대 토큰이 일치할 때만 반영되며, 반영 여부를 반환합니다.
+ */
+public interface ContentGenerationJobPort {
+
+    Optional<ContentGenerationJob> findByIdempotencyKey(String idempotencyKey);
+
+    ContentGenerationJob save(ContentGenerationJob job);
+
+    /**
+     * 처리할 수 있는 작업을 오래 기다린 순으로 최대 {@code limit}건 임대합니다.
+     * 여러 작업자가 동시에 호출해도 한 작업은 한 작업자에게만 돌아갑니다.
+     *
+     * @param limit          최대 건수
+     * @param now            현재 시각
+     * @param leaseExpiresAt 임대 만료 시각
+     * @return 임대한 작업 (시도 횟수는 이번 시도를 포함)
+     */
+    List<ContentGenerationJob> claim(int limit, LocalDateTime now, LocalDateTime leaseExpiresAt);
+
+    boolean complete(Long jobId, String leaseToken, LocalDateTime now);
+
+    /**
+     * 임대한 작업을 {@code availableAt} 이후에 다시 처리하도록 대기열로 돌립니다.
+     */
+    boolean reschedule(Long jobId, String leaseToken, LocalDateTime availableAt, String error, LocalDateTime now);
+
+    /**
+     * 임대한 작업을 더 이상 처리하지 않도록 포기 상태로 바꿉니다.
+     */
+    boolean giveUp(Long jobId, String leaseToken, String error, LocalDateTime now);
+
+    /**
+     * 임대가 만료된 작업(작업자가 죽었거나 멈춘 작업)을 대기열로 돌립니다.
+     *
+     * @return 돌려놓은 작업 수
+     */
+    int releaseExpiredLeases(LocalDateTime now);
+
+    Map<GenerationJobStatus, Long> countByStatus();
+
+    long countFinishedSince(GenerationJobStatus status, LocalDateTime since);
+
+    /**
+     * 지금 처리할 수 있는 작업 중 가장 오래 기다린 작업의 대기 시작 시각을 조회합니다.
+     */
+    Optional<LocalDateTime> findOldestAvailableAt(LocalDateTime now);
+}
@@ -1,10 +1,14 @@
 package com.j30n.stoblyx.application.port.out.content;
 
 import com.j30n.stoblyx.domain.enums.ContentStatus;
+import com.j30n.stoblyx.domain.model.MediaResourceSummary;
 import com.j30n.stoblyx.domain.model.ShortFormContent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ContentPort {
@@ -14,6 +18,31 @@ public interface ContentPort {
     Page<ShortFormContent> findAll(Pageable pageable);
     Page<ShortFormContent> findByUserId(Long userId, Pageable pageable);
     Page<ShortFormContent> findByBookId(Long bookId, Pageable pageable);
+
+    /**
+     * 여러 책의 콘텐츠를 한 번에 조회합니다.
+     *
+     * @param bookIds 책 ID 목록
+     * @param pageable 페이징 정보
+     * @return 콘텐츠 목록
+     */
+    Page<ShortFormContent> findByBookIds(Collection<Long> bookIds, Pageable pageable);
+
+    /**
+     * ID 목록의 콘텐츠를 한 번에 조회합니다. 결과는 입력 ID 순서를 유지하며 없는 ID는 제외됩니다.
+     *
+     * @param ids 콘텐츠 ID 목록
+     * @return 콘텐츠 목록
+     */
+    List<ShortFormContent> findAllByIds(List<Long> ids);
+
+    /**
+     * 여러 콘텐츠의 미디어 리소스 요약을 한 번의 쿼리로 조회합니다.
+     *
+     * @param contentIds 콘텐츠 ID 목록
+     * @return 콘텐츠 ID 별 미디어 요약 (ID 오름차순), 미디어가 없는 콘텐츠는 포함되지 않음
+     */
+    Map<Long, List<MediaResourceSummary>> findMediaByContentIds(Collection<Long> contentIds);
     Page<ShortFormContent> search(String keyword, Pageable pageable);
     Page<ShortFormContent> findTrendingContents(Pageable pageable);
     Page<ShortFormContent> findPopularContents(Pageable pageable);
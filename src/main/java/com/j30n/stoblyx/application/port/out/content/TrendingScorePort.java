@@ -0,0 +1,67 @@
+package com.j30n.stoblyx.application.port.out.content;
+
+import com.j30n.stoblyx.domain.model.TrendingEntry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 콘텐츠별 시간 감쇠 트렌딩 점수 저장소 포트
+ * <p>
+ * 점수는 {@link com.j30n.stoblyx.domain.model.TrendingDecay}의 로그 시간 점수이며, 저장소가 현재 반감기를 함께 보관해
+ * 여러 인스턴스가 같은 척도로 점수를 더하도록 합니다. 점수는 줄어들지 않으므로 (점수, ID) 커서로 읽으면 읽는 사이
+ * 점수가 바뀌어도 같은 항목이 다시 나오지 않습니다.
+ * </p>
+ */
+public interface TrendingScorePort {
+
+    /**
+     * 반응 하나를 콘텐츠 점수에 더합니다. 보관 한도를 넘으면 가장 낮은 점수부터 버립니다.
+     *
+     * @param contentId       콘텐츠 ID
+     * @param weight          반응 가중치 (0보다 커야 함)
+     * @param at              반응 시각
+     * @param initialHalfLife 저장소에 반감기가 아직 없을 때 쓸 반감기
+     */
+    void record(Long contentId, double weight, Instant at, Duration initialHalfLife);
+
+    /**
+     * 저장소의 반감기를 바꿉니다. 이미 같은 값이면 아무 것도 하지 않고, 다르면 모든 점수를 새 척도로 한 번 옮깁니다.
+     *
+     * @param halfLife 반감기
+     * @param at       바꾸는 시각
+     * @return 점수를 옮겼으면 true
+     */
+    boolean applyHalfLife(Duration halfLife, Instant at);
+
+    /**
+     * 점수 내림차순으로 주어진 항목 다음부터 읽습니다.
+     *
+     * @param after 마지막으로 읽은 항목 (처음부터 읽으면 null)
+     * @param limit 최대 개수
+     * @return 트렌딩 항목 목록
+     */
+    List<TrendingEntry> findAfter(TrendingEntry after, int limit);
+
+    /**
+     * 점수 내림차순으로 순위 구간을 읽습니다.
+     *
+     * @param offset 건너뛸 항목 수
+     * @param limit  최대 개수
+     * @return 트렌딩 항목 목록
+     */
+    List<TrendingEntry> findRange(long offset, int limit);
+
+    /**
+     * 보관 중인 항목 수를 조회합니다.
+     */
+    long count();
+
+    /**
+     * 콘텐츠를 순위에서 뺍니다.
+     *
+     * @param contentId 콘텐츠 ID
+     */
+    void remove(Long contentId);
+}
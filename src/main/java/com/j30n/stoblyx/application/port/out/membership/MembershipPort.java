@@ -0,0 +1,31 @@
+package com.j30n.stoblyx.application.port.out.membership;
+
+import com.j30n.stoblyx.domain.enums.MembershipType;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 반응 항목을 DB 에서 조회하기 위한 포트
+ */
+public interface MembershipPort {
+
+    /**
+     * 사용자가 반응한 항목 ID를 모두 조회합니다. 논리 삭제된 반응은 제외합니다.
+     *
+     * @param type   반응 종류
+     * @param userId 사용자 ID
+     * @return 콘텐츠 또는 인용구 ID 목록
+     */
+    List<Long> findItemIds(MembershipType type, Long userId);
+
+    /**
+     * 주어진 항목 중 사용자가 반응한 항목 ID를 IN 조건 한 번으로 조회합니다.
+     *
+     * @param type    반응 종류
+     * @param userId  사용자 ID
+     * @param itemIds 확인할 항목 ID
+     * @return 반응한 항목 ID 목록
+     */
+    List<Long> findItemIds(MembershipType type, Long userId, Collection<Long> itemIds);
+}
@@ -0,0 +1,54 @@
+package com.j30n.stoblyx.application.port.out.membership;
+
+import com.j30n.stoblyx.domain.enums.MembershipType;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 반응 항목 집합을 보관하는 저장소 포트
+ * <p>
+ * 집합은 사용자와 반응 종류마다 따로 적재(warm)되며, 적재되지 않은 집합은 조회 결과에서 빠집니다.
+ * 적재된 집합은 일정 시간 접근이 없으면 사라지고 다음 조회 때 다시 적재됩니다.
+ * </p>
+ */
+public interface MembershipStorePort {
+
+    /**
+     * 주어진 항목 중 사용자가 반응한 항목을 반응 종류별로 한 번에 조회합니다.
+     *
+     * @param userId  사용자 ID
+     * @param types   반응 종류
+     * @param itemIds 확인할 항목 ID
+     * @return 적재된 반응 종류별로 반응한 항목 ID (적재되지 않은 종류는 키가 없음)
+     */
+    Map<MembershipType, Set<Long>> findMembers(Long userId, Collection<MembershipType> types, Collection<Long> itemIds);
+
+    /**
+     * 사용자의 반응 항목 집합을 통째로 적재합니다. 기존 집합은 교체됩니다.
+     *
+     * @param type    반응 종류
+     * @param userId  사용자 ID
+     * @param itemIds 반응한 항목 ID 전체
+     */
+    void warm(MembershipType type, Long userId, Collection<Long> itemIds);
+
+    /**
+     * 적재된 집합에 항목을 더합니다. 적재되지 않은 집합은 건드리지 않습니다.
+     *
+     * @param type   반응 종류
+     * @param userId 사용자 ID
+     * @param itemId 항목 ID
+     */
+    void add(MembershipType type, Long userId, Long itemId);
+
+    /**
+     * 적재된 집합에서 항목을 뺍니다. 적재되지 않은 집합은 건드리지 않습니다.
+     *
+     * @param type   반응 종류
+     * @param userId 사용자 ID
+     * @param itemId 항목 ID
+     */
+    void remove(MembershipType type, Long userId, Long itemId);
+}
@@ -5,6 +5,8 @@ import com.j30n.stoblyx.domain.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface QuotePort {
@@ -18,4 +20,29 @@ public interface QuotePort {
     Page<Quote> findSavedQuotesByUserId(Long userId, Pageable pageable);
     void likeQuote(User user, Quote quote);
     void unlikeQuote(Long userId, Long quoteId);
+
+    /**
+     * 여러 책의 인용구를 한 번에 조회합니다.
+     *
+     * @param bookIds 책 ID 목록
+     * @param pageable 페이징 정보
+     * @return 인용구 목록
+     */
+    Page<Quote> findByBookIds(Collection<Long> bookIds, Pageable pageable);
+
+    /**
+     * 좋아요가 많은 순으로 인용구를 조회합니다.
+     *
+     * @param pageable 페이징 정보
+     * @return 인용구 목록
+     */
+    Page<Quote> findPopularQuotes(Pageable pageable);
+
+    /**
+     * ID 목록의 인용구를 한 번에 조회합니다. 결과는 입력 ID 순서를 유지하며 없는 ID는 제외됩니다.
+     *
+     * @param ids 인용구 ID 목록
+     * @return 인용구 목록
+     */
+    List<Quote> findAllByIds(List<Long> ids);
 }
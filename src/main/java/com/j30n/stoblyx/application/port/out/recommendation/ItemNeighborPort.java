@@ -0,0 +1,88 @@
+package com.j30n.stoblyx.application.port.out.recommendation;
+
+import com.j30n.stoblyx.domain.enums.NeighborItemType;
+import com.j30n.stoblyx.domain.model.ItemEngagement;
+import com.j30n.stoblyx.domain.model.ItemNeighbor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 아이템 간 공동 반응 이웃 테이블을 위한 포트
+ */
+public interface ItemNeighborPort {
+
+    /**
+     * 가장 큰 사용자 ID를 조회합니다.
+     *
+     * @return 최대 사용자 ID (사용자가 없으면 0)
+     */
+    long findMaxUserId();
+
+    /**
+     * 사용자 ID 구간 (fromUserId, toUserId]에 속한 사용자의 반응을 조회합니다.
+     *
+     * @param itemType   아이템 유형
+     * @param fromUserId 시작 사용자 ID (제외)
+     * @param toUserId   끝 사용자 ID (포함)
+     * @return 사용자-아이템 반응 목록 (중복 포함 가능)
+     */
+    List<ItemEngagement> findEngagementsByUserIdRange(NeighborItemType itemType, Long fromUserId, Long toUserId);
+
+    /**
+     * 주어진 사용자들의 반응을 조회합니다.
+     *
+     * @param itemType 아이템 유형
+     * @param userIds  사용자 ID 목록
+     * @return 사용자-아이템 반응 목록 (중복 포함 가능)
+     */
+    List<ItemEngagement> findEngagementsByUserIds(NeighborItemType itemType, Collection<Long> userIds);
+
+    /**
+     * 주어진 아이템에 반응한 사용자 ID를 조회합니다.
+     *
+     * @param itemType 아이템 유형
+     * @param itemIds  아이템 ID 목록
+     * @return 사용자 ID 집합
+     */
+    Set<Long> findUserIdsEngagedWith(NeighborItemType itemType, Collection<Long> itemIds);
+
+    /**
+     * 기준 시각 이후 반응이 변경된 아이템 ID를 조회합니다.
+     *
+     * @param itemType 아이템 유형
+     * @param since    기준 시각
+     * @return 아이템 ID 집합
+     */
+    Set<Long> findItemIdsChangedSince(NeighborItemType itemType, LocalDateTime since);
+
+    /**
+     * 주어진 아이템들의 이웃 행을 새 목록으로 교체합니다.
+     *
+     * @param itemType  아이템 유형
+     * @param itemIds   교체 대상 아이템 ID 목록 (이웃이 없어진 아이템 포함)
+     * @param neighbors 새 이웃 행 목록
+     */
+    void replaceNeighbors(NeighborItemType itemType, Collection<Long> itemIds, List<ItemNeighbor> neighbors);
+
+    /**
+     * 기준 시각 이전에 저장된 이웃 행을 삭제합니다.
+     *
+     * @param itemType 아이템 유형
+     * @param before   기준 시각
+     * @return 삭제된 행 수
+     */
+    int deleteNeighborsCreatedBefore(NeighborItemType itemType, LocalDateTime before);
+
+    /**
+     * 아이템의 이웃 ID를 순위 순으로 조회합니다.
+     *
+     * @param itemType 아이템 유형
+     * @param itemId   아이템 ID
+     * @param limit    최대 개수
+     * @return 이웃 아이템 ID 목록
+     */
+    List<Long> findNeighborIds(NeighborItemType itemType, Long itemId, int limit);
+}
@@ -1,7 +1,9 @@
 package com.j30n.stoblyx.application.port.out.recommendation;
 
+import com.j30n.stoblyx.domain.model.HourlyTermCount;
 import com.j30n.stoblyx.domain.model.PopularSearchTerm;
 import com.j30n.stoblyx.domain.model.SearchTermProfile;
+import com.j30n.stoblyx.domain.model.TermCount;
 import com.j30n.stoblyx.domain.model.User;
 import com.j30n.stoblyx.domain.model.UserSimilarity;
 import org.springframework.data.domain.Page;
@@ -9,7 +11,6 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 public interface RecommendationPort {
@@ -69,12 +70,23 @@ public interface RecommendationPort {
     Page<PopularSearchTerm> getPopularTerms(Pageable pageable);
     
     /**
-     * 최근 검색 기록을 조회합니다.
+     * 인기 검색어 스냅샷을 저장합니다. 스냅샷에 없는 기존 검색어의 인기도는 0으로 내리고,
+     * 시간 버킷별 검색 횟수는 이전 스냅샷의 것을 모두 지운 뒤 새로 저장합니다.
      *
-     * @param since 기준 시간
-     * @return 검색어와 검색 횟수 맵
+     * @param snapshot   검색어별 검색 횟수 (인기 순)
+     * @param hourly     스냅샷 검색어의 시간 버킷별 검색 횟수
+     * @param snapshotAt 스냅샷 시각
+     * @return 저장된 인기 검색어 수
      */
-    Map<String, Integer> getRecentSearchCounts(LocalDateTime since);
+    int savePopularTermSnapshot(List<TermCount> snapshot, List<HourlyTermCount> hourly, LocalDateTime snapshotAt);
+    
+    /**
+     * 기준 시각 이후의 시간 버킷에 저장된 인기 검색어 검색 횟수를 조회합니다.
+     *
+     * @param since 기준 시각 (이 시각에 시작하는 버킷 포함)
+     * @return 시간 버킷별 검색 횟수
+     */
+    List<HourlyTermCount> getPopularTermBucketsSince(LocalDateTime since);
     
     /**
      * 모든 사용자 목록을 조회합니다.
@@ -93,33 +105,6 @@ public interface RecommendationPort {
         return getPopularTerms(pageable);
     }
     
-    /**
-     * 인기 검색어 분석을 실행하고 업데이트합니다.
-     *
-     * @return 갱신된 인기 검색어 수
-     */
-    default Integer updatePopularSearchTerms() {
-        // 최근 24시간 검색 기록 조회
-        LocalDateTime since = LocalDateTime.now().minusHours(24);
-        Map<String, Integer> recentSearchCounts = getRecentSearchCounts(since);
-        
-        int updatedCount = 0;
-        
-        // 각 검색어의 인기도 점수 계산 및 저장
-        for (Map.Entry<String, Integer> entry : recentSearchCounts.entrySet()) {
-            String term = entry.getKey();
-            Integer count = entry.getValue();
-            
-            // 인기도 점수 계산 (간단한 예: 검색 횟수)
-            double popularityScore = count.doubleValue();
-            
-            savePopularTerm(term, count, popularityScore);
-            updatedCount++;
-        }
-        
-        return updatedCount;
-    }
-    
     /**
      * 현재 인증된 사용자의 ID를 가져옵니다.
      *
@@ -0,0 +1,55 @@
+package com.j30n.stoblyx.application.port.out.recommendation;
+
+import com.j30n.stoblyx.domain.enums.RecommendationItemType;
+import com.j30n.stoblyx.domain.model.UserRecommendationList;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자별 사전 계산 추천 목록 저장소를 위한 포트
+ */
+public interface UserRecommendationStorePort {
+
+    /**
+     * 사용자의 유형별 추천 목록을 조회합니다.
+     *
+     * @param userId   사용자 ID
+     * @param itemType 아이템 유형
+     * @return 추천 목록 Optional
+     */
+    Optional<UserRecommendationList> findList(Long userId, RecommendationItemType itemType);
+
+    /**
+     * 사용자의 유형별 추천 목록을 한 번에 저장합니다. 기존 목록은 교체됩니다.
+     *
+     * @param userId      사용자 ID
+     * @param itemIds     유형별 순위 순 아이템 ID
+     * @param fallbacks   인기 목록으로 채워진 유형
+     * @param generatedAt 계산 시각
+     */
+    void saveLists(Long userId, Map<RecommendationItemType, List<Long>> itemIds,
+                   Set<RecommendationItemType> fallbacks, LocalDateTime generatedAt);
+
+    /**
+     * 기준 시각 이후 활동한 사용자 ID를 최근 활동 순으로 조회합니다.
+     *
+     * @param since 기준 시각
+     * @param limit 최대 개수
+     * @return 사용자 ID 목록
+     */
+    List<Long> findRecentlyActiveUserIds(LocalDateTime since, int limit);
+
+    /**
+     * 주어진 사용자 중 기준 시각 이후 목록이 계산된 사용자 ID를 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @param since   기준 시각
+     * @return 최신 목록을 가진 사용자 ID
+     */
+    Set<Long> findUserIdsGeneratedSince(Collection<Long> userIds, LocalDateTime since);
+}
@@ -0,0 +1,65 @@
+package com.j30n.stoblyx.application.port.out.recommendation;
+
+import com.j30n.stoblyx.domain.model.UserSimilarityScore;
+import com.j30n.stoblyx.domain.model.UserTermWeight;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 협업 필터링 일괄 계산을 위한 사용자-검색어 행렬 입출력 포트
+ */
+public interface UserSimilarityMatrixPort {
+
+    /**
+     * 모든 사용자의 검색어 가중치를 한 번의 쿼리로 스트리밍합니다.
+     * 사용자 ID 순으로, 같은 사용자 안에서는 최근 검색 순으로 전달됩니다.
+     *
+     * @param consumer 원소를 받을 콜백
+     */
+    void streamUserTermWeights(Consumer<UserTermWeight> consumer);
+
+    /**
+     * 주어진 사용자들의 검색어 가중치를 스트리밍합니다. 전달 순서는 전체 스트리밍과 같습니다.
+     *
+     * @param userIds  사용자 ID 목록
+     * @param consumer 원소를 받을 콜백
+     */
+    void streamUserTermWeights(Collection<Long> userIds, Consumer<UserTermWeight> consumer);
+
+    /**
+     * 사용자 유사도를 일괄 upsert 합니다. 기존 행은 점수를 갱신하고 다시 활성화합니다.
+     *
+     * @param scores      유사도 목록
+     * @param refreshedAt 갱신 시각
+     * @return 처리된 행 수
+     */
+    int upsertUserSimilarities(List<UserSimilarityScore> scores, LocalDateTime refreshedAt);
+
+    /**
+     * 기준 시각 이후 갱신되지 않은 활성 사용자 유사도를 비활성화합니다.
+     *
+     * @param refreshedAt 기준 시각
+     * @return 비활성화된 행 수
+     */
+    int deactivateSimilaritiesNotRefreshedSince(LocalDateTime refreshedAt);
+
+    /**
+     * 주어진 소스 사용자의 유사도 중 기준 시각 이후 갱신되지 않은 행을 비활성화합니다.
+     *
+     * @param sourceUserIds 소스 사용자 ID 목록
+     * @param refreshedAt   기준 시각
+     * @return 비활성화된 행 수
+     */
+    int deactivateSimilaritiesNotRefreshedSince(Collection<Long> sourceUserIds, LocalDateTime refreshedAt);
+
+    /**
+     * 주어진 사용자를 대상으로 하는 활성 유사도의 소스 사용자 ID를 조회합니다.
+     *
+     * @param targetUserIds 대상 사용자 ID 목록
+     * @return 소스 사용자 ID 목록 (중복 없음)
+     */
+    List<Long> findActiveSourceUserIds(Collection<Long> targetUserIds);
+}
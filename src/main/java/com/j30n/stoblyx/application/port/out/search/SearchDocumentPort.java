@@ -0,0 +1,60 @@
+package com.j30n.stoblyx.application.port.out.search;
+
+import com.j30n.stoblyx.domain.enums.SearchDocumentType;
+import com.j30n.stoblyx.domain.model.SearchDocument;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 전문 검색 색인 구축을 위한 문서 조회 포트
+ * 엔티티를 거치지 않고 색인에 필요한 텍스트 필드와 장르만 읽습니다.
+ */
+public interface SearchDocumentPort {
+
+    /**
+     * 삭제되지 않은 문서를 ID 오름차순 키셋 페이지로 조회합니다.
+     *
+     * @param type    문서 유형
+     * @param afterId 이 ID보다 큰 문서부터 조회
+     * @param limit   최대 조회 수
+     * @return 문서 목록 (ID 오름차순)
+     */
+    List<SearchDocument> findDocuments(SearchDocumentType type, long afterId, int limit);
+
+    /**
+     * ID 목록 중 삭제되지 않은 문서를 조회합니다. 결과에 없는 ID는 삭제된 것으로 간주합니다.
+     *
+     * @param type 문서 유형
+     * @param ids  문서 ID 목록
+     * @return 문서 목록
+     */
+    List<SearchDocument> findDocumentsByIds(SearchDocumentType type, Collection<Long> ids);
+
+    /**
+     * 주어진 도서에 속한 문서 ID를 조회합니다. 도서 제목이나 장르가 바뀌었을 때 재색인 대상을 찾는 데 사용합니다.
+     *
+     * @param type    문서 유형 (QUOTE, CONTENT)
+     * @param bookIds 도서 ID 목록
+     * @return 문서 ID 목록
+     */
+    List<Long> findIdsByBookIds(SearchDocumentType type, Collection<Long> bookIds);
+
+    /**
+     * 주어진 시각 이후 수정된 문서 ID를 삭제 여부와 관계없이 조회합니다.
+     *
+     * @param type  문서 유형
+     * @param since 기준 시각
+     * @return 문서 ID 목록
+     */
+    List<Long> findIdsModifiedSince(SearchDocumentType type, LocalDateTime since);
+
+    /**
+     * 삭제되지 않은 문서 ID를 모두 조회합니다. 스냅숏 이후 영구 삭제되어 수정 시각으로는 찾을 수 없는 문서를 가려내는 데 사용합니다.
+     *
+     * @param type 문서 유형
+     * @return 문서 ID 목록
+     */
+    List<Long> findLiveIds(SearchDocumentType type);
+}
@@ -0,0 +1,29 @@
+package com.j30n.stoblyx.application.port.out.search;
+
+import com.j30n.stoblyx.domain.model.SearchLogEntry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 기록 일괄 저장 포트
+ */
+public interface SearchLogPort {
+
+    /**
+     * 검색 기록을 일괄 저장합니다. 존재하지 않는 사용자의 기록은 사용자 없이 저장됩니다.
+     *
+     * @param entries 검색 기록 목록
+     * @return 저장된 행 수
+     */
+    int insertSearches(List<SearchLogEntry> entries);
+
+    /**
+     * 검색어 프로필의 검색 횟수를 증분만큼 올립니다. 프로필이 없으면 새로 만듭니다.
+     *
+     * @param incrementsByTerm 검색어별 증분
+     * @param updatedAt        갱신 시각
+     */
+    void incrementSearchTermCounts(Map<String, Integer> incrementsByTerm, LocalDateTime updatedAt);
+}
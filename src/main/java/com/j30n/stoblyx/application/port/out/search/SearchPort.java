@@ -3,9 +3,12 @@ package com.j30n.stoblyx.application.port.out.search;
 import com.j30n.stoblyx.domain.model.Book;
 import com.j30n.stoblyx.domain.model.Quote;
 import com.j30n.stoblyx.domain.model.Search;
+import com.j30n.stoblyx.domain.model.SearchKey;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface SearchPort {
     /**
      * 키워드와 카테고리로 문구를 검색합니다.
@@ -26,6 +29,28 @@ public interface SearchPort {
      * @return 검색된 책 목록
      */
     Page<Book> findBooksByKeywordAndCategory(String keyword, String category, Pageable pageable);
+
+    /**
+     * 키워드와 카테고리로 문구의 정렬 키를 최신순 키셋 페이징으로 조회합니다.
+     *
+     * @param keyword 검색 키워드
+     * @param category 카테고리
+     * @param after 마지막으로 읽은 정렬 키 (첫 페이지면 null)
+     * @param limit 조회할 최대 건수
+     * @return (생성 시각, ID) 내림차순 정렬 키 목록
+     */
+    List<SearchKey> findQuoteKeysByKeywordAndCategory(String keyword, String category, SearchKey after, int limit);
+
+    /**
+     * 키워드와 카테고리로 책의 정렬 키를 최신순 키셋 페이징으로 조회합니다.
+     *
+     * @param keyword 검색 키워드
+     * @param category 카테고리
+     * @param after 마지막으로 읽은 정렬 키 (첫 페이지면 null)
+     * @param limit 조회할 최대 건수
+     * @return (생성 시각, ID) 내림차순 정렬 키 목록
+     */
+    List<SearchKey> findBookKeysByKeywordAndCategory(String keyword, String category, SearchKey after, int limit);
     
     /**
      * 검색 기록을 저장합니다.
@@ -0,0 +1,21 @@
+package com.j30n.stoblyx.application.port.out.search;
+
+import com.j30n.stoblyx.domain.enums.SuggestionType;
+import com.j30n.stoblyx.domain.model.SuggestionEntry;
+
+import java.util.List;
+
+/**
+ * 자동완성 사전 구축을 위한 추천어 조회 포트
+ */
+public interface SuggestionSourcePort {
+
+    /**
+     * 출처별 추천어를 인기도 내림차순으로 조회합니다. 같은 텍스트는 한 건으로 합칩니다.
+     *
+     * @param type  추천어 출처
+     * @param limit 최대 조회 수
+     * @return 추천어 목록 (인기도 내림차순)
+     */
+    List<SuggestionEntry> findSuggestionEntries(SuggestionType type, int limit);
+}
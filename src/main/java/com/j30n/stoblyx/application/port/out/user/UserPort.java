@@ -1,6 +1,7 @@
 package com.j30n.stoblyx.application.port.out.user;
 
 import com.j30n.stoblyx.domain.model.User;
+import com.j30n.stoblyx.domain.model.UserAccountSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -43,6 +44,14 @@ public interface UserPort {
      */
     Page<User> findAll(Pageable pageable);
 
+    /**
+     * 관리자 목록에 필요한 사용자 컬럼만 페이징하여 조회합니다.
+     *
+     * @param pageable 페이징 정보
+     * @return 사용자 요약 페이지
+     */
+    Page<UserAccountSummary> findAccountSummaries(Pageable pageable);
+
     /**
      * 사용자 정보 저장
      *
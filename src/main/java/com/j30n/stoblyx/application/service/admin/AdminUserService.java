@@ -29,7 +29,7 @@ public class AdminUserService implements AdminUserUseCase {
     @Transactional(readOnly = true)
     public Page<AdminUserResponse> getAllUsers(Pageable pageable) {
         log.debug("관리자: 모든 사용자 목록 조회, pageable={}", pageable);
-        return userPort.findAll(pageable)
+        return userPort.findAccountSummaries(pageable)
             .map(AdminUserResponse::from);
     }
 
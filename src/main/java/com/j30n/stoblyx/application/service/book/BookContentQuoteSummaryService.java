@@ -55,9 +55,8 @@ public class BookContentQuoteSummaryService implements BookContentQuoteSummaryUs
                         .build();
             }
             
-            // 섹션을 요약하여 인용구로 변환
-            String summarizedContent = bookContentSearchUseCase.findAndSummarizeAsQuote(
-                    bookId, keyword, maxSectionLength, 1);
+            // 찾은 섹션을 다시 검색하지 않고 인용구로 요약
+            String summarizedContent = bookContentSearchUseCase.summarizeAsQuote(List.of(content));
             
             return createQuoteSummaryResponse(null, book, content, summarizedContent);
             
@@ -88,9 +87,8 @@ public class BookContentQuoteSummaryService implements BookContentQuoteSummaryUs
                 return Collections.emptyList();
             }
             
-            // 찾은 섹션들을 각각 요약
-            List<String> summarizedSections = bookContentSearchUseCase.findAndSummarizeRelevantSections(
-                    bookId, keyword, maxSectionLength, maxSections);
+            // 찾은 섹션들을 다시 검색하지 않고 각각 요약
+            List<String> summarizedSections = bookContentSearchUseCase.summarizeSections(sections);
             
             // 결과를 QuoteSummaryResponse 목록으로 변환
             List<QuoteSummaryResponse> responses = new ArrayList<>();
@@ -133,8 +131,7 @@ public class BookContentQuoteSummaryService implements BookContentQuoteSummaryUs
             String originalContent = String.join("\n\n", sections);
             
             // 섹션을 통합하여 인용구로 요약
-            String summarizedContent = bookContentSearchUseCase.findAndSummarizeAsQuote(
-                    bookId, keyword, maxSectionLength, maxSections);
+            String summarizedContent = bookContentSearchUseCase.summarizeAsQuote(sections);
             
             return createQuoteSummaryResponse(null, book, originalContent, summarizedContent);
             
@@ -1,20 +1,22 @@
 package com.j30n.stoblyx.application.service.book;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.j30n.stoblyx.adapter.out.persistence.ai.KoBartClient;
 import com.j30n.stoblyx.application.port.in.book.BookContentSearchUseCase;
 import com.j30n.stoblyx.application.port.out.book.BookPort;
 import com.j30n.stoblyx.application.port.out.summary.SummaryPort;
+import com.j30n.stoblyx.domain.event.SummaryChangedEvent;
 import com.j30n.stoblyx.domain.model.Book;
 import com.j30n.stoblyx.domain.model.Summary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -42,6 +44,28 @@ public class BookContentSearchService implements BookContentSearchUseCase {
      */
     private static final int DEFAULT_MAX_SECTIONS = 3;
 
+    /**
+     * 색인 구절 최대 글자 수 (긴 문단은 문장 경계에서 이 길이 이하로 나눔)
+     */
+    private static final int MAX_PASSAGE_LENGTH = 400;
+
+    /**
+     * 색인에 포함할 책당 최대 요약 수
+     */
+    private static final int MAX_INDEXED_SUMMARIES = 500;
+
+    /**
+     * 색인을 메모리에 유지할 최대 책 수
+     */
+    private static final int MAX_CACHED_BOOKS = 256;
+
+    /**
+     * 책 ID별 구절 색인 (요약 변경 이벤트로 무효화)
+     */
+    private final Cache<Long, PassageIndex> passageIndexes = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_BOOKS)
+            .build();
+
     @Override
     @Transactional(readOnly = true)
     public String findRelevantSection(Long bookId, String keyword, int maxSectionLength) {
@@ -68,17 +92,13 @@ public class BookContentSearchService implements BookContentSearchUseCase {
         int actualMaxSections = maxSections > 0 ? maxSections : DEFAULT_MAX_SECTIONS;
         
         try {
-            // 책 정보 조회
-            Book book = bookPort.findBookById(bookId)
-                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 책입니다. ID: " + bookId));
-            
-            // 먼저 책의 요약 내용에서 검색
-            List<String> relevantSections = new ArrayList<>();
-            relevantSections.addAll(findRelevantSummaries(book, keyword, actualMaxSections));
-            
-            // 필요한 섹션 수만큼 반환
-            return relevantSections.stream()
-                    .limit(actualMaxSections)
+            // 책마다 한 번 구축한 구절 색인에서 BM25 상위 구절을 찾음
+            List<String> passages = passageIndex(bookId).search(keyword, actualMaxSections);
+            if (passages.isEmpty()) {
+                log.debug("책에 요약 내용이 없습니다: bookId={}", bookId);
+            }
+
+            return passages.stream()
                     .map(section -> truncateToMaxLength(section, actualMaxLength))
                     .collect(Collectors.toList());
             
@@ -116,9 +136,21 @@ public class BookContentSearchService implements BookContentSearchUseCase {
         log.debug("책에서 관련 섹션들을 찾고 요약: bookId={}, keyword={}, maxLength={}, maxSections={}", 
                 bookId, keyword, maxSectionLength, maxSections);
                 
-        List<String> sections = findRelevantSections(bookId, keyword, maxSectionLength, maxSections);
-        
-        if (sections.isEmpty()) {
+        return summarizeSections(findRelevantSections(bookId, keyword, maxSectionLength, maxSections));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public String findAndSummarizeAsQuote(Long bookId, String keyword, int maxSectionLength, int maxSections) {
+        log.debug("책에서 관련 섹션을 찾고 인용구로 요약: bookId={}, keyword={}, maxLength={}, maxSections={}", 
+                bookId, keyword, maxSectionLength, maxSections);
+                
+        return summarizeAsQuote(findRelevantSections(bookId, keyword, maxSectionLength, maxSections));
+    }
+
+    @Override
+    public List<String> summarizeSections(List<String> sections) {
+        if (sections == null || sections.isEmpty()) {
             log.warn("관련 섹션을 찾을 수 없어 요약을 수행할 수 없습니다.");
             return Collections.emptyList();
         }
@@ -131,16 +163,10 @@ public class BookContentSearchService implements BookContentSearchUseCase {
             return sections; // 오류 발생 시 원본 반환
         }
     }
-    
+
     @Override
-    @Transactional(readOnly = true)
-    public String findAndSummarizeAsQuote(Long bookId, String keyword, int maxSectionLength, int maxSections) {
-        log.debug("책에서 관련 섹션을 찾고 인용구로 요약: bookId={}, keyword={}, maxLength={}, maxSections={}", 
-                bookId, keyword, maxSectionLength, maxSections);
-                
-        List<String> sections = findRelevantSections(bookId, keyword, maxSectionLength, maxSections);
-        
-        if (sections.isEmpty()) {
+    public String summarizeAsQuote(List<String> sections) {
+        if (sections == null || sections.isEmpty()) {
             log.warn("관련 섹션을 찾을 수 없어 요약을 수행할 수 없습니다.");
             return "";
         }
@@ -156,68 +182,33 @@ public class BookContentSearchService implements BookContentSearchUseCase {
     }
     
     /**
-     * 책의 요약 내용에서 검색어와 관련된 요약을 찾습니다.
+     * 요약이 바뀐 책의 구절 색인을 버립니다. 다음 검색 때 다시 구축됩니다.
      */
-    private List<String> findRelevantSummaries(Book book, String keyword, int maxSections) {
-        log.debug("책 요약에서 검색어 관련 내용 찾기: bookId={}, keyword={}", book.getId(), keyword);
-        
-        // 책의 모든 요약 조회
-        Pageable pageable = PageRequest.of(0, 50); // 최대 50개 요약 조회
-        Page<Summary> summaries = summaryPort.findByBook(book, pageable);
-        
-        if (summaries.isEmpty()) {
-            log.debug("책에 요약 내용이 없습니다: bookId={}", book.getId());
-            return Collections.emptyList();
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSummaryChanged(SummaryChangedEvent event) {
+        if (event.bookId() != null) {
+            passageIndexes.invalidate(event.bookId());
         }
-        
-        // 검색어를 기준으로 관련성 점수 계산 후 정렬
-        return summaries.getContent().stream()
-                .filter(summary -> summary.getContent() != null && !summary.getContent().isEmpty())
-                .sorted((s1, s2) -> compareRelevance(s2.getContent(), s1.getContent(), keyword)) // 점수 높은 순
-                .map(Summary::getContent)
-                .limit(maxSections)
-                .collect(Collectors.toList());
     }
-    
-    /**
-     * 두 텍스트 중 검색어와 더 관련성이 높은 텍스트를 비교합니다.
-     * 검색어 등장 빈도, 문맥 등을 고려하여 점수를 매깁니다.
-     */
-    private int compareRelevance(String text1, String text2, String keyword) {
-        // 검색어를 포함하는 경우 가중치 부여
-        int score1 = calculateRelevanceScore(text1, keyword);
-        int score2 = calculateRelevanceScore(text2, keyword);
-        
-        return Integer.compare(score1, score2);
-    }
-    
+
     /**
-     * 텍스트와 검색어 간의 관련성 점수를 계산합니다.
+     * 책의 구절 색인을 캐시에서 가져오고, 없으면 요약을 조회해 구축합니다.
      */
-    private int calculateRelevanceScore(String text, String keyword) {
-        if (text == null || keyword == null) {
-            return 0;
-        }
-        
-        // 기본 검색 (대소문자 구분 없이)
-        String lowerText = text.toLowerCase();
-        String lowerKeyword = keyword.toLowerCase();
-        
-        // 검색어 빈도수 계산
-        int frequency = 0;
-        int index = 0;
-        while ((index = lowerText.indexOf(lowerKeyword, index)) != -1) {
-            frequency++;
-            index += lowerKeyword.length();
-        }
-        
-        // 검색어가 제목이나 중요 위치(앞부분)에 있는지 확인
-        int positionScore = lowerText.indexOf(lowerKeyword) == -1 ? 0 : 100 - Math.min(lowerText.indexOf(lowerKeyword), 100);
-        
-        // 종합 점수 계산 (빈도 + 위치 가중치)
-        return frequency * 10 + positionScore;
+    private PassageIndex passageIndex(Long bookId) {
+        return passageIndexes.get(bookId, id -> {
+            Book book = bookPort.findBookById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 책입니다. ID: " + id));
+            Page<Summary> summaries = summaryPort.findByBook(book, PageRequest.of(0, MAX_INDEXED_SUMMARIES));
+            List<String> contents = summaries.getContent().stream()
+                    .map(Summary::getContent)
+                    .filter(content -> content != null && !content.isBlank())
+                    .collect(Collectors.toList());
+            PassageIndex index = PassageIndex.build(contents, MAX_PASSAGE_LENGTH);
+            log.debug("책 구절 색인 구축: bookId={}, summaries={}, passages={}", id, contents.size(), index.size());
+            return index;
+        });
     }
-    
+
     /**
      * 텍스트를 최대 길이로 제한합니다.
      * (실제 토큰 계산은 단순화하여 평균적인 글자 수로 대체)
@@ -245,4 +236,4 @@ public class BookContentSearchService implements BookContentSearchUseCase {
         
         return text.substring(0, endIndex);
     }
-} 
\ No newline at end of file
+}
@@ -5,12 +5,17 @@ import com.j30n.stoblyx.adapter.in.web.dto.book.BookDetailResponse;
 import com.j30n.stoblyx.adapter.in.web.dto.book.BookResponse;
 import com.j30n.stoblyx.application.port.in.book.BookUseCase;
 import com.j30n.stoblyx.application.port.out.book.BookPort;
+import com.j30n.stoblyx.application.service.recommendation.ItemNeighborService;
+import com.j30n.stoblyx.application.service.search.FullTextSearchIndex;
 import com.j30n.stoblyx.domain.model.Book;
+import com.j30n.stoblyx.domain.enums.NeighborItemType;
+import com.j30n.stoblyx.domain.enums.SearchDocumentType;
 import com.j30n.stoblyx.domain.model.BookInfo;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -30,10 +35,15 @@ public class BookService implements BookUseCase {
     private static final String RECOMMENDATION_TYPE_HISTORY = "history";
     private static final String RECOMMENDATION_TYPE_INTEREST = "interest";
     private final BookPort bookPort;
+    private final ItemNeighborService itemNeighborService;
+    private final FullTextSearchIndex fullTextSearchIndex;
     private final BookService self;
 
-    public BookService(BookPort bookPort, @Lazy BookService self) {
+    public BookService(BookPort bookPort, ItemNeighborService itemNeighborService,
+                       FullTextSearchIndex fullTextSearchIndex, @Lazy BookService self) {
         this.bookPort = bookPort;
+        this.itemNeighborService = itemNeighborService;
+        this.fullTextSearchIndex = fullTextSearchIndex;
         this.self = self;
     }
 
@@ -99,7 +109,9 @@ public class BookService implements BookUseCase {
     @Override
     @Transactional(readOnly = true)
     public Page<BookResponse> searchBooks(String keyword, String category, Pageable pageable) {
-        return bookPort.findByKeywordAndCategory(keyword, category, pageable)
+        // 전문 검색 색인이 준비되지 않았으면 DB LIKE 검색으로 대체
+        return fullTextSearchIndex.searchPage(SearchDocumentType.BOOK, keyword, category, pageable, bookPort::findAllByIds)
+            .orElseGet(() -> bookPort.findByKeywordAndCategory(keyword, category, pageable))
             .map(BookResponse::from);
     }
 
@@ -241,14 +253,18 @@ public class BookService implements BookUseCase {
             Book book = bookPort.findById(bookId)
                 .orElseThrow(() -> new EntityNotFoundException(BOOK_NOT_FOUND_WITH_ID + bookId));
 
-            // 책의 장르가 없는 경우 기본 추천 반환
-            if (book.getGenres() == null || book.getGenres().isEmpty()) {
+            // 함께 반응을 받은 이웃 책이 없는 경우 기본 추천 반환
+            List<Long> neighborIds = itemNeighborService.getNeighborIds(NeighborItemType.BOOK, book.getId(), Integer.MAX_VALUE);
+            if (neighborIds.isEmpty()) {
                 return self.getRecommendedBooks(RECOMMENDATION_TYPE_DEFAULT, pageable);
             }
 
-            // 테스트 통과를 위해 간단히 추천 책 목록 반환
-            // 실제 구현에서는 장르 기반 유사 책 검색 로직 구현 필요
-            return self.getRecommendedBooks(RECOMMENDATION_TYPE_DEFAULT, pageable);
+            int from = (int) Math.min(pageable.getOffset(), neighborIds.size());
+            int to = Math.min(from + pageable.getPageSize(), neighborIds.size());
+            List<BookResponse> books = bookPort.findAllByIds(neighborIds.subList(from, to)).stream()
+                .map(BookResponse::from)
+                .toList();
+            return new PageImpl<>(books, pageable, neighborIds.size());
         } catch (Exception e) {
             log.warn("유사한 책 목록 조회 중 오류 발생: {}", e.getMessage());
             // 오류 발생 시 빈 페이지 반환
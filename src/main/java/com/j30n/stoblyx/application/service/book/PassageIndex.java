@@ -0,0 +1,197 @@
+package com.j30n.stoblyx.application.service.book;
+
+import com.j30n.stoblyx.common.util.text.TermDictionary;
+import com.j30n.stoblyx.common.util.text.TextTokenizer;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 한 책의 요약 본문에 대한 불변 구절 색인
+ * <p>
+ * 요약을 문단 단위로 나누고, 긴 문단은 문장을 이어 붙여 최대 길이 이하의 구절로 다시 나눕니다.
+ * 구축 시 구절별 용어 빈도(바이그램은 절반 가중치)와 구절 길이를 포스팅 목록으로 계산해 두고,
+ * 검색은 질의 용어의 포스팅만 한 번씩 훑어 BM25 점수를 누적한 뒤 힙으로 상위 구절을 고릅니다.
+ * </p>
+ * <p>
+ * 구축 후에는 읽기만 하므로 여러 스레드에서 공유해도 됩니다.
+ * </p>
+ */
+final class PassageIndex {
+
+    static final double BIGRAM_WEIGHT = 0.5;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final TextTokenizer TOKENIZER = TextTokenizer.builder()
+        .hangulBigrams(true)
+        .stopwords(TextTokenizer.DEFAULT_STOPWORDS)
+        .build();
+    private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\R+");
+    private static final Pattern SENTENCE_BREAK = Pattern.compile("(?<=[.!?。])\\s+");
+
+    private final List<String> passages;
+    private final TermDictionary terms;
+    private final int[][] postingPassages;
+    private final float[][] postingWeights;
+    private final float[] lengths;
+    private final double averageLength;
+
+    private PassageIndex(List<String> passages, TermDictionary terms, int[][] postingPassages,
+                         float[][] postingWeights, float[] lengths) {
+        this.passages = passages;
+        this.terms = terms;
+        this.postingPassages = postingPassages;
+        this.postingWeights = postingWeights;
+        this.lengths = lengths;
+        double total = 0;
+        for (float length : lengths) {
+            total += length;
+        }
+        this.averageLength = lengths.length > 0 ? Math.max(total / lengths.length, 1.0) : 1.0;
+    }
+
+    /**
+     * 요약 본문 목록으로 색인을 구축합니다.
+     *
+     * @param texts             요약 본문 (순서가 구절 순서가 됨)
+     * @param maxPassageLength  구절 최대 글자 수 (한 문장이 이보다 길면 그 문장 하나가 구절이 됨)
+     */
+    static PassageIndex build(List<String> texts, int maxPassageLength) {
+        List<String> passages = new ArrayList<>();
+        for (String text : texts) {
+            if (text != null && !text.isBlank()) {
+                split(text, maxPassageLength, passages);
+            }
+        }
+
+        TermDictionary terms = new TermDictionary();
+        List<Map<Integer, Float>> passageWeights = new ArrayList<>(passages.size());
+        float[] lengths = new float[passages.size()];
+        for (int p = 0; p < passages.size(); p++) {
+            Map<Integer, Float> weights = new HashMap<>();
+            TOKENIZER.tokenize(passages.get(p), terms, true, (termId, position, bigram) ->
+                weights.merge(termId, bigram ? (float) BIGRAM_WEIGHT : 1f, Float::sum));
+            passageWeights.add(weights);
+            for (float weight : weights.values()) {
+                lengths[p] += weight;
+            }
+        }
+
+        int[] documentFrequencies = new int[terms.size()];
+        for (Map<Integer, Float> weights : passageWeights) {
+            for (int termId : weights.keySet()) {
+                documentFrequencies[termId]++;
+            }
+        }
+        int[][] postingPassages = new int[terms.size()][];
+        float[][] postingWeights = new float[terms.size()][];
+        for (int termId = 0; termId < terms.size(); termId++) {
+            postingPassages[termId] = new int[documentFrequencies[termId]];
+            postingWeights[termId] = new float[documentFrequencies[termId]];
+        }
+        int[] filled = new int[terms.size()];
+        for (int p = 0; p < passageWeights.size(); p++) {
+            for (Map.Entry<Integer, Float> entry : passageWeights.get(p).entrySet()) {
+                int termId = entry.getKey();
+                postingPassages[termId][filled[termId]] = p;
+                postingWeights[termId][filled[termId]++] = entry.getValue();
+            }
+        }
+        return new PassageIndex(List.copyOf(passages), terms, postingPassages, postingWeights, lengths);
+    }
+
+    /**
+     * 질의와 가장 관련된 구절을 BM25 점수 순으로 찾습니다.
+     * 일치하는 구절이 하나도 없으면 앞쪽 구절을 원래 순서대로 반환합니다.
+     *
+     * @param query 검색어
+     * @param limit 최대 구절 수
+     * @return 구절 목록
+     */
+    List<String> search(String query, int limit) {
+        if (limit <= 0 || passages.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Integer, Double> queryTerms = new HashMap<>();
+        TOKENIZER.tokenize(query, (buffer, start, length, position, bigram) -> {
+            int termId = terms.find(buffer, start, length);
+            if (termId >= 0) {
+                queryTerms.merge(termId, bigram ? BIGRAM_WEIGHT : 1.0, Math::max);
+            }
+        });
+
+        double[] scores = new double[passages.size()];
+        int passageCount = passages.size();
+        for (Map.Entry<Integer, Double> entry : queryTerms.entrySet()) {
+            int[] passageIds = postingPassages[entry.getKey()];
+            float[] weights = postingWeights[entry.getKey()];
+            double idf = Math.log(1 + (passageCount - passageIds.length + 0.5) / (passageIds.length + 0.5));
+            for (int i = 0; i < passageIds.length; i++) {
+                double tf = weights[i];
+                double norm = K1 * (1 - B + B * lengths[passageIds[i]] / averageLength);
+                scores[passageIds[i]] += entry.getValue() * idf * tf * (K1 + 1) / (tf + norm);
+            }
+        }
+
+        // 점수가 낮은(같으면 뒤쪽) 구절이 맨 위에 오는 크기 limit 의 힙
+        Comparator<Integer> worstFirst = Comparator.<Integer>comparingDouble(p -> scores[p])
+            .thenComparing(Comparator.reverseOrder());
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.min(limit, passageCount) + 1, worstFirst);
+        for (int p = 0; p < passageCount; p++) {
+            if (scores[p] <= 0) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.offer(p);
+            } else if (worstFirst.compare(p, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(p);
+            }
+        }
+        if (heap.isEmpty()) {
+            return passages.subList(0, Math.min(limit, passageCount));
+        }
+
+        List<Integer> top = new ArrayList<>(heap);
+        top.sort(worstFirst.reversed());
+        List<String> result = new ArrayList<>(top.size());
+        for (int p : top) {
+            result.add(passages.get(p));
+        }
+        return result;
+    }
+
+    /**
+     * 색인된 구절 수
+     */
+    int size() {
+        return passages.size();
+    }
+
+    private static void split(String text, int maxPassageLength, List<String> passages) {
+        for (String paragraph : PARAGRAPH_BREAK.split(text)) {
+            paragraph = paragraph.trim();
+            if (paragraph.isEmpty()) {
+                continue;
+            }
+            if (paragraph.length() <= maxPassageLength) {
+                passages.add(paragraph);
+                continue;
+            }
+            StringBuilder passage = new StringBuilder();
+            for (String sentence : SENTENCE_BREAK.split(paragraph)) {
+                if (passage.length() > 0 && passage.length() + 1 + sentence.length() > maxPassageLength) {
+                    passages.add(passage.toString());
+                    passage.setLength(0);
+                }
+                if (passage.length() > 0) {
+                    passage.append(' ');
+                }
+                passage.append(sentence);
+            }
+            if (passage.length() > 0) {
+                passages.add(passage.toString());
+            }
+        }
+    }
+}
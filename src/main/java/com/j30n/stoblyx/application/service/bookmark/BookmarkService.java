@@ -35,8 +35,7 @@ public class BookmarkService {
         userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException(USER_NOT_FOUND_MSG + userId));
 
-        // 북마크 목록 조회 로직 구현
-        // 실제로는 JPA 쿼리를 사용하여 북마크와 콘텐츠를 조인하여 조회해야 함
+        // 콘텐츠는 북마크와 함께 조인해 한 번에 조회
         Page<ContentBookmark> bookmarks = bookmarkRepository.findByUserId(userId, pageable);
         
         return bookmarks.map(bookmark -> {
@@ -70,8 +69,8 @@ public class BookmarkService {
         userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException(USER_NOT_FOUND_MSG + userId));
 
-        for (Long contentId : contentIds) {
-            bookmarkRepository.deleteByUserIdAndContentId(userId, contentId);
+        if (!contentIds.isEmpty()) {
+            bookmarkRepository.deleteByUserIdAndContentIdIn(userId, contentIds);
         }
     }
 } 
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.j30n.stoblyx.application.port.in.content.ContentCommentUseCase;
 import com.j30n.stoblyx.application.port.out.auth.AuthPort;
 import com.j30n.stoblyx.application.port.out.content.ContentCommentPort;
 import com.j30n.stoblyx.application.port.out.content.ContentPort;
+import com.j30n.stoblyx.domain.enums.TrendingEventType;
 import com.j30n.stoblyx.domain.model.ContentComment;
 import com.j30n.stoblyx.domain.model.ShortFormContent;
 import com.j30n.stoblyx.domain.model.User;
@@ -28,6 +29,7 @@ public class ContentCommentService implements ContentCommentUseCase {
     private final ContentCommentPort contentCommentPort;
     private final ContentPort contentPort;
     private final AuthPort authPort;
+    private final TrendingContentService trendingContentService;
 
     @Override
     @Transactional
@@ -41,7 +43,9 @@ public class ContentCommentService implements ContentCommentUseCase {
             .content(request.commentText())
             .build();
 
-        return ContentCommentResponse.from(contentCommentPort.saveComment(comment));
+        ContentComment saved = contentCommentPort.saveComment(comment);
+        trendingContentService.record(contentId, TrendingEventType.COMMENT);
+        return ContentCommentResponse.from(saved);
     }
 
     @Override
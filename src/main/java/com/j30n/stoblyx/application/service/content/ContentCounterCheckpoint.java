@@ -0,0 +1,119 @@
+package com.j30n.stoblyx.application.service.content;
+
+import com.j30n.stoblyx.domain.enums.ContentCounterType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 반영 전 카운터 증분을 보관하는 로컬 추가 전용 체크포인트 파일
+ * <p>
+ * 체크포인트마다 그 시점의 대기 증분 전체를 {@code BEGIN} ~ {@code END <행 수>} 블록으로 파일 끝에 덧붙이고
+ * 디스크에 동기화합니다. 복구 시에는 행 수가 맞는 마지막 블록만 사용하므로 쓰는 도중 죽어서 잘린 블록은 무시됩니다.
+ * 파일이 최대 크기를 넘으면 새 블록만 담은 임시 파일로 원자적으로 교체합니다.
+ * </p>
+ */
+final class ContentCounterCheckpoint {
+
+    private static final String BEGIN = "BEGIN";
+    private static final String END = "END";
+
+    private final Path file;
+    private final long maxBytes;
+
+    ContentCounterCheckpoint(Path file, long maxBytes) {
+        this.file = file;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 마지막으로 온전히 기록된 체크포인트를 읽습니다.
+     *
+     * @return 카운터 종류별, 콘텐츠 ID별 증분 (파일이 없거나 온전한 블록이 없으면 비어 있음)
+     */
+    Map<ContentCounterType, Map<Long, Long>> readLatest() throws IOException {
+        Map<ContentCounterType, Map<Long, Long>> latest = new EnumMap<>(ContentCounterType.class);
+        if (!Files.exists(file)) {
+            return latest;
+        }
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        Map<ContentCounterType, Map<Long, Long>> block = null;
+        int rows = 0;
+        for (String line : lines) {
+            String[] fields = line.split(" ");
+            try {
+                if (BEGIN.equals(fields[0])) {
+                    block = new EnumMap<>(ContentCounterType.class);
+                    rows = 0;
+                } else if (END.equals(fields[0])) {
+                    if (block != null && fields.length == 2 && Integer.parseInt(fields[1]) == rows) {
+                        latest = block;
+                    }
+                    block = null;
+                } else if (block != null && fields.length == 3) {
+                    block.computeIfAbsent(ContentCounterType.valueOf(fields[0]), type -> new HashMap<>())
+                        .merge(Long.parseLong(fields[1]), Long.parseLong(fields[2]), Long::sum);
+                    rows++;
+                } else {
+                    block = null;
+                }
+            } catch (IllegalArgumentException e) {
+                // 잘리거나 깨진 행이 있는 블록은 버림
+                block = null;
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * 대기 증분 전체를 새 블록으로 기록합니다.
+     *
+     * @param pending 카운터 종류별, 콘텐츠 ID별 증분
+     */
+    void append(Map<ContentCounterType, Map<Long, Long>> pending) throws IOException {
+        StringBuilder block = new StringBuilder(BEGIN).append(' ').append(System.currentTimeMillis()).append('\n');
+        int rows = 0;
+        for (Map.Entry<ContentCounterType, Map<Long, Long>> byType : pending.entrySet()) {
+            for (Map.Entry<Long, Long> delta : byType.getValue().entrySet()) {
+                block.append(byType.getKey().name()).append(' ')
+                    .append(delta.getKey()).append(' ')
+                    .append(delta.getValue()).append('\n');
+                rows++;
+            }
+        }
+        block.append(END).append(' ').append(rows).append('\n');
+        byte[] bytes = block.toString().getBytes(StandardCharsets.UTF_8);
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        if (Files.exists(file) && Files.size(file) + bytes.length > maxBytes) {
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            write(temp, bytes, StandardOpenOption.TRUNCATE_EXISTING);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } else {
+            write(file, bytes, StandardOpenOption.APPEND);
+        }
+    }
+
+    private static void write(Path path, byte[] bytes, StandardOpenOption mode) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.j30n.stoblyx.application.service.content;
+
+import com.j30n.stoblyx.application.port.out.content.ContentCounterBufferPort;
+import com.j30n.stoblyx.application.port.out.content.ContentCounterPort;
+import com.j30n.stoblyx.domain.enums.ContentCounterType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 콘텐츠 조회수/공유수 지연 반영 서비스
+ * <p>
+ * 조회와 공유는 {@link ContentCounterBufferPort}에 증분만 더하고, 주기적인 플러시가 콘텐츠별 증분을 모아
+ * 원자적 증분 UPDATE 로 일괄 반영합니다. 화면에 보이는 횟수는 저장된 값에 {@link #pending}을 더해 계산합니다.
+ * </p>
+ * <p>
+ * 버퍼가 프로세스 메모리에 있을 때 {@code content.counter.checkpoint-file}을 지정하면 대기 증분을 주기적으로
+ * {@link ContentCounterCheckpoint}에 기록하고 시작 시 복구합니다. DB 반영 직후 다음 체크포인트 전에 죽으면
+ * 마지막 체크포인트가 다시 반영될 수 있어, 유실 대신 한 번의 플러시 분량까지 중복될 수 있습니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ContentCounterService {
+
+    private final ContentCounterPort contentCounterPort;
+    private final ContentCounterBufferPort contentCounterBufferPort;
+    private final ContentCounterCheckpoint checkpoint;
+
+    // 버퍼에서 꺼냈지만 아직 DB 에 반영되지 않은 증분 (반영 중에도 조회 결과가 줄지 않도록 더해 줌)
+    private final Map<ContentCounterType, Map<Long, Long>> inFlight = new ConcurrentHashMap<>();
+    private volatile boolean changedSinceCheckpoint;
+
+    private final Counter flushedIncrements;
+    private final Counter failedFlushes;
+
+    public ContentCounterService(ContentCounterPort contentCounterPort,
+                                 ContentCounterBufferPort contentCounterBufferPort,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${content.counter.checkpoint-file:}") String checkpointFile,
+                                 @Value("${content.counter.checkpoint-max-bytes:1048576}") long checkpointMaxBytes) {
+        this.contentCounterPort = contentCounterPort;
+        this.contentCounterBufferPort = contentCounterBufferPort;
+        if (checkpointFile.isBlank()) {
+            this.checkpoint = null;
+        } else if (contentCounterBufferPort.isDurable()) {
+            log.info("카운터 버퍼가 재시작 후에도 유지되므로 체크포인트 파일을 사용하지 않습니다: {}", checkpointFile);
+            this.checkpoint = null;
+        } else {
+            this.checkpoint = new ContentCounterCheckpoint(Path.of(checkpointFile), checkpointMaxBytes);
+        }
+
+        this.flushedIncrements = Counter.builder("content.counter.flushed")
+            .description("DB 에 반영된 조회수/공유수 증분 합계")
+            .register(meterRegistry);
+        this.failedFlushes = Counter.builder("content.counter.flush.failed")
+            .description("반영에 실패해 다음 플러시로 미뤄진 횟수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 카운터를 1 올립니다. DB 에는 다음 플러시 때 반영됩니다.
+     *
+     * @param type      카운터 종류
+     * @param contentId 콘텐츠 ID
+     */
+    public void increment(ContentCounterType type, Long contentId) {
+        contentCounterBufferPort.increment(type, contentId, 1);
+        changedSinceCheckpoint = true;
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증분을 조회합니다.
+     *
+     * @param type      카운터 종류
+     * @param contentId 콘텐츠 ID
+     * @return 저장된 값에 더해야 할 증분
+     */
+    public long pending(ContentCounterType type, Long contentId) {
+        Map<Long, Long> flushing = inFlight.get(type);
+        long inFlightDelta = flushing != null ? flushing.getOrDefault(contentId, 0L) : 0L;
+        return contentCounterBufferPort.pending(type, contentId) + inFlightDelta;
+    }
+
+    /**
+     * 대기 중인 증분 일괄 반영 (기본 2초마다 실행)
+     */
+    @Scheduled(fixedDelayString = "${content.counter.flush-interval-ms:2000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 대기 중인 증분을 카운터 종류별로 꺼내 반영합니다. 실패한 증분은 버퍼에 남아 다음 플러시 때 다시 반영됩니다.
+     *
+     * @return 갱신된 콘텐츠 행 수
+     */
+    public synchronized int flush() {
+        int updated = 0;
+        boolean flushed = false;
+        for (ContentCounterType type : ContentCounterType.values()) {
+            Map<Long, Long> drained = contentCounterBufferPort.drain(type);
+            if (drained.isEmpty()) {
+                continue;
+            }
+            inFlight.put(type, drained);
+            try {
+                updated += contentCounterPort.addCounts(type, drained);
+                contentCounterBufferPort.complete(type);
+                flushedIncrements.increment(drained.values().stream().mapToLong(Long::longValue).sum());
+                flushed = true;
+            } catch (Exception e) {
+                contentCounterBufferPort.abort(type, drained);
+                failedFlushes.increment();
+                log.error("콘텐츠 {} 카운터 {}건 반영 중 오류 발생: {}", type, drained.size(), e.getMessage(), e);
+            } finally {
+                inFlight.remove(type);
+            }
+        }
+        // 반영된 증분이 체크포인트에서 빠지도록 바로 새 체크포인트를 남김
+        if (flushed) {
+            writeCheckpoint();
+        }
+        return updated;
+    }
+
+    /**
+     * 대기 증분 체크포인트 기록 (기본 1초마다, 체크포인트 파일을 지정했을 때만)
+     */
+    @Scheduled(fixedDelayString = "${content.counter.checkpoint-interval-ms:1000}")
+    public void scheduledCheckpoint() {
+        if (checkpoint != null && changedSinceCheckpoint) {
+            writeCheckpoint();
+        }
+    }
+
+    /**
+     * 시작 시 체크포인트에 남은 증분을 버퍼로 되돌립니다. 스케줄러가 첫 체크포인트를 쓰기 전에 실행되어야 합니다.
+     */
+    @PostConstruct
+    public void recoverCheckpoint() {
+        if (checkpoint == null) {
+            return;
+        }
+        try {
+            Map<ContentCounterType, Map<Long, Long>> recovered = checkpoint.readLatest();
+            int entries = 0;
+            for (Map.Entry<ContentCounterType, Map<Long, Long>> byType : recovered.entrySet()) {
+                for (Map.Entry<Long, Long> delta : byType.getValue().entrySet()) {
+                    contentCounterBufferPort.increment(byType.getKey(), delta.getKey(), delta.getValue());
+                    entries++;
+                }
+            }
+            if (entries > 0) {
+                log.info("체크포인트에서 반영되지 않은 카운터 증분 {}건을 복구했습니다.", entries);
+                changedSinceCheckpoint = true;
+            }
+        } catch (IOException e) {
+            log.error("카운터 체크포인트 복구 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 종료 시 남은 증분을 모두 반영합니다.
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    private synchronized void writeCheckpoint() {
+        if (checkpoint == null) {
+            return;
+        }
+        // 스냅샷을 뜨는 동안 들어온 증분은 다음 체크포인트에 담기도록 먼저 표시를 지움
+        changedSinceCheckpoint = false;
+        Map<ContentCounterType, Map<Long, Long>> snapshot = new EnumMap<>(ContentCounterType.class);
+        for (ContentCounterType type : ContentCounterType.values()) {
+            snapshot.put(type, contentCounterBufferPort.snapshot(type));
+        }
+        try {
+            checkpoint.append(snapshot);
+        } catch (IOException e) {
+            changedSinceCheckpoint = true;
+            log.error("카운터 체크포인트 기록 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
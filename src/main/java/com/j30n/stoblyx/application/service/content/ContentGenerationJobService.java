@@ -0,0 +1,263 @@
+package com.j30n.stoblyx.application.service.content;
+
+import com.j30n.stoblyx.adapter.in.web.dto.admin.AdminContentGenerationQueueResponse;
+import com.j30n.stoblyx.application.port.out.content.ContentGenerationJobPort;
+import com.j30n.stoblyx.application.port.out.content.ContentPort;
+import com.j30n.stoblyx.domain.enums.ContentStatus;
+import com.j30n.stoblyx.domain.enums.GenerationJobStatus;
+import com.j30n.stoblyx.domain.model.ContentGenerationJob;
+import com.j30n.stoblyx.domain.model.Quote;
+import com.j30n.stoblyx.domain.model.ShortFormContent;
+import com.j30n.stoblyx.domain.repository.QuoteRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 콘텐츠 생성 작업 큐 서비스
+ * <p>
+ * 생성 요청은 처리 중(PROCESSING) 콘텐츠와 작업 한 건을 같은 트랜잭션으로 저장하고 바로 돌아갑니다.
+ * 실제 생성은 {@link ContentGenerationWorker}가 작업을 임대해 처리하며, 실패하면 지수 백오프로 다시 시도하고
+ * 재시도 한도를 넘기면 작업을 포기하고 콘텐츠를 실패(FAILED)로 표시합니다. 작업자가 죽어 임대가 만료된 작업은
+ * 주기적으로 대기열에 되돌립니다.
+ * </p>
+ * <p>
+ * 같은 인용구의 요청은 인용구별 멱등 키로 하나의 작업과 콘텐츠로 모이며, 포기한 작업만 다시 대기열에 넣습니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ContentGenerationJobService {
+
+    private static final String QUOTE_NOT_FOUND_MSG = "인용구를 찾을 수 없습니다. ID: ";
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ContentGenerationJobPort jobPort;
+    private final ContentPort contentPort;
+    private final QuoteRepository quoteRepository;
+    private final ContentGenerationService contentGenerationService;
+    private final ContentGenerationJobService self;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public ContentGenerationJobService(ContentGenerationJobPort jobPort,
+                                       ContentPort contentPort,
+                                       QuoteRepository quoteRepository,
+                                       ContentGenerationService contentGenerationService,
+                                       @Lazy ContentGenerationJobService self,
+                                       @Value("${content.generation.jobs.max-attempts:5}") int maxAttempts,
+                                       @Value("${content.generation.jobs.backoff-ms:5000}") long backoffMillis,
+                                       @Value("${content.generation.jobs.max-backoff-ms:600000}") long maxBackoffMillis,
+                                       @Value("${content.generation.jobs.lease-ms:120000}") long leaseMillis) {
+        this.jobPort = jobPort;
+        this.contentPort = contentPort;
+        this.quoteRepository = quoteRepository;
+        this.contentGenerationService = contentGenerationService;
+        this.self = self;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoff = Duration.ofMillis(backoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.lease = Duration.ofMillis(leaseMillis);
+    }
+
+    /**
+     * 인용구의 콘텐츠 생성을 대기열에 넣습니다. 같은 인용구의 작업이 이미 있으면 그 콘텐츠를 돌려줍니다.
+     *
+     * @param quoteId 인용구 ID
+     * @return 생성 결과가 채워질 콘텐츠 ID
+     * @throws EntityNotFoundException 인용구가 없는 경우
+     */
+    public Long enqueue(Long quoteId) {
+        try {
+            return self.enqueueInTransaction(quoteId);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 인용구의 요청이 동시에 들어와 다른 요청이 먼저 작업을 만든 경우
+            log.debug("동시에 들어온 콘텐츠 생성 요청을 기존 작업으로 합칩니다: quoteId={}", quoteId);
+            return self.enqueueInTransaction(quoteId);
+        }
+    }
+
+    @Transactional
+    public Long enqueueInTransaction(Long quoteId) {
+        Quote quote = quoteRepository.findById(quoteId)
+            .orElseThrow(() -> new EntityNotFoundException(QUOTE_NOT_FOUND_MSG + quoteId));
+        LocalDateTime now = LocalDateTime.now();
+
+        Optional<ContentGenerationJob> existing = jobPort.findByIdempotencyKey(ContentGenerationJob.idempotencyKey(quoteId));
+        if (existing.isEmpty()) {
+            ShortFormContent content = contentPort.save(newContent(quote));
+            jobPort.save(ContentGenerationJob.builder()
+                .quoteId(quoteId)
+                .contentId(content.getId())
+                .availableAt(now)
+                .build());
+            log.info("콘텐츠 생성 작업 등록 - Quote ID: {}, Content ID: {}", quoteId, content.getId());
+            return content.getId();
+        }
+
+        ContentGenerationJob job = existing.get();
+        Optional<ShortFormContent> content = contentPort.findById(job.getContentId())
+            .filter(found -> !found.isDeleted());
+        if (job.getStatus() != GenerationJobStatus.DEAD && content.isPresent()) {
+            return job.getContentId();
+        }
+        // 포기한 작업이거나 결과 콘텐츠가 지워진 경우에만 다시 생성
+        ShortFormContent target = content.orElseGet(() -> contentPort.save(newContent(quote)));
+        target.updateStatus(ContentStatus.PROCESSING);
+        job.requeue(target.getId(), now);
+        log.info("콘텐츠 생성 작업 재등록 - Quote ID: {}, Content ID: {}", quoteId, target.getId());
+        return target.getId();
+    }
+
+    /**
+     * 처리할 작업을 최대 {@code limit}건 임대합니다.
+     */
+    @Transactional
+    public List<ContentGenerationJob> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return jobPort.claim(limit, now, now.plus(lease));
+    }
+
+    /**
+     * 작업의 인용구를 읽어 생성 요청으로 만듭니다.
+     *
+     * @throws EntityNotFoundException 인용구가 삭제된 경우
+     */
+    @Transactional(readOnly = true)
+    public ContentGenerationService.GenerationRequest prepare(ContentGenerationJob job) {
+        Quote quote = quoteRepository.findById(job.getQuoteId())
+            .orElseThrow(() -> new EntityNotFoundException(QUOTE_NOT_FOUND_MSG + job.getQuoteId()));
+        return ContentGenerationService.GenerationRequest.from(quote);
+    }
+
+    /**
+     * 작업을 완료로 바꾸고 생성된 미디어를 콘텐츠에 붙입니다.
+     *
+     * @return 반영 여부 (임대가 만료되어 다른 작업자에게 넘어갔으면 false)
+     */
+    @Transactional
+    public boolean complete(ContentGenerationJob job, ContentGenerationService.GeneratedMedia media) {
+        if (!jobPort.complete(job.getId(), job.getLeaseToken(), LocalDateTime.now())) {
+            log.warn("임대가 만료된 콘텐츠 생성 작업의 결과를 버립니다: jobId={}", job.getId());
+            return false;
+        }
+        contentPort.findById(job.getContentId()).ifPresent(content -> {
+            contentGenerationService.attachMedia(content, media);
+            content.updateStatus(ContentStatus.COMPLETED);
+            contentPort.save(content);
+        });
+        return true;
+    }
+
+    /**
+     * 실패한 시도를 기록합니다. 다시 시도할 수 있으면 백오프 후로 미루고, 아니면 작업을 포기하고 콘텐츠를 실패로 표시합니다.
+     *
+     * @param job       임대한 작업
+     * @param error     실패 사유
+     * @param retryable 다시 시도해 볼 만한 실패인지 여부
+     * @return 작업의 새 상태 (PENDING 또는 DEAD), 임대가 만료되어 반영하지 못했으면 null
+     */
+    @Transactional
+    public GenerationJobStatus fail(ContentGenerationJob job, String error, boolean retryable) {
+        LocalDateTime now = LocalDateTime.now();
+        String message = truncate(error);
+        if (retryable && job.getAttempts() < maxAttempts) {
+            Duration delay = backoff(job.getAttempts(), baseBackoff, maxBackoff);
+            if (!jobPort.reschedule(job.getId(), job.getLeaseToken(), now.plus(delay), message, now)) {
+                return null;
+            }
+            log.warn("콘텐츠 생성 작업 실패, {}초 후 다시 시도합니다 ({}/{}): jobId={}, error={}",
+                delay.toSeconds(), job.getAttempts(), maxAttempts, job.getId(), message);
+            return GenerationJobStatus.PENDING;
+        }
+        if (!jobPort.giveUp(job.getId(), job.getLeaseToken(), message, now)) {
+            return null;
+        }
+        contentPort.findById(job.getContentId()).ifPresent(content -> {
+            content.updateStatus(ContentStatus.FAILED);
+            contentPort.save(content);
+        });
+        log.error("콘텐츠 생성 작업을 포기합니다 ({}회 시도): jobId={}, error={}", job.getAttempts(), job.getId(), message);
+        return GenerationJobStatus.DEAD;
+    }
+
+    /**
+     * 임대 만료 후 다시 임대되며 재시도 한도를 넘긴 작업인지 확인합니다.
+     */
+    public boolean isExhausted(ContentGenerationJob job) {
+        return job.getAttempts() > maxAttempts;
+    }
+
+    /**
+     * 임대가 만료된 작업을 대기열로 돌립니다.
+     *
+     * @return 돌려놓은 작업 수
+     */
+    @Transactional
+    public int recoverExpiredLeases() {
+        int released = jobPort.releaseExpiredLeases(LocalDateTime.now());
+        if (released > 0) {
+            log.warn("임대가 만료된 콘텐츠 생성 작업 {}건을 대기열로 돌렸습니다.", released);
+        }
+        return released;
+    }
+
+    /**
+     * 작업 큐의 적체량과 처리량을 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public AdminContentGenerationQueueResponse getQueueStatus() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<GenerationJobStatus, Long> counts = jobPort.countByStatus();
+        long oldestWaitSeconds = jobPort.findOldestAvailableAt(now)
+            .map(availableAt -> Math.max(0, Duration.between(availableAt, now).toSeconds()))
+            .orElse(0L);
+        return new AdminContentGenerationQueueResponse(
+            counts.get(GenerationJobStatus.PENDING),
+            counts.get(GenerationJobStatus.RUNNING),
+            counts.get(GenerationJobStatus.COMPLETED),
+            counts.get(GenerationJobStatus.DEAD),
+            oldestWaitSeconds,
+            jobPort.countFinishedSince(GenerationJobStatus.COMPLETED, now.minusMinutes(1)),
+            jobPort.countFinishedSince(GenerationJobStatus.COMPLETED, now.minusHours(1)),
+            jobPort.countFinishedSince(GenerationJobStatus.DEAD, now.minusHours(1)));
+    }
+
+    /**
+     * n 번째 시도가 실패한 뒤 기다릴 시간 (기본 대기 시간의 2^(n-1) 배, 최대 대기 시간까지)
+     */
+    static Duration backoff(int attempt, Duration base, Duration max) {
+        int exponent = Math.min(Math.max(attempt - 1, 0), 30);
+        Duration delay = base.multipliedBy(1L << exponent);
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+
+    private static ShortFormContent newContent(Quote quote) {
+        return ShortFormContent.builder()
+            .quote(quote)
+            .book(quote.getBook())
+            .title(quote.getBook().getTitle() + " - 인용구")
+            .description(quote.getContent())
+            .status(ContentStatus.PROCESSING)
+            .build();
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,176 @@
+package com.j30n.stoblyx.application.service.content;
+
+import com.j30n.stoblyx.domain.enums.GenerationStage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 콘텐츠 생성 단계 실행기
+ * <p>
+ * 단계({@link GenerationStage})마다 크기가 정해진 전용 스레드 풀과 대기열, 시간 예산을 둡니다. 한 단계의 외부 API 가
+ * 느려져도 그 단계의 스레드와 대기열만 차고 다른 단계나 다른 생성 작업은 영향을 받지 않습니다. 예산을 넘기거나
+ * 실패하거나 대기열이 가득 차면 대체 값으로 완료하므로, 여러 단계를 함께 기다리는 시간은 가장 긴 예산을 넘지 않습니다.
+ * </p>
+ * <p>
+ * 설정: {@code content.generation.<단계>.threads}, {@code .queue-capacity}, {@code .timeout-ms}
+ * (단계 이름은 visual, narration, bgm, subtitle). 단계별 처리 시간은 {@code content.generation.stage.duration}
+ * 히스토그램에 결과(success, timeout, failure, rejected)별로, 대기열 길이는 {@code content.generation.stage.queue.depth}에
+ * 기록합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ContentGenerationPipeline {
+
+    private static final String[] OUTCOMES = {"success", "timeout", "failure", "rejected"};
+
+    private final Map<GenerationStage, StageRunner> runners = new EnumMap<>(GenerationStage.class);
+
+    @Autowired
+    public ContentGenerationPipeline(Environment environment, MeterRegistry meterRegistry) {
+        this(settingsFrom(environment), meterRegistry);
+    }
+
+    ContentGenerationPipeline(Map<GenerationStage, StageSettings> settings, MeterRegistry meterRegistry) {
+        for (GenerationStage stage : GenerationStage.values()) {
+            runners.put(stage, new StageRunner(stage, settings.get(stage), meterRegistry));
+        }
+    }
+
+    /**
+     * 단계 작업을 해당 단계의 스레드 풀에 넣습니다.
+     * 반환된 작업은 예외로 끝나지 않으며, 시간 예산 초과, 실패, 대기열 초과 시 대체 값으로 완료됩니다.
+     * 예산을 넘긴 작업은 인터럽트해 스레드를 돌려받습니다.
+     *
+     * @param stage    단계
+     * @param task     단계 작업
+     * @param fallback 대체 값 (가벼운 계산이어야 함)
+     * @return 단계 결과
+     */
+    public <T> CompletableFuture<T> submit(GenerationStage stage, Supplier<T> task, Supplier<T> fallback) {
+        return runners.get(stage).submit(task, fallback);
+    }
+
+    /**
+     * 단계의 대기열에 쌓인 작업 수를 조회합니다.
+     */
+    public int queueDepth(GenerationStage stage) {
+        return runners.get(stage).executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runners.values().forEach(runner -> runner.executor.shutdownNow());
+    }
+
+    private static Map<GenerationStage, StageSettings> settingsFrom(Environment environment) {
+        Map<GenerationStage, StageSettings> settings = new EnumMap<>(GenerationStage.class);
+        for (GenerationStage stage : GenerationStage.values()) {
+            String prefix = "content.generation." + stage.getKey() + ".";
+            settings.put(stage, new StageSettings(
+                environment.getProperty(prefix + "threads", Integer.class, stage.getDefaultThreads()),
+                environment.getProperty(prefix + "queue-capacity", Integer.class, stage.getDefaultQueueCapacity()),
+                environment.getProperty(prefix + "timeout-ms", Long.class, stage.getDefaultTimeoutMillis())));
+        }
+        return settings;
+    }
+
+    /**
+     * 단계 하나의 실행 설정
+     *
+     * @param threads       스레드 수
+     * @param queueCapacity 대기열 크기 (0 이면 빈 스레드가 없을 때 바로 대체 값 사용)
+     * @param timeoutMillis 대기열에 들어간 때부터 잰 시간 예산
+     */
+    record StageSettings(int threads, int queueCapacity, long timeoutMillis) {
+    }
+
+    private static final class StageRunner {
+
+        private final GenerationStage stage;
+        private final ThreadPoolExecutor executor;
+        private final long timeoutMillis;
+        private final Map<String, Timer> timers = new HashMap<>();
+
+        private StageRunner(GenerationStage stage, StageSettings settings, MeterRegistry meterRegistry) {
+            this.stage = stage;
+            this.timeoutMillis = settings.timeoutMillis();
+            int threads = Math.max(1, settings.threads());
+            BlockingQueue<Runnable> queue = settings.queueCapacity() > 0
+                ? new ArrayBlockingQueue<>(settings.queueCapacity())
+                : new SynchronousQueue<>();
+            this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, queue,
+                new CustomizableThreadFactory("content-gen-" + stage.getKey() + "-"));
+            this.executor.allowCoreThreadTimeOut(true);
+
+            Gauge.builder("content.generation.stage.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("콘텐츠 생성 단계 대기열에 쌓인 작업 수")
+                .tag("stage", stage.getKey())
+                .register(meterRegistry);
+            for (String outcome : OUTCOMES) {
+                timers.put(outcome, Timer.builder("content.generation.stage.duration")
+                    .description("콘텐츠 생성 단계 처리 시간 (대기열 대기 포함)")
+                    .tag("stage", stage.getKey())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            }
+        }
+
+        private <T> CompletableFuture<T> submit(Supplier<T> task, Supplier<T> fallback) {
+            long startedAt = System.nanoTime();
+            CompletableFuture<T> result = new CompletableFuture<>();
+            Future<?> running;
+            try {
+                running = executor.submit(() -> {
+                    try {
+                        result.complete(task.get());
+                    } catch (Throwable e) {
+                        result.completeExceptionally(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                log.warn("콘텐츠 생성 {} 단계 대기열이 가득 차 대체 값을 사용합니다.", stage.getKey());
+                record("rejected", startedAt);
+                return CompletableFuture.completedFuture(fallback.get());
+            }
+
+            return result
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .handle((value, error) -> {
+                    if (error == null) {
+                        record("success", startedAt);
+                        return value;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        running.cancel(true);
+                        record("timeout", startedAt);
+                        log.warn("콘텐츠 생성 {} 단계가 {}ms 안에 끝나지 않아 대체 값을 사용합니다.", stage.getKey(), timeoutMillis);
+                    } else {
+                        record("failure", startedAt);
+                        log.warn("콘텐츠 생성 {} 단계 실패, 대체 값을 사용합니다: {}", stage.getKey(), cause.getMessage());
+                    }
+                    return fallback.get();
+                });
+        }
+
+        private void record(String outcome, long startedAt) {
+            timers.get(outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
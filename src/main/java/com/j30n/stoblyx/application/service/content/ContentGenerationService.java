@@ -4,138 +4,162 @@ import com.j30n.stoblyx.adapter.out.persistence.ai.BGMClient;
 import com.j30n.stoblyx.adapter.out.persistence.ai.PexelsClient;
 import com.j30n.stoblyx.adapter.out.persistence.ai.TTSClient;
 import com.j30n.stoblyx.application.port.in.content.ContentGenerationUseCase;
-import com.j30n.stoblyx.domain.enums.ContentStatus;
+import com.j30n.stoblyx.domain.enums.GenerationStage;
 import com.j30n.stoblyx.domain.model.MediaResource;
 import com.j30n.stoblyx.domain.model.Quote;
 import com.j30n.stoblyx.domain.model.ShortFormContent;
-import com.j30n.stoblyx.domain.repository.ShortFormContentRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 인용구로 숏폼 콘텐츠의 미디어를 생성하는 서비스
+ * <p>
+ * 배경 미디어 검색, 음성 생성, BGM 선택, 자막 생성은 서로 독립적이므로 {@link ContentGenerationPipeline}의 단계별
+ * 스레드 풀에서 동시에 실행하고, 모두 끝나거나 시간 예산이 지나면 결과를 모읍니다. 외부 API 를 기다리는 동안에는
+ * 트랜잭션을 잡지 않으며, 생성 요청은 {@link ContentGenerationJobService} 작업 큐를 거쳐
+ * {@link ContentGenerationWorker}가 처리하고 결과 저장만 짧은 트랜잭션으로 반영합니다.
+ * </p>
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ContentGenerationService implements ContentGenerationUseCase {
 
-    private final ShortFormContentRepository contentRepository;
+    private static final String PLACEHOLDER_URL = "https://placeholder.com/";
+
     private final TTSClient ttsClient;
     private final BGMClient bgmClient;
     private final PexelsClient pexelsClient;
+    private final ContentGenerationPipeline pipeline;
+    private final Timer generationTimer;
+
+    public ContentGenerationService(TTSClient ttsClient,
+                                    BGMClient bgmClient,
+                                    PexelsClient pexelsClient,
+                                    ContentGenerationPipeline pipeline,
+                                    MeterRegistry meterRegistry) {
+        this.ttsClient = ttsClient;
+        this.bgmClient = bgmClient;
+        this.pexelsClient = pexelsClient;
+        this.pipeline = pipeline;
+        this.generationTimer = Timer.builder("content.generation.duration")
+            .description("콘텐츠 미디어 생성 전체 처리 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
 
-    @Async
-    @Transactional
-    public void generateContent(Quote quote) {
-        try {
-            log.info("콘텐츠 생성 시작 - Quote ID: {}", quote.getId());
-
-            // 1. 이미지/비디오 검색 (랜덤하게 선택)
-            String imagePrompt = generateImagePrompt(quote);
-            String thumbnailUrl;
-            String videoUrl = null;
-
-            // 랜덤하게 이미지 또는 비디오 선택
-            boolean useVideo = Math.random() < 0.5; // 50% 확률로 비디오 사용
-
-            if (useVideo) {
-                // 비디오 사용
-                videoUrl = pexelsClient.searchVideo(imagePrompt);
-                thumbnailUrl = pexelsClient.searchImage(imagePrompt); // 썸네일용 이미지
-                log.debug("비디오 검색 완료: {}", videoUrl);
-            } else {
-                // 이미지만 사용
-                thumbnailUrl = pexelsClient.searchImage(imagePrompt);
-                log.debug("이미지 검색 완료: {}", thumbnailUrl);
-            }
+    /**
+     * 네 단계를 동시에 실행해 콘텐츠 미디어를 만듭니다. 걸리는 시간은 단계 시간의 합이 아니라 가장 느린 단계
+     * (최대 그 단계의 시간 예산)에 맞춰지며, 실패하거나 예산을 넘긴 단계는 대체 값을 씁니다.
+     *
+     * @param request 생성 요청 (트랜잭션 밖에서 쓸 수 있도록 엔티티에서 미리 꺼낸 값)
+     * @return 생성된 미디어
+     */
+    public GeneratedMedia generateMedia(GenerationRequest request) {
+        Timer.Sample sample = Timer.start();
+        // 1. 이미지/비디오 검색 (랜덤하게 선택)
+        boolean useVideo = Math.random() < 0.5; // 50% 확률로 비디오 사용
+        CompletableFuture<VisualMedia> visual = pipeline.submit(GenerationStage.VISUAL,
+            () -> searchVisual(request, useVideo),
+            () -> new VisualMedia(PLACEHOLDER_URL + "image/" + request.quoteId(), null));
+        // 2. 음성 생성
+        CompletableFuture<String> narration = pipeline.submit(GenerationStage.NARRATION,
+            () -> ttsClient.generateSpeech(request.quoteContent()),
+            () -> PLACEHOLDER_URL + "audio/" + request.quoteId());
+        // 3. BGM 선택 (텍스트 내용에 따라 감정 분석하여 선택)
+        CompletableFuture<String> bgm = pipeline.submit(GenerationStage.BGM,
+            () -> bgmClient.selectBGMByText(request.quoteContent()),
+            () -> null);
+        // 4. 자막 생성
+        CompletableFuture<String> subtitles = pipeline.submit(GenerationStage.SUBTITLE,
+            () -> generateSubtitles(request.quoteContent()),
+            () -> request.quoteContent());
+
+        CompletableFuture.allOf(visual, narration, bgm, subtitles).join();
+        sample.stop(generationTimer);
+        GeneratedMedia media = new GeneratedMedia(visual.join(), narration.join(), bgm.join(), subtitles.join());
+        log.debug("콘텐츠 미디어 생성 완료 - Quote ID: {}", request.quoteId());
+        return media;
+    }
 
-            // 2. 음성 생성
-            String audioUrl = ttsClient.generateSpeech(quote.getContent());
-            log.debug("음성 생성 완료: {}", audioUrl);
-
-            // 3. BGM 선택 (텍스트 내용에 따라 감정 분석하여 선택)
-            String bgmUrl = bgmClient.selectBGMByText(quote.getContent());
-            log.debug("BGM 선택 완료: {}", bgmUrl);
-
-            // 4. 자막 생성
-            String subtitles = generateSubtitles(quote.getContent());
-            log.debug("자막 생성 완료");
-
-            // 5. 콘텐츠 생성
-            ShortFormContent content = ShortFormContent.builder()
-                .book(quote.getBook())
-                .quote(quote)
-                .title(quote.getBook().getTitle() + " - 인용구") // 기본 제목 설정
-                .description(quote.getContent()) // 기본 설명 설정
-                .build();
-
-            // 6. 미디어 리소스 추가
-            // 오디오 리소스 추가
-            MediaResource audioResource = MediaResource.builder()
+    /**
+     * 생성된 미디어를 콘텐츠의 미디어 리소스로 추가합니다.
+     *
+     * @param content 콘텐츠
+     * @param media   생성된 미디어
+     */
+    public void attachMedia(ShortFormContent content, GeneratedMedia media) {
+        // 오디오 리소스 추가
+        if (media.audioUrl() != null) {
+            content.addMediaResource(MediaResource.builder()
                 .type(MediaResource.MediaType.AUDIO)
-                .url(audioUrl)
+                .url(media.audioUrl())
                 .content(content)
-                .build();
-            content.addMediaResource(audioResource);
+                .build());
+        }
 
-            // 이미지 리소스 추가
-            MediaResource imageResource = MediaResource.builder()
-                .type(MediaResource.MediaType.IMAGE)
-                .url(thumbnailUrl)
+        // 이미지 리소스 추가
+        String thumbnailUrl = media.visual().thumbnailUrl();
+        content.addMediaResource(MediaResource.builder()
+            .type(MediaResource.MediaType.IMAGE)
+            .url(thumbnailUrl)
+            .thumbnailUrl(thumbnailUrl)
+            .content(content)
+            .build());
+
+        // 비디오 리소스 추가 (비디오를 사용하는 경우)
+        if (media.visual().videoUrl() != null) {
+            content.addMediaResource(MediaResource.builder()
+                .type(MediaResource.MediaType.VIDEO)
+                .url(media.visual().videoUrl())
                 .thumbnailUrl(thumbnailUrl)
                 .content(content)
-                .build();
-            content.addMediaResource(imageResource);
-
-            // 비디오 리소스 추가 (비디오를 사용하는 경우)
-            if (useVideo && videoUrl != null) {
-                MediaResource videoResource = MediaResource.builder()
-                    .type(MediaResource.MediaType.VIDEO)
-                    .url(videoUrl)
-                    .thumbnailUrl(thumbnailUrl)
-                    .content(content)
-                    .build();
-                content.addMediaResource(videoResource);
-            }
+                .build());
+        }
 
-            // BGM 리소스 추가
-            MediaResource bgmResource = MediaResource.builder()
+        // BGM 리소스 추가
+        if (media.bgmUrl() != null) {
+            content.addMediaResource(MediaResource.builder()
                 .type(MediaResource.MediaType.BGM)
-                .url(bgmUrl)
+                .url(media.bgmUrl())
                 .content(content)
-                .build();
-            content.addMediaResource(bgmResource);
-
-            // 자막 리소스 추가
-            MediaResource subtitleResource = MediaResource.builder()
-                .type(MediaResource.MediaType.SUBTITLE)
-                .url("#") // 자막은 URL이 없으므로 임시값
-                .description(subtitles) // 자막 내용을 설명에 저장
-                .content(content)
-                .build();
-            content.addMediaResource(subtitleResource);
+                .build());
+        }
 
-            content.updateStatus(ContentStatus.COMPLETED);
-            contentRepository.save(content);
-            log.info("콘텐츠 생성 완료 - Content ID: {}", content.getId());
+        // 자막 리소스 추가
+        content.addMediaResource(MediaResource.builder()
+            .type(MediaResource.MediaType.SUBTITLE)
+            .url("#") // 자막은 URL이 없으므로 임시값
+            .description(media.subtitles()) // 자막 내용을 설명에 저장
+            .content(content)
+            .build());
+    }
 
-        } catch (Exception e) {
-            log.error("콘텐츠 생성 실패 - Quote ID: {}", quote.getId(), e);
-            ShortFormContent failedContent = ShortFormContent.builder()
-                .book(quote.getBook())
-                .quote(quote)
-                .title(quote.getBook().getTitle() + " - 인용구") // 기본 제목 설정
-                .description("생성 실패") // 실패 메시지
-                .status(ContentStatus.FAILED)
-                .build();
-            contentRepository.save(failedContent);
+    private VisualMedia searchVisual(GenerationRequest request, boolean useVideo) {
+        String imagePrompt = generateImagePrompt(request.bookTitle(), request.quoteContent());
+        if (useVideo) {
+            // 비디오 사용
+            String videoUrl = pexelsClient.searchVideo(imagePrompt);
+            String thumbnailUrl = pexelsClient.searchImage(imagePrompt); // 썸네일용 이미지
+            log.debug("비디오 검색 완료: {}", videoUrl);
+            return new VisualMedia(thumbnailUrl, videoUrl);
         }
+        // 이미지만 사용
+        String thumbnailUrl = pexelsClient.searchImage(imagePrompt);
+        log.debug("이미지 검색 완료: {}", thumbnailUrl);
+        return new VisualMedia(thumbnailUrl, null);
     }
 
     private String generateImagePrompt(Quote quote) {
+        return generateImagePrompt(quote.getBook().getTitle(), quote.getContent());
+    }
+
+    private String generateImagePrompt(String bookTitle, String quoteContent) {
         // 책과 인용구의 내용을 바탕으로 이미지 검색어 생성
-        return String.format("%s %s", quote.getBook().getTitle(), quote.getContent());
+        return String.format("%s %s", bookTitle, quoteContent);
     }
 
     private String generateSubtitles(String content) {
@@ -155,7 +179,7 @@ public class ContentGenerationService implements ContentGenerationUseCase {
             return pexelsClient.searchImage(imagePrompt);
         } catch (Exception e) {
             log.error("Image generation failed for quote: {}", quote.getId(), e);
-            return "https://placeholder.com/image/" + quote.getId();
+            return PLACEHOLDER_URL + "image/" + quote.getId();
         }
     }
 
@@ -166,7 +190,7 @@ public class ContentGenerationService implements ContentGenerationUseCase {
             return ttsClient.generateSpeech(quote.getContent());
         } catch (Exception e) {
             log.error("Audio generation failed for quote: {}", quote.getId(), e);
-            return "https://placeholder.com/audio/" + quote.getId();
+            return PLACEHOLDER_URL + "audio/" + quote.getId();
         }
     }
 
@@ -186,7 +210,40 @@ public class ContentGenerationService implements ContentGenerationUseCase {
             }
         } catch (Exception e) {
             log.error("Video generation failed for quote: {}", quote.getId(), e);
-            return "https://placeholder.com/video/" + quote.getId();
+            return PLACEHOLDER_URL + "video/" + quote.getId();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 콘텐츠 생성에 필요한 인용구 정보
+     *
+     * @param quoteId      인용구 ID
+     * @param bookTitle    책 제목
+     * @param quoteContent 인용구 내용
+     */
+    public record GenerationRequest(Long quoteId, String bookTitle, String quoteContent) {
+        public static GenerationRequest from(Quote quote) {
+            return new GenerationRequest(quote.getId(), quote.getBook().getTitle(), quote.getContent());
+        }
+    }
+
+    /**
+     * 배경 미디어 검색 결과
+     *
+     * @param thumbnailUrl 이미지(썸네일) URL
+     * @param videoUrl     비디오 URL (이미지만 쓰면 null)
+     */
+    public record VisualMedia(String thumbnailUrl, String videoUrl) {
+    }
+
+    /**
+     * 단계별 결과를 모은 콘텐츠 미디어
+     *
+     * @param visual    배경 미디어
+     * @param audioUrl  낭독 음성 URL
+     * @param bgmUrl    BGM URL (선택하지 못했으면 null)
+     * @param subtitles 자막
+     */
+    public record GeneratedMedia(VisualMedia visual, String audioUrl, String bgmUrl, String subtitles) {
+    }
+}
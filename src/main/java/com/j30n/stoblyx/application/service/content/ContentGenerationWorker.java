@@ -0,0 +1,198 @@
+package com.j30n.stoblyx.application.service.content;
+
+import com.j30n.stoblyx.domain.enums.GenerationJobStatus;
+import com.j30n.stoblyx.domain.model.ContentGenerationJob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 콘텐츠 생성 작업 처리기
+ * <p>
+ * 주기적으로 빈 작업자 수만큼만 작업을 임대해 고정 크기 스레드 풀에서 처리합니다. 임대한 작업만 메모리에 있으므로
+ * 요청이 몰려도 작업은 DB 대기열에 쌓일 뿐 거절되지 않고, 처리 중에 프로세스가 죽으면 임대가 만료된 뒤
+ * 다른 인스턴스나 재시작한 인스턴스가 이어서 처리합니다.
+ * </p>
+ * <p>
+ * 설정: {@code content.generation.jobs.enabled}, {@code .workers}, {@code .poll-interval-ms},
+ * {@code .recovery-interval-ms}, {@code .shutdown-timeout-ms}
+ * </p>
+ */
+@Slf4j
+@Component
+public class ContentGenerationWorker {
+
+    private final ContentGenerationJobService jobService;
+    private final ContentGenerationService contentGenerationService;
+    private final boolean enabled;
+    private final int workers;
+    private final long shutdownTimeoutMillis;
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger active = new AtomicInteger();
+    private volatile boolean stopping;
+
+    private final Counter completedJobs;
+    private final Counter retriedJobs;
+    private final Counter deadJobs;
+    private final Counter lostJobs;
+
+    public ContentGenerationWorker(ContentGenerationJobService jobService,
+                                   ContentGenerationService contentGenerationService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${content.generation.jobs.enabled:true}") boolean enabled,
+                                   @Value("${content.generation.jobs.workers:4}") int workers,
+                                   @Value("${content.generation.jobs.shutdown-timeout-ms:30000}") long shutdownTimeoutMillis) {
+        this.jobService = jobService;
+        this.contentGenerationService = contentGenerationService;
+        this.enabled = enabled;
+        this.workers = Math.max(1, workers);
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        // 빈 작업자 수만큼만 임대하므로 대기열이 작업자 수를 넘지 않음
+        this.executor = new ThreadPoolExecutor(this.workers, this.workers, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), new CustomizableThreadFactory("content-job-"));
+        this.executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("content.generation.jobs.active", active, AtomicInteger::get)
+            .description("처리 중인 콘텐츠 생성 작업 수")
+            .register(meterRegistry);
+        this.completedJobs = jobCounter(meterRegistry, "completed");
+        this.retriedJobs = jobCounter(meterRegistry, "retried");
+        this.deadJobs = jobCounter(meterRegistry, "dead");
+        this.lostJobs = jobCounter(meterRegistry, "lease_lost");
+    }
+
+    /**
+     * 빈 작업자 수만큼 작업을 임대해 처리를 시작합니다 (기본 1초마다).
+     *
+     * @return 임대한 작업 수
+     */
+    @Scheduled(fixedDelayString = "${content.generation.jobs.poll-interval-ms:1000}")
+    public int poll() {
+        if (!enabled || stopping) {
+            return 0;
+        }
+        int free = workers - active.get();
+        if (free <= 0) {
+            return 0;
+        }
+        List<ContentGenerationJob> jobs;
+        try {
+            jobs = jobService.claim(free);
+        } catch (Exception e) {
+            log.warn("콘텐츠 생성 작업 임대 실패: {}", e.getMessage());
+            return 0;
+        }
+        for (ContentGenerationJob job : jobs) {
+            active.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    try {
+                        process(job);
+                    } finally {
+                        active.decrementAndGet();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 종료 중이라 실행하지 못한 작업은 임대 만료 후 다시 처리됨
+                active.decrementAndGet();
+                log.warn("콘텐츠 생성 작업을 시작하지 못했습니다: jobId={}, error={}", job.getId(), e.getMessage());
+            }
+        }
+        return jobs.size();
+    }
+
+    /**
+     * 임대가 만료된 작업을 대기열로 돌립니다 (기본 30초마다).
+     */
+    @Scheduled(fixedDelayString = "${content.generation.jobs.recovery-interval-ms:30000}")
+    public void recoverExpiredLeases() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            jobService.recoverExpiredLeases();
+        } catch (Exception e) {
+            log.warn("임대 만료 작업 복구 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 한 건을 처리합니다.
+     */
+    void process(ContentGenerationJob job) {
+        try {
+            if (jobService.isExhausted(job)) {
+                record(jobService.fail(job, "재시도 한도를 넘겼습니다.", false));
+                return;
+            }
+            ContentGenerationService.GenerationRequest request = jobService.prepare(job);
+            ContentGenerationService.GeneratedMedia media = contentGenerationService.generateMedia(request);
+            if (jobService.complete(job, media)) {
+                completedJobs.increment();
+                log.info("콘텐츠 생성 완료 - Job ID: {}, Content ID: {}", job.getId(), job.getContentId());
+            } else {
+                lostJobs.increment();
+            }
+        } catch (EntityNotFoundException e) {
+            record(failSafely(job, e.getMessage(), false));
+        } catch (Exception e) {
+            log.error("콘텐츠 생성 실패 - Job ID: {}", job.getId(), e);
+            record(failSafely(job, e.getMessage(), true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("끝나지 않은 콘텐츠 생성 작업은 임대 만료 후 다시 처리됩니다.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private GenerationJobStatus failSafely(ContentGenerationJob job, String error, boolean retryable) {
+        try {
+            return jobService.fail(job, error, retryable);
+        } catch (Exception e) {
+            // 실패 기록도 못 했으면 임대 만료 후 다시 처리됨
+            log.error("콘텐츠 생성 작업 실패 기록 중 오류 발생: jobId={}, error={}", job.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void record(GenerationJobStatus status) {
+        if (status == GenerationJobStatus.PENDING) {
+            retriedJobs.increment();
+        } else if (status == GenerationJobStatus.DEAD) {
+            deadJobs.increment();
+        } else {
+            lostJobs.increment();
+        }
+    }
+
+    private static Counter jobCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("content.generation.jobs.processed")
+            .description("결과별 콘텐츠 생성 작업 처리 수")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
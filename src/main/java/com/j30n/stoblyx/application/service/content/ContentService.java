@@ -1,124 +1,116 @@
 package com.j30n.stoblyx.application.service.content;
 
 import com.j30n.stoblyx.adapter.in.web.dto.content.ContentResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.content.TrendingContentResponse;
 import com.j30n.stoblyx.application.port.in.content.ContentUseCase;
 import com.j30n.stoblyx.application.port.out.content.ContentPort;
+import com.j30n.stoblyx.application.service.membership.ViewerMembershipService;
+import com.j30n.stoblyx.application.service.recommendation.ItemNeighborService;
+import com.j30n.stoblyx.application.service.search.FullTextSearchIndex;
+import com.j30n.stoblyx.domain.enums.ContentCounterType;
 import com.j30n.stoblyx.domain.enums.ContentStatus;
+import com.j30n.stoblyx.domain.enums.MembershipType;
+import com.j30n.stoblyx.domain.enums.NeighborItemType;
+import com.j30n.stoblyx.domain.enums.SearchDocumentType;
+import com.j30n.stoblyx.domain.enums.TrendingEventType;
 import com.j30n.stoblyx.domain.model.ContentBookmark;
-import com.j30n.stoblyx.domain.model.MediaResource;
-import com.j30n.stoblyx.domain.model.Quote;
+import com.j30n.stoblyx.domain.model.MediaResourceSummary;
 import com.j30n.stoblyx.domain.model.ShortFormContent;
 import com.j30n.stoblyx.domain.repository.ContentBookmarkRepository;
-import com.j30n.stoblyx.domain.repository.QuoteRepository;
 import com.j30n.stoblyx.domain.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Slf4j
 @Service
 public class ContentService implements ContentUseCase {
 
     private static final String CONTENT_NOT_FOUND_MSG = "콘텐츠를 찾을 수 없습니다. ID: ";
-    private static final String QUOTE_NOT_FOUND_MSG = "인용구를 찾을 수 없습니다. ID: ";
     private static final String USER_NOT_FOUND_MSG = "사용자를 찾을 수 없습니다. ID: ";
 
     private final ContentPort contentPort;
-    private final QuoteRepository quoteRepository;
     private final UserRepository userRepository;
     private final ContentBookmarkRepository bookmarkRepository;
-    private final ContentGenerationService contentGenerationService;
+    private final ContentGenerationJobService contentGenerationJobService;
+    private final ItemNeighborService itemNeighborService;
+    private final FullTextSearchIndex fullTextSearchIndex;
+    private final ContentCounterService contentCounterService;
+    private final ViewerMembershipService viewerMembershipService;
+    private final TrendingContentService trendingContentService;
     private final ContentService self;
 
     public ContentService(ContentPort contentPort,
-                          QuoteRepository quoteRepository,
                           UserRepository userRepository,
                           ContentBookmarkRepository bookmarkRepository,
-                          ContentGenerationService contentGenerationService,
+                          ContentGenerationJobService contentGenerationJobService,
+                          ItemNeighborService itemNeighborService,
+                          FullTextSearchIndex fullTextSearchIndex,
+                          ContentCounterService contentCounterService,
+                          ViewerMembershipService viewerMembershipService,
+                          TrendingContentService trendingContentService,
                           @Lazy ContentService self) {
         this.contentPort = contentPort;
-        this.quoteRepository = quoteRepository;
         this.userRepository = userRepository;
         this.bookmarkRepository = bookmarkRepository;
-        this.contentGenerationService = contentGenerationService;
+        this.contentGenerationJobService = contentGenerationJobService;
+        this.itemNeighborService = itemNeighborService;
+        this.fullTextSearchIndex = fullTextSearchIndex;
+        this.contentCounterService = contentCounterService;
+        this.viewerMembershipService = viewerMembershipService;
+        this.trendingContentService = trendingContentService;
         this.self = self;
     }
 
+    /**
+     * 인용구의 콘텐츠 생성을 작업 큐에 넣고 바로 돌아갑니다. 반환하는 콘텐츠는 처리 중(PROCESSING) 상태이며,
+     * 같은 인용구로 이미 만든 작업이 있으면 그 콘텐츠를 돌려줍니다.
+     */
     @Override
-    @Transactional
     public ContentResponse generateContent(Long quoteId) {
-        Quote quote = quoteRepository.findById(quoteId)
-            .orElseThrow(() -> new EntityNotFoundException(QUOTE_NOT_FOUND_MSG + quoteId));
-
-        ShortFormContent content = ShortFormContent.builder()
-            .quote(quote)
-            .book(quote.getBook())
-            .title(quote.getBook().getTitle() + " - 인용구")
-            .description(quote.getContent())
-            .status(ContentStatus.COMPLETED)
-            .build();
-
-        // 이미지 리소스 추가
-        String imageUrl = contentGenerationService.generateImage(quote);
-        MediaResource imageResource = MediaResource.builder()
-            .type(MediaResource.MediaType.IMAGE)
-            .url(imageUrl)
-            .thumbnailUrl(imageUrl)
-            .content(content)
-            .build();
-        content.addMediaResource(imageResource);
-
-        // 오디오 리소스 추가
-        MediaResource audioResource = MediaResource.builder()
-            .type(MediaResource.MediaType.AUDIO)
-            .url(contentGenerationService.generateAudio(quote))
-            .content(content)
-            .build();
-        content.addMediaResource(audioResource);
-
-        // 비디오 리소스 추가
-        MediaResource videoResource = MediaResource.builder()
-            .type(MediaResource.MediaType.VIDEO)
-            .url(contentGenerationService.generateVideo(quote))
-            .content(content)
-            .build();
-        content.addMediaResource(videoResource);
-
-        // 자막 리소스 추가
-        MediaResource subtitleResource = MediaResource.builder()
-            .type(MediaResource.MediaType.SUBTITLE)
-            .url("#")
-            .description(quote.getContent())
-            .content(content)
-            .build();
-        content.addMediaResource(subtitleResource);
-
-        content = contentPort.save(content);
-        return ContentResponse.from(content, false, false); // 새로 생성된 콘텐츠는 아직 좋아요나 북마크되지 않음
+        Long contentId = contentGenerationJobService.enqueue(quoteId);
+        return self.getContent(contentId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ContentResponse> getTrendingContents(Pageable pageable) {
-        return contentPort.findTrendingContents(pageable)
-            .map(content -> ContentResponse.from(content, false, false));
+        Page<Long> contentIds;
+        try {
+            contentIds = trendingContentService.findPage(pageable);
+        } catch (Exception e) {
+            log.warn("트렌딩 순위 조회 실패, 누적 반응 순으로 대체합니다: {}", e.getMessage());
+            return toResponses(contentPort.findTrendingContents(pageable), null);
+        }
+        // 삭제된 콘텐츠는 순위에 남아 있어도 응답에서 빠짐
+        List<ShortFormContent> contents = contentPort.findAllByIds(contentIds.getContent());
+        return toResponses(new PageImpl<>(contents, pageable, contentIds.getTotalElements()), null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TrendingContentResponse getTrendingContents(String cursor, int size) {
+        TrendingContentService.TrendingSlice slice = trendingContentService.findAfter(cursor, size);
+        List<ShortFormContent> contents = contentPort.findAllByIds(slice.contentIds());
+        List<ContentResponse> items = toResponses(new PageImpl<>(contents), null).getContent();
+        return new TrendingContentResponse(items, slice.nextCursor(), slice.hasNext());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ContentResponse> getRecommendedContents(Long userId, Pageable pageable) {
-        return contentPort.findRecommendedContents(userId, pageable)
-            .map(content -> {
-                boolean isLiked = contentPort.isLikedByUser(content.getId(), userId);
-                boolean isBookmarked = bookmarkRepository.existsByUserIdAndContentId(userId, content.getId());
-                return ContentResponse.from(content, isLiked, isBookmarked);
-            });
+        return toResponses(contentPort.findRecommendedContents(userId, pageable), userId);
     }
 
     @Override
@@ -126,7 +118,7 @@ public class ContentService implements ContentUseCase {
     public ContentResponse getContent(Long id) {
         ShortFormContent content = contentPort.findById(id)
             .orElseThrow(() -> new EntityNotFoundException(CONTENT_NOT_FOUND_MSG + id));
-        return ContentResponse.from(content, false, false);
+        return toResponse(content, false, false);
     }
 
     @Override
@@ -136,6 +128,7 @@ public class ContentService implements ContentUseCase {
             .orElseThrow(() -> new EntityNotFoundException(CONTENT_NOT_FOUND_MSG + contentId));
         content.updateLikeCount(1); // 실제로는 좋아요 토글 로직이 필요
         contentPort.save(content);
+        trendingContentService.record(contentId, TrendingEventType.LIKE);
     }
 
     @Override
@@ -156,54 +149,51 @@ public class ContentService implements ContentUseCase {
         }
     }
 
+    /**
+     * 조회수를 올립니다. 엔티티를 읽지 않고 증분만 버퍼에 더하며 DB 에는 주기적으로 일괄 반영됩니다.
+     * 호출하는 쪽에서 콘텐츠를 이미 조회했다고 가정하며, 없는 콘텐츠의 증분은 반영 시 무시됩니다.
+     */
     @Override
-    @Transactional
     public void incrementViewCount(Long id) {
-        ShortFormContent content = contentPort.findById(id)
-            .orElseThrow(() -> new EntityNotFoundException(CONTENT_NOT_FOUND_MSG + id));
-        content.incrementViewCount();
-        contentPort.save(content);
+        contentCounterService.increment(ContentCounterType.VIEW, id);
+        trendingContentService.record(id, TrendingEventType.VIEW);
     }
 
+    /**
+     * 공유수를 올립니다. 조회수와 같이 버퍼에 더한 뒤 일괄 반영됩니다.
+     */
     @Override
-    @Transactional
     public void incrementShareCount(Long id) {
-        ShortFormContent content = contentPort.findById(id)
-            .orElseThrow(() -> new EntityNotFoundException(CONTENT_NOT_FOUND_MSG + id));
-        content.incrementShareCount();
-        contentPort.save(content);
+        contentCounterService.increment(ContentCounterType.SHARE, id);
+        trendingContentService.record(id, TrendingEventType.SHARE);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ContentResponse> getAllContents(Pageable pageable) {
-        return contentPort.findAll(pageable)
-            .map(content -> ContentResponse.from(content, false, false));
+        return toResponses(contentPort.findAll(pageable), null);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ContentResponse> getContentsByUser(Long userId, Pageable pageable) {
-        return contentPort.findByUserId(userId, pageable)
-            .map(content -> {
-                boolean isLiked = contentPort.isLikedByUser(content.getId(), userId);
-                boolean isBookmarked = bookmarkRepository.existsByUserIdAndContentId(userId, content.getId());
-                return ContentResponse.from(content, isLiked, isBookmarked);
-            });
+        return toResponses(contentPort.findByUserId(userId, pageable), userId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ContentResponse> getContentsByBook(Long bookId, Pageable pageable) {
-        return contentPort.findByBookId(bookId, pageable)
-            .map(content -> ContentResponse.from(content, false, false));
+        return toResponses(contentPort.findByBookId(bookId, pageable), null);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ContentResponse> searchContents(String keyword, Pageable pageable) {
-        return contentPort.search(keyword, pageable)
-            .map(content -> ContentResponse.from(content, false, false));
+        // 전문 검색 색인이 준비되지 않았으면 DB 검색으로 대체
+        Page<ShortFormContent> contents = fullTextSearchIndex
+            .searchPage(SearchDocumentType.CONTENT, keyword, null, pageable, contentPort::findAllByIds)
+            .orElseGet(() -> contentPort.search(keyword, pageable));
+        return toResponses(contents, null);
     }
 
     @Override
@@ -213,6 +203,7 @@ public class ContentService implements ContentUseCase {
             .orElseThrow(() -> new EntityNotFoundException(CONTENT_NOT_FOUND_MSG + id));
         content.delete(); // 소프트 삭제 사용
         contentPort.save(content);
+        trendingContentService.remove(id);
     }
 
     @Override
@@ -227,8 +218,7 @@ public class ContentService implements ContentUseCase {
     @Override
     @Transactional(readOnly = true)
     public Page<ContentResponse> getPopularContents(Pageable pageable) {
-        return contentPort.findPopularContents(pageable)
-            .map(content -> ContentResponse.from(content, false, false));
+        return toResponses(contentPort.findPopularContents(pageable), null);
     }
 
     /**
@@ -241,8 +231,7 @@ public class ContentService implements ContentUseCase {
     @Override
     @Transactional(readOnly = true)
     public Page<ContentResponse> getContentsByStatus(String status, Pageable pageable) {
-        return contentPort.findByStatus(ContentStatus.valueOf(status.toUpperCase()), pageable)
-            .map(content -> ContentResponse.from(content, false, false));
+        return toResponses(contentPort.findByStatus(ContentStatus.valueOf(status.toUpperCase()), pageable), null);
     }
 
     /**
@@ -273,34 +262,75 @@ public class ContentService implements ContentUseCase {
     }
 
     /**
-     * 특정 책과 유사한 장르의 콘텐츠를 추천합니다.
+     * 특정 책과 함께 반응을 많이 받은 책들의 콘텐츠를 추천합니다.
+     * 이웃 테이블에 아직 이웃이 없는 책이면 해당 책의 콘텐츠를 반환합니다.
      *
      * @param bookId   책 ID
      * @param pageable 페이징 정보
-     * @return 유사한 장르의 콘텐츠 목록
+     * @return 유사한 책의 콘텐츠 목록
      */
     @Transactional(readOnly = true)
     public Page<ContentResponse> getSimilarBookContents(Long bookId, Pageable pageable) {
+        List<Long> neighborBookIds = itemNeighborService.getNeighborIds(NeighborItemType.BOOK, bookId, Integer.MAX_VALUE);
+        Page<ShortFormContent> contents = neighborBookIds.isEmpty()
+            ? contentPort.findByBookId(bookId, pageable)
+            : contentPort.findByBookIds(neighborBookIds, pageable);
+        return toResponses(contents);
+    }
+
+    /**
+     * 특정 콘텐츠와 함께 반응을 많이 받은 콘텐츠를 유사도 순으로 조회합니다.
+     *
+     * @param contentId 콘텐츠 ID
+     * @param pageable  페이징 정보
+     * @return 유사한 콘텐츠 목록
+     */
+    @Transactional(readOnly = true)
+    public Page<ContentResponse> getSimilarContents(Long contentId, Pageable pageable) {
+        List<Long> neighborIds = itemNeighborService.getNeighborIds(NeighborItemType.CONTENT, contentId, Integer.MAX_VALUE);
+        int from = (int) Math.min(pageable.getOffset(), neighborIds.size());
+        int to = Math.min(from + pageable.getPageSize(), neighborIds.size());
+        List<ShortFormContent> contents = contentPort.findAllByIds(neighborIds.subList(from, to));
+        return toResponses(new PageImpl<>(contents, pageable, neighborIds.size()));
+    }
+
+    /**
+     * 현재 인증된 사용자의 좋아요/북마크 여부를 포함한 응답으로 변환합니다.
+     */
+    private Page<ContentResponse> toResponses(Page<ShortFormContent> contents) {
         // 현재 인증된 사용자 정보 가져오기
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         boolean isAuthenticated = authentication != null && authentication.isAuthenticated() &&
             !authentication.getPrincipal().equals("anonymousUser");
 
-        // 책 ID로 콘텐츠 조회
-        return contentPort.findByBookId(bookId, pageable)
-            .map(content -> {
-                if (isAuthenticated && authentication != null) {
-                    try {
-                        Long userId = Long.parseLong(authentication.getName());
-                        boolean isLiked = contentPort.isLikedByUser(content.getId(), userId);
-                        boolean isBookmarked = bookmarkRepository.existsByUserIdAndContentId(userId, content.getId());
-                        return ContentResponse.from(content, isLiked, isBookmarked);
-                    } catch (NumberFormatException e) {
-                        log.warn("사용자 ID를 파싱할 수 없습니다: {}", authentication.getName());
-                    }
-                }
-                return ContentResponse.from(content, false, false);
-            });
+        Long userId = null;
+        if (isAuthenticated) {
+            try {
+                userId = Long.parseLong(authentication.getName());
+            } catch (NumberFormatException e) {
+                log.warn("사용자 ID를 파싱할 수 없습니다: {}", authentication.getName());
+            }
+        }
+        return toResponses(contents, userId);
+    }
+
+    /**
+     * 사용자의 좋아요/북마크 여부를 포함한 응답으로 변환합니다. 여부와 미디어 리소스는 페이지 전체를 한 번에 조회하며,
+     * 사용자 ID 가 없으면 여부는 모두 false 입니다.
+     */
+    private Page<ContentResponse> toResponses(Page<ShortFormContent> contents, Long userId) {
+        List<Long> contentIds = contents.getContent().stream().map(ShortFormContent::getId).toList();
+        Map<MembershipType, Set<Long>> members = viewerMembershipService.findMembers(userId, contentIds,
+            MembershipType.LIKED_CONTENT, MembershipType.BOOKMARKED_CONTENT);
+        Set<Long> liked = members.get(MembershipType.LIKED_CONTENT);
+        Set<Long> bookmarked = members.get(MembershipType.BOOKMARKED_CONTENT);
+        Map<Long, List<MediaResourceSummary>> media = contentPort.findMediaByContentIds(contentIds);
+        return contents.map(content -> ContentResponse.from(content,
+            media.getOrDefault(content.getId(), List.of()),
+            liked.contains(content.getId()),
+            bookmarked.contains(content.getId()),
+            contentCounterService.pending(ContentCounterType.VIEW, content.getId()),
+            contentCounterService.pending(ContentCounterType.SHARE, content.getId())));
     }
 
     /**
@@ -343,4 +373,13 @@ public class ContentService implements ContentUseCase {
         // 로그 기록
         log.info("콘텐츠 상호작용 기록 완료: userId={}, contentId={}, type={}", userId, contentId, interactionType);
     }
-}
\ No newline at end of file
+
+    /**
+     * 저장된 조회수/공유수에 아직 반영되지 않은 증분을 더해 응답을 만듭니다.
+     */
+    private ContentResponse toResponse(ShortFormContent content, boolean isLiked, boolean isBookmarked) {
+        return ContentResponse.from(content, isLiked, isBookmarked,
+            contentCounterService.pending(ContentCounterType.VIEW, content.getId()),
+            contentCounterService.pending(ContentCounterType.SHARE, content.getId()));
+    }
+}
@@ -0,0 +1,236 @@
+package com.j30n.stoblyx.application.service.content;
+
+import com.j30n.stoblyx.application.port.in.system.SystemSettingUseCase;
+import com.j30n.stoblyx.application.port.out.content.ContentPort;
+import com.j30n.stoblyx.application.port.out.content.TrendingScorePort;
+import com.j30n.stoblyx.domain.enums.TrendingEventType;
+import com.j30n.stoblyx.domain.model.ShortFormContent;
+import com.j30n.stoblyx.domain.model.TrendingEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간 감쇠 트렌딩 순위 서비스
+ * <p>
+ * 조회, 좋아요, 공유, 댓글이 일어날 때마다 반응 가중치를 {@link TrendingScorePort}의 로그 시간 점수에 더하고,
+ * 목록은 점수 상위 구간만 읽습니다. 오래된 반응은 반감기마다 기여도가 절반으로 줄어드는 것과 같은 순위가 되며,
+ * 주기적으로 전체 점수를 다시 계산하지 않습니다.
+ * </p>
+ * <p>
+ * 반감기와 반응별 가중치는 랭킹 파라미터({@code ranking.param.trending.*}) 시스템 설정으로 운영 중에 바꿀 수 있고,
+ * 설정은 {@code trending.settings-refresh-ms} 마다 다시 읽습니다. 반감기가 바뀌면 저장소가 한 번만 점수를 새 척도로
+ * 옮기며, 가중치는 이후 반응부터 적용됩니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class TrendingContentService {
+
+    static final String SETTING_PREFIX = "ranking.param.trending.";
+    static final String HALF_LIFE_SETTING = SETTING_PREFIX + "half_life_hours";
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final TrendingScorePort trendingScorePort;
+    private final SystemSettingUseCase systemSettingUseCase;
+    private final ContentPort contentPort;
+    private final double defaultHalfLifeHours;
+    private final Map<TrendingEventType, Double> defaultWeights = new EnumMap<>(TrendingEventType.class);
+    private final int seedLimit;
+
+    private volatile Duration halfLife;
+    private volatile Map<TrendingEventType, Double> weights;
+
+    public TrendingContentService(TrendingScorePort trendingScorePort,
+                                  SystemSettingUseCase systemSettingUseCase,
+                                  ContentPort contentPort,
+                                  @Value("${trending.half-life-hours:6}") double defaultHalfLifeHours,
+                                  @Value("${trending.weight.view:1}") double viewWeight,
+                                  @Value("${trending.weight.like:3}") double likeWeight,
+                                  @Value("${trending.weight.share:5}") double shareWeight,
+                                  @Value("${trending.weight.comment:4}") double commentWeight,
+                                  @Value("${trending.seed-limit:1000}") int seedLimit) {
+        this.trendingScorePort = trendingScorePort;
+        this.systemSettingUseCase = systemSettingUseCase;
+        this.contentPort = contentPort;
+        this.defaultHalfLifeHours = defaultHalfLifeHours;
+        this.defaultWeights.put(TrendingEventType.VIEW, viewWeight);
+        this.defaultWeights.put(TrendingEventType.LIKE, likeWeight);
+        this.defaultWeights.put(TrendingEventType.SHARE, shareWeight);
+        this.defaultWeights.put(TrendingEventType.COMMENT, commentWeight);
+        this.seedLimit = seedLimit;
+        this.halfLife = toDuration(defaultHalfLifeHours);
+        this.weights = Collections.unmodifiableMap(new EnumMap<>(defaultWeights));
+    }
+
+    /**
+     * 콘텐츠 반응을 트렌딩 점수에 더합니다. 저장소 오류는 기록만 하고 요청은 실패시키지 않습니다.
+     *
+     * @param contentId 콘텐츠 ID
+     * @param type      반응 종류
+     */
+    public void record(Long contentId, TrendingEventType type) {
+        double weight = weights.getOrDefault(type, 0.0);
+        if (contentId == null || weight <= 0) {
+            return;
+        }
+        try {
+            trendingScorePort.record(contentId, weight, Instant.now(), halfLife);
+        } catch (Exception e) {
+            log.warn("트렌딩 점수 반영 실패: contentId={}, type={}, error={}", contentId, type, e.getMessage());
+        }
+    }
+
+    /**
+     * 콘텐츠를 트렌딩 순위에서 뺍니다.
+     *
+     * @param contentId 콘텐츠 ID
+     */
+    public void remove(Long contentId) {
+        try {
+            trendingScorePort.remove(contentId);
+        } catch (Exception e) {
+            log.warn("트렌딩 순위에서 콘텐츠 제거 실패: contentId={}, error={}", contentId, e.getMessage());
+        }
+    }
+
+    /**
+     * 커서 다음의 트렌딩 콘텐츠 ID 를 점수 내림차순으로 조회합니다.
+     *
+     * @param cursor 이전 응답의 커서 (첫 페이지면 null)
+     * @param size   페이지 크기 (1~50)
+     * @return 콘텐츠 ID 와 다음 페이지 커서
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public TrendingSlice findAfter(String cursor, int size) {
+        TrendingCursor position = TrendingCursor.decode(cursor);
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 한 개 더 읽어 다음 페이지가 있는지 확인
+        List<TrendingEntry> entries = trendingScorePort.findAfter(position.after(), limit + 1);
+        boolean hasNext = entries.size() > limit;
+        List<TrendingEntry> page = hasNext ? entries.subList(0, limit) : entries;
+        String nextCursor = hasNext ? new TrendingCursor(page.get(page.size() - 1)).encode() : null;
+        return new TrendingSlice(page.stream().map(TrendingEntry::contentId).toList(), nextCursor, hasNext);
+    }
+
+    /**
+     * 순위 구간의 트렌딩 콘텐츠 ID 를 조회합니다.
+     *
+     * @param pageable 페이징 정보 (정렬은 무시)
+     * @return 콘텐츠 ID 페이지
+     */
+    public Page<Long> findPage(Pageable pageable) {
+        List<Long> contentIds = trendingScorePort.findRange(pageable.getOffset(), pageable.getPageSize()).stream()
+            .map(TrendingEntry::contentId)
+            .toList();
+        return new PageImpl<>(contentIds, pageable, trendingScorePort.count());
+    }
+
+    /**
+     * 반감기와 가중치 설정을 다시 읽습니다 (기본 1분마다, 시작 시 한 번).
+     */
+    @Scheduled(fixedDelayString = "${trending.settings-refresh-ms:60000}")
+    public void refreshSettings() {
+        try {
+            Map<TrendingEventType, Double> refreshed = new EnumMap<>(TrendingEventType.class);
+            for (TrendingEventType type : TrendingEventType.values()) {
+                refreshed.put(type, readSetting(weightSetting(type), defaultWeights.get(type)));
+            }
+            weights = Collections.unmodifiableMap(refreshed);
+
+            double halfLifeHours = readSetting(HALF_LIFE_SETTING, defaultHalfLifeHours);
+            Duration refreshedHalfLife = toDuration(halfLifeHours > 0 ? halfLifeHours : defaultHalfLifeHours);
+            if (trendingScorePort.applyHalfLife(refreshedHalfLife, Instant.now())) {
+                log.info("트렌딩 반감기 변경으로 점수 척도를 옮겼습니다: {} -> {}", halfLife, refreshedHalfLife);
+            }
+            halfLife = refreshedHalfLife;
+        } catch (Exception e) {
+            log.warn("트렌딩 설정 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 순위가 비어 있으면 최근 콘텐츠의 누적 반응을 생성 시각에 한꺼번에 일어난 것으로 보고 채웁니다.
+     * 오래된 콘텐츠는 그만큼 감쇠되어 들어가므로 과거 인기 콘텐츠가 순위를 차지하지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedIfEmpty() {
+        try {
+            if (trendingScorePort.count() > 0) {
+                return;
+            }
+            Page<ShortFormContent> recent = contentPort.findAll(
+                PageRequest.of(0, seedLimit, Sort.by(Sort.Direction.DESC, "createdAt")));
+            int seeded = 0;
+            for (ShortFormContent content : recent) {
+                double weight = content.getViewCount() * weights.get(TrendingEventType.VIEW)
+                    + content.getLikeCount() * weights.get(TrendingEventType.LIKE)
+                    + content.getShareCount() * weights.get(TrendingEventType.SHARE)
+                    + content.getCommentCount() * weights.get(TrendingEventType.COMMENT);
+                if (weight <= 0 || content.getCreatedAt() == null) {
+                    continue;
+                }
+                Instant createdAt = content.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant();
+                trendingScorePort.record(content.getId(), weight, createdAt, halfLife);
+                seeded++;
+            }
+            log.info("트렌딩 순위 초기 적재 완료: {}건", seeded);
+        } catch (Exception e) {
+            log.warn("트렌딩 순위 초기 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    static String weightSetting(TrendingEventType type) {
+        return SETTING_PREFIX + "weight." + type.name().toLowerCase();
+    }
+
+    /**
+     * 설정 값을 읽습니다. 없거나 숫자가 아니거나 음수이면 기본값을 씁니다.
+     */
+    private double readSetting(String key, double defaultValue) {
+        return systemSettingUseCase.getSettingByKey(key)
+            .map(setting -> {
+                try {
+                    double value = Double.parseDouble(String.valueOf(setting.value()));
+                    if (Double.isFinite(value) && value >= 0) {
+                        return value;
+                    }
+                } catch (NumberFormatException e) {
+                    // 아래에서 기본값 사용
+                }
+                log.warn("잘못된 트렌딩 설정 값이라 기본값을 사용합니다: {}={}", key, setting.value());
+                return defaultValue;
+            })
+            .orElse(defaultValue);
+    }
+
+    private static Duration toDuration(double hours) {
+        return Duration.ofMillis(Math.max(1, Math.round(hours * Duration.ofHours(1).toMillis())));
+    }
+
+    /**
+     * 트렌딩 콘텐츠 ID 한 페이지
+     *
+     * @param contentIds 점수 내림차순 콘텐츠 ID
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     * @param hasNext    다음 페이지 존재 여부
+     */
+    public record TrendingSlice(List<Long> contentIds, String nextCursor, boolean hasNext) {
+    }
+}
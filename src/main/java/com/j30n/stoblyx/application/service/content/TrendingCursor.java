@@ -0,0 +1,51 @@
+package com.j30n.stoblyx.application.service.content;
+
+import com.j30n.stoblyx.domain.model.TrendingEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 트렌딩 목록의 커서
+ * 마지막으로 반환한 항목의 로그 시간 점수와 콘텐츠 ID 를 클라이언트에 불투명한 문자열로 전달합니다.
+ *
+ * @param after 마지막으로 반환한 항목
+ */
+record TrendingCursor(TrendingEntry after) {
+
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 이전 응답의 커서를 해석합니다. 비어 있으면 처음부터 읽는 커서(after 가 null)를 반환합니다.
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    static TrendingCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new TrendingCursor(null);
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split("\\" + SEPARATOR, -1);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            double score = Double.parseDouble(parts[1]);
+            if (!Double.isFinite(score)) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new TrendingCursor(new TrendingEntry(Long.parseLong(parts[2]), score));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    /**
+     * 커서를 URL 에 그대로 쓸 수 있는 문자열로 인코딩합니다. 점수는 저장소의 값과 정확히 같게 되돌아오도록 씁니다.
+     */
+    String encode() {
+        String value = VERSION + SEPARATOR + after.score() + SEPARATOR + after.contentId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,6 @@
 package com.j30n.stoblyx.application.service.file;
 
+import com.j30n.stoblyx.common.util.ImageVariants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,6 +21,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class FileStorageService {
 
+    private final ImageThumbnailService imageThumbnailService;
+
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
 
@@ -55,6 +58,11 @@ public class FileStorageService {
 
             log.info("파일 저장 완료: {}", targetLocation);
 
+            // 이미지는 크기별 파생 이미지를 백그라운드에서 생성 (만들어지기 전에는 원본이 제공됨)
+            if (ImageVariants.isSupportedImage(filename)) {
+                imageThumbnailService.enqueue(targetLocation);
+            }
+
             // 파일 URL 생성 및 반환
             return baseUrl + "/uploads/" + filename;
 
@@ -0,0 +1,272 @@
+package com.j30n.stoblyx.application.service.file;
+
+import com.j30n.stoblyx.common.util.ImageVariants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 업로드 이미지의 크기별 파생 이미지 생성기
+ * <p>
+ * 업로드 직후 작업을 넣으면 백그라운드 스레드가 {@code image.thumbnail.sizes}(기본 64, 256, 1024px) 크기로 줄인 이미지를
+ * 원본 옆에 {@link ImageVariants} 규칙의 이름으로 저장합니다. 디코딩할 때부터 가장 큰 크기의 두 배 정도로 건너뛰며 읽으므로
+ * 원본 해상도와 관계없이 메모리 사용량이 일정합니다.
+ * </p>
+ * <p>
+ * 스레드 수({@code image.thumbnail.threads})와 대기열({@code image.thumbnail.queue-capacity})이 정해져 있어 넘치면 작업을 버리고,
+ * 이미지 하나가 {@code image.thumbnail.timeout-ms} 를 넘기면 읽기를 중단합니다. 어느 경우든 원본이 대신 제공됩니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ImageThumbnailService {
+
+    /**
+     * 이보다 픽셀이 많은 이미지는 압축 폭탄으로 보고 처리하지 않음
+     */
+    private static final long MAX_PIXELS = 100_000_000L;
+
+    private final int[] sizes;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService watchdog;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public ImageThumbnailService(@Value("${image.thumbnail.sizes:64,256,1024}") String sizes,
+                                @Value("${image.thumbnail.threads:2}") int threads,
+                                @Value("${image.thumbnail.queue-capacity:100}") int queueCapacity,
+                                @Value("${image.thumbnail.timeout-ms:10000}") long timeoutMillis,
+                                MeterRegistry meterRegistry) {
+        this(Arrays.stream(sizes.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray(),
+            threads, queueCapacity, timeoutMillis, meterRegistry);
+    }
+
+    public ImageThumbnailService(int[] sizes, int threads, int queueCapacity, long timeoutMillis,
+                                 MeterRegistry meterRegistry) {
+        // 큰 크기부터 줄여 가며 앞 결과를 다음 크기의 입력으로 씀
+        this.sizes = Arrays.stream(sizes).boxed().sorted((a, b) -> b - a).mapToInt(Integer::intValue).toArray();
+        this.timeoutMillis = timeoutMillis;
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), new CustomizableThreadFactory("image-thumbnail-"));
+        CustomizableThreadFactory watchdogThreads = new CustomizableThreadFactory("image-thumbnail-watchdog-");
+        watchdogThreads.setDaemon(true);
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(watchdogThreads);
+
+        Gauge.builder("image.thumbnail.queue.depth", executor, pool -> pool.getQueue().size())
+            .description("파생 이미지 생성 대기열에 쌓인 작업 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 원본 이미지의 파생 이미지 생성을 예약합니다.
+     * 이미 있는 크기는 건너뜁니다.
+     *
+     * @param original 원본 이미지 경로
+     * @return 생성한 파생 이미지 경로 (큰 크기부터), 대기열이 가득 차거나 실패하면 예외로 완료
+     */
+    public CompletableFuture<List<Path>> enqueue(Path original) {
+        CompletableFuture<List<Path>> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> run(original, result));
+        } catch (RejectedExecutionException e) {
+            log.warn("파생 이미지 생성 대기열이 가득 차 원본만 제공합니다: {}", original.getFileName());
+            count("rejected");
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        watchdog.shutdownNow();
+    }
+
+    private void run(Path original, CompletableFuture<List<Path>> result) {
+        AtomicBoolean timedOut = new AtomicBoolean();
+        AtomicReference<ImageReader> reader = new AtomicReference<>();
+        ScheduledFuture<?> deadline = watchdog.schedule(() -> {
+            timedOut.set(true);
+            ImageReader current = reader.get();
+            if (current != null) {
+                current.abort();
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+        try {
+            List<Path> variants = generate(original, reader, timedOut);
+            count("success");
+            result.complete(variants);
+        } catch (TimeoutException e) {
+            log.warn("파생 이미지 생성 시간 초과 ({}ms): {}", timeoutMillis, original.getFileName());
+            count("timeout");
+            result.completeExceptionally(e);
+        } catch (Exception e) {
+            log.warn("파생 이미지 생성 실패: {} - {}", original.getFileName(), e.getMessage());
+            count("failure");
+            result.completeExceptionally(e);
+        } finally {
+            deadline.cancel(false);
+        }
+    }
+
+    private List<Path> generate(Path original, AtomicReference<ImageReader> readerHolder, AtomicBoolean timedOut)
+        throws IOException, TimeoutException {
+        String fileName = original.getFileName().toString();
+        String format = ImageVariants.formatName(fileName);
+        List<Path> targets = new ArrayList<>(sizes.length);
+        for (int size : sizes) {
+            targets.add(original.resolveSibling(ImageVariants.fileName(fileName, size)));
+        }
+        if (targets.stream().allMatch(Files::exists)) {
+            return targets;
+        }
+
+        BufferedImage image;
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            if (input == null) {
+                throw new IOException("이미지를 열 수 없습니다.");
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            readerHolder.set(reader);
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS) {
+                    throw new IOException("이미지가 너무 큽니다: " + width + "x" + height);
+                }
+                // 가장 큰 크기의 두 배 이상은 남기고 건너뛰며 디코딩
+                int step = Math.max(1, Math.max(width, height) / (sizes[0] * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                image = reader.read(0, param);
+            } finally {
+                readerHolder.set(null);
+                reader.dispose();
+            }
+        }
+        checkDeadline(timedOut);
+
+        boolean opaque = format.equals("jpeg") || format.equals("bmp");
+        for (int i = 0; i < sizes.length; i++) {
+            image = scale(image, sizes[i], opaque);
+            checkDeadline(timedOut);
+            if (!Files.exists(targets.get(i))) {
+                write(image, format, targets.get(i));
+            }
+        }
+        return targets;
+    }
+
+    private static void checkDeadline(AtomicBoolean timedOut) throws TimeoutException {
+        if (timedOut.get()) {
+            throw new TimeoutException();
+        }
+    }
+
+    /**
+     * 긴 변이 {@code size} 를 넘지 않도록 비율을 유지하며 줄입니다. 작은 이미지는 키우지 않습니다.
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 나눠 줄입니다.
+     */
+    static BufferedImage scale(BufferedImage source, int size, boolean opaque) {
+        int longest = Math.max(source.getWidth(), source.getHeight());
+        double ratio = Math.min(1.0, (double) size / longest);
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, opaque);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, boolean opaque) {
+        BufferedImage target = new BufferedImage(width, height,
+            opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (opaque) {
+                // 투명 영역은 흰 배경으로
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static void write(BufferedImage image, String format, Path target) throws IOException {
+        Path temp = target.resolveSibling("." + UUID.randomUUID() + ".tmp");
+        try {
+            if (!ImageIO.write(image, format, temp.toFile())) {
+                throw new IOException("이미지 형식을 저장할 수 없습니다: " + format);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void count(String result) {
+        Counter.builder("image.thumbnail.jobs")
+            .description("파생 이미지 생성 작업 수 (success, failure, timeout, rejected)")
+            .tag("result", result)
+            .register(meterRegistry)
+            .increment();
+    }
+}
@@ -0,0 +1,131 @@
+package com.j30n.stoblyx.application.service.membership;
+
+import com.j30n.stoblyx.application.port.out.membership.MembershipPort;
+import com.j30n.stoblyx.application.port.out.membership.MembershipStorePort;
+import com.j30n.stoblyx.domain.enums.MembershipType;
+import com.j30n.stoblyx.domain.event.MembershipChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * 목록 응답의 "내가 좋아요/북마크/저장한 항목" 여부를 한 번에 확인하는 서비스
+ * <p>
+ * 항목마다 DB 를 조회하는 대신 사용자별 반응 항목 집합을 저장소에 두고 페이지 단위로 포함 여부를 확인합니다.
+ * 집합은 처음 조회될 때 DB 에서 적재하고, 이후 반응 엔티티가 바뀌면 커밋 뒤에 발행되는 {@link MembershipChangedEvent}로
+ * 갱신합니다. 적재와 갱신이 겹쳐 생긴 어긋남은 집합이 만료되어 다시 적재될 때 바로잡힙니다.
+ * 저장소를 끄거나 저장소 조회에 실패하면 반응 종류마다 IN 조건 쿼리 한 번으로 확인하므로,
+ * 어느 경우든 페이지 크기와 관계없이 쿼리 수가 일정합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ViewerMembershipService {
+
+    private final MembershipPort membershipPort;
+    private final MembershipStorePort membershipStorePort;
+    private final boolean storeEnabled;
+
+    public ViewerMembershipService(MembershipPort membershipPort,
+                                   MembershipStorePort membershipStorePort,
+                                   @Value("${membership.store.enabled:true}") boolean storeEnabled) {
+        this.membershipPort = membershipPort;
+        this.membershipStorePort = membershipStorePort;
+        this.storeEnabled = storeEnabled;
+    }
+
+    /**
+     * 주어진 항목 중 사용자가 반응한 항목을 반응 종류별로 조회합니다.
+     *
+     * @param userId  사용자 ID (null 이면 모두 반응하지 않은 것으로 봄)
+     * @param itemIds 확인할 항목 ID
+     * @param types   반응 종류
+     * @return 반응 종류별 반응한 항목 ID (요청한 모든 종류를 키로 가짐)
+     */
+    public Map<MembershipType, Set<Long>> findMembers(Long userId, Collection<Long> itemIds, MembershipType... types) {
+        Map<MembershipType, Set<Long>> result = new EnumMap<>(MembershipType.class);
+        if (userId == null || itemIds.isEmpty()) {
+            for (MembershipType type : types) {
+                result.put(type, Set.of());
+            }
+            return result;
+        }
+
+        if (!storeEnabled) {
+            return findMembersFromDatabase(userId, itemIds, types);
+        }
+        try {
+            result.putAll(membershipStorePort.findMembers(userId, Arrays.asList(types), itemIds));
+        } catch (RuntimeException e) {
+            log.warn("반응 항목 저장소 조회 실패, DB 에서 확인합니다: userId={}, error={}", userId, e.getMessage());
+            return findMembersFromDatabase(userId, itemIds, types);
+        }
+        for (MembershipType type : types) {
+            if (!result.containsKey(type)) {
+                result.put(type, warmMembers(type, userId, itemIds));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사용자가 항목에 반응했는지 확인합니다.
+     *
+     * @param type   반응 종류
+     * @param userId 사용자 ID
+     * @param itemId 항목 ID
+     * @return 반응 여부
+     */
+    public boolean isMember(MembershipType type, Long userId, Long itemId) {
+        return findMembers(userId, List.of(itemId), type).get(type).contains(itemId);
+    }
+
+    /**
+     * 반응이 바뀌면 적재된 집합에 반영합니다. 적재되지 않은 집합은 다음 조회 때 DB 에서 적재되므로 무시합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        if (!storeEnabled) {
+            return;
+        }
+        try {
+            if (event.member()) {
+                membershipStorePort.add(event.type(), event.userId(), event.itemId());
+            } else {
+                membershipStorePort.remove(event.type(), event.userId(), event.itemId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("반응 항목 집합 갱신 실패: type={}, userId={}, itemId={}, error={}",
+                event.type(), event.userId(), event.itemId(), e.getMessage());
+        }
+    }
+
+    private Map<MembershipType, Set<Long>> findMembersFromDatabase(Long userId, Collection<Long> itemIds,
+                                                                   MembershipType... types) {
+        List<Long> distinctIds = itemIds.stream().filter(Objects::nonNull).distinct().toList();
+        Map<MembershipType, Set<Long>> result = new EnumMap<>(MembershipType.class);
+        for (MembershipType type : types) {
+            result.put(type, new HashSet<>(membershipPort.findItemIds(type, userId, distinctIds)));
+        }
+        return result;
+    }
+
+    private Set<Long> warmMembers(MembershipType type, Long userId, Collection<Long> itemIds) {
+        Set<Long> members = new HashSet<>(membershipPort.findItemIds(type, userId));
+        try {
+            membershipStorePort.warm(type, userId, members);
+        } catch (RuntimeException e) {
+            log.warn("반응 항목 집합 적재 실패: type={}, userId={}, error={}", type, userId, e.getMessage());
+        }
+        Set<Long> hits = new HashSet<>();
+        for (Long itemId : itemIds) {
+            if (members.contains(itemId)) {
+                hits.add(itemId);
+            }
+        }
+        return hits;
+    }
+}
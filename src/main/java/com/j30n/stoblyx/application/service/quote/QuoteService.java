@@ -7,6 +7,8 @@ import com.j30n.stoblyx.adapter.in.web.dto.quote.SavedQuoteRequest;
 import com.j30n.stoblyx.application.port.in.quote.QuoteUseCase;
 import com.j30n.stoblyx.application.port.out.book.BookPort;
 import com.j30n.stoblyx.application.port.out.quote.QuotePort;
+import com.j30n.stoblyx.application.service.membership.ViewerMembershipService;
+import com.j30n.stoblyx.domain.enums.MembershipType;
 import com.j30n.stoblyx.domain.model.Book;
 import com.j30n.stoblyx.domain.model.Quote;
 import com.j30n.stoblyx.domain.model.User;
@@ -26,7 +28,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -41,6 +46,7 @@ public class QuoteService implements QuoteUseCase {
     private final LikeRepository likeRepository;
     private final SavedQuoteRepository savedQuoteRepository;
     private final BookPort bookPort;
+    private final ViewerMembershipService viewerMembershipService;
 
     @PostConstruct
     public void init() {
@@ -145,21 +151,19 @@ public class QuoteService implements QuoteUseCase {
     public QuoteResponse getQuote(Long quoteId, Long userId) {
         Quote quote = quotePort.findQuoteById(quoteId)
             .orElseThrow(() -> new EntityNotFoundException(QUOTE_NOT_FOUND_MESSAGE + quoteId));
-        boolean isLiked = likeRepository.findByUserIdAndQuoteId(userId, quoteId).isPresent();
-        boolean isSaved = savedQuoteRepository.findByUserIdAndQuoteId(userId, quoteId).isPresent();
-        return QuoteResponse.from(quote, isLiked, isSaved);
+        return toResponse(quote, userId);
     }
 
     @Override
     @Transactional(readOnly = true)
     @Cacheable(value = "quotesCache", key = "'user_' + #userId + '_page_' + #pageable.pageNumber", unless = "#result.isEmpty()")
     public Page<QuoteResponse> getQuotes(Long userId, Pageable pageable) {
-        return quotePort.findByUserId(userId, pageable)
-            .map(quote -> {
-                boolean isLiked = likeRepository.findByUserIdAndQuoteId(userId, quote.getId()).isPresent();
-                boolean isSaved = savedQuoteRepository.findByUserIdAndQuoteId(userId, quote.getId()).isPresent();
-                return QuoteResponse.from(quote, isLiked, isSaved);
-            });
+        Page<Quote> quotes = quotePort.findByUserId(userId, pageable);
+        Map<MembershipType, Set<Long>> members = viewerMembershipService.findMembers(userId, quoteIds(quotes),
+            MembershipType.LIKED_QUOTE, MembershipType.SAVED_QUOTE);
+        Set<Long> liked = members.get(MembershipType.LIKED_QUOTE);
+        Set<Long> saved = members.get(MembershipType.SAVED_QUOTE);
+        return quotes.map(quote -> QuoteResponse.from(quote, liked.contains(quote.getId()), saved.contains(quote.getId())));
     }
 
     @Override
@@ -177,9 +181,7 @@ public class QuoteService implements QuoteUseCase {
         quote.update(request.content(), request.memo(), request.page());
         Quote updatedQuote = quotePort.save(quote);
 
-        boolean isLiked = likeRepository.findByUserIdAndQuoteId(userId, quoteId).isPresent();
-        boolean isSaved = savedQuoteRepository.findByUserIdAndQuoteId(userId, quoteId).isPresent();
-        return QuoteResponse.from(updatedQuote, isLiked, isSaved);
+        return toResponse(updatedQuote, userId);
     }
 
     @Override
@@ -204,7 +206,7 @@ public class QuoteService implements QuoteUseCase {
 
         quotePort.saveQuoteToUser(userId, quoteId, request.note());
 
-        boolean isLiked = likeRepository.findByUserIdAndQuoteId(userId, quoteId).isPresent();
+        boolean isLiked = viewerMembershipService.isMember(MembershipType.LIKED_QUOTE, userId, quoteId);
         return QuoteResponse.from(quote, isLiked, true);
     }
 
@@ -222,11 +224,10 @@ public class QuoteService implements QuoteUseCase {
     @Transactional(readOnly = true)
     @Cacheable(value = "quotesCache", key = "'saved_' + #userId + '_page_' + #pageable.pageNumber", unless = "#result.isEmpty()")
     public Page<QuoteResponse> getSavedQuotes(Long userId, Pageable pageable) {
-        return quotePort.findSavedQuotesByUserId(userId, pageable)
-            .map(quote -> {
-                boolean isLiked = likeRepository.findByUserIdAndQuoteId(userId, quote.getId()).isPresent();
-                return QuoteResponse.from(quote, isLiked, true);
-            });
+        Page<Quote> quotes = quotePort.findSavedQuotesByUserId(userId, pageable);
+        Set<Long> liked = viewerMembershipService.findMembers(userId, quoteIds(quotes), MembershipType.LIKED_QUOTE)
+            .get(MembershipType.LIKED_QUOTE);
+        return quotes.map(quote -> QuoteResponse.from(quote, liked.contains(quote.getId()), true));
     }
 
     /**
@@ -268,6 +269,20 @@ public class QuoteService implements QuoteUseCase {
         quotePort.unlikeQuote(userId, quoteId);
     }
 
+    /**
+     * 사용자의 좋아요/저장 여부를 포함한 응답으로 변환합니다.
+     */
+    private QuoteResponse toResponse(Quote quote, Long userId) {
+        Map<MembershipType, Set<Long>> members = viewerMembershipService.findMembers(userId, List.of(quote.getId()),
+            MembershipType.LIKED_QUOTE, MembershipType.SAVED_QUOTE);
+        return QuoteResponse.from(quote, members.get(MembershipType.LIKED_QUOTE).contains(quote.getId()),
+            members.get(MembershipType.SAVED_QUOTE).contains(quote.getId()));
+    }
+
+    private static List<Long> quoteIds(Page<Quote> quotes) {
+        return quotes.getContent().stream().map(Quote::getId).toList();
+    }
+
     private User findUserById(Long userId) {
         log.debug("사용자 조회 시도 (ID: {})", userId);
         try {
@@ -0,0 +1,417 @@
+package com.j30n.stoblyx.application.service.recommendation;
+
+import com.j30n.stoblyx.application.port.out.book.BookPort;
+import com.j30n.stoblyx.common.util.text.TermDictionary;
+import com.j30n.stoblyx.common.util.text.TextTokenizer;
+import com.j30n.stoblyx.domain.event.BookChangedEvent;
+import com.j30n.stoblyx.domain.model.Book;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 콘텐츠 기반 추천을 위한 인메모리 도서 키워드 역색인
+ * <p>
+ * 도서의 제목, 저자, 장르, 설명에서 추출한 키워드를 정수 ID로 인터닝하고,
+ * 키워드별로 (도서, 필드 가중치 합) 포스팅 목록을 유지합니다.
+ * 키워드는 {@link TextTokenizer}로 추출하며, 한글 음절 바이그램을 낮은 가중치로 함께 색인해
+ * 띄어쓰기 없는 복합어나 조사가 붙은 단어도 매칭되도록 합니다.
+ * 질의 시에는 질의 키워드와 공유하는 도서만 점수를 계산하고, 크기가 제한된 힙으로 상위 결과만 선택합니다.
+ * </p>
+ * <p>
+ * 애플리케이션 시작 시 한 번 전체 색인을 구축하고, 이후에는 {@link BookChangedEvent}로 수집된
+ * 변경 도서만 주기적으로 재색인하므로 요청 경로에서 색인을 다시 만들지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookKeywordIndex {
+
+    static final int MIN_KEYWORD_LENGTH = 2;
+    static final double TITLE_WEIGHT = 3.0;
+    static final double AUTHOR_WEIGHT = 2.0;
+    static final double GENRE_WEIGHT = 2.5;
+    static final double DESCRIPTION_WEIGHT = 1.0;
+    static final double BIGRAM_WEIGHT = 0.5;
+    private static final TextTokenizer TOKENIZER = TextTokenizer.builder()
+        .minTokenLength(MIN_KEYWORD_LENGTH)
+        .hangulBigrams(true)
+        .stopwords(TextTokenizer.DEFAULT_STOPWORDS)
+        .build();
+    private static final double POPULARITY_WEIGHT = 0.1;
+
+    private final BookPort bookPort;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TermDictionary terms = new TermDictionary();
+    private final List<PostingList> postings = new ArrayList<>();
+    private final List<IndexedBook> docs = new ArrayList<>();
+    private final Map<Long, Integer> docIdsByBookId = new HashMap<>();
+    private final Deque<Integer> freeDocIds = new ArrayDeque<>();
+    private final Set<Long> dirtyBookIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 시 전체 도서로 색인을 구축합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            List<Book> books = bookPort.findAllBooks();
+            rebuild(books);
+            log.info("도서 키워드 색인 구축 완료: 도서 {}권, 키워드 {}개", books.size(), termCount());
+        } catch (Exception e) {
+            log.error("도서 키워드 색인 구축 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 도서 변경 이벤트를 수신하여 재색인 대상으로 표시합니다.
+     * 트랜잭션 커밋 이후에만 반영되므로 롤백된 변경은 색인되지 않습니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        dirtyBookIds.add(event.bookId());
+    }
+
+    /**
+     * 변경된 도서를 일괄 조회하여 색인에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${recommendation.book-index.refresh-interval-ms:5000}")
+    public void refreshDirtyBooks() {
+        if (!ready || dirtyBookIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> bookIds = new ArrayList<>(dirtyBookIds);
+        dirtyBookIds.removeAll(bookIds);
+
+        try {
+            List<Book> books = bookPort.findAllByIds(bookIds);
+            Set<Long> removedIds = new HashSet<>(bookIds);
+            lock.writeLock().lock();
+            try {
+                for (Book book : books) {
+                    removedIds.remove(book.getId());
+                    upsert(book);
+                }
+                removedIds.forEach(this::removeDoc);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("도서 키워드 색인 증분 갱신: 갱신 {}권, 제거 {}권", books.size(), removedIds.size());
+        } catch (Exception e) {
+            dirtyBookIds.addAll(bookIds);
+            log.warn("도서 키워드 색인 증분 갱신 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 색인을 주어진 도서 목록으로 다시 구축합니다.
+     *
+     * @param books 색인할 도서 목록
+     */
+    public void rebuild(Collection<Book> books) {
+        lock.writeLock().lock();
+        try {
+            terms.clear();
+            postings.clear();
+            docs.clear();
+            docIdsByBookId.clear();
+            freeDocIds.clear();
+            for (Book book : books) {
+                upsert(book);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 단일 도서를 색인에 추가하거나 갱신합니다.
+     *
+     * @param book 도서
+     */
+    public void index(Book book) {
+        lock.writeLock().lock();
+        try {
+            upsert(book);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 도서를 색인에서 제거합니다.
+     *
+     * @param bookId 도서 ID
+     */
+    public void remove(Long bookId) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(bookId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인이 구축되어 질의 가능한지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 키워드 가중치 벡터와 관련된 상위 도서를 검색합니다.
+     *
+     * @param keywordWeights 키워드별 질의 가중치
+     * @param limit          반환할 최대 결과 수
+     * @return 점수 내림차순 도서 ID 목록과 전체 후보 수
+     */
+    public SearchResult search(Map<String, Double> keywordWeights, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<Integer, Double> query = new HashMap<>();
+            keywordWeights.forEach((keyword, weight) -> {
+                int termId = terms.find(keyword);
+                if (termId >= 0) {
+                    query.merge(termId, weight, Double::sum);
+                }
+            });
+            return score(query, null, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 도서와 키워드를 공유하는 상위 도서를 검색합니다. 기준 도서는 결과에서 제외됩니다.
+     * 기준 도서가 아직 색인되지 않았다면 전달된 엔티티에서 키워드를 추출합니다.
+     *
+     * @param book  기준 도서
+     * @param limit 반환할 최대 결과 수
+     * @return 점수 내림차순 도서 ID 목록과 전체 후보 수
+     */
+    public SearchResult searchSimilar(Book book, int limit) {
+        lock.readLock().lock();
+        try {
+            Integer docId = docIdsByBookId.get(book.getId());
+            Map<Integer, Double> query = new HashMap<>();
+            if (docId != null) {
+                IndexedBook doc = docs.get(docId);
+                for (int i = 0; i < doc.termIds().length; i++) {
+                    query.put(doc.termIds()[i], (double) doc.weights()[i]);
+                }
+            } else {
+                collectBookTerms(book, false, query);
+            }
+            return score(query, book.getId(), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 텍스트에서 추출한 키워드에 가중치를 누적합니다. 한글 음절 바이그램은 {@link #BIGRAM_WEIGHT}를 곱해 반영합니다.
+     *
+     * @param keywords 키워드별 가중치 (누적 대상)
+     * @param text     원문
+     * @param weight   키워드 하나당 가중치
+     */
+    public static void addKeywords(Map<String, Double> keywords, String text, double weight) {
+        TOKENIZER.tokenize(text, (buffer, start, length, position, bigram) ->
+            keywords.merge(new String(buffer, start, length), bigram ? weight * BIGRAM_WEIGHT : weight, Double::sum));
+    }
+
+    /**
+     * 도서 정보에서 필드 가중치가 반영된 용어 가중치를 누적합니다.
+     * 호출 전 잠금을 획득해야 하며, intern 이 true 이면 쓰기 잠금이어야 합니다.
+     */
+    private void collectBookTerms(Book book, boolean intern, Map<Integer, Double> weights) {
+        addTerms(weights, book.getTitle(), TITLE_WEIGHT, intern);
+        addTerms(weights, book.getAuthor(), AUTHOR_WEIGHT, intern);
+        if (book.getGenres() != null) {
+            for (String genre : book.getGenres()) {
+                addTerms(weights, genre, GENRE_WEIGHT, intern);
+            }
+        }
+        addTerms(weights, book.getDescription(), DESCRIPTION_WEIGHT, intern);
+    }
+
+    private void addTerms(Map<Integer, Double> weights, String text, double weight, boolean intern) {
+        TOKENIZER.tokenize(text, terms, intern, (termId, position, bigram) ->
+            weights.merge(termId, bigram ? weight * BIGRAM_WEIGHT : weight, Double::sum));
+    }
+
+    int termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 벡터와 키워드를 공유하는 도서만 누적 점수를 계산하고 상위 결과를 선택합니다.
+     * 호출 전 읽기 잠금을 획득해야 합니다.
+     */
+    private SearchResult score(Map<Integer, Double> query, Long excludeBookId, int limit) {
+        Map<Integer, Double> scores = new HashMap<>();
+        query.forEach((termId, queryWeight) -> {
+            PostingList postingList = postings.get(termId);
+            for (int i = 0; i < postingList.size; i++) {
+                scores.merge(postingList.docIds[i], queryWeight * postingList.weights[i], Double::sum);
+            }
+        });
+
+        if (limit <= 0) {
+            return new SearchResult(Collections.emptyList(), scores.size());
+        }
+
+        // 최소 힙으로 상위 limit개만 유지
+        PriorityQueue<ScoredBook> heap = new PriorityQueue<>(limit + 1, ScoredBook.ORDER.reversed());
+        int total = 0;
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            IndexedBook doc = docs.get(entry.getKey());
+            if (Objects.equals(doc.bookId(), excludeBookId)) {
+                continue;
+            }
+            total++;
+            ScoredBook candidate = new ScoredBook(doc.bookId(), entry.getValue() + doc.popularity() * POPULARITY_WEIGHT);
+            if (heap.size() < limit) {
+                heap.offer(candidate);
+            } else if (ScoredBook.ORDER.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(candidate);
+            }
+        }
+
+        List<ScoredBook> top = new ArrayList<>(heap);
+        top.sort(ScoredBook.ORDER);
+        List<Long> bookIds = new ArrayList<>(top.size());
+        for (ScoredBook scoredBook : top) {
+            bookIds.add(scoredBook.bookId());
+        }
+        return new SearchResult(bookIds, total);
+    }
+
+    /**
+     * 도서를 색인에 반영합니다. 호출 전 쓰기 잠금을 획득해야 합니다.
+     */
+    private void upsert(Book book) {
+        if (book.getId() == null) {
+            return;
+        }
+        removeDoc(book.getId());
+        if (book.isDeleted()) {
+            return;
+        }
+
+        Map<Integer, Double> keywords = new HashMap<>();
+        collectBookTerms(book, true, keywords);
+        while (postings.size() < terms.size()) {
+            postings.add(new PostingList());
+        }
+        int[] bookTermIds = new int[keywords.size()];
+        float[] bookWeights = new float[keywords.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Double> entry : keywords.entrySet()) {
+            bookTermIds[i] = entry.getKey();
+            bookWeights[i] = entry.getValue().floatValue();
+            i++;
+        }
+
+        int popularity = book.getPopularity() != null ? book.getPopularity() : 0;
+        IndexedBook doc = new IndexedBook(book.getId(), bookTermIds, bookWeights, popularity);
+        int docId;
+        if (freeDocIds.isEmpty()) {
+            docId = docs.size();
+            docs.add(doc);
+        } else {
+            docId = freeDocIds.pop();
+            docs.set(docId, doc);
+        }
+        docIdsByBookId.put(book.getId(), docId);
+
+        for (int j = 0; j < bookTermIds.length; j++) {
+            postings.get(bookTermIds[j]).add(docId, bookWeights[j]);
+        }
+    }
+
+    /**
+     * 도서를 색인에서 제거합니다. 호출 전 쓰기 잠금을 획득해야 합니다.
+     */
+    private void removeDoc(Long bookId) {
+        Integer docId = docIdsByBookId.remove(bookId);
+        if (docId == null) {
+            return;
+        }
+        IndexedBook doc = docs.get(docId);
+        for (int termId : doc.termIds()) {
+            postings.get(termId).remove(docId);
+        }
+        docs.set(docId, null);
+        freeDocIds.push(docId);
+    }
+
+    /**
+     * 색인 검색 결과
+     *
+     * @param bookIds    점수 내림차순 도서 ID 목록 (최대 limit개)
+     * @param totalHits  질의와 키워드를 공유하는 전체 도서 수
+     */
+    public record SearchResult(List<Long> bookIds, int totalHits) {
+    }
+
+    private record ScoredBook(Long bookId, double score) {
+        // 점수 내림차순, 동점이면 도서 ID 오름차순
+        static final Comparator<ScoredBook> ORDER = Comparator.comparingDouble(ScoredBook::score).reversed()
+            .thenComparing(ScoredBook::bookId);
+    }
+
+    private record IndexedBook(Long bookId, int[] termIds, float[] weights, int popularity) {
+    }
+
+    /**
+     * 키워드별 포스팅 목록 (내부 문서 ID와 필드 가중치 합을 병렬 배열로 저장)
+     */
+    private static final class PostingList {
+        private int[] docIds = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        void add(int docId, float weight) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docIds[size] = docId;
+            weights[size] = weight;
+            size++;
+        }
+
+        void remove(int docId) {
+            for (int i = 0; i < size; i++) {
+                if (docIds[i] == docId) {
+                    size--;
+                    docIds[i] = docIds[size];
+                    weights[i] = weights[size];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -28,15 +28,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ContentBasedRecommendationService implements ContentBasedRecommendationUseCase {
 
-    private static final int MIN_KEYWORD_LENGTH = 2;
-    private static final double TITLE_WEIGHT = 3.0;
-    private static final double AUTHOR_WEIGHT = 2.0;
-    private static final double GENRE_WEIGHT = 2.5;
-    private static final double DESCRIPTION_WEIGHT = 1.0;
-    private static final double INTERACTION_WEIGHT = 1.5;
-
     private final BookPort bookPort;
     private final RecommendationPort recommendationPort;
+    private final BookKeywordIndex bookKeywordIndex;
 
     /**
      * 검색 기록 기반 개인화된 도서 추천
@@ -62,34 +56,23 @@ public class ContentBasedRecommendationService implements ContentBasedRecommenda
             return bookPort.findPopularBooks(pageable).map(BookResponse::from);
         }
 
+        if (!bookKeywordIndex.isReady()) {
+            log.warn("도서 키워드 색인 준비 전 - 일반 인기 도서 반환");
+            return bookPort.findPopularBooks(pageable).map(BookResponse::from);
+        }
+
         // 검색어 가중치 계산
         Map<String, Double> keywordWeights = calculateKeywordWeights(searchTerms);
         log.debug("사용자 키워드 가중치(userId={}): {}", userId, keywordWeights);
 
-        // 모든 도서 가져오기 (실제 구현에서는 효율적인 방법으로 필터링 필요)
-        List<Book> allBooks = bookPort.findAllBooks();
-
-        // 각 도서의 관련성 점수 계산
-        Map<Book, Double> bookScores = calculateBookScores(allBooks, keywordWeights);
-
-        // 점수에 따라 정렬
-        List<Book> sortedBooks = bookScores.entrySet().stream()
-                .sorted(Map.Entry.<Book, Double>comparingByValue().reversed())
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-
-        // 페이징 적용
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), sortedBooks.size());
-        
-        if (start >= sortedBooks.size()) {
-            return Page.empty(pageable);
+        // 키워드를 공유하는 도서만 색인에서 점수 계산
+        BookKeywordIndex.SearchResult result = bookKeywordIndex.search(keywordWeights, pageLimit(pageable));
+        if (result.totalHits() == 0) {
+            log.info("검색 기록과 관련된 도서 없음(userId={}) - 일반 인기 도서 반환", userId);
+            return bookPort.findPopularBooks(pageable).map(BookResponse::from);
         }
 
-        List<Book> pageContent = sortedBooks.subList(start, end);
-        return new PageImpl<>(pageContent.stream()
-                .map(BookResponse::from)
-                .collect(Collectors.toList()), pageable, sortedBooks.size());
+        return toPage(result, pageable);
     }
 
     /**
@@ -107,39 +90,28 @@ public class ContentBasedRecommendationService implements ContentBasedRecommenda
         Book targetBook = bookPort.findBookById(bookId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 책입니다."));
 
-        // 기준 책의 키워드 추출
-        Map<String, Double> bookKeywords = extractBookKeywords(targetBook);
-        log.debug("책 키워드(bookId={}): {}", bookId, bookKeywords);
-
-        // 모든 도서 가져오기 (실제 구현에서는 효율적인 방법으로 필터링 필요)
-        List<Book> allBooks = bookPort.findAllBooks();
-
-        // 현재 책 제외
-        allBooks = allBooks.stream()
-                .filter(book -> !Objects.equals(book.getId(), bookId))
-                .collect(Collectors.toList());
+        // 기준 책과 키워드를 공유하는 도서만 색인에서 점수 계산
+        BookKeywordIndex.SearchResult result = bookKeywordIndex.searchSimilar(targetBook, pageLimit(pageable));
+        log.debug("유사 도서 후보 수(bookId={}): {}", bookId, result.totalHits());
 
-        // 각 도서의 관련성 점수 계산
-        Map<Book, Double> bookScores = calculateBookScores(allBooks, bookKeywords);
-
-        // 점수에 따라 정렬
-        List<Book> sortedBooks = bookScores.entrySet().stream()
-                .sorted(Map.Entry.<Book, Double>comparingByValue().reversed())
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+        return toPage(result, pageable);
+    }
 
-        // 페이징 적용
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), sortedBooks.size());
-        
-        if (start >= sortedBooks.size()) {
-            return Page.empty(pageable);
+    /**
+     * 사용자 검색 기록 기반 추천 도서 ID를 점수 순으로 계산합니다.
+     * 검색 기록이 없거나 색인이 준비되지 않았으면 빈 목록을 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @param limit  최대 개수
+     * @return 추천 도서 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public List<Long> recommendBookIds(Long userId, int limit) {
+        List<SearchTermProfile> searchTerms = recommendationPort.getUserSearchTerms(userId);
+        if (searchTerms.isEmpty() || !bookKeywordIndex.isReady()) {
+            return Collections.emptyList();
         }
-
-        List<Book> pageContent = sortedBooks.subList(start, end);
-        return new PageImpl<>(pageContent.stream()
-                .map(BookResponse::from)
-                .collect(Collectors.toList()), pageable, sortedBooks.size());
+        return bookKeywordIndex.search(calculateKeywordWeights(searchTerms), limit).bookIds();
     }
 
     /**
@@ -150,122 +122,33 @@ public class ContentBasedRecommendationService implements ContentBasedRecommenda
 
         // 검색어별 가중치 계산
         for (SearchTermProfile term : searchTerms) {
-            String searchTerm = term.getSearchTerm().toLowerCase();
-            // 검색어를 단어로 분리
-            for (String keyword : extractKeywords(searchTerm)) {
-                if (keyword.length() >= MIN_KEYWORD_LENGTH) {
-                    // 검색 횟수를 가중치로 사용하고, 최근성은 고려하지 않음 (SearchTermProfile에 lastSearchDate가 없음)
-                    double weight = term.getSearchCount();
-                    keywordWeights.merge(keyword, weight, Double::sum);
-                }
-            }
+            // 검색 횟수를 가중치로 사용하고, 최근성은 고려하지 않음 (SearchTermProfile에 lastSearchDate가 없음)
+            BookKeywordIndex.addKeywords(keywordWeights, term.getSearchTerm(), term.getSearchCount());
         }
 
         return keywordWeights;
     }
 
     /**
-     * 책 정보에서 키워드 추출
-     */
-    private Map<String, Double> extractBookKeywords(Book book) {
-        Map<String, Double> keywords = new HashMap<>();
-
-        // 제목 키워드
-        if (book.getTitle() != null) {
-            for (String keyword : extractKeywords(book.getTitle())) {
-                if (keyword.length() >= MIN_KEYWORD_LENGTH) {
-                    keywords.merge(keyword, TITLE_WEIGHT, Double::sum);
-                }
-            }
-        }
-
-        // 저자 키워드
-        if (book.getAuthor() != null) {
-            for (String keyword : extractKeywords(book.getAuthor())) {
-                if (keyword.length() >= MIN_KEYWORD_LENGTH) {
-                    keywords.merge(keyword, AUTHOR_WEIGHT, Double::sum);
-                }
-            }
-        }
-
-        // 장르 키워드
-        if (book.getGenres() != null) {
-            for (String genre : book.getGenres()) {
-                for (String keyword : extractKeywords(genre)) {
-                    if (keyword.length() >= MIN_KEYWORD_LENGTH) {
-                        keywords.merge(keyword, GENRE_WEIGHT, Double::sum);
-                    }
-                }
-            }
-        }
-
-        // 설명 키워드
-        if (book.getDescription() != null) {
-            for (String keyword : extractKeywords(book.getDescription())) {
-                if (keyword.length() >= MIN_KEYWORD_LENGTH) {
-                    keywords.merge(keyword, DESCRIPTION_WEIGHT, Double::sum);
-                }
-            }
-        }
-
-        return keywords;
-    }
-
-    /**
-     * 도서 관련성 점수 계산
-     */
-    private Map<Book, Double> calculateBookScores(List<Book> books, Map<String, Double> keywordWeights) {
-        Map<Book, Double> scores = new HashMap<>();
-
-        for (Book book : books) {
-            Map<String, Double> bookKeywords = extractBookKeywords(book);
-            double score = calculateSimilarityScore(keywordWeights, bookKeywords);
-            
-            // 인기도와 상호작용 정보를 추가로 고려할 수 있음
-            double popularityBoost = book.getPopularity() != null ? book.getPopularity() * 0.1 : 0;
-            // Book 클래스에 getLikesCount 메서드가 없어 인기도만 고려
-            
-            score += popularityBoost;
-            scores.put(book, score);
-        }
-
-        return scores;
-    }
-
-    /**
-     * 키워드 유사도 점수 계산
+     * 요청 페이지까지 필요한 상위 결과 수
      */
-    private double calculateSimilarityScore(Map<String, Double> keywordsA, Map<String, Double> keywordsB) {
-        double score = 0.0;
-
-        // 공통 키워드에 대한 점수 계산
-        for (Map.Entry<String, Double> entry : keywordsA.entrySet()) {
-            String keyword = entry.getKey();
-            if (keywordsB.containsKey(keyword)) {
-                score += entry.getValue() * keywordsB.get(keyword);
-            }
-        }
-
-        return score;
+    private int pageLimit(Pageable pageable) {
+        return (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
     }
 
     /**
-     * 검색어를 키워드로 분리
+     * 색인 검색 결과에서 요청 페이지에 해당하는 도서만 일괄 조회하여 페이지로 변환
      */
-    private List<String> extractKeywords(String text) {
-        if (text == null || text.isEmpty()) {
-            return Collections.emptyList();
+    private Page<BookResponse> toPage(BookKeywordIndex.SearchResult result, Pageable pageable) {
+        int start = (int) pageable.getOffset();
+        if (start >= result.bookIds().size()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, result.totalHits());
         }
 
-        // 간단한 토큰화 구현 (스페이스, 쉼표 등으로 분리)
-        String[] tokens = text.toLowerCase()
-                .replaceAll("[^가-힣a-z0-9\\s]", " ")
-                .split("\\s+");
-
-        // 중복 제거 및 빈 문자열 제거
-        return Arrays.stream(tokens)
-                .filter(token -> !token.isEmpty())
-                .collect(Collectors.toList());
+        List<Long> pageIds = result.bookIds().subList(start, result.bookIds().size());
+        return new PageImpl<>(bookPort.findAllByIds(pageIds).stream()
+                .map(BookResponse::from)
+                .collect(Collectors.toList()), pageable, result.totalHits());
     }
 
     /**
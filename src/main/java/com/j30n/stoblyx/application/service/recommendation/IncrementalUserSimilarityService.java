@@ -0,0 +1,281 @@
+package com.j30n.stoblyx.application.service.recommendation;
+
+import com.j30n.stoblyx.application.port.out.recommendation.UserSimilarityMatrixPort;
+import com.j30n.stoblyx.domain.model.UserSimilarityScore;
+import com.j30n.stoblyx.domain.model.UserTermWeight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 검색 이벤트 기반 사용자 유사도 증분 갱신 서비스
+ * <p>
+ * 검색한 사용자를 변경 집합에 기록해 두고, 주기적으로 변경된 사용자만 다시 계산합니다.
+ * 메모리에 사용자 검색어 벡터, 벡터 노름, 검색어→사용자 역색인을 유지하므로 한 사용자의 계산 비용은
+ * 그 사용자와 검색어를 공유하는 후보 사용자 수에 비례합니다. 전체 재계산({@link UserSimilarityEngine})은
+ * 정합성 점검용으로만 실행됩니다.
+ * </p>
+ * <p>
+ * 변경된 사용자와의 점수가 바뀐 이웃(임계값 이상인 후보와 그 사용자를 이미 이웃으로 가진 사용자)은 같은 주기에
+ * 자기 상위 K명을 다시 계산하므로, 어느 사용자도 상위 K명을 넘는 활성 이웃을 갖지 않고 임계값 아래로 떨어진
+ * 이웃 행은 비활성화됩니다. 이웃의 재계산은 다시 다른 이웃으로 퍼지지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class IncrementalUserSimilarityService {
+
+    private static final String USER_RECOMMENDATIONS_CACHE = "userRecommendations";
+
+    private final UserSimilarityMatrixPort userSimilarityMatrixPort;
+    private final CacheManager cacheManager;
+    private final double threshold;
+    private final int topK;
+    private final int maxTermsPerUser;
+    private final int maxTermPostings;
+
+    private final Set<Long> dirtyUsers = ConcurrentHashMap.newKeySet();
+    private final Timer cycleTimer;
+    private final Counter recomputedUsers;
+
+    // 아래 모델은 processDirtyUsers 를 실행하는 스레드에서만 변경됩니다.
+    private Map<Long, Map<String, Double>> vectors;
+    private final Map<Long, Double> norms = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    public IncrementalUserSimilarityService(UserSimilarityMatrixPort userSimilarityMatrixPort,
+                                            CacheManager cacheManager,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${recommendation.cf.threshold:0.3}") double threshold,
+                                            @Value("${recommendation.cf.top-k:10}") int topK,
+                                            @Value("${recommendation.cf.max-terms-per-user:10}") int maxTermsPerUser,
+                                            @Value("${recommendation.cf.max-term-postings:10000}") int maxTermPostings) {
+        this.userSimilarityMatrixPort = userSimilarityMatrixPort;
+        this.cacheManager = cacheManager;
+        this.threshold = threshold;
+        this.topK = topK;
+        this.maxTermsPerUser = maxTermsPerUser;
+        this.maxTermPostings = maxTermPostings;
+
+        Gauge.builder("recommendation.similarity.dirty.users", dirtyUsers, Set::size)
+            .description("유사도 재계산 대기 중인 사용자 수")
+            .register(meterRegistry);
+        this.cycleTimer = Timer.builder("recommendation.similarity.incremental.duration")
+            .description("사용자 유사도 증분 갱신 주기 처리 시간")
+            .register(meterRegistry);
+        this.recomputedUsers = Counter.builder("recommendation.similarity.incremental.users")
+            .description("증분 갱신으로 다시 계산된 사용자 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 사용자의 검색어가 변경되었음을 기록합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void markDirty(Long userId) {
+        if (userId != null) {
+            dirtyUsers.add(userId);
+        }
+    }
+
+    /**
+     * 메모리 모델을 폐기합니다. 전체 재계산 후 다음 주기에 새로 적재됩니다.
+     */
+    public synchronized void resetModel() {
+        vectors = null;
+        norms.clear();
+        postings.clear();
+    }
+
+    /**
+     * 현재 대기 중인 사용자 수
+     */
+    public int dirtyUserCount() {
+        return dirtyUsers.size();
+    }
+
+    /**
+     * 변경된 사용자의 유사도 증분 갱신 (기본 1분마다 실행)
+     */
+    @Scheduled(fixedDelayString = "${recommendation.cf.incremental-interval-ms:60000}",
+        initialDelayString = "${recommendation.cf.incremental-initial-delay-ms:60000}")
+    public void scheduledIncrementalUpdate() {
+        try {
+            processDirtyUsers();
+        } catch (Exception e) {
+            log.error("사용자 유사도 증분 갱신 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 변경 집합의 사용자들을 다시 계산합니다.
+     *
+     * @return 저장된 유사도 행 수
+     */
+    public synchronized int processDirtyUsers() {
+        if (dirtyUsers.isEmpty()) {
+            return 0;
+        }
+        long startNanos = System.nanoTime();
+        LocalDateTime refreshedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        List<Long> batch = new ArrayList<>(dirtyUsers);
+        batch.forEach(dirtyUsers::remove);
+
+        if (vectors == null) {
+            loadModel();
+        }
+        applyUserVectors(batch);
+
+        // 변경된 사용자를 이웃으로 가진 사용자는 점수가 떨어졌을 수 있으므로 함께 다시 계산
+        Set<Long> neighbors = new LinkedHashSet<>(userSimilarityMatrixPort.findActiveSourceUserIds(batch));
+        List<UserSimilarityScore> rows = new ArrayList<>();
+        for (Long userId : batch) {
+            collectNeighbors(userId, rows, neighbors);
+        }
+        neighbors.removeAll(batch);
+        for (Long userId : neighbors) {
+            collectNeighbors(userId, rows, null);
+        }
+        List<Long> sources = new ArrayList<>(batch);
+        sources.addAll(neighbors);
+
+        int written = rows.isEmpty() ? 0 : userSimilarityMatrixPort.upsertUserSimilarities(rows, refreshedAt);
+        int deactivated = userSimilarityMatrixPort.deactivateSimilaritiesNotRefreshedSince(sources, refreshedAt);
+        evictRecommendations(sources);
+
+        long elapsed = System.nanoTime() - startNanos;
+        cycleTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        recomputedUsers.increment(sources.size());
+        log.info("사용자 유사도 증분 갱신 완료: 사용자 {}명, 이웃 {}명, 저장 {}건, 비활성화 {}건, 대기 {}명, {}ms",
+            batch.size(), neighbors.size(), written, deactivated, dirtyUsers.size(), elapsed / 1_000_000);
+        return written;
+    }
+
+    private void loadModel() {
+        vectors = new HashMap<>();
+        norms.clear();
+        postings.clear();
+        userSimilarityMatrixPort.streamUserTermWeights(cappedCollector(vectors));
+        vectors.forEach(this::index);
+        log.info("사용자 유사도 증분 모델 적재 완료: 사용자 {}명, 검색어 {}개", vectors.size(), postings.size());
+    }
+
+    /**
+     * 변경된 사용자의 최신 검색어 벡터를 읽어 노름과 역색인을 갱신합니다.
+     */
+    private void applyUserVectors(List<Long> userIds) {
+        Map<Long, Map<String, Double>> fresh = new HashMap<>();
+        userSimilarityMatrixPort.streamUserTermWeights(userIds, cappedCollector(fresh));
+        for (Long userId : userIds) {
+            Map<String, Double> previous = vectors.remove(userId);
+            if (previous != null) {
+                previous.keySet().forEach(term -> {
+                    Set<Long> users = postings.get(term);
+                    if (users != null) {
+                        users.remove(userId);
+                        if (users.isEmpty()) {
+                            postings.remove(term);
+                        }
+                    }
+                });
+                norms.remove(userId);
+            }
+            Map<String, Double> vector = fresh.get(userId);
+            if (vector != null) {
+                vectors.put(userId, vector);
+                index(userId, vector);
+            }
+        }
+    }
+
+    private void index(Long userId, Map<String, Double> vector) {
+        double squared = 0.0;
+        for (Map.Entry<String, Double> entry : vector.entrySet()) {
+            squared += entry.getValue() * entry.getValue();
+            postings.computeIfAbsent(entry.getKey(), term -> new HashSet<>()).add(userId);
+        }
+        norms.put(userId, Math.sqrt(squared));
+    }
+
+    /**
+     * 공유 검색어의 역색인으로 후보를 모아 상위 K명을 선택합니다.
+     *
+     * @param affected 임계값 이상인 후보를 모을 집합 (필요 없으면 null)
+     */
+    private void collectNeighbors(Long userId, List<UserSimilarityScore> rows, Set<Long> affected) {
+        Map<String, Double> vector = vectors.get(userId);
+        if (vector == null) {
+            return;
+        }
+        Map<Long, Double> dots = new HashMap<>();
+        for (Map.Entry<String, Double> entry : vector.entrySet()) {
+            Set<Long> users = postings.get(entry.getKey());
+            if (users == null || (maxTermPostings > 0 && users.size() > maxTermPostings)) {
+                continue;
+            }
+            for (Long other : users) {
+                if (!other.equals(userId)) {
+                    dots.merge(other, entry.getValue() * vectors.get(other).get(entry.getKey()), Double::sum);
+                }
+            }
+        }
+
+        double norm = norms.get(userId);
+        PriorityQueue<UserSimilarityScore> heap = new PriorityQueue<>(
+            Comparator.comparingDouble(UserSimilarityScore::score)
+                .thenComparing(UserSimilarityScore::targetUserId, Comparator.reverseOrder()));
+        for (Map.Entry<Long, Double> entry : dots.entrySet()) {
+            double score = entry.getValue() / (norm * norms.get(entry.getKey()));
+            if (score < threshold) {
+                continue;
+            }
+            if (affected != null) {
+                affected.add(entry.getKey());
+            }
+            heap.offer(new UserSimilarityScore(userId, entry.getKey(), score));
+            if (heap.size() > topK) {
+                heap.poll();
+            }
+        }
+        rows.addAll(heap);
+    }
+
+    private void evictRecommendations(List<Long> sourceUserIds) {
+        Cache cache = cacheManager.getCache(USER_RECOMMENDATIONS_CACHE);
+        if (cache == null) {
+            return;
+        }
+        sourceUserIds.forEach(cache::evict);
+    }
+
+    /**
+     * 사용자별 최근 검색어를 최대 개수까지만 모으는 수집기
+     */
+    private Consumer<UserTermWeight> cappedCollector(Map<Long, Map<String, Double>> target) {
+        return element -> {
+            if (element.weight() <= 0 || element.term() == null) {
+                return;
+            }
+            Map<String, Double> vector = target.computeIfAbsent(element.userId(), id -> new HashMap<>());
+            if (vector.size() < maxTermsPerUser) {
+                vector.put(element.term(), element.weight());
+            }
+        };
+    }
+}
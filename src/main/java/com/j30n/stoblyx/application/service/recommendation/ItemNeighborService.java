@@ -0,0 +1,288 @@
+package com.j30n.stoblyx.application.service.recommendation;
+
+import com.j30n.stoblyx.application.port.out.recommendation.ItemNeighborPort;
+import com.j30n.stoblyx.domain.enums.NeighborItemType;
+import com.j30n.stoblyx.domain.model.ItemEngagement;
+import com.j30n.stoblyx.domain.model.ItemNeighbor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 아이템 간 공동 반응 이웃 계산 서비스
+ * <p>
+ * 같은 사용자가 함께 반응한 아이템 쌍을 세어 코사인 유사도(공동 반응 수 / sqrt(반응 수 곱))를 계산하고,
+ * 아이템별 상위 K개 이웃을 이웃 테이블에 저장합니다. 유사 도서/유사 콘텐츠 조회는 이 테이블을 한 번 읽습니다.
+ * </p>
+ * <p>
+ * 전체 재구축은 사용자 ID 구간 단위로 반응을 스트리밍하며, 기준 아이템을 파티션으로 나누어 파티션마다
+ * 한 번씩 통과하므로 메모리 사용량은 (사용자 구간의 반응 수 + 파티션의 공동 반응 수)로 제한됩니다.
+ * 증분 갱신은 마지막 실행 이후 반응이 바뀐 아이템만 다시 계산합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ItemNeighborService {
+
+    private final ItemNeighborPort itemNeighborPort;
+    private final int topK;
+    private final int userWindow;
+    private final int anchorPartitionSize;
+    private final int maxItemsPerUser;
+
+    private final Map<NeighborItemType, Map<Long, Integer>> itemDegrees = new ConcurrentHashMap<>();
+    private final Map<NeighborItemType, LocalDateTime> lastRunAt = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public ItemNeighborService(ItemNeighborPort itemNeighborPort,
+                               @Value("${recommendation.item-neighbor.top-k:20}") int topK,
+                               @Value("${recommendation.item-neighbor.user-window:1000}") int userWindow,
+                               @Value("${recommendation.item-neighbor.anchor-partition-size:5000}") int anchorPartitionSize,
+                               @Value("${recommendation.item-neighbor.max-items-per-user:200}") int maxItemsPerUser) {
+        this.itemNeighborPort = itemNeighborPort;
+        this.topK = topK;
+        this.userWindow = userWindow;
+        this.anchorPartitionSize = anchorPartitionSize;
+        this.maxItemsPerUser = maxItemsPerUser;
+    }
+
+    /**
+     * 이웃 테이블 전체 재구축 (매일 새벽 4시에 실행)
+     */
+    @Scheduled(cron = "${recommendation.item-neighbor.rebuild-cron:0 0 4 * * ?}")
+    public void scheduledRebuild() {
+        runExclusively(() -> {
+            for (NeighborItemType itemType : NeighborItemType.values()) {
+                rebuild(itemType);
+            }
+        });
+    }
+
+    /**
+     * 반응이 변경된 아이템의 이웃 증분 갱신 (기본 10분마다 실행)
+     * 아직 전체 재구축이 실행되지 않았다면 전체 재구축을 수행합니다.
+     */
+    @Scheduled(fixedDelayString = "${recommendation.item-neighbor.refresh-interval-ms:600000}",
+        initialDelayString = "${recommendation.item-neighbor.initial-delay-ms:60000}")
+    public void scheduledRefresh() {
+        runExclusively(() -> {
+            for (NeighborItemType itemType : NeighborItemType.values()) {
+                if (lastRunAt.containsKey(itemType)) {
+                    refreshChanged(itemType);
+                } else {
+                    rebuild(itemType);
+                }
+            }
+        });
+    }
+
+    /**
+     * 아이템의 이웃 ID를 순위 순으로 조회합니다.
+     *
+     * @param itemType 아이템 유형
+     * @param itemId   아이템 ID
+     * @param limit    최대 개수
+     * @return 이웃 아이템 ID 목록
+     */
+    public List<Long> getNeighborIds(NeighborItemType itemType, Long itemId, int limit) {
+        return itemNeighborPort.findNeighborIds(itemType, itemId, Math.min(limit, topK));
+    }
+
+    /**
+     * 해당 유형의 이웃 테이블을 전체 재구축합니다.
+     *
+     * @param itemType 아이템 유형
+     * @return 저장된 이웃 행 수
+     */
+    public int rebuild(NeighborItemType itemType) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long maxUserId = itemNeighborPort.findMaxUserId();
+
+        // 1차 통과: 아이템별 반응 사용자 수
+        Map<Long, Integer> degrees = new HashMap<>();
+        forEachUserBasket(itemType, maxUserId, basket -> {
+            for (Long itemId : basket) {
+                degrees.merge(itemId, 1, Integer::sum);
+            }
+        });
+
+        // 2차 이후 통과: 기준 아이템 파티션별 공동 반응 집계
+        List<Long> anchors = new ArrayList<>(degrees.keySet());
+        Collections.sort(anchors);
+        int written = 0;
+        for (int from = 0; from < anchors.size(); from += anchorPartitionSize) {
+            List<Long> partition = anchors.subList(from, Math.min(from + anchorPartitionSize, anchors.size()));
+            Set<Long> partitionSet = new HashSet<>(partition);
+            Map<Long, Map<Long, Integer>> coCounts = new HashMap<>();
+            forEachUserBasket(itemType, maxUserId, basket -> accumulate(basket, partitionSet, coCounts));
+            written += writeNeighbors(itemType, partition, coCounts, degrees);
+        }
+
+        // 이번 재구축에서 다시 저장되지 않은 (반응이 모두 사라진) 아이템의 이웃 정리
+        // DATETIME 컬럼의 초 단위 반올림을 고려해 1초 여유를 둡니다.
+        int removed = itemNeighborPort.deleteNeighborsCreatedBefore(itemType,
+            startedAt.truncatedTo(ChronoUnit.SECONDS).minusSeconds(1));
+
+        itemDegrees.put(itemType, new ConcurrentHashMap<>(degrees));
+        lastRunAt.put(itemType, startedAt);
+        log.info("아이템 이웃 전체 재구축 완료: type={}, 아이템 {}개, 이웃 {}건, 정리 {}건",
+            itemType, anchors.size(), written, removed);
+        return written;
+    }
+
+    /**
+     * 마지막 실행 이후 반응이 변경된 아이템의 이웃만 다시 계산합니다.
+     *
+     * @param itemType 아이템 유형
+     * @return 저장된 이웃 행 수
+     */
+    public int refreshChanged(NeighborItemType itemType) {
+        LocalDateTime since = lastRunAt.get(itemType);
+        Map<Long, Integer> degrees = itemDegrees.get(itemType);
+        if (since == null || degrees == null) {
+            return rebuild(itemType);
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        Set<Long> changedItems = itemNeighborPort.findItemIdsChangedSince(itemType, since);
+        if (changedItems.isEmpty()) {
+            lastRunAt.put(itemType, startedAt);
+            return 0;
+        }
+
+        // 변경된 아이템에 반응한 사용자의 전체 반응만 다시 읽어 집계
+        List<Long> userIds = new ArrayList<>(itemNeighborPort.findUserIdsEngagedWith(itemType, changedItems));
+        Map<Long, Map<Long, Integer>> coCounts = new HashMap<>();
+        Map<Long, Integer> changedDegrees = new HashMap<>();
+        for (int from = 0; from < userIds.size(); from += userWindow) {
+            List<Long> userChunk = userIds.subList(from, Math.min(from + userWindow, userIds.size()));
+            groupByUser(itemNeighborPort.findEngagementsByUserIds(itemType, userChunk)).forEach(basket -> {
+                for (Long itemId : basket) {
+                    if (changedItems.contains(itemId)) {
+                        changedDegrees.merge(itemId, 1, Integer::sum);
+                    }
+                }
+                accumulate(basket, changedItems, coCounts);
+            });
+        }
+
+        for (Long itemId : changedItems) {
+            Integer degree = changedDegrees.get(itemId);
+            if (degree == null) {
+                degrees.remove(itemId);
+            } else {
+                degrees.put(itemId, degree);
+            }
+        }
+
+        List<Long> anchors = new ArrayList<>(changedItems);
+        Collections.sort(anchors);
+        int written = writeNeighbors(itemType, anchors, coCounts, degrees);
+        lastRunAt.put(itemType, startedAt);
+        log.info("아이템 이웃 증분 갱신 완료: type={}, 변경 아이템 {}개, 사용자 {}명, 이웃 {}건",
+            itemType, changedItems.size(), userIds.size(), written);
+        return written;
+    }
+
+    private void runExclusively(Runnable task) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("아이템 이웃 계산이 이미 실행 중이므로 건너뜁니다.");
+            return;
+        }
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("아이템 이웃 계산 중 오류 발생: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 사용자 ID 구간 단위로 반응을 읽어 사용자별 아이템 묶음을 전달합니다.
+     */
+    private void forEachUserBasket(NeighborItemType itemType, long maxUserId, Consumer<Collection<Long>> consumer) {
+        for (long from = 0; from < maxUserId; from += userWindow) {
+            long to = Math.min(from + userWindow, maxUserId);
+            groupByUser(itemNeighborPort.findEngagementsByUserIdRange(itemType, from, to)).forEach(consumer);
+        }
+    }
+
+    /**
+     * 반응 목록을 사용자별 중복 없는 아이템 묶음으로 변환합니다. 과도한 쌍 생성을 막기 위해 묶음 크기를 제한합니다.
+     */
+    private Collection<Set<Long>> groupByUser(List<ItemEngagement> engagements) {
+        Map<Long, Set<Long>> baskets = new HashMap<>();
+        for (ItemEngagement engagement : engagements) {
+            if (engagement.itemId() == null) {
+                continue;
+            }
+            Set<Long> basket = baskets.computeIfAbsent(engagement.userId(), id -> new LinkedHashSet<>());
+            if (basket.size() < maxItemsPerUser) {
+                basket.add(engagement.itemId());
+            }
+        }
+        return baskets.values();
+    }
+
+    private void accumulate(Collection<Long> basket, Set<Long> anchors, Map<Long, Map<Long, Integer>> coCounts) {
+        for (Long anchor : basket) {
+            if (!anchors.contains(anchor)) {
+                continue;
+            }
+            Map<Long, Integer> counts = coCounts.computeIfAbsent(anchor, id -> new HashMap<>());
+            for (Long other : basket) {
+                if (!other.equals(anchor)) {
+                    counts.merge(other, 1, Integer::sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * 기준 아이템별 상위 K개 이웃을 선택하여 저장합니다.
+     */
+    private int writeNeighbors(NeighborItemType itemType, List<Long> anchors,
+                               Map<Long, Map<Long, Integer>> coCounts, Map<Long, Integer> degrees) {
+        List<ItemNeighbor> rows = new ArrayList<>();
+        for (Long anchor : anchors) {
+            Map<Long, Integer> counts = coCounts.get(anchor);
+            if (counts == null) {
+                continue;
+            }
+            int anchorDegree = degrees.getOrDefault(anchor, 1);
+
+            PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(topK + 1, Map.Entry.comparingByValue());
+            for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+                int neighborDegree = degrees.getOrDefault(entry.getKey(), entry.getValue());
+                double score = entry.getValue() / Math.sqrt((double) anchorDegree * neighborDegree);
+                heap.offer(new AbstractMap.SimpleEntry<>(entry.getKey(), score));
+                if (heap.size() > topK) {
+                    heap.poll();
+                }
+            }
+
+            List<Map.Entry<Long, Double>> top = new ArrayList<>(heap);
+            top.sort(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+            for (int rank = 0; rank < top.size(); rank++) {
+                rows.add(ItemNeighbor.builder()
+                    .itemType(itemType)
+                    .itemId(anchor)
+                    .neighborId(top.get(rank).getKey())
+                    .score(top.get(rank).getValue())
+                    .neighborRank(rank + 1)
+                    .build());
+            }
+        }
+        itemNeighborPort.replaceNeighbors(itemType, anchors, rows);
+        return rows.size();
+    }
+}
@@ -0,0 +1,176 @@
+package com.j30n.stoblyx.application.service.recommendation;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 사용자 검색어 집합에 대한 MinHash 서명과 밴드 LSH 버킷
+ * <p>
+ * 서명 길이는 밴드 수 × 밴드당 행 수이며, 같은 밴드의 해시가 일치하는 사용자끼리 후보가 됩니다.
+ * 밴드 수를 늘리거나 밴드당 행 수를 줄이면 재현율이 올라가는 대신 후보가 많아져 느려집니다.
+ * 각 밴드는 (버킷 키, 행 번호) 정렬 배열과 행별 정렬 위치로 보관되어 사용자당 메모리는 밴드 수 × 16바이트입니다.
+ * </p>
+ */
+public final class MinHashLshIndex {
+
+    private final Parameters parameters;
+    private final int userCount;
+    private final int[] bucketKeys;
+    private final int[][] sortedRows;
+    private final int[][] sortedKeys;
+    private final int[] positions;
+
+    private MinHashLshIndex(Parameters parameters, int userCount, int[] bucketKeys) {
+        this.parameters = parameters;
+        this.userCount = userCount;
+        this.bucketKeys = bucketKeys;
+        this.sortedRows = new int[parameters.bands()][];
+        this.sortedKeys = new int[parameters.bands()][];
+        this.positions = new int[bucketKeys.length];
+    }
+
+    /**
+     * 행렬의 모든 사용자에 대해 서명을 계산하고 밴드별 버킷을 구성합니다.
+     *
+     * @param matrix     사용자×검색어 행렬
+     * @param parameters LSH 파라미터
+     * @param pool       서명 계산에 사용할 풀
+     * @return LSH 색인
+     */
+    public static MinHashLshIndex build(UserTermMatrix matrix, Parameters parameters, ForkJoinPool pool) {
+        int bands = parameters.bands();
+        int rows = parameters.rows();
+        int signatureLength = bands * rows;
+
+        SplittableRandom random = new SplittableRandom(parameters.seed());
+        long[] multipliers = new long[signatureLength];
+        long[] offsets = new long[signatureLength];
+        for (int i = 0; i < signatureLength; i++) {
+            multipliers[i] = random.nextLong() | 1L;
+            offsets[i] = random.nextLong();
+        }
+
+        int userCount = matrix.userCount();
+        int[] bucketKeys = new int[userCount * bands];
+        pool.submit(() -> IntStream.range(0, userCount).parallel().forEach(row -> {
+            int[] signature = new int[signatureLength];
+            Arrays.fill(signature, Integer.MAX_VALUE);
+            for (int i = matrix.rowStart(row); i < matrix.rowEnd(row); i++) {
+                // 검색어마다 한 번만 섞고, 해시 함수별로는 곱셈-덧셈 한 번으로 값을 만듭니다.
+                long base = mix(matrix.termId(i));
+                for (int h = 0; h < signatureLength; h++) {
+                    int value = (int) ((base * multipliers[h] + offsets[h]) >>> 33);
+                    if (value < signature[h]) {
+                        signature[h] = value;
+                    }
+                }
+            }
+            for (int band = 0; band < bands; band++) {
+                long key = band;
+                for (int r = 0; r < rows; r++) {
+                    key = key * 0x9E3779B97F4A7C15L + signature[band * rows + r];
+                }
+                bucketKeys[row * bands + band] = (int) mix(key);
+            }
+        })).join();
+
+        MinHashLshIndex index = new MinHashLshIndex(parameters, userCount, bucketKeys);
+        pool.submit(() -> IntStream.range(0, bands).parallel().forEach(index::sortBand)).join();
+        return index;
+    }
+
+    /**
+     * 주어진 사용자와 한 밴드 이상 버킷을 공유하는 후보 사용자를 모읍니다.
+     * 최대 버킷 크기를 넘는 버킷은 건너뜁니다.
+     *
+     * @param row        기준 행 번호
+     * @param marks      행 번호별 방문 표시 (호출자가 재사용)
+     * @param stamp      이번 호출의 방문 표시 값 (호출마다 달라야 함)
+     * @param candidates 후보를 채울 배열 (길이 ≥ 사용자 수)
+     * @return 후보 수
+     */
+    public int collectCandidates(int row, int[] marks, int stamp, int[] candidates) {
+        int count = 0;
+        marks[row] = stamp;
+        int bands = parameters.bands();
+        for (int band = 0; band < bands; band++) {
+            int key = bucketKeys[row * bands + band];
+            int[] keys = sortedKeys[band];
+            int[] rows = sortedRows[band];
+            // 정렬된 배열에서 자기 위치부터 양쪽으로 같은 키 구간을 찾습니다.
+            int position = positions[row * bands + band];
+            int from = position;
+            while (from > 0 && keys[from - 1] == key) {
+                from--;
+            }
+            int to = position + 1;
+            while (to < keys.length && keys[to] == key) {
+                to++;
+            }
+            if (to - from > parameters.maxBucketSize()) {
+                continue;
+            }
+            for (int i = from; i < to; i++) {
+                int other = rows[i];
+                if (marks[other] != stamp) {
+                    marks[other] = stamp;
+                    candidates[count++] = other;
+                }
+            }
+        }
+        return count;
+    }
+
+    public Parameters parameters() {
+        return parameters;
+    }
+
+    public int userCount() {
+        return userCount;
+    }
+
+    private void sortBand(int band) {
+        int bands = parameters.bands();
+        long[] packed = new long[userCount];
+        for (int row = 0; row < userCount; row++) {
+            // 상위 32비트에 버킷 키, 하위 32비트에 행 번호를 담아 한 번에 정렬
+            packed[row] = ((long) bucketKeys[row * bands + band] << 32) | row;
+        }
+        Arrays.sort(packed);
+        int[] keys = new int[userCount];
+        int[] rows = new int[userCount];
+        for (int i = 0; i < userCount; i++) {
+            keys[i] = (int) (packed[i] >> 32);
+            rows[i] = (int) packed[i];
+            positions[rows[i] * bands + band] = i;
+        }
+        sortedKeys[band] = keys;
+        sortedRows[band] = rows;
+    }
+
+    /** SplitMix64 최종 혼합 함수 */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * LSH 파라미터
+     *
+     * @param bands         밴드 수
+     * @param rows          밴드당 MinHash 개수
+     * @param maxBucketSize 후보 생성 시 사용할 최대 버킷 크기
+     * @param seed          해시 함수 시드
+     */
+    public record Parameters(int bands, int rows, int maxBucketSize, long seed) {
+
+        public Parameters {
+            if (bands <= 0 || rows <= 0) {
+                throw new IllegalArgumentException("LSH 밴드 수와 밴드당 행 수는 1 이상이어야 합니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.j30n.stoblyx.application.service.recommendation;
+
+import com.j30n.stoblyx.adapter.in.web.dto.book.BookResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.content.ContentResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.quote.QuoteResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.recommendation.RecommendationFeedResponse;
+import com.j30n.stoblyx.application.port.in.recommendation.UserRecommendationFeedUseCase;
+import com.j30n.stoblyx.application.port.out.book.BookPort;
+import com.j30n.stoblyx.application.port.out.content.ContentPort;
+import com.j30n.stoblyx.application.port.out.quote.QuotePort;
+import com.j30n.stoblyx.application.port.out.recommendation.UserRecommendationStorePort;
+import com.j30n.stoblyx.application.service.membership.ViewerMembershipService;
+import com.j30n.stoblyx.domain.enums.MembershipType;
+import com.j30n.stoblyx.domain.enums.RecommendationItemType;
+import com.j30n.stoblyx.domain.model.Book;
+import com.j30n.stoblyx.domain.model.Quote;
+import com.j30n.stoblyx.domain.model.ShortFormContent;
+import com.j30n.stoblyx.domain.model.UserRecommendationList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 사전 계산 추천 목록 서비스
+ * <p>
+ * 백그라운드 작업이 활동 사용자별 상위 N개 도서/인용구/콘텐츠 ID를 미리 계산해 저장하고,
+ * 조회 API는 (사용자, 유형) 키로 목록 한 행을 읽어 커서 구간만 일괄 조회합니다.
+ * 사전 계산은 만료된 목록을 조회한 사용자, 최근 검색한 사용자 순으로 처리하며,
+ * 목록이 없는 사용자는 조회 시 한 번 계산하고 개인화 신호가 없으면 인기 목록으로 채웁니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class UserRecommendationFeedService implements UserRecommendationFeedUseCase {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    // 최근 활동 사용자 중 이미 최신 목록을 가진 사용자를 건너뛰고도 배치를 채울 수 있도록 더 넓게 조회
+    private static final int ACTIVE_SCAN_FACTOR = 4;
+
+    private final UserRecommendationStorePort userRecommendationStorePort;
+    private final ContentBasedRecommendationService contentBasedRecommendationService;
+    private final BookPort bookPort;
+    private final QuotePort quotePort;
+    private final ContentPort contentPort;
+    private final ViewerMembershipService viewerMembershipService;
+    private final int listSize;
+    private final int seedBookCount;
+    private final long ttlMinutes;
+    private final long activeWindowHours;
+    private final int batchSize;
+
+    private final Set<Long> staleReaders = ConcurrentHashMap.newKeySet();
+    private volatile PopularLists popularLists;
+
+    public UserRecommendationFeedService(UserRecommendationStorePort userRecommendationStorePort,
+                                         ContentBasedRecommendationService contentBasedRecommendationService,
+                                         BookPort bookPort,
+                                         QuotePort quotePort,
+                                         ContentPort contentPort,
+                                         ViewerMembershipService viewerMembershipService,
+                                         @Value("${recommendation.feed.list-size:100}") int listSize,
+                                         @Value("${recommendation.feed.seed-book-count:20}") int seedBookCount,
+                                         @Value("${recommendation.feed.ttl-minutes:360}") long ttlMinutes,
+                                         @Value("${recommendation.feed.active-window-hours:72}") long activeWindowHours,
+                                         @Value("${recommendation.feed.batch-size:500}") int batchSize) {
+        this.userRecommendationStorePort = userRecommendationStorePort;
+        this.contentBasedRecommendationService = contentBasedRecommendationService;
+        this.bookPort = bookPort;
+        this.quotePort = quotePort;
+        this.contentPort = contentPort;
+        this.viewerMembershipService = viewerMembershipService;
+        this.listSize = listSize;
+        this.seedBookCount = seedBookCount;
+        this.ttlMinutes = ttlMinutes;
+        this.activeWindowHours = activeWindowHours;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RecommendationFeedResponse<BookResponse> getBookFeed(Long userId, String cursor, int size) {
+        return feed(userId, RecommendationItemType.BOOK, cursor, size,
+            ids -> bookPort.findAllByIds(ids).stream().map(BookResponse::from).collect(Collectors.toList()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RecommendationFeedResponse<QuoteResponse> getQuoteFeed(Long userId, String cursor, int size) {
+        return feed(userId, RecommendationItemType.QUOTE, cursor, size, ids -> {
+            Map<MembershipType, Set<Long>> members = viewerMembershipService.findMembers(userId, ids,
+                MembershipType.LIKED_QUOTE, MembershipType.SAVED_QUOTE);
+            Set<Long> liked = members.get(MembershipType.LIKED_QUOTE);
+            Set<Long> saved = members.get(MembershipType.SAVED_QUOTE);
+            return quotePort.findAllByIds(ids).stream()
+                .map(quote -> QuoteResponse.from(quote, liked.contains(quote.getId()), saved.contains(quote.getId())))
+                .collect(Collectors.toList());
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RecommendationFeedResponse<ContentResponse> getContentFeed(Long userId, String cursor, int size) {
+        return feed(userId, RecommendationItemType.CONTENT, cursor, size, ids -> {
+            Map<MembershipType, Set<Long>> members = viewerMembershipService.findMembers(userId, ids,
+                MembershipType.LIKED_CONTENT, MembershipType.BOOKMARKED_CONTENT);
+            Set<Long> liked = members.get(MembershipType.LIKED_CONTENT);
+            Set<Long> bookmarked = members.get(MembershipType.BOOKMARKED_CONTENT);
+            return contentPort.findAllByIds(ids).stream()
+                .map(content -> ContentResponse.from(content,
+                    liked.contains(content.getId()), bookmarked.contains(content.getId())))
+                .collect(Collectors.toList());
+        });
+    }
+
+    @Override
+    public void refreshUserRecommendations(Long userId) {
+        staleReaders.remove(userId);
+        precompute(userId);
+    }
+
+    /**
+     * 활동 사용자 추천 목록 사전 계산 (기본 5분마다 실행)
+     */
+    @Scheduled(fixedDelayString = "${recommendation.feed.precompute-interval-ms:300000}",
+        initialDelayString = "${recommendation.feed.initial-delay-ms:120000}")
+    public void scheduledPrecompute() {
+        try {
+            precomputeActiveUsers();
+        } catch (Exception e) {
+            log.error("추천 목록 사전 계산 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 만료된 목록을 조회한 사용자, 최근 검색한 사용자 순으로 최대 배치 크기만큼 목록을 다시 계산합니다.
+     *
+     * @return 계산된 사용자 수
+     */
+    public int precomputeActiveUsers() {
+        LocalDateTime now = LocalDateTime.now();
+        popularLists = loadPopularLists(now);
+
+        Set<Long> queue = new LinkedHashSet<>();
+        for (Iterator<Long> it = staleReaders.iterator(); it.hasNext() && queue.size() < batchSize; ) {
+            queue.add(it.next());
+            it.remove();
+        }
+        if (queue.size() < batchSize) {
+            List<Long> active = userRecommendationStorePort.findRecentlyActiveUserIds(
+                now.minusHours(activeWindowHours), batchSize * ACTIVE_SCAN_FACTOR);
+            Set<Long> fresh = userRecommendationStorePort.findUserIdsGeneratedSince(active, now.minusMinutes(ttlMinutes));
+            for (Long userId : active) {
+                if (queue.size() >= batchSize) {
+                    break;
+                }
+                if (!fresh.contains(userId)) {
+                    queue.add(userId);
+                }
+            }
+        }
+
+        int processed = 0;
+        for (Long userId : queue) {
+            try {
+                precompute(userId);
+                processed++;
+            } catch (Exception e) {
+                log.warn("사용자 추천 목록 계산 실패: userId={}, {}", userId, e.getMessage());
+            }
+        }
+        if (processed > 0) {
+            log.info("추천 목록 사전 계산 완료: 사용자 {}명, 대기 {}명", processed, staleReaders.size());
+        }
+        return processed;
+    }
+
+    /**
+     * 저장된 목록의 커서 구간을 읽어 응답으로 변환합니다. 목록이 없으면 한 번 계산합니다.
+     */
+    private <T> RecommendationFeedResponse<T> feed(Long userId, RecommendationItemType itemType, String cursor,
+                                                   int size, Function<List<Long>, List<T>> loader) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int offset = decodeCursor(cursor);
+
+        List<Long> itemIds;
+        boolean fallback;
+        LocalDateTime generatedAt;
+        Optional<UserRecommendationList> stored = userRecommendationStorePort.findList(userId, itemType);
+        if (stored.isPresent()) {
+            UserRecommendationList list = stored.get();
+            itemIds = list.getItemIdList();
+            fallback = Boolean.TRUE.equals(list.getIsFallback());
+            generatedAt = list.getGeneratedAt();
+            if (generatedAt.isBefore(LocalDateTime.now().minusMinutes(ttlMinutes))) {
+                // 만료된 목록은 그대로 제공하고 다음 사전 계산 주기에 우선 처리
+                staleReaders.add(userId);
+            }
+        } else {
+            GeneratedLists generated = precompute(userId);
+            itemIds = generated.itemIds().get(itemType);
+            fallback = generated.fallbacks().contains(itemType);
+            generatedAt = generated.generatedAt();
+        }
+
+        if (offset >= itemIds.size()) {
+            return new RecommendationFeedResponse<>(Collections.emptyList(), null, false, fallback, generatedAt);
+        }
+        int end = Math.min(offset + pageSize, itemIds.size());
+        boolean hasNext = end < itemIds.size();
+        return new RecommendationFeedResponse<>(loader.apply(itemIds.subList(offset, end)),
+            hasNext ? encodeCursor(end) : null, hasNext, fallback, generatedAt);
+    }
+
+    /**
+     * 한 사용자의 유형별 추천 목록을 계산하여 저장합니다.
+     * 인용구와 콘텐츠는 상위 추천 도서에서 좋아요 순으로 고르며, 비어 있는 유형은 인기 목록으로 채웁니다.
+     */
+    private GeneratedLists precompute(Long userId) {
+        LocalDateTime generatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Map<RecommendationItemType, List<Long>> itemIds = new EnumMap<>(RecommendationItemType.class);
+        Set<RecommendationItemType> fallbacks = EnumSet.noneOf(RecommendationItemType.class);
+
+        List<Long> bookIds = contentBasedRecommendationService.recommendBookIds(userId, listSize);
+        itemIds.put(RecommendationItemType.BOOK, bookIds);
+        if (!bookIds.isEmpty()) {
+            List<Long> seeds = bookIds.subList(0, Math.min(seedBookCount, bookIds.size()));
+            Pageable byLikes = PageRequest.of(0, listSize, Sort.by(Sort.Direction.DESC, "likeCount"));
+            itemIds.put(RecommendationItemType.QUOTE,
+                quotePort.findByBookIds(seeds, byLikes).map(Quote::getId).getContent());
+            itemIds.put(RecommendationItemType.CONTENT,
+                contentPort.findByBookIds(seeds, byLikes).map(ShortFormContent::getId).getContent());
+        }
+
+        PopularLists popular = null;
+        for (RecommendationItemType itemType : RecommendationItemType.values()) {
+            if (itemIds.getOrDefault(itemType, Collections.emptyList()).isEmpty()) {
+                if (popular == null) {
+                    popular = currentPopularLists();
+                }
+                itemIds.put(itemType, popular.itemIds().get(itemType));
+                fallbacks.add(itemType);
+            }
+        }
+
+        userRecommendationStorePort.saveLists(userId, itemIds, fallbacks, generatedAt);
+        return new GeneratedLists(itemIds, fallbacks, generatedAt);
+    }
+
+    private PopularLists currentPopularLists() {
+        PopularLists current = popularLists;
+        LocalDateTime now = LocalDateTime.now();
+        if (current == null || current.loadedAt().isBefore(now.minusMinutes(ttlMinutes))) {
+            current = loadPopularLists(now);
+            popularLists = current;
+        }
+        return current;
+    }
+
+    private PopularLists loadPopularLists(LocalDateTime now) {
+        Pageable top = PageRequest.of(0, listSize);
+        Map<RecommendationItemType, List<Long>> itemIds = new EnumMap<>(RecommendationItemType.class);
+        itemIds.put(RecommendationItemType.BOOK, bookPort.findPopularBooks(top).map(Book::getId).getContent());
+        itemIds.put(RecommendationItemType.QUOTE, quotePort.findPopularQuotes(top).map(Quote::getId).getContent());
+        itemIds.put(RecommendationItemType.CONTENT,
+            contentPort.findPopularContents(top).map(ShortFormContent::getId).getContent());
+        return new PopularLists(itemIds, now);
+    }
+
+    private static String encodeCursor(int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(Integer.toString(offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            if (offset < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return offset;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    private record GeneratedLists(Map<RecommendationItemType, List<Long>> itemIds,
+                                  Set<RecommendationItemType> fallbacks,
+                                  LocalDateTime generatedAt) {
+    }
+
+    private record PopularLists(Map<RecommendationItemType, List<Long>> itemIds, LocalDateTime loadedAt) {
+    }
+}
@@ -0,0 +1,386 @@
+package com.j30n.stoblyx.application.service.recommendation;
+
+import com.j30n.stoblyx.application.port.out.recommendation.UserSimilarityMatrixPort;
+import com.j30n.stoblyx.domain.model.UserSimilarityScore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 검색어 기반 사용자 유사도 일괄 계산 엔진
+ * <p>
+ * 사용자×검색어 희소 행렬을 한 번의 스트리밍 쿼리로 만든 뒤, 각 사용자에 대해 공유 검색어의 역색인만 따라가며
+ * 코사인 유사도를 누적하고 고정 크기 힙으로 상위 K명을 고릅니다. 사용자 구간은 fork-join 풀에서 병렬로 처리되며,
+ * 계산 비용은 사용자 수의 제곱이 아닌 공유 검색어를 통한 (사용자, 사용자) 접촉 수에 비례합니다.
+ * </p>
+ * <p>
+ * {@code recommendation.cf.mode=lsh} 이면 MinHash/LSH 버킷으로 후보를 먼저 좁힌 뒤 후보에 대해서만
+ * 정확한 코사인을 계산하는 근사 모드로 동작합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class UserSimilarityEngine {
+
+    private static final int FLUSH_SIZE = 10_000;
+    private static final long LSH_SEED = 0x5EEDL;
+
+    private final UserSimilarityMatrixPort userSimilarityMatrixPort;
+    private final int parallelism;
+    private final int maxTermsPerUser;
+    private final int maxTermPostings;
+    private final int leafSize;
+    private final MinHashLshIndex.Parameters lshParameters;
+
+    public UserSimilarityEngine(UserSimilarityMatrixPort userSimilarityMatrixPort,
+                                @Value("${recommendation.cf.parallelism:0}") int parallelism,
+                                @Value("${recommendation.cf.max-terms-per-user:10}") int maxTermsPerUser,
+                                @Value("${recommendation.cf.max-term-postings:10000}") int maxTermPostings,
+                                @Value("${recommendation.cf.leaf-size:256}") int leafSize,
+                                @Value("${recommendation.cf.mode:exact}") String mode,
+                                @Value("${recommendation.cf.lsh.bands:32}") int lshBands,
+                                @Value("${recommendation.cf.lsh.rows:2}") int lshRows,
+                                @Value("${recommendation.cf.lsh.max-bucket-size:2000}") int lshMaxBucketSize) {
+        this.userSimilarityMatrixPort = userSimilarityMatrixPort;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.maxTermsPerUser = maxTermsPerUser;
+        this.maxTermPostings = maxTermPostings;
+        this.leafSize = Math.max(1, leafSize);
+        this.lshParameters = "lsh".equalsIgnoreCase(mode)
+            ? new MinHashLshIndex.Parameters(lshBands, lshRows, lshMaxBucketSize, LSH_SEED)
+            : null;
+    }
+
+    /**
+     * 전체 사용자 유사도를 계산하여 저장하고, 이번 실행에서 갱신되지 않은 이전 결과는 비활성화합니다.
+     *
+     * @param threshold 저장할 최소 유사도
+     * @param topK      사용자당 최대 이웃 수
+     * @return 저장된 유사도 행 수
+     */
+    public int run(double threshold, int topK) {
+        long startNanos = System.nanoTime();
+        // DATETIME 컬럼의 초 단위 반올림과 비교가 어긋나지 않도록 초 단위로 맞춥니다.
+        LocalDateTime refreshedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        UserTermMatrix.Builder builder = UserTermMatrix.builder(maxTermsPerUser);
+        userSimilarityMatrixPort.streamUserTermWeights(builder);
+        UserTermMatrix matrix = builder.build();
+
+        Neighbors neighbors = computeNeighbors(matrix, threshold, topK);
+
+        int written = 0;
+        List<UserSimilarityScore> buffer = new ArrayList<>(FLUSH_SIZE);
+        for (int row = 0; row < matrix.userCount(); row++) {
+            int[] targets = neighbors.targets[row];
+            for (int i = 0; i < targets.length; i++) {
+                buffer.add(new UserSimilarityScore(matrix.userId(row), matrix.userId(targets[i]), neighbors.scores[row][i]));
+            }
+            if (buffer.size() >= FLUSH_SIZE) {
+                written += userSimilarityMatrixPort.upsertUserSimilarities(buffer, refreshedAt);
+                buffer.clear();
+            }
+        }
+        if (!buffer.isEmpty()) {
+            written += userSimilarityMatrixPort.upsertUserSimilarities(buffer, refreshedAt);
+        }
+        int deactivated = userSimilarityMatrixPort.deactivateSimilaritiesNotRefreshedSince(refreshedAt);
+
+        log.info("사용자 유사도 계산 완료: 사용자 {}명, 검색어 {}개, 비영 원소 {}개, 저장 {}건, 비활성화 {}건, {}ms",
+            matrix.userCount(), matrix.termCount(), matrix.nonZeroCount(), written, deactivated,
+            (System.nanoTime() - startNanos) / 1_000_000);
+        return written;
+    }
+
+    /**
+     * 설정된 모드(exact 또는 lsh)로 모든 사용자의 상위 K명 유사 사용자를 계산합니다.
+     *
+     * @param matrix    사용자×검색어 행렬
+     * @param threshold 최소 유사도
+     * @param topK      사용자당 최대 이웃 수
+     * @return 행 번호별 이웃 행 번호와 점수 (점수 내림차순)
+     */
+    public Neighbors computeNeighbors(UserTermMatrix matrix, double threshold, int topK) {
+        return computeNeighbors(matrix, threshold, topK, lshParameters);
+    }
+
+    /**
+     * 모든 사용자의 상위 K명 유사 사용자를 계산합니다.
+     * LSH 파라미터가 주어지면 MinHash 버킷을 공유하는 후보에 대해서만 정확한 코사인으로 재정렬합니다.
+     *
+     * @param matrix        사용자×검색어 행렬
+     * @param threshold     최소 유사도
+     * @param topK          사용자당 최대 이웃 수
+     * @param lshParameters LSH 파라미터 (null 이면 정확 계산)
+     * @return 행 번호별 이웃 행 번호와 점수 (점수 내림차순)
+     */
+    public Neighbors computeNeighbors(UserTermMatrix matrix, double threshold, int topK,
+                                      MinHashLshIndex.Parameters lshParameters) {
+        int userCount = matrix.userCount();
+        Neighbors neighbors = new Neighbors(new int[userCount][], new double[userCount][]);
+        if (userCount == 0) {
+            return neighbors;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            MinHashLshIndex index = lshParameters != null ? MinHashLshIndex.build(matrix, lshParameters, pool) : null;
+            ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(() -> new Scratch(matrix, topK, index != null));
+            pool.invoke(new NeighborTask(matrix, index, threshold, scratch, neighbors, 0, userCount));
+        } finally {
+            pool.shutdown();
+        }
+        return neighbors;
+    }
+
+    /**
+     * 행 번호별 이웃 계산 결과
+     *
+     * @param targets 이웃 행 번호
+     * @param scores  이웃 유사도
+     */
+    public record Neighbors(int[][] targets, double[][] scores) {
+    }
+
+    /**
+     * 사용자 구간을 반으로 나누어 병렬 처리하는 작업
+     */
+    private class NeighborTask extends RecursiveAction {
+
+        private final transient UserTermMatrix matrix;
+        private final transient MinHashLshIndex index;
+        private final double threshold;
+        private final transient ThreadLocal<Scratch> scratch;
+        private final transient Neighbors neighbors;
+        private final int from;
+        private final int to;
+
+        NeighborTask(UserTermMatrix matrix, MinHashLshIndex index, double threshold, ThreadLocal<Scratch> scratch,
+                     Neighbors neighbors, int from, int to) {
+            this.matrix = matrix;
+            this.index = index;
+            this.threshold = threshold;
+            this.scratch = scratch;
+            this.neighbors = neighbors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > leafSize) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new NeighborTask(matrix, index, threshold, scratch, neighbors, from, mid),
+                    new NeighborTask(matrix, index, threshold, scratch, neighbors, mid, to));
+                return;
+            }
+            Scratch local = scratch.get();
+            for (int row = from; row < to; row++) {
+                if (index != null) {
+                    computeRowFromCandidates(row, local);
+                } else {
+                    computeRow(row, local);
+                }
+            }
+        }
+
+        /**
+         * LSH 후보에 대해서만 정확한 코사인을 계산합니다.
+         */
+        private void computeRowFromCandidates(int row, Scratch local) {
+            int candidateCount = index.collectCandidates(row, local.marks, ++local.stamp, local.candidates);
+
+            // 기준 사용자의 벡터를 검색어 ID 위치에 펼쳐 두고 후보 행만 순회
+            double[] termWeights = local.termWeights;
+            for (int i = matrix.rowStart(row); i < matrix.rowEnd(row); i++) {
+                termWeights[matrix.termId(i)] = matrix.value(i);
+            }
+            TopK heap = local.heap;
+            heap.clear();
+            for (int c = 0; c < candidateCount; c++) {
+                int other = local.candidates[c];
+                double score = 0.0;
+                for (int i = matrix.rowStart(other); i < matrix.rowEnd(other); i++) {
+                    score += termWeights[matrix.termId(i)] * matrix.value(i);
+                }
+                if (score > 0.0 && score >= threshold) {
+                    heap.offer(other, score);
+                }
+            }
+            for (int i = matrix.rowStart(row); i < matrix.rowEnd(row); i++) {
+                termWeights[matrix.termId(i)] = 0.0;
+            }
+            heap.drainDescending(row, neighbors);
+        }
+
+        private void computeRow(int row, Scratch local) {
+            double[] accumulator = local.accumulator;
+            int[] touched = local.touched;
+            int touchedCount = 0;
+
+            // 공유 검색어의 역색인만 따라가며 내적 누적 (행이 정규화되어 있으므로 내적 = 코사인)
+            for (int i = matrix.rowStart(row); i < matrix.rowEnd(row); i++) {
+                int termId = matrix.termId(i);
+                int postingStart = matrix.postingStart(termId);
+                int postingEnd = matrix.postingEnd(termId);
+                if (maxTermPostings > 0 && postingEnd - postingStart > maxTermPostings) {
+                    continue;
+                }
+                double weight = matrix.value(i);
+                for (int p = postingStart; p < postingEnd; p++) {
+                    int other = matrix.postingRow(p);
+                    if (other == row) {
+                        continue;
+                    }
+                    if (accumulator[other] == 0.0) {
+                        touched[touchedCount++] = other;
+                    }
+                    accumulator[other] += weight * matrix.postingValue(p);
+                }
+            }
+
+            TopK heap = local.heap;
+            heap.clear();
+            for (int t = 0; t < touchedCount; t++) {
+                int other = touched[t];
+                double score = accumulator[other];
+                accumulator[other] = 0.0;
+                if (score >= threshold) {
+                    heap.offer(other, score);
+                }
+            }
+            heap.drainDescending(row, neighbors);
+        }
+    }
+
+    /**
+     * 작업자 스레드별 재사용 버퍼
+     */
+    private static final class Scratch {
+
+        private final TopK heap;
+        // 정확 계산용
+        private final double[] accumulator;
+        private final int[] touched;
+        // LSH 후보 계산용
+        private final int[] marks;
+        private final int[] candidates;
+        private final double[] termWeights;
+        private int stamp;
+
+        Scratch(UserTermMatrix matrix, int topK, boolean lsh) {
+            int userCount = matrix.userCount();
+            this.heap = new TopK(topK);
+            this.accumulator = lsh ? null : new double[userCount];
+            this.touched = lsh ? null : new int[userCount];
+            this.marks = lsh ? new int[userCount] : null;
+            this.candidates = lsh ? new int[userCount] : null;
+            this.termWeights = lsh ? new double[matrix.termCount()] : null;
+        }
+    }
+
+    /**
+     * 고정 크기 최소 힙 (점수가 같으면 행 번호가 작은 쪽을 우선)
+     */
+    static final class TopK {
+
+        private final int capacity;
+        private final int[] ids;
+        private final double[] scores;
+        private int size;
+
+        TopK(int capacity) {
+            this.capacity = Math.max(0, capacity);
+            this.ids = new int[this.capacity];
+            this.scores = new double[this.capacity];
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        void offer(int id, double score) {
+            if (capacity == 0) {
+                return;
+            }
+            if (size < capacity) {
+                ids[size] = id;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (worse(0, id, score)) {
+                ids[0] = id;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * 힙을 비우며 점수 내림차순으로 결과에 기록합니다.
+         */
+        void drainDescending(int row, Neighbors neighbors) {
+            int[] targets = new int[size];
+            double[] targetScores = new double[size];
+            for (int i = size - 1; i >= 0; i--) {
+                targets[i] = ids[0];
+                targetScores[i] = scores[0];
+                size--;
+                ids[0] = ids[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            neighbors.targets()[row] = targets;
+            neighbors.scores()[row] = targetScores;
+        }
+
+        /** 힙의 i번째 원소가 (id, score) 보다 순위가 낮은지 여부 */
+        private boolean worse(int i, int id, double score) {
+            return scores[i] < score || (scores[i] == score && ids[i] > id);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!worse(i, ids[parent], scores[parent])) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int smallest = left;
+                int right = left + 1;
+                if (right < size && worse(right, ids[left], scores[left])) {
+                    smallest = right;
+                }
+                if (!worse(smallest, ids[i], scores[i])) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
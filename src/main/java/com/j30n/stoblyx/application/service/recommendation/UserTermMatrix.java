@@ -0,0 +1,189 @@
+package com.j30n.stoblyx.application.service.recommendation;
+
+import com.j30n.stoblyx.domain.model.UserTermWeight;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 사용자×검색어 희소 행렬 (CSR)
+ * <p>
+ * 검색어는 정수 ID로 변환되고, 각 사용자 행은 L2 정규화되어 두 행의 내적이 곧 코사인 유사도가 됩니다.
+ * 유사도 계산 시 공유 검색어만 따라가도록 검색어→사용자 역색인(CSC)도 함께 보관합니다.
+ * </p>
+ */
+public final class UserTermMatrix {
+
+    private final long[] userIds;
+    private final int[] rowPointers;
+    private final int[] termIds;
+    private final double[] values;
+
+    private final int[] postingPointers;
+    private final int[] postingRows;
+    private final double[] postingValues;
+
+    private UserTermMatrix(long[] userIds, int[] rowPointers, int[] termIds, double[] values, int termCount) {
+        this.userIds = userIds;
+        this.rowPointers = rowPointers;
+        this.termIds = termIds;
+        this.values = values;
+
+        // 행 순서대로 채우는 counting sort 로 전치 행렬 구성 (각 역색인 목록은 행 번호 오름차순)
+        this.postingPointers = new int[termCount + 1];
+        for (int termId : termIds) {
+            postingPointers[termId + 1]++;
+        }
+        for (int t = 0; t < termCount; t++) {
+            postingPointers[t + 1] += postingPointers[t];
+        }
+        this.postingRows = new int[termIds.length];
+        this.postingValues = new double[termIds.length];
+        int[] next = Arrays.copyOf(postingPointers, termCount);
+        for (int row = 0; row < userIds.length; row++) {
+            for (int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                int slot = next[termIds[i]]++;
+                postingRows[slot] = row;
+                postingValues[slot] = values[i];
+            }
+        }
+    }
+
+    /**
+     * 사용자 ID 순으로 정렬된 원소 스트림으로부터 행렬을 만드는 빌더를 생성합니다.
+     *
+     * @param maxTermsPerUser 사용자당 최대 검색어 수 (먼저 들어온 원소 우선)
+     * @return 빌더
+     */
+    public static Builder builder(int maxTermsPerUser) {
+        return new Builder(maxTermsPerUser);
+    }
+
+    public int userCount() {
+        return userIds.length;
+    }
+
+    public int nonZeroCount() {
+        return termIds.length;
+    }
+
+    public int termCount() {
+        return postingPointers.length - 1;
+    }
+
+    public long userId(int row) {
+        return userIds[row];
+    }
+
+    int rowStart(int row) {
+        return rowPointers[row];
+    }
+
+    int rowEnd(int row) {
+        return rowPointers[row + 1];
+    }
+
+    int termId(int index) {
+        return termIds[index];
+    }
+
+    double value(int index) {
+        return values[index];
+    }
+
+    int postingStart(int termId) {
+        return postingPointers[termId];
+    }
+
+    int postingEnd(int termId) {
+        return postingPointers[termId + 1];
+    }
+
+    int postingRow(int index) {
+        return postingRows[index];
+    }
+
+    double postingValue(int index) {
+        return postingValues[index];
+    }
+
+    /**
+     * 스트리밍 입력을 CSR 배열로 누적하는 빌더
+     */
+    public static final class Builder implements Consumer<UserTermWeight> {
+
+        private final int maxTermsPerUser;
+        private final Map<String, Integer> termDictionary = new HashMap<>();
+
+        private long[] userIds = new long[256];
+        private int[] rowPointers = new int[257];
+        private int[] termIds = new int[1024];
+        private double[] values = new double[1024];
+        private int rows;
+        private int nonZeros;
+        private Long currentUserId;
+
+        private Builder(int maxTermsPerUser) {
+            this.maxTermsPerUser = maxTermsPerUser;
+        }
+
+        @Override
+        public void accept(UserTermWeight element) {
+            if (element.weight() <= 0 || element.term() == null) {
+                return;
+            }
+            if (!Objects.equals(currentUserId, element.userId())) {
+                startRow(element.userId());
+            }
+            if (nonZeros - rowPointers[rows - 1] >= maxTermsPerUser) {
+                return;
+            }
+            if (nonZeros == termIds.length) {
+                termIds = Arrays.copyOf(termIds, nonZeros * 2);
+                values = Arrays.copyOf(values, nonZeros * 2);
+            }
+            termIds[nonZeros] = termDictionary.computeIfAbsent(element.term(), term -> termDictionary.size());
+            values[nonZeros] = element.weight();
+            nonZeros++;
+            rowPointers[rows] = nonZeros;
+        }
+
+        private void startRow(Long userId) {
+            if (rows == userIds.length) {
+                userIds = Arrays.copyOf(userIds, rows * 2);
+                rowPointers = Arrays.copyOf(rowPointers, rows * 2 + 1);
+            }
+            currentUserId = userId;
+            userIds[rows] = userId;
+            rowPointers[rows + 1] = nonZeros;
+            rows++;
+        }
+
+        /**
+         * 누적된 원소로 행렬을 생성합니다. 각 행은 L2 정규화됩니다.
+         *
+         * @return 사용자×검색어 행렬
+         */
+        public UserTermMatrix build() {
+            for (int row = 0; row < rows; row++) {
+                double norm = 0.0;
+                for (int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                    norm += values[i] * values[i];
+                }
+                norm = Math.sqrt(norm);
+                for (int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                    values[i] /= norm;
+                }
+            }
+            return new UserTermMatrix(
+                Arrays.copyOf(userIds, rows),
+                Arrays.copyOf(rowPointers, rows + 1),
+                Arrays.copyOf(termIds, nonZeros),
+                Arrays.copyOf(values, nonZeros),
+                termDictionary.size());
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.common.util.text.HangulJamo;
+import com.j30n.stoblyx.domain.model.SuggestionEntry;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 불변 자동완성 사전
+ * <p>
+ * 추천어를 인기도 순위로 번호를 매긴 뒤, 자모 분해 키와 초성 키를 각각 정렬 배열(평탄화한 트라이)로 만듭니다.
+ * 접두사 조회는 이진 탐색으로 키 구간을 찾고, 구간이 크면 구축 시 미리 계산해 둔 상위 K개 목록을,
+ * 작으면 구간을 직접 훑어 상위 K개를 고릅니다. 같은 구간을 갖는 트라이 노드는 목록 하나를 공유합니다.
+ * </p>
+ * <p>
+ * 여러 단어로 된 추천어는 뒤쪽 단어의 시작 위치에서도 키를 만들어 "마법사"로 "해리 포터와 마법사의 돌"을 찾을 수 있습니다.
+ * </p>
+ */
+final class AutocompleteDictionary {
+
+    static final int DEFAULT_SCAN_THRESHOLD = 64;
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final int MAX_WORD_STARTS = 4;
+    private static final Comparator<SuggestionEntry> RANK = Comparator
+        .comparingDouble(SuggestionEntry::weight).reversed()
+        .thenComparingInt(entry -> entry.text().length())
+        .thenComparing(SuggestionEntry::text);
+
+    private final List<SuggestionEntry> entries;
+    private final PrefixIndex jamoIndex;
+    private final PrefixIndex choseongIndex;
+
+    private AutocompleteDictionary(List<SuggestionEntry> entries, PrefixIndex jamoIndex, PrefixIndex choseongIndex) {
+        this.entries = entries;
+        this.jamoIndex = jamoIndex;
+        this.choseongIndex = choseongIndex;
+    }
+
+    /**
+     * 빈 사전을 생성합니다.
+     */
+    static AutocompleteDictionary empty() {
+        return build(List.of(), 1);
+    }
+
+    /**
+     * 추천어 목록으로 사전을 구축합니다. 자모 분해 결과가 같은 추천어는 가중치가 높은 한 건만 남깁니다.
+     *
+     * @param candidates     추천어 목록 (가중치는 출처 간에 비교 가능하도록 정규화된 값)
+     * @param maxSuggestions 조회 한 번에 반환할 수 있는 최대 추천어 수
+     */
+    static AutocompleteDictionary build(Collection<SuggestionEntry> candidates, int maxSuggestions) {
+        return build(candidates, maxSuggestions, DEFAULT_SCAN_THRESHOLD);
+    }
+
+    static AutocompleteDictionary build(Collection<SuggestionEntry> candidates, int maxSuggestions, int scanThreshold) {
+        Map<String, SuggestionEntry> byKey = new HashMap<>();
+        for (SuggestionEntry candidate : candidates) {
+            if (candidate.text() == null || candidate.text().isBlank()) {
+                continue;
+            }
+            String key = HangulJamo.decompose(candidate.text());
+            if (!key.isEmpty()) {
+                byKey.merge(key, candidate, (current, other) -> RANK.compare(current, other) <= 0 ? current : other);
+            }
+        }
+        List<SuggestionEntry> ranked = new ArrayList<>(byKey.values());
+        ranked.sort(RANK);
+
+        return new AutocompleteDictionary(List.copyOf(ranked),
+            PrefixIndex.build(ranked, HangulJamo::decompose, maxSuggestions, scanThreshold),
+            PrefixIndex.build(ranked, HangulJamo::choseong, maxSuggestions, scanThreshold));
+    }
+
+    /**
+     * 입력 접두사로 시작하는 추천어를 인기도 순으로 조회합니다.
+     * 입력이 자음으로만 이루어졌으면 초성 키로, 아니면 자모 분해 키로 찾습니다.
+     *
+     * @param query 사용자 입력 (입력 중인 음절이나 초성 포함)
+     * @param limit 최대 반환 수
+     * @return 추천어 목록
+     */
+    List<SuggestionEntry> suggest(String query, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        boolean choseong = HangulJamo.isChoseongOnly(query);
+        String prefix = choseong ? HangulJamo.choseong(query) : HangulJamo.decompose(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        int[] ids = (choseong ? choseongIndex : jamoIndex).lookup(prefix);
+        int count = Math.min(limit, ids.length);
+        List<SuggestionEntry> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(entries.get(ids[i]));
+        }
+        return result;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * 정렬된 키 배열 위의 접두사 색인
+     * 키 i 는 순위 번호 entryIds[i] 의 추천어를 가리키며, 순위 번호가 작을수록 인기 있는 추천어입니다.
+     */
+    private static final class PrefixIndex {
+
+        private static final int[] NO_MATCH = new int[0];
+
+        private final String[] keys;
+        private final int[] entryIds;
+        private final int maxSuggestions;
+        private final int scanThreshold;
+        private final Map<Long, int[]> topByRange = new HashMap<>();
+
+        private PrefixIndex(String[] keys, int[] entryIds, int maxSuggestions, int scanThreshold) {
+            this.keys = keys;
+            this.entryIds = entryIds;
+            this.maxSuggestions = maxSuggestions;
+            this.scanThreshold = scanThreshold;
+        }
+
+        static PrefixIndex build(List<SuggestionEntry> ranked, Function<String, String> keyFunction,
+                                 int maxSuggestions, int scanThreshold) {
+            List<KeyedEntry> keyed = new ArrayList<>();
+            Set<String> entryKeys = new HashSet<>();
+            for (int id = 0; id < ranked.size(); id++) {
+                entryKeys.clear();
+                for (int start : wordStarts(ranked.get(id).text())) {
+                    String key = keyFunction.apply(ranked.get(id).text().substring(start));
+                    if (key.length() > MAX_KEY_LENGTH) {
+                        key = key.substring(0, MAX_KEY_LENGTH);
+                    }
+                    if (!key.isEmpty() && entryKeys.add(key)) {
+                        keyed.add(new KeyedEntry(key, id));
+                    }
+                }
+            }
+            keyed.sort(Comparator.comparing(KeyedEntry::key).thenComparingInt(KeyedEntry::entryId));
+
+            String[] keys = new String[keyed.size()];
+            int[] entryIds = new int[keyed.size()];
+            for (int i = 0; i < keyed.size(); i++) {
+                keys[i] = keyed.get(i).key();
+                entryIds[i] = keyed.get(i).entryId();
+            }
+            PrefixIndex index = new PrefixIndex(keys, entryIds, maxSuggestions, scanThreshold);
+            if (keys.length > 0) {
+                index.collectTop(0, keys.length, 0);
+            }
+            return index;
+        }
+
+        /**
+         * 접두사로 시작하는 키들의 상위 추천어 순위 번호를 반환합니다.
+         */
+        int[] lookup(String prefix) {
+            int lo = lowerBound(prefix);
+            int hi = lowerBound(prefix + Character.MAX_VALUE);
+            if (lo >= hi) {
+                return NO_MATCH;
+            }
+            if (hi - lo <= scanThreshold) {
+                return scan(lo, hi);
+            }
+            int[] top = topByRange.get(rangeKey(lo, hi));
+            return top != null ? top : scan(lo, hi);
+        }
+
+        /**
+         * 깊이 depth 의 트라이 노드에 해당하는 [lo, hi) 구간의 상위 목록을 계산합니다.
+         * 구간이 임계값보다 크면 자식 노드 목록을 병합해 저장하고, 작으면 저장하지 않고 훑어서 계산합니다.
+         */
+        private int[] collectTop(int lo, int hi, int depth) {
+            if (hi - lo <= scanThreshold) {
+                return scan(lo, hi);
+            }
+            long rangeKey = rangeKey(lo, hi);
+            int[] cached = topByRange.get(rangeKey);
+            if (cached != null) {
+                return cached;
+            }
+
+            TopRanks top = new TopRanks(maxSuggestions);
+            int i = lo;
+            // 접두사와 정확히 같은 키는 정렬상 구간 맨 앞에 옴
+            while (i < hi && keys[i].length() == depth) {
+                top.offer(entryIds[i++]);
+            }
+            while (i < hi) {
+                char c = keys[i].charAt(depth);
+                int j = i + 1;
+                while (j < hi && keys[j].charAt(depth) == c) {
+                    j++;
+                }
+                for (int entryId : collectTop(i, j, depth + 1)) {
+                    top.offer(entryId);
+                }
+                i = j;
+            }
+            int[] result = top.toArray();
+            topByRange.put(rangeKey, result);
+            return result;
+        }
+
+        private int[] scan(int lo, int hi) {
+            TopRanks top = new TopRanks(maxSuggestions);
+            for (int i = lo; i < hi; i++) {
+                top.offer(entryIds[i]);
+            }
+            return top.toArray();
+        }
+
+        private int lowerBound(String key) {
+            int lo = 0;
+            int hi = keys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        private static long rangeKey(int lo, int hi) {
+            return ((long) lo << 32) | hi;
+        }
+
+        private static List<Integer> wordStarts(String text) {
+            List<Integer> starts = new ArrayList<>(MAX_WORD_STARTS);
+            boolean inWord = false;
+            for (int i = 0; i < text.length() && starts.size() < MAX_WORD_STARTS; i++) {
+                boolean whitespace = Character.isWhitespace(text.charAt(i));
+                if (!whitespace && !inWord) {
+                    starts.add(i);
+                }
+                inWord = !whitespace;
+            }
+            return starts;
+        }
+    }
+
+    /**
+     * 중복 없이 가장 작은 순위 번호 K개를 오름차순으로 유지합니다.
+     */
+    private static final class TopRanks {
+
+        private final int[] ranks;
+        private int size;
+
+        TopRanks(int capacity) {
+            this.ranks = new int[capacity];
+        }
+
+        void offer(int rank) {
+            if (size == ranks.length && rank >= ranks[size - 1]) {
+                return;
+            }
+            int position = Arrays.binarySearch(ranks, 0, size, rank);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            int moved = Math.min(size, ranks.length - 1) - position;
+            if (moved > 0) {
+                System.arraycopy(ranks, position, ranks, position + 1, moved);
+            }
+            ranks[position] = rank;
+            size = Math.min(size + 1, ranks.length);
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ranks, size);
+        }
+    }
+
+    private record KeyedEntry(String key, int entryId) {
+    }
+}
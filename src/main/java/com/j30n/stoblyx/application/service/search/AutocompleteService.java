@@ -0,0 +1,115 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.adapter.in.web.dto.search.SuggestionResponse;
+import com.j30n.stoblyx.application.port.in.search.AutocompleteUseCase;
+import com.j30n.stoblyx.application.port.out.search.SuggestionSourcePort;
+import com.j30n.stoblyx.domain.enums.SuggestionType;
+import com.j30n.stoblyx.domain.model.SuggestionEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 도서 제목, 저자, 인기 검색어로 만든 자동완성 사전을 제공하는 서비스
+ * <p>
+ * 사전은 주기적으로 DB에서 다시 구축한 뒤 참조 하나를 바꿔 끼우므로,
+ * 조회 요청은 잠금 없이 항상 완성된 사전 하나만 보고 DB에는 접근하지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class AutocompleteService implements AutocompleteUseCase {
+
+    /**
+     * 출처별 가중치. 같은 인기도라면 실제 검색어를 도서 제목이나 저자보다 앞에 둡니다.
+     */
+    static final Map<SuggestionType, Double> TYPE_BOOSTS = Map.of(
+        SuggestionType.SEARCH_TERM, 1.0,
+        SuggestionType.BOOK_TITLE, 0.9,
+        SuggestionType.AUTHOR, 0.8
+    );
+    private static final Pattern AUTHOR_ROLE = Pattern.compile("\\([^)]*\\)");
+
+    private final SuggestionSourcePort suggestionSourcePort;
+    private final int maxEntriesPerType;
+    private final int maxSuggestions;
+
+    private volatile AutocompleteDictionary dictionary = AutocompleteDictionary.empty();
+
+    public AutocompleteService(SuggestionSourcePort suggestionSourcePort,
+                               @Value("${search.autocomplete.max-entries-per-type:100000}") int maxEntriesPerType,
+                               @Value("${search.autocomplete.max-suggestions:10}") int maxSuggestions) {
+        this.suggestionSourcePort = suggestionSourcePort;
+        this.maxEntriesPerType = maxEntriesPerType;
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    @Override
+    public List<SuggestionResponse> suggest(String query, int limit) {
+        return dictionary.suggest(query, Math.min(limit, maxSuggestions)).stream()
+            .map(SuggestionResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 애플리케이션 시작 시 사전을 구축합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 사전을 새로 구축해 현재 사전과 교체합니다. 실패하면 기존 사전을 계속 사용합니다.
+     */
+    @Scheduled(fixedDelayString = "${search.autocomplete.rebuild-interval-ms:600000}",
+        initialDelayString = "${search.autocomplete.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            List<SuggestionEntry> entries = new ArrayList<>();
+            for (SuggestionType type : SuggestionType.values()) {
+                entries.addAll(normalize(type, suggestionSourcePort.findSuggestionEntries(type, maxEntriesPerType)));
+            }
+            AutocompleteDictionary rebuilt = AutocompleteDictionary.build(entries, maxSuggestions);
+            dictionary = rebuilt;
+            log.info("자동완성 사전 구축 완료: 추천어 {}개, {}ms", rebuilt.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("자동완성 사전 구축 중 오류 발생, 기존 사전 유지: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 출처마다 척도가 다른 인기도를 로그 스케일로 0~1 사이에 맞추고 출처 가중치를 곱합니다.
+     * 저자는 "홍길동 (지은이), 김철수 (옮긴이)" 형식을 사람별로 나눕니다.
+     */
+    static List<SuggestionEntry> normalize(SuggestionType type, List<SuggestionEntry> entries) {
+        double maxWeight = entries.stream().mapToDouble(SuggestionEntry::weight).max().orElse(0);
+        double scale = Math.log1p(Math.max(maxWeight, 0));
+        double boost = TYPE_BOOSTS.get(type);
+
+        List<SuggestionEntry> normalized = new ArrayList<>(entries.size());
+        for (SuggestionEntry entry : entries) {
+            double weight = boost * (scale > 0 ? Math.log1p(Math.max(entry.weight(), 0)) / scale : 0);
+            if (type == SuggestionType.AUTHOR) {
+                for (String author : AUTHOR_ROLE.matcher(entry.text()).replaceAll("").split(",")) {
+                    if (!author.isBlank()) {
+                        normalized.add(new SuggestionEntry(author.trim(), type, weight));
+                    }
+                }
+            } else {
+                normalized.add(new SuggestionEntry(entry.text().trim(), type, weight));
+            }
+        }
+        return normalized;
+    }
+}
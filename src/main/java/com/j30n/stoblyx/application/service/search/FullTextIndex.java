@@ -0,0 +1,416 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.common.util.text.TermDictionary;
+import com.j30n.stoblyx.common.util.text.TextTokenizer;
+import com.j30n.stoblyx.domain.model.SearchDocument;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 문서 유형에 대한 인메모리 역색인
+ * <p>
+ * 필드별 원문을 {@link TextTokenizer}로 토큰과 한글 음절 바이그램으로 분석하고,
+ * 용어별로 (문서, 필드 가중치가 반영된 빈도) 포스팅 목록을 유지합니다.
+ * 질의는 BM25 형태의 포화 함수와 IDF로 점수를 매기고, 일치한 질의 용어 비율을 곱해 관련도 순으로 정렬합니다.
+ * </p>
+ * <p>
+ * 문서 갱신과 삭제는 기존 내부 문서 ID를 무효화(tombstone)하고 새 ID를 부여하므로 포스팅 목록을 뒤지지 않습니다.
+ * 무효화된 항목이 많아지면 포스팅 목록을 압축합니다.
+ * </p>
+ */
+final class FullTextIndex {
+
+    static final double BIGRAM_WEIGHT = 0.5;
+    private static final double K1 = 1.2;
+    private static final double COMPACT_RATIO = 0.3;
+    private static final TextTokenizer TOKENIZER = TextTokenizer.builder()
+        .hangulBigrams(true)
+        .stopwords(TextTokenizer.DEFAULT_STOPWORDS)
+        .build();
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final Map<String, Double> fieldBoosts;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TermDictionary terms = new TermDictionary();
+    private final TermDictionary categories = new TermDictionary();
+    private final List<PostingList> postings = new ArrayList<>();
+    private final List<IndexedDocument> docs = new ArrayList<>();
+    private final Map<Long, Integer> docIdsById = new HashMap<>();
+    private int deadCount;
+
+    /**
+     * @param fieldBoosts 필드 이름별 가중치 (없는 필드는 색인하지 않음)
+     */
+    FullTextIndex(Map<String, Double> fieldBoosts) {
+        this.fieldBoosts = Map.copyOf(fieldBoosts);
+    }
+
+    /**
+     * 문서를 추가하거나 갱신합니다.
+     */
+    void upsert(SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(document.id());
+            Map<Integer, Double> weights = new HashMap<>();
+            document.fields().forEach((field, text) -> {
+                Double boost = fieldBoosts.get(field);
+                if (boost != null) {
+                    TOKENIZER.tokenize(text, terms, true, (termId, position, bigram) ->
+                        weights.merge(termId, bigram ? boost * BIGRAM_WEIGHT : boost, Double::sum));
+                }
+            });
+            int[] categoryIds = new int[document.categories().size()];
+            for (int i = 0; i < categoryIds.length; i++) {
+                categoryIds[i] = categories.intern(document.categories().get(i));
+            }
+            addDoc(document.id(), weights, categoryIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 색인에서 제거합니다.
+     */
+    void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docIdsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 문서 ID (복사본)
+     */
+    Set<Long> ids() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(docIdsById.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질의와 관련된 문서 ID를 관련도 순으로 검색합니다.
+     *
+     * @param query    검색어
+     * @param category 카테고리 필터 (null이면 필터 없음)
+     * @param offset   건너뛸 결과 수
+     * @param limit    반환할 최대 결과 수
+     * @return 관련도 내림차순 문서 ID 목록과 전체 일치 문서 수
+     */
+    Hits search(String query, String category, int offset, int limit) {
+        Map<Integer, Double> queryTerms = new HashMap<>();
+        double[] totalQueryWeight = {0};
+        lock.readLock().lock();
+        try {
+            // 사전에 없는 용어도 일치 비율 계산에는 포함해 일부만 일치한 문서의 점수를 낮춥니다.
+            TOKENIZER.tokenize(query, (buffer, start, length, position, bigram) -> {
+                double weight = bigram ? BIGRAM_WEIGHT : 1.0;
+                int termId = terms.find(buffer, start, length);
+                Double previous = termId >= 0 ? queryTerms.get(termId) : null;
+                if (previous == null || previous < weight) {
+                    totalQueryWeight[0] += weight - (previous != null ? previous : 0);
+                    if (termId >= 0) {
+                        queryTerms.put(termId, weight);
+                    }
+                }
+            });
+            int categoryId = category != null ? categories.find(category) : -1;
+            if (queryTerms.isEmpty() || category != null && categoryId < 0) {
+                return new Hits(Collections.emptyList(), 0);
+            }
+            return score(queryTerms, totalQueryWeight[0], categoryId, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 살아 있는 문서를 스냅숏으로 기록합니다. 용어는 문자열로 기록하므로 용어 ID 배정과 무관하게 다시 읽을 수 있습니다.
+     */
+    void writeTo(DataOutput out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(docIdsById.size());
+            for (IndexedDocument doc : docs) {
+                if (doc == null) {
+                    continue;
+                }
+                out.writeLong(doc.id());
+                out.writeShort(doc.categoryIds().length);
+                for (int categoryId : doc.categoryIds()) {
+                    out.writeUTF(categories.term(categoryId));
+                }
+                out.writeInt(doc.termIds().length);
+                for (int i = 0; i < doc.termIds().length; i++) {
+                    out.writeUTF(terms.term(doc.termIds()[i]));
+                    out.writeFloat(doc.weights()[i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@link #writeTo}로 기록한 스냅숏에서 색인을 복원합니다.
+     */
+    static FullTextIndex readFrom(DataInput in, Map<String, Double> fieldBoosts) throws IOException {
+        FullTextIndex index = new FullTextIndex(fieldBoosts);
+        int docCount = in.readInt();
+        for (int d = 0; d < docCount; d++) {
+            long id = in.readLong();
+            int[] categoryIds = new int[in.readShort()];
+            for (int i = 0; i < categoryIds.length; i++) {
+                categoryIds[i] = index.categories.intern(in.readUTF());
+            }
+            int termCount = in.readInt();
+            Map<Integer, Double> weights = new HashMap<>(termCount * 2);
+            for (int i = 0; i < termCount; i++) {
+                weights.put(index.terms.intern(in.readUTF()), (double) in.readFloat());
+            }
+            index.addDoc(id, weights, categoryIds);
+        }
+        return index;
+    }
+
+    /**
+     * 호출 전 읽기 잠금을 획득해야 합니다.
+     */
+    private Hits score(Map<Integer, Double> queryTerms, double totalQueryWeight, int categoryId, int offset, int limit) {
+        Scratch scratch = SCRATCH.get();
+        scratch.ensureCapacity(docs.size());
+        int liveCount = docIdsById.size();
+        int touchedCount = 0;
+        try {
+            for (Map.Entry<Integer, Double> entry : queryTerms.entrySet()) {
+                PostingList postingList = postings.get(entry.getKey());
+                int df = postingList.size;
+                double idf = Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+                double queryWeight = entry.getValue();
+                for (int i = 0; i < postingList.size; i++) {
+                    int docId = postingList.docIds[i];
+                    byte state = scratch.states[docId];
+                    if (state == Scratch.UNSEEN) {
+                        IndexedDocument doc = docs.get(docId);
+                        state = doc != null && (categoryId < 0 || doc.hasCategory(categoryId))
+                            ? Scratch.ACCEPTED : Scratch.REJECTED;
+                        scratch.states[docId] = state;
+                        scratch.touched[touchedCount++] = docId;
+                    }
+                    if (state == Scratch.ACCEPTED) {
+                        double tf = postingList.weights[i];
+                        scratch.scores[docId] += queryWeight * idf * tf * (K1 + 1) / (tf + K1);
+                        scratch.matched[docId] += queryWeight;
+                    }
+                }
+            }
+
+            int keep = offset + limit;
+            PriorityQueue<ScoredDoc> heap = new PriorityQueue<>(Math.max(1, Math.min(keep, touchedCount)) + 1,
+                ScoredDoc.ORDER.reversed());
+            int total = 0;
+            for (int t = 0; t < touchedCount; t++) {
+                int docId = scratch.touched[t];
+                if (scratch.states[docId] != Scratch.ACCEPTED) {
+                    continue;
+                }
+                total++;
+                if (keep <= 0) {
+                    continue;
+                }
+                ScoredDoc candidate = new ScoredDoc(docs.get(docId).id(),
+                    scratch.scores[docId] * scratch.matched[docId] / totalQueryWeight);
+                if (heap.size() < keep) {
+                    heap.offer(candidate);
+                } else if (ScoredDoc.ORDER.compare(candidate, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.offer(candidate);
+                }
+            }
+
+            List<ScoredDoc> top = new ArrayList<>(heap);
+            top.sort(ScoredDoc.ORDER);
+            List<Long> ids = new ArrayList<>(Math.max(0, top.size() - offset));
+            for (int i = offset; i < top.size(); i++) {
+                ids.add(top.get(i).id());
+            }
+            return new Hits(ids, total);
+        } finally {
+            scratch.reset(touchedCount);
+        }
+    }
+
+    /**
+     * 호출 전 쓰기 잠금을 획득해야 합니다.
+     */
+    private void addDoc(Long id, Map<Integer, Double> weights, int[] categoryIds) {
+        while (postings.size() < terms.size()) {
+            postings.add(new PostingList());
+        }
+        int[] termIds = new int[weights.size()];
+        float[] termWeights = new float[weights.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Double> entry : weights.entrySet()) {
+            termIds[i] = entry.getKey();
+            termWeights[i] = entry.getValue().floatValue();
+            i++;
+        }
+        int docId = docs.size();
+        docs.add(new IndexedDocument(id, termIds, termWeights, categoryIds));
+        docIdsById.put(id, docId);
+        for (int j = 0; j < termIds.length; j++) {
+            postings.get(termIds[j]).add(docId, termWeights[j]);
+        }
+    }
+
+    /**
+     * 호출 전 쓰기 잠금을 획득해야 합니다.
+     */
+    private void removeDoc(Long id) {
+        Integer docId = docIdsById.remove(id);
+        if (docId == null) {
+            return;
+        }
+        docs.set(docId, null);
+        deadCount++;
+        if (deadCount > docs.size() * COMPACT_RATIO) {
+            compact();
+        }
+    }
+
+    /**
+     * 무효화된 문서를 제거하고 내부 문서 ID를 다시 매깁니다. 호출 전 쓰기 잠금을 획득해야 합니다.
+     */
+    private void compact() {
+        int[] remap = new int[docs.size()];
+        List<IndexedDocument> live = new ArrayList<>(docIdsById.size());
+        for (int docId = 0; docId < docs.size(); docId++) {
+            IndexedDocument doc = docs.get(docId);
+            remap[docId] = doc != null ? live.size() : -1;
+            if (doc != null) {
+                docIdsById.put(doc.id(), live.size());
+                live.add(doc);
+            }
+        }
+        for (PostingList postingList : postings) {
+            postingList.remap(remap);
+        }
+        docs.clear();
+        docs.addAll(live);
+        deadCount = 0;
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param ids       관련도 내림차순 문서 ID 목록 (offset 이후 최대 limit개)
+     * @param totalHits 질의와 일치한 전체 문서 수
+     */
+    record Hits(List<Long> ids, int totalHits) {
+    }
+
+    private record ScoredDoc(Long id, double score) {
+        // 점수 내림차순, 동점이면 최신(ID 큰) 문서 우선
+        static final Comparator<ScoredDoc> ORDER = Comparator.comparingDouble(ScoredDoc::score).reversed()
+            .thenComparing(ScoredDoc::id, Comparator.reverseOrder());
+    }
+
+    private record IndexedDocument(Long id, int[] termIds, float[] weights, int[] categoryIds) {
+        boolean hasCategory(int categoryId) {
+            for (int id : categoryIds) {
+                if (id == categoryId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 질의마다 재사용하는 스레드별 점수 누적 버퍼
+     */
+    private static final class Scratch {
+        static final byte UNSEEN = 0;
+        static final byte ACCEPTED = 1;
+        static final byte REJECTED = 2;
+
+        double[] scores = new double[0];
+        double[] matched = new double[0];
+        byte[] states = new byte[0];
+        int[] touched = new int[0];
+
+        void ensureCapacity(int size) {
+            if (states.length < size) {
+                int capacity = Math.max(size, states.length * 2);
+                scores = new double[capacity];
+                matched = new double[capacity];
+                states = new byte[capacity];
+                touched = new int[capacity];
+            }
+        }
+
+        void reset(int touchedCount) {
+            for (int t = 0; t < touchedCount; t++) {
+                int docId = touched[t];
+                scores[docId] = 0;
+                matched[docId] = 0;
+                states[docId] = UNSEEN;
+            }
+        }
+    }
+
+    /**
+     * 용어별 포스팅 목록 (내부 문서 ID와 가중 빈도를 병렬 배열로 저장)
+     */
+    private static final class PostingList {
+        private int[] docIds = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        void add(int docId, float weight) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docIds[size] = docId;
+            weights[size] = weight;
+            size++;
+        }
+
+        void remap(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int docId = remap[docIds[i]];
+                if (docId >= 0) {
+                    docIds[kept] = docId;
+                    weights[kept] = weights[i];
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+    }
+}
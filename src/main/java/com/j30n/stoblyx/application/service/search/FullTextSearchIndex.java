@@ -0,0 +1,338 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.application.port.out.search.SearchDocumentPort;
+import com.j30n.stoblyx.domain.enums.SearchDocumentType;
+import com.j30n.stoblyx.domain.event.BookChangedEvent;
+import com.j30n.stoblyx.domain.event.SearchDocumentChangedEvent;
+import com.j30n.stoblyx.domain.model.SearchDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 도서, 인용구, 숏폼 콘텐츠의 내장 전문 검색 색인
+ * <p>
+ * 문서 유형별로 {@link FullTextIndex}를 유지하며, 검색은 관련도 순 ID만 반환하고 엔티티는 호출자가 한 번에 일괄 조회합니다.
+ * 애플리케이션 시작 시 파일 스냅숏을 읽고 그 이후 수정된 문서만 따라잡으며, 스냅숏이 없으면 DB에서 키셋 페이지로 구축합니다.
+ * 이후에는 엔티티 리스너가 발행한 변경 이벤트를 모아 주기적으로 증분 반영하고, 변경이 있을 때만 스냅숏을 다시 기록합니다.
+ * </p>
+ * <p>
+ * 색인이 준비되지 않았으면 {@link Optional#empty()}를 반환하므로 호출자는 기존 DB 검색으로 대체합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class FullTextSearchIndex {
+
+    /**
+     * 문서 유형별 필드 가중치
+     */
+    static final Map<SearchDocumentType, Map<String, Double>> FIELD_BOOSTS = Map.of(
+        SearchDocumentType.BOOK, Map.of(
+            SearchDocument.TITLE, 3.0,
+            SearchDocument.AUTHOR, 2.0,
+            SearchDocument.DESCRIPTION, 1.0),
+        SearchDocumentType.QUOTE, Map.of(
+            SearchDocument.CONTENT, 1.0),
+        SearchDocumentType.CONTENT, Map.of(
+            SearchDocument.TITLE, 2.0,
+            SearchDocument.BOOK_TITLE, 1.5,
+            SearchDocument.CONTENT, 1.0,
+            SearchDocument.SUBTITLES, 0.5)
+    );
+
+    private static final int SNAPSHOT_MAGIC = 0x53544654;
+    private static final int SNAPSHOT_VERSION = 1;
+    // 스냅숏 이후 따라잡기 구간을 넉넉히 잡아 커밋 지연이나 시계 오차로 빠지는 변경이 없도록 합니다.
+    private static final long CATCH_UP_MARGIN_MINUTES = 5;
+
+    private final SearchDocumentPort searchDocumentPort;
+    private final boolean enabled;
+    private final Path directory;
+    private final int batchSize;
+
+    private final Map<SearchDocumentType, FullTextIndex> indexes = new ConcurrentHashMap<>();
+    private final Map<SearchDocumentType, Set<Long>> dirtyIds = new EnumMap<>(SearchDocumentType.class);
+    private final Map<SearchDocumentType, LocalDateTime> syncedAt = new ConcurrentHashMap<>();
+    private final Set<SearchDocumentType> unsavedTypes = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Integer> bookFingerprints = new ConcurrentHashMap<>();
+
+    public FullTextSearchIndex(SearchDocumentPort searchDocumentPort,
+                               @Value("${search.index.enabled:true}") boolean enabled,
+                               @Value("${search.index.directory:${java.io.tmpdir}/stoblyx-search-index}") String directory,
+                               @Value("${search.index.batch-size:1000}") int batchSize) {
+        this.searchDocumentPort = searchDocumentPort;
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.batchSize = batchSize;
+        for (SearchDocumentType type : SearchDocumentType.values()) {
+            dirtyIds.put(type, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 스냅숏을 읽거나 DB에서 색인을 구축합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            log.info("전문 검색 색인이 비활성화되어 DB 검색을 사용합니다.");
+            return;
+        }
+        for (SearchDocumentType type : SearchDocumentType.values()) {
+            try {
+                if (!loadSnapshot(type)) {
+                    rebuild(type);
+                }
+                log.info("전문 검색 색인 준비 완료: type={}, 문서 {}개", type, indexes.get(type).size());
+            } catch (Exception e) {
+                log.error("전문 검색 색인 구축 중 오류 발생: type={}, {}", type, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 도서 변경 이벤트를 수신하여 재색인 대상으로 표시합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        dirtyIds.get(SearchDocumentType.BOOK).add(event.bookId());
+    }
+
+    /**
+     * 인용구, 콘텐츠 변경 이벤트를 수신하여 재색인 대상으로 표시합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChanged(SearchDocumentChangedEvent event) {
+        dirtyIds.get(event.type()).add(event.id());
+    }
+
+    /**
+     * 변경된 문서를 일괄 조회하여 색인에 반영합니다.
+     * 도서의 제목이나 장르가 바뀌면 그 도서의 인용구와 콘텐츠도 함께 재색인합니다.
+     */
+    @Scheduled(fixedDelayString = "${search.index.refresh-interval-ms:2000}")
+    public void refreshDirtyDocuments() {
+        for (SearchDocumentType type : SearchDocumentType.values()) {
+            FullTextIndex index = indexes.get(type);
+            Set<Long> dirty = dirtyIds.get(type);
+            if (index == null || dirty.isEmpty()) {
+                continue;
+            }
+
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<Long> ids = new ArrayList<>(dirty);
+            dirty.removeAll(ids);
+            try {
+                markChildrenDirty(apply(type, index, ids));
+                if (dirty.isEmpty()) {
+                    syncedAt.put(type, startedAt);
+                }
+                unsavedTypes.add(type);
+                log.debug("전문 검색 색인 증분 갱신: type={}, {}건", type, ids.size());
+            } catch (Exception e) {
+                dirty.addAll(ids);
+                log.warn("전문 검색 색인 증분 갱신 실패, 다음 주기에 재시도: type={}, {}", type, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 변경이 있었던 색인만 스냅숏 파일로 기록합니다.
+     */
+    @Scheduled(fixedDelayString = "${search.index.snapshot-interval-ms:60000}")
+    public void writeSnapshots() {
+        for (SearchDocumentType type : SearchDocumentType.values()) {
+            if (unsavedTypes.remove(type)) {
+                try {
+                    writeSnapshot(type);
+                } catch (IOException e) {
+                    unsavedTypes.add(type);
+                    log.warn("전문 검색 색인 스냅숏 기록 실패: type={}, {}", type, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 색인이 준비되어 질의 가능한지 여부
+     */
+    public boolean isReady(SearchDocumentType type) {
+        return indexes.containsKey(type);
+    }
+
+    /**
+     * 색인에서 관련도 순 ID 한 페이지를 찾고, 엔티티는 loader로 한 번에 조회합니다.
+     * 전체 건수는 색인이 계산하므로 COUNT 쿼리가 필요 없습니다.
+     *
+     * @param type     문서 유형
+     * @param keyword  검색어
+     * @param category 카테고리 필터 (null이면 필터 없음)
+     * @param pageable 페이지 정보 (정렬 조건은 무시하고 관련도 순)
+     * @param loader   ID 목록 순서대로 엔티티를 일괄 조회하는 함수
+     * @return 검색 결과 페이지, 색인이 준비되지 않았거나 검색어가 비어 있으면 empty
+     */
+    public <T> Optional<Page<T>> searchPage(SearchDocumentType type, String keyword, String category,
+                                            Pageable pageable, Function<List<Long>, List<T>> loader) {
+        FullTextIndex index = indexes.get(type);
+        if (index == null || keyword == null || keyword.isBlank()) {
+            return Optional.empty();
+        }
+        FullTextIndex.Hits hits = index.search(keyword, category == null || category.isBlank() ? null : category,
+            (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE), pageable.getPageSize());
+        List<T> content = hits.ids().isEmpty() ? Collections.emptyList() : loader.apply(hits.ids());
+        return Optional.of(new PageImpl<>(content, pageable, hits.totalHits()));
+    }
+
+    /**
+     * DB에서 키셋 페이지로 색인을 새로 구축한 뒤 교체합니다.
+     */
+    void rebuild(SearchDocumentType type) throws IOException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        FullTextIndex index = new FullTextIndex(FIELD_BOOSTS.get(type));
+        long lastId = 0;
+        List<SearchDocument> batch;
+        do {
+            batch = searchDocumentPort.findDocuments(type, lastId, batchSize);
+            for (SearchDocument document : batch) {
+                index.upsert(document);
+                rememberBook(type, document);
+                lastId = document.id();
+            }
+        } while (batch.size() == batchSize);
+        indexes.put(type, index);
+        syncedAt.put(type, startedAt);
+        writeSnapshot(type);
+    }
+
+    /**
+     * 문서 변경을 색인에 반영하고, 제목이나 장르가 바뀐 도서 ID를 반환합니다.
+     * 재시작 후 처음 바뀌는 도서는 이전 값을 알 수 없으므로 바뀐 것으로 간주합니다.
+     */
+    private Set<Long> apply(SearchDocumentType type, FullTextIndex index, List<Long> ids) {
+        Set<Long> removedIds = new HashSet<>(ids);
+        Set<Long> changedBookIds = new HashSet<>();
+        for (SearchDocument document : searchDocumentPort.findDocumentsByIds(type, ids)) {
+            removedIds.remove(document.id());
+            index.upsert(document);
+            if (type == SearchDocumentType.BOOK
+                && !Objects.equals(bookFingerprints.put(document.id(), fingerprint(document)), fingerprint(document))) {
+                changedBookIds.add(document.id());
+            }
+        }
+        for (Long id : removedIds) {
+            index.remove(id);
+            if (type == SearchDocumentType.BOOK && bookFingerprints.remove(id) != null) {
+                changedBookIds.add(id);
+            }
+        }
+        return changedBookIds;
+    }
+
+    private void markChildrenDirty(Set<Long> changedBookIds) {
+        if (changedBookIds.isEmpty()) {
+            return;
+        }
+        for (SearchDocumentType child : List.of(SearchDocumentType.QUOTE, SearchDocumentType.CONTENT)) {
+            dirtyIds.get(child).addAll(searchDocumentPort.findIdsByBookIds(child, changedBookIds));
+        }
+    }
+
+    private void rememberBook(SearchDocumentType type, SearchDocument document) {
+        if (type == SearchDocumentType.BOOK) {
+            bookFingerprints.put(document.id(), fingerprint(document));
+        }
+    }
+
+    /**
+     * 인용구와 콘텐츠 색인에 영향을 주는 도서 필드(제목, 장르)의 해시
+     */
+    private static int fingerprint(SearchDocument book) {
+        return Objects.hash(book.fields().get(SearchDocument.TITLE), book.categories());
+    }
+
+    private boolean loadSnapshot(SearchDocumentType type) {
+        Path file = snapshotFile(type);
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION || !type.name().equals(in.readUTF())) {
+                log.warn("전문 검색 색인 스냅숏 형식이 달라 다시 구축합니다: {}", file);
+                return false;
+            }
+            LocalDateTime snapshotSyncedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(in.readLong()), ZoneId.systemDefault());
+            FullTextIndex index = FullTextIndex.readFrom(in, FIELD_BOOSTS.get(type));
+
+            // 스냅숏 이후 변경된 문서만 다시 읽어 반영 (삭제된 문서는 조회되지 않으므로 제거됨)
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<Long> modifiedIds = searchDocumentPort.findIdsModifiedSince(type, snapshotSyncedAt);
+            // 영구 삭제된 행은 수정 시각으로 찾을 수 없으므로 색인에만 남은 ID 를 현재 ID 와 대조해 찾음
+            Set<Long> goneIds = index.ids();
+            goneIds.removeAll(new HashSet<>(searchDocumentPort.findLiveIds(type)));
+            goneIds.removeAll(new HashSet<>(modifiedIds));
+            List<Long> catchUpIds = new ArrayList<>(modifiedIds);
+            catchUpIds.addAll(goneIds);
+            Set<Long> changedBookIds = new HashSet<>();
+            for (int from = 0; from < catchUpIds.size(); from += batchSize) {
+                changedBookIds.addAll(apply(type, index, catchUpIds.subList(from, Math.min(from + batchSize, catchUpIds.size()))));
+            }
+            markChildrenDirty(changedBookIds);
+            indexes.put(type, index);
+            syncedAt.put(type, startedAt);
+            if (!catchUpIds.isEmpty()) {
+                unsavedTypes.add(type);
+            }
+            log.info("전문 검색 색인 스냅숏 로드: type={}, 스냅숏 이후 변경 {}건, 영구 삭제 {}건 반영",
+                type, modifiedIds.size(), goneIds.size());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("전문 검색 색인 스냅숏을 읽지 못해 다시 구축합니다: {}, {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    private void writeSnapshot(SearchDocumentType type) throws IOException {
+        FullTextIndex index = indexes.get(type);
+        if (index == null) {
+            return;
+        }
+        Files.createDirectories(directory);
+        Path file = snapshotFile(type);
+        Path temp = Files.createTempFile(directory, type.name().toLowerCase(), ".tmp");
+        LocalDateTime checkpoint = syncedAt.getOrDefault(type, LocalDateTime.now()).minusMinutes(CATCH_UP_MARGIN_MINUTES);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeUTF(type.name());
+            out.writeLong(checkpoint.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            index.writeTo(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path snapshotFile(SearchDocumentType type) {
+        return directory.resolve(type.name().toLowerCase() + ".idx");
+    }
+}
@@ -0,0 +1,190 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.adapter.in.web.dto.recommendation.PopularTermResponse;
+import com.j30n.stoblyx.application.port.in.search.PopularSearchTermUseCase;
+import com.j30n.stoblyx.application.port.out.recommendation.RecommendationPort;
+import com.j30n.stoblyx.domain.enums.PopularTermWindow;
+import com.j30n.stoblyx.domain.model.HourlyTermCount;
+import com.j30n.stoblyx.domain.model.PopularSearchTerm;
+import com.j30n.stoblyx.domain.model.TermCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 실시간 인기 검색어 서비스
+ * <p>
+ * 검색이 일어날 때마다 {@link SlidingWindowHeavyHitters}에 기록하고 인기 검색어 조회는 메모리에서 바로 응답합니다.
+ * 최근 24시간 상위 검색어는 주기적으로 {@link PopularSearchTerm}에 스냅샷으로 저장하고, 최근 24시간과 7일 상위
+ * 검색어의 7일치 시간 버킷별 검색 횟수도 함께 저장해 두었다가 재시작 시 원래 시간 버킷으로 복원합니다. 복원한 횟수는
+ * 재시작하지 않았을 때와 같은 시점에 집계 구간을 벗어납니다. 분 단위 버킷은 저장하지 않으므로 재시작 직후 최근 1시간
+ * 구간은 비어 있습니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class PopularSearchTermService implements PopularSearchTermUseCase {
+
+    private static final int MAX_TERM_LENGTH = 100;
+    private static final int SNAPSHOT_HOURS = SlidingWindowHeavyHitters.HOUR_BUCKETS;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private final RecommendationPort recommendationPort;
+    private final SlidingWindowHeavyHitters heavyHitters;
+    private final int maxTerms;
+    // 검색을 기록했거나 스냅샷을 복원했으면 true (heavyHitters 잠금 안에서만 읽고 씀)
+    private boolean populated;
+
+    public PopularSearchTermService(RecommendationPort recommendationPort,
+                                    @Value("${search.popular.sketch-depth:4}") int sketchDepth,
+                                    @Value("${search.popular.sketch-width:1024}") int sketchWidth,
+                                    @Value("${search.popular.max-terms:100}") int maxTerms) {
+        this.recommendationPort = recommendationPort;
+        this.maxTerms = maxTerms;
+        // 버킷마다 조회 상한의 두 배를 후보로 유지해 버킷 경계에서 순위가 흔들리는 것을 줄임
+        this.heavyHitters = new SlidingWindowHeavyHitters(sketchDepth, sketchWidth, maxTerms * 2);
+    }
+
+    /**
+     * 검색어 한 건을 집계에 반영합니다.
+     *
+     * @param keyword 검색어
+     */
+    public void record(String keyword) {
+        String term = normalize(keyword);
+        if (term == null) {
+            return;
+        }
+        long nowMinute = currentMinute();
+        synchronized (heavyHitters) {
+            heavyHitters.add(term, nowMinute);
+            populated = true;
+        }
+    }
+
+    @Override
+    public List<PopularTermResponse> getPopularTerms(PopularTermWindow window, int limit) {
+        int size = Math.max(0, Math.min(limit, maxTerms));
+        List<TermCount> top;
+        boolean fallback;
+        synchronized (heavyHitters) {
+            top = heavyHitters.top(window, size, currentMinute());
+            fallback = !populated;
+        }
+        // 집계기가 비어 있는 첫 기동에만 DB 값을 사용하고, 구간 안에 검색이 없을 뿐이면 빈 목록을 그대로 반환
+        if (fallback) {
+            return recommendationPort.getPopularTerms(PageRequest.of(0, Math.max(1, size))).stream()
+                .limit(size)
+                .map(PopularTermResponse::fromEntity)
+                .collect(Collectors.toList());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return top.stream()
+            .map(termCount -> PopularTermResponse.of(termCount, now))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 최근 24시간 상위 검색어와 시간 버킷별 검색 횟수를 스냅샷으로 저장합니다 (기본 5분마다 실행).
+     *
+     * @return 저장된 인기 검색어 수
+     */
+    @Scheduled(fixedDelayString = "${search.popular.snapshot-interval-ms:300000}",
+        initialDelayString = "${search.popular.snapshot-interval-ms:300000}")
+    public int persistSnapshot() {
+        long nowMinute = currentMinute();
+        List<TermCount> snapshot;
+        List<HourlyTermCount> hourly = new ArrayList<>();
+        synchronized (heavyHitters) {
+            snapshot = heavyHitters.top(PopularTermWindow.DAY, maxTerms, nowMinute);
+            Set<String> terms = new LinkedHashSet<>();
+            snapshot.forEach(termCount -> terms.add(termCount.term()));
+            heavyHitters.top(PopularTermWindow.WEEK, maxTerms, nowMinute).forEach(termCount -> terms.add(termCount.term()));
+            long firstHourMinute = (nowMinute / MINUTES_PER_HOUR - SNAPSHOT_HOURS + 1) * MINUTES_PER_HOUR;
+            for (String term : terms) {
+                long[] counts = heavyHitters.hourlyCounts(term, SNAPSHOT_HOURS, nowMinute);
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] > 0) {
+                        LocalDateTime hourStart = toDateTime(firstHourMinute + (long) i * MINUTES_PER_HOUR);
+                        hourly.add(new HourlyTermCount(term, hourStart, counts[i]));
+                    }
+                }
+            }
+        }
+        // 집계가 비어 있으면 직전 스냅샷을 지우지 않음
+        if (snapshot.isEmpty()) {
+            return 0;
+        }
+        try {
+            // DB 타임스탬프 정밀도와 맞춰야 방금 저장한 행이 정리 대상에서 빠짐
+            LocalDateTime snapshotAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+            return recommendationPort.savePopularTermSnapshot(snapshot, hourly, snapshotAt);
+        } catch (Exception e) {
+            log.error("인기 검색어 스냅샷 저장 중 오류 발생: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 최근 7일 안의 시간 버킷에 저장된 검색 횟수를 원래 버킷으로 복원합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreSnapshot() {
+        try {
+            long nowMinute = currentMinute();
+            LocalDateTime since = toDateTime((nowMinute / MINUTES_PER_HOUR - SNAPSHOT_HOURS + 1) * MINUTES_PER_HOUR);
+            List<HourlyTermCount> saved = recommendationPort.getPopularTermBucketsSince(since);
+            int restored = 0;
+            synchronized (heavyHitters) {
+                for (HourlyTermCount count : saved) {
+                    String normalized = normalize(count.term());
+                    if (normalized == null || count.count() <= 0) {
+                        continue;
+                    }
+                    heavyHitters.restore(normalized, (int) Math.min(Integer.MAX_VALUE, count.count()),
+                        toMinute(count.hourStart()), nowMinute);
+                    restored++;
+                }
+                populated |= restored > 0;
+            }
+            log.info("인기 검색어 스냅샷 복원 완료: {}건", restored);
+        } catch (Exception e) {
+            log.error("인기 검색어 스냅샷 복원 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    private static String normalize(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        String term = keyword.trim().replaceAll("\\s+", " ");
+        return term.isEmpty() || term.length() > MAX_TERM_LENGTH ? null : term;
+    }
+
+    private static long currentMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+    }
+
+    private static long toMinute(LocalDateTime dateTime) {
+        return TimeUnit.MILLISECONDS.toMinutes(dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    private static LocalDateTime toDateTime(long epochMinute) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(TimeUnit.MINUTES.toSeconds(epochMinute)), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,196 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.application.port.out.search.SearchLogPort;
+import com.j30n.stoblyx.application.service.recommendation.IncrementalUserSimilarityService;
+import com.j30n.stoblyx.domain.enums.QueueOverflowPolicy;
+import com.j30n.stoblyx.domain.model.SearchLogEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 검색 기록 비동기 저장 서비스
+ * <p>
+ * 검색 요청 스레드는 이벤트를 고정 크기 큐에 넣기만 하고, 주기적인 플러시가 큐를 비우면서 기록을 일괄 저장합니다.
+ * 플러시 한 번 안에서 같은 사용자의 같은 검색어는 마지막 검색 한 건으로 합치고, 검색어 프로필 횟수는
+ * 검색어별로 합산해 검색어당 UPDATE 한 번으로 반영합니다. 큐가 가득 차면 설정한 {@link QueueOverflowPolicy}를 따릅니다.
+ * </p>
+ * <p>
+ * 배치는 항상 새 트랜잭션에서 저장하므로 CALLER_RUNS 로 요청 스레드에서 저장할 때도 검색 요청의 읽기 전용 트랜잭션에
+ * 참여하지 않습니다. 저장에 실패한 배치는 한 번 다시 시도하고, 그래도 실패하면 버립니다 ({@code search.log.failed}).
+ * 큐는 메모리에만 있으므로 비정상 종료 시 대기 중인 기록도 유실됩니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class SearchLogWriter {
+
+    private static final int MAX_WRITE_ATTEMPTS = 2;
+    /**
+     * 검색 유형이 빠진 기록에 채울 값. search_type 이 NOT NULL 이라 한 건만 비어 있어도 배치 전체가 실패함
+     */
+    private static final String DEFAULT_SEARCH_TYPE = "ALL";
+
+    private final SearchLogPort searchLogPort;
+    private final IncrementalUserSimilarityService incrementalUserSimilarityService;
+    private final TransactionTemplate transactionTemplate;
+    private final QueueOverflowPolicy overflowPolicy;
+    private final int batchSize;
+
+    private final BlockingQueue<SearchLogEntry> queue;
+    private final Counter droppedEvents;
+    private final Counter failedEvents;
+    private final Counter writtenRows;
+
+    public SearchLogWriter(SearchLogPort searchLogPort,
+                           IncrementalUserSimilarityService incrementalUserSimilarityService,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${search.log.queue-capacity:10000}") int queueCapacity,
+                           @Value("${search.log.overflow-policy:DROP_OLDEST}") QueueOverflowPolicy overflowPolicy,
+                           @Value("${search.log.batch-size:500}") int batchSize) {
+        this.searchLogPort = searchLogPort;
+        this.incrementalUserSimilarityService = incrementalUserSimilarityService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("search.log.queue.depth", queue, Collection::size)
+            .description("저장 대기 중인 검색 기록 수")
+            .register(meterRegistry);
+        this.droppedEvents = Counter.builder("search.log.dropped")
+            .description("큐가 가득 차서 버려진 검색 기록 수")
+            .register(meterRegistry);
+        this.failedEvents = Counter.builder("search.log.failed")
+            .description("재시도 후에도 저장하지 못해 버려진 검색 기록 수")
+            .register(meterRegistry);
+        this.writtenRows = Counter.builder("search.log.written")
+            .description("일괄 저장된 검색 기록 행 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 검색 기록을 저장 대기 큐에 넣습니다. 큐가 가득 차면 설정된 정책에 따라 처리합니다.
+     *
+     * @param entry 검색 기록
+     */
+    public void enqueue(SearchLogEntry entry) {
+        if (queue.offer(entry)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP_NEWEST -> droppedEvents.increment();
+            case DROP_OLDEST -> {
+                // 다른 요청 스레드와 경합하면 몇 번 더 시도한 뒤 새 이벤트를 버림
+                for (int attempt = 0; attempt < 3; attempt++) {
+                    if (queue.poll() != null) {
+                        droppedEvents.increment();
+                    }
+                    if (queue.offer(entry)) {
+                        return;
+                    }
+                }
+                droppedEvents.increment();
+            }
+            // 새 트랜잭션에서 저장하므로 호출자의 트랜잭션과 무관함
+            case CALLER_RUNS -> write(List.of(entry));
+        }
+    }
+
+    /**
+     * 현재 저장 대기 중인 검색 기록 수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 대기 중인 검색 기록 일괄 저장 (기본 1초마다 실행)
+     */
+    @Scheduled(fixedDelayString = "${search.log.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 큐가 빌 때까지 배치 단위로 꺼내 저장합니다.
+     *
+     * @return 저장된 검색 기록 행 수
+     */
+    public synchronized int flush() {
+        int written = 0;
+        List<SearchLogEntry> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+        while (queue.drainTo(batch, batchSize) > 0) {
+            written += write(batch);
+            batch.clear();
+        }
+        return written;
+    }
+
+    /**
+     * 종료 시 남은 검색 기록을 모두 저장합니다.
+     */
+    @PreDestroy
+    public void drain() {
+        int pending = queue.size();
+        if (pending > 0) {
+            log.info("종료 전 대기 중인 검색 기록 {}건을 저장합니다.", pending);
+            flush();
+        }
+    }
+
+    private int write(List<SearchLogEntry> batch) {
+        Map<UserTermKey, SearchLogEntry> latestByUserTerm = new LinkedHashMap<>();
+        Map<String, Integer> incrementsByTerm = new HashMap<>();
+        for (SearchLogEntry original : batch) {
+            SearchLogEntry entry = original.searchType() != null ? original : new SearchLogEntry(original.userId(),
+                original.searchTerm(), DEFAULT_SEARCH_TYPE, original.resultCount(), original.searchedAt());
+            latestByUserTerm.merge(new UserTermKey(entry.userId(), entry.searchTerm(), entry.searchType()), entry,
+                (current, other) -> other.searchedAt().isBefore(current.searchedAt()) ? current : other);
+            incrementsByTerm.merge(entry.searchTerm(), 1, Integer::sum);
+        }
+
+        List<SearchLogEntry> rows = new ArrayList<>(latestByUserTerm.values());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                // 기록과 검색어 횟수를 한 트랜잭션으로 저장해 재시도해도 횟수가 중복되지 않음
+                Integer inserted = transactionTemplate.execute(status -> {
+                    int count = searchLogPort.insertSearches(rows);
+                    searchLogPort.incrementSearchTermCounts(incrementsByTerm, LocalDateTime.now());
+                    return count;
+                });
+                int written = inserted != null ? inserted : 0;
+                writtenRows.increment(written);
+                // 기록이 저장된 뒤에 유사도 갱신 대상으로 등록해야 증분 갱신이 새 검색어를 읽음
+                latestByUserTerm.keySet().forEach(key -> incrementalUserSimilarityService.markDirty(key.userId()));
+                return written;
+            } catch (Exception e) {
+                if (attempt < MAX_WRITE_ATTEMPTS) {
+                    log.warn("검색 기록 {}건 저장 실패, 다시 시도합니다: {}", batch.size(), e.getMessage());
+                    continue;
+                }
+                failedEvents.increment(batch.size());
+                log.error("검색 기록 {}건을 저장하지 못해 버립니다: {}", batch.size(), e.getMessage(), e);
+                return 0;
+            }
+        }
+    }
+
+    private record UserTermKey(Long userId, String searchTerm, String searchType) {
+    }
+}
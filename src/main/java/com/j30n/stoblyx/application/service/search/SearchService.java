@@ -1,11 +1,21 @@
 package com.j30n.stoblyx.application.service.search;
 
+import com.j30n.stoblyx.adapter.in.web.dto.search.SearchCursorResponse;
 import com.j30n.stoblyx.adapter.in.web.dto.search.SearchRequest;
 import com.j30n.stoblyx.adapter.in.web.dto.search.SearchResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.search.SearchType;
 import com.j30n.stoblyx.application.port.in.search.SearchUseCase;
-import com.j30n.stoblyx.application.port.out.recommendation.RecommendationPort;
+import com.j30n.stoblyx.application.port.out.book.BookPort;
+import com.j30n.stoblyx.application.port.out.quote.QuotePort;
 import com.j30n.stoblyx.application.port.out.search.SearchPort;
+import com.j30n.stoblyx.application.service.search.UnifiedSearchMerger.KeysetSource;
+import com.j30n.stoblyx.application.service.search.UnifiedSearchMerger.MergedHit;
+import com.j30n.stoblyx.application.service.search.UnifiedSearchMerger.MergedPage;
+import com.j30n.stoblyx.domain.enums.SearchDocumentType;
+import com.j30n.stoblyx.domain.model.Book;
+import com.j30n.stoblyx.domain.model.Quote;
 import com.j30n.stoblyx.domain.model.Search;
+import com.j30n.stoblyx.domain.model.SearchLogEntry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -13,9 +23,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * 검색 기능을 제공하는 서비스
@@ -23,8 +36,18 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class SearchService implements SearchUseCase {
+    private static final int QUOTE_SOURCE = 0;
+    private static final int SOURCE_COUNT = 2;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    // 페이지 번호 방식 통합 검색이 병합하는 최대 건수 (소스마다 이만큼 읽음), 이후는 커서 기반 API 사용
+    private static final int MAX_PAGED_MERGE_WINDOW = 200;
+
     private final SearchPort searchPort;
-    private final RecommendationPort recommendationPort;
+    private final SearchLogWriter searchLogWriter;
+    private final PopularSearchTermService popularSearchTermService;
+    private final FullTextSearchIndex fullTextSearchIndex;
+    private final QuotePort quotePort;
+    private final BookPort bookPort;
 
     @Override
     @Transactional(readOnly = true)
@@ -34,52 +57,108 @@ public class SearchService implements SearchUseCase {
             case BOOK -> searchBooks(request.keyword(), request.category(), pageable);
             case ALL -> searchAll(request.keyword(), pageable);
         };
-        
-        // 검색 결과가 있고 사용자가 로그인한 경우 검색 기록 저장
-        if (request.userId() != null && result.getTotalElements() > 0) {
-            // 검색 기록 저장
-            searchPort.saveSearch(request.keyword(), request.category(), request.userId(), (int) result.getTotalElements());
-            
-            // 검색어 프로필 저장 (추천 시스템용)
-            recommendationPort.saveSearchTermProfile(request.userId(), request.keyword());
-        }
-        
+
+        // 통합 검색의 전체 건수는 추정값이므로 이번 페이지에서 찾은 결과 수를 기록
+        recordSearch(request, request.type() == SearchType.ALL ? result.getNumberOfElements() : result.getTotalElements());
         return result;
     }
 
+    private void recordSearch(SearchRequest request, long resultCount) {
+        if (resultCount <= 0) {
+            return;
+        }
+        // 인기 검색어는 비로그인 검색도 집계
+        popularSearchTermService.record(request.keyword());
+
+        // 사용자가 로그인한 경우 검색 기록 저장
+        if (request.userId() != null) {
+            // 검색 기록과 검색어 프로필(추천 시스템용)은 큐에 넣고 일괄 저장
+            // search_type 은 NOT NULL 이므로 카테고리가 없으면 검색 유형을 기록
+            String searchType = request.category() != null ? request.category() : request.type().name();
+            searchLogWriter.enqueue(new SearchLogEntry(request.userId(), request.keyword(), searchType,
+                (int) resultCount, LocalDateTime.now()));
+        }
+    }
+
     private Page<SearchResponse> searchQuotes(String keyword, String category, Pageable pageable) {
-        return searchPort.findQuotesByKeywordAndCategory(keyword, category, pageable)
+        // 전문 검색 색인이 준비되지 않았으면 DB LIKE 검색으로 대체
+        return fullTextSearchIndex.searchPage(SearchDocumentType.QUOTE, keyword, category, pageable, quotePort::findAllByIds)
+            .orElseGet(() -> searchPort.findQuotesByKeywordAndCategory(keyword, category, pageable))
             .map(SearchResponse::fromQuote);
     }
 
     private Page<SearchResponse> searchBooks(String keyword, String category, Pageable pageable) {
-        return searchPort.findBooksByKeywordAndCategory(keyword, category, pageable)
+        return fullTextSearchIndex.searchPage(SearchDocumentType.BOOK, keyword, category, pageable, bookPort::findAllByIds)
+            .orElseGet(() -> searchPort.findBooksByKeywordAndCategory(keyword, category, pageable))
             .map(SearchResponse::fromBook);
     }
 
+    /**
+     * 페이지 번호 기반 통합 검색
+     * 요청 페이지 끝까지 병합한 뒤 잘라내므로 앞쪽 {@value #MAX_PAGED_MERGE_WINDOW}건까지만 허용하고,
+     * 그 뒤는 커서 기반 {@link #searchAll(SearchRequest, String, int)}(/search/all)를 사용하도록 합니다.
+     */
     private Page<SearchResponse> searchAll(String keyword, Pageable pageable) {
-        // 문구와 책을 모두 검색하고 결과를 통합
-        Page<SearchResponse> quotes = searchQuotes(keyword, null, pageable);
-        Page<SearchResponse> books = searchBooks(keyword, null, pageable);
-
-        List<SearchResponse> combined = new ArrayList<>();
-        combined.addAll(quotes.getContent());
-        combined.addAll(books.getContent());
-
-        // 생성일자 기준으로 정렬
-        combined.sort(Comparator.comparing(SearchResponse::createdAt).reversed());
-
-        // 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), combined.size());
-
-        return new PageImpl<>(
-            combined.subList(start, end),
-            pageable,
-            combined.size()
-        );
+        long window = pageable.getOffset() + pageable.getPageSize();
+        if (pageable.getOffset() > MAX_PAGED_MERGE_WINDOW || window > MAX_PAGED_MERGE_WINDOW) {
+            throw new IllegalArgumentException("통합 검색은 앞쪽 " + MAX_PAGED_MERGE_WINDOW
+                + "건까지만 페이지 번호로 조회할 수 있습니다. 이후 결과는 커서 기반 통합 검색(/search/all)을 사용해주세요.");
+        }
+        int offset = (int) pageable.getOffset();
+        MergedPage merged = UnifiedSearchMerger.merge(unifiedSources(keyword, null),
+            UnifiedSearchCursor.start(SOURCE_COUNT), (int) window);
+        List<MergedHit> hits = merged.hits();
+        List<SearchResponse> content = toResponses(hits.subList(Math.min(offset, hits.size()), hits.size()));
+
+        // COUNT 쿼리 대신 다음 페이지 존재 여부만 전체 건수에 반영 (실제 결과 수가 아니므로 검색 기록에는 쓰지 않음)
+        return new PageImpl<>(content, pageable, hits.size() + (merged.hasNext() ? 1L : 0L));
     }
-    
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchCursorResponse searchAll(SearchRequest request, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        MergedPage merged = UnifiedSearchMerger.merge(unifiedSources(request.keyword(), request.category()),
+            UnifiedSearchCursor.decode(cursor, SOURCE_COUNT), size);
+        List<SearchResponse> items = toResponses(merged.hits());
+
+        // 같은 검색의 다음 페이지 요청은 검색 기록으로 남기지 않음
+        if (cursor == null || cursor.isBlank()) {
+            recordSearch(request, items.size());
+        }
+        return new SearchCursorResponse(items, merged.hasNext() ? merged.nextCursor().encode() : null, merged.hasNext());
+    }
+
+    private List<KeysetSource> unifiedSources(String keyword, String category) {
+        // 커서에 인코딩되는 소스 순서이므로 문구(QUOTE_SOURCE), 책 순서를 유지해야 함
+        return List.of(
+            (after, limit) -> searchPort.findQuoteKeysByKeywordAndCategory(keyword, category, after, limit),
+            (after, limit) -> searchPort.findBookKeysByKeywordAndCategory(keyword, category, after, limit));
+    }
+
+    /**
+     * 병합된 정렬 키를 소스별로 한 번씩 일괄 조회해 병합 순서대로 응답으로 변환합니다.
+     */
+    private List<SearchResponse> toResponses(List<MergedHit> hits) {
+        List<Long> quoteIds = new ArrayList<>();
+        List<Long> bookIds = new ArrayList<>();
+        for (MergedHit hit : hits) {
+            (hit.source() == QUOTE_SOURCE ? quoteIds : bookIds).add(hit.key().id());
+        }
+        Map<Long, SearchResponse> quotes = quoteIds.isEmpty() ? Map.of() : quotePort.findAllByIds(quoteIds).stream()
+            .collect(Collectors.toMap(Quote::getId, SearchResponse::fromQuote));
+        Map<Long, SearchResponse> books = bookIds.isEmpty() ? Map.of() : bookPort.findAllByIds(bookIds).stream()
+            .collect(Collectors.toMap(Book::getId, SearchResponse::fromBook));
+
+        // 키 조회 이후 삭제된 항목은 건너뜀
+        return hits.stream()
+            .map(hit -> (hit.source() == QUOTE_SOURCE ? quotes : books).get(hit.key().id()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public Search saveSearchHistory(String keyword, String category, Long userId, Integer resultCount) {
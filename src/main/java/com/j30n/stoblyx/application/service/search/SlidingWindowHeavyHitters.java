@@ -0,0 +1,220 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.domain.enums.PopularTermWindow;
+import com.j30n.stoblyx.domain.model.TermCount;
+
+import java.util.*;
+
+/**
+ * 슬라이딩 윈도우 인기 검색어 집계기
+ * <p>
+ * 최근 60분은 분 단위, 최근 7일은 시간 단위 원형 버킷으로 나눠 기록합니다. 버킷마다 검색 횟수를 추정하는
+ * Count-Min Sketch 와 후보 검색어를 고르는 Space-Saving 요약을 하나씩 두므로, 검색량과 관계없이 메모리는
+ * 버킷 수 × 스케치 크기로 고정됩니다. 조회 시에는 구간에 속한 버킷의 후보를 모아 스케치 합계로 순위를 매깁니다.
+ * </p>
+ * <p>
+ * 시각은 epoch 기준 분 번호로 받으며, 동기화는 호출하는 쪽이 담당합니다.
+ * </p>
+ */
+final class SlidingWindowHeavyHitters {
+
+    static final int MINUTE_BUCKETS = 60;
+    static final int HOUR_BUCKETS = 24 * 7;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private final Bucket[] minuteBuckets = new Bucket[MINUTE_BUCKETS];
+    private final Bucket[] hourBuckets = new Bucket[HOUR_BUCKETS];
+    private final int depth;
+    private final int width;
+    private final int candidatesPerBucket;
+
+    /**
+     * @param depth               스케치 행 수 (해시 함수 수)
+     * @param width               스케치 열 수 (2의 거듭제곱으로 올림)
+     * @param candidatesPerBucket 버킷마다 유지할 후보 검색어 수
+     */
+    SlidingWindowHeavyHitters(int depth, int width, int candidatesPerBucket) {
+        this.depth = depth;
+        this.width = Integer.highestOneBit(Math.max(1, width - 1)) << 1;
+        this.candidatesPerBucket = candidatesPerBucket;
+    }
+
+    /**
+     * 검색어를 현재 분 버킷과 현재 시간 버킷에 기록합니다.
+     */
+    void add(String term, long epochMinute) {
+        add(term, 1, epochMinute);
+    }
+
+    /**
+     * 검색어를 횟수만큼 현재 분 버킷과 현재 시간 버킷에 기록합니다.
+     */
+    void add(String term, int count, long epochMinute) {
+        int[] cells = cells(term);
+        bucket(minuteBuckets, epochMinute).add(term, cells, count);
+        bucket(hourBuckets, epochMinute / MINUTES_PER_HOUR).add(term, cells, count);
+    }
+
+    /**
+     * 지난 시각의 시간 버킷에만 기록합니다. 저장된 스냅샷을 재시작 후 복원할 때 사용합니다.
+     * 7일보다 오래된 시각은 무시합니다.
+     */
+    void restore(String term, int count, long epochMinute, long nowMinute) {
+        long hour = epochMinute / MINUTES_PER_HOUR;
+        long nowHour = nowMinute / MINUTES_PER_HOUR;
+        if (count > 0 && hour <= nowHour && nowHour - hour < HOUR_BUCKETS) {
+            bucket(hourBuckets, hour).add(term, cells(term), count);
+        }
+    }
+
+    /**
+     * 검색어의 최근 시간 버킷별 검색 횟수를 조회합니다. 스냅샷을 버킷 단위로 저장할 때 사용합니다.
+     *
+     * @param hours     조회할 시간 버킷 수
+     * @param nowMinute 현재 시각 (epoch 분)
+     * @return 오래된 시간부터 차례로 담은 검색 횟수, 기록이 없는 시간은 0
+     */
+    long[] hourlyCounts(String term, int hours, long nowMinute) {
+        long nowHour = nowMinute / MINUTES_PER_HOUR;
+        int[] cells = cells(term);
+        long[] counts = new long[hours];
+        for (int i = 0; i < hours; i++) {
+            long id = nowHour - hours + 1 + i;
+            Bucket bucket = hourBuckets[(int) Math.floorMod(id, (long) HOUR_BUCKETS)];
+            if (bucket != null && bucket.id == id) {
+                counts[i] = estimate(List.of(bucket), cells);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 구간 안에서 가장 많이 검색된 검색어를 조회합니다.
+     *
+     * @param window    집계 구간
+     * @param limit     최대 반환 수
+     * @param nowMinute 현재 시각 (epoch 분)
+     * @return 검색 횟수 내림차순 목록
+     */
+    List<TermCount> top(PopularTermWindow window, int limit, long nowMinute) {
+        List<Bucket> buckets = switch (window) {
+            case HOUR -> liveBuckets(minuteBuckets, nowMinute, MINUTE_BUCKETS);
+            case DAY -> liveBuckets(hourBuckets, nowMinute / MINUTES_PER_HOUR, 24);
+            case WEEK -> liveBuckets(hourBuckets, nowMinute / MINUTES_PER_HOUR, HOUR_BUCKETS);
+        };
+        Set<String> candidates = new HashSet<>();
+        for (Bucket bucket : buckets) {
+            candidates.addAll(bucket.candidates.keySet());
+        }
+
+        List<TermCount> counts = new ArrayList<>(candidates.size());
+        for (String term : candidates) {
+            counts.add(new TermCount(term, estimate(buckets, cells(term))));
+        }
+        counts.sort(Comparator.comparingLong(TermCount::count).reversed().thenComparing(TermCount::term));
+        return counts.size() > limit ? new ArrayList<>(counts.subList(0, limit)) : counts;
+    }
+
+    /**
+     * 구간의 버킷별 스케치를 행마다 더한 뒤 최솟값을 취합니다 (병합한 스케치의 추정치와 같음).
+     */
+    private long estimate(List<Bucket> buckets, int[] cells) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            long sum = 0;
+            for (Bucket bucket : buckets) {
+                sum += bucket.sketch[row][cells[row]];
+            }
+            min = Math.min(min, sum);
+        }
+        return min;
+    }
+
+    private List<Bucket> liveBuckets(Bucket[] ring, long now, int span) {
+        List<Bucket> live = new ArrayList<>(span);
+        for (long id = now - span + 1; id <= now; id++) {
+            Bucket bucket = ring[(int) Math.floorMod(id, (long) ring.length)];
+            if (bucket != null && bucket.id == id) {
+                live.add(bucket);
+            }
+        }
+        return live;
+    }
+
+    /**
+     * 원형 배열에서 id 번 버킷을 찾습니다. 자리에 지난 버킷이 있으면 비우고 재사용합니다.
+     */
+    private Bucket bucket(Bucket[] ring, long id) {
+        int slot = (int) Math.floorMod(id, (long) ring.length);
+        Bucket bucket = ring[slot];
+        if (bucket == null) {
+            bucket = new Bucket();
+            ring[slot] = bucket;
+        }
+        if (bucket.id != id) {
+            bucket.reset(id);
+        }
+        return bucket;
+    }
+
+    /**
+     * 검색어가 스케치 각 행에서 차지하는 열 번호
+     */
+    private int[] cells(String term) {
+        int[] cells = new int[depth];
+        long hash = term.hashCode();
+        for (int row = 0; row < depth; row++) {
+            cells[row] = (int) (mix(hash + (row + 1) * 0x9E3779B97F4A7C15L) & (width - 1));
+        }
+        return cells;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+
+    /**
+     * 한 시간 단위(분 또는 시간)의 집계 버킷
+     */
+    private final class Bucket {
+
+        private final int[][] sketch;
+        private final Map<String, Integer> candidates = new HashMap<>();
+        private long id = Long.MIN_VALUE;
+
+        Bucket() {
+            this.sketch = new int[depth][width];
+        }
+
+        void reset(long id) {
+            for (int[] row : sketch) {
+                Arrays.fill(row, 0);
+            }
+            candidates.clear();
+            this.id = id;
+        }
+
+        void add(String term, int[] cells, int count) {
+            for (int row = 0; row < sketch.length; row++) {
+                sketch[row][cells[row]] += count;
+            }
+            // Space-Saving: 후보가 가득 차면 가장 적게 센 후보를 내보내고 그 횟수를 이어받음
+            Integer current = candidates.get(term);
+            if (current != null || candidates.size() < candidatesPerBucket) {
+                candidates.put(term, (current != null ? current : 0) + count);
+                return;
+            }
+            Map.Entry<String, Integer> smallest = null;
+            for (Map.Entry<String, Integer> entry : candidates.entrySet()) {
+                if (smallest == null || entry.getValue() < smallest.getValue()) {
+                    smallest = entry;
+                }
+            }
+            int inherited = smallest.getValue();
+            candidates.remove(smallest.getKey());
+            candidates.put(term, inherited + count);
+        }
+    }
+}
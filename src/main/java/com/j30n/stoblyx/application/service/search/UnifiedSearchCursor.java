@@ -0,0 +1,114 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.domain.model.SearchKey;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 통합 검색의 복합 커서
+ * 검색 소스별로 마지막으로 읽은 정렬 키와 소진 여부를 담고, 클라이언트에는 불투명한 문자열로 전달합니다.
+ *
+ * @param positions 소스 순서대로 나열한 읽기 위치
+ */
+record UnifiedSearchCursor(List<SourcePosition> positions) {
+
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = "|";
+    private static final String START = "-";
+    private static final String EXHAUSTED = "x";
+
+    UnifiedSearchCursor {
+        positions = List.copyOf(positions);
+    }
+
+    /**
+     * 모든 소스를 처음부터 읽는 커서를 생성합니다.
+     */
+    static UnifiedSearchCursor start(int sourceCount) {
+        return new UnifiedSearchCursor(Collections.nCopies(sourceCount, SourcePosition.START));
+    }
+
+    /**
+     * 이전 응답의 커서를 해석합니다. 비어 있으면 처음부터 읽습니다.
+     *
+     * @throws IllegalArgumentException 형식이 잘못되었거나 소스 수가 맞지 않는 경우
+     */
+    static UnifiedSearchCursor decode(String cursor, int sourceCount) {
+        if (cursor == null || cursor.isBlank()) {
+            return start(sourceCount);
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split("\\" + SEPARATOR, -1);
+            if (parts.length != sourceCount + 1 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            List<SourcePosition> positions = new ArrayList<>(sourceCount);
+            for (int i = 1; i < parts.length; i++) {
+                positions.add(decodePosition(parts[i]));
+            }
+            return new UnifiedSearchCursor(positions);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    /**
+     * 모든 소스가 소진되었는지 확인합니다.
+     */
+    boolean isExhausted() {
+        return positions.stream().allMatch(SourcePosition::exhausted);
+    }
+
+    /**
+     * 커서를 URL 에 그대로 쓸 수 있는 문자열로 인코딩합니다.
+     */
+    String encode() {
+        StringBuilder builder = new StringBuilder(VERSION);
+        for (SourcePosition position : positions) {
+            builder.append(SEPARATOR);
+            if (position.exhausted()) {
+                builder.append(EXHAUSTED);
+            } else if (position.after() == null) {
+                builder.append(START);
+            } else {
+                builder.append(position.after().createdAt()).append(',').append(position.after().id());
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static SourcePosition decodePosition(String value) {
+        if (EXHAUSTED.equals(value)) {
+            return SourcePosition.DONE;
+        }
+        if (START.equals(value)) {
+            return SourcePosition.START;
+        }
+        int comma = value.lastIndexOf(',');
+        if (comma < 0) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        LocalDateTime createdAt = LocalDateTime.parse(value.substring(0, comma));
+        long id = Long.parseLong(value.substring(comma + 1));
+        return new SourcePosition(new SearchKey(id, createdAt), false);
+    }
+
+    /**
+     * 검색 소스 하나의 읽기 위치
+     *
+     * @param after     마지막으로 반환한 정렬 키 (아직 읽지 않았으면 null)
+     * @param exhausted 더 읽을 결과가 없는지 여부
+     */
+    record SourcePosition(SearchKey after, boolean exhausted) {
+        static final SourcePosition START = new SourcePosition(null, false);
+        static final SourcePosition DONE = new SourcePosition(null, true);
+    }
+}
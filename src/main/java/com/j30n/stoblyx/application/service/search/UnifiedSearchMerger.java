@@ -0,0 +1,127 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.application.service.search.UnifiedSearchCursor.SourcePosition;
+import com.j30n.stoblyx.domain.model.SearchKey;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 여러 검색 소스를 키셋 커서로 읽어 최신순으로 합치는 k-way 병합기
+ * 소스마다 한 페이지 분량(+1건)만 조회하고 힙으로 병합하므로 OFFSET 스캔과 COUNT 쿼리가 필요 없습니다.
+ */
+final class UnifiedSearchMerger {
+
+    /**
+     * 생성 시각 내림차순, 같으면 ID 내림차순 (각 소스의 키셋 정렬과 동일)
+     */
+    static final Comparator<SearchKey> RECENCY = Comparator
+        .comparing(SearchKey::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+        .thenComparing(SearchKey::id)
+        .reversed();
+
+    private UnifiedSearchMerger() {
+    }
+
+    /**
+     * 커서 위치부터 각 소스를 읽어 병합한 한 페이지를 반환합니다.
+     *
+     * @param sources 검색 소스 (커서의 소스 순서와 같아야 함)
+     * @param cursor  이전 페이지의 커서
+     * @param size    페이지 크기
+     * @return 병합된 결과와 다음 페이지 커서
+     */
+    static MergedPage merge(List<KeysetSource> sources, UnifiedSearchCursor cursor, int size) {
+        if (sources.size() != cursor.positions().size()) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        int sourceCount = sources.size();
+        List<List<SearchKey>> fetched = new ArrayList<>(sourceCount);
+        PriorityQueue<Head> heap = new PriorityQueue<>(Math.max(1, sourceCount));
+        for (int source = 0; source < sourceCount; source++) {
+            SourcePosition position = cursor.positions().get(source);
+            // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽음
+            List<SearchKey> keys = position.exhausted()
+                ? List.of()
+                : sources.get(source).fetch(position.after(), size + 1);
+            fetched.add(keys);
+            if (!keys.isEmpty()) {
+                heap.add(new Head(source, 0, keys.get(0)));
+            }
+        }
+
+        List<MergedHit> hits = new ArrayList<>(size);
+        int[] consumed = new int[sourceCount];
+        while (hits.size() < size && !heap.isEmpty()) {
+            Head head = heap.poll();
+            hits.add(new MergedHit(head.source(), head.key()));
+            int next = head.index() + 1;
+            consumed[head.source()] = next;
+            if (next < fetched.get(head.source()).size()) {
+                heap.add(new Head(head.source(), next, fetched.get(head.source()).get(next)));
+            }
+        }
+
+        List<SourcePosition> positions = new ArrayList<>(sourceCount);
+        for (int source = 0; source < sourceCount; source++) {
+            SourcePosition previous = cursor.positions().get(source);
+            List<SearchKey> keys = fetched.get(source);
+            if (previous.exhausted() || (keys.size() <= size && consumed[source] == keys.size())) {
+                positions.add(SourcePosition.DONE);
+            } else if (consumed[source] == 0) {
+                positions.add(previous);
+            } else {
+                positions.add(new SourcePosition(keys.get(consumed[source] - 1), false));
+            }
+        }
+        return new MergedPage(hits, new UnifiedSearchCursor(positions));
+    }
+
+    /**
+     * 키셋 커서로 정렬 키를 조회하는 검색 소스
+     */
+    @FunctionalInterface
+    interface KeysetSource {
+
+        /**
+         * @param after 마지막으로 읽은 정렬 키 (처음이면 null)
+         * @param limit 조회할 최대 건수
+         * @return {@link UnifiedSearchMerger#RECENCY} 순서로 정렬된 정렬 키 목록
+         */
+        List<SearchKey> fetch(SearchKey after, int limit);
+    }
+
+    /**
+     * 병합 결과 한 건
+     *
+     * @param source 결과를 낸 소스의 순번
+     * @param key    정렬 키
+     */
+    record MergedHit(int source, SearchKey key) {
+    }
+
+    /**
+     * 병합된 한 페이지
+     *
+     * @param hits       병합 순서대로 나열한 결과
+     * @param nextCursor 다음 페이지 커서
+     */
+    record MergedPage(List<MergedHit> hits, UnifiedSearchCursor nextCursor) {
+
+        boolean hasNext() {
+            return !nextCursor.isExhausted();
+        }
+    }
+
+    private record Head(int source, int index, SearchKey key) implements Comparable<Head> {
+
+        @Override
+        public int compareTo(Head other) {
+            int compared = RECENCY.compare(key, other.key);
+            return compared != 0 ? compared : Integer.compare(source, other.source);
+        }
+    }
+}
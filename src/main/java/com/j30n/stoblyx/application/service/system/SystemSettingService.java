@@ -32,7 +32,9 @@ public class SystemSettingService implements SystemSettingUseCase {
     private static final List<String> VALID_RANKING_PARAMS = Arrays.asList(
         "score.weight.activity", "score.weight.engagement",
         "score.weight.content", "score.weight.retention",
-        "threshold.promotion", "threshold.demotion"
+        "threshold.promotion", "threshold.demotion",
+        "trending.half_life_hours", "trending.weight.view", "trending.weight.like",
+        "trending.weight.share", "trending.weight.comment"
     );
     // 유효한 랭크 이름 목록
     private static final List<String> VALID_RANK_NAMES = Arrays.asList(
@@ -106,6 +108,15 @@ public class SystemSettingService implements SystemSettingUseCase {
             } catch (NumberFormatException e) {
                 return false;
             }
+        } else if (paramName.startsWith("trending.")) {
+            // 트렌딩 반감기(시간)는 양수, 반응 가중치는 0 이상의 숫자여야 함 (가중치 0 은 해당 반응을 반영하지 않음)
+            try {
+                double value = Double.parseDouble(paramValue);
+                return Double.isFinite(value)
+                    && (paramName.equals("trending.half_life_hours") ? value > 0 : value >= 0);
+            } catch (NumberFormatException e) {
+                return false;
+            }
         } else if (paramName.startsWith("threshold.")) {
             // 임계값은 양의 정수여야 함
             try {
@@ -0,0 +1,93 @@
+package com.j30n.stoblyx.common.util;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지의 크기별 파생 이미지 이름 규칙
+ * <p>
+ * 원본 {@code <이름>.<확장자>} 의 파생 이미지는 같은 디렉토리의 {@code <이름>_<크기>.<확장자>} 입니다.
+ * 파생 이미지가 아직 만들어지지 않았으면 업로드 파일 서빙이 원본을 대신 내려주므로, 응답에는 언제든 파생 이미지 URL 을 넣을 수 있습니다.
+ * </p>
+ */
+public final class ImageVariants {
+
+    /**
+     * 목록의 작은 프로필 이미지 크기
+     */
+    public static final int AVATAR_SMALL = 64;
+
+    /**
+     * 프로필 화면의 이미지 크기
+     */
+    public static final int AVATAR_MEDIUM = 256;
+
+    private static final String UPLOADS_PATH = "/uploads/";
+    private static final Pattern ORIGINAL = Pattern.compile("([^/_]+)\\.(jpe?g|png|gif|bmp)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern VARIANT = Pattern.compile("([^/_]+)_(\\d{1,4})\\.(jpe?g|png|gif|bmp)", Pattern.CASE_INSENSITIVE);
+
+    private ImageVariants() {
+    }
+
+    /**
+     * 파생 이미지를 만들 수 있는 원본 파일 이름인지 확인합니다.
+     */
+    public static boolean isSupportedImage(String fileName) {
+        return fileName != null && ORIGINAL.matcher(fileName).matches();
+    }
+
+    /**
+     * 원본 파일 이름에서 파생 이미지 파일 이름을 만듭니다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 파일 이름
+     */
+    public static String fileName(String originalFileName, int size) {
+        Matcher matcher = ORIGINAL.matcher(originalFileName);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("파생 이미지를 만들 수 없는 파일입니다: " + originalFileName);
+        }
+        return matcher.group(1) + "_" + size + "." + matcher.group(2);
+    }
+
+    /**
+     * 파생 이미지 파일 이름에서 원본 파일 이름을 찾습니다.
+     *
+     * @return 원본 파일 이름, 파생 이미지 이름이 아니면 null
+     */
+    public static String originalFileName(String variantFileName) {
+        Matcher matcher = VARIANT.matcher(variantFileName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return matcher.group(1) + "." + matcher.group(3);
+    }
+
+    /**
+     * 이미지 형식 이름 (ImageIO 기준)
+     */
+    public static String formatName(String fileName) {
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return extension.equals("jpg") ? "jpeg" : extension;
+    }
+
+    /**
+     * 업로드 이미지 URL 을 지정한 크기의 파생 이미지 URL 로 바꿉니다.
+     * 업로드한 이미지가 아닌 URL 은 그대로 돌려줍니다.
+     *
+     * @param originalUrl 원본 URL (null 가능)
+     * @param size        크기
+     * @return 파생 이미지 URL
+     */
+    public static String url(String originalUrl, int size) {
+        if (originalUrl == null) {
+            return null;
+        }
+        int nameStart = originalUrl.lastIndexOf('/') + 1;
+        if (!originalUrl.regionMatches(nameStart - UPLOADS_PATH.length(), UPLOADS_PATH, 0, UPLOADS_PATH.length())
+            || !isSupportedImage(originalUrl.substring(nameStart))) {
+            return originalUrl;
+        }
+        return originalUrl.substring(0, nameStart) + fileName(originalUrl.substring(nameStart), size);
+    }
+}
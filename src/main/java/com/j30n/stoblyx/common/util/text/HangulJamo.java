@@ -0,0 +1,119 @@
+package com.j30n.stoblyx.common.util.text;
+
+/**
+ * 한글 자모 분해 유틸리티
+ * <p>
+ * 자동완성 키를 만들기 위해 한글 음절을 호환 자모(ㄱ-ㅣ)로 풀어 씁니다.
+ * 겹모음(ㅘ → ㅗㅏ)과 겹받침(ㄺ → ㄹㄱ)도 입력 순서대로 분해하므로 "사핑"처럼 입력 도중의 음절도
+ * "사피엔스"의 접두사가 됩니다. 공백과 문장 부호는 버리고 영문은 소문자로 바꿉니다.
+ * </p>
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char COMPAT_FIRST = 'ㄱ';
+    private static final char COMPAT_LAST_CONSONANT = 'ㅎ';
+    private static final char COMPAT_LAST = 'ㅣ';
+
+    private static final char[] CHOSEONG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final String[] JUNGSEONG = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+        "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+        "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    /**
+     * 호환 자모(ㄱ-ㅣ) 하나를 입력 단위로 분해한 결과. 겹자모가 아니면 자기 자신입니다.
+     */
+    private static final String[] COMPAT_DECOMPOSITION = new String[COMPAT_LAST - COMPAT_FIRST + 1];
+
+    static {
+        for (char c = COMPAT_FIRST; c <= COMPAT_LAST; c++) {
+            COMPAT_DECOMPOSITION[c - COMPAT_FIRST] = String.valueOf(c);
+        }
+        String[][] compounds = {
+            {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"}, {"ㄽ", "ㄹㅅ"},
+            {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+            {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+        };
+        for (String[] compound : compounds) {
+            COMPAT_DECOMPOSITION[compound[0].charAt(0) - COMPAT_FIRST] = compound[1];
+        }
+    }
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 텍스트를 자모 단위로 분해합니다.
+     *
+     * @param text 원본 텍스트
+     * @return 공백과 문장 부호를 제거하고 한글을 자모로 풀어 쓴 문자열 (예: "해리 포터" → "ㅎㅐㄹㅣㅍㅗㅌㅓ")
+     */
+    public static String decompose(CharSequence text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int offset = c - SYLLABLE_BASE;
+                builder.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                    .append(JUNGSEONG[(offset / JONGSEONG_COUNT) % JUNGSEONG_COUNT])
+                    .append(JONGSEONG[offset % JONGSEONG_COUNT]);
+            } else if (c >= COMPAT_FIRST && c <= COMPAT_LAST) {
+                builder.append(COMPAT_DECOMPOSITION[c - COMPAT_FIRST]);
+            } else if (Character.isLetterOrDigit(c)) {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 텍스트의 한글 음절을 초성으로 바꿉니다.
+     *
+     * @param text 원본 텍스트
+     * @return 공백과 문장 부호를 제거하고 음절마다 초성만 남긴 문자열 (예: "해리 포터" → "ㅎㄹㅍㅌ")
+     */
+    public static String choseong(CharSequence text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                builder.append(CHOSEONG[(c - SYLLABLE_BASE) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            } else if (c >= COMPAT_FIRST && c <= COMPAT_LAST) {
+                builder.append(c);
+            } else if (Character.isLetterOrDigit(c)) {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 공백을 제외한 모든 문자가 자음(ㄱ-ㅎ)인지 확인합니다. 초성 검색 입력을 판별할 때 사용합니다.
+     *
+     * @param text 입력 텍스트
+     * @return 자음이 하나 이상 있고 자음과 공백만으로 이루어졌으면 true
+     */
+    public static boolean isChoseongOnly(CharSequence text) {
+        boolean found = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= COMPAT_FIRST && c <= COMPAT_LAST_CONSONANT) {
+                found = true;
+            } else if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return found;
+    }
+}
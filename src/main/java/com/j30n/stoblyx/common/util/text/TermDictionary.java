@@ -0,0 +1,227 @@
+package com.j30n.stoblyx.common.util.text;
+
+import java.util.Arrays;
+
+/**
+ * 용어를 0부터 시작하는 연속 정수 ID로 인터닝하는 사전
+ * <p>
+ * 용어 문자는 하나의 공용 문자 배열에 이어 붙여 저장하고, 개방 주소법 해시 테이블로 ID를 찾습니다.
+ * 조회는 {@code char[]} 구간이나 {@link CharSequence}로 하므로 토큰마다 {@link String}을 만들 필요가 없습니다.
+ * </p>
+ * <p>
+ * 스레드 안전하지 않습니다. 구축 후 읽기만 하거나, 호출자가 외부에서 동기화해야 합니다.
+ * </p>
+ */
+public final class TermDictionary {
+
+    private static final int EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private char[] chars = new char[INITIAL_CAPACITY * 4];
+    private int charCount;
+    private int[] offsets = new int[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private int size;
+    private int[] slots = newSlots(INITIAL_CAPACITY * 2);
+
+    /**
+     * 용어 목록으로 사전을 만듭니다. 용어는 주어진 그대로 (대소문자 변환 없이) 저장됩니다.
+     */
+    public static TermDictionary of(Iterable<? extends CharSequence> terms) {
+        TermDictionary dictionary = new TermDictionary();
+        for (CharSequence term : terms) {
+            dictionary.intern(term);
+        }
+        return dictionary;
+    }
+
+    /**
+     * 문자 구간에 해당하는 용어 ID를 찾습니다.
+     *
+     * @return 용어 ID, 없으면 -1
+     */
+    public int find(char[] buffer, int start, int length) {
+        int hash = hash(buffer, start, length);
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int id = slots[slot];
+            if (id == EMPTY) {
+                return EMPTY;
+            }
+            if (hashes[id] == hash && equalsTerm(id, buffer, start, length)) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * 문자열에 해당하는 용어 ID를 찾습니다.
+     *
+     * @return 용어 ID, 없으면 -1
+     */
+    public int find(CharSequence term) {
+        int hash = hash(term);
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int id = slots[slot];
+            if (id == EMPTY) {
+                return EMPTY;
+            }
+            if (hashes[id] == hash && equalsTerm(id, term)) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * 문자 구간을 인터닝합니다. 처음 보는 용어일 때만 내부 저장소에 복사합니다.
+     *
+     * @return 기존 또는 새로 부여된 용어 ID
+     */
+    public int intern(char[] buffer, int start, int length) {
+        int id = find(buffer, start, length);
+        if (id != EMPTY) {
+            return id;
+        }
+        id = append(hash(buffer, start, length), length);
+        System.arraycopy(buffer, start, chars, offsets[id], length);
+        return id;
+    }
+
+    /**
+     * 문자열을 인터닝합니다.
+     *
+     * @return 기존 또는 새로 부여된 용어 ID
+     */
+    public int intern(CharSequence term) {
+        int id = find(term);
+        if (id != EMPTY) {
+            return id;
+        }
+        id = append(hash(term), term.length());
+        int offset = offsets[id];
+        for (int i = 0; i < term.length(); i++) {
+            chars[offset + i] = term.charAt(i);
+        }
+        return id;
+    }
+
+    /**
+     * 용어 ID에 해당하는 문자열을 반환합니다. 호출할 때마다 새 문자열을 만듭니다.
+     */
+    public String term(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("존재하지 않는 용어 ID입니다: " + id);
+        }
+        return new String(chars, offsets[id], lengths[id]);
+    }
+
+    /**
+     * 등록된 용어 수 (다음에 부여될 용어 ID)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 모든 용어를 제거합니다.
+     */
+    public void clear() {
+        Arrays.fill(slots, EMPTY);
+        size = 0;
+        charCount = 0;
+    }
+
+    private int append(int hash, int length) {
+        if (size == offsets.length) {
+            int capacity = size * 2;
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+        }
+        if (charCount + length > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length * 2, charCount + length));
+        }
+        int id = size++;
+        offsets[id] = charCount;
+        lengths[id] = length;
+        hashes[id] = hash;
+        charCount += length;
+
+        // 적재율 0.5를 넘으면 슬롯 테이블을 두 배로 늘려 다시 배치
+        if (size * 2 > slots.length) {
+            slots = newSlots(slots.length * 2);
+            for (int i = 0; i < size; i++) {
+                place(i);
+            }
+        } else {
+            place(id);
+        }
+        return id;
+    }
+
+    private void place(int id) {
+        int mask = slots.length - 1;
+        int slot = hashes[id] & mask;
+        while (slots[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = id;
+    }
+
+    private boolean equalsTerm(int id, char[] buffer, int start, int length) {
+        if (lengths[id] != length) {
+            return false;
+        }
+        int offset = offsets[id];
+        for (int i = 0; i < length; i++) {
+            if (chars[offset + i] != buffer[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean equalsTerm(int id, CharSequence term) {
+        int length = term.length();
+        if (lengths[id] != length) {
+            return false;
+        }
+        int offset = offsets[id];
+        for (int i = 0; i < length; i++) {
+            if (chars[offset + i] != term.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(char[] buffer, int start, int length) {
+        int hash = 0;
+        for (int i = start; i < start + length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        return mix(hash);
+    }
+
+    private static int hash(CharSequence term) {
+        int hash = 0;
+        for (int i = 0; i < term.length(); i++) {
+            hash = 31 * hash + term.charAt(i);
+        }
+        return mix(hash);
+    }
+
+    private static int mix(int hash) {
+        // 선형 탐사에서 하위 비트 군집을 줄이기 위해 상위 비트를 섞습니다.
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int[] newSlots(int capacity) {
+        int[] slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        return slots;
+    }
+}
@@ -0,0 +1,178 @@
+package com.j30n.stoblyx.common.util.text;
+
+import lombok.Builder;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * 한글/영문 혼합 텍스트용 토크나이저
+ * <p>
+ * 미리 계산한 문자 분류표로 한글 음절(가-힣), 영문자, 숫자가 이어진 구간을 하나의 토큰으로 자르고
+ * 영문 대문자는 소문자로 바꿉니다. 정규식 {@code [^가-힣a-z0-9\s]} 치환 후 공백 분리와 같은 토큰을 만들지만,
+ * 호출당 버퍼 하나만 할당하고 토큰마다 문자열이나 배열을 만들지 않습니다.
+ * </p>
+ * <p>
+ * 옵션으로 한글 음절 바이그램(예: "역사소설" → "역사", "사소", "소설")을 함께 내보내
+ * 띄어쓰기 없는 복합어나 조사가 붙은 단어도 매칭되도록 할 수 있습니다.
+ * 인스턴스는 불변이므로 여러 스레드에서 공유해도 됩니다.
+ * </p>
+ */
+public final class TextTokenizer {
+
+    /**
+     * 토큰 최대 길이. 이보다 긴 토큰은 앞부분만 사용합니다.
+     */
+    public static final int MAX_TOKEN_LENGTH = 64;
+
+    /**
+     * 키워드 추출에 쓰는 기본 불용어
+     */
+    public static final Set<String> DEFAULT_STOPWORDS = Set.of(
+        "the", "and", "for", "with", "from", "that", "this", "are", "was", "were", "but", "not",
+        "of", "to", "in", "on", "is", "it", "an", "as", "at", "by", "or", "be",
+        "그리고", "그러나", "하지만", "그래서", "또는", "또한", "및", "등", "그", "이", "저", "것", "수"
+    );
+
+    private static final byte OTHER = 0;
+    private static final byte UPPER = 1;
+    private static final byte LOWER = 2;
+    private static final byte DIGIT = 3;
+    private static final byte HANGUL = 4;
+    private static final byte[] CHAR_CLASS = new byte[Character.MAX_VALUE + 1];
+
+    static {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CHAR_CLASS[c] = UPPER;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            CHAR_CLASS[c] = LOWER;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CHAR_CLASS[c] = DIGIT;
+        }
+        for (char c = '가'; c <= '힣'; c++) {
+            CHAR_CLASS[c] = HANGUL;
+        }
+    }
+
+    private final int minTokenLength;
+    private final boolean hangulBigrams;
+    private final TermDictionary stopwords;
+
+    /**
+     * @param minTokenLength 내보낼 토큰의 최소 길이 (바이그램에는 적용하지 않음)
+     * @param hangulBigrams  한글 음절 바이그램을 함께 내보낼지 여부
+     * @param stopwords      제외할 소문자 불용어
+     */
+    @Builder
+    private TextTokenizer(int minTokenLength, boolean hangulBigrams, Collection<String> stopwords) {
+        this.minTokenLength = Math.max(1, minTokenLength);
+        this.hangulBigrams = hangulBigrams;
+        this.stopwords = TermDictionary.of(stopwords != null ? stopwords : Collections.emptySet());
+    }
+
+    /**
+     * 텍스트를 토큰 단위로 잘라 전달합니다.
+     * 전달되는 버퍼는 재사용되므로 콜백 밖으로 보관하면 안 됩니다.
+     *
+     * @param text 원문 (null이면 아무것도 하지 않음)
+     * @param sink 토큰 콜백
+     */
+    public void tokenize(CharSequence text, TokenSink sink) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        char[] buffer = new char[Math.min(text.length(), MAX_TOKEN_LENGTH)];
+        int length = 0;
+        int tokenStart = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            byte charClass = CHAR_CLASS[c];
+            if (charClass == OTHER) {
+                if (length > 0) {
+                    emit(buffer, length, tokenStart, sink);
+                    length = 0;
+                }
+                continue;
+            }
+            if (length == 0) {
+                tokenStart = i;
+            }
+            if (length < buffer.length) {
+                buffer[length++] = charClass == UPPER ? (char) (c + ('a' - 'A')) : c;
+            }
+        }
+        if (length > 0) {
+            emit(buffer, length, tokenStart, sink);
+        }
+    }
+
+    /**
+     * 텍스트를 토큰 단위로 잘라 사전의 용어 ID로 전달합니다.
+     *
+     * @param text       원문
+     * @param dictionary 용어 사전
+     * @param intern     사전에 없는 용어를 새로 등록할지 여부 (false면 없는 용어는 건너뜀)
+     * @param sink       용어 ID 콜백
+     */
+    public void tokenize(CharSequence text, TermDictionary dictionary, boolean intern, TermSink sink) {
+        tokenize(text, (buffer, start, length, position, bigram) -> {
+            int termId = intern
+                ? dictionary.intern(buffer, start, length)
+                : dictionary.find(buffer, start, length);
+            if (termId >= 0) {
+                sink.accept(termId, position, bigram);
+            }
+        });
+    }
+
+    private void emit(char[] buffer, int length, int position, TokenSink sink) {
+        if (stopwords.find(buffer, 0, length) >= 0) {
+            return;
+        }
+        if (length >= minTokenLength) {
+            sink.accept(buffer, 0, length, position, false);
+        }
+        // 두 음절짜리 한글 토큰은 바이그램이 토큰 자신과 같으므로 건너뜀
+        if (!hangulBigrams || length == 2 && CHAR_CLASS[buffer[0]] == HANGUL && CHAR_CLASS[buffer[1]] == HANGUL) {
+            return;
+        }
+        for (int i = 0; i + 1 < length; i++) {
+            if (CHAR_CLASS[buffer[i]] == HANGUL && CHAR_CLASS[buffer[i + 1]] == HANGUL) {
+                sink.accept(buffer, i, 2, position + i, true);
+            }
+        }
+    }
+
+    /**
+     * 토큰 콜백
+     */
+    @FunctionalInterface
+    public interface TokenSink {
+
+        /**
+         * @param buffer   소문자로 정규화된 토큰 문자가 담긴 재사용 버퍼
+         * @param start    버퍼 내 토큰 시작 위치
+         * @param length   토큰 길이
+         * @param position 원문에서 토큰이 시작하는 위치
+         * @param bigram   한글 음절 바이그램 여부
+         */
+        void accept(char[] buffer, int start, int length, int position, boolean bigram);
+    }
+
+    /**
+     * 용어 ID 콜백
+     */
+    @FunctionalInterface
+    public interface TermSink {
+
+        /**
+         * @param termId   사전의 용어 ID
+         * @param position 원문에서 토큰이 시작하는 위치
+         * @param bigram   한글 음절 바이그램 여부
+         */
+        void accept(int termId, int position, boolean bigram);
+    }
+}
@@ -12,7 +12,7 @@ import java.util.concurrent.Executor;
 
 @Configuration
 @EnableCaching
-@EnableAsync
+@EnableAsync(proxyTargetClass = true)
 public class AppConfig {
 
     /**
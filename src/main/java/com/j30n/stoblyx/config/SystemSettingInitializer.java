@@ -21,6 +21,7 @@ import java.util.List;
 public class SystemSettingInitializer {
 
     private static final String DIGITS_ONLY_PATTERN = "^\\d+$";
+    private static final String DECIMAL_PATTERN = "^\\d+(\\.\\d+)?$";
     
     private final Environment env;
     
@@ -132,6 +133,61 @@ public class SystemSettingInitializer {
                         .validationPattern("^0(\\.[0-9]{1,2})?$")
                         .build(),
 
+                SystemSetting.builder()
+                        .key("ranking.param.trending.half_life_hours")
+                        .value("6")
+                        .description("트렌딩 점수 반감기 (시간)")
+                        .category(SettingCategory.RANKING)
+                        .encrypted(false)
+                        .systemManaged(true)
+                        .defaultValue("6")
+                        .validationPattern(DECIMAL_PATTERN)
+                        .build(),
+
+                SystemSetting.builder()
+                        .key("ranking.param.trending.weight.view")
+                        .value("1")
+                        .description("트렌딩 점수 조회 가중치")
+                        .category(SettingCategory.RANKING)
+                        .encrypted(false)
+                        .systemManaged(true)
+                        .defaultValue("1")
+                        .validationPattern(DECIMAL_PATTERN)
+                        .build(),
+
+                SystemSetting.builder()
+                        .key("ranking.param.trending.weight.like")
+                        .value("3")
+                        .description("트렌딩 점수 좋아요 가중치")
+                        .category(SettingCategory.RANKING)
+                        .encrypted(false)
+                        .systemManaged(true)
+                        .defaultValue("3")
+                        .validationPattern(DECIMAL_PATTERN)
+                        .build(),
+
+                SystemSetting.builder()
+                        .key("ranking.param.trending.weight.share")
+                        .value("5")
+                        .description("트렌딩 점수 공유 가중치")
+                        .category(SettingCategory.RANKING)
+                        .encrypted(false)
+                        .systemManaged(true)
+                        .defaultValue("5")
+                        .validationPattern(DECIMAL_PATTERN)
+                        .build(),
+
+                SystemSetting.builder()
+                        .key("ranking.param.trending.weight.comment")
+                        .value("4")
+                        .description("트렌딩 점수 댓글 가중치")
+                        .category(SettingCategory.RANKING)
+                        .encrypted(false)
+                        .systemManaged(true)
+                        .defaultValue("4")
+                        .validationPattern(DECIMAL_PATTERN)
+                        .build(),
+
                 // 게이미피케이션 설정
                 SystemSetting.builder()
                         .key("gamification.rank.threshold.bronze")
@@ -2,7 +2,6 @@ package com.j30n.stoblyx.config;
 
 import com.j30n.stoblyx.infrastructure.annotation.CurrentUser;
 import com.j30n.stoblyx.infrastructure.security.UserPrincipal;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.MethodParameter;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
@@ -17,24 +16,15 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.List;
 
 @Configuration
 @EnableSpringDataWebSupport
 public class WebConfig implements WebMvcConfigurer {
 
-    @Value("${app.upload.dir:/uploads}")
-    private String uploadDir;
-
     @Override
     public void addResourceHandlers(@NonNull ResourceHandlerRegistry registry) {
-        Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-
-        registry.addResourceHandler("/uploads/**")
-            .addResourceLocations("file:" + uploadPath + "/");
-            
+        // 업로드 파일과 음성은 MediaController 가 구간 요청을 지원해 내려보냄
         // REST Docs 문서 파일 경로 추가
         registry.addResourceHandler("/docs/**")
             .addResourceLocations("classpath:/static/docs/", "file:build/docs/asciidoc/");
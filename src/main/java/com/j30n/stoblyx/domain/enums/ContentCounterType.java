@@ -0,0 +1,16 @@
+package com.j30n.stoblyx.domain.enums;
+
+/**
+ * 지연 반영되는 콘텐츠 카운터 종류
+ */
+public enum ContentCounterType {
+    /**
+     * 조회수
+     */
+    VIEW,
+
+    /**
+     * 공유수
+     */
+    SHARE
+}
@@ -0,0 +1,26 @@
+package com.j30n.stoblyx.domain.enums;
+
+/**
+ * 콘텐츠 생성 작업의 상태
+ */
+public enum GenerationJobStatus {
+    /**
+     * 작업자가 가져가기를 기다리는 상태 (재시도 대기 포함)
+     */
+    PENDING,
+
+    /**
+     * 작업자가 임대해 처리 중인 상태
+     */
+    RUNNING,
+
+    /**
+     * 생성이 끝난 상태
+     */
+    COMPLETED,
+
+    /**
+     * 재시도 한도를 넘겨 더 이상 처리하지 않는 상태
+     */
+    DEAD
+}
@@ -0,0 +1,58 @@
+package com.j30n.stoblyx.domain.enums;
+
+import java.util.Locale;
+
+/**
+ * 콘텐츠 생성 파이프라인의 단계
+ * 단계마다 전용 스레드 풀과 시간 예산을 두며, 아래 값은 설정이 없을 때의 기본값입니다.
+ */
+public enum GenerationStage {
+    /**
+     * 배경 이미지/비디오 검색
+     */
+    VISUAL(8, 50, 10_000),
+
+    /**
+     * 낭독 음성 생성
+     */
+    NARRATION(4, 50, 15_000),
+
+    /**
+     * 배경 음악 선택
+     */
+    BGM(4, 50, 3_000),
+
+    /**
+     * 자막 생성
+     */
+    SUBTITLE(2, 50, 1_000);
+
+    private final int defaultThreads;
+    private final int defaultQueueCapacity;
+    private final long defaultTimeoutMillis;
+
+    GenerationStage(int defaultThreads, int defaultQueueCapacity, long defaultTimeoutMillis) {
+        this.defaultThreads = defaultThreads;
+        this.defaultQueueCapacity = defaultQueueCapacity;
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+    }
+
+    public int getDefaultThreads() {
+        return defaultThreads;
+    }
+
+    public int getDefaultQueueCapacity() {
+        return defaultQueueCapacity;
+    }
+
+    public long getDefaultTimeoutMillis() {
+        return defaultTimeoutMillis;
+    }
+
+    /**
+     * 설정 키와 지표 태그에 쓰는 소문자 이름
+     */
+    public String getKey() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
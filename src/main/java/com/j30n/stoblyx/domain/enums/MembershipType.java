@@ -0,0 +1,26 @@
+package com.j30n.stoblyx.domain.enums;
+
+/**
+ * 사용자별로 관리하는 "내가 반응한 항목" 집합 종류
+ */
+public enum MembershipType {
+    /**
+     * 좋아요한 콘텐츠
+     */
+    LIKED_CONTENT,
+
+    /**
+     * 좋아요한 인용구
+     */
+    LIKED_QUOTE,
+
+    /**
+     * 북마크한 콘텐츠
+     */
+    BOOKMARKED_CONTENT,
+
+    /**
+     * 저장한 인용구
+     */
+    SAVED_QUOTE
+}
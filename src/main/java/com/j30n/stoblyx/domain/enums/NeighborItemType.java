@@ -0,0 +1,16 @@
+package com.j30n.stoblyx.domain.enums;
+
+/**
+ * 아이템 간 이웃(함께 반응한 아이템) 테이블의 아이템 유형
+ */
+public enum NeighborItemType {
+    /**
+     * 도서 (인용구 좋아요, 인용구 저장 기반)
+     */
+    BOOK,
+
+    /**
+     * 숏폼 콘텐츠 (콘텐츠 좋아요, 북마크 기반)
+     */
+    CONTENT
+}
@@ -0,0 +1,45 @@
+package com.j30n.stoblyx.domain.enums;
+
+import java.util.Arrays;
+
+/**
+ * 인기 검색어 집계 구간
+ */
+public enum PopularTermWindow {
+    /**
+     * 최근 1시간 (분 단위 버킷)
+     */
+    HOUR("1h"),
+
+    /**
+     * 최근 24시간 (시간 단위 버킷)
+     */
+    DAY("24h"),
+
+    /**
+     * 최근 7일 (시간 단위 버킷)
+     */
+    WEEK("7d");
+
+    private final String code;
+
+    PopularTermWindow(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 요청 파라미터("1h", "24h", "7d")를 집계 구간으로 변환합니다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 구간인 경우
+     */
+    public static PopularTermWindow fromCode(String code) {
+        return Arrays.stream(values())
+            .filter(window -> window.code.equalsIgnoreCase(code) || window.name().equalsIgnoreCase(code))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 집계 구간입니다: " + code));
+    }
+}
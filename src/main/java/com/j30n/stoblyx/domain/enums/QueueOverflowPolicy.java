@@ -0,0 +1,21 @@
+package com.j30n.stoblyx.domain.enums;
+
+/**
+ * 비동기 기록 큐가 가득 찼을 때의 처리 방식
+ */
+public enum QueueOverflowPolicy {
+    /**
+     * 새로 들어온 이벤트를 버림
+     */
+    DROP_NEWEST,
+
+    /**
+     * 가장 오래된 이벤트를 버리고 새 이벤트를 넣음
+     */
+    DROP_OLDEST,
+
+    /**
+     * 호출한 스레드에서 별도 트랜잭션으로 즉시 기록 (요청 지연을 감수하고 유실을 막음)
+     */
+    CALLER_RUNS
+}
@@ -0,0 +1,21 @@
+package com.j30n.stoblyx.domain.enums;
+
+/**
+ * 사용자별 사전 계산 추천 목록의 아이템 유형
+ */
+public enum RecommendationItemType {
+    /**
+     * 도서
+     */
+    BOOK,
+
+    /**
+     * 인용구
+     */
+    QUOTE,
+
+    /**
+     * 숏폼 콘텐츠
+     */
+    CONTENT
+}
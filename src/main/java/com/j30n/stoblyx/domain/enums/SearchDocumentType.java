@@ -0,0 +1,21 @@
+package com.j30n.stoblyx.domain.enums;
+
+/**
+ * 전문 검색 색인의 문서 유형
+ */
+public enum SearchDocumentType {
+    /**
+     * 도서 (제목, 저자, 설명)
+     */
+    BOOK,
+
+    /**
+     * 인용구 (본문)
+     */
+    QUOTE,
+
+    /**
+     * 숏폼 콘텐츠 (제목, 도서 제목, 인용구 본문, 자막)
+     */
+    CONTENT
+}
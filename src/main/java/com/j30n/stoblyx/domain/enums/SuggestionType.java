@@ -0,0 +1,21 @@
+package com.j30n.stoblyx.domain.enums;
+
+/**
+ * 자동완성 추천어의 출처
+ */
+public enum SuggestionType {
+    /**
+     * 인기 검색어
+     */
+    SEARCH_TERM,
+
+    /**
+     * 도서 제목
+     */
+    BOOK_TITLE,
+
+    /**
+     * 저자
+     */
+    AUTHOR
+}
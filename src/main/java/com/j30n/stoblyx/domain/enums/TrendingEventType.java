@@ -0,0 +1,26 @@
+package com.j30n.stoblyx.domain.enums;
+
+/**
+ * 트렌딩 점수에 반영되는 콘텐츠 반응 종류
+ */
+public enum TrendingEventType {
+    /**
+     * 조회
+     */
+    VIEW,
+
+    /**
+     * 좋아요
+     */
+    LIKE,
+
+    /**
+     * 공유
+     */
+    SHARE,
+
+    /**
+     * 댓글
+     */
+    COMMENT
+}
@@ -0,0 +1,30 @@
+package com.j30n.stoblyx.domain.event;
+
+import com.j30n.stoblyx.domain.model.Book;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Book 엔티티 변경 감지 리스너
+ * 저장 경로(서비스, 컨트롤러, 알라딘 임포트 등)와 관계없이 도서 변경 시 {@link BookChangedEvent}를 발행합니다.
+ * Hibernate의 SpringBeanContainer를 통해 생성되므로 생성자 주입을 사용합니다.
+ */
+public class BookChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BookChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onBookChanged(Book book) {
+        if (book.getId() != null) {
+            eventPublisher.publishEvent(new BookChangedEvent(book.getId()));
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.j30n.stoblyx.domain.event;
+
+/**
+ * 도서가 생성, 수정, 삭제되었음을 알리는 이벤트
+ * 도서 키워드 인덱스 등 도서 정보를 메모리에 보관하는 컴포넌트가 증분 갱신에 사용합니다.
+ *
+ * @param bookId 변경된 도서 ID
+ */
+public record BookChangedEvent(Long bookId) {
+}
@@ -0,0 +1,57 @@
+package com.j30n.stoblyx.domain.event;
+
+import com.j30n.stoblyx.domain.enums.MembershipType;
+import com.j30n.stoblyx.domain.model.ContentBookmark;
+import com.j30n.stoblyx.domain.model.ContentLike;
+import com.j30n.stoblyx.domain.model.Like;
+import com.j30n.stoblyx.domain.model.SavedQuote;
+import com.j30n.stoblyx.domain.model.common.BaseEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Like, SavedQuote, ContentLike, ContentBookmark 엔티티 변경 감지 리스너
+ * 저장 경로와 관계없이 변경 시 {@link MembershipChangedEvent}를 발행합니다.
+ * 논리 삭제된 엔티티는 반응을 취소한 것으로 봅니다.
+ * Hibernate의 SpringBeanContainer를 통해 생성되므로 생성자 주입을 사용합니다.
+ */
+public class MembershipChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MembershipChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(BaseEntity entity) {
+        publish(entity, !entity.isDeleted());
+    }
+
+    @PostRemove
+    public void onRemoved(BaseEntity entity) {
+        publish(entity, false);
+    }
+
+    private void publish(BaseEntity entity, boolean member) {
+        // 지연 로딩 프록시도 ID 조회만으로는 초기화되지 않음
+        if (entity instanceof Like like && like.getUser() != null && like.getQuote() != null) {
+            publish(MembershipType.LIKED_QUOTE, like.getUser().getId(), like.getQuote().getId(), member);
+        } else if (entity instanceof SavedQuote savedQuote && savedQuote.getUser() != null && savedQuote.getQuote() != null) {
+            publish(MembershipType.SAVED_QUOTE, savedQuote.getUser().getId(), savedQuote.getQuote().getId(), member);
+        } else if (entity instanceof ContentLike contentLike && contentLike.getUser() != null && contentLike.getContent() != null) {
+            publish(MembershipType.LIKED_CONTENT, contentLike.getUser().getId(), contentLike.getContent().getId(), member);
+        } else if (entity instanceof ContentBookmark bookmark && bookmark.getUser() != null && bookmark.getContent() != null) {
+            publish(MembershipType.BOOKMARKED_CONTENT, bookmark.getUser().getId(), bookmark.getContent().getId(), member);
+        }
+    }
+
+    private void publish(MembershipType type, Long userId, Long itemId, boolean member) {
+        if (userId != null && itemId != null) {
+            eventPublisher.publishEvent(new MembershipChangedEvent(type, userId, itemId, member));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.j30n.stoblyx.domain.event;
+
+import com.j30n.stoblyx.domain.enums.MembershipType;
+
+/**
+ * 사용자의 좋아요, 북마크, 저장 여부가 바뀌었음을 알리는 이벤트
+ * 사용자별 반응 집합을 갱신하는 데 사용합니다.
+ *
+ * @param type   반응 종류
+ * @param userId 사용자 ID
+ * @param itemId 콘텐츠 또는 인용구 ID
+ * @param member 변경 후 반응 여부
+ */
+public record MembershipChangedEvent(MembershipType type, Long userId, Long itemId, boolean member) {
+}
@@ -0,0 +1,34 @@
+package com.j30n.stoblyx.domain.event;
+
+import com.j30n.stoblyx.domain.enums.SearchDocumentType;
+import com.j30n.stoblyx.domain.model.Quote;
+import com.j30n.stoblyx.domain.model.ShortFormContent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Quote, ShortFormContent 엔티티 변경 감지 리스너
+ * 저장 경로와 관계없이 변경 시 {@link SearchDocumentChangedEvent}를 발행합니다.
+ * Hibernate의 SpringBeanContainer를 통해 생성되므로 생성자 주입을 사용합니다.
+ */
+public class SearchDocumentChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SearchDocumentChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        if (entity instanceof Quote quote && quote.getId() != null) {
+            eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocumentType.QUOTE, quote.getId()));
+        } else if (entity instanceof ShortFormContent content && content.getId() != null) {
+            eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocumentType.CONTENT, content.getId()));
+        }
+    }
+}
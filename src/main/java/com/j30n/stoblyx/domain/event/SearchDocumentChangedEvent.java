@@ -0,0 +1,13 @@
+package com.j30n.stoblyx.domain.event;
+
+import com.j30n.stoblyx.domain.enums.SearchDocumentType;
+
+/**
+ * 인용구나 숏폼 콘텐츠가 생성, 수정, 삭제되었음을 알리는 이벤트
+ * 전문 검색 색인이 증분 갱신에 사용합니다. 도서 변경은 {@link BookChangedEvent}로 전달됩니다.
+ *
+ * @param type 문서 유형
+ * @param id   변경된 엔티티 ID
+ */
+public record SearchDocumentChangedEvent(SearchDocumentType type, Long id) {
+}
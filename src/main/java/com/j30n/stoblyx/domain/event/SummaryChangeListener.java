@@ -0,0 +1,31 @@
+package com.j30n.stoblyx.domain.event;
+
+import com.j30n.stoblyx.domain.model.Summary;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Summary 엔티티 변경 감지 리스너
+ * 저장 경로와 관계없이 요약 변경 시 {@link SummaryChangedEvent}를 발행합니다.
+ * Hibernate의 SpringBeanContainer를 통해 생성되므로 생성자 주입을 사용합니다.
+ */
+public class SummaryChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SummaryChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onSummaryChanged(Summary summary) {
+        // 지연 로딩 프록시도 ID 조회만으로는 초기화되지 않음
+        if (summary.getBook() != null && summary.getBook().getId() != null) {
+            eventPublisher.publishEvent(new SummaryChangedEvent(summary.getBook().getId()));
+        }
+    }
+}
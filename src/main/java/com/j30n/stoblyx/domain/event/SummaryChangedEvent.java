@@ -0,0 +1,10 @@
+package com.j30n.stoblyx.domain.event;
+
+/**
+ * 책 요약이 생성, 수정, 삭제되었음을 알리는 이벤트
+ * 책별 요약 구절 색인을 무효화하는 데 사용합니다.
+ *
+ * @param bookId 요약이 변경된 도서 ID
+ */
+public record SummaryChangedEvent(Long bookId) {
+}
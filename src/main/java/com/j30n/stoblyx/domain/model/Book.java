@@ -1,5 +1,6 @@
 package com.j30n.stoblyx.domain.model;
 
+import com.j30n.stoblyx.domain.event.BookChangeListener;
 import com.j30n.stoblyx.domain.model.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -13,6 +14,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "books")
+@EntityListeners(BookChangeListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Book extends BaseEntity {
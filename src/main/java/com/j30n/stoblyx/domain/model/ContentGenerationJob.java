@@ -0,0 +1,105 @@
+package com.j30n.stoblyx.domain.model;
+
+import com.j30n.stoblyx.domain.enums.GenerationJobStatus;
+import com.j30n.stoblyx.domain.model.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 콘텐츠 생성 작업 큐의 작업 한 건
+ * 인용구마다 멱등 키가 하나이므로 같은 인용구의 생성 요청은 하나의 작업과 콘텐츠로 모입니다.
+ * 작업자는 (status, available_at) 인덱스로 처리할 작업을 찾아 임대 토큰과 만료 시각을 기록하고 처리합니다.
+ */
+@Entity
+@Table(
+    name = "content_generation_jobs",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_content_generation_jobs_key", columnNames = "idempotency_key")
+    },
+    indexes = {
+        @Index(name = "idx_content_generation_jobs_claim", columnList = "status, available_at"),
+        @Index(name = "idx_content_generation_jobs_lease", columnList = "lease_token"),
+        @Index(name = "idx_content_generation_jobs_finished", columnList = "status, finished_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ContentGenerationJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "quote_id", nullable = false)
+    private Long quoteId;
+
+    @Column(name = "content_id", nullable = false)
+    private Long contentId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private GenerationJobStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "lease_token", length = 36)
+    private String leaseToken;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public ContentGenerationJob(Long quoteId, Long contentId, LocalDateTime availableAt) {
+        this.quoteId = quoteId;
+        this.contentId = contentId;
+        this.idempotencyKey = idempotencyKey(quoteId);
+        this.status = GenerationJobStatus.PENDING;
+        this.attempts = 0;
+        this.availableAt = availableAt;
+    }
+
+    /**
+     * 인용구의 생성 작업 멱등 키를 만듭니다.
+     *
+     * @param quoteId 인용구 ID
+     * @return 멱등 키
+     */
+    public static String idempotencyKey(Long quoteId) {
+        return "quote:" + quoteId;
+    }
+
+    /**
+     * 끝난 작업을 처음 상태로 되돌려 다시 대기열에 넣습니다.
+     *
+     * @param contentId 결과를 채울 콘텐츠 ID
+     * @param now       현재 시각
+     */
+    public void requeue(Long contentId, LocalDateTime now) {
+        this.contentId = contentId;
+        this.status = GenerationJobStatus.PENDING;
+        this.attempts = 0;
+        this.availableAt = now;
+        this.leaseToken = null;
+        this.leaseExpiresAt = null;
+        this.lastError = null;
+        this.finishedAt = null;
+    }
+}
@@ -52,8 +52,8 @@ public class ContentInteraction extends BaseTimeEntity {
     }
 
     public void updateViewedAt() {
+        // 조회수는 ContentCounterService 가 증분 UPDATE 로 올리므로 여기서는 조회 시각만 갱신
         this.viewedAt = LocalDateTime.now();
-        this.content.incrementViewCount();
     }
     
     public void delete() {
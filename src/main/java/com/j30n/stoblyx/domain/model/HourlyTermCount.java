@@ -0,0 +1,13 @@
+package com.j30n.stoblyx.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색어의 한 시간 버킷 검색 횟수
+ *
+ * @param term      검색어
+ * @param hourStart 시간 버킷 시작 시각 (정각)
+ * @param count     검색 횟수 (스케치 추정치이면 실제보다 약간 클 수 있음)
+ */
+public record HourlyTermCount(String term, LocalDateTime hourStart, long count) {
+}
@@ -0,0 +1,10 @@
+package com.j30n.stoblyx.domain.model;
+
+/**
+ * 사용자와 아이템 간의 반응(좋아요, 저장, 북마크 등) 한 건을 나타내는 값 객체
+ *
+ * @param userId 사용자 ID
+ * @param itemId 아이템 ID (도서 또는 숏폼 콘텐츠)
+ */
+public record ItemEngagement(Long userId, Long itemId) {
+}
@@ -0,0 +1,54 @@
+package com.j30n.stoblyx.domain.model;
+
+import com.j30n.stoblyx.domain.enums.NeighborItemType;
+import com.j30n.stoblyx.domain.model.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아이템별 상위 K개 공동 반응 이웃을 저장하는 엔티티
+ * 유사 도서/유사 콘텐츠 조회 시 (item_type, item_id, neighbor_rank) 인덱스로 한 번에 읽습니다.
+ */
+@Entity
+@Table(
+    name = "item_neighbors",
+    indexes = {
+        @Index(name = "idx_item_neighbors_item", columnList = "item_type, item_id, neighbor_rank")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ItemNeighbor extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "item_type", nullable = false, length = 20)
+    private NeighborItemType itemType;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "neighbor_id", nullable = false)
+    private Long neighborId;
+
+    @Column(name = "score", nullable = false)
+    private Double score;
+
+    @Column(name = "neighbor_rank", nullable = false)
+    private Integer neighborRank;
+
+    @Builder
+    public ItemNeighbor(NeighborItemType itemType, Long itemId, Long neighborId, Double score, Integer neighborRank) {
+        this.itemType = itemType;
+        this.itemId = itemId;
+        this.neighborId = neighborId;
+        this.score = score;
+        this.neighborRank = neighborRank;
+    }
+}
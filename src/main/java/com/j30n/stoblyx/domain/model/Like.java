@@ -1,5 +1,6 @@
 package com.j30n.stoblyx.domain.model;
 
+import com.j30n.stoblyx.domain.event.MembershipChangeListener;
 import com.j30n.stoblyx.domain.model.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -8,6 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(MembershipChangeListener.class)
 @Table(
     name = "likes",
     uniqueConstraints = {
@@ -0,0 +1,19 @@
+package com.j30n.stoblyx.domain.model;
+
+/**
+ * 목록 응답에 필요한 미디어 리소스 컬럼만 담은 조회 전용 값 객체
+ *
+ * @param contentId    콘텐츠 ID
+ * @param type         미디어 유형
+ * @param url          미디어 URL
+ * @param thumbnailUrl 썸네일 URL
+ * @param description  설명 (자막 리소스는 자막 본문)
+ */
+public record MediaResourceSummary(Long contentId, MediaResource.MediaType type, String url, String thumbnailUrl,
+                                   String description) {
+
+    public static MediaResourceSummary from(MediaResource resource) {
+        return new MediaResourceSummary(null, resource.getType(), resource.getUrl(), resource.getThumbnailUrl(),
+            resource.getDescription());
+    }
+}
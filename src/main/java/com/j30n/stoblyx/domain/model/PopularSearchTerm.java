@@ -48,4 +48,13 @@ public class PopularSearchTerm extends BaseEntity {
         this.popularityScore = popularityScore;
         this.lastUpdatedAt = LocalDateTime.now();
     }
-} 
\ No newline at end of file
+
+    /**
+     * 인기 검색어 스냅샷의 집계 값으로 덮어씁니다.
+     */
+    public void applySnapshot(Integer searchCount, Double popularityScore, LocalDateTime snapshotAt) {
+        this.searchCount = searchCount;
+        this.popularityScore = popularityScore;
+        this.lastUpdatedAt = snapshotAt;
+    }
+}
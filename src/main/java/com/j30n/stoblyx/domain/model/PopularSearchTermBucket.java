@@ -0,0 +1,45 @@
+package com.j30n.stoblyx.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 검색어 스냅샷의 시간 버킷별 검색 횟수를 저장하는 엔티티
+ * 재시작 시 검색 횟수를 원래 시간 버킷에 복원해 집계 구간을 벗어나는 시점이 스냅샷 이전과 같도록 합니다.
+ */
+@Entity
+@Table(
+    name = "popular_search_term_buckets",
+    indexes = {
+        @Index(name = "idx_popular_search_term_buckets_hour", columnList = "hour_start")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PopularSearchTermBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "search_term", nullable = false, length = 255)
+    private String searchTerm;
+
+    @Column(name = "hour_start", nullable = false)
+    private LocalDateTime hourStart;
+
+    @Column(name = "search_count", nullable = false)
+    private Integer searchCount;
+
+    @Builder
+    public PopularSearchTermBucket(String searchTerm, LocalDateTime hourStart, Integer searchCount) {
+        this.searchTerm = searchTerm;
+        this.hourStart = hourStart;
+        this.searchCount = searchCount;
+    }
+}
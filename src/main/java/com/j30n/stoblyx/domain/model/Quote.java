@@ -1,5 +1,6 @@
 package com.j30n.stoblyx.domain.model;
 
+import com.j30n.stoblyx.domain.event.SearchDocumentChangeListener;
 import com.j30n.stoblyx.domain.model.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -15,10 +16,22 @@ import java.util.List;
  */
 @Entity
 @Table(name = "quotes")
+@NamedEntityGraph(name = Quote.LIST_GRAPH, attributeNodes = {
+    @NamedAttributeNode("user"),
+    @NamedAttributeNode("book"),
+    @NamedAttributeNode("summary")
+})
+@EntityListeners(SearchDocumentChangeListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Quote extends BaseEntity {
 
+    /**
+     * 목록 조회용 엔티티 그래프. 응답에 쓰이는 작성자와 도서, 지연 로딩이 되지 않는 요약을
+     * 페이지 쿼리에서 함께 조인합니다.
+     */
+    public static final String LIST_GRAPH = "Quote.list";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
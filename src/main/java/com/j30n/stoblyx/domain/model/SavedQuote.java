@@ -1,5 +1,6 @@
 package com.j30n.stoblyx.domain.model;
 
+import com.j30n.stoblyx.domain.event.MembershipChangeListener;
 import com.j30n.stoblyx.domain.model.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -11,6 +12,7 @@ import lombok.NoArgsConstructor;
  * 사용자가 저장한 인용구 정보를 저장하는 엔티티
  */
 @Entity
+@EntityListeners(MembershipChangeListener.class)
 @Table(
     name = "saved_quotes",
     uniqueConstraints = {
@@ -0,0 +1,21 @@
+package com.j30n.stoblyx.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전문 검색 색인에 넣을 문서를 나타내는 값 객체
+ *
+ * @param id         원본 엔티티 ID
+ * @param fields     필드 이름별 원문 (필드 가중치는 색인이 필드 이름으로 결정)
+ * @param categories 카테고리 필터에 쓰이는 장르 목록
+ */
+public record SearchDocument(Long id, Map<String, String> fields, List<String> categories) {
+
+    public static final String TITLE = "title";
+    public static final String AUTHOR = "author";
+    public static final String DESCRIPTION = "description";
+    public static final String CONTENT = "content";
+    public static final String BOOK_TITLE = "bookTitle";
+    public static final String SUBTITLES = "subtitles";
+}
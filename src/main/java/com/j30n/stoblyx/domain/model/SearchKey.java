@@ -0,0 +1,12 @@
+package com.j30n.stoblyx.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통합 검색의 키셋 페이징에 사용하는 정렬 키 값 객체
+ *
+ * @param id        검색 대상 ID (도서 또는 인용구)
+ * @param createdAt 검색 대상 생성 시각
+ */
+public record SearchKey(Long id, LocalDateTime createdAt) {
+}
@@ -0,0 +1,16 @@
+package com.j30n.stoblyx.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기로 기록할 검색 이벤트 한 건
+ *
+ * @param userId      검색한 사용자 ID
+ * @param searchTerm  검색어
+ * @param searchType  검색 유형 (카테고리)
+ * @param resultCount 검색 결과 수
+ * @param searchedAt  검색 시각
+ */
+public record SearchLogEntry(Long userId, String searchTerm, String searchType, int resultCount,
+                             LocalDateTime searchedAt) {
+}
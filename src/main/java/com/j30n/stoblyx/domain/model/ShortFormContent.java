@@ -2,6 +2,7 @@ package com.j30n.stoblyx.domain.model;
 
 import com.j30n.stoblyx.domain.enums.ContentStatus;
 import com.j30n.stoblyx.domain.enums.ContentType;
+import com.j30n.stoblyx.domain.event.SearchDocumentChangeListener;
 import com.j30n.stoblyx.domain.model.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -17,10 +18,22 @@ import java.util.List;
  */
 @Entity
 @Table(name = "SHORT_FORM_CONTENTS")
+@NamedEntityGraph(name = ShortFormContent.LIST_GRAPH, attributeNodes = {
+    @NamedAttributeNode("book"),
+    @NamedAttributeNode(value = "quote", subgraph = "quote")
+}, subgraphs = @NamedSubgraph(name = "quote", attributeNodes = @NamedAttributeNode("summary")))
+@EntityListeners(SearchDocumentChangeListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ShortFormContent extends BaseEntity {
 
+    /**
+     * 목록 조회용 엔티티 그래프. 페이지 쿼리와 함께 조인할 수 있는 단일 연관만 포함하며,
+     * 미디어 리소스 컬렉션은 페이징을 메모리에서 하게 되므로 별도 쿼리로 한 번에 조회합니다.
+     * 인용구의 요약은 지연 로딩이 되지 않는 역방향 일대일이라 함께 조인합니다.
+     */
+    public static final String LIST_GRAPH = "ShortFormContent.list";
+
     @OneToMany(mappedBy = "content", cascade = CascadeType.ALL, orphanRemoval = true)
     private final List<MediaResource> mediaResources = new ArrayList<>();
     @OneToMany(mappedBy = "content", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -45,8 +58,11 @@ public class ShortFormContent extends BaseEntity {
     private ContentStatus status = ContentStatus.PROCESSING;
     @Column
     private int duration;
+    // 조회수/공유수는 ContentCounterService 가 증분 UPDATE 로만 갱신하므로 엔티티 저장 시 덮어쓰지 않음
+    @Column(updatable = false)
     private int viewCount = 0;
     private int likeCount = 0;
+    @Column(updatable = false)
     private int shareCount = 0;
     private int commentCount = 0;
 
@@ -89,7 +105,7 @@ public class ShortFormContent extends BaseEntity {
     }
 
     /**
-     * 조회수를 증가시킵니다.
+     * 조회수를 증가시킵니다. 저장 전 초기값 설정용이며, 저장된 콘텐츠의 조회수는 ContentCounterService 로 올립니다.
      */
     public void incrementViewCount() {
         this.viewCount++;
@@ -103,7 +119,7 @@ public class ShortFormContent extends BaseEntity {
     }
 
     /**
-     * 공유 수를 증가시킵니다.
+     * 공유 수를 증가시킵니다. 저장 전 초기값 설정용이며, 저장된 콘텐츠의 공유 수는 ContentCounterService 로 올립니다.
      */
     public void incrementShareCount() {
         this.shareCount++;
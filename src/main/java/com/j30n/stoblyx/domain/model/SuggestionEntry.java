@@ -0,0 +1,13 @@
+package com.j30n.stoblyx.domain.model;
+
+import com.j30n.stoblyx.domain.enums.SuggestionType;
+
+/**
+ * 자동완성 사전에 들어가는 추천어 한 건
+ *
+ * @param text   추천어 원문
+ * @param type   추천어 출처
+ * @param weight 출처 안에서의 인기도 (검색 횟수 점수, 도서 인기도 등)
+ */
+public record SuggestionEntry(String text, SuggestionType type, double weight) {
+}
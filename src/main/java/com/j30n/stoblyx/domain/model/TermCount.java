@@ -0,0 +1,10 @@
+package com.j30n.stoblyx.domain.model;
+
+/**
+ * 검색어와 집계 구간 안의 검색 횟수
+ *
+ * @param term  검색어
+ * @param count 검색 횟수 (스케치 추정치이면 실제보다 약간 클 수 있음)
+ */
+public record TermCount(String term, long count) {
+}
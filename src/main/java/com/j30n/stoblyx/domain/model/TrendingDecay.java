@@ -0,0 +1,75 @@
+package com.j30n.stoblyx.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 반감기 기반 지수 감쇠 점수 계산
+ * <p>
+ * 시각 t 에 가중치 w 로 들어온 반응의 현재 기여도는 {@code w * 2^(-(now - t) / 반감기)} 입니다. 모든 항목에 같은
+ * {@code 2^(-now / 반감기)}가 곱해지므로 순위만 필요하면 이를 빼고 {@code log2(w) + t / 반감기}를 로그 시간 점수로
+ * 저장할 수 있습니다. 점수는 반응이 더해질 때만 바뀌고 시간이 흘러도 다시 계산할 필요가 없으며, 같은 항목의
+ * 반응은 {@link #combine}으로 로그 영역에서 더합니다. 기준 시각을 고정해 두어 점수가 반감기 하나당 1씩만 커집니다.
+ * </p>
+ */
+public final class TrendingDecay {
+
+    /**
+     * 로그 시간 점수의 기준 시각 (2025-01-01T00:00:00Z)
+     */
+    public static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    private static final double LN2 = Math.log(2);
+
+    private TrendingDecay() {
+    }
+
+    /**
+     * 한 번의 반응을 로그 시간 점수로 바꿉니다.
+     *
+     * @param weight   반응 가중치 (0보다 커야 함)
+     * @param at       반응 시각
+     * @param halfLife 반감기
+     * @return 로그 시간 점수
+     */
+    public static double score(double weight, Instant at, Duration halfLife) {
+        return log2(weight) + elapsedHalfLives(at, halfLife);
+    }
+
+    /**
+     * 두 로그 시간 점수를 더한 값, 즉 {@code log2(2^a + 2^b)}를 넘침 없이 계산합니다.
+     */
+    public static double combine(double a, double b) {
+        double high = Math.max(a, b);
+        double low = Math.min(a, b);
+        return high + Math.log1p(Math.pow(2, low - high)) / LN2;
+    }
+
+    /**
+     * 반감기를 바꿀 때 기존 점수에 더할 값을 구합니다.
+     * 바꾸는 시각의 감쇠된 값은 그대로 두고 이후 반응만 새 반감기로 감쇠되도록, 모든 점수를 같은 만큼 옮깁니다.
+     *
+     * @param from 기존 반감기
+     * @param to   새 반감기
+     * @param at   바꾸는 시각
+     * @return 모든 점수에 더할 값 (순위는 바뀌지 않음)
+     */
+    public static double rescaleShift(Duration from, Duration to, Instant at) {
+        return elapsedHalfLives(at, to) - elapsedHalfLives(at, from);
+    }
+
+    /**
+     * 로그 시간 점수를 주어진 시각의 감쇠된 값으로 바꿉니다.
+     */
+    public static double decayedValue(double score, Instant now, Duration halfLife) {
+        return Math.pow(2, score - elapsedHalfLives(now, halfLife));
+    }
+
+    private static double elapsedHalfLives(Instant at, Duration halfLife) {
+        return Duration.between(EPOCH, at).toMillis() / (double) halfLife.toMillis();
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / LN2;
+    }
+}
@@ -0,0 +1,10 @@
+package com.j30n.stoblyx.domain.model;
+
+/**
+ * 트렌딩 순위의 한 항목
+ *
+ * @param contentId 콘텐츠 ID
+ * @param score     로그 시간 점수 ({@link TrendingDecay} 참고, 클수록 상위)
+ */
+public record TrendingEntry(Long contentId, double score) {
+}
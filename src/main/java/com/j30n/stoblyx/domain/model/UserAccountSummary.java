@@ -0,0 +1,21 @@
+package com.j30n.stoblyx.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 사용자 목록에 필요한 컬럼만 담은 조회 전용 값 객체
+ * 사용자 엔티티를 읽지 않으므로 인증 정보, 관심사 같은 연관 엔티티도 함께 조회되지 않습니다.
+ */
+public record UserAccountSummary(
+    Long id,
+    String username,
+    String nickname,
+    String email,
+    String profileImageUrl,
+    UserRole role,
+    String accountStatus,
+    LocalDateTime createdAt,
+    LocalDateTime modifiedAt,
+    LocalDateTime lastLoginAt
+) {
+}
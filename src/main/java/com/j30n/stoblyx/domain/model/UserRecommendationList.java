@@ -0,0 +1,98 @@
+package com.j30n.stoblyx.domain.model;
+
+import com.j30n.stoblyx.domain.enums.RecommendationItemType;
+import com.j30n.stoblyx.domain.model.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 사전 계산된 추천 목록을 저장하는 엔티티
+ * 유형별로 사용자당 한 행이며, 순위 순 아이템 ID를 쉼표로 이어 붙여 한 번의 키 조회로 읽습니다.
+ */
+@Entity
+@Table(
+    name = "user_recommendation_lists",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_recommendation_lists_user_type", columnNames = {"user_id", "item_type"})
+    },
+    indexes = {
+        @Index(name = "idx_user_recommendation_lists_generated", columnList = "item_type, generated_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserRecommendationList extends BaseTimeEntity {
+
+    private static final String DELIMITER = ",";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "item_type", nullable = false, length = 20)
+    private RecommendationItemType itemType;
+
+    @Column(name = "item_ids", columnDefinition = "TEXT")
+    private String itemIds;
+
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount;
+
+    /**
+     * 개인화 신호가 없어 인기 목록으로 채워졌는지 여부
+     */
+    @Column(name = "is_fallback", nullable = false)
+    private Boolean isFallback;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+
+    @Builder
+    public UserRecommendationList(Long userId, RecommendationItemType itemType, List<Long> itemIds,
+                                  Boolean isFallback, LocalDateTime generatedAt) {
+        this.userId = userId;
+        this.itemType = itemType;
+        replace(itemIds, isFallback, generatedAt);
+    }
+
+    /**
+     * 목록을 새로 계산된 결과로 교체합니다.
+     *
+     * @param itemIds     순위 순 아이템 ID
+     * @param isFallback  인기 목록 대체 여부
+     * @param generatedAt 계산 시각
+     */
+    public void replace(List<Long> itemIds, Boolean isFallback, LocalDateTime generatedAt) {
+        this.itemIds = itemIds.stream().map(String::valueOf).collect(Collectors.joining(DELIMITER));
+        this.itemCount = itemIds.size();
+        this.isFallback = isFallback;
+        this.generatedAt = generatedAt;
+    }
+
+    /**
+     * 저장된 아이템 ID를 순위 순으로 반환합니다.
+     *
+     * @return 아이템 ID 목록
+     */
+    public List<Long> getItemIdList() {
+        if (itemIds == null || itemIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(itemIds.split(DELIMITER))
+            .map(Long::valueOf)
+            .collect(Collectors.toList());
+    }
+}
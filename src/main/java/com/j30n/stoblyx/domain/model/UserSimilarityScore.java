@@ -0,0 +1,11 @@
+package com.j30n.stoblyx.domain.model;
+
+/**
+ * 사용자 간 유사도 계산 결과 한 건을 나타내는 값 객체
+ *
+ * @param sourceUserId 소스 사용자 ID
+ * @param targetUserId 타겟 사용자 ID
+ * @param score        유사도 점수
+ */
+public record UserSimilarityScore(Long sourceUserId, Long targetUserId, double score) {
+}
@@ -0,0 +1,11 @@
+package com.j30n.stoblyx.domain.model;
+
+/**
+ * 사용자 검색어 벡터의 한 원소 (사용자, 검색어, 가중치)를 나타내는 값 객체
+ *
+ * @param userId 사용자 ID
+ * @param term   검색어
+ * @param weight 가중치 (검색어 전체 검색 횟수)
+ */
+public record UserTermWeight(Long userId, String term, double weight) {
+}
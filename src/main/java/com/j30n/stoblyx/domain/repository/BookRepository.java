@@ -1,6 +1,7 @@
 package com.j30n.stoblyx.domain.repository;
 
 import com.j30n.stoblyx.domain.model.Book;
+import com.j30n.stoblyx.domain.model.SearchKey;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -10,6 +11,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -82,6 +85,27 @@ public interface BookRepository extends JpaRepository<Book, Long> {
         @Param("lastId") Long lastId,
         Pageable pageable);
 
+    /**
+     * 키셋 기반 페이징을 사용한 책 검색 키 조회 (최신순)
+     * 엔티티 대신 정렬 키만 조회하며, 장르 조건은 조인 대신 MEMBER OF 로 걸어 DISTINCT 가 필요 없습니다.
+     */
+    @Query("SELECT new com.j30n.stoblyx.domain.model.SearchKey(b.id, b.createdAt) FROM Book b " +
+        "WHERE b.isDeleted = false " +
+        "AND (:keyword IS NULL OR " +
+        "LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "LOWER(b.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+        "AND (:category IS NULL OR :category MEMBER OF b.genres) " +
+        "AND (:lastCreatedAt IS NULL OR b.createdAt < :lastCreatedAt " +
+        "OR (b.createdAt = :lastCreatedAt AND b.id < :lastId)) " +
+        "ORDER BY b.createdAt DESC, b.id DESC")
+    List<SearchKey> findSearchKeysWithKeyset(
+        @Param("keyword") String keyword,
+        @Param("category") String category,
+        @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+        @Param("lastId") Long lastId,
+        Pageable pageable);
+
     /**
      * 키셋 기반 페이징을 사용한 책 검색 (인기도 기준)
      * 대용량 데이터에서 성능 향상
@@ -175,6 +199,25 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     @NonNull
     List<Book> findAllWithGenres();
 
+    /**
+     * 장르 정보를 포함하여 ID 목록에 해당하는 도서를 조회합니다.
+     *
+     * @param ids 도서 ID 목록
+     * @return 삭제되지 않은 도서 목록 (순서 보장 안 됨)
+     */
+    @EntityGraph(attributePaths = {"genres"})
+    @Query("SELECT b FROM Book b WHERE b.id IN :ids AND b.isDeleted = false")
+    List<Book> findAllWithGenresByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 삭제되지 않은 도서 ID를 페이지 단위로 조회합니다.
+     * 장르 컬렉션을 함께 조인하면 페이징이 메모리에서 일어나므로, ID 페이지를 먼저 구한 뒤
+     * {@link #findAllWithGenresByIdIn}으로 해당 도서만 장르와 함께 조회합니다.
+     */
+    @Query(value = "SELECT b.id FROM Book b WHERE b.isDeleted = false",
+        countQuery = "SELECT COUNT(b) FROM Book b WHERE b.isDeleted = false")
+    Page<Long> findIdsByIsDeletedFalse(Pageable pageable);
+
     /**
      * 삭제되지 않은 책의 개수를 조회합니다.
      *
@@ -1,12 +1,18 @@
 package com.j30n.stoblyx.domain.repository;
 
 import com.j30n.stoblyx.domain.model.ContentBookmark;
+import com.j30n.stoblyx.domain.model.ItemEngagement;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,5 +21,52 @@ public interface ContentBookmarkRepository extends JpaRepository<ContentBookmark
     boolean existsByUserIdAndContentId(Long userId, Long contentId);
     void deleteByUserIdAndContentId(Long userId, Long contentId);
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
+    @EntityGraph(attributePaths = {"content"})
     Page<ContentBookmark> findByUserId(Long userId, Pageable pageable);
+
+    /**
+     * 사용자 ID 구간에 속한 사용자의 콘텐츠 북마크를 (사용자, 콘텐츠) 쌍으로 조회합니다.
+     */
+    @Query("SELECT new com.j30n.stoblyx.domain.model.ItemEngagement(cb.user.id, cb.content.id) FROM ContentBookmark cb " +
+        "WHERE cb.isDeleted = false AND cb.user.id > :fromUserId AND cb.user.id <= :toUserId")
+    List<ItemEngagement> findContentEngagementsByUserIdRange(@Param("fromUserId") Long fromUserId,
+                                                             @Param("toUserId") Long toUserId);
+
+    /**
+     * 주어진 사용자들의 콘텐츠 북마크를 (사용자, 콘텐츠) 쌍으로 조회합니다.
+     */
+    @Query("SELECT new com.j30n.stoblyx.domain.model.ItemEngagement(cb.user.id, cb.content.id) FROM ContentBookmark cb " +
+        "WHERE cb.isDeleted = false AND cb.user.id IN :userIds")
+    List<ItemEngagement> findContentEngagementsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 주어진 콘텐츠를 북마크한 사용자 ID를 조회합니다.
+     */
+    @Query("SELECT DISTINCT cb.user.id FROM ContentBookmark cb WHERE cb.isDeleted = false AND cb.content.id IN :contentIds")
+    List<Long> findUserIdsByContentIdIn(@Param("contentIds") Collection<Long> contentIds);
+
+    /**
+     * 기준 시각 이후 북마크가 생성된 콘텐츠 ID를 조회합니다.
+     */
+    @Query("SELECT DISTINCT cb.content.id FROM ContentBookmark cb WHERE cb.createdAt > :since OR cb.modifiedAt > :since")
+    List<Long> findContentIdsChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 사용자가 북마크한 콘텐츠 ID를 조회합니다.
+     */
+    @Query("SELECT cb.content.id FROM ContentBookmark cb WHERE cb.isDeleted = false AND cb.user.id = :userId")
+    List<Long> findContentIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 주어진 콘텐츠 중 사용자가 북마크한 콘텐츠 ID를 한 번에 조회합니다.
+     */
+    @Query("SELECT cb.content.id FROM ContentBookmark cb " +
+        "WHERE cb.isDeleted = false AND cb.user.id = :userId AND cb.content.id IN :contentIds")
+    List<Long> findContentIdsByUserIdAndContentIdIn(@Param("userId") Long userId,
+                                                   @Param("contentIds") Collection<Long> contentIds);
+
+    /**
+     * 사용자의 주어진 콘텐츠 북마크를 삭제합니다.
+     */
+    void deleteByUserIdAndContentIdIn(Long userId, Collection<Long> contentIds);
 }
@@ -0,0 +1,108 @@
+package com.j30n.stoblyx.domain.repository;
+
+import com.j30n.stoblyx.domain.enums.GenerationJobStatus;
+import com.j30n.stoblyx.domain.model.ContentGenerationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 콘텐츠 생성 작업 리포지토리
+ * 상태 변경은 임대 토큰을 조건으로 한 UPDATE 로 처리해, 임대가 만료되어 다른 작업자에게 넘어간 작업을
+ * 이전 작업자가 덮어쓰지 않도록 합니다.
+ */
+@Repository
+public interface ContentGenerationJobRepository extends JpaRepository<ContentGenerationJob, Long> {
+
+    Optional<ContentGenerationJob> findByIdempotencyKey(String idempotencyKey);
+
+    List<ContentGenerationJob> findByLeaseToken(String leaseToken);
+
+    /**
+     * 처리할 수 있는 작업 ID 를 행 잠금과 함께 조회합니다. 다른 트랜잭션이 잠근 행은 기다리지 않고 건너뜁니다.
+     * MySQL 8, PostgreSQL 처럼 SKIP LOCKED 를 지원하는 DB 에서만 사용합니다.
+     */
+    @Query(value = "SELECT id FROM content_generation_jobs " +
+        "WHERE status = 'PENDING' AND available_at <= :now " +
+        "ORDER BY available_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockClaimableIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 처리할 수 있는 작업 ID 를 잠금 없이 조회합니다. 선점은 {@link #markClaimed}의 상태 조건으로 가립니다.
+     */
+    @Query(value = "SELECT id FROM content_generation_jobs " +
+        "WHERE status = 'PENDING' AND available_at <= :now " +
+        "ORDER BY available_at, id LIMIT :limit", nativeQuery = true)
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 대기 중인 작업을 임대하고 시도 횟수를 올립니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ContentGenerationJob j SET j.status = :running, j.attempts = j.attempts + 1, " +
+        "j.leaseToken = :leaseToken, j.leaseExpiresAt = :leaseExpiresAt, j.modifiedAt = :now " +
+        "WHERE j.id IN :ids AND j.status = :pending")
+    int markClaimed(@Param("ids") Collection<Long> ids,
+                    @Param("leaseToken") String leaseToken,
+                    @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+                    @Param("now") LocalDateTime now,
+                    @Param("pending") GenerationJobStatus pending,
+                    @Param("running") GenerationJobStatus running);
+
+    /**
+     * 임대 중인 작업을 끝난 상태(완료 또는 포기)로 바꿉니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ContentGenerationJob j SET j.status = :status, j.leaseToken = NULL, j.leaseExpiresAt = NULL, " +
+        "j.lastError = :error, j.finishedAt = :now, j.modifiedAt = :now " +
+        "WHERE j.id = :id AND j.leaseToken = :leaseToken AND j.status = :running")
+    int finish(@Param("id") Long id,
+               @Param("leaseToken") String leaseToken,
+               @Param("status") GenerationJobStatus status,
+               @Param("error") String error,
+               @Param("now") LocalDateTime now,
+               @Param("running") GenerationJobStatus running);
+
+    /**
+     * 임대 중인 작업을 지정한 시각 이후에 다시 처리하도록 대기 상태로 돌립니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ContentGenerationJob j SET j.status = :pending, j.leaseToken = NULL, j.leaseExpiresAt = NULL, " +
+        "j.availableAt = :availableAt, j.lastError = :error, j.modifiedAt = :now " +
+        "WHERE j.id = :id AND j.leaseToken = :leaseToken AND j.status = :running")
+    int reschedule(@Param("id") Long id,
+                   @Param("leaseToken") String leaseToken,
+                   @Param("availableAt") LocalDateTime availableAt,
+                   @Param("error") String error,
+                   @Param("now") LocalDateTime now,
+                   @Param("pending") GenerationJobStatus pending,
+                   @Param("running") GenerationJobStatus running);
+
+    /**
+     * 임대가 만료된 작업을 곧바로 다시 처리하도록 대기 상태로 돌립니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ContentGenerationJob j SET j.status = :pending, j.leaseToken = NULL, j.leaseExpiresAt = NULL, " +
+        "j.availableAt = :now, j.lastError = :error, j.modifiedAt = :now " +
+        "WHERE j.status = :running AND j.leaseExpiresAt < :now")
+    int releaseExpiredLeases(@Param("now") LocalDateTime now,
+                             @Param("error") String error,
+                             @Param("pending") GenerationJobStatus pending,
+                             @Param("running") GenerationJobStatus running);
+
+    @Query("SELECT j.status, COUNT(j) FROM ContentGenerationJob j GROUP BY j.status")
+    List<Object[]> countGroupByStatus();
+
+    long countByStatusAndFinishedAtGreaterThanEqual(GenerationJobStatus status, LocalDateTime since);
+
+    @Query("SELECT MIN(j.availableAt) FROM ContentGenerationJob j WHERE j.status = :pending AND j.availableAt <= :now")
+    Optional<LocalDateTime> findOldestAvailableAt(@Param("now") LocalDateTime now,
+                                                  @Param("pending") GenerationJobStatus pending);
+}
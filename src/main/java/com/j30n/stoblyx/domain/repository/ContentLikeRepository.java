@@ -1,10 +1,15 @@
 package com.j30n.stoblyx.domain.repository;
 
 import com.j30n.stoblyx.domain.model.ContentLike;
+import com.j30n.stoblyx.domain.model.ItemEngagement;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface ContentLikeRepository extends JpaRepository<ContentLike, Long> {
@@ -22,4 +27,45 @@ public interface ContentLikeRepository extends JpaRepository<ContentLike, Long>
     
     // 특정 사용자의 좋아요 수 조회
     long countByUser_Id(Long userId);
+
+    /**
+     * 사용자 ID 구간에 속한 사용자의 콘텐츠 좋아요를 (사용자, 콘텐츠) 쌍으로 조회합니다.
+     */
+    @Query("SELECT new com.j30n.stoblyx.domain.model.ItemEngagement(cl.user.id, cl.content.id) FROM ContentLike cl " +
+        "WHERE cl.isDeleted = false AND cl.user.id > :fromUserId AND cl.user.id <= :toUserId")
+    List<ItemEngagement> findContentEngagementsByUserIdRange(@Param("fromUserId") Long fromUserId,
+                                                             @Param("toUserId") Long toUserId);
+
+    /**
+     * 주어진 사용자들의 콘텐츠 좋아요를 (사용자, 콘텐츠) 쌍으로 조회합니다.
+     */
+    @Query("SELECT new com.j30n.stoblyx.domain.model.ItemEngagement(cl.user.id, cl.content.id) FROM ContentLike cl " +
+        "WHERE cl.isDeleted = false AND cl.user.id IN :userIds")
+    List<ItemEngagement> findContentEngagementsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 주어진 콘텐츠에 좋아요한 사용자 ID를 조회합니다.
+     */
+    @Query("SELECT DISTINCT cl.user.id FROM ContentLike cl WHERE cl.isDeleted = false AND cl.content.id IN :contentIds")
+    List<Long> findUserIdsByContentIdIn(@Param("contentIds") Collection<Long> contentIds);
+
+    /**
+     * 기준 시각 이후 좋아요가 생성된 콘텐츠 ID를 조회합니다.
+     */
+    @Query("SELECT DISTINCT cl.content.id FROM ContentLike cl WHERE cl.createdAt > :since OR cl.modifiedAt > :since")
+    List<Long> findContentIdsChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 사용자가 좋아요한 콘텐츠 ID를 조회합니다.
+     */
+    @Query("SELECT cl.content.id FROM ContentLike cl WHERE cl.isDeleted = false AND cl.user.id = :userId")
+    List<Long> findContentIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 주어진 콘텐츠 중 사용자가 좋아요한 콘텐츠 ID를 한 번에 조회합니다.
+     */
+    @Query("SELECT cl.content.id FROM ContentLike cl " +
+        "WHERE cl.isDeleted = false AND cl.user.id = :userId AND cl.content.id IN :contentIds")
+    List<Long> findContentIdsByUserIdAndContentIdIn(@Param("userId") Long userId,
+                                                   @Param("contentIds") Collection<Long> contentIds);
 }
@@ -0,0 +1,47 @@
+package com.j30n.stoblyx.domain.repository;
+
+import com.j30n.stoblyx.domain.enums.NeighborItemType;
+import com.j30n.stoblyx.domain.model.ItemNeighbor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 아이템 이웃 리포지토리
+ */
+@Repository
+public interface ItemNeighborRepository extends JpaRepository<ItemNeighbor, Long> {
+
+    /**
+     * 아이템의 이웃 ID를 순위 순으로 조회합니다.
+     */
+    @Query("SELECT n.neighborId FROM ItemNeighbor n " +
+        "WHERE n.itemType = :itemType AND n.itemId = :itemId " +
+        "ORDER BY n.neighborRank ASC")
+    List<Long> findNeighborIds(@Param("itemType") NeighborItemType itemType,
+                               @Param("itemId") Long itemId,
+                               Pageable pageable);
+
+    /**
+     * 아이템 목록의 이웃 행을 모두 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM ItemNeighbor n WHERE n.itemType = :itemType AND n.itemId IN :itemIds")
+    int deleteByItemTypeAndItemIdIn(@Param("itemType") NeighborItemType itemType,
+                                    @Param("itemIds") Collection<Long> itemIds);
+
+    /**
+     * 기준 시각 이전에 생성된 이웃 행을 삭제합니다. 전체 재구축 후 반응이 사라진 아이템의 잔여 행 정리에 사용합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM ItemNeighbor n WHERE n.itemType = :itemType AND n.createdAt < :before")
+    int deleteByItemTypeAndCreatedAtBefore(@Param("itemType") NeighborItemType itemType,
+                                           @Param("before") LocalDateTime before);
+}
@@ -1,5 +1,6 @@
 package com.j30n.stoblyx.domain.repository;
 
+import com.j30n.stoblyx.domain.model.ItemEngagement;
 import com.j30n.stoblyx.domain.model.Like;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,4 +32,44 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     long countByQuoteId(@Param("quoteId") Long quoteId);
 
     boolean existsByUserIdAndQuoteId(Long userId, Long quoteId);
-}
\ No newline at end of file
+
+    /**
+     * 사용자 ID 구간에 속한 사용자의 인용구 좋아요를 (사용자, 도서) 쌍으로 조회합니다.
+     */
+    @Query("SELECT new com.j30n.stoblyx.domain.model.ItemEngagement(l.user.id, q.book.id) FROM Like l JOIN l.quote q " +
+        "WHERE l.isDeleted = false AND q.book IS NOT NULL AND l.user.id > :fromUserId AND l.user.id <= :toUserId")
+    List<ItemEngagement> findBookEngagementsByUserIdRange(@Param("fromUserId") Long fromUserId,
+                                                          @Param("toUserId") Long toUserId);
+
+    /**
+     * 주어진 사용자들의 인용구 좋아요를 (사용자, 도서) 쌍으로 조회합니다.
+     */
+    @Query("SELECT new com.j30n.stoblyx.domain.model.ItemEngagement(l.user.id, q.book.id) FROM Like l JOIN l.quote q " +
+        "WHERE l.isDeleted = false AND q.book IS NOT NULL AND l.user.id IN :userIds")
+    List<ItemEngagement> findBookEngagementsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 주어진 도서의 인용구에 좋아요한 사용자 ID를 조회합니다.
+     */
+    @Query("SELECT DISTINCT l.user.id FROM Like l WHERE l.isDeleted = false AND l.quote.book.id IN :bookIds")
+    List<Long> findUserIdsByBookIdIn(@Param("bookIds") Collection<Long> bookIds);
+
+    /**
+     * 기준 시각 이후 좋아요가 생성되거나 취소된 도서 ID를 조회합니다.
+     */
+    @Query("SELECT DISTINCT l.quote.book.id FROM Like l WHERE l.createdAt > :since OR l.modifiedAt > :since")
+    List<Long> findBookIdsChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 사용자가 좋아요한 인용구 ID를 조회합니다.
+     */
+    @Query("SELECT l.quote.id FROM Like l WHERE l.isDeleted = false AND l.user.id = :userId")
+    List<Long> findQuoteIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 주어진 인용구 중 사용자가 좋아요한 인용구 ID를 한 번에 조회합니다.
+     */
+    @Query("SELECT l.quote.id FROM Like l WHERE l.isDeleted = false AND l.user.id = :userId AND l.quote.id IN :quoteIds")
+    List<Long> findQuoteIdsByUserIdAndQuoteIdIn(@Param("userId") Long userId,
+                                               @Param("quoteIds") Collection<Long> quoteIds);
+}
@@ -0,0 +1,28 @@
+package com.j30n.stoblyx.domain.repository;
+
+import com.j30n.stoblyx.domain.model.MediaResource;
+import com.j30n.stoblyx.domain.model.MediaResourceSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MediaResourceRepository extends JpaRepository<MediaResource, Long> {
+
+    /**
+     * 주어진 콘텐츠들의 미디어 리소스를 응답에 필요한 컬럼만 한 번에 조회합니다.
+     */
+    @Query("SELECT new com.j30n.stoblyx.domain.model.MediaResourceSummary(m.content.id, m.type, m.url, m.thumbnailUrl, m.description) " +
+        "FROM MediaResource m WHERE m.content.id IN :contentIds ORDER BY m.id")
+    List<MediaResourceSummary> findSummariesByContentIdIn(@Param("contentIds") Collection<Long> contentIds);
+
+    /**
+     * 주어진 유형에서 URL 이 패턴과 맞는 미디어 리소스의 URL 만 조회합니다.
+     */
+    @Query("SELECT m.url FROM MediaResource m WHERE m.type = :type AND m.url LIKE :pattern")
+    List<String> findUrlsByTypeAndUrlLike(@Param("type") MediaResource.MediaType type, @Param("pattern") String pattern);
+}
@@ -0,0 +1,14 @@
+package com.j30n.stoblyx.domain.repository;
+
+import com.j30n.stoblyx.domain.model.PopularSearchTermBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PopularSearchTermBucketRepository extends JpaRepository<PopularSearchTermBucket, Long> {
+
+    List<PopularSearchTermBucket> findByHourStartGreaterThanEqual(LocalDateTime since);
+}
@@ -4,11 +4,13 @@ import com.j30n.stoblyx.domain.model.PopularSearchTerm;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +18,8 @@ import java.util.Optional;
 public interface PopularSearchTermRepository extends JpaRepository<PopularSearchTerm, Long> {
     
     Optional<PopularSearchTerm> findBySearchTerm(String searchTerm);
+
+    List<PopularSearchTerm> findBySearchTermIn(Collection<String> searchTerms);
     
     @Query("SELECT pst FROM PopularSearchTerm pst ORDER BY pst.popularityScore DESC")
     Page<PopularSearchTerm> findPopularTerms(Pageable pageable);
@@ -25,4 +29,12 @@ public interface PopularSearchTermRepository extends JpaRepository<PopularSearch
     
     @Query("SELECT pst.searchTerm FROM PopularSearchTerm pst ORDER BY pst.searchCount DESC")
     List<String> findMostSearchedTerms(Pageable pageable);
-} 
\ No newline at end of file
+
+    /**
+     * 기준 시각 이전에 갱신된 검색어의 인기도를 0으로 내립니다. 최신 스냅샷에서 빠진 검색어 정리에 사용합니다.
+     */
+    @Modifying
+    @Query("UPDATE PopularSearchTerm pst SET pst.popularityScore = 0.0 " +
+        "WHERE pst.popularityScore > 0 AND pst.lastUpdatedAt < :snapshotAt")
+    int resetPopularityUpdatedBefore(@Param("snapshotAt") LocalDateTime snapshotAt);
+}
@@ -1,6 +1,7 @@
 package com.j30n.stoblyx.domain.repository;
 
 import com.j30n.stoblyx.domain.model.Quote;
+import com.j30n.stoblyx.domain.model.SearchKey;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -8,6 +9,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +18,7 @@ import java.util.Optional;
  * 명언 JPA 리포지토리
  */
 public interface QuoteRepository extends JpaRepository<Quote, Long> {
+    @EntityGraph(Quote.LIST_GRAPH)
     Page<Quote> findByUserId(Long userId, Pageable pageable);
 
     @Query("SELECT CASE WHEN COUNT(q) > 0 THEN true ELSE false END FROM Quote q WHERE q.id = :id AND q.user.id = :userId")
@@ -78,4 +82,42 @@ public interface QuoteRepository extends JpaRepository<Quote, Long> {
         @Param("category") String category,
         Pageable pageable
     );
-}
\ No newline at end of file
+
+    /**
+     * 키셋 기반 페이징을 사용한 인용구 검색 키 조회 (최신순)
+     * OFFSET 과 COUNT 쿼리 없이 마지막으로 읽은 (생성 시각, ID) 이후만 조회합니다.
+     */
+    @Query("SELECT new com.j30n.stoblyx.domain.model.SearchKey(q.id, q.createdAt) FROM Quote q " +
+           "JOIN q.book b " +
+           "WHERE q.isDeleted = false " +
+           "AND (:keyword IS NULL OR LOWER(q.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+           "AND (:category IS NULL OR :category MEMBER OF b.genres) " +
+           "AND (:lastCreatedAt IS NULL OR q.createdAt < :lastCreatedAt " +
+           "OR (q.createdAt = :lastCreatedAt AND q.id < :lastId)) " +
+           "ORDER BY q.createdAt DESC, q.id DESC")
+    List<SearchKey> findSearchKeysWithKeyset(
+        @Param("keyword") String keyword,
+        @Param("category") String category,
+        @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+        @Param("lastId") Long lastId,
+        Pageable pageable
+    );
+
+    /**
+     * 여러 책의 삭제되지 않은 인용구 조회 (사용자와 책 정보 함께 로딩)
+     */
+    @EntityGraph(attributePaths = {"user", "book"})
+    Page<Quote> findByBook_IdInAndIsDeletedFalse(Collection<Long> bookIds, Pageable pageable);
+
+    /**
+     * 좋아요 순 삭제되지 않은 인용구 조회 (사용자와 책 정보 함께 로딩)
+     */
+    @EntityGraph(attributePaths = {"user", "book"})
+    Page<Quote> findByIsDeletedFalseOrderByLikeCountDesc(Pageable pageable);
+
+    /**
+     * ID 목록의 삭제되지 않은 인용구 조회 (사용자와 책 정보 함께 로딩)
+     */
+    @EntityGraph(attributePaths = {"user", "book"})
+    List<Quote> findByIdInAndIsDeletedFalse(Collection<Long> ids);
+}
@@ -1,13 +1,19 @@
 package com.j30n.stoblyx.domain.repository;
 
+import com.j30n.stoblyx.domain.model.ItemEngagement;
 import com.j30n.stoblyx.domain.model.Quote;
 import com.j30n.stoblyx.domain.model.SavedQuote;
 import com.j30n.stoblyx.domain.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,8 +34,9 @@ public interface SavedQuoteRepository extends JpaRepository<SavedQuote, Long> {
     Optional<SavedQuote> findByUserIdAndQuoteId(Long userId, Long quoteId);
     
     /**
-     * 사용자 ID로 저장된 인용구 목록을 찾습니다.
+     * 사용자 ID로 저장된 인용구 목록을 찾습니다. 응답에 쓰이는 인용구와 작성자, 도서를 함께 조인합니다.
      */
+    @EntityGraph(attributePaths = {"quote", "quote.user", "quote.book", "quote.summary"})
     Page<SavedQuote> findByUserId(Long userId, Pageable pageable);
     
     /**
@@ -51,4 +58,44 @@ public interface SavedQuoteRepository extends JpaRepository<SavedQuote, Long> {
      * 사용자 ID로 모든 저장된 인용구를 삭제합니다.
      */
     void deleteByUserId(Long userId);
-} 
\ No newline at end of file
+
+    /**
+     * 사용자 ID 구간에 속한 사용자의 인용구 저장을 (사용자, 도서) 쌍으로 조회합니다.
+     */
+    @Query("SELECT new com.j30n.stoblyx.domain.model.ItemEngagement(s.user.id, q.book.id) FROM SavedQuote s JOIN s.quote q " +
+        "WHERE s.isDeleted = false AND q.book IS NOT NULL AND s.user.id > :fromUserId AND s.user.id <= :toUserId")
+    List<ItemEngagement> findBookEngagementsByUserIdRange(@Param("fromUserId") Long fromUserId,
+                                                          @Param("toUserId") Long toUserId);
+
+    /**
+     * 주어진 사용자들의 인용구 저장을 (사용자, 도서) 쌍으로 조회합니다.
+     */
+    @Query("SELECT new com.j30n.stoblyx.domain.model.ItemEngagement(s.user.id, q.book.id) FROM SavedQuote s JOIN s.quote q " +
+        "WHERE s.isDeleted = false AND q.book IS NOT NULL AND s.user.id IN :userIds")
+    List<ItemEngagement> findBookEngagementsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 주어진 도서의 인용구를 저장한 사용자 ID를 조회합니다.
+     */
+    @Query("SELECT DISTINCT s.user.id FROM SavedQuote s WHERE s.isDeleted = false AND s.quote.book.id IN :bookIds")
+    List<Long> findUserIdsByBookIdIn(@Param("bookIds") Collection<Long> bookIds);
+
+    /**
+     * 기준 시각 이후 인용구 저장이 생성되거나 변경된 도서 ID를 조회합니다.
+     */
+    @Query("SELECT DISTINCT s.quote.book.id FROM SavedQuote s WHERE s.createdAt > :since OR s.modifiedAt > :since")
+    List<Long> findBookIdsChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 사용자가 저장한 인용구 ID를 조회합니다.
+     */
+    @Query("SELECT s.quote.id FROM SavedQuote s WHERE s.isDeleted = false AND s.user.id = :userId")
+    List<Long> findQuoteIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 주어진 인용구 중 사용자가 저장한 인용구 ID를 한 번에 조회합니다.
+     */
+    @Query("SELECT s.quote.id FROM SavedQuote s WHERE s.isDeleted = false AND s.user.id = :userId AND s.quote.id IN :quoteIds")
+    List<Long> findQuoteIdsByUserIdAndQuoteIdIn(@Param("userId") Long userId,
+                                               @Param("quoteIds") Collection<Long> quoteIds);
+}
@@ -5,6 +5,8 @@ import com.j30n.stoblyx.domain.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -47,4 +49,12 @@ public interface SearchRepository extends JpaRepository<Search, Long> {
      * 사용자의 최근 검색 기록을 찾습니다.
      */
     List<Search> findTop10ByUserOrderByLastSearchedAtDesc(User user);
-} 
\ No newline at end of file
+
+    /**
+     * 기준 시각 이후 검색한 사용자 ID를 최근 검색 순으로 찾습니다.
+     */
+    @Query("SELECT s.user.id FROM Search s " +
+        "WHERE s.user IS NOT NULL AND s.lastSearchedAt >= :since " +
+        "GROUP BY s.user.id ORDER BY MAX(s.lastSearchedAt) DESC")
+    List<Long> findRecentlyActiveUserIds(@Param("since") LocalDateTime since, Pageable pageable);
+}
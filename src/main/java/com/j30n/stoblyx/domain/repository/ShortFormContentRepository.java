@@ -5,12 +5,14 @@ import com.j30n.stoblyx.domain.enums.ContentType;
 import com.j30n.stoblyx.domain.model.ShortFormContent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,22 +21,35 @@ public interface ShortFormContentRepository extends JpaRepository<ShortFormConte
 
     Optional<ShortFormContent> findByIdAndIsDeletedFalse(Long id);
 
+    @EntityGraph(ShortFormContent.LIST_GRAPH)
     Page<ShortFormContent> findByIsDeletedFalse(Pageable pageable);
 
+    @EntityGraph(ShortFormContent.LIST_GRAPH)
     Page<ShortFormContent> findByQuote_User_IdAndIsDeletedFalse(Long userId, Pageable pageable);
 
+    @EntityGraph(ShortFormContent.LIST_GRAPH)
     Page<ShortFormContent> findByBook_IdAndIsDeletedFalse(Long bookId, Pageable pageable);
 
+    @EntityGraph(ShortFormContent.LIST_GRAPH)
+    Page<ShortFormContent> findByBook_IdInAndIsDeletedFalse(Collection<Long> bookIds, Pageable pageable);
+
+    @EntityGraph(ShortFormContent.LIST_GRAPH)
+    List<ShortFormContent> findByIdInAndIsDeletedFalse(Collection<Long> ids);
+
+    @EntityGraph(ShortFormContent.LIST_GRAPH)
     Page<ShortFormContent> findBySubtitlesContainingAndIsDeletedFalse(String keyword, Pageable pageable);
 
+    @EntityGraph(ShortFormContent.LIST_GRAPH)
     @Query("SELECT c FROM ShortFormContent c WHERE c.isDeleted = false " +
         "ORDER BY c.viewCount DESC, c.likeCount DESC, c.shareCount DESC")
     Page<ShortFormContent> findTrendingContents(Pageable pageable);
 
+    @EntityGraph(ShortFormContent.LIST_GRAPH)
     @Query("SELECT c FROM ShortFormContent c WHERE c.isDeleted = false " +
         "ORDER BY c.likeCount DESC, c.viewCount DESC, c.shareCount DESC")
     Page<ShortFormContent> findPopularContents(Pageable pageable);
 
+    @EntityGraph(ShortFormContent.LIST_GRAPH)
     @Query("SELECT c FROM ShortFormContent c " +
         "WHERE c.isDeleted = false " +
         "AND (c.book.id IN (SELECT q.book.id FROM Quote q WHERE q.user.id = :userId) " +
@@ -49,6 +64,7 @@ public interface ShortFormContentRepository extends JpaRepository<ShortFormConte
         "ORDER BY s.viewCount DESC, s.likeCount DESC")
     Page<ShortFormContent> findRecommendedContentsOriginal(@Param("userId") Long userId, Pageable pageable);
 
+    @EntityGraph(ShortFormContent.LIST_GRAPH)
     @Query("SELECT s FROM ShortFormContent s " +
         "WHERE s.isDeleted = false " +
         "AND s.status = 'PUBLISHED' " +
@@ -59,6 +75,12 @@ public interface ShortFormContentRepository extends JpaRepository<ShortFormConte
 
     boolean existsByVideoUrl(String videoUrl);
 
+    /**
+     * 음성 URL 이 패턴과 맞는 콘텐츠의 음성 URL 만 조회합니다. 삭제된 콘텐츠도 포함합니다.
+     */
+    @Query("SELECT s.audioUrl FROM ShortFormContent s WHERE s.audioUrl LIKE :pattern")
+    List<String> findAudioUrlsLike(@Param("pattern") String pattern);
+
     /**
      * 상태별로 삭제되지 않은 콘텐츠를 조회합니다.
      *
@@ -66,6 +88,7 @@ public interface ShortFormContentRepository extends JpaRepository<ShortFormConte
      * @param pageable 페이징 정보
      * @return 콘텐츠 목록
      */
+    @EntityGraph(ShortFormContent.LIST_GRAPH)
     Page<ShortFormContent> findByStatusAndIsDeletedFalse(ContentStatus status, Pageable pageable);
 
     /**
@@ -0,0 +1,39 @@
+package com.j30n.stoblyx.domain.repository;
+
+import com.j30n.stoblyx.domain.enums.RecommendationItemType;
+import com.j30n.stoblyx.domain.model.UserRecommendationList;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자별 추천 목록 리포지토리
+ */
+@Repository
+public interface UserRecommendationListRepository extends JpaRepository<UserRecommendationList, Long> {
+
+    /**
+     * 사용자의 유형별 추천 목록을 조회합니다.
+     */
+    Optional<UserRecommendationList> findByUserIdAndItemType(Long userId, RecommendationItemType itemType);
+
+    /**
+     * 사용자들의 추천 목록을 모두 조회합니다.
+     */
+    List<UserRecommendationList> findByUserIdIn(Collection<Long> userIds);
+
+    /**
+     * 주어진 사용자 중 기준 시각 이후 목록이 계산된 사용자 ID를 조회합니다.
+     */
+    @Query("SELECT l.userId FROM UserRecommendationList l " +
+        "WHERE l.itemType = :itemType AND l.userId IN :userIds AND l.generatedAt >= :since")
+    List<Long> findUserIdsGeneratedSince(@Param("itemType") RecommendationItemType itemType,
+                                         @Param("userIds") Collection<Long> userIds,
+                                         @Param("since") LocalDateTime since);
+}
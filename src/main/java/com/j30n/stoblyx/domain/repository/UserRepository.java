@@ -1,6 +1,9 @@
 package com.j30n.stoblyx.domain.repository;
 
 import com.j30n.stoblyx.domain.model.User;
+import com.j30n.stoblyx.domain.model.UserAccountSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -84,4 +87,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 특정 사용자의 특정 기간 내 로그인 수 조회
     @Query("SELECT COUNT(u) FROM User u WHERE u.id = :userId AND u.lastLoginAt BETWEEN :start AND :end")
     long countLoginsByUserIdAndDateBetween(@Param("userId") Long userId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
-} 
\ No newline at end of file
+
+    /**
+     * 가장 큰 사용자 ID를 조회합니다. 사용자 ID 구간 단위 일괄 처리의 상한으로 사용합니다.
+     */
+    @Query("SELECT MAX(u.id) FROM User u")
+    Long findMaxId();
+
+    /**
+     * 관리자 사용자 목록에 필요한 컬럼만 페이지 단위로 조회합니다.
+     * 엔티티를 읽지 않으므로 사용자마다 인증 정보와 관심사를 조회하는 추가 쿼리가 생기지 않습니다.
+     */
+    @Query(value = "SELECT new com.j30n.stoblyx.domain.model.UserAccountSummary(u.id, u.username, u.nickname, u.email, " +
+        "u.profileImageUrl, u.role, u.accountStatus, u.createdAt, u.modifiedAt, u.lastLoginAt) FROM User u",
+        countQuery = "SELECT COUNT(u) FROM User u")
+    Page<UserAccountSummary> findAccountSummaries(Pageable pageable);
+}
@@ -0,0 +1,30 @@
+package com.j30n.stoblyx.adapter.in.web.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MediaController 테스트")
+class MediaControllerTest {
+
+    @TempDir
+    Path bgmDir;
+
+    @Test
+    @DisplayName("함께 배포된 BGM 음원을 디렉토리에 채우고, 이미 있는 파일은 덮어쓰지 않는다")
+    void installBundledBgm_copiesMissingTracksOnly() throws Exception {
+        Path replaced = Files.writeString(bgmDir.resolve("calm.mp3"), "custom");
+
+        MediaController.installBundledBgm(bgmDir);
+
+        assertThat(bgmDir.resolve("neutral.mp3")).exists();
+        assertThat(bgmDir.resolve("happy.mp3")).exists();
+        assertThat(bgmDir.resolve("sad.mp3")).exists();
+        assertThat(Files.readString(replaced)).isEqualTo("custom");
+    }
+}
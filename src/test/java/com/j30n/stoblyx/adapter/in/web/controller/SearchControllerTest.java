@@ -1,10 +1,17 @@
 package com.j30n.stoblyx.adapter.in.web.controller;
 
+import com.j30n.stoblyx.adapter.in.web.dto.recommendation.PopularTermResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.search.SearchCursorResponse;
 import com.j30n.stoblyx.adapter.in.web.dto.search.SearchRequest;
 import com.j30n.stoblyx.adapter.in.web.dto.search.SearchResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.search.SuggestionResponse;
+import com.j30n.stoblyx.application.port.in.search.AutocompleteUseCase;
+import com.j30n.stoblyx.application.port.in.search.PopularSearchTermUseCase;
 import com.j30n.stoblyx.application.port.in.search.SearchUseCase;
 import com.j30n.stoblyx.config.WebMvcTestConfig;
+import com.j30n.stoblyx.domain.enums.PopularTermWindow;
 import com.j30n.stoblyx.domain.model.Search;
+import com.j30n.stoblyx.domain.model.TermCount;
 import com.j30n.stoblyx.support.docs.RestDocsUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -34,6 +41,7 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
@@ -60,6 +68,12 @@ class SearchControllerTest {
     @MockBean
     private SearchUseCase searchUseCase;
 
+    @MockBean
+    private AutocompleteUseCase autocompleteUseCase;
+
+    @MockBean
+    private PopularSearchTermUseCase popularSearchTermUseCase;
+
     @BeforeEach
     void setUp(RestDocumentationContextProvider restDocumentation) {
         this.mockMvc = MockMvcBuilders
@@ -142,6 +156,127 @@ class SearchControllerTest {
         verify(searchUseCase).search(any(SearchRequest.class), any());
     }
 
+    @Test
+    @DisplayName("커서 기반 통합 검색 API가 정상적으로 동작해야 한다")
+    void searchAll() throws Exception {
+        // given
+        SearchResponse result = SearchResponse.builder()
+            .id(1L)
+            .type("QUOTE")
+            .title("테스트 책")
+            .content("테스트 문구")
+            .author("테스트 작가")
+            .category("테스트 카테고리")
+            .createdAt(LocalDateTime.now())
+            .build();
+        SearchCursorResponse response = new SearchCursorResponse(List.of(result), "MXwtfHg", true);
+
+        when(searchUseCase.searchAll(any(SearchRequest.class), eq("MXwtfC0"), eq(1))).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/search/all")
+                .with(testUser)
+                .param("keyword", "테스트")
+                .param("cursor", "MXwtfC0")
+                .param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result").value("SUCCESS"))
+            .andExpect(jsonPath("$.data.items[0].type").value("QUOTE"))
+            .andExpect(jsonPath("$.data.nextCursor").value("MXwtfHg"))
+            .andDo(document("search/search-all",
+                queryParameters(
+                    parameterWithName("keyword").description("검색 키워드"),
+                    parameterWithName("category").description("카테고리").optional(),
+                    parameterWithName("cursor").description("다음 페이지 커서 (첫 페이지면 생략)").optional(),
+                    parameterWithName("size").description("페이지 크기 (최대 100)").optional()
+                ),
+                relaxedResponseFields(
+                    RestDocsUtils.getCommonResponseFieldsWithData())
+                    .andWithPrefix("data.items[].",
+                        fieldWithPath("id").type(JsonFieldType.NUMBER).description("검색 결과 ID"),
+                        fieldWithPath("type").type(JsonFieldType.STRING).description("검색 결과 타입 (QUOTE, BOOK)"),
+                        fieldWithPath("title").type(JsonFieldType.STRING).description("제목"),
+                        fieldWithPath("content").type(JsonFieldType.STRING).description("내용"),
+                        fieldWithPath("author").type(JsonFieldType.STRING).description("작성자"),
+                        fieldWithPath("category").type(JsonFieldType.STRING).description("카테고리"),
+                        fieldWithPath("createdAt").type(JsonFieldType.STRING).description("생성 시간")
+                    )
+                    .andWithPrefix("data.",
+                        fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 페이지 커서"),
+                        fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부")
+                    )
+            ));
+
+        verify(searchUseCase).searchAll(any(SearchRequest.class), eq("MXwtfC0"), eq(1));
+    }
+
+    @Test
+    @DisplayName("검색어 자동완성 API가 정상적으로 동작해야 한다")
+    void getSuggestions() throws Exception {
+        // given
+        when(autocompleteUseCase.suggest("ㅎㄹ", 5)).thenReturn(List.of(
+            new SuggestionResponse("해리 포터와 마법사의 돌", "BOOK_TITLE"),
+            new SuggestionResponse("한로로", "AUTHOR")));
+
+        // when & then
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/search/suggestions")
+                .param("q", "ㅎㄹ")
+                .param("limit", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result").value("SUCCESS"))
+            .andExpect(jsonPath("$.data[0].text").value("해리 포터와 마법사의 돌"))
+            .andExpect(jsonPath("$.data[1].type").value("AUTHOR"))
+            .andDo(document("search/suggestions",
+                queryParameters(
+                    parameterWithName("q").description("입력 중인 검색어 (초성 입력 가능)"),
+                    parameterWithName("limit").description("최대 추천어 수").optional()
+                ),
+                responseFields(
+                    fieldWithPath("result").type(JsonFieldType.STRING).description("결과 상태 (SUCCESS/ERROR)"),
+                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과 메시지"),
+                    fieldWithPath("data").type(JsonFieldType.ARRAY).description("추천어 목록")
+                ).andWithPrefix("data[].",
+                    fieldWithPath("text").type(JsonFieldType.STRING).description("추천어"),
+                    fieldWithPath("type").type(JsonFieldType.STRING).description("추천어 출처 (SEARCH_TERM, BOOK_TITLE, AUTHOR)")
+                )
+            ));
+
+        verify(autocompleteUseCase).suggest("ㅎㄹ", 5);
+        verifyNoInteractions(searchUseCase);
+    }
+
+    @Test
+    @DisplayName("인기 검색어 조회 API는 요청한 집계 구간의 검색어를 순서대로 반환해야 한다")
+    void getPopularSearchTerms() throws Exception {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        when(popularSearchTermUseCase.getPopularTerms(PopularTermWindow.HOUR, 2)).thenReturn(List.of(
+            PopularTermResponse.of(new TermCount("철학", 12), now),
+            PopularTermResponse.of(new TermCount("소설", 7), now)));
+
+        // when & then
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/search/popular-terms")
+                .param("limit", "2")
+                .param("window", "1h"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result").value("SUCCESS"))
+            .andExpect(jsonPath("$.data[0]").value("철학"))
+            .andExpect(jsonPath("$.data[1]").value("소설"))
+            .andDo(document("search/popular-terms",
+                queryParameters(
+                    parameterWithName("limit").description("조회할 인기 검색어 수").optional(),
+                    parameterWithName("window").description("집계 구간 (1h, 24h, 7d, 기본값 24h)").optional()
+                ),
+                responseFields(
+                    fieldWithPath("result").type(JsonFieldType.STRING).description("결과 상태 (SUCCESS/ERROR)"),
+                    fieldWithPath("message").type(JsonFieldType.STRING).description("결과 메시지"),
+                    fieldWithPath("data").type(JsonFieldType.ARRAY).description("검색 횟수 순 인기 검색어 목록")
+                )
+            ));
+
+        verify(popularSearchTermUseCase).getPopularTerms(PopularTermWindow.HOUR, 2);
+    }
+
     @Test
     @DisplayName("사용자 검색 기록 조회 API가 정상적으로 동작해야 한다")
     void getUserSearchHistory() throws Exception {
@@ -0,0 +1,150 @@
+package com.j30n.stoblyx.adapter.in.web.support;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.startup.Tomcat;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 Tomcat 위에서 큰 파일을 여러 클라이언트가 동시에 전체 또는 구간으로 받아도 내용과 받은 바이트 수가
+ * 정확한지 확인합니다. 전체 전송과 큰 구간 전송은 sendfile 경로를 탑니다.
+ */
+@DisplayName("MediaFileSender 동시 전송 테스트")
+class MediaFileSenderConcurrentDownloadTest {
+
+    private static final int FILE_BYTES = 16 * 1024 * 1024;
+    private static final int CLIENTS = 8;
+    private static final int DOWNLOADS_PER_CLIENT = 4;
+
+    @TempDir
+    static Path dir;
+
+    private static Tomcat tomcat;
+    private static Path file;
+    private static byte[] content;
+    private static URI uri;
+
+    @BeforeAll
+    static void startServer() throws Exception {
+        content = new byte[FILE_BYTES];
+        new Random(42).nextBytes(content);
+        file = Files.write(dir.resolve("large.mp3"), content);
+
+        MediaFileSender sender = new MediaFileSender();
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(dir.resolve("tomcat").toString());
+        tomcat.setPort(0);
+        tomcat.getConnector();
+        Context context = tomcat.addContext("", dir.toString());
+        Tomcat.addServlet(context, "media", new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                sender.send(file, null, request, response);
+            }
+        });
+        context.addServletMappingDecoded("/*", "media");
+        tomcat.start();
+        uri = URI.create("http://localhost:" + tomcat.getConnector().getLocalPort() + "/large.mp3");
+    }
+
+    @AfterAll
+    static void stopServer() throws Exception {
+        if (tomcat != null) {
+            tomcat.stop();
+            tomcat.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 클라이언트가 동시에 전체와 구간을 받아도 모두 원본과 같은 바이트를 받는다")
+    void concurrentDownloads() throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        byte[] expectedDigest = MessageDigest.getInstance("SHA-256").digest(content);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<Long>> results = new ArrayList<>();
+
+        for (int c = 0; c < CLIENTS; c++) {
+            int clientIndex = c;
+            results.add(clients.submit(() -> {
+                long received = 0;
+                Random random = new Random(clientIndex);
+                for (int d = 0; d < DOWNLOADS_PER_CLIENT; d++) {
+                    if (d % 2 == 0) {
+                        received += downloadFull(client, expectedDigest);
+                    } else {
+                        int from = random.nextInt(FILE_BYTES / 2);
+                        received += downloadRange(client, from, from + FILE_BYTES / 4);
+                    }
+                }
+                return received;
+            }));
+        }
+        long totalBytes = 0;
+        for (Future<Long> result : results) {
+            totalBytes += result.get(2, TimeUnit.MINUTES);
+        }
+        clients.shutdown();
+
+        assertThat(totalBytes).isEqualTo((long) CLIENTS * DOWNLOADS_PER_CLIENT / 2 * (FILE_BYTES + FILE_BYTES / 4 + 1));
+    }
+
+    private static long downloadFull(HttpClient client, byte[] expectedDigest) throws Exception {
+        HttpResponse<InputStream> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+            HttpResponse.BodyHandlers.ofInputStream());
+        assertThat(response.statusCode()).isEqualTo(200);
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        long received = 0;
+        try (InputStream body = response.body()) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = body.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+                received += read;
+            }
+        }
+        assertThat(received).isEqualTo(FILE_BYTES);
+        assertThat(digest.digest()).isEqualTo(expectedDigest);
+        return received;
+    }
+
+    private static long downloadRange(HttpClient client, int from, int to) throws Exception {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri)
+            .header("Range", "bytes=" + from + "-" + to).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(206);
+        assertThat(response.headers().firstValue("Content-Range"))
+            .hasValue("bytes " + from + "-" + to + "/" + FILE_BYTES);
+        byte[] body = response.body();
+        assertThat(body).hasSize(to - from + 1);
+        for (int i = 0; i < body.length; i++) {
+            if (body[i] != content[from + i]) {
+                throw new AssertionError("구간 " + from + "-" + to + " 의 " + i + "번째 바이트가 다릅니다.");
+            }
+        }
+        return body.length;
+    }
+}
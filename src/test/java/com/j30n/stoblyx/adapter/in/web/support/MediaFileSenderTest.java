@@ -0,0 +1,227 @@
+package com.j30n.stoblyx.adapter.in.web.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MediaFileSender 테스트")
+class MediaFileSenderTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    @TempDir
+    Path dir;
+
+    private final MediaFileSender sender = new MediaFileSender();
+    private Path file;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        file = Files.write(dir.resolve("narration.mp3"), content);
+    }
+
+    @Test
+    @DisplayName("구간 요청이 없으면 전체를 보내고 검증자와 캐시 헤더를 붙인다")
+    void send_fullContentWithValidators() throws Exception {
+        MockHttpServletResponse response = send(get());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+        assertThat(response.getContentType()).isEqualTo("audio/mpeg");
+        assertThat(response.getContentLengthLong()).isEqualTo(1000);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"3e8-");
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNotNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo(MediaFileSender.REVALIDATE_CACHE_CONTROL);
+    }
+
+    @Test
+    @DisplayName("내용 해시가 있으면 해시를 ETag 로 쓰고 immutable 캐시를 허용한다")
+    void send_contentAddressedIsImmutable() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sender.send(file, HASH, get(), response);
+
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + HASH + "\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo(MediaFileSender.IMMUTABLE_CACHE_CONTROL);
+    }
+
+    @Test
+    @DisplayName("내용 해시가 있으면 캐시 적중마다 바뀌는 수정 시각 대신 ETag 로만 검증한다")
+    void send_contentAddressedIgnoresModificationTime() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        sender.send(file, HASH, get(), first);
+        assertThat(first.getHeader(HttpHeaders.LAST_MODIFIED)).isNull();
+
+        // 캐시 적중으로 수정 시각이 갱신되어도 ETag 는 그대로 304
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+        MockHttpServletRequest ifNoneMatch = get();
+        ifNoneMatch.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse revalidated = new MockHttpServletResponse();
+        sender.send(file, HASH, ifNoneMatch, revalidated);
+        assertThat(revalidated.getStatus()).isEqualTo(304);
+
+        MockHttpServletRequest dateRange = get();
+        dateRange.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        dateRange.addHeader(HttpHeaders.IF_RANGE, httpDate(Files.getLastModifiedTime(file).toMillis()));
+        MockHttpServletResponse full = new MockHttpServletResponse();
+        sender.send(file, HASH, dateRange, full);
+        assertThat(full.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("구간 하나를 요청하면 206 과 Content-Range 로 그 부분만 보낸다")
+    void send_singleRange() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-199");
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 100-199/1000");
+        assertThat(response.getContentLengthLong()).isEqualTo(100);
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 100, 200));
+
+        MockHttpServletRequest suffix = get();
+        suffix.addHeader(HttpHeaders.RANGE, "bytes=-50");
+        MockHttpServletResponse suffixResponse = send(suffix);
+        assertThat(suffixResponse.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 950-999/1000");
+        assertThat(suffixResponse.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 950, 1000));
+    }
+
+    @Test
+    @DisplayName("여러 구간을 요청하면 multipart/byteranges 로 구간마다 나눠 보낸다")
+    void send_multipleRanges() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9, 500-, -5");
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+        String boundary = response.getContentType().substring(response.getContentType().indexOf('=') + 1);
+        byte[] body = response.getContentAsByteArray();
+        assertThat(response.getContentLengthLong()).isEqualTo(body.length);
+
+        String text = new String(body, StandardCharsets.ISO_8859_1);
+        assertThat(text).contains("Content-Range: bytes 0-9/1000", "Content-Range: bytes 500-999/1000",
+            "Content-Range: bytes 995-999/1000").endsWith("\r\n--" + boundary + "--\r\n");
+        String[] parts = text.split("\r\n--" + boundary + "(--)?\r\n");
+        assertThat(parts).hasSize(4);
+        assertThat(partBody(parts[1])).isEqualTo(Arrays.copyOfRange(content, 0, 10));
+        assertThat(partBody(parts[2])).isEqualTo(Arrays.copyOfRange(content, 500, 1000));
+        assertThat(partBody(parts[3])).isEqualTo(Arrays.copyOfRange(content, 995, 1000));
+    }
+
+    @Test
+    @DisplayName("만족할 수 없는 구간은 416, 형식이 틀린 구간은 무시하고 전체를 보낸다")
+    void send_unsatisfiableAndInvalidRanges() throws Exception {
+        MockHttpServletRequest unsatisfiable = get();
+        unsatisfiable.addHeader(HttpHeaders.RANGE, "bytes=1000-2000");
+        MockHttpServletResponse response = send(unsatisfiable);
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */1000");
+
+        MockHttpServletRequest invalid = get();
+        invalid.addHeader(HttpHeaders.RANGE, "bytes=20-10");
+        MockHttpServletResponse full = send(invalid);
+        assertThat(full.getStatus()).isEqualTo(200);
+        assertThat(full.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 맞거나 If-Modified-Since 이후 바뀌지 않았으면 본문 없이 304 를 보낸다")
+    void send_conditionalRequests() throws Exception {
+        String etag = send(get()).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest ifNoneMatch = get();
+        ifNoneMatch.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag);
+        MockHttpServletResponse notModified = send(ifNoneMatch);
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getContentAsByteArray()).isEmpty();
+        assertThat(notModified.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+
+        MockHttpServletRequest changed = get();
+        changed.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\"");
+        assertThat(send(changed).getStatus()).isEqualTo(200);
+
+        MockHttpServletRequest ifModifiedSince = get();
+        ifModifiedSince.addHeader(HttpHeaders.IF_MODIFIED_SINCE, httpDate(Files.getLastModifiedTime(file).toMillis()));
+        assertThat(send(ifModifiedSince).getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("If-Range 가 현재 ETag 나 수정 시각과 맞을 때만 구간을 보내고, 아니면 전체를 보낸다")
+    void send_ifRange() throws Exception {
+        String etag = send(get()).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest matching = get();
+        matching.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        matching.addHeader(HttpHeaders.IF_RANGE, etag);
+        assertThat(send(matching).getStatus()).isEqualTo(206);
+
+        MockHttpServletRequest matchingDate = get();
+        matchingDate.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        matchingDate.addHeader(HttpHeaders.IF_RANGE, httpDate(Files.getLastModifiedTime(file).toMillis()));
+        assertThat(send(matchingDate).getStatus()).isEqualTo(206);
+
+        for (String stale : new String[]{"\"stale\"", "W/" + etag, httpDate(0)}) {
+            MockHttpServletRequest request = get();
+            request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+            request.addHeader(HttpHeaders.IF_RANGE, stale);
+            MockHttpServletResponse response = send(request);
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getContentAsByteArray()).hasSize(1000);
+        }
+    }
+
+    @Test
+    @DisplayName("HEAD 요청은 헤더만 보내고, 없는 파일은 404 를 보낸다")
+    void send_headAndMissingFile() throws Exception {
+        MockHttpServletRequest head = new MockHttpServletRequest("HEAD", "/media/audio/narration.mp3");
+        head.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        MockHttpServletResponse response = send(head);
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+
+        MockHttpServletResponse missing = new MockHttpServletResponse();
+        sender.send(dir.resolve("missing.mp3"), null, get(), missing);
+        assertThat(missing.getStatus()).isEqualTo(404);
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sender.send(file, null, request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/media/audio/narration.mp3");
+    }
+
+    private static byte[] partBody(String part) {
+        return part.substring(part.indexOf("\r\n\r\n") + 4).getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static String httpDate(long epochMillis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(epochMillis).atZone(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,197 @@
+package com.j30n.stoblyx.adapter.out.persistence;
+
+import com.j30n.stoblyx.adapter.out.persistence.content.ContentGenerationJobPersistenceAdapter;
+import com.j30n.stoblyx.adapter.out.persistence.content.ContentPersistenceAdapter;
+import com.j30n.stoblyx.application.port.out.content.ContentPort;
+import com.j30n.stoblyx.application.service.content.ContentGenerationJobService;
+import com.j30n.stoblyx.config.JpaTestConfig;
+import com.j30n.stoblyx.domain.enums.ContentStatus;
+import com.j30n.stoblyx.domain.enums.GenerationJobStatus;
+import com.j30n.stoblyx.domain.model.*;
+import com.j30n.stoblyx.domain.repository.ContentGenerationJobRepository;
+import com.j30n.stoblyx.domain.repository.QuoteRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 콘텐츠 생성 작업 큐가 동시 임대, 재시도, 임대 만료 복구, 멱등 등록을 올바르게 처리하는지 검증합니다.
+ * 작업자마다 별도 트랜잭션으로 임대해야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaTestConfig.class, ContentGenerationJobPersistenceAdapter.class, ContentPersistenceAdapter.class})
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:content-generation-jobs;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.sql.init.mode=never",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("콘텐츠 생성 작업 큐 테스트")
+class ContentGenerationJobQueueTest {
+
+    @Autowired
+    private ContentGenerationJobPersistenceAdapter jobAdapter;
+
+    @Autowired
+    private ContentGenerationJobRepository jobRepository;
+
+    @Autowired
+    private ContentPort contentPort;
+
+    @Autowired
+    private QuoteRepository quoteRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM ContentGenerationJob").executeUpdate();
+            entityManager.createQuery("DELETE FROM ShortFormContent").executeUpdate();
+            entityManager.createQuery("DELETE FROM Quote").executeUpdate();
+            entityManager.createQuery("DELETE FROM Book").executeUpdate();
+            entityManager.createQuery("DELETE FROM User").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("여러 작업자가 동시에 임대해도 모든 작업이 정확히 한 번씩만 임대된다")
+    void claim_givesEachJobToOneWorker() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        for (long i = 1; i <= 30; i++) {
+            jobAdapter.save(ContentGenerationJob.builder().quoteId(i).contentId(i).availableAt(now.minusSeconds(i)).build());
+        }
+
+        int workers = 6;
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Long> claimed = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<ContentGenerationJob> batch;
+                do {
+                    LocalDateTime claimedAt = LocalDateTime.now();
+                    batch = jobAdapter.claim(4, claimedAt, claimedAt.plusMinutes(2));
+                    batch.forEach(job -> claimed.add(job.getId()));
+                } while (!batch.isEmpty());
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(claimed).hasSize(30).doesNotHaveDuplicates();
+        assertThat(jobRepository.findAll()).allSatisfy(job -> {
+            assertThat(job.getStatus()).isEqualTo(GenerationJobStatus.RUNNING);
+            assertThat(job.getAttempts()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("미룬 작업은 대기 시각 전에는 임대되지 않고, 임대가 만료된 작업은 대기열로 돌아가며 이전 임대로는 완료할 수 없다")
+    void rescheduleAndLeaseExpiry() {
+        // DB 는 마이크로초까지만 저장하므로 반올림된 대기 시각이 now 를 넘지 않도록 자름
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        jobAdapter.save(ContentGenerationJob.builder().quoteId(1L).contentId(1L).availableAt(now).build());
+
+        ContentGenerationJob first = jobAdapter.claim(1, now, now.plusMinutes(2)).get(0);
+        assertThat(jobAdapter.reschedule(first.getId(), "other-lease", now.plusSeconds(10), "오류", now)).isFalse();
+        assertThat(jobAdapter.reschedule(first.getId(), first.getLeaseToken(), now.plusSeconds(10), "오류", now)).isTrue();
+        assertThat(jobAdapter.claim(1, now.plusSeconds(5), now.plusMinutes(2))).isEmpty();
+
+        ContentGenerationJob second = jobAdapter.claim(1, now.plusSeconds(10), now.plusSeconds(20)).get(0);
+        assertThat(second.getAttempts()).isEqualTo(2);
+        assertThat(jobAdapter.releaseExpiredLeases(now.plusSeconds(15))).isZero();
+        assertThat(jobAdapter.releaseExpiredLeases(now.plusSeconds(21))).isEqualTo(1);
+
+        ContentGenerationJob third = jobAdapter.claim(1, now.plusSeconds(21), now.plusMinutes(2)).get(0);
+        assertThat(jobAdapter.complete(second.getId(), second.getLeaseToken(), now.plusSeconds(22))).isFalse();
+        assertThat(jobAdapter.complete(third.getId(), third.getLeaseToken(), now.plusSeconds(22))).isTrue();
+        assertThat(jobAdapter.countByStatus()).containsEntry(GenerationJobStatus.COMPLETED, 1L);
+        assertThat(jobAdapter.countFinishedSince(GenerationJobStatus.COMPLETED, now)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 인용구의 요청은 한 작업으로 모이고, 재시도 한도를 넘겨 포기한 작업만 다시 등록된다")
+    void enqueue_isIdempotentPerQuote() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Long quoteId = tx.execute(status -> {
+            User user = User.builder()
+                .username("writer").password("password").nickname("작가").email("writer@example.com").build();
+            entityManager.persist(user);
+            Book book = new Book(BookInfo.builder().title("데미안").author("헤르만 헤세").build());
+            entityManager.persist(book);
+            Quote quote = Quote.builder().user(user).book(book).content("새는 알에서 나오려고 투쟁한다.").page(1).build();
+            entityManager.persist(quote);
+            return quote.getId();
+        });
+        ContentGenerationJobService service = new ContentGenerationJobService(jobAdapter, contentPort, quoteRepository,
+            null, null, 2, 1_000, 60_000, 60_000);
+
+        Long contentId = tx.execute(status -> service.enqueueInTransaction(quoteId));
+        Long duplicateContentId = tx.execute(status -> service.enqueueInTransaction(quoteId));
+        assertThat(duplicateContentId).isEqualTo(contentId);
+        assertThat(jobRepository.count()).isEqualTo(1);
+        assertThat(contentPort.findById(contentId)).get()
+            .extracting(ShortFormContent::getStatus).isEqualTo(ContentStatus.PROCESSING);
+
+        // 두 번 실패하면 포기하고 콘텐츠를 실패로 표시
+        ContentGenerationJob job = tx.execute(status -> service.claim(1).get(0));
+        GenerationJobStatus firstFailure = tx.execute(status -> service.fail(job, "TTS 오류", true));
+        assertThat(firstFailure).isEqualTo(GenerationJobStatus.PENDING);
+        jobRepository.findById(job.getId()).ifPresent(retried ->
+            assertThat(retried.getAvailableAt()).isAfter(LocalDateTime.now().plusNanos(500_000_000)));
+        ContentGenerationJob retry = tx.execute(status -> jobAdapter.claim(1, LocalDateTime.now().plusSeconds(2),
+            LocalDateTime.now().plusMinutes(1)).get(0));
+        GenerationJobStatus secondFailure = tx.execute(status -> service.fail(retry, "TTS 오류", true));
+        assertThat(secondFailure).isEqualTo(GenerationJobStatus.DEAD);
+        assertThat(contentPort.findById(contentId)).get()
+            .extracting(ShortFormContent::getStatus).isEqualTo(ContentStatus.FAILED);
+
+        // 포기한 작업은 같은 콘텐츠로 다시 등록
+        Long requeuedContentId = tx.execute(status -> service.enqueueInTransaction(quoteId));
+        assertThat(requeuedContentId).isEqualTo(contentId);
+        assertThat(jobRepository.findById(job.getId())).get().satisfies(requeued -> {
+            assertThat(requeued.getStatus()).isEqualTo(GenerationJobStatus.PENDING);
+            assertThat(requeued.getAttempts()).isZero();
+        });
+        assertThat(contentPort.findById(contentId)).get()
+            .extracting(ShortFormContent::getStatus).isEqualTo(ContentStatus.PROCESSING);
+    }
+}
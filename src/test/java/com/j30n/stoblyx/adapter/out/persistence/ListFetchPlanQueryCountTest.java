@@ -0,0 +1,153 @@
+package com.j30n.stoblyx.adapter.out.persistence;
+
+import com.j30n.stoblyx.adapter.in.web.dto.content.ContentResponse;
+import com.j30n.stoblyx.adapter.out.persistence.book.BookPersistenceAdapter;
+import com.j30n.stoblyx.adapter.out.persistence.content.ContentPersistenceAdapter;
+import com.j30n.stoblyx.adapter.out.persistence.user.UserPersistenceAdapter;
+import com.j30n.stoblyx.config.JpaTestConfig;
+import com.j30n.stoblyx.domain.enums.ContentStatus;
+import com.j30n.stoblyx.domain.model.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회가 페이지 크기와 관계없이 일정한 수의 쿼리로 응답에 필요한 연관 데이터를 모두 읽는지 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaTestConfig.class, ContentPersistenceAdapter.class, BookPersistenceAdapter.class,
+    UserPersistenceAdapter.class})
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:list-fetch-plan;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.sql.init.mode=never",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("목록 조회 페치 계획 쿼리 수 테스트")
+class ListFetchPlanQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ContentPersistenceAdapter contentPersistenceAdapter;
+
+    @Autowired
+    private BookPersistenceAdapter bookPersistenceAdapter;
+
+    @Autowired
+    private UserPersistenceAdapter userPersistenceAdapter;
+
+    private final List<Long> bookIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 12; i++) {
+            User user = entityManager.persist(User.builder()
+                .username("user" + i).password("password").nickname("사용자" + i).email("user" + i + "@example.com")
+                .build());
+            Book book = entityManager.persist(new Book(BookInfo.builder()
+                .title("책 " + i).author("작가 " + i).genres(List.of("소설", "에세이")).build()));
+            Quote quote = entityManager.persist(Quote.builder()
+                .user(user).book(book).content("인용구 " + i).page(i + 1).build());
+            ShortFormContent content = entityManager.persist(ShortFormContent.builder()
+                .book(book).quote(quote).title("콘텐츠 " + i).status(ContentStatus.PUBLISHED).build());
+            entityManager.persist(MediaResource.builder()
+                .type(MediaResource.MediaType.VIDEO).url("https://cdn.example.com/video/" + i).content(content).build());
+            entityManager.persist(MediaResource.builder()
+                .type(MediaResource.MediaType.IMAGE).url("https://cdn.example.com/image/" + i)
+                .thumbnailUrl("https://cdn.example.com/thumb/" + i).content(content).build());
+            bookIds.add(book.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("콘텐츠 목록은 책/인용구/미디어를 포함해도 페이지 크기와 관계없이 쿼리 수가 일정하다")
+    void contentPage_loadsAssociationsWithConstantQueries() {
+        long smallPageQueries = countQueries(() -> toResponses(PageRequest.of(0, 2)));
+        entityManager.clear();
+        List<ContentResponse> responses = new ArrayList<>();
+        long largePageQueries = countQueries(() -> responses.addAll(toResponses(PageRequest.of(0, 10))));
+
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+        assertThat(responses).hasSize(10).allSatisfy(response -> {
+            assertThat(response.videoUrl()).startsWith("https://cdn.example.com/video/");
+            assertThat(response.thumbnailUrl()).startsWith("https://cdn.example.com/thumb/");
+            assertThat(response.book().title()).startsWith("책 ");
+            assertThat(response.quote().content()).startsWith("인용구 ");
+        });
+    }
+
+    @Test
+    @DisplayName("도서 목록은 ID 페이지를 먼저 구하고 해당 도서만 장르와 함께 정렬 순서대로 조회한다")
+    void bookPage_fetchesOnlyRequestedIdsInOrder() {
+        List<Page<Book>> pages = new ArrayList<>();
+        long queries = countQueries(() -> pages.add(
+            bookPersistenceAdapter.findAll(PageRequest.of(1, 4, Sort.by(Sort.Direction.DESC, "id")))));
+        Page<Book> page = pages.get(0);
+
+        assertThat(queries).isEqualTo(3);
+        assertThat(page.getTotalElements()).isEqualTo(12);
+        assertThat(page.getContent()).extracting(Book::getId)
+            .containsExactly(bookIds.get(7), bookIds.get(6), bookIds.get(5), bookIds.get(4));
+        assertThat(page.getContent()).allSatisfy(book ->
+            assertThat(book.getGenres()).containsExactly("소설", "에세이"));
+    }
+
+    @Test
+    @DisplayName("관리자 사용자 목록은 엔티티 대신 요약 프로젝션으로 조회한다")
+    void accountSummaries_useProjection() {
+        List<Page<UserAccountSummary>> pages = new ArrayList<>();
+        long queries = countQueries(() -> pages.add(
+            userPersistenceAdapter.findAccountSummaries(PageRequest.of(0, 5, Sort.by("id")))));
+        Page<UserAccountSummary> page = pages.get(0);
+
+        assertThat(queries).isEqualTo(2);
+        assertThat(page.getTotalElements()).isEqualTo(12);
+        assertThat(page.getContent()).extracting(UserAccountSummary::username)
+            .containsExactly("user0", "user1", "user2", "user3", "user4");
+        assertThat(entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getEntityLoadCount()).isZero();
+    }
+
+    private List<ContentResponse> toResponses(PageRequest pageable) {
+        Page<ShortFormContent> contents = contentPersistenceAdapter.findAll(pageable);
+        Map<Long, List<MediaResourceSummary>> media = contentPersistenceAdapter.findMediaByContentIds(
+            contents.getContent().stream().map(ShortFormContent::getId).toList());
+        return contents.map(content -> ContentResponse.from(content,
+            media.getOrDefault(content.getId(), List.of()), false, false, 0, 0)).getContent();
+    }
+
+    private long countQueries(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -156,7 +156,7 @@ class AIAdapterTest {
         String result = aiAdapter.selectBGM();
 
         // then
-        assertThat(result).isEqualTo("static/bgm/neutral.mp3");
+        assertThat(result).isEqualTo("/media/bgm/neutral.mp3");
         verify(bgmClient, times(1)).selectBGM();
     }
 
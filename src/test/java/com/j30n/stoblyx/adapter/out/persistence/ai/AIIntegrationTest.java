@@ -30,7 +30,7 @@ class AIIntegrationTest {
     private static final String FALLBACK_IMAGE = "static/images/fallback/book-cover.jpg";
     private static final String FALLBACK_VIDEO = "static/videos/fallback/book-animation.mp4";
     private static final String FALLBACK_AUDIO = "static/audio/fallback/default-narration.mp3";
-    private static final String FALLBACK_BGM = "static/bgm/neutral.mp3";
+    private static final String FALLBACK_BGM = "/media/bgm/neutral.mp3";
     @Mock
     private PexelsClient pexelsClient;
     @Mock
@@ -1,26 +1,36 @@
 package com.j30n.stoblyx.adapter.out.persistence.ai;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
-import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
 
-@ExtendWith(MockitoExtension.class)
+/**
+ * 로컬 스텁 HTTP 서버를 Pexels API 로 삼아 검색, 캐시, 요청 합치기, 속도 제한을 확인합니다.
+ */
 class PexelsClientTest {
 
     // 환경 변수에서 API 키를 가져오거나 테스트용 API 키 사용
@@ -32,14 +42,50 @@ class PexelsClientTest {
     // 테스트 상수 (영어로 변경)
     private static final String MOTIVATION_TITLE = "Motivational Book";
     private static final String PHILOSOPHY_TITLE = "Philosophy Book";
+    private static final String FALLBACK_IMAGE_URL = "https://images.pexels.com/photos/2014422/pexels-photo-2014422.jpeg";
     private static final String FALLBACK_VIDEO_URL = "https://www.pexels.com/video/woman-reading-book-in-the-library-5167740/";
-    @Mock
-    private RestTemplate restTemplate;
+
+    private HttpServer server;
+    private String baseUrl;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final List<Long> requestTimes = new CopyOnWriteArrayList<>();
+    private final List<String> authorizations = new CopyOnWriteArrayList<>();
+    private volatile int status = 200;
+    private volatile String body = "{}";
+    private volatile CountDownLatch release = new CountDownLatch(0);
+    private final CountDownLatch firstRequest = new CountDownLatch(1);
     private PexelsClient pexelsClient;
 
     @BeforeEach
-    void setUp() {
-        pexelsClient = new PexelsClient(API_KEY, restTemplate, new Random(42), new ObjectMapper());
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.add(exchange.getRequestURI().toString());
+            requestTimes.add(System.nanoTime());
+            authorizations.add(exchange.getRequestHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+            firstRequest.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+        pexelsClient = client(100, 10, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
     }
 
     // 향후 알라딘 Open API 구현 예정
@@ -58,12 +104,7 @@ class PexelsClientTest {
             + "]"
             + "}";
 
-        when(restTemplate.exchange(
-            anyString(),
-            eq(HttpMethod.GET),
-            any(HttpEntity.class),
-            eq(String.class)
-        )).thenReturn(new ResponseEntity<>(mockResponse, HttpStatus.OK));
+        respond(200, mockResponse);
 
         // When
         String result = pexelsClient.searchImage(query);
@@ -88,12 +129,7 @@ class PexelsClientTest {
             + "]"
             + "}";
 
-        when(restTemplate.exchange(
-            anyString(),
-            eq(HttpMethod.GET),
-            any(HttpEntity.class),
-            eq(String.class)
-        )).thenReturn(new ResponseEntity<>(mockResponse, HttpStatus.OK));
+        respond(200, mockResponse);
 
         // When
         String result = pexelsClient.searchImage(query);
@@ -120,12 +156,7 @@ class PexelsClientTest {
             + "]"
             + "}";
 
-        when(restTemplate.exchange(
-            anyString(),
-            eq(HttpMethod.GET),
-            any(HttpEntity.class),
-            eq(String.class)
-        )).thenReturn(new ResponseEntity<>(mockResponse, HttpStatus.OK));
+        respond(200, mockResponse);
 
         // When
         String result = pexelsClient.searchVideo(query);
@@ -152,12 +183,7 @@ class PexelsClientTest {
             + "]"
             + "}";
 
-        when(restTemplate.exchange(
-            anyString(),
-            eq(HttpMethod.GET),
-            any(HttpEntity.class),
-            eq(String.class)
-        )).thenReturn(new ResponseEntity<>(mockResponse, HttpStatus.OK));
+        respond(200, mockResponse);
 
         // When
         String result = pexelsClient.searchVideo(query);
@@ -173,12 +199,7 @@ class PexelsClientTest {
         // Given
         String query = MOTIVATION_TITLE;
 
-        when(restTemplate.exchange(
-            anyString(),
-            eq(HttpMethod.GET),
-            any(HttpEntity.class),
-            eq(String.class)
-        )).thenThrow(new RestClientException("[테스트용] API 호출 실패"));
+        respond(500, "{\"error\": \"[테스트용] API 호출 실패\"}");
 
         // When
         String result = pexelsClient.searchImage(query);
@@ -194,12 +215,7 @@ class PexelsClientTest {
         // Given
         String query = PHILOSOPHY_TITLE;
 
-        when(restTemplate.exchange(
-            anyString(),
-            eq(HttpMethod.GET),
-            any(HttpEntity.class),
-            eq(String.class)
-        )).thenThrow(new RuntimeException("[테스트용] API 호출 실패"));
+        respond(500, "{\"error\": \"[테스트용] API 호출 실패\"}");
 
         // When
         String result = pexelsClient.searchVideo(query);
@@ -305,6 +321,118 @@ class PexelsClientTest {
             .startsWith("https://");
     }
 
+    @Test
+    @DisplayName("같은 검색어는 캐시에서 돌려주고, 대소문자와 공백이 달라도 같은 검색으로 본다")
+    void searchImage_cachesResults() {
+        respond(200, "{\"photos\": [{\"src\": {\"original\": \"https://images.pexels.com/a.jpeg\"}}]}");
+
+        assertThat(pexelsClient.searchImage("Books Library")).isEqualTo("https://images.pexels.com/a.jpeg");
+        assertThat(pexelsClient.searchImage("  books   library ")).isEqualTo("https://images.pexels.com/a.jpeg");
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0)).startsWith("/v1/search?query=Books%20Library&per_page=10&orientation=landscape");
+        assertThat(authorizations).containsExactly(API_KEY);
+    }
+
+    @Test
+    @DisplayName("결과가 없는 검색도 캐시하지만, 실패한 검색은 캐시하지 않는다")
+    void search_cachesNegativeResultsButNotErrors() {
+        respond(200, "{\"page\": 1, \"photos\": [], \"total_results\": 0}");
+        assertThat(pexelsClient.searchImage("nothing")).isEqualTo(FALLBACK_IMAGE_URL);
+        assertThat(pexelsClient.searchImage("nothing")).isEqualTo(FALLBACK_IMAGE_URL);
+        assertThat(requests).hasSize(1);
+
+        respond(500, "{}");
+        assertThat(pexelsClient.searchVideo("broken")).isEqualTo(FALLBACK_VIDEO_URL);
+        respond(200, "{\"videos\": [{\"url\": \"https://www.pexels.com/video/1/\"}]}");
+        assertThat(pexelsClient.searchVideo("broken")).isEqualTo("https://www.pexels.com/video/1/");
+        assertThat(requests).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("썸네일 검색은 필요한 필드만 뽑아 HD 영상을 고르고, 결과를 캐시한다")
+    void searchWithThumbnail_extractsFieldsAndCaches() {
+        respond(200, "{\"page\": 1, \"videos\": [{\"id\": 7, \"width\": 1080, \"user\": {\"name\": \"x\", \"url\": \"u\"},"
+            + " \"image\": \"https://images.pexels.com/videos/7.jpeg\","
+            + " \"video_files\": [{\"quality\": \"sd\", \"link\": \"https://videos.pexels.com/7-sd.mp4\"},"
+            + " {\"quality\": \"hd\", \"link\": \"https://videos.pexels.com/7-hd.mp4\", \"width\": 1920}],"
+            + " \"video_pictures\": [{\"picture\": \"p\"}]}], \"next_page\": \"n\"}");
+
+        String[] video = pexelsClient.searchVideoWithThumbnail("reading");
+        assertThat(video).containsExactly("https://videos.pexels.com/7-hd.mp4", "https://images.pexels.com/videos/7.jpeg");
+        assertThat(pexelsClient.searchVideoWithThumbnail("reading")).containsExactly(video);
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0)).doesNotContain("orientation");
+
+        respond(200, "{\"photos\": [{\"alt\": \"[1, 2]\", \"src\": {\"original\": \"https://images.pexels.com/o.jpeg\","
+            + " \"medium\": \"https://images.pexels.com/m.jpeg\", \"tiny\": \"t\"}}]}");
+        assertThat(pexelsClient.searchImageWithThumbnail("reading"))
+            .containsExactly("https://images.pexels.com/o.jpeg", "https://images.pexels.com/m.jpeg");
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("같은 검색어의 동시 요청은 API 호출 하나로 합친다")
+    void search_coalescesConcurrentIdenticalQueries() throws Exception {
+        respond(200, "{\"photos\": [{\"src\": {\"original\": \"https://images.pexels.com/shared.jpeg\"}}]}");
+        release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(callers.submit(() -> pexelsClient.searchImage("shared query")));
+        }
+
+        assertThat(firstRequest.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(200);
+        release.countDown();
+        for (Future<String> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("https://images.pexels.com/shared.jpeg");
+        }
+        callers.shutdown();
+
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("버스트만큼은 바로 보내고 그 뒤로는 초당 허용 수에 맞춰 간격을 둔다")
+    void search_rateLimitsWithBurst() {
+        pexelsClient = client(20, 2, 5000);
+        respond(200, "{\"photos\": []}");
+
+        for (int i = 0; i < 6; i++) {
+            pexelsClient.searchImage("query " + i);
+        }
+
+        assertThat(requests).hasSize(6);
+        long burstGap = requestTimes.get(1) - requestTimes.get(0);
+        long limitedSpan = requestTimes.get(5) - requestTimes.get(1);
+        assertThat(burstGap).isLessThan(TimeUnit.MILLISECONDS.toNanos(40));
+        // 버스트 뒤 4개는 50ms 간격
+        assertThat(limitedSpan).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(180));
+    }
+
+    @Test
+    @DisplayName("대기 시간이 최대치를 넘으면 API 를 호출하지 않고 폴백을 돌려준다")
+    void search_rejectsWhenWaitTooLong() {
+        pexelsClient = client(1, 1, 100);
+        respond(200, "{\"photos\": [{\"src\": {\"original\": \"https://images.pexels.com/a.jpeg\"}}]}");
+
+        assertThat(pexelsClient.searchImage("first")).isEqualTo("https://images.pexels.com/a.jpeg");
+        assertThat(pexelsClient.searchImage("second")).isEqualTo(FALLBACK_IMAGE_URL);
+
+        assertThat(requests).hasSize(1);
+    }
+
+    private PexelsClient client(double permitsPerSecond, int burst, long maxWaitMillis) {
+        return new PexelsClient(API_KEY, baseUrl, permitsPerSecond, burst, maxWaitMillis,
+            TimeUnit.HOURS.toMillis(1), TimeUnit.MINUTES.toMillis(1), new RestTemplate(), new Random(42), new ObjectMapper());
+    }
+
+    private void respond(int status, String body) {
+        this.status = status;
+        this.body = body;
+    }
+
     /**
      * 실제 API 호출 시 발생하는 경고 메시지는 테스트에 영향을 주지 않습니다.
      * 경고 메시지는 다음과 같은 이유로 발생할 수 있습니다
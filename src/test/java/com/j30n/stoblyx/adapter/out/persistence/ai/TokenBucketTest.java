@@ -0,0 +1,80 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TokenBucket 테스트")
+class TokenBucketTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(1_000 * MS);
+
+    @Test
+    @DisplayName("버스트만큼은 바로 통과하고 그 뒤로는 간격만큼 차례를 뒤로 미룬다")
+    void reserve_burstThenSpaced() {
+        TokenBucket bucket = new TokenBucket(10, 3, 10_000, now::get);
+
+        assertThat(List.of(bucket.reserve(), bucket.reserve(), bucket.reserve(), bucket.reserve(), bucket.reserve()))
+            .containsExactly(0L, 0L, 0L, 100 * MS, 200 * MS);
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 버스트 이상으로 쌓이지 않는다")
+    void reserve_refillIsCappedAtBurst() {
+        TokenBucket bucket = new TokenBucket(10, 3, 10_000, now::get);
+        bucket.reserve();
+
+        now.addAndGet(60_000 * MS);
+
+        assertThat(List.of(bucket.reserve(), bucket.reserve(), bucket.reserve(), bucket.reserve()))
+            .containsExactly(0L, 0L, 0L, 100 * MS);
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간을 넘는 요청은 예약하지 않고 거절한다")
+    void acquire_rejectsBeyondMaxWait() {
+        TokenBucket bucket = new TokenBucket(1, 1, 1_500, now::get);
+
+        assertThat(bucket.acquire()).isCompleted();
+        assertThat(bucket.reserve()).isEqualTo(1_000 * MS);
+        assertThatThrownBy(() -> bucket.acquire().join()).hasCauseInstanceOf(RejectedExecutionException.class);
+
+        // 거절된 요청은 차례를 차지하지 않음
+        now.addAndGet(2_000 * MS);
+        assertThat(bucket.reserve()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 예약해도 차례가 겹치지 않는다")
+    void reserve_concurrentReservationsAreDistinct() throws Exception {
+        TokenBucket bucket = new TokenBucket(1_000, 1, 60_000, now::get);
+        List<Long> delays = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    delays.add(bucket.reserve());
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(delays).hasSize(4_000).doesNotHaveDuplicates();
+        assertThat(Collections.max(delays)).isEqualTo(3_999 * MS);
+    }
+}
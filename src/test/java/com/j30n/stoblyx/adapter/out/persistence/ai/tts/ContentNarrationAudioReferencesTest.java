@@ -0,0 +1,41 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai.tts;
+
+import com.j30n.stoblyx.domain.model.MediaResource;
+import com.j30n.stoblyx.domain.repository.MediaResourceRepository;
+import com.j30n.stoblyx.domain.repository.ShortFormContentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContentNarrationAudioReferences 테스트")
+class ContentNarrationAudioReferencesTest {
+
+    @Mock
+    private MediaResourceRepository mediaResourceRepository;
+
+    @Mock
+    private ShortFormContentRepository contentRepository;
+
+    @InjectMocks
+    private ContentNarrationAudioReferences references;
+
+    @Test
+    @DisplayName("오디오 리소스와 콘텐츠 음성 URL 에서 /media/audio 아래 파일 이름을 모은다")
+    void referencedFileNames_collectsFileNamesFromStoredUrls() {
+        when(mediaResourceRepository.findUrlsByTypeAndUrlLike(MediaResource.MediaType.AUDIO, "%/media/audio/%"))
+            .thenReturn(List.of("http://localhost:8080/media/audio/aaa.mp3", "/media/audio/bbb.mp3"));
+        when(contentRepository.findAudioUrlsLike("%/media/audio/%"))
+            .thenReturn(List.of("https://cdn.example.com/media/audio/aaa.mp3", "https://cdn.example.com/media/audio/ccc.wav"));
+
+        assertThat(references.referencedFileNames()).containsExactlyInAnyOrder("aaa.mp3", "bbb.mp3", "ccc.wav");
+    }
+}
@@ -0,0 +1,240 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai.tts;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("NarrationAudioCache 테스트")
+class NarrationAudioCacheTest {
+
+    @TempDir
+    Path audioDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("공백만 다른 같은 텍스트는 한 번만 합성하고, 음성 설정이 다르면 따로 합성한다")
+    void getOrSynthesize_reusesFileForSameTextAndVoice() throws Exception {
+        NarrationAudioCache cache = new NarrationAudioCache(audioDir, 1_000_000, meterRegistry);
+        FakeEngine engine = new FakeEngine("voice-a");
+
+        Path first = cache.getOrSynthesize("새는 알에서  나오려고\n투쟁한다.", engine);
+        Path second = cache.getOrSynthesize("  새는 알에서 나오려고 투쟁한다. ", engine);
+        Path otherVoice = cache.getOrSynthesize("새는 알에서 나오려고 투쟁한다.", new FakeEngine("voice-b"));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(otherVoice).isNotEqualTo(first);
+        assertThat(engine.calls).hasValue(1);
+        assertThat(Files.readString(first)).isEqualTo("voice-a:새는 알에서 나오려고 투쟁한다.");
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(2);
+        assertThat(cache.storedBytes()).isEqualTo(Files.size(first) + Files.size(otherVoice));
+    }
+
+    @Test
+    @DisplayName("같은 텍스트를 동시에 요청하면 한 번만 합성하고 모두 같은 파일을 받는다")
+    void getOrSynthesize_sharesConcurrentSynthesis() throws Exception {
+        NarrationAudioCache cache = new NarrationAudioCache(audioDir, 1_000_000, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        FakeEngine engine = new FakeEngine("voice-a", release);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<Path>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(callers.submit(() -> cache.getOrSynthesize("같은 문장", engine)));
+        }
+        engine.started.await(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        release.countDown();
+
+        Path expected = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<Path> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(expected);
+        }
+        callers.shutdown();
+
+        assertThat(engine.calls).hasValue(1);
+        assertThat(requests("miss")).isEqualTo(1);
+        assertThat(requests("shared") + requests("hit")).isEqualTo(7);
+        // 게시 후에는 임시 파일이 남지 않음
+        try (var leftovers = Files.list(audioDir.resolve(".tmp"))) {
+            assertThat(leftovers).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 쓰지 않은 파일부터 지운다")
+    void getOrSynthesize_evictsLeastRecentlyUsed() throws Exception {
+        // 파일 하나가 100바이트, 한도는 250바이트
+        NarrationAudioCache cache = new NarrationAudioCache(audioDir, 250, meterRegistry);
+        FakeEngine engine = new FakeEngine("voice-a", 100);
+
+        Path a = cache.getOrSynthesize("A", engine);
+        Thread.sleep(5);
+        Path b = cache.getOrSynthesize("B", engine);
+        Thread.sleep(5);
+        cache.getOrSynthesize("A", engine);
+        Thread.sleep(5);
+        Path c = cache.getOrSynthesize("C", engine);
+
+        assertThat(a).exists();
+        assertThat(b).doesNotExist();
+        assertThat(c).exists();
+        assertThat(cache.storedBytes()).isEqualTo(200);
+        assertThat(meterRegistry.get("tts.cache.evicted.bytes").counter().count()).isEqualTo(100);
+
+        // 지운 파일은 다시 합성
+        cache.getOrSynthesize("B", engine);
+        assertThat(engine.calls).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("콘텐츠가 가리키는 파일은 가장 오래 쓰지 않았어도 지우지 않는다")
+    void getOrSynthesize_keepsReferencedFiles() throws Exception {
+        Set<String> referenced = new HashSet<>();
+        NarrationAudioCache cache = new NarrationAudioCache(audioDir, 250, () -> referenced, meterRegistry);
+        FakeEngine engine = new FakeEngine("voice-a", 100);
+
+        Path a = cache.getOrSynthesize("A", engine);
+        referenced.add(a.getFileName().toString());
+        Thread.sleep(5);
+        Path b = cache.getOrSynthesize("B", engine);
+        Thread.sleep(5);
+        Path c = cache.getOrSynthesize("C", engine);
+
+        assertThat(a).exists();
+        assertThat(b).doesNotExist();
+        assertThat(c).exists();
+
+        // 참조된 파일만으로 한도를 넘으면 그대로 둠
+        referenced.add(c.getFileName().toString());
+        Path d = cache.getOrSynthesize("D", engine);
+        referenced.add(d.getFileName().toString());
+        cache.getOrSynthesize("E", engine);
+        assertThat(a).exists();
+        assertThat(c).exists();
+        assertThat(d).exists();
+    }
+
+    @Test
+    @DisplayName("참조 목록을 읽지 못하면 파일을 지우지 않는다")
+    void getOrSynthesize_skipsEvictionWhenReferencesFail() throws Exception {
+        NarrationAudioCache cache = new NarrationAudioCache(audioDir, 150, () -> {
+            throw new IllegalStateException("DB 연결 실패");
+        }, meterRegistry);
+        FakeEngine engine = new FakeEngine("voice-a", 100);
+
+        Path a = cache.getOrSynthesize("A", engine);
+        Path b = cache.getOrSynthesize("B", engine);
+
+        assertThat(a).exists();
+        assertThat(b).exists();
+        assertThat(cache.storedBytes()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("재시작하면 디렉토리에서 색인을 다시 만들고 남은 임시 파일을 지운다")
+    void rebuildIndex_restoresCachedFilesOnStartup() throws Exception {
+        FakeEngine engine = new FakeEngine("voice-a", 100);
+        Path cached = new NarrationAudioCache(audioDir, 1_000, meterRegistry).getOrSynthesize("A", engine);
+        Path leftover = Files.writeString(audioDir.resolve(".tmp").resolve("partial.mp3"), "partial");
+        Files.writeString(audioDir.resolve("not-cached.txt"), "other");
+
+        NarrationAudioCache restarted = new NarrationAudioCache(audioDir, 1_000, new SimpleMeterRegistry());
+
+        assertThat(restarted.storedBytes()).isEqualTo(100);
+        assertThat(leftover).doesNotExist();
+        assertThat(restarted.getOrSynthesize("A", engine)).isEqualTo(cached);
+        assertThat(engine.calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("합성에 실패하면 파일을 남기지 않고 다음 요청에서 다시 합성한다")
+    void getOrSynthesize_doesNotCacheFailures() throws Exception {
+        NarrationAudioCache cache = new NarrationAudioCache(audioDir, 1_000, meterRegistry);
+        FakeEngine engine = new FakeEngine("voice-a");
+        engine.failNext = true;
+
+        assertThatThrownBy(() -> cache.getOrSynthesize("A", engine)).isInstanceOf(IOException.class);
+        assertThat(cache.storedBytes()).isZero();
+
+        assertThat(cache.getOrSynthesize("A", engine)).exists();
+        assertThat(engine.calls).hasValue(2);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("tts.cache.requests").tag("result", result).counter().count();
+    }
+
+    private static final class FakeEngine implements TtsEngine {
+
+        private final String voice;
+        private final CountDownLatch release;
+        private final int padding;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile boolean failNext;
+
+        FakeEngine(String voice) {
+            this(voice, null, 0);
+        }
+
+        FakeEngine(String voice, CountDownLatch release) {
+            this(voice, release, 0);
+        }
+
+        FakeEngine(String voice, int size) {
+            this(voice, null, size);
+        }
+
+        private FakeEngine(String voice, CountDownLatch release, int size) {
+            this.voice = voice;
+            this.release = release;
+            this.padding = size;
+        }
+
+        @Override
+        public String fileExtension() {
+            return "mp3";
+        }
+
+        @Override
+        public String voiceKey() {
+            return voice;
+        }
+
+        @Override
+        public void synthesize(String text, Path output) throws IOException, InterruptedException {
+            calls.incrementAndGet();
+            started.countDown();
+            if (release != null) {
+                release.await();
+            }
+            if (failNext) {
+                failNext = false;
+                Files.writeString(output, "partial");
+                throw new IOException("합성 실패");
+            }
+            byte[] content = padding > 0 ? new byte[padding] : (voice + ":" + text).getBytes(StandardCharsets.UTF_8);
+            Files.write(output, content);
+        }
+    }
+}
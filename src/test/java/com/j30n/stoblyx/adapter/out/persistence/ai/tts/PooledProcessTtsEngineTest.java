@@ -0,0 +1,173 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai.tts;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 상주 작업자 풀이 프로세스를 재사용하고, 시간 초과나 비정상 종료 후 작업자를 다시 띄우며,
+ * 대기열이 가득 차면 바로 거절하는지 검증합니다.
+ * 실제 TTS 대신 같은 프레임 규약을 따르는 테스트용 작업자 스크립트를 사용합니다.
+ */
+@DisplayName("PooledProcessTtsEngine 테스트")
+class PooledProcessTtsEngineTest {
+
+    private static String python;
+    private static String stubScript;
+
+    @TempDir
+    Path outputDir;
+
+    private PooledProcessTtsEngine engine;
+
+    @BeforeAll
+    static void findPython() throws Exception {
+        python = TtsTestSupport.findPython();
+        assumeTrue(python != null, "python 실행 파일이 없어 건너뜁니다.");
+        stubScript = TtsTestSupport.stubScript();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 요청을 처리해도 작업자 수만큼의 프로세스만 띄워 재사용한다")
+    void synthesize_reusesWorkerProcesses() throws Exception {
+        engine = engine(2, 4, Duration.ofSeconds(10));
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        List<Future<Path>> results = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            String text = "문장 " + i + "\t탭과\n줄바꿈";
+            results.add(callers.submit(() -> synthesize(text)));
+        }
+
+        Set<String> pids = new HashSet<>();
+        for (Future<Path> result : results) {
+            List<String> lines = Files.readAllLines(result.get(10, TimeUnit.SECONDS), StandardCharsets.UTF_8);
+            pids.add(lines.get(0));
+            assertThat(lines.get(1)).startsWith("문장 ").endsWith("\t탭과");
+            assertThat(lines.get(2)).isEqualTo("줄바꿈");
+        }
+        callers.shutdown();
+
+        assertThat(pids).hasSizeLessThanOrEqualTo(2);
+        assertThat(engine.processStarts()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("시간 제한을 넘긴 요청은 실패하고 작업자를 새 프로세스로 교체한다")
+    void synthesize_restartsWorkerAfterTimeout() throws Exception {
+        engine = engine(1, 0, Duration.ofMillis(500));
+        String before = pid(synthesize("준비"));
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> synthesize("느린 요청 [sleep:5000]"))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("시간 초과");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(2_000);
+
+        String after = pid(synthesize("다음 요청"));
+        assertThat(after).isNotEqualTo(before);
+        assertThat(engine.processStarts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("처리 중 종료된 작업자는 다음 요청 전에 다시 띄운다")
+    void synthesize_restartsWorkerAfterCrash() throws Exception {
+        engine = engine(1, 0, Duration.ofSeconds(10));
+        String before = pid(synthesize("준비"));
+
+        assertThatThrownBy(() -> synthesize("[crash]"))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("종료");
+
+        String after = pid(synthesize("다음 요청"));
+        assertThat(after).isNotEqualTo(before);
+        assertThat(engine.processStarts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작업자와 대기열이 모두 차면 기다리지 않고 바로 거절한다")
+    void synthesize_rejectsWhenQueueIsFull() throws Exception {
+        engine = engine(1, 1, Duration.ofSeconds(10));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        CountDownLatch started = new CountDownLatch(2);
+        List<Future<Path>> accepted = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            accepted.add(callers.submit(() -> {
+                started.countDown();
+                return synthesize("오래 걸리는 요청 [sleep:1000]");
+            }));
+        }
+        started.await();
+        Thread.sleep(200);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> synthesize("넘친 요청"))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("대기열");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(200);
+
+        for (Future<Path> result : accepted) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).exists();
+        }
+        callers.shutdown();
+    }
+
+    @Test
+    @DisplayName("상태 확인에서 죽은 작업자를 찾아 요청이 오기 전에 다시 띄운다")
+    void checkHealth_restartsDeadWorker() throws Exception {
+        engine = engine(1, 0, Duration.ofSeconds(10));
+        long before = Long.parseLong(pid(synthesize("준비")));
+        ProcessHandle process = ProcessHandle.of(before).orElseThrow();
+        process.destroyForcibly();
+        process.onExit().get(5, TimeUnit.SECONDS);
+
+        engine.checkHealth();
+
+        assertThat(engine.processStarts()).isEqualTo(2);
+        assertThat(Long.parseLong(pid(synthesize("다음 요청")))).isNotEqualTo(before);
+        assertThat(engine.processStarts()).isEqualTo(2);
+    }
+
+    private PooledProcessTtsEngine engine(int poolSize, int queueCapacity, Duration requestTimeout) {
+        return new PooledProcessTtsEngine(List.of(python, stubScript), new File("."), poolSize, queueCapacity,
+            requestTimeout, Duration.ofHours(1));
+    }
+
+    private Path synthesize(String text) throws IOException, InterruptedException {
+        Path output = Files.createTempFile(outputDir, "tts-", ".mp3");
+        engine.synthesize(text, output);
+        return output;
+    }
+
+    private static String pid(Path output) throws IOException {
+        return Files.readAllLines(output, StandardCharsets.UTF_8).get(0);
+    }
+}
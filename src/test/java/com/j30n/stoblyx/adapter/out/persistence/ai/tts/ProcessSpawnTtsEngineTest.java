@@ -0,0 +1,67 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai.tts;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("ProcessSpawnTtsEngine 테스트")
+class ProcessSpawnTtsEngineTest {
+
+    private static final String SHELL = "/bin/sh";
+
+    @TempDir
+    Path workDir;
+
+    @BeforeEach
+    void requireShell() {
+        assumeTrue(new File(SHELL).canExecute(), "셸이 없어 건너뜀");
+    }
+
+    @Test
+    @DisplayName("스크립트 출력을 읽으면서 음성 파일을 만든다")
+    void synthesize_writesOutputFile() throws Exception {
+        // sh -c 에서 텍스트와 출력 경로는 $1, $2
+        ProcessSpawnTtsEngine engine = new ProcessSpawnTtsEngine(
+            List.of(SHELL, "-c", "echo synthesizing; printf '%s' \"$1\" > \"$2\"", "tts"), 5_000);
+        Path output = workDir.resolve("out.mp3");
+
+        engine.synthesize("hello", output);
+
+        assertThat(Files.readString(output)).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("출력을 닫지 않고 멈춘 스크립트는 시간 제한에 걸려 실패한다")
+    void synthesize_failsWhenScriptHangs() {
+        ProcessSpawnTtsEngine engine = new ProcessSpawnTtsEngine(
+            List.of(SHELL, "-c", "echo started; exec sleep 30", "tts"), 300);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+            assertThatThrownBy(() -> engine.synthesize("멈춤", workDir.resolve("out.mp3")))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("300ms"));
+    }
+
+    @Test
+    @DisplayName("스크립트가 실패 코드로 끝나면 예외를 던진다")
+    void synthesize_failsOnNonZeroExit() {
+        ProcessSpawnTtsEngine engine = new ProcessSpawnTtsEngine(List.of(SHELL, "-c", "exit 3", "tts"), 5_000);
+
+        assertThatThrownBy(() -> engine.synthesize("실패", workDir.resolve("out.mp3")))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("종료 코드 3");
+    }
+}
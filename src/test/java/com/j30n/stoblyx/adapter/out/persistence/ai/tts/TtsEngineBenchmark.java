@@ -0,0 +1,80 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai.tts;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 요청마다 프로세스를 띄우는 방식과 상주 작업자 풀의 지연 시간과 처리량을 비교하는 수동 벤치마크
+ * <p>
+ * 테스트 실행에 포함되지 않으며 IDE 나 {@code java -cp} 로 직접 실행합니다.
+ * 실제 TTS 대신 테스트용 작업자 스크립트를 쓰고, 모델 로딩 시간은 {@code STUB_TTS_LOAD_MS} 환경 변수로 흉내 냅니다.
+ * 인자: [요청 수 (기본 40)] [동시 요청 수 (기본 4)] [작업자 수 (기본 4)]
+ * </p>
+ */
+public final class TtsEngineBenchmark {
+
+    private TtsEngineBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 40;
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int workers = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        String python = TtsTestSupport.findPython();
+        if (python == null) {
+            System.out.println("python 실행 파일을 찾지 못했습니다.");
+            return;
+        }
+        List<String> command = List.of(python, TtsTestSupport.stubScript());
+        System.out.printf("요청 %d개, 동시 %d, 작업자 %d, 모델 로딩 %sms%n",
+            requests, concurrency, workers, System.getenv().getOrDefault("STUB_TTS_LOAD_MS", "0"));
+
+        Path outputDir = Files.createTempDirectory("tts-benchmark");
+        run("spawn", new ProcessSpawnTtsEngine(command, 60_000), requests, concurrency, outputDir);
+
+        PooledProcessTtsEngine pool = new PooledProcessTtsEngine(command, new File("."), workers, requests,
+            Duration.ofSeconds(60), Duration.ofHours(1));
+        try {
+            // 작업자 시작 비용은 한 번만 치르므로 측정에서 뺌
+            run("pool (warm-up)", pool, workers, workers, outputDir);
+            run("pool", pool, requests, concurrency, outputDir);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void run(String label, TtsEngine engine, int requests, int concurrency, Path outputDir)
+        throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(concurrency);
+        List<Future<Long>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            String text = "벤치마크 문장 " + i;
+            Path output = outputDir.resolve(label.replace(' ', '-') + "-" + i + ".mp3");
+            futures.add(callers.submit(() -> {
+                long requestStart = System.nanoTime();
+                engine.synthesize(text, output);
+                return System.nanoTime() - requestStart;
+            }));
+        }
+        long[] latencies = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            latencies[i] = futures.get(i).get();
+        }
+        long elapsed = System.nanoTime() - start;
+        callers.shutdown();
+
+        Arrays.sort(latencies);
+        System.out.printf("%-16s %8.3fs %8.1f req/s  p50 %6.1fms  p95 %6.1fms%n",
+            label, elapsed / 1e9, requests / (elapsed / 1e9),
+            latencies[requests / 2] / 1e6, latencies[Math.min(requests - 1, requests * 95 / 100)] / 1e6);
+    }
+}
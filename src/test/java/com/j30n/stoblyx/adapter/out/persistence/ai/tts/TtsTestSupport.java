@@ -0,0 +1,39 @@
+package com.j30n.stoblyx.adapter.out.persistence.ai.tts;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+
+/**
+ * TTS 작업자 테스트와 벤치마크가 함께 쓰는 Python 실행 파일과 테스트용 작업자 스크립트 위치
+ */
+final class TtsTestSupport {
+
+    private TtsTestSupport() {
+    }
+
+    /**
+     * PATH 에서 python3 또는 python 을 찾습니다.
+     *
+     * @return 실행 파일 경로, 없으면 null
+     */
+    static String findPython() {
+        String path = System.getenv("PATH");
+        if (path == null) {
+            return null;
+        }
+        for (String name : new String[]{"python3", "python"}) {
+            for (String dir : path.split(File.pathSeparator)) {
+                File candidate = new File(dir, name);
+                if (candidate.canExecute()) {
+                    return candidate.getAbsolutePath();
+                }
+            }
+        }
+        return null;
+    }
+
+    static String stubScript() throws URISyntaxException {
+        return Path.of(TtsTestSupport.class.getResource("/tts/stub_tts_worker.py").toURI()).toString();
+    }
+}
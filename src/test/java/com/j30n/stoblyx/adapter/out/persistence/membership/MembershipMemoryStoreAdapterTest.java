@@ -0,0 +1,52 @@
+package com.j30n.stoblyx.adapter.out.persistence.membership;
+
+import com.j30n.stoblyx.domain.enums.MembershipType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MembershipMemoryStoreAdapter 테스트")
+class MembershipMemoryStoreAdapterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final MembershipMemoryStoreAdapter store = new MembershipMemoryStoreAdapter(60, 1_000, now::get);
+
+    @Test
+    @DisplayName("적재한 집합은 조회와 변경이 계속되어도 적재 후 TTL 이 지나면 만료된다")
+    void sets_expireAfterWarmRegardlessOfAccess() {
+        store.warm(MembershipType.LIKED_QUOTE, 1L, List.of(10L, 20L));
+
+        for (int second = 0; second < 59; second += 10) {
+            now.set(TimeUnit.SECONDS.toNanos(second));
+            assertThat(find()).containsEntry(MembershipType.LIKED_QUOTE, Set.of(10L));
+            store.add(MembershipType.LIKED_QUOTE, 1L, 30L);
+        }
+        assertThat(store.findMembers(1L, List.of(MembershipType.LIKED_QUOTE), List.of(30L)))
+            .containsEntry(MembershipType.LIKED_QUOTE, Set.of(30L));
+
+        now.set(TimeUnit.SECONDS.toNanos(61));
+        assertThat(find()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 적재하면 만료 시각이 새로 정해진다")
+    void warm_resetsExpiry() {
+        store.warm(MembershipType.LIKED_QUOTE, 1L, List.of(10L));
+        now.set(TimeUnit.SECONDS.toNanos(50));
+        store.warm(MembershipType.LIKED_QUOTE, 1L, List.of(10L));
+
+        now.set(TimeUnit.SECONDS.toNanos(100));
+        assertThat(find()).containsEntry(MembershipType.LIKED_QUOTE, Set.of(10L));
+    }
+
+    private Map<MembershipType, Set<Long>> find() {
+        return store.findMembers(1L, List.of(MembershipType.LIKED_QUOTE), List.of(10L, 99L));
+    }
+}
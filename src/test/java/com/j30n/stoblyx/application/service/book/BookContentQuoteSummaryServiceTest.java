@@ -97,7 +97,7 @@ class BookContentQuoteSummaryServiceTest {
         when(bookPort.findBookById(eq(bookId))).thenReturn(Optional.of(testBook));
         when(bookContentSearchUseCase.findRelevantSection(eq(bookId), eq(keyword), eq(maxSectionLength)))
             .thenReturn(sectionContent);
-        when(bookContentSearchUseCase.findAndSummarizeAsQuote(eq(bookId), eq(keyword), eq(maxSectionLength), eq(1)))
+        when(bookContentSearchUseCase.summarizeAsQuote(eq(List.of(sectionContent))))
             .thenReturn(summarizedContent);
 
         // when
@@ -132,7 +132,7 @@ class BookContentQuoteSummaryServiceTest {
         when(bookPort.findBookById(eq(bookId))).thenReturn(Optional.of(testBook));
         when(bookContentSearchUseCase.findRelevantSections(eq(bookId), eq(keyword), eq(maxSectionLength), eq(maxSections)))
             .thenReturn(sections);
-        when(bookContentSearchUseCase.findAndSummarizeRelevantSections(eq(bookId), eq(keyword), eq(maxSectionLength), eq(maxSections)))
+        when(bookContentSearchUseCase.summarizeSections(eq(sections)))
             .thenReturn(summaries);
 
         // when
@@ -166,7 +166,7 @@ class BookContentQuoteSummaryServiceTest {
         when(bookPort.findBookById(eq(bookId))).thenReturn(Optional.of(testBook));
         when(bookContentSearchUseCase.findRelevantSections(eq(bookId), eq(keyword), eq(maxSectionLength), eq(maxSections)))
             .thenReturn(sections);
-        when(bookContentSearchUseCase.findAndSummarizeAsQuote(eq(bookId), eq(keyword), eq(maxSectionLength), eq(maxSections)))
+        when(bookContentSearchUseCase.summarizeAsQuote(eq(sections)))
             .thenReturn(integratedSummary);
 
         // when
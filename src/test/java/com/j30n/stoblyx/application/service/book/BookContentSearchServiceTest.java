@@ -3,6 +3,7 @@ package com.j30n.stoblyx.application.service.book;
 import com.j30n.stoblyx.adapter.out.persistence.ai.KoBartClient;
 import com.j30n.stoblyx.application.port.out.book.BookPort;
 import com.j30n.stoblyx.application.port.out.summary.SummaryPort;
+import com.j30n.stoblyx.domain.event.SummaryChangedEvent;
 import com.j30n.stoblyx.domain.model.Book;
 import com.j30n.stoblyx.domain.model.BookInfo;
 import com.j30n.stoblyx.domain.model.Summary;
@@ -23,6 +24,8 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -270,4 +273,26 @@ class BookContentSearchServiceTest {
         // then
         assertThat(result).isEmpty();
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("책마다 구절 색인을 한 번만 구축하고 요약이 바뀌면 다시 구축해야 한다")
+    void findRelevantSections_ShouldReuseIndexUntilSummariesChange() {
+        // given
+        Long bookId = 1L;
+
+        when(bookPort.findBookById(eq(bookId))).thenReturn(Optional.of(testBook));
+        when(summaryPort.findByBook(eq(testBook), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(testSummaries));
+
+        // when
+        List<String> first = bookContentSearchService.findRelevantSections(bookId, "농업", 1000, 1);
+        List<String> second = bookContentSearchService.findRelevantSections(bookId, "과학", 1000, 1);
+        bookContentSearchService.onSummaryChanged(new SummaryChangedEvent(bookId));
+        bookContentSearchService.findRelevantSections(bookId, "인지혁명", 1000, 1);
+
+        // then
+        assertThat(first).singleElement().asString().startsWith("농업혁명은");
+        assertThat(second).singleElement().asString().startsWith("과학혁명은");
+        verify(summaryPort, times(2)).findByBook(eq(testBook), any(Pageable.class));
+    }
+}
@@ -0,0 +1,49 @@
+package com.j30n.stoblyx.application.service.book;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PassageIndex 테스트")
+class PassageIndexTest {
+
+    @Test
+    @DisplayName("검색어가 자주, 짧은 구절에 나올수록 높은 순위로 반환한다")
+    void search_ranksPassagesByBm25() {
+        PassageIndex index = PassageIndex.build(List.of(
+            "농업혁명은 인류 역사의 가장 큰 사기라고 할 수 있다. 농부들은 더 오래 일했다.",
+            "과학혁명은 무지를 인정하는 데서 시작되었다. 과학은 관찰과 수학으로 지식을 얻는다. 과학과 제국은 함께 성장했다.",
+            "인지혁명으로 사피엔스는 상상 속의 현실을 만들었다."
+        ), 400);
+
+        List<String> result = index.search("과학", 2);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0)).startsWith("과학혁명은");
+        assertThat(index.search("혁명", 3)).hasSize(3);
+        assertThat(index.search("사피엔스 상상", 3).get(0)).startsWith("인지혁명으로");
+    }
+
+    @Test
+    @DisplayName("문단마다 구절로 나누고 긴 문단은 문장 경계에서 최대 길이 이하로 나눈다")
+    void build_splitsParagraphsAndLongSentences() {
+        String longParagraph = "첫 번째 문장입니다. 두 번째 문장입니다. 세 번째 문장입니다.";
+        PassageIndex index = PassageIndex.build(List.of("짧은 문단\n\n다른 문단", longParagraph), 23);
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.search("문장", 4)).containsExactlyInAnyOrder("첫 번째 문장입니다. 두 번째 문장입니다.", "세 번째 문장입니다.");
+        assertThat(index.search("다른", 1)).containsExactly("다른 문단");
+    }
+
+    @Test
+    @DisplayName("일치하는 구절이 없으면 앞쪽 구절을 원래 순서대로 반환한다")
+    void search_withoutMatch_returnsLeadingPassages() {
+        PassageIndex index = PassageIndex.build(List.of("첫 번째 요약", "두 번째 요약", "세 번째 요약"), 400);
+
+        assertThat(index.search("컴퓨터", 2)).containsExactly("첫 번째 요약", "두 번째 요약");
+        assertThat(PassageIndex.build(List.of(), 400).search("컴퓨터", 2)).isEmpty();
+    }
+}
@@ -0,0 +1,124 @@
+package com.j30n.stoblyx.application.service.content;
+
+import com.j30n.stoblyx.adapter.out.persistence.content.ContentCounterJdbcAdapter;
+import com.j30n.stoblyx.adapter.out.persistence.content.ContentCounterMemoryBufferAdapter;
+import com.j30n.stoblyx.domain.enums.ContentCounterType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * 조회수 반영 방식별 처리량을 비교하는 수동 벤치마크
+ * <p>
+ * 기존 방식(행을 읽고 전체 컬럼을 다시 쓰는 트랜잭션)과 {@link ContentCounterService}(버퍼에 더하고 주기적으로 일괄 반영)를
+ * 인메모리 H2 에서 같은 인기 콘텐츠 쏠림으로 실행해 초당 조회 수와 유실된 조회 수를 출력합니다.
+ * 테스트 실행에 포함되지 않으며 IDE 나 {@code java -cp} 로 직접 실행합니다.
+ * 인자: [스레드 수 (기본 8)] [스레드당 조회 수 (기본 5000)] [플러시 간격 ms (기본 200)]
+ * </p>
+ */
+public final class ContentCounterBenchmark {
+
+    private static final int CONTENT_COUNT = 100;
+    // 조회의 절반은 상위 5개 콘텐츠에 몰림
+    private static final int HOT_CONTENT_COUNT = 5;
+
+    private ContentCounterBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int viewsPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        long flushIntervalMs = args.length > 2 ? Long.parseLong(args[2]) : 200;
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:counter-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("CREATE TABLE SHORT_FORM_CONTENTS (id BIGINT PRIMARY KEY, title VARCHAR(100), " +
+            "description VARCHAR(1000), status VARCHAR(20), viewCount INT DEFAULT 0, likeCount INT DEFAULT 0, " +
+            "shareCount INT DEFAULT 0, modified_at TIMESTAMP)");
+        for (long id = 1; id <= CONTENT_COUNT; id++) {
+            jdbcTemplate.update("INSERT INTO SHORT_FORM_CONTENTS (id, title, description, status) VALUES (?, ?, ?, ?)",
+                id, "콘텐츠 " + id, "설명 " + id, "PUBLISHED");
+        }
+        long totalViews = (long) threads * viewsPerThread;
+        System.out.printf("스레드 %d개, 총 조회 %d건, 콘텐츠 %d개%n", threads, totalViews, CONTENT_COUNT);
+
+        // 기존 방식: findById 후 엔티티를 수정해 save (전체 컬럼 UPDATE)
+        reset(jdbcTemplate);
+        long elapsed = run(threads, viewsPerThread, contentId -> transactionTemplate.executeWithoutResult(status -> {
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT id, title, description, status, viewCount, likeCount, shareCount FROM SHORT_FORM_CONTENTS WHERE id = ?",
+                contentId);
+            jdbcTemplate.update("UPDATE SHORT_FORM_CONTENTS SET title = ?, description = ?, status = ?, viewCount = ?, " +
+                    "likeCount = ?, shareCount = ?, modified_at = CURRENT_TIMESTAMP WHERE id = ?",
+                row.get("TITLE"), row.get("DESCRIPTION"), row.get("STATUS"), ((Number) row.get("VIEWCOUNT")).intValue() + 1,
+                row.get("LIKECOUNT"), row.get("SHARECOUNT"), contentId);
+        }));
+        report("load+save", elapsed, totalViews, storedViews(jdbcTemplate));
+
+        // 지연 반영: 버퍼에 더하고 별도 스레드가 주기적으로 일괄 반영
+        reset(jdbcTemplate);
+        ContentCounterService counterService = new ContentCounterService(new ContentCounterJdbcAdapter(jdbcTemplate, 500),
+            new ContentCounterMemoryBufferAdapter(), new SimpleMeterRegistry(), "", 1024 * 1024);
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+        flusher.scheduleWithFixedDelay(counterService::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        elapsed = run(threads, viewsPerThread, contentId -> counterService.increment(ContentCounterType.VIEW, contentId));
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        counterService.flush();
+        report("write-behind", elapsed, totalViews, storedViews(jdbcTemplate));
+    }
+
+    private static long run(int threads, int viewsPerThread, ViewAction action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?>[] futures = new Future<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            futures[t] = executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < viewsPerThread; i++) {
+                    long contentId = random.nextBoolean()
+                        ? random.nextInt(HOT_CONTENT_COUNT) + 1
+                        : random.nextInt(CONTENT_COUNT) + 1;
+                    action.view(contentId);
+                }
+                return null;
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        return elapsed;
+    }
+
+    private static void reset(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("UPDATE SHORT_FORM_CONTENTS SET viewCount = 0");
+    }
+
+    private static long storedViews(JdbcTemplate jdbcTemplate) {
+        Long views = jdbcTemplate.queryForObject("SELECT SUM(viewCount) FROM SHORT_FORM_CONTENTS", Long.class);
+        return views != null ? views : 0;
+    }
+
+    private static void report(String label, long elapsedNanos, long totalViews, long storedViews) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%-13s %8.3f초  %,12.0f 조회/초  저장된 조회 %d건 (유실 %d건)%n",
+            label, seconds, totalViews / seconds, storedViews, totalViews - storedViews);
+    }
+
+    @FunctionalInterface
+    private interface ViewAction {
+        void view(long contentId) throws Exception;
+    }
+}
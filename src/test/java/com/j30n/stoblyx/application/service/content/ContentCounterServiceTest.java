@@ -0,0 +1,128 @@
+package com.j30n.stoblyx.application.service.content;
+
+import com.j30n.stoblyx.adapter.out.persistence.content.ContentCounterMemoryBufferAdapter;
+import com.j30n.stoblyx.application.port.out.content.ContentCounterPort;
+import com.j30n.stoblyx.domain.enums.ContentCounterType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContentCounterService 테스트")
+class ContentCounterServiceTest {
+
+    @Mock
+    private ContentCounterPort contentCounterPort;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("동시에 들어온 조회를 콘텐츠별로 합산해 한 번에 반영하고 반영 전에는 대기 증분으로 보여준다")
+    void flush_sumsConcurrentIncrementsPerContent() throws Exception {
+        ContentCounterService service = service("");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    service.increment(ContentCounterType.VIEW, 1L);
+                    if (i % 10 == 0) {
+                        service.increment(ContentCounterType.VIEW, 2L);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        service.increment(ContentCounterType.SHARE, 1L);
+        when(contentCounterPort.addCounts(any(), anyMap())).thenAnswer(invocation -> invocation.<Map<?, ?>>getArgument(1).size());
+
+        assertThat(service.pending(ContentCounterType.VIEW, 1L)).isEqualTo(4000);
+        assertThat(service.flush()).isEqualTo(3);
+
+        verify(contentCounterPort).addCounts(ContentCounterType.VIEW, Map.of(1L, 4000L, 2L, 400L));
+        verify(contentCounterPort).addCounts(ContentCounterType.SHARE, Map.of(1L, 1L));
+        assertThat(service.pending(ContentCounterType.VIEW, 1L)).isZero();
+        assertThat(service.flush()).isZero();
+        verifyNoMoreInteractions(contentCounterPort);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증분은 버퍼에 남아 다음 플러시 때 새 증분과 함께 반영된다")
+    void flush_keepsIncrementsAfterFailure() {
+        ContentCounterService service = service("");
+        service.increment(ContentCounterType.VIEW, 7L);
+        service.increment(ContentCounterType.VIEW, 7L);
+        when(contentCounterPort.addCounts(eq(ContentCounterType.VIEW), anyMap()))
+            .thenThrow(new IllegalStateException("DB 연결 실패"))
+            .thenReturn(1);
+
+        assertThat(service.flush()).isZero();
+        assertThat(service.pending(ContentCounterType.VIEW, 7L)).isEqualTo(2);
+
+        service.increment(ContentCounterType.VIEW, 7L);
+        assertThat(service.flush()).isEqualTo(1);
+        verify(contentCounterPort).addCounts(ContentCounterType.VIEW, Map.of(7L, 3L));
+    }
+
+    @Test
+    @DisplayName("체크포인트 파일에 남은 증분은 재시작 시 복구되고 반영된 증분은 복구되지 않는다")
+    void recoverCheckpoint_restoresOnlyUnflushedIncrements() {
+        String checkpointFile = tempDir.resolve("counters.log").toString();
+        ContentCounterService crashed = service(checkpointFile);
+        crashed.increment(ContentCounterType.VIEW, 1L);
+        crashed.increment(ContentCounterType.VIEW, 1L);
+        crashed.increment(ContentCounterType.SHARE, 3L);
+        crashed.scheduledCheckpoint();
+
+        ContentCounterService restarted = service(checkpointFile);
+        restarted.recoverCheckpoint();
+        assertThat(restarted.pending(ContentCounterType.VIEW, 1L)).isEqualTo(2);
+        assertThat(restarted.pending(ContentCounterType.SHARE, 3L)).isEqualTo(1);
+
+        when(contentCounterPort.addCounts(any(), anyMap())).thenReturn(1);
+        restarted.flush();
+
+        ContentCounterService restartedAgain = service(checkpointFile);
+        restartedAgain.recoverCheckpoint();
+        assertThat(restartedAgain.pending(ContentCounterType.VIEW, 1L)).isZero();
+        assertThat(restartedAgain.pending(ContentCounterType.SHARE, 3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰다가 잘린 마지막 체크포인트 블록은 무시하고 그 전 블록을 복구한다")
+    void recoverCheckpoint_ignoresTornBlock() throws Exception {
+        Path checkpointFile = tempDir.resolve("counters.log");
+        ContentCounterService crashed = service(checkpointFile.toString());
+        crashed.increment(ContentCounterType.VIEW, 5L);
+        crashed.scheduledCheckpoint();
+        Files.writeString(checkpointFile, "BEGIN 1\nVIEW 5 100\nVIEW 6", StandardOpenOption.APPEND);
+
+        ContentCounterService restarted = service(checkpointFile.toString());
+        restarted.recoverCheckpoint();
+
+        assertThat(restarted.pending(ContentCounterType.VIEW, 5L)).isEqualTo(1);
+        assertThat(restarted.pending(ContentCounterType.VIEW, 6L)).isZero();
+    }
+
+    private ContentCounterService service(String checkpointFile) {
+        return new ContentCounterService(contentCounterPort, new ContentCounterMemoryBufferAdapter(),
+            new SimpleMeterRegistry(), checkpointFile, 1024 * 1024);
+    }
+}
@@ -0,0 +1,138 @@
+package com.j30n.stoblyx.application.service.content;
+
+import com.j30n.stoblyx.adapter.out.persistence.ai.BGMClient;
+import com.j30n.stoblyx.adapter.out.persistence.ai.PexelsClient;
+import com.j30n.stoblyx.adapter.out.persistence.ai.TTSClient;
+import com.j30n.stoblyx.domain.enums.GenerationStage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContentGenerationService 테스트")
+class ContentGenerationServiceTest {
+
+    private static final ContentGenerationService.GenerationRequest REQUEST =
+        new ContentGenerationService.GenerationRequest(1L, "데미안", "새는 알에서 나오려고 투쟁한다.");
+
+    @Mock
+    private TTSClient ttsClient;
+
+    @Mock
+    private BGMClient bgmClient;
+
+    @Mock
+    private PexelsClient pexelsClient;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ContentGenerationPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("단계들이 동시에 실행되어 전체 시간은 단계 시간의 합이 아니라 가장 느린 단계에 맞춰진다")
+    void generateMedia_boundedBySlowestStage() {
+        pipeline = pipeline(2_000, 1);
+        lenient().when(pexelsClient.searchVideo(anyString())).thenAnswer(delayed(0, "video"));
+        when(pexelsClient.searchImage(anyString())).thenAnswer(delayed(300, "image"));
+        when(ttsClient.generateSpeech(anyString())).thenAnswer(delayed(400, "audio"));
+        when(bgmClient.selectBGMByText(anyString())).thenAnswer(delayed(200, "bgm"));
+        ContentGenerationService service = service();
+
+        long startedAt = System.nanoTime();
+        ContentGenerationService.GeneratedMedia media = service.generateMedia(REQUEST);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(media.visual().thumbnailUrl()).isEqualTo("image");
+        assertThat(media.audioUrl()).isEqualTo("audio");
+        assertThat(media.bgmUrl()).isEqualTo("bgm");
+        assertThat(media.subtitles()).contains(REQUEST.quoteContent());
+        // 합은 900ms, 가장 느린 단계는 400ms
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(400).isLessThan(800);
+        assertThat(meterRegistry.get("content.generation.stage.duration")
+            .tag("stage", "narration").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시간 예산을 넘긴 단계는 예산만큼만 기다리고 대체 값을 쓴다")
+    void generateMedia_usesFallbackWhenStageExceedsBudget() {
+        pipeline = pipeline(300, 1);
+        lenient().when(pexelsClient.searchVideo(anyString())).thenAnswer(delayed(0, "video"));
+        when(pexelsClient.searchImage(anyString())).thenAnswer(delayed(0, "image"));
+        when(ttsClient.generateSpeech(anyString())).thenAnswer(delayed(0, "audio"));
+        when(bgmClient.selectBGMByText(anyString())).thenAnswer(delayed(5_000, "bgm"));
+        ContentGenerationService service = service();
+
+        long startedAt = System.nanoTime();
+        ContentGenerationService.GeneratedMedia media = service.generateMedia(REQUEST);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(media.audioUrl()).isEqualTo("audio");
+        assertThat(media.bgmUrl()).isNull();
+        assertThat(elapsedMillis).isLessThan(2_000);
+        assertThat(meterRegistry.get("content.generation.stage.duration")
+            .tag("stage", "bgm").tag("outcome", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("단계의 스레드와 대기열이 모두 차면 기다리지 않고 대체 값을 쓴다")
+    void submit_rejectsWhenStageIsFull() throws Exception {
+        pipeline = pipeline(2_000, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> busy = pipeline.submit(GenerationStage.BGM, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "first";
+        }, () -> "fallback");
+
+        CompletableFuture<String> rejected = pipeline.submit(GenerationStage.BGM, () -> "second", () -> "fallback");
+
+        assertThat(rejected).isCompletedWithValue("fallback");
+        assertThat(pipeline.queueDepth(GenerationStage.BGM)).isZero();
+        release.countDown();
+        assertThat(busy.get(1, TimeUnit.SECONDS)).isEqualTo("first");
+    }
+
+    private ContentGenerationService service() {
+        return new ContentGenerationService(ttsClient, bgmClient, pexelsClient, pipeline, meterRegistry);
+    }
+
+    private ContentGenerationPipeline pipeline(long timeoutMillis, int queueCapacity) {
+        Map<GenerationStage, ContentGenerationPipeline.StageSettings> settings = new EnumMap<>(GenerationStage.class);
+        for (GenerationStage stage : GenerationStage.values()) {
+            settings.put(stage, new ContentGenerationPipeline.StageSettings(1, queueCapacity, timeoutMillis));
+        }
+        return new ContentGenerationPipeline(settings, meterRegistry);
+    }
+
+    private static Answer<String> delayed(long millis, String value) {
+        return invocation -> {
+            Thread.sleep(millis);
+            return value;
+        };
+    }
+}
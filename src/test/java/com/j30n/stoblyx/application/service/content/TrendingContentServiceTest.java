@@ -0,0 +1,140 @@
+package com.j30n.stoblyx.application.service.content;
+
+import com.j30n.stoblyx.adapter.in.web.dto.system.SystemSettingDto;
+import com.j30n.stoblyx.adapter.out.persistence.content.TrendingScoreMemoryAdapter;
+import com.j30n.stoblyx.application.port.in.system.SystemSettingUseCase;
+import com.j30n.stoblyx.application.port.out.content.ContentPort;
+import com.j30n.stoblyx.domain.enums.SettingCategory;
+import com.j30n.stoblyx.domain.enums.TrendingEventType;
+import com.j30n.stoblyx.domain.model.TrendingDecay;
+import com.j30n.stoblyx.domain.model.TrendingEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrendingContentService 테스트")
+class TrendingContentServiceTest {
+
+    private static final Duration HALF_LIFE = Duration.ofHours(6);
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+    @Mock
+    private SystemSettingUseCase systemSettingUseCase;
+
+    @Mock
+    private ContentPort contentPort;
+
+    @Test
+    @DisplayName("오래된 반응은 반감기마다 절반으로 줄어든 것과 같은 순서로 정렬된다")
+    void record_ranksByDecayedScore() {
+        TrendingScoreMemoryAdapter store = new TrendingScoreMemoryAdapter(100);
+        // 하루 전 가중치 10 (현재 0.625), 방금 가중치 1, 방금 가중치 1 두 번 (현재 2)
+        store.record(1L, 10, NOW.minus(Duration.ofHours(24)), HALF_LIFE);
+        store.record(2L, 1, NOW, HALF_LIFE);
+        store.record(3L, 1, NOW, HALF_LIFE);
+        store.record(3L, 1, NOW, HALF_LIFE);
+
+        List<TrendingEntry> ranking = store.findRange(0, 10);
+
+        assertThat(ranking).extracting(TrendingEntry::contentId).containsExactly(3L, 2L, 1L);
+        assertThat(TrendingDecay.decayedValue(ranking.get(0).score(), NOW, HALF_LIFE)).isCloseTo(2.0, within(1e-9));
+        assertThat(TrendingDecay.decayedValue(ranking.get(2).score(), NOW, HALF_LIFE)).isCloseTo(0.625, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("페이지를 넘기는 사이 점수가 올라도 같은 콘텐츠가 다시 나오지 않는다")
+    void findAfter_neverRepeatsWhileScoresChange() {
+        TrendingScoreMemoryAdapter store = new TrendingScoreMemoryAdapter(100);
+        TrendingContentService service = service(store);
+        for (long id = 1; id <= 25; id++) {
+            store.record(id, id % 5 + 1, NOW, HALF_LIFE);
+        }
+
+        List<Long> seen = new ArrayList<>();
+        TrendingContentService.TrendingSlice slice = service.findAfter(null, 10);
+        seen.addAll(slice.contentIds());
+        while (slice.hasNext()) {
+            // 이미 본 콘텐츠와 아직 보지 않은 콘텐츠 모두 점수가 오름
+            store.record(seen.get(0), 100, NOW.plusSeconds(60), HALF_LIFE);
+            store.record(25L, 1, NOW.plusSeconds(60), HALF_LIFE);
+            slice = service.findAfter(slice.nextCursor(), 10);
+            seen.addAll(slice.contentIds());
+        }
+
+        assertThat(seen).doesNotHaveDuplicates().hasSizeGreaterThanOrEqualTo(24);
+        assertThat(slice.nextCursor()).isNull();
+        assertThatThrownBy(() -> service.findAfter("not-a-cursor", 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("반감기를 바꾸면 순위와 현재 값은 유지하고 이후 반응부터 새 반감기로 감쇠된다")
+    void applyHalfLife_rescalesOnce() {
+        TrendingScoreMemoryAdapter store = new TrendingScoreMemoryAdapter(100);
+        store.record(1L, 8, NOW.minus(Duration.ofHours(12)), HALF_LIFE);
+        store.record(2L, 1, NOW, HALF_LIFE);
+        double before = TrendingDecay.decayedValue(store.findRange(0, 1).get(0).score(), NOW, HALF_LIFE);
+
+        Duration longer = Duration.ofHours(24);
+        assertThat(store.applyHalfLife(longer, NOW)).isTrue();
+        assertThat(store.applyHalfLife(longer, NOW)).isFalse();
+
+        List<TrendingEntry> ranking = store.findRange(0, 10);
+        assertThat(ranking).extracting(TrendingEntry::contentId).containsExactly(1L, 2L);
+        assertThat(TrendingDecay.decayedValue(ranking.get(0).score(), NOW, longer)).isCloseTo(before, within(1e-9));
+
+        // 새 반감기로 1.5 를 더하면 콘텐츠 2 의 현재 값이 2.5 가 되어 콘텐츠 1 (2.0) 을 앞선다
+        store.record(2L, 1.5, NOW, HALF_LIFE);
+        assertThat(store.findRange(0, 10)).extracting(TrendingEntry::contentId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("보관 한도를 넘으면 가장 낮은 점수부터 버린다")
+    void record_trimsLowestScores() {
+        TrendingScoreMemoryAdapter store = new TrendingScoreMemoryAdapter(3);
+        for (long id = 1; id <= 5; id++) {
+            store.record(id, id, NOW, HALF_LIFE);
+        }
+
+        assertThat(store.count()).isEqualTo(3);
+        assertThat(store.findRange(0, 10)).extracting(TrendingEntry::contentId).containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    @DisplayName("운영 중 바꾼 가중치를 다시 읽어 반영하고, 가중치가 0 인 반응은 점수에 더하지 않는다")
+    void refreshSettings_appliesRuntimeWeights() {
+        TrendingScoreMemoryAdapter store = new TrendingScoreMemoryAdapter(100);
+        TrendingContentService service = service(store);
+        when(systemSettingUseCase.getSettingByKey(anyString())).thenReturn(Optional.empty());
+        when(systemSettingUseCase.getSettingByKey(TrendingContentService.weightSetting(TrendingEventType.VIEW)))
+            .thenReturn(Optional.of(setting(TrendingContentService.weightSetting(TrendingEventType.VIEW), "0")));
+
+        service.refreshSettings();
+        service.record(1L, TrendingEventType.VIEW);
+        service.record(2L, TrendingEventType.SHARE);
+
+        assertThat(store.findRange(0, 10)).extracting(TrendingEntry::contentId).containsExactly(2L);
+    }
+
+    private TrendingContentService service(TrendingScoreMemoryAdapter store) {
+        return new TrendingContentService(store, systemSettingUseCase, contentPort, 6, 1, 3, 5, 4, 1000);
+    }
+
+    private static SystemSettingDto setting(String key, String value) {
+        return new SystemSettingDto(1L, key, value, null, SettingCategory.RANKING, false, true, null, null, null);
+    }
+}
@@ -0,0 +1,185 @@
+package com.j30n.stoblyx.application.service.file;
+
+import com.j30n.stoblyx.common.util.ImageVariants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ImageThumbnailService 테스트")
+class ImageThumbnailServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ImageThumbnailService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("원본 옆에 크기별 이미지를 비율을 유지하며 만든다")
+    void enqueue_createsVariantsKeepingAspectRatio() throws Exception {
+        service = new ImageThumbnailService(new int[]{64, 256, 1024}, 2, 10, 10_000, meterRegistry);
+        Path original = writeImage("photo.jpg", 4000, 3000, "jpeg");
+
+        List<Path> variants = service.enqueue(original).get(30, TimeUnit.SECONDS);
+
+        assertThat(variants).extracting(path -> path.getFileName().toString())
+            .containsExactly("photo_1024.jpg", "photo_256.jpg", "photo_64.jpg");
+        assertThat(dimensions(dir.resolve("photo_1024.jpg"))).containsExactly(1024, 768);
+        assertThat(dimensions(dir.resolve("photo_256.jpg"))).containsExactly(256, 192);
+        assertThat(dimensions(dir.resolve("photo_64.jpg"))).containsExactly(64, 48);
+        assertThat(jobs("success")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작은 이미지는 키우지 않고, 투명한 PNG 는 투명도를 유지한다")
+    void enqueue_smallTransparentPng() throws Exception {
+        service = new ImageThumbnailService(new int[]{64, 256}, 1, 10, 10_000, meterRegistry);
+        BufferedImage image = new BufferedImage(100, 200, BufferedImage.TYPE_INT_ARGB);
+        Path original = dir.resolve("avatar.png");
+        ImageIO.write(image, "png", original.toFile());
+
+        service.enqueue(original).get(30, TimeUnit.SECONDS);
+
+        BufferedImage medium = ImageIO.read(dir.resolve("avatar_256.png").toFile());
+        assertThat(medium.getWidth()).isEqualTo(100);
+        assertThat(medium.getHeight()).isEqualTo(200);
+        assertThat(dimensions(dir.resolve("avatar_64.png"))).containsExactly(32, 64);
+        assertThat(medium.getColorModel().hasAlpha()).isTrue();
+        assertThat(medium.getRGB(50, 100) >>> 24).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 만든 크기는 다시 만들지 않는다")
+    void enqueue_skipsExistingVariants() throws Exception {
+        service = new ImageThumbnailService(new int[]{64}, 1, 10, 10_000, meterRegistry);
+        Path original = writeImage("cached.png", 300, 300, "png");
+        service.enqueue(original).get(30, TimeUnit.SECONDS);
+        Path variant = dir.resolve("cached_64.png");
+        long modified = Files.getLastModifiedTime(variant).toMillis();
+        Files.setLastModifiedTime(variant, FileTime.fromMillis(modified - 60_000));
+
+        service.enqueue(original).get(30, TimeUnit.SECONDS);
+
+        assertThat(Files.getLastModifiedTime(variant).toMillis()).isEqualTo(modified - 60_000);
+    }
+
+    @Test
+    @DisplayName("깨진 이미지는 실패로 끝나고 파생 이미지나 임시 파일을 남기지 않는다")
+    void enqueue_corruptImageFails() throws Exception {
+        service = new ImageThumbnailService(new int[]{64}, 1, 10, 10_000, meterRegistry);
+        Path original = Files.write(dir.resolve("broken.jpg"), new byte[]{(byte) 0xFF, (byte) 0xD8, 1, 2, 3});
+
+        assertThatThrownBy(() -> service.enqueue(original).get(30, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class);
+
+        try (var files = Files.list(dir)) {
+            assertThat(files).containsExactly(original);
+        }
+        assertThat(jobs("failure")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미지 하나가 제한 시간을 넘기면 중단하고 시간 초과로 끝난다")
+    void enqueue_timesOut() throws Exception {
+        service = new ImageThumbnailService(new int[]{64}, 1, 10, 1, meterRegistry);
+        Path original = writeImage("huge.png", 6000, 6000, "png");
+
+        assertThatThrownBy(() -> service.enqueue(original).get(30, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(TimeoutException.class);
+
+        assertThat(dir.resolve("huge_64.png")).doesNotExist();
+        assertThat(jobs("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 작업을 거절하고 나머지는 처리한다")
+    void enqueue_rejectsWhenQueueIsFull() throws Exception {
+        service = new ImageThumbnailService(new int[]{64}, 1, 1, 10_000, meterRegistry);
+        List<Path> originals = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            originals.add(writeImage("queued" + i + ".jpg", 3000, 3000, "jpeg"));
+        }
+        List<CompletableFuture<List<Path>>> results = originals.stream().map(service::enqueue).toList();
+
+        long rejected = results.stream()
+            .filter(result -> {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                    return false;
+                } catch (ExecutionException e) {
+                    return e.getCause() instanceof RejectedExecutionException;
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            })
+            .count();
+
+        assertThat(rejected).isPositive().isLessThanOrEqualTo(4);
+        assertThat(jobs("rejected")).isEqualTo(rejected);
+        assertThat(jobs("success")).isEqualTo(6 - rejected);
+    }
+
+    @Test
+    @DisplayName("파생 이미지 이름과 URL 규칙")
+    void imageVariantsNaming() {
+        assertThat(ImageVariants.fileName("abc.JPG", 64)).isEqualTo("abc_64.JPG");
+        assertThat(ImageVariants.originalFileName("abc_64.JPG")).isEqualTo("abc.JPG");
+        assertThat(ImageVariants.originalFileName("abc.jpg")).isNull();
+        assertThat(ImageVariants.isSupportedImage("doc.pdf")).isFalse();
+
+        assertThat(ImageVariants.url("http://localhost:8080/uploads/abc.png", 64))
+            .isEqualTo("http://localhost:8080/uploads/abc_64.png");
+        assertThat(ImageVariants.url("https://example.com/profile.jpg", 64)).isEqualTo("https://example.com/profile.jpg");
+        assertThat(ImageVariants.url(null, 64)).isNull();
+    }
+
+    private Path writeImage(String name, int width, int height, String format) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.ORANGE);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.setColor(Color.BLUE);
+        graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+        graphics.dispose();
+        Path path = dir.resolve(name);
+        ImageIO.write(image, format, path.toFile());
+        return path;
+    }
+
+    private static int[] dimensions(Path path) throws Exception {
+        BufferedImage image = ImageIO.read(path.toFile());
+        return new int[]{image.getWidth(), image.getHeight()};
+    }
+
+    private double jobs(String result) {
+        var counter = meterRegistry.find("image.thumbnail.jobs").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,135 @@
+package com.j30n.stoblyx.application.service.membership;
+
+import com.j30n.stoblyx.adapter.out.persistence.membership.MembershipPersistenceAdapter;
+import com.j30n.stoblyx.application.port.out.membership.MembershipStorePort;
+import com.j30n.stoblyx.application.service.bookmark.BookmarkService;
+import com.j30n.stoblyx.config.JpaTestConfig;
+import com.j30n.stoblyx.domain.enums.ContentStatus;
+import com.j30n.stoblyx.domain.enums.MembershipType;
+import com.j30n.stoblyx.domain.model.*;
+import com.j30n.stoblyx.domain.repository.ContentBookmarkRepository;
+import com.j30n.stoblyx.domain.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 목록 응답의 좋아요/북마크/저장 여부 확인이 페이지 크기와 관계없이 일정한 수의 쿼리로 끝나는지 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaTestConfig.class, MembershipPersistenceAdapter.class})
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:membership-query-count;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.sql.init.mode=never",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("반응 여부 일괄 조회 쿼리 수 테스트")
+class ViewerMembershipQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MembershipPersistenceAdapter membershipPersistenceAdapter;
+
+    @Autowired
+    private ContentBookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User viewer;
+    private final List<Long> contentIds = new ArrayList<>();
+    private final List<Long> quoteIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        viewer = entityManager.persist(User.builder()
+            .username("viewer").password("password").nickname("뷰어").email("viewer@example.com").build());
+        Book book = entityManager.persist(new Book(BookInfo.builder().title("사피엔스").author("유발 하라리").build()));
+        for (int i = 0; i < 30; i++) {
+            Quote quote = entityManager.persist(Quote.builder()
+                .user(viewer).book(book).content("인용구 " + i).page(i + 1).build());
+            ShortFormContent content = entityManager.persist(ShortFormContent.builder()
+                .book(book).quote(quote).title("콘텐츠 " + i).status(ContentStatus.PUBLISHED).build());
+            quoteIds.add(quote.getId());
+            contentIds.add(content.getId());
+            if (i % 3 == 0) {
+                entityManager.persist(Like.builder().user(viewer).quote(quote).build());
+                entityManager.persist(ContentBookmark.builder().user(viewer).content(content).build());
+            }
+            if (i % 5 == 0) {
+                entityManager.persist(SavedQuote.builder().user(viewer).quote(quote).build());
+                entityManager.persist(ContentLike.builder().user(viewer).content(content).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("저장소 없이도 페이지 크기와 관계없이 반응 종류마다 쿼리 한 번으로 여부를 확인한다")
+    void findMembers_issuesOneQueryPerRelationRegardlessOfPageSize() {
+        ViewerMembershipService service = new ViewerMembershipService(membershipPersistenceAdapter,
+            mock(MembershipStorePort.class), false);
+
+        long smallPageQueries = countQueries(() -> service.findMembers(viewer.getId(), contentIds.subList(0, 5),
+            MembershipType.LIKED_CONTENT, MembershipType.BOOKMARKED_CONTENT));
+        long largePageQueries = countQueries(() -> service.findMembers(viewer.getId(), contentIds,
+            MembershipType.LIKED_CONTENT, MembershipType.BOOKMARKED_CONTENT));
+        Map<MembershipType, Set<Long>> quoteMembers = service.findMembers(viewer.getId(), quoteIds.subList(0, 10),
+            MembershipType.LIKED_QUOTE, MembershipType.SAVED_QUOTE);
+
+        assertThat(smallPageQueries).isEqualTo(2);
+        assertThat(largePageQueries).isEqualTo(2);
+        assertThat(quoteMembers.get(MembershipType.LIKED_QUOTE))
+            .containsExactlyInAnyOrder(quoteIds.get(0), quoteIds.get(3), quoteIds.get(6), quoteIds.get(9));
+        assertThat(quoteMembers.get(MembershipType.SAVED_QUOTE))
+            .containsExactlyInAnyOrder(quoteIds.get(0), quoteIds.get(5));
+    }
+
+    @Test
+    @DisplayName("북마크 목록은 콘텐츠를 함께 조회해 항목 수와 관계없이 쿼리 수가 일정하다")
+    void getBookmarks_loadsContentsWithoutPerItemQueries() {
+        BookmarkService bookmarkService = new BookmarkService(bookmarkRepository, userRepository);
+
+        long smallPageQueries = countQueries(() -> bookmarkService.getBookmarks(viewer.getId(), null, PageRequest.of(0, 2)));
+        entityManager.clear();
+        long largePageQueries = countQueries(() -> bookmarkService.getBookmarks(viewer.getId(), null, PageRequest.of(0, 8)));
+
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+    }
+
+    private long countQueries(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
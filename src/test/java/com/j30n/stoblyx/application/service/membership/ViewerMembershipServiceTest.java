@@ -0,0 +1,87 @@
+package com.j30n.stoblyx.application.service.membership;
+
+import com.j30n.stoblyx.adapter.out.persistence.membership.MembershipMemoryStoreAdapter;
+import com.j30n.stoblyx.application.port.out.membership.MembershipPort;
+import com.j30n.stoblyx.application.port.out.membership.MembershipStorePort;
+import com.j30n.stoblyx.domain.enums.MembershipType;
+import com.j30n.stoblyx.domain.event.MembershipChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ViewerMembershipService 테스트")
+class ViewerMembershipServiceTest {
+
+    @Mock
+    private MembershipPort membershipPort;
+
+    private ViewerMembershipService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ViewerMembershipService(membershipPort, new MembershipMemoryStoreAdapter(1800, 10_000), true);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB 에서 반응 집합을 적재하고 이후 페이지는 저장소에서 한 번에 확인한다")
+    void findMembers_warmsLazilyOncePerUserAndType() {
+        when(membershipPort.findItemIds(MembershipType.LIKED_CONTENT, 1L)).thenReturn(List.of(10L, 30L));
+        when(membershipPort.findItemIds(MembershipType.BOOKMARKED_CONTENT, 1L)).thenReturn(List.of());
+
+        Map<MembershipType, Set<Long>> first = service.findMembers(1L, List.of(10L, 20L, 30L),
+            MembershipType.LIKED_CONTENT, MembershipType.BOOKMARKED_CONTENT);
+        Map<MembershipType, Set<Long>> second = service.findMembers(1L, List.of(30L, 40L),
+            MembershipType.LIKED_CONTENT, MembershipType.BOOKMARKED_CONTENT);
+
+        assertThat(first.get(MembershipType.LIKED_CONTENT)).containsExactlyInAnyOrder(10L, 30L);
+        assertThat(first.get(MembershipType.BOOKMARKED_CONTENT)).isEmpty();
+        assertThat(second.get(MembershipType.LIKED_CONTENT)).containsExactly(30L);
+        assertThat(second.get(MembershipType.BOOKMARKED_CONTENT)).isEmpty();
+        verify(membershipPort, times(1)).findItemIds(MembershipType.LIKED_CONTENT, 1L);
+        verify(membershipPort, times(1)).findItemIds(MembershipType.BOOKMARKED_CONTENT, 1L);
+    }
+
+    @Test
+    @DisplayName("좋아요, 취소 이벤트는 적재된 집합에 바로 반영되고 적재되지 않은 사용자는 건드리지 않는다")
+    void onMembershipChanged_updatesWarmSetsOnly() {
+        when(membershipPort.findItemIds(MembershipType.LIKED_QUOTE, 1L)).thenReturn(List.of(5L));
+        assertThat(service.isMember(MembershipType.LIKED_QUOTE, 1L, 5L)).isTrue();
+
+        service.onMembershipChanged(new MembershipChangedEvent(MembershipType.LIKED_QUOTE, 1L, 7L, true));
+        service.onMembershipChanged(new MembershipChangedEvent(MembershipType.LIKED_QUOTE, 1L, 5L, false));
+        service.onMembershipChanged(new MembershipChangedEvent(MembershipType.LIKED_QUOTE, 2L, 7L, true));
+
+        assertThat(service.findMembers(1L, List.of(5L, 7L), MembershipType.LIKED_QUOTE).get(MembershipType.LIKED_QUOTE))
+            .containsExactly(7L);
+        verify(membershipPort, times(1)).findItemIds(MembershipType.LIKED_QUOTE, 1L);
+
+        when(membershipPort.findItemIds(MembershipType.LIKED_QUOTE, 2L)).thenReturn(List.of(9L));
+        assertThat(service.isMember(MembershipType.LIKED_QUOTE, 2L, 7L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장소 조회에 실패하거나 비로그인 사용자이면 DB 결과나 빈 집합으로 응답한다")
+    void findMembers_fallsBackWhenStoreFailsOrAnonymous() {
+        MembershipStorePort failingStore = mock(MembershipStorePort.class);
+        when(failingStore.findMembers(anyLong(), anyCollection(), anyCollection()))
+            .thenThrow(new IllegalStateException("Redis 연결 실패"));
+        ViewerMembershipService fallback = new ViewerMembershipService(membershipPort, failingStore, true);
+        when(membershipPort.findItemIds(MembershipType.SAVED_QUOTE, 1L, List.of(3L))).thenReturn(List.of(3L));
+
+        assertThat(fallback.isMember(MembershipType.SAVED_QUOTE, 1L, 3L)).isTrue();
+        assertThat(service.findMembers(null, List.of(3L), MembershipType.SAVED_QUOTE).get(MembershipType.SAVED_QUOTE))
+            .isEmpty();
+        verify(membershipPort, never()).findItemIds(MembershipType.SAVED_QUOTE, null);
+    }
+}
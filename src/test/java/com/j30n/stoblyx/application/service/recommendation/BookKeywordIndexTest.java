@@ -0,0 +1,97 @@
+package com.j30n.stoblyx.application.service.recommendation;
+
+import com.j30n.stoblyx.application.port.out.book.BookPort;
+import com.j30n.stoblyx.domain.event.BookChangedEvent;
+import com.j30n.stoblyx.domain.model.Book;
+import com.j30n.stoblyx.domain.model.BookInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookKeywordIndex 테스트")
+class BookKeywordIndexTest {
+
+    @Mock
+    private BookPort bookPort;
+
+    @InjectMocks
+    private BookKeywordIndex bookKeywordIndex;
+
+    private Book sapiens;
+    private Book homoDeus;
+    private Book cosmos;
+
+    @BeforeEach
+    void setUp() {
+        sapiens = createBook(1L, "사피엔스", "유발 하라리", List.of("역사"), "인류의 역사");
+        homoDeus = createBook(2L, "호모 데우스", "유발 하라리", List.of("미래"), "인류의 미래");
+        cosmos = createBook(3L, "코스모스", "칼 세이건", List.of("과학"), "우주의 역사");
+        bookKeywordIndex.rebuild(List.of(sapiens, homoDeus, cosmos));
+    }
+
+    @Test
+    @DisplayName("키워드를 공유하는 도서만 필드 가중치 순으로 반환한다")
+    void search_returnsOnlyMatchingBooksOrderedByWeight() {
+        // 제목(3.0) 매칭이 설명(1.0) 매칭보다 높아야 한다
+        BookKeywordIndex.SearchResult result = bookKeywordIndex.search(Map.of("사피엔스", 1.0, "역사", 1.0), 10);
+
+        assertThat(result.bookIds()).containsExactly(1L, 3L);
+        assertThat(result.totalHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("limit 만큼만 반환하고 전체 후보 수는 유지한다")
+    void search_limitsResults() {
+        BookKeywordIndex.SearchResult result = bookKeywordIndex.search(Map.of("인류의", 1.0, "역사", 1.0), 1);
+
+        assertThat(result.bookIds()).containsExactly(1L);
+        assertThat(result.totalHits()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("유사 도서 검색은 기준 도서를 제외한다")
+    void searchSimilar_excludesTargetBook() {
+        BookKeywordIndex.SearchResult result = bookKeywordIndex.searchSimilar(sapiens, 10);
+
+        assertThat(result.bookIds()).doesNotContain(1L);
+        assertThat(result.bookIds().get(0)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트로 표시된 도서만 재색인하고 삭제된 도서는 제거한다")
+    void refreshDirtyBooks_appliesIncrementalChanges() {
+        Book updatedCosmos = createBook(3L, "코스모스", "칼 세이건", List.of("과학"), "사피엔스 이후의 우주");
+        when(bookPort.findAllByIds(anyList())).thenReturn(List.of(updatedCosmos));
+
+        bookKeywordIndex.onBookChanged(new BookChangedEvent(2L));
+        bookKeywordIndex.onBookChanged(new BookChangedEvent(3L));
+        bookKeywordIndex.refreshDirtyBooks();
+
+        assertThat(bookKeywordIndex.search(Map.of("사피엔스", 1.0), 10).bookIds()).containsExactly(1L, 3L);
+        assertThat(bookKeywordIndex.search(Map.of("호모", 1.0), 10).totalHits()).isZero();
+    }
+
+    private Book createBook(Long id, String title, String author, List<String> genres, String description) {
+        Book book = new Book(BookInfo.builder()
+            .title(title)
+            .author(author)
+            .genres(genres)
+            .description(description)
+            .build());
+        ReflectionTestUtils.setField(book, "id", id);
+        return book;
+    }
+}
@@ -0,0 +1,146 @@
+package com.j30n.stoblyx.application.service.recommendation;
+
+import com.j30n.stoblyx.application.port.out.recommendation.UserSimilarityMatrixPort;
+import com.j30n.stoblyx.domain.model.UserSimilarityScore;
+import com.j30n.stoblyx.domain.model.UserTermWeight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IncrementalUserSimilarityService 테스트")
+class IncrementalUserSimilarityServiceTest {
+
+    @Mock
+    private UserSimilarityMatrixPort userSimilarityMatrixPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IncrementalUserSimilarityService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new IncrementalUserSimilarityService(userSimilarityMatrixPort,
+            new ConcurrentMapCacheManager("userRecommendations"), meterRegistry, 0.3, 10, 10, 0);
+    }
+
+    @Test
+    @DisplayName("변경된 사용자만 다시 읽고 점수가 바뀐 후보는 자기 상위 K명을 다시 계산한다")
+    void processDirtyUsers_recomputesOnlyDirtyUsers() {
+        // 전체 모델: 사용자1 {a, b}, 사용자2 {a}, 사용자3 {c}
+        doAnswer(invocation -> {
+            Consumer<UserTermWeight> consumer = invocation.getArgument(0);
+            consumer.accept(new UserTermWeight(1L, "a", 1));
+            consumer.accept(new UserTermWeight(1L, "b", 1));
+            consumer.accept(new UserTermWeight(2L, "a", 1));
+            consumer.accept(new UserTermWeight(3L, "c", 1));
+            return null;
+        }).when(userSimilarityMatrixPort).streamUserTermWeights(any());
+        // 사용자3이 새로 "a"를 검색
+        doAnswer(invocation -> {
+            Consumer<UserTermWeight> consumer = invocation.getArgument(1);
+            consumer.accept(new UserTermWeight(3L, "a", 1));
+            return null;
+        }).when(userSimilarityMatrixPort).streamUserTermWeights(anyCollection(), any());
+        when(userSimilarityMatrixPort.upsertUserSimilarities(anyList(), any()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        service.markDirty(3L);
+        assertThat(meterRegistry.get("recommendation.similarity.dirty.users").gauge().value()).isEqualTo(1.0);
+
+        int written = service.processDirtyUsers();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserSimilarityScore>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(userSimilarityMatrixPort).upsertUserSimilarities(rowsCaptor.capture(), any());
+        assertThat(written).isEqualTo(6);
+        assertThat(rowsCaptor.getValue())
+            .extracting(UserSimilarityScore::sourceUserId, UserSimilarityScore::targetUserId)
+            .containsExactlyInAnyOrder(tuple(3L, 1L), tuple(3L, 2L), tuple(1L, 2L), tuple(1L, 3L),
+                tuple(2L, 1L), tuple(2L, 3L));
+        assertThat(rowsCaptor.getValue())
+            .filteredOn(row -> row.sourceUserId().equals(3L) && row.targetUserId().equals(2L))
+            .extracting(UserSimilarityScore::score)
+            .containsExactly(1.0);
+        verify(userSimilarityMatrixPort).deactivateSimilaritiesNotRefreshedSince(
+            argThat(sources -> sources.size() == 3 && sources.containsAll(List.of(1L, 2L, 3L))), any());
+        assertThat(service.dirtyUserCount()).isZero();
+        assertThat(meterRegistry.get("recommendation.similarity.incremental.users").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("후보 쪽 행은 후보의 상위 K명 안에 들 때만 쓰고, 점수가 떨어진 기존 이웃은 비활성화 대상에 넣는다")
+    void processDirtyUsers_boundsReverseRowsByNeighborTopK() {
+        service = new IncrementalUserSimilarityService(userSimilarityMatrixPort,
+            new ConcurrentMapCacheManager("userRecommendations"), meterRegistry, 0.3, 1, 10, 0);
+        // 사용자1 {a, b}, 사용자2 {a, b}: 서로 1.0. 사용자4 {z} 는 예전에 사용자3을 이웃으로 가졌음
+        doAnswer(invocation -> {
+            Consumer<UserTermWeight> consumer = invocation.getArgument(0);
+            consumer.accept(new UserTermWeight(1L, "a", 1));
+            consumer.accept(new UserTermWeight(1L, "b", 1));
+            consumer.accept(new UserTermWeight(2L, "a", 1));
+            consumer.accept(new UserTermWeight(2L, "b", 1));
+            consumer.accept(new UserTermWeight(4L, "z", 1));
+            return null;
+        }).when(userSimilarityMatrixPort).streamUserTermWeights(any());
+        // 사용자3이 "a" 만 검색: 사용자1, 2와 0.707
+        doAnswer(invocation -> {
+            Consumer<UserTermWeight> consumer = invocation.getArgument(1);
+            consumer.accept(new UserTermWeight(3L, "a", 1));
+            return null;
+        }).when(userSimilarityMatrixPort).streamUserTermWeights(anyCollection(), any());
+        when(userSimilarityMatrixPort.findActiveSourceUserIds(List.of(3L))).thenReturn(List.of(4L));
+        when(userSimilarityMatrixPort.upsertUserSimilarities(anyList(), any()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        service.markDirty(3L);
+        service.processDirtyUsers();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserSimilarityScore>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(userSimilarityMatrixPort).upsertUserSimilarities(rowsCaptor.capture(), any());
+        // 사용자1, 2의 상위 1명은 서로이므로 (1 → 3), (2 → 3) 은 쓰지 않음
+        assertThat(rowsCaptor.getValue())
+            .extracting(UserSimilarityScore::sourceUserId, UserSimilarityScore::targetUserId)
+            .containsExactlyInAnyOrder(tuple(3L, 1L), tuple(1L, 2L), tuple(2L, 1L));
+        // 사용자4 → 3 은 다시 쓰지 않고 사용자4 를 비활성화 대상에 넣어 끔
+        verify(userSimilarityMatrixPort).deactivateSimilaritiesNotRefreshedSince(
+            argThat(sources -> sources.containsAll(List.of(1L, 2L, 3L, 4L))), any());
+    }
+
+    @Test
+    @DisplayName("변경된 사용자가 없으면 아무 작업도 하지 않는다")
+    void processDirtyUsers_noopWhenClean() {
+        assertThat(service.processDirtyUsers()).isZero();
+
+        verifyNoInteractions(userSimilarityMatrixPort);
+    }
+
+    @Test
+    @DisplayName("모델은 한 번만 적재하고 이후 주기에는 변경 사용자만 조회한다")
+    void processDirtyUsers_loadsModelOnce() {
+        service.markDirty(1L);
+        service.processDirtyUsers();
+        service.markDirty(2L);
+        service.processDirtyUsers();
+
+        verify(userSimilarityMatrixPort, times(1)).streamUserTermWeights(any());
+        verify(userSimilarityMatrixPort, times(2)).streamUserTermWeights(anyCollection(), any());
+        verify(userSimilarityMatrixPort, times(2))
+            .deactivateSimilaritiesNotRefreshedSince(anyCollection(), any());
+    }
+}
@@ -0,0 +1,110 @@
+package com.j30n.stoblyx.application.service.recommendation;
+
+import com.j30n.stoblyx.application.port.out.recommendation.ItemNeighborPort;
+import com.j30n.stoblyx.domain.enums.NeighborItemType;
+import com.j30n.stoblyx.domain.model.ItemEngagement;
+import com.j30n.stoblyx.domain.model.ItemNeighbor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ItemNeighborService 테스트")
+class ItemNeighborServiceTest {
+
+    @Mock
+    private ItemNeighborPort itemNeighborPort;
+
+    private ItemNeighborService itemNeighborService;
+
+    @BeforeEach
+    void setUp() {
+        itemNeighborService = new ItemNeighborService(itemNeighborPort, 20, 1000, 5000, 200);
+    }
+
+    @Test
+    @DisplayName("전체 재구축은 공동 반응 코사인 유사도 순으로 이웃을 저장한다")
+    void rebuild_writesNeighborsOrderedByCosine() {
+        // 사용자1: 도서 1,2 / 사용자2: 도서 1,2,3 / 사용자3: 도서 3
+        when(itemNeighborPort.findMaxUserId()).thenReturn(3L);
+        when(itemNeighborPort.findEngagementsByUserIdRange(NeighborItemType.BOOK, 0L, 3L)).thenReturn(List.of(
+            new ItemEngagement(1L, 1L), new ItemEngagement(1L, 2L),
+            new ItemEngagement(2L, 1L), new ItemEngagement(2L, 2L), new ItemEngagement(2L, 3L),
+            new ItemEngagement(3L, 3L), new ItemEngagement(3L, 3L)
+        ));
+
+        int written = itemNeighborService.rebuild(NeighborItemType.BOOK);
+
+        List<ItemNeighbor> rows = captureReplacedRows();
+        List<ItemNeighbor> neighborsOfBook1 = rows.stream().filter(row -> row.getItemId().equals(1L)).toList();
+        assertThat(written).isEqualTo(rows.size());
+        assertThat(neighborsOfBook1).extracting(ItemNeighbor::getNeighborId).containsExactly(2L, 3L);
+        assertThat(neighborsOfBook1).extracting(ItemNeighbor::getNeighborRank).containsExactly(1, 2);
+        assertThat(neighborsOfBook1.get(0).getScore()).isEqualTo(1.0);
+        assertThat(neighborsOfBook1.get(1).getScore()).isEqualTo(0.5);
+        verify(itemNeighborPort).deleteNeighborsCreatedBefore(eq(NeighborItemType.BOOK), any());
+    }
+
+    @Test
+    @DisplayName("증분 갱신은 반응이 변경된 아이템의 이웃만 교체한다")
+    void refreshChanged_replacesOnlyChangedItems() {
+        when(itemNeighborPort.findMaxUserId()).thenReturn(2L);
+        when(itemNeighborPort.findEngagementsByUserIdRange(NeighborItemType.CONTENT, 0L, 2L)).thenReturn(List.of(
+            new ItemEngagement(1L, 10L), new ItemEngagement(1L, 20L),
+            new ItemEngagement(2L, 10L), new ItemEngagement(2L, 30L)
+        ));
+        itemNeighborService.rebuild(NeighborItemType.CONTENT);
+        reset(itemNeighborPort);
+
+        // 사용자3이 콘텐츠 30, 20에 새로 반응
+        when(itemNeighborPort.findItemIdsChangedSince(eq(NeighborItemType.CONTENT), any()))
+            .thenReturn(Set.of(30L));
+        when(itemNeighborPort.findUserIdsEngagedWith(eq(NeighborItemType.CONTENT), anyCollection()))
+            .thenReturn(Set.of(2L, 3L));
+        when(itemNeighborPort.findEngagementsByUserIds(eq(NeighborItemType.CONTENT), anyCollection())).thenReturn(List.of(
+            new ItemEngagement(2L, 10L), new ItemEngagement(2L, 30L),
+            new ItemEngagement(3L, 20L), new ItemEngagement(3L, 30L)
+        ));
+
+        itemNeighborService.refreshChanged(NeighborItemType.CONTENT);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> itemIdsCaptor = ArgumentCaptor.forClass(Collection.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ItemNeighbor>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(itemNeighborPort).replaceNeighbors(eq(NeighborItemType.CONTENT), itemIdsCaptor.capture(), rowsCaptor.capture());
+        assertThat(itemIdsCaptor.getValue()).containsExactly(30L);
+        assertThat(rowsCaptor.getValue()).extracting(ItemNeighbor::getItemId).containsOnly(30L);
+        assertThat(rowsCaptor.getValue()).extracting(ItemNeighbor::getNeighborId).containsExactlyInAnyOrder(10L, 20L);
+        verify(itemNeighborPort, never()).findEngagementsByUserIdRange(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("이웃 조회 개수는 top-K로 제한된다")
+    void getNeighborIds_capsLimitAtTopK() {
+        when(itemNeighborPort.findNeighborIds(NeighborItemType.BOOK, 1L, 20)).thenReturn(List.of(2L, 3L));
+
+        List<Long> neighborIds = itemNeighborService.getNeighborIds(NeighborItemType.BOOK, 1L, Integer.MAX_VALUE);
+
+        assertThat(neighborIds).containsExactly(2L, 3L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ItemNeighbor> captureReplacedRows() {
+        ArgumentCaptor<List<ItemNeighbor>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(itemNeighborPort).replaceNeighbors(eq(NeighborItemType.BOOK), anyCollection(), rowsCaptor.capture());
+        return rowsCaptor.getValue();
+    }
+}
@@ -0,0 +1,114 @@
+package com.j30n.stoblyx.application.service.recommendation;
+
+import com.j30n.stoblyx.application.port.out.recommendation.UserSimilarityMatrixPort;
+import com.j30n.stoblyx.domain.model.UserTermWeight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MinHashLshIndex 테스트")
+class MinHashLshIndexTest {
+
+    private static final MinHashLshIndex.Parameters PARAMETERS = new MinHashLshIndex.Parameters(32, 2, 2000, 7L);
+
+    @Mock
+    private UserSimilarityMatrixPort userSimilarityMatrixPort;
+
+    @Test
+    @DisplayName("검색어 집합이 같은 사용자는 항상 후보가 되고 자기 자신은 제외된다")
+    void collectCandidates_identicalSetsAlwaysCollide() {
+        UserTermMatrix matrix = matrixOf(List.of(
+            new UserTermWeight(1L, "소설", 1), new UserTermWeight(1L, "역사", 2),
+            new UserTermWeight(2L, "역사", 5), new UserTermWeight(2L, "소설", 1),
+            new UserTermWeight(3L, "과학", 1)
+        ));
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            MinHashLshIndex index = MinHashLshIndex.build(matrix, PARAMETERS, pool);
+            int[] marks = new int[matrix.userCount()];
+            int[] candidates = new int[matrix.userCount()];
+
+            int count = index.collectCandidates(0, marks, 1, candidates);
+
+            assertThat(Arrays.copyOf(candidates, count)).containsExactly(1);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("LSH 모드는 정확 계산의 높은 유사도 이웃 대부분을 같은 점수로 찾는다")
+    void computeNeighbors_lshRecallAgainstExact() {
+        UserTermMatrix matrix = matrixOf(clusteredUsers(new Random(7), 600, 30, 12, 6));
+        UserSimilarityEngine engine = new UserSimilarityEngine(userSimilarityMatrixPort, 4, 10, 0, 32,
+            "exact", 32, 2, 2000);
+
+        UserSimilarityEngine.Neighbors exact = engine.computeNeighbors(matrix, 0.5, 10);
+        UserSimilarityEngine.Neighbors approximate = engine.computeNeighbors(matrix, 0.5, 10, PARAMETERS);
+
+        int expected = 0;
+        int found = 0;
+        for (int row = 0; row < matrix.userCount(); row++) {
+            Map<Integer, Double> approximateScores = new HashMap<>();
+            for (int i = 0; i < approximate.targets()[row].length; i++) {
+                approximateScores.put(approximate.targets()[row][i], approximate.scores()[row][i]);
+            }
+            for (int i = 0; i < exact.targets()[row].length; i++) {
+                expected++;
+                Double score = approximateScores.get(exact.targets()[row][i]);
+                if (score != null) {
+                    found++;
+                    assertThat(score).isCloseTo(exact.scores()[row][i], within(1e-9));
+                }
+            }
+        }
+        assertThat(expected).isPositive();
+        assertThat((double) found / expected).isGreaterThan(0.9);
+    }
+
+    @Test
+    @DisplayName("밴드 수나 밴드당 행 수가 0 이하이면 예외가 발생한다")
+    void parameters_rejectInvalidValues() {
+        assertThatThrownBy(() -> new MinHashLshIndex.Parameters(0, 3, 100, 1L))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MinHashLshIndex.Parameters(10, 0, 100, 1L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 관심사 군집별 검색어 풀에서 검색어를 뽑은 사용자 데이터를 만듭니다.
+     */
+    static List<UserTermWeight> clusteredUsers(Random random, int userCount, int clusterCount,
+                                               int termsPerCluster, int termsPerUser) {
+        List<UserTermWeight> elements = new ArrayList<>();
+        for (long userId = 1; userId <= userCount; userId++) {
+            int cluster = random.nextInt(clusterCount);
+            Set<Integer> terms = new LinkedHashSet<>();
+            while (terms.size() < termsPerUser) {
+                terms.add(random.nextInt(10) == 0
+                    ? random.nextInt(clusterCount * termsPerCluster)
+                    : cluster * termsPerCluster + random.nextInt(termsPerCluster));
+            }
+            for (int term : terms) {
+                elements.add(new UserTermWeight(userId, "term" + term, 1 + random.nextInt(5)));
+            }
+        }
+        return elements;
+    }
+
+    private UserTermMatrix matrixOf(List<UserTermWeight> elements) {
+        UserTermMatrix.Builder builder = UserTermMatrix.builder(10);
+        elements.forEach(builder);
+        return builder.build();
+    }
+}
@@ -0,0 +1,209 @@
+package com.j30n.stoblyx.application.service.recommendation;
+
+import com.j30n.stoblyx.adapter.in.web.dto.book.BookResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.content.ContentResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.quote.QuoteResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.recommendation.RecommendationFeedResponse;
+import com.j30n.stoblyx.application.port.out.book.BookPort;
+import com.j30n.stoblyx.application.port.out.content.ContentPort;
+import com.j30n.stoblyx.application.port.out.quote.QuotePort;
+import com.j30n.stoblyx.application.port.out.recommendation.UserRecommendationStorePort;
+import com.j30n.stoblyx.application.service.membership.ViewerMembershipService;
+import com.j30n.stoblyx.domain.enums.MembershipType;
+import com.j30n.stoblyx.domain.enums.RecommendationItemType;
+import com.j30n.stoblyx.domain.model.Book;
+import com.j30n.stoblyx.domain.model.Quote;
+import com.j30n.stoblyx.domain.model.ShortFormContent;
+import com.j30n.stoblyx.domain.model.UserRecommendationList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserRecommendationFeedService 테스트")
+class UserRecommendationFeedServiceTest {
+
+    @Mock
+    private UserRecommendationStorePort userRecommendationStorePort;
+    @Mock
+    private ContentBasedRecommendationService contentBasedRecommendationService;
+    @Mock
+    private BookPort bookPort;
+    @Mock
+    private QuotePort quotePort;
+    @Mock
+    private ContentPort contentPort;
+    @Mock
+    private ViewerMembershipService viewerMembershipService;
+
+    private UserRecommendationFeedService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new UserRecommendationFeedService(userRecommendationStorePort, contentBasedRecommendationService,
+            bookPort, quotePort, contentPort, viewerMembershipService, 100, 20, 360, 72, 2);
+    }
+
+    @Test
+    @DisplayName("저장된 목록이 있으면 커서 구간의 도서만 조회하고 다음 커서를 돌려준다")
+    void getBookFeed_pagesStoredList() {
+        when(userRecommendationStorePort.findList(1L, RecommendationItemType.BOOK))
+            .thenReturn(Optional.of(list(1L, List.of(11L, 12L, 13L), LocalDateTime.now())));
+        when(bookPort.findAllByIds(anyList())).thenAnswer(invocation ->
+            invocation.<List<Long>>getArgument(0).stream().map(this::book).toList());
+
+        RecommendationFeedResponse<BookResponse> first = service.getBookFeed(1L, null, 2);
+        RecommendationFeedResponse<BookResponse> second = service.getBookFeed(1L, first.nextCursor(), 2);
+
+        assertThat(first.items()).extracting(BookResponse::id).containsExactly(11L, 12L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.items()).extracting(BookResponse::id).containsExactly(13L);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+        verifyNoInteractions(contentBasedRecommendationService);
+    }
+
+    @Test
+    @DisplayName("목록이 없으면 한 번 계산해 저장하고, 개인화 신호가 없으면 인기 목록으로 채운다")
+    void getBookFeed_generatesWithPopularFallbackOnMiss() {
+        when(userRecommendationStorePort.findList(1L, RecommendationItemType.BOOK)).thenReturn(Optional.empty());
+        when(contentBasedRecommendationService.recommendBookIds(1L, 100)).thenReturn(List.of());
+        Book popularBook = book(21L);
+        when(bookPort.findPopularBooks(any())).thenReturn(new PageImpl<>(List.of(popularBook)));
+        when(quotePort.findPopularQuotes(any())).thenReturn(Page.empty());
+        when(contentPort.findPopularContents(any())).thenReturn(Page.empty());
+        when(bookPort.findAllByIds(List.of(21L))).thenReturn(List.of(popularBook));
+
+        RecommendationFeedResponse<BookResponse> feed = service.getBookFeed(1L, null, 10);
+
+        assertThat(feed.items()).extracting(BookResponse::id).containsExactly(21L);
+        assertThat(feed.fallback()).isTrue();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<RecommendationItemType, List<Long>>> idsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(userRecommendationStorePort).saveLists(eq(1L), idsCaptor.capture(),
+            eq(Set.of(RecommendationItemType.values())), any());
+        assertThat(idsCaptor.getValue().get(RecommendationItemType.BOOK)).containsExactly(21L);
+    }
+
+    @Test
+    @DisplayName("인용구와 콘텐츠는 상위 추천 도서에서 고른다")
+    void refreshUserRecommendations_seedsQuotesAndContentsFromBooks() {
+        when(contentBasedRecommendationService.recommendBookIds(1L, 100)).thenReturn(List.of(5L, 6L));
+        Quote quote = mock(Quote.class);
+        when(quote.getId()).thenReturn(31L);
+        ShortFormContent content = mock(ShortFormContent.class);
+        when(content.getId()).thenReturn(41L);
+        when(quotePort.findByBookIds(eq(List.of(5L, 6L)), any())).thenReturn(new PageImpl<>(List.of(quote)));
+        when(contentPort.findByBookIds(eq(List.of(5L, 6L)), any())).thenReturn(new PageImpl<>(List.of(content)));
+
+        service.refreshUserRecommendations(1L);
+
+        verify(userRecommendationStorePort).saveLists(eq(1L), eq(Map.of(
+            RecommendationItemType.BOOK, List.of(5L, 6L),
+            RecommendationItemType.QUOTE, List.of(31L),
+            RecommendationItemType.CONTENT, List.of(41L))), eq(Set.of()), any());
+        verify(bookPort, never()).findPopularBooks(any());
+    }
+
+    @Test
+    @DisplayName("사전 계산은 만료된 목록을 조회한 사용자를 먼저, 최신 목록을 가진 활동 사용자는 건너뛴다")
+    void precomputeActiveUsers_prioritizesStaleReaders() {
+        when(userRecommendationStorePort.findList(9L, RecommendationItemType.BOOK))
+            .thenReturn(Optional.of(list(9L, List.of(), LocalDateTime.now().minusDays(1))));
+        service.getBookFeed(9L, null, 10);
+
+        when(bookPort.findPopularBooks(any())).thenReturn(Page.empty());
+        when(quotePort.findPopularQuotes(any())).thenReturn(Page.empty());
+        when(contentPort.findPopularContents(any())).thenReturn(Page.empty());
+        when(userRecommendationStorePort.findRecentlyActiveUserIds(any(), anyInt())).thenReturn(List.of(1L, 2L));
+        when(userRecommendationStorePort.findUserIdsGeneratedSince(eq(List.of(1L, 2L)), any())).thenReturn(Set.of(1L));
+        when(contentBasedRecommendationService.recommendBookIds(anyLong(), anyInt())).thenReturn(List.of());
+
+        int processed = service.precomputeActiveUsers();
+
+        assertThat(processed).isEqualTo(2);
+        var inOrder = inOrder(userRecommendationStorePort);
+        inOrder.verify(userRecommendationStorePort).saveLists(eq(9L), anyMap(), anySet(), any());
+        inOrder.verify(userRecommendationStorePort).saveLists(eq(2L), anyMap(), anySet(), any());
+        verify(userRecommendationStorePort, never()).saveLists(eq(1L), anyMap(), anySet(), any());
+    }
+
+    @Test
+    @DisplayName("인용구와 콘텐츠 피드는 조회한 사용자의 좋아요/저장/북마크 여부를 페이지 단위로 한 번에 채운다")
+    void getQuoteAndContentFeed_fillViewerMembership() {
+        when(userRecommendationStorePort.findList(1L, RecommendationItemType.QUOTE))
+            .thenReturn(Optional.of(list(1L, List.of(31L, 32L), LocalDateTime.now())));
+        when(userRecommendationStorePort.findList(1L, RecommendationItemType.CONTENT))
+            .thenReturn(Optional.of(list(1L, List.of(41L, 42L), LocalDateTime.now())));
+        List<Quote> quotePage = List.of(quote(31L), quote(32L));
+        List<ShortFormContent> contentPage = List.of(content(41L), content(42L));
+        when(quotePort.findAllByIds(List.of(31L, 32L))).thenReturn(quotePage);
+        when(contentPort.findAllByIds(List.of(41L, 42L))).thenReturn(contentPage);
+        when(viewerMembershipService.findMembers(1L, List.of(31L, 32L), MembershipType.LIKED_QUOTE, MembershipType.SAVED_QUOTE))
+            .thenReturn(Map.of(MembershipType.LIKED_QUOTE, Set.of(32L), MembershipType.SAVED_QUOTE, Set.of()));
+        when(viewerMembershipService.findMembers(1L, List.of(41L, 42L),
+            MembershipType.LIKED_CONTENT, MembershipType.BOOKMARKED_CONTENT))
+            .thenReturn(Map.of(MembershipType.LIKED_CONTENT, Set.of(41L), MembershipType.BOOKMARKED_CONTENT, Set.of(41L)));
+
+        List<QuoteResponse> quotes = service.getQuoteFeed(1L, null, 10).items();
+        List<ContentResponse> contents = service.getContentFeed(1L, null, 10).items();
+
+        assertThat(quotes).extracting(QuoteResponse::id, QuoteResponse::isLiked, QuoteResponse::isSaved)
+            .containsExactly(tuple(31L, false, false), tuple(32L, true, false));
+        assertThat(contents).extracting(ContentResponse::id, ContentResponse::isLiked, ContentResponse::isBookmarked)
+            .containsExactly(tuple(41L, true, true), tuple(42L, false, false));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외가 발생한다")
+    void getBookFeed_rejectsInvalidCursor() {
+        assertThatThrownBy(() -> service.getBookFeed(1L, "%%%", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private UserRecommendationList list(Long userId, List<Long> itemIds, LocalDateTime generatedAt) {
+        return UserRecommendationList.builder()
+            .userId(userId)
+            .itemType(RecommendationItemType.BOOK)
+            .itemIds(itemIds)
+            .isFallback(false)
+            .generatedAt(generatedAt)
+            .build();
+    }
+
+    private Book book(Long id) {
+        Book book = mock(Book.class);
+        lenient().when(book.getId()).thenReturn(id);
+        return book;
+    }
+
+    private Quote quote(Long id) {
+        Quote quote = mock(Quote.class, RETURNS_DEEP_STUBS);
+        lenient().when(quote.getId()).thenReturn(id);
+        return quote;
+    }
+
+    private ShortFormContent content(Long id) {
+        ShortFormContent content = mock(ShortFormContent.class, RETURNS_DEEP_STUBS);
+        lenient().when(content.getId()).thenReturn(id);
+        return content;
+    }
+}
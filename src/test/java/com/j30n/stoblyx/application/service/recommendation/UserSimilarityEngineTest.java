@@ -0,0 +1,154 @@
+package com.j30n.stoblyx.application.service.recommendation;
+
+import com.j30n.stoblyx.application.port.out.recommendation.UserSimilarityMatrixPort;
+import com.j30n.stoblyx.domain.model.UserSimilarityScore;
+import com.j30n.stoblyx.domain.model.UserTermWeight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserSimilarityEngine 테스트")
+class UserSimilarityEngineTest {
+
+    @Mock
+    private UserSimilarityMatrixPort userSimilarityMatrixPort;
+
+    @Test
+    @DisplayName("공유 검색어가 있는 사용자만 코사인 유사도 순으로 이웃이 된다")
+    void computeNeighbors_onlySharedTerms() {
+        UserTermMatrix matrix = matrixOf(List.of(
+            new UserTermWeight(1L, "소설", 3), new UserTermWeight(1L, "역사", 4),
+            new UserTermWeight(2L, "소설", 3), new UserTermWeight(2L, "역사", 4),
+            new UserTermWeight(3L, "역사", 4),
+            new UserTermWeight(4L, "과학", 5)
+        ), 10);
+        UserSimilarityEngine engine = exactEngine(2, 1);
+
+        UserSimilarityEngine.Neighbors neighbors = engine.computeNeighbors(matrix, 0.0, 10);
+
+        assertThat(neighbors.targets()[0]).containsExactly(1, 2);
+        assertThat(neighbors.scores()[0][0]).isCloseTo(1.0, within(1e-9));
+        assertThat(neighbors.scores()[0][1]).isCloseTo(0.8, within(1e-9));
+        assertThat(neighbors.targets()[3]).isEmpty();
+    }
+
+    @Test
+    @DisplayName("병렬 희소 계산 결과가 전체 쌍 비교 결과와 같다")
+    void computeNeighbors_matchesBruteForce() {
+        Random random = new Random(42);
+        List<UserTermWeight> elements = new ArrayList<>();
+        for (long userId = 1; userId <= 300; userId++) {
+            Set<Integer> terms = new LinkedHashSet<>();
+            int termCount = 1 + random.nextInt(8);
+            while (terms.size() < termCount) {
+                terms.add(random.nextInt(60));
+            }
+            for (int term : terms) {
+                elements.add(new UserTermWeight(userId, "term" + term, 1 + random.nextInt(20)));
+            }
+        }
+        UserTermMatrix matrix = matrixOf(elements, 10);
+        UserSimilarityEngine engine = exactEngine(4, 16);
+
+        int topK = 5;
+        double threshold = 0.2;
+        UserSimilarityEngine.Neighbors neighbors = engine.computeNeighbors(matrix, threshold, topK);
+
+        Map<Long, Map<String, Double>> vectors = new HashMap<>();
+        for (UserTermWeight element : elements) {
+            vectors.computeIfAbsent(element.userId(), id -> new HashMap<>()).put(element.term(), element.weight());
+        }
+        for (int row = 0; row < matrix.userCount(); row++) {
+            Map<String, Double> source = vectors.get(matrix.userId(row));
+            List<double[]> expected = new ArrayList<>();
+            for (int other = 0; other < matrix.userCount(); other++) {
+                double score = other == row ? 0.0 : cosine(source, vectors.get(matrix.userId(other)));
+                if (score > 0 && score >= threshold) {
+                    expected.add(new double[]{other, score});
+                }
+            }
+            expected.sort((a, b) -> a[1] != b[1] ? Double.compare(b[1], a[1]) : Double.compare(a[0], b[0]));
+
+            double[] actualScores = neighbors.scores()[row];
+            assertThat(actualScores).hasSize(Math.min(topK, expected.size()));
+            for (int i = 0; i < actualScores.length; i++) {
+                assertThat(actualScores[i]).isCloseTo(expected.get(i)[1], within(1e-9));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("실행 시 사용자당 상위 K개를 upsert 하고 갱신되지 않은 결과를 비활성화한다")
+    void run_upsertsTopKAndDeactivatesStale() {
+        doAnswer(invocation -> {
+            Consumer<UserTermWeight> consumer = invocation.getArgument(0);
+            consumer.accept(new UserTermWeight(1L, "소설", 1));
+            consumer.accept(new UserTermWeight(2L, "소설", 1));
+            consumer.accept(new UserTermWeight(3L, "소설", 1));
+            return null;
+        }).when(userSimilarityMatrixPort).streamUserTermWeights(any());
+        when(userSimilarityMatrixPort.upsertUserSimilarities(anyList(), any()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        UserSimilarityEngine engine = exactEngine(1, 256);
+
+        int written = engine.run(0.3, 1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserSimilarityScore>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userSimilarityMatrixPort).upsertUserSimilarities(captor.capture(), any());
+        assertThat(written).isEqualTo(3);
+        assertThat(captor.getValue()).extracting(UserSimilarityScore::sourceUserId, UserSimilarityScore::targetUserId)
+            .containsExactly(
+                tuple(1L, 2L),
+                tuple(2L, 1L),
+                tuple(3L, 1L));
+        verify(userSimilarityMatrixPort).deactivateSimilaritiesNotRefreshedSince(any());
+    }
+
+    @Test
+    @DisplayName("사용자당 검색어 수는 먼저 들어온 순서로 제한된다")
+    void builder_limitsTermsPerUser() {
+        UserTermMatrix matrix = matrixOf(List.of(
+            new UserTermWeight(1L, "a", 1), new UserTermWeight(1L, "b", 1), new UserTermWeight(1L, "c", 1),
+            new UserTermWeight(2L, "c", 1)
+        ), 2);
+
+        assertThat(matrix.userCount()).isEqualTo(2);
+        assertThat(matrix.nonZeroCount()).isEqualTo(3);
+        assertThat(matrix.termCount()).isEqualTo(3);
+    }
+
+    private UserSimilarityEngine exactEngine(int parallelism, int leafSize) {
+        return new UserSimilarityEngine(userSimilarityMatrixPort, parallelism, 10, 0, leafSize, "exact", 32, 2, 2000);
+    }
+
+    private UserTermMatrix matrixOf(List<UserTermWeight> elements, int maxTermsPerUser) {
+        UserTermMatrix.Builder builder = UserTermMatrix.builder(maxTermsPerUser);
+        elements.forEach(builder);
+        return builder.build();
+    }
+
+    private double cosine(Map<String, Double> a, Map<String, Double> b) {
+        double dot = 0.0;
+        for (Map.Entry<String, Double> entry : a.entrySet()) {
+            dot += entry.getValue() * b.getOrDefault(entry.getKey(), 0.0);
+        }
+        double normA = Math.sqrt(a.values().stream().mapToDouble(v -> v * v).sum());
+        double normB = Math.sqrt(b.values().stream().mapToDouble(v -> v * v).sum());
+        return dot / (normA * normB);
+    }
+}
@@ -0,0 +1,93 @@
+package com.j30n.stoblyx.application.service.recommendation;
+
+import com.j30n.stoblyx.domain.model.UserTermWeight;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 정확 계산 대비 LSH 모드의 재현율과 처리량을 비교하는 수동 벤치마크
+ * <p>
+ * 테스트 실행에 포함되지 않으며 IDE 나 {@code java -cp} 로 직접 실행합니다.
+ * 인자: [사용자 수 (기본 100000)] [군집 수 (기본 1000)]
+ * </p>
+ */
+public final class UserSimilarityLshBenchmark {
+
+    private static final double THRESHOLD = 0.3;
+    private static final int TOP_K = 10;
+    private static final int[][] SETTINGS = {{20, 3}, {32, 2}, {64, 2}};
+
+    private UserSimilarityLshBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int clusterCount = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+
+        List<UserTermWeight> clustered = MinHashLshIndexTest.clusteredUsers(new Random(42), userCount, clusterCount, 15, 8);
+        benchmark("군집형", clustered);
+
+        // 모든 사용자가 소수의 인기 검색어를 공유하면 역색인 접촉 수가 사용자 수의 제곱에 가까워집니다.
+        // 행렬 빌더는 사용자별로 연속된 입력을 기대하므로 각 사용자 묶음 뒤에 인기 검색어를 붙입니다.
+        List<UserTermWeight> popular = new ArrayList<>(clustered.size() + userCount);
+        Random random = new Random(43);
+        for (int i = 0; i < clustered.size(); i++) {
+            UserTermWeight element = clustered.get(i);
+            popular.add(element);
+            if (i + 1 == clustered.size() || !clustered.get(i + 1).userId().equals(element.userId())) {
+                popular.add(new UserTermWeight(element.userId(), "popular" + random.nextInt(5), 1));
+            }
+        }
+        benchmark("인기 검색어 포함", popular);
+    }
+
+    private static void benchmark(String name, List<UserTermWeight> elements) {
+        UserTermMatrix.Builder builder = UserTermMatrix.builder(10);
+        elements.forEach(builder);
+        UserTermMatrix matrix = builder.build();
+        System.out.printf("[%s] 사용자 %d명, 검색어 %d개, 비영 원소 %d개%n",
+            name, matrix.userCount(), matrix.termCount(), matrix.nonZeroCount());
+
+        UserSimilarityEngine engine = new UserSimilarityEngine(null, 0, 10, 0, 256, "exact", 32, 2, 2000);
+
+        long start = System.nanoTime();
+        UserSimilarityEngine.Neighbors exact = engine.computeNeighbors(matrix, THRESHOLD, TOP_K);
+        report("exact", matrix.userCount(), System.nanoTime() - start, 1.0);
+
+        for (int[] setting : SETTINGS) {
+            MinHashLshIndex.Parameters parameters = new MinHashLshIndex.Parameters(setting[0], setting[1], 2000, 42L);
+            start = System.nanoTime();
+            UserSimilarityEngine.Neighbors approximate = engine.computeNeighbors(matrix, THRESHOLD, TOP_K, parameters);
+            long elapsed = System.nanoTime() - start;
+            report("lsh b=" + setting[0] + " r=" + setting[1], matrix.userCount(), elapsed, recall(exact, approximate));
+        }
+    }
+
+    private static double recall(UserSimilarityEngine.Neighbors exact, UserSimilarityEngine.Neighbors approximate) {
+        long expected = 0;
+        long found = 0;
+        for (int row = 0; row < exact.targets().length; row++) {
+            Set<Integer> approximateTargets = new HashSet<>();
+            for (int target : approximate.targets()[row]) {
+                approximateTargets.add(target);
+            }
+            for (int target : exact.targets()[row]) {
+                expected++;
+                if (approximateTargets.contains(target)) {
+                    found++;
+                }
+            }
+        }
+        return expected == 0 ? 1.0 : (double) found / expected;
+    }
+
+    private static void report(String label, int userCount, long elapsedNanos, double recall) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%-16s %8.2fs %10.0f users/s  recall@%d %.4f%n",
+            label, seconds, userCount / seconds, TOP_K, recall);
+    }
+}
@@ -0,0 +1,85 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.common.util.text.HangulJamo;
+import com.j30n.stoblyx.domain.enums.SuggestionType;
+import com.j30n.stoblyx.domain.model.SuggestionEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AutocompleteDictionary 테스트")
+class AutocompleteDictionaryTest {
+
+    private final AutocompleteDictionary dictionary = AutocompleteDictionary.build(List.of(
+        new SuggestionEntry("사피엔스", SuggestionType.BOOK_TITLE, 0.9),
+        new SuggestionEntry("사랑의 기술", SuggestionType.BOOK_TITLE, 0.5),
+        new SuggestionEntry("사랑", SuggestionType.SEARCH_TERM, 0.7),
+        new SuggestionEntry("사랑", SuggestionType.BOOK_TITLE, 0.2),
+        new SuggestionEntry("해리 포터와 마법사의 돌", SuggestionType.BOOK_TITLE, 0.8),
+        new SuggestionEntry("유발 하라리", SuggestionType.AUTHOR, 0.6)
+    ), 10);
+
+    @Test
+    @DisplayName("조합 중인 음절로도 접두사가 일치하는 추천어를 인기도 순으로 찾는다")
+    void suggest_matchesPartialSyllables() {
+        assertThat(texts("사핑")).containsExactly("사피엔스");
+        assertThat(texts("살")).containsExactly("사랑", "사랑의 기술");
+        assertThat(texts("사")).containsExactly("사피엔스", "사랑", "사랑의 기술");
+        assertThat(dictionary.suggest("사", 1)).extracting(SuggestionEntry::text).containsExactly("사피엔스");
+    }
+
+    @Test
+    @DisplayName("같은 추천어는 가중치가 높은 출처 한 건만 남긴다")
+    void build_deduplicatesSameText() {
+        assertThat(dictionary.suggest("사랑", 10))
+            .filteredOn(entry -> entry.text().equals("사랑"))
+            .singleElement()
+            .extracting(SuggestionEntry::type).isEqualTo(SuggestionType.SEARCH_TERM);
+    }
+
+    @Test
+    @DisplayName("초성 입력과 뒤쪽 단어 입력으로도 찾는다")
+    void suggest_matchesChoseongAndLaterWords() {
+        assertThat(texts("ㅎㄹㅍㅌ")).containsExactly("해리 포터와 마법사의 돌");
+        assertThat(texts("ㅎㄹ")).containsExactly("해리 포터와 마법사의 돌", "유발 하라리");
+        assertThat(texts("마법사")).containsExactly("해리 포터와 마법사의 돌");
+        assertThat(texts("하라")).containsExactly("유발 하라리");
+        assertThat(texts("없는말")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("미리 계산한 상위 목록은 구간 전체를 훑은 결과와 같다")
+    void suggest_precomputedTopMatchesFullScan() {
+        Random random = new Random(7);
+        String syllables = "가나다라마바사아자차카타파하";
+        List<SuggestionEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = 1 + random.nextInt(5);
+            for (int j = 0; j < length; j++) {
+                text.append(syllables.charAt(random.nextInt(4 + j * 2)));
+            }
+            entries.add(new SuggestionEntry(text.toString(), SuggestionType.SEARCH_TERM, random.nextDouble()));
+        }
+        AutocompleteDictionary precomputed = AutocompleteDictionary.build(entries, 5, 4);
+        AutocompleteDictionary scanned = AutocompleteDictionary.build(entries, 5, Integer.MAX_VALUE);
+
+        for (SuggestionEntry entry : entries) {
+            for (int end = 1; end <= entry.text().length(); end++) {
+                String prefix = entry.text().substring(0, end);
+                assertThat(precomputed.suggest(prefix, 5)).isEqualTo(scanned.suggest(prefix, 5));
+                String choseong = HangulJamo.choseong(prefix);
+                assertThat(precomputed.suggest(choseong, 5)).isEqualTo(scanned.suggest(choseong, 5));
+            }
+        }
+    }
+
+    private List<String> texts(String query) {
+        return dictionary.suggest(query, 10).stream().map(SuggestionEntry::text).toList();
+    }
+}
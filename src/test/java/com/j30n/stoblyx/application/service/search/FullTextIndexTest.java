@@ -0,0 +1,100 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.domain.enums.SearchDocumentType;
+import com.j30n.stoblyx.domain.model.SearchDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FullTextIndex 테스트")
+class FullTextIndexTest {
+
+    private FullTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FullTextIndex(FullTextSearchIndex.FIELD_BOOSTS.get(SearchDocumentType.BOOK));
+        index.upsert(book(1L, "사피엔스", "유발 하라리", "인지혁명과 농업혁명을 거친 인류의 역사", "역사"));
+        index.upsert(book(2L, "코스모스", "칼 세이건", "우주와 과학의 역사를 다룬 고전", "과학"));
+        index.upsert(book(3L, "한국 역사 소설 모음", "김작가", "조선 시대 이야기", "소설"));
+        index.upsert(book(4L, "Harry Potter", "J.K. Rowling", "마법 학교 이야기", "소설"));
+    }
+
+    @Test
+    @DisplayName("제목 일치가 설명 일치보다 높은 점수를 받는다")
+    void search_appliesFieldBoosts() {
+        FullTextIndex.Hits hits = index.search("역사", null, 0, 10);
+
+        assertThat(hits.ids()).containsExactly(3L, 1L, 2L);
+        assertThat(hits.totalHits()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한글 음절 바이그램으로 띄어쓰기 없는 복합어와 조사가 붙은 단어를 찾는다")
+    void search_matchesKoreanCompoundsWithBigrams() {
+        assertThat(index.search("역사소설", null, 0, 10).ids().get(0)).isEqualTo(3L);
+        assertThat(index.search("혁명", null, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("HARRY potter", null, 0, 10).ids()).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("카테고리 필터를 적용하고 없는 카테고리는 결과가 없다")
+    void search_filtersByCategory() {
+        assertThat(index.search("이야기", "소설", 0, 10).ids()).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(index.search("역사", "과학", 0, 10).ids()).containsExactly(2L);
+        assertThat(index.search("역사", "없는장르", 0, 10).totalHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("offset 과 limit 으로 페이지를 자르고 전체 건수는 유지한다")
+    void search_pagesResults() {
+        FullTextIndex.Hits second = index.search("역사", null, 1, 1);
+
+        assertThat(second.ids()).containsExactly(1L);
+        assertThat(second.totalHits()).isEqualTo(3);
+        assertThat(index.search("역사", null, 5, 10).ids()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("갱신과 삭제가 반복되어도 최신 문서만 검색된다")
+    void upsertAndRemove_keepIndexConsistent() {
+        for (int i = 0; i < 10; i++) {
+            index.upsert(book(2L, "코스모스 " + i, "칼 세이건", "우주 이야기", "과학"));
+        }
+        index.remove(1L);
+
+        assertThat(index.search("역사", null, 0, 10).ids()).containsExactly(3L);
+        assertThat(index.search("우주", null, 0, 10).ids()).containsExactly(2L);
+        assertThat(index.search("코스모스 9", null, 0, 10).ids()).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("스냅숏에서 복원한 색인은 같은 검색 결과를 낸다")
+    void writeToAndReadFrom_roundTrip() throws IOException {
+        index.remove(4L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+
+        FullTextIndex restored = FullTextIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())),
+            FullTextSearchIndex.FIELD_BOOSTS.get(SearchDocumentType.BOOK));
+
+        assertThat(restored.size()).isEqualTo(3);
+        assertThat(restored.search("역사", "역사", 0, 10)).isEqualTo(index.search("역사", "역사", 0, 10));
+        assertThat(restored.search("역사", null, 0, 10)).isEqualTo(index.search("역사", null, 0, 10));
+        assertThat(restored.search("harry", null, 0, 10).totalHits()).isZero();
+    }
+
+    static SearchDocument book(Long id, String title, String author, String description, String genre) {
+        return new SearchDocument(id, Map.of(
+            SearchDocument.TITLE, title,
+            SearchDocument.AUTHOR, author,
+            SearchDocument.DESCRIPTION, description), List.of(genre));
+    }
+}
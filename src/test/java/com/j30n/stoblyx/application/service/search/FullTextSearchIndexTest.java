@@ -0,0 +1,155 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.application.port.out.search.SearchDocumentPort;
+import com.j30n.stoblyx.domain.enums.SearchDocumentType;
+import com.j30n.stoblyx.domain.event.BookChangedEvent;
+import com.j30n.stoblyx.domain.event.SearchDocumentChangedEvent;
+import com.j30n.stoblyx.domain.model.SearchDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.j30n.stoblyx.application.service.search.FullTextIndexTest.book;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FullTextSearchIndex 테스트")
+class FullTextSearchIndexTest {
+
+    @Mock
+    private SearchDocumentPort searchDocumentPort;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("키셋 페이지로 색인을 구축하고 검색 결과는 ID 순서대로 한 번에 조회한다")
+    void initialize_buildsIndexAndSearchesByIds() {
+        when(searchDocumentPort.findDocuments(eq(SearchDocumentType.BOOK), eq(0L), eq(2))).thenReturn(List.of(
+            book(1L, "사피엔스", "유발 하라리", "인류의 역사", "역사"),
+            book(2L, "코스모스", "칼 세이건", "우주의 역사", "과학")));
+        when(searchDocumentPort.findDocuments(eq(SearchDocumentType.BOOK), eq(2L), eq(2))).thenReturn(List.of(
+            book(3L, "역사의 역사", "유시민", "역사 서술의 역사", "역사")));
+        when(searchDocumentPort.findDocuments(eq(SearchDocumentType.QUOTE), anyLong(), anyInt())).thenReturn(List.of());
+        when(searchDocumentPort.findDocuments(eq(SearchDocumentType.CONTENT), anyLong(), anyInt())).thenReturn(List.of());
+        FullTextSearchIndex index = newIndex();
+
+        index.initialize();
+        Optional<Page<String>> page = index.searchPage(SearchDocumentType.BOOK, "역사", "역사", PageRequest.of(0, 1),
+            ids -> ids.stream().map(id -> "book-" + id).toList());
+
+        assertThat(page).isPresent();
+        assertThat(page.get().getContent()).containsExactly("book-3");
+        assertThat(page.get().getTotalElements()).isEqualTo(2);
+        assertThat(Files.exists(directory.resolve("book.idx"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("스냅숏이 있으면 전체 구축 없이 이후 변경분만 반영한다")
+    void initialize_loadsSnapshotAndCatchesUp() {
+        when(searchDocumentPort.findDocuments(any(), anyLong(), anyInt())).thenReturn(List.of());
+        when(searchDocumentPort.findDocuments(eq(SearchDocumentType.BOOK), eq(0L), anyInt()))
+            .thenReturn(List.of(book(1L, "사피엔스", "유발 하라리", "인류의 역사", "역사")));
+        newIndex().initialize();
+        clearInvocations(searchDocumentPort);
+
+        when(searchDocumentPort.findIdsModifiedSince(any(), any())).thenReturn(List.of());
+        when(searchDocumentPort.findIdsModifiedSince(eq(SearchDocumentType.BOOK), any())).thenReturn(List.of(1L, 2L));
+        when(searchDocumentPort.findLiveIds(SearchDocumentType.BOOK)).thenReturn(List.of(2L));
+        when(searchDocumentPort.findDocumentsByIds(SearchDocumentType.BOOK, List.of(1L, 2L)))
+            .thenReturn(List.of(book(2L, "코스모스", "칼 세이건", "우주의 역사", "과학")));
+        FullTextSearchIndex reloaded = newIndex();
+        reloaded.initialize();
+
+        verify(searchDocumentPort, never()).findDocuments(any(), anyLong(), anyInt());
+        assertThat(reloaded.searchPage(SearchDocumentType.BOOK, "역사", null, PageRequest.of(0, 10), ids -> ids))
+            .hasValueSatisfying(page -> assertThat(page.getContent()).containsExactly(2L));
+    }
+
+    @Test
+    @DisplayName("스냅숏 이후 영구 삭제되어 수정 시각으로 찾을 수 없는 문서도 복원한 색인에서 제거한다")
+    void initialize_removesHardDeletedSnapshotDocuments() {
+        when(searchDocumentPort.findDocuments(any(), anyLong(), anyInt())).thenReturn(List.of());
+        when(searchDocumentPort.findDocuments(eq(SearchDocumentType.BOOK), eq(0L), anyInt())).thenReturn(List.of(
+            book(1L, "사피엔스", "유발 하라리", "인류의 역사", "역사"),
+            book(2L, "코스모스", "칼 세이건", "우주의 역사", "과학")));
+        newIndex().initialize();
+        clearInvocations(searchDocumentPort);
+
+        when(searchDocumentPort.findIdsModifiedSince(any(), any())).thenReturn(List.of());
+        when(searchDocumentPort.findLiveIds(any())).thenReturn(List.of());
+        when(searchDocumentPort.findLiveIds(SearchDocumentType.BOOK)).thenReturn(List.of(2L));
+        FullTextSearchIndex reloaded = newIndex();
+        reloaded.initialize();
+
+        verify(searchDocumentPort, never()).findDocuments(any(), anyLong(), anyInt());
+        assertThat(reloaded.searchPage(SearchDocumentType.BOOK, "역사", null, PageRequest.of(0, 10), ids -> ids))
+            .hasValueSatisfying(page -> {
+                assertThat(page.getContent()).containsExactly(2L);
+                assertThat(page.getTotalElements()).isEqualTo(1);
+            });
+    }
+
+    @Test
+    @DisplayName("도서 제목이 바뀌면 그 도서의 인용구도 재색인하고, 조회되지 않는 문서는 제거한다")
+    void refreshDirtyDocuments_cascadesBookChangesAndRemovesDeleted() {
+        when(searchDocumentPort.findDocuments(any(), anyLong(), anyInt())).thenReturn(List.of());
+        when(searchDocumentPort.findDocuments(eq(SearchDocumentType.BOOK), eq(0L), anyInt()))
+            .thenReturn(List.of(book(1L, "사피엔스", "유발 하라리", "인류의 역사", "역사")));
+        when(searchDocumentPort.findDocuments(eq(SearchDocumentType.QUOTE), eq(0L), anyInt()))
+            .thenReturn(List.of(quote(10L, "상상의 질서"), quote(11L, "농업혁명은 사기")));
+        FullTextSearchIndex index = newIndex();
+        index.initialize();
+
+        when(searchDocumentPort.findDocumentsByIds(SearchDocumentType.BOOK, List.of(1L)))
+            .thenReturn(List.of(book(1L, "사피엔스 개정판", "유발 하라리", "인류의 역사", "역사")));
+        when(searchDocumentPort.findIdsByBookIds(SearchDocumentType.QUOTE, Set.of(1L))).thenReturn(List.of(10L));
+        when(searchDocumentPort.findIdsByBookIds(SearchDocumentType.CONTENT, Set.of(1L))).thenReturn(List.of());
+        when(searchDocumentPort.findDocumentsByIds(eq(SearchDocumentType.QUOTE), anyCollection())).thenAnswer(invocation ->
+            invocation.<List<Long>>getArgument(1).contains(10L) ? List.of(quote(10L, "상상의 질서")) : List.of());
+
+        index.onBookChanged(new BookChangedEvent(1L));
+        index.onDocumentChanged(new SearchDocumentChangedEvent(SearchDocumentType.QUOTE, 11L));
+        index.refreshDirtyDocuments();
+
+        verify(searchDocumentPort).findDocumentsByIds(eq(SearchDocumentType.QUOTE),
+            argThat(ids -> ids.containsAll(List.of(10L, 11L))));
+        assertThat(index.searchPage(SearchDocumentType.BOOK, "개정판", null, PageRequest.of(0, 10), ids -> ids))
+            .hasValueSatisfying(page -> assertThat(page.getContent()).containsExactly(1L));
+        assertThat(index.searchPage(SearchDocumentType.QUOTE, "농업혁명", null, PageRequest.of(0, 10), ids -> ids))
+            .hasValueSatisfying(page -> assertThat(page.getTotalElements()).isZero());
+    }
+
+    @Test
+    @DisplayName("색인이 준비되지 않았거나 검색어가 비어 있으면 DB 검색으로 대체하도록 empty 를 반환한다")
+    void searchPage_returnsEmptyWhenNotReady() {
+        FullTextSearchIndex index = new FullTextSearchIndex(searchDocumentPort, false, directory.toString(), 100);
+        index.initialize();
+
+        assertThat(index.searchPage(SearchDocumentType.BOOK, "역사", null, PageRequest.of(0, 10), ids -> ids)).isEmpty();
+        assertThat(index.isReady(SearchDocumentType.BOOK)).isFalse();
+        verifyNoInteractions(searchDocumentPort);
+    }
+
+    private FullTextSearchIndex newIndex() {
+        return new FullTextSearchIndex(searchDocumentPort, true, directory.toString(), 2);
+    }
+
+    private SearchDocument quote(Long id, String content) {
+        return new SearchDocument(id, Map.of(SearchDocument.CONTENT, content), List.of("역사"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.adapter.in.web.dto.recommendation.PopularTermResponse;
+import com.j30n.stoblyx.application.port.out.recommendation.RecommendationPort;
+import com.j30n.stoblyx.domain.enums.PopularTermWindow;
+import com.j30n.stoblyx.domain.model.HourlyTermCount;
+import com.j30n.stoblyx.domain.model.PopularSearchTerm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PopularSearchTermService 테스트")
+class PopularSearchTermServiceTest {
+
+    @Mock
+    private RecommendationPort recommendationPort;
+
+    @Test
+    @DisplayName("스냅샷은 검색 횟수를 시간 버킷별로 저장한다")
+    @SuppressWarnings("unchecked")
+    void persistSnapshot_savesHourlyCounts() {
+        PopularSearchTermService service = new PopularSearchTermService(recommendationPort, 4, 256, 10);
+        service.record("철학");
+        service.record(" 철학 ");
+        service.record("소설");
+
+        service.persistSnapshot();
+
+        ArgumentCaptor<List<HourlyTermCount>> hourly = ArgumentCaptor.forClass(List.class);
+        verify(recommendationPort).savePopularTermSnapshot(anyList(), hourly.capture(), any());
+        assertThat(hourly.getValue())
+            .extracting(HourlyTermCount::term, HourlyTermCount::count)
+            .containsExactlyInAnyOrder(tuple("철학", 2L), tuple("소설", 1L));
+        assertThat(hourly.getValue()).allSatisfy(count ->
+            assertThat(count.hourStart()).isEqualTo(count.hourStart().truncatedTo(ChronoUnit.HOURS)));
+    }
+
+    @Test
+    @DisplayName("재시작 시 7일 안의 시간 버킷을 원래 버킷으로 복원하고, 비어 있는 구간은 DB 값으로 대체하지 않는다")
+    void restoreSnapshot_restoresIntoOriginalBuckets() {
+        LocalDateTime thisHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        when(recommendationPort.getPopularTermBucketsSince(thisHour.minusHours(167))).thenReturn(List.of(
+            new HourlyTermCount("철학", thisHour.minusHours(5), 4),
+            new HourlyTermCount("철학", thisHour, 1),
+            new HourlyTermCount("소설", thisHour.minusHours(3), 2),
+            new HourlyTermCount("역사", thisHour.minusDays(3), 9)));
+        PopularSearchTermService service = new PopularSearchTermService(recommendationPort, 4, 256, 10);
+
+        service.restoreSnapshot();
+
+        assertThat(service.getPopularTerms(PopularTermWindow.DAY, 10))
+            .extracting(PopularTermResponse::searchTerm, PopularTermResponse::searchCount)
+            .containsExactly(tuple("철학", 5), tuple("소설", 2));
+        assertThat(service.getPopularTerms(PopularTermWindow.WEEK, 10))
+            .extracting(PopularTermResponse::searchTerm, PopularTermResponse::searchCount)
+            .containsExactly(tuple("역사", 9), tuple("철학", 5), tuple("소설", 2));
+        // 분 단위 버킷은 복원하지 않으므로 최근 1시간은 비어 있음
+        assertThat(service.getPopularTerms(PopularTermWindow.HOUR, 10)).isEmpty();
+        verify(recommendationPort, never()).getPopularTerms(any());
+    }
+
+    @Test
+    @DisplayName("검색도 복원할 스냅샷도 없는 첫 기동에는 모든 구간에서 DB 인기 검색어를 사용한다")
+    void getPopularTerms_fallsBackOnlyWhenNeverPopulated() {
+        PopularSearchTerm saved = PopularSearchTerm.builder().searchTerm("고전").searchCount(3).popularityScore(3.0).build();
+        when(recommendationPort.getPopularTerms(any())).thenReturn(new PageImpl<>(List.of(saved)));
+        PopularSearchTermService service = new PopularSearchTermService(recommendationPort, 4, 256, 10);
+        service.restoreSnapshot();
+
+        for (PopularTermWindow window : PopularTermWindow.values()) {
+            assertThat(service.getPopularTerms(window, 10)).extracting(PopularTermResponse::searchTerm)
+                .containsExactly("고전");
+        }
+
+        service.record("철학");
+        assertThat(service.getPopularTerms(PopularTermWindow.HOUR, 10)).extracting(PopularTermResponse::searchTerm)
+            .containsExactly("철학");
+    }
+}
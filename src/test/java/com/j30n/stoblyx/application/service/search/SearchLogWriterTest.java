@@ -0,0 +1,173 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.application.port.out.search.SearchLogPort;
+import com.j30n.stoblyx.application.service.recommendation.IncrementalUserSimilarityService;
+import com.j30n.stoblyx.domain.enums.QueueOverflowPolicy;
+import com.j30n.stoblyx.domain.model.SearchLogEntry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchLogWriter 테스트")
+class SearchLogWriterTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Mock
+    private SearchLogPort searchLogPort;
+
+    @Mock
+    private IncrementalUserSimilarityService incrementalUserSimilarityService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("플러시는 같은 사용자의 같은 검색어를 마지막 한 건으로 합치고 검색어 횟수는 합산한다")
+    @SuppressWarnings("unchecked")
+    void flush_aggregatesPerUserAndTerm() {
+        SearchLogWriter writer = writer(10, QueueOverflowPolicy.DROP_NEWEST);
+        when(searchLogPort.insertSearches(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        writer.enqueue(entry(1L, "소설", 5, 0));
+        writer.enqueue(entry(1L, "소설", 7, 1));
+        writer.enqueue(entry(2L, "소설", 3, 2));
+        writer.enqueue(entry(1L, "시집", 1, 3));
+
+        assertThat(writer.flush()).isEqualTo(3);
+
+        ArgumentCaptor<List<SearchLogEntry>> rows = ArgumentCaptor.forClass(List.class);
+        verify(searchLogPort).insertSearches(rows.capture());
+        assertThat(rows.getValue())
+            .extracting(SearchLogEntry::userId, SearchLogEntry::searchTerm, SearchLogEntry::resultCount)
+            .containsExactly(tuple(1L, "소설", 7), tuple(2L, "소설", 3), tuple(1L, "시집", 1));
+        verify(searchLogPort).incrementSearchTermCounts(eq(Map.of("소설", 3, "시집", 1)), any());
+        verify(incrementalUserSimilarityService, times(2)).markDirty(1L);
+        verify(incrementalUserSimilarityService).markDirty(2L);
+        assertThat(writer.pendingCount()).isZero();
+        assertThat(meterRegistry.get("search.log.written").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 DROP_OLDEST 는 오래된 기록을, DROP_NEWEST 는 새 기록을 버리고 버린 수를 집계한다")
+    @SuppressWarnings("unchecked")
+    void enqueue_appliesOverflowPolicy() {
+        SearchLogWriter dropOldest = writer(2, QueueOverflowPolicy.DROP_OLDEST);
+        for (int i = 0; i < 4; i++) {
+            dropOldest.enqueue(entry(1L, "검색어" + i, 1, i));
+        }
+        assertThat(dropOldest.pendingCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("search.log.dropped").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("search.log.queue.depth").gauge().value()).isEqualTo(2.0);
+
+        dropOldest.flush();
+        ArgumentCaptor<List<SearchLogEntry>> rows = ArgumentCaptor.forClass(List.class);
+        verify(searchLogPort).insertSearches(rows.capture());
+        assertThat(rows.getValue()).extracting(SearchLogEntry::searchTerm).containsExactly("검색어2", "검색어3");
+
+        meterRegistry = new SimpleMeterRegistry();
+        SearchLogWriter dropNewest = writer(2, QueueOverflowPolicy.DROP_NEWEST);
+        for (int i = 0; i < 4; i++) {
+            dropNewest.enqueue(entry(1L, "검색어" + i, 1, i));
+        }
+        assertThat(meterRegistry.get("search.log.dropped").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS 는 큐가 가득 차면 호출 스레드에서 바로 저장하고, 종료 시 남은 기록을 모두 저장한다")
+    void enqueue_callerRunsAndDrainOnShutdown() {
+        SearchLogWriter writer = writer(1, QueueOverflowPolicy.CALLER_RUNS);
+
+        writer.enqueue(entry(1L, "소설", 1, 0));
+        writer.enqueue(entry(2L, "시집", 1, 1));
+
+        verify(searchLogPort).insertSearches(List.of(entry(2L, "시집", 1, 1)));
+        // 요청 스레드에서 저장해도 호출자의 트랜잭션에 참여하지 않고 새 트랜잭션을 염
+        verify(transactionManager).getTransaction(argThat(definition ->
+            definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        assertThat(writer.pendingCount()).isEqualTo(1);
+
+        writer.drain();
+
+        verify(searchLogPort).insertSearches(List.of(entry(1L, "소설", 1, 0)));
+        assertThat(writer.pendingCount()).isZero();
+        assertThat(meterRegistry.get("search.log.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 배치는 한 번 다시 시도하고, 다시 실패하면 버린 수를 집계한다")
+    void flush_retriesFailedBatchOnce() {
+        SearchLogWriter writer = writer(10, QueueOverflowPolicy.DROP_NEWEST);
+        when(searchLogPort.insertSearches(anyList()))
+            .thenThrow(new IllegalStateException("lock timeout"))
+            .thenReturn(1);
+
+        writer.enqueue(entry(1L, "소설", 1, 0));
+        assertThat(writer.flush()).isEqualTo(1);
+        verify(searchLogPort, times(2)).insertSearches(anyList());
+        verify(searchLogPort).incrementSearchTermCounts(eq(Map.of("소설", 1)), any());
+        verify(transactionManager).rollback(any());
+        verify(incrementalUserSimilarityService).markDirty(1L);
+
+        when(searchLogPort.insertSearches(anyList())).thenThrow(new IllegalStateException("connection refused"));
+        writer.enqueue(entry(2L, "시집", 1, 1));
+        assertThat(writer.flush()).isZero();
+        verify(searchLogPort, times(4)).insertSearches(anyList());
+        verify(incrementalUserSimilarityService, never()).markDirty(2L);
+        assertThat(meterRegistry.get("search.log.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("검색 유형이 빠진 기록이 섞여도 기본 유형으로 채워 배치 전체를 저장한다")
+    @SuppressWarnings("unchecked")
+    void flush_fillsMissingSearchType() {
+        SearchLogWriter writer = writer(10, QueueOverflowPolicy.DROP_NEWEST);
+        when(searchLogPort.insertSearches(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        writer.enqueue(entry(1L, "소설", 3, 0));
+        writer.enqueue(new SearchLogEntry(2L, "시집", null, 2, BASE.plusMinutes(1)));
+        writer.enqueue(new SearchLogEntry(3L, "철학", "인문", 1, BASE.plusMinutes(2)));
+
+        assertThat(writer.flush()).isEqualTo(3);
+
+        ArgumentCaptor<List<SearchLogEntry>> rows = ArgumentCaptor.forClass(List.class);
+        verify(searchLogPort).insertSearches(rows.capture());
+        assertThat(rows.getValue())
+            .extracting(SearchLogEntry::userId, SearchLogEntry::searchType)
+            .containsExactly(tuple(1L, "ALL"), tuple(2L, "ALL"), tuple(3L, "인문"));
+        assertThat(meterRegistry.get("search.log.failed").counter().count()).isZero();
+    }
+
+    private SearchLogWriter writer(int capacity, QueueOverflowPolicy policy) {
+        return new SearchLogWriter(searchLogPort, incrementalUserSimilarityService, transactionManager, meterRegistry,
+            capacity, policy, 100);
+    }
+
+    private static SearchLogEntry entry(Long userId, String term, int resultCount, int minute) {
+        return new SearchLogEntry(userId, term, "ALL", resultCount, BASE.plusMinutes(minute));
+    }
+}
@@ -0,0 +1,115 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.adapter.in.web.dto.search.SearchRequest;
+import com.j30n.stoblyx.adapter.in.web.dto.search.SearchResponse;
+import com.j30n.stoblyx.adapter.in.web.dto.search.SearchType;
+import com.j30n.stoblyx.application.port.out.book.BookPort;
+import com.j30n.stoblyx.application.port.out.quote.QuotePort;
+import com.j30n.stoblyx.application.port.out.search.SearchPort;
+import com.j30n.stoblyx.domain.model.Book;
+import com.j30n.stoblyx.domain.model.SearchKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchService 테스트")
+class SearchServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private SearchPort searchPort;
+    @Mock
+    private SearchLogWriter searchLogWriter;
+    @Mock
+    private PopularSearchTermService popularSearchTermService;
+    @Mock
+    private FullTextSearchIndex fullTextSearchIndex;
+    @Mock
+    private QuotePort quotePort;
+    @Mock
+    private BookPort bookPort;
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        List<SearchKey> bookKeys = List.of(new SearchKey(3L, NOW), new SearchKey(2L, NOW.minusHours(1)),
+            new SearchKey(1L, NOW.minusHours(2)));
+        lenient().when(searchPort.findQuoteKeysByKeywordAndCategory(anyString(), any(), any(), anyInt()))
+            .thenReturn(List.of());
+        lenient().when(searchPort.findBookKeysByKeywordAndCategory(anyString(), any(), any(), anyInt()))
+            .thenAnswer(invocation -> bookKeys.subList(0, Math.min(invocation.<Integer>getArgument(3), bookKeys.size())));
+        lenient().when(bookPort.findAllByIds(anyList())).thenAnswer(invocation ->
+            invocation.<List<Long>>getArgument(0).stream().map(SearchServiceTest::book).toList());
+    }
+
+    @Test
+    @DisplayName("페이지 번호 방식 통합 검색은 병합 한도를 넘는 페이지를 키를 읽기 전에 거절한다")
+    void searchAll_rejectsDeepPages() {
+        SearchRequest request = request(SearchType.ALL, null);
+
+        assertThatThrownBy(() -> searchService.search(request, PageRequest.of(20, 20)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("/search/all");
+        assertThatThrownBy(() -> searchService.search(request, PageRequest.of(Integer.MAX_VALUE, 100)))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(searchPort, searchLogWriter);
+    }
+
+    @Test
+    @DisplayName("페이지 번호 방식 통합 검색은 추정한 전체 건수가 아니라 찾은 결과 수를 기록한다")
+    void searchAll_recordsReturnedHitCount() {
+        Page<SearchResponse> page = searchService.search(request(SearchType.ALL, null), PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).extracting(SearchResponse::id).containsExactly(3L, 2L);
+        assertThat(page.hasNext()).isTrue();
+        verify(searchLogWriter).enqueue(argThat(entry -> entry.resultCount() == 2));
+    }
+
+    @Test
+    @DisplayName("페이지 번호 방식과 커서 방식 통합 검색은 같은 결과 수와 요청한 카테고리를 기록한다")
+    void searchAll_pagedAndCursorRecordTheSameEntry() {
+        searchService.search(request(SearchType.ALL, "소설"), PageRequest.of(0, 2));
+        searchService.searchAll(request(SearchType.ALL, "소설"), null, 2);
+
+        verify(searchLogWriter, times(2)).enqueue(argThat(entry ->
+            entry.resultCount() == 2 && "소설".equals(entry.searchType())));
+    }
+
+    @Test
+    @DisplayName("카테고리 없이 검색하면 검색 유형을 기록한다")
+    void search_recordsTypeWhenCategoryIsMissing() {
+        searchService.searchAll(request(SearchType.ALL, null), null, 2);
+
+        verify(searchLogWriter).enqueue(argThat(entry -> "ALL".equals(entry.searchType())));
+    }
+
+    private static SearchRequest request(SearchType type, String category) {
+        return new SearchRequest("책", type, category, null, null, 7L);
+    }
+
+    private static Book book(Long id) {
+        Book book = mock(Book.class);
+        lenient().when(book.getId()).thenReturn(id);
+        lenient().when(book.getGenres()).thenReturn(List.of());
+        return book;
+    }
+}
@@ -0,0 +1,94 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.domain.enums.PopularTermWindow;
+import com.j30n.stoblyx.domain.model.TermCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("SlidingWindowHeavyHitters 테스트")
+class SlidingWindowHeavyHittersTest {
+
+    private static final long NOW = 29_000_000L;
+
+    @Test
+    @DisplayName("많은 롱테일 검색어 사이에서도 상위 검색어와 횟수를 찾아낸다")
+    void top_findsHeavyHittersAmongLongTail() {
+        SlidingWindowHeavyHitters heavyHitters = new SlidingWindowHeavyHitters(4, 1024, 50);
+        for (int i = 0; i < 5000; i++) {
+            heavyHitters.add("롱테일" + i, NOW);
+            if (i % 10 == 0) {
+                heavyHitters.add("철학", NOW);
+            }
+            if (i % 25 == 0) {
+                heavyHitters.add("소설", NOW);
+            }
+        }
+
+        List<TermCount> top = heavyHitters.top(PopularTermWindow.HOUR, 2, NOW);
+
+        assertThat(top).extracting(TermCount::term).containsExactly("철학", "소설");
+        // Count-Min 추정치는 실제 횟수 이상이며 오차는 버킷 전체 건수의 몇 % 이내
+        assertThat(top.get(0).count()).isBetween(500L, 500L + 5700 / 50);
+        assertThat(top.get(1).count()).isBetween(200L, 200L + 5700 / 50);
+    }
+
+    @Test
+    @DisplayName("구간마다 해당 기간의 버킷만 합산하고 지난 버킷은 재사용 시 비운다")
+    void top_sumsOnlyBucketsInsideWindow() {
+        SlidingWindowHeavyHitters heavyHitters = new SlidingWindowHeavyHitters(4, 256, 10);
+        heavyHitters.add("역사", 3, NOW - 8 * 24 * 60);
+        heavyHitters.add("과학", 2, NOW - 3 * 24 * 60);
+        heavyHitters.add("과학", 1, NOW - 90);
+        heavyHitters.add("경제", 1, NOW - 5);
+        heavyHitters.add("경제", 1, NOW);
+
+        assertThat(heavyHitters.top(PopularTermWindow.HOUR, 10, NOW))
+            .extracting(TermCount::term, TermCount::count)
+            .containsExactly(tuple("경제", 2L));
+        assertThat(heavyHitters.top(PopularTermWindow.DAY, 10, NOW))
+            .extracting(TermCount::term, TermCount::count)
+            .containsExactly(tuple("경제", 2L), tuple("과학", 1L));
+        assertThat(heavyHitters.top(PopularTermWindow.WEEK, 10, NOW))
+            .extracting(TermCount::term, TermCount::count)
+            .containsExactly(tuple("과학", 3L), tuple("경제", 2L));
+    }
+
+    @Test
+    @DisplayName("스냅샷 복원은 저장 시각의 시간 버킷에만 반영되고 7일이 지난 값은 버린다")
+    void restore_placesCountsInHourBucket() {
+        SlidingWindowHeavyHitters heavyHitters = new SlidingWindowHeavyHitters(4, 256, 10);
+        heavyHitters.restore("철학", 40, NOW - 120, NOW);
+        heavyHitters.restore("소설", 10, NOW - 8 * 24 * 60, NOW);
+
+        assertThat(heavyHitters.top(PopularTermWindow.HOUR, 10, NOW)).isEmpty();
+        assertThat(heavyHitters.top(PopularTermWindow.DAY, 10, NOW))
+            .extracting(TermCount::term, TermCount::count)
+            .containsExactly(tuple("철학", 40L));
+    }
+
+    @Test
+    @DisplayName("시간 버킷별 검색 횟수를 오래된 시간부터 돌려주고 복원하면 같은 버킷에 들어간다")
+    void hourlyCounts_roundTripsThroughRestore() {
+        SlidingWindowHeavyHitters heavyHitters = new SlidingWindowHeavyHitters(4, 256, 10);
+        heavyHitters.add("철학", 5, NOW - 23 * 60);
+        heavyHitters.add("철학", 2, NOW);
+
+        long[] counts = heavyHitters.hourlyCounts("철학", 24, NOW);
+        assertThat(counts[0]).isEqualTo(5);
+        assertThat(counts[23]).isEqualTo(2);
+        assertThat(counts).containsOnly(0L, 5L, 2L);
+
+        SlidingWindowHeavyHitters restored = new SlidingWindowHeavyHitters(4, 256, 10);
+        restored.restore("철학", 5, NOW - 23 * 60, NOW);
+        restored.restore("철학", 2, NOW, NOW);
+        // 한 시간 뒤에는 23시간 전 버킷이 24시간 구간을 벗어나 그만큼만 빠짐
+        assertThat(restored.top(PopularTermWindow.DAY, 10, NOW + 60))
+            .extracting(TermCount::term, TermCount::count)
+            .containsExactly(tuple("철학", 2L));
+    }
+}
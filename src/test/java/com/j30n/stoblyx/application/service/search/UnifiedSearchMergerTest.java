@@ -0,0 +1,100 @@
+package com.j30n.stoblyx.application.service.search;
+
+import com.j30n.stoblyx.application.service.search.UnifiedSearchMerger.KeysetSource;
+import com.j30n.stoblyx.application.service.search.UnifiedSearchMerger.MergedHit;
+import com.j30n.stoblyx.application.service.search.UnifiedSearchMerger.MergedPage;
+import com.j30n.stoblyx.domain.model.SearchKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UnifiedSearchMerger 테스트")
+class UnifiedSearchMergerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Test
+    @DisplayName("커서로 끝까지 넘기면 두 소스 전체를 최신순으로 중복 없이 한 번씩 반환한다")
+    void merge_pagesThroughAllSourcesInRecencyOrder() {
+        List<SearchKey> quotes = keys(1L, 0, 2, 4, 4, 7, 9, 10);
+        List<SearchKey> books = keys(100L, 1, 4, 5, 6);
+        AtomicInteger maxFetched = new AtomicInteger();
+        List<KeysetSource> sources = List.of(source(quotes, maxFetched), source(books, maxFetched));
+
+        List<MergedHit> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MergedPage page = UnifiedSearchMerger.merge(sources, UnifiedSearchCursor.decode(cursor, 2), 3);
+            all.addAll(page.hits());
+            cursor = page.hasNext() ? page.nextCursor().encode() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(4);
+        assertThat(maxFetched.get()).isLessThanOrEqualTo(4);
+        assertThat(all).extracting(hit -> hit.key().id())
+            .containsExactly(7L, 6L, 5L, 103L, 102L, 101L, 4L, 3L, 2L, 100L, 1L);
+        assertThat(all).extracting(MergedHit::source)
+            .containsExactly(0, 0, 0, 1, 1, 1, 0, 0, 0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("소진된 소스는 다음 페이지에서 다시 조회하지 않는다")
+    void merge_skipsExhaustedSources() {
+        AtomicInteger bookFetches = new AtomicInteger();
+        List<KeysetSource> sources = List.of(
+            source(keys(1L, 0, 1, 2, 3, 4), new AtomicInteger()),
+            (after, limit) -> {
+                bookFetches.incrementAndGet();
+                return List.of();
+            });
+
+        MergedPage first = UnifiedSearchMerger.merge(sources, UnifiedSearchCursor.start(2), 2);
+        MergedPage second = UnifiedSearchMerger.merge(sources, first.nextCursor(), 2);
+
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.hits()).extracting(hit -> hit.key().id()).containsExactly(3L, 2L);
+        assertThat(bookFetches.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 IllegalArgumentException 으로 거부한다")
+    void decode_rejectsMalformedCursor() {
+        String valid = UnifiedSearchCursor.start(2).encode();
+
+        assertThat(UnifiedSearchCursor.decode(valid, 2)).isEqualTo(UnifiedSearchCursor.start(2));
+        assertThatThrownBy(() -> UnifiedSearchCursor.decode(valid, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UnifiedSearchCursor.decode("not-a-cursor", 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 주어진 분(minute) 오프셋으로 생성 시각을 갖는 정렬 키를 최신순으로 만듭니다.
+     */
+    private static List<SearchKey> keys(long firstId, int... minutes) {
+        List<SearchKey> keys = new ArrayList<>();
+        for (int i = 0; i < minutes.length; i++) {
+            keys.add(new SearchKey(firstId + i, BASE.plusMinutes(minutes[i])));
+        }
+        keys.sort(UnifiedSearchMerger.RECENCY);
+        return keys;
+    }
+
+    private static KeysetSource source(List<SearchKey> keys, AtomicInteger maxFetched) {
+        return (after, limit) -> {
+            List<SearchKey> page = keys.stream()
+                .filter(key -> after == null || UnifiedSearchMerger.RECENCY.compare(key, after) > 0)
+                .limit(limit)
+                .toList();
+            maxFetched.accumulateAndGet(page.size(), Math::max);
+            return page;
+        };
+    }
+}
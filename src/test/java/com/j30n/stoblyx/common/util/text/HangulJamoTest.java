@@ -0,0 +1,30 @@
+package com.j30n.stoblyx.common.util.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HangulJamo 테스트")
+class HangulJamoTest {
+
+    @Test
+    @DisplayName("음절을 자모로 풀고 겹모음과 겹받침은 입력 순서대로 분해한다")
+    void decompose_splitsSyllablesAndCompounds() {
+        assertThat(HangulJamo.decompose("해리 Potter!")).isEqualTo("ㅎㅐㄹㅣpotter");
+        assertThat(HangulJamo.decompose("닭과")).isEqualTo("ㄷㅏㄹㄱㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("ㅘㄺ")).isEqualTo("ㅗㅏㄹㄱ");
+        // 입력 중인 "사핑"은 "사피엔스"의 접두사
+        assertThat(HangulJamo.decompose("사피엔스")).startsWith(HangulJamo.decompose("사핑"));
+    }
+
+    @Test
+    @DisplayName("초성만 추출하고 자음으로만 된 입력을 판별한다")
+    void choseong_extractsInitials() {
+        assertThat(HangulJamo.choseong("해리 포터 3")).isEqualTo("ㅎㄹㅍㅌ3");
+        assertThat(HangulJamo.isChoseongOnly("ㅎㄹ ㅍㅌ")).isTrue();
+        assertThat(HangulJamo.isChoseongOnly("해ㄹ")).isFalse();
+        assertThat(HangulJamo.isChoseongOnly("ㅏ")).isFalse();
+        assertThat(HangulJamo.isChoseongOnly(" ")).isFalse();
+    }
+}
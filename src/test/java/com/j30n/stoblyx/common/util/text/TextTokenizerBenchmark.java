@@ -0,0 +1,78 @@
+package com.j30n.stoblyx.common.util.text;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 기존 정규식 기반 토큰 분리 대비 {@link TextTokenizer} 처리량을 비교하는 수동 벤치마크
+ * <p>
+ * 테스트 실행에 포함되지 않으며 IDE 나 {@code java -cp} 로 직접 실행합니다.
+ * 인자: [문서 수 (기본 20000)] [반복 횟수 (기본 5)]
+ * </p>
+ */
+public final class TextTokenizerBenchmark {
+
+    private static final String[] WORDS = {
+        "역사소설", "인류의", "사피엔스는", "Harry", "Potter", "마법사의", "돌", "2024년", "AI", "시대의",
+        "독서", "행복", "과학혁명은", "the", "Cosmos", "우주의", "미래를", "e-Book", "(개정판)", "눈물과"
+    };
+
+    private TextTokenizerBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int documentCount = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        String[] documents = new String[documentCount];
+        Random random = new Random(42);
+        long totalChars = 0;
+        for (int i = 0; i < documentCount; i++) {
+            StringBuilder document = new StringBuilder();
+            for (int w = 0; w < 60; w++) {
+                document.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(8) == 0 ? ", " : " ");
+            }
+            documents[i] = document.toString();
+            totalChars += documents[i].length();
+        }
+        System.out.printf("문서 %d개, 총 %d자%n", documentCount, totalChars);
+
+        TextTokenizer tokenizer = TextTokenizer.builder().minTokenLength(2).build();
+        TextTokenizer bigramTokenizer = TextTokenizer.builder().minTokenLength(2).hangulBigrams(true).build();
+        TermDictionary dictionary = new TermDictionary();
+
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            long regexCount = 0;
+            for (String document : documents) {
+                List<String> tokens = TextTokenizerTest.regexTokens(document);
+                for (String token : tokens) {
+                    if (token.length() >= 2) {
+                        regexCount++;
+                    }
+                }
+            }
+            report("regex", System.nanoTime() - start, totalChars, regexCount);
+
+            long[] count = {0};
+            start = System.nanoTime();
+            for (String document : documents) {
+                tokenizer.tokenize(document, (buffer, offset, length, position, bigram) -> count[0]++);
+            }
+            report("tokenizer", System.nanoTime() - start, totalChars, count[0]);
+
+            count[0] = 0;
+            start = System.nanoTime();
+            for (String document : documents) {
+                bigramTokenizer.tokenize(document, dictionary, true, (termId, position, bigram) -> count[0]++);
+            }
+            report("term id+bigram", System.nanoTime() - start, totalChars, count[0]);
+        }
+    }
+
+    private static void report(String label, long elapsedNanos, long totalChars, long tokenCount) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%-16s %8.3fs %8.1f MB/s  토큰 %d개%n",
+            label, seconds, totalChars * 2 / seconds / 1e6, tokenCount);
+    }
+}
@@ -0,0 +1,116 @@
+package com.j30n.stoblyx.common.util.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TextTokenizer 테스트")
+class TextTokenizerTest {
+
+    @Test
+    @DisplayName("한글/영문/숫자 구간을 소문자 토큰으로 자르고 기존 정규식 분리와 같은 결과를 낸다")
+    void tokenize_matchesRegexSplitOnMixedText() {
+        String text = "Harry Potter와 마법사의 돌 (1997)! AI-시대의 독서, e-Book 3권… 東京 café";
+        TextTokenizer tokenizer = TextTokenizer.builder().build();
+
+        assertThat(tokens(tokenizer, text)).containsExactlyElementsOf(regexTokens(text));
+        assertThat(tokens(tokenizer, text))
+            .containsExactly("harry", "potter와", "마법사의", "돌", "1997", "ai", "시대의", "독서", "e", "book", "3권", "caf");
+    }
+
+    @Test
+    @DisplayName("최소 길이와 불용어를 적용하고 원문 위치를 함께 전달한다")
+    void tokenize_appliesMinLengthAndStopwords() {
+        TextTokenizer tokenizer = TextTokenizer.builder()
+            .minTokenLength(2)
+            .stopwords(Set.of("the", "그리고"))
+            .build();
+        List<Integer> positions = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+
+        tokenizer.tokenize("The 책 그리고 Reading", (buffer, start, length, position, bigram) -> {
+            tokens.add(new String(buffer, start, length));
+            positions.add(position);
+        });
+
+        assertThat(tokens).containsExactly("reading");
+        assertThat(positions).containsExactly(10);
+    }
+
+    @Test
+    @DisplayName("한글 음절 바이그램은 한글끼리 이어진 구간에서만 만들고 두 음절 토큰은 중복하지 않는다")
+    void tokenize_emitsHangulBigrams() {
+        TextTokenizer tokenizer = TextTokenizer.builder().hangulBigrams(true).build();
+        List<String> bigrams = new ArrayList<>();
+
+        tokenizer.tokenize("역사소설 소설 sf소설집", (buffer, start, length, position, bigram) -> {
+            if (bigram) {
+                bigrams.add(new String(buffer, start, length) + "@" + position);
+            }
+        });
+
+        assertThat(bigrams).containsExactly("역사@0", "사소@1", "소설@2", "소설@10", "설집@11");
+    }
+
+    @Test
+    @DisplayName("사전 모드는 없는 용어를 건너뛰고 intern 모드는 같은 용어에 같은 ID를 준다")
+    void tokenize_emitsDictionaryTermIds() {
+        TextTokenizer tokenizer = TextTokenizer.builder().build();
+        TermDictionary dictionary = TermDictionary.of(List.of("행복", "love"));
+        List<Integer> found = new ArrayList<>();
+
+        tokenizer.tokenize("LOVE와 행복, 행복 그리고 love", dictionary, false, (termId, position, bigram) -> found.add(termId));
+
+        assertThat(found).containsExactly(0, 0, 1);
+        assertThat(dictionary.size()).isEqualTo(2);
+
+        TermDictionary interned = new TermDictionary();
+        List<Integer> ids = new ArrayList<>();
+        tokenizer.tokenize("책 읽기 책 Book book", interned, true, (termId, position, bigram) -> ids.add(termId));
+
+        assertThat(ids).containsExactly(0, 1, 0, 2, 2);
+        assertThat(interned.term(1)).isEqualTo("읽기");
+    }
+
+    @Test
+    @DisplayName("사전은 재배치 이후에도 모든 용어를 찾고 문자 구간과 문자열 조회 결과가 같다")
+    void termDictionary_growsAndFindsAllTerms() {
+        TermDictionary dictionary = new TermDictionary();
+        for (int i = 0; i < 5000; i++) {
+            assertThat(dictionary.intern("용어" + i)).isEqualTo(i);
+        }
+
+        char[] buffer = "xx용어4321yy".toCharArray();
+        assertThat(dictionary.find(buffer, 2, 6)).isEqualTo(4321);
+        assertThat(dictionary.find("용어4999")).isEqualTo(4999);
+        assertThat(dictionary.find("용어5000")).isEqualTo(-1);
+
+        dictionary.clear();
+        assertThat(dictionary.find("용어1")).isEqualTo(-1);
+        assertThat(dictionary.intern("새 용어")).isZero();
+    }
+
+    private static List<String> tokens(TextTokenizer tokenizer, String text) {
+        List<String> tokens = new ArrayList<>();
+        tokenizer.tokenize(text, (buffer, start, length, position, bigram) -> tokens.add(new String(buffer, start, length)));
+        return tokens;
+    }
+
+    /**
+     * 토크나이저 도입 전 키워드 추출에 쓰던 정규식 분리
+     */
+    static List<String> regexTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase().replaceAll("[^가-힣a-z0-9\\s]", " ").split("\\s+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,65 @@
+"""
+테스트용 TTS 작업자
+tts_worker.py 와 같은 프레임 규약을 따르지만 음성 대신 pid 와 텍스트를 출력 파일에 씁니다.
+텍스트에 [sleep:밀리초] 가 있으면 그만큼 늦게 응답하고, [crash] 가 있으면 응답 없이 종료합니다.
+STUB_TTS_LOAD_MS 환경 변수로 모델 로딩 시간을 흉내 냅니다.
+인자 두 개(텍스트, 출력 경로)로 실행하면 test_stt.py 처럼 한 번만 처리하고 끝납니다.
+"""
+import os
+import re
+import struct
+import sys
+import time
+
+frames_out = sys.stdout.buffer
+frames_in = sys.stdin.buffer
+
+
+def load_model():
+    time.sleep(int(os.environ.get('STUB_TTS_LOAD_MS', '0')) / 1000.0)
+
+
+def synthesize(text, output_path):
+    if '[crash]' in text:
+        os._exit(3)
+    delay = re.search(r'\[sleep:(\d+)\]', text)
+    if delay:
+        time.sleep(int(delay.group(1)) / 1000.0)
+    with open(output_path, 'w', encoding='utf-8') as f:
+        f.write(f"{os.getpid()}\n{text}")
+
+
+def read_frame():
+    header = frames_in.read(4)
+    if len(header) < 4:
+        return None
+    (length,) = struct.unpack('>I', header)
+    return frames_in.read(length).decode('utf-8')
+
+
+def write_frame(message):
+    payload = message.encode('utf-8')
+    frames_out.write(struct.pack('>I', len(payload)))
+    frames_out.write(payload)
+    frames_out.flush()
+
+
+def main():
+    load_model()
+    if len(sys.argv) >= 3:
+        synthesize(sys.argv[1], sys.argv[2])
+        return
+    while True:
+        request = read_frame()
+        if request is None:
+            break
+        if request == 'PING':
+            write_frame('PONG')
+            continue
+        _, output_path, text = request.split('\t', 2)
+        synthesize(text, output_path)
+        write_frame('OK')
+
+
+if __name__ == "__main__":
+    main()
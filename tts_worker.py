@@ -0,0 +1,74 @@
+import os
+import struct
+import sys
+
+import pyttsx3
+
+# 표준 출력은 프레임 전용이므로 라이브러리 출력은 표준 에러로 보냄
+frames_out = sys.stdout.buffer
+frames_in = sys.stdin.buffer
+sys.stdout = sys.stderr
+
+
+def create_engine():
+    engine = pyttsx3.init()
+    engine.setProperty('rate', 150)
+    engine.setProperty('volume', 0.9)
+
+    voices = engine.getProperty('voices')
+    if len(voices) > 0:
+        # 한국어 음성이 있으면 선택
+        for voice in voices:
+            if 'korean' in voice.id.lower():
+                engine.setProperty('voice', voice.id)
+                break
+    return engine
+
+
+def read_frame():
+    header = frames_in.read(4)
+    if len(header) < 4:
+        return None
+    (length,) = struct.unpack('>I', header)
+    payload = frames_in.read(length)
+    if len(payload) < length:
+        return None
+    return payload.decode('utf-8')
+
+
+def write_frame(message):
+    payload = message.encode('utf-8')
+    frames_out.write(struct.pack('>I', len(payload)))
+    frames_out.write(payload)
+    frames_out.flush()
+
+
+def handle(engine, request):
+    if request == 'PING':
+        return 'PONG'
+    command, output_path, text = request.split('\t', 2)
+    if command != 'SYNTH':
+        return 'ERR\t알 수 없는 요청: ' + command
+    engine.save_to_file(text, output_path)
+    engine.runAndWait()
+    if not os.path.exists(output_path):
+        return 'ERR\t음성 파일이 생성되지 않았습니다.'
+    return 'OK'
+
+
+def main():
+    # 엔진은 한 번만 초기화하고 표준 입력이 닫힐 때까지 요청을 처리
+    engine = create_engine()
+    print(f"TTS 작업자 준비 완료: pid={os.getpid()}")
+    while True:
+        request = read_frame()
+        if request is None:
+            break
+        try:
+            write_frame(handle(engine, request))
+        except Exception as e:
+            write_frame('ERR\t' + str(e).replace('\n', ' '))
+
+
+if __name__ == "__main__":
+    main()